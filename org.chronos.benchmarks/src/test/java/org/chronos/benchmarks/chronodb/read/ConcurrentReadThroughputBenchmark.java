@@ -0,0 +1,98 @@
+package org.chronos.benchmarks.chronodb.read;
+
+import static org.chronos.common.logging.ChronoLogger.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.common.test.junit.categories.PerformanceTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+/**
+ * This benchmark measures the read throughput of ChronoDB as a function of the number of concurrent reader threads.
+ *
+ * <p>
+ * Every read passes through the database lock and the branch lock, so any contention in the locking layer shows up
+ * as a throughput which does not scale with the number of threads. All readers share a single thread-safe
+ * transaction and read keys from the head revision; the run for each thread count is preceded by a warmup phase.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+@Category(PerformanceTest.class)
+public class ConcurrentReadThroughputBenchmark extends AllChronoDBBackendsTest {
+
+	private static final int NUMBER_OF_KEYS = 1000;
+	private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16 };
+
+	private static final long WARMUP_MILLIS = 1000;
+	private static final long MEASUREMENT_MILLIS = 3000;
+
+	@Test
+	public void readThroughputScalesWithThreadCount() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+			tx.put("key" + i, i);
+		}
+		tx.commit();
+		logInfo("Starting Concurrent Read Throughput Benchmark on backend [" + this.getChronoBackendName() + "].");
+		logInfo("");
+		logInfo("Threads\t\tReads/s\t\tReads/s per Thread");
+		for (int threadCount : THREAD_COUNTS) {
+			// warmup
+			this.measureReads(db, threadCount, WARMUP_MILLIS);
+			long reads = this.measureReads(db, threadCount, MEASUREMENT_MILLIS);
+			double readsPerSecond = reads * 1000.0 / MEASUREMENT_MILLIS;
+			logInfo(threadCount + "\t\t" + (long) readsPerSecond + "\t\t" + (long) (readsPerSecond / threadCount));
+		}
+		logInfo("");
+		logInfo("End of run.");
+	}
+
+	private long measureReads(final ChronoDB db, final int threadCount, final long durationMillis)
+			throws InterruptedException {
+		ChronoDBTransaction tx = db.txBuilder().threadSafe().build();
+		AtomicLong totalReads = new AtomicLong(0);
+		CountDownLatch startSignal = new CountDownLatch(1);
+		List<Thread> threads = Lists.newArrayList();
+		for (int i = 0; i < threadCount; i++) {
+			int offset = i;
+			Thread thread = new Thread(() -> {
+				try {
+					startSignal.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				long endTime = System.currentTimeMillis() + durationMillis;
+				long reads = 0;
+				int keyIndex = offset;
+				while (System.currentTimeMillis() < endTime) {
+					Integer value = tx.get("key" + keyIndex);
+					if (value == null || value != keyIndex) {
+						throw new AssertionError("Put/Get are not in synch!");
+					}
+					keyIndex = (keyIndex + 1) % NUMBER_OF_KEYS;
+					reads++;
+				}
+				totalReads.addAndGet(reads);
+			});
+			thread.setName("Reader" + i);
+			threads.add(thread);
+			thread.start();
+		}
+		startSignal.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		return totalReads.get();
+	}
+
+}
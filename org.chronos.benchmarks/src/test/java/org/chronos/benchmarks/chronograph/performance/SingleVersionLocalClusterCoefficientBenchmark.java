@@ -2,6 +2,7 @@ package org.chronos.benchmarks.chronograph.performance;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -11,7 +12,7 @@ import java.util.function.Function;
 import org.apache.commons.configuration.BaseConfiguration;
 import org.apache.commons.configuration.Configuration;
 import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.tuple.Triple;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
@@ -49,17 +50,22 @@ public class SingleVersionLocalClusterCoefficientBenchmark {
 	private void runTestAndPrintStatistics(final Function<File, Graph> graphFactory) {
 		Statistic loadStatistics = new Statistic();
 		Statistic calculationStatistics = new Statistic();
+		Statistic allocationStatistics = new Statistic();
 		for (int i = 0; i < 10; i++) {
 			System.out.println();
 			System.out.println("================================================================================");
 			System.out.println(" RUN #" + i + "                                                                 ");
 			System.out.println("================================================================================");
 			System.out.println();
-			Pair<Double, Double> result = runTest(graphFactory, 2);
+			Triple<Double, Double, Double> result = runTest(graphFactory, 2);
 			double loadTime = result.getLeft();
-			double calculationTime = result.getRight();
+			double calculationTime = result.getMiddle();
+			double allocatedBytesPerVertex = result.getRight();
 			loadStatistics.addSample(loadTime);
 			calculationStatistics.addSample(calculationTime);
+			if (allocatedBytesPerVertex >= 0) {
+				allocationStatistics.addSample(allocatedBytesPerVertex);
+			}
 			// try {
 			// System.out.println("Sleeping for an hour... zzzzzzzZZZZzzzzZZZzzz");
 			// Thread.sleep(1000 * 60 * 60);
@@ -81,9 +87,17 @@ public class SingleVersionLocalClusterCoefficientBenchmark {
 		System.out.println("CALCULATION STATISTICS");
 		TimeStatistics calcStats = new TimeStatistics(calculationStatistics);
 		System.out.println(calcStats.toFullString());
+		if (allocationStatistics.isEmpty() == false) {
+			// a high allocation rate causes GC pressure, which is not visible in the time statistics of a single run
+			System.out.println("ALLOCATION STATISTICS (bytes per start vertex)");
+			System.out.println("Average: " + allocationStatistics.getAverage());
+			System.out.println("Median:  " + allocationStatistics.getMedian());
+			System.out.println("Min:     " + allocationStatistics.getMin());
+			System.out.println("Max:     " + allocationStatistics.getMax());
+		}
 	}
 
-	private static Pair<Double, Double> runTest(final Function<File, Graph> graphFactory, final int searchDepth) {
+	private static Triple<Double, Double, Double> runTest(final Function<File, Graph> graphFactory, final int searchDepth) {
 		File tempDir = Files.createTempDir();
 		try {
 			Graph g = graphFactory.apply(tempDir);
@@ -100,18 +114,28 @@ public class SingleVersionLocalClusterCoefficientBenchmark {
 			// Thread.sleep(15_000);
 			System.out.println("Starting calculation of cluster coefficients.");
 			double sum = 0;
+			long allocatedBytesBeforeCalculation = getAllocatedBytesOfCurrentThread();
 			long beforeClusterCalculation = System.currentTimeMillis();
 			for (String vertexId : vertexIds) {
 				Vertex vertex = g.vertices(idToVertexMap.get(vertexId)).next();
 				sum += undirectedLocalClusterCoefficient(g, vertex, searchDepth);
 			}
 			long afterClusterCalculation = System.currentTimeMillis();
+			long allocatedBytesAfterCalculation = getAllocatedBytesOfCurrentThread();
 			g.close();
 			System.out.println("Sum of all cluster coefficients: " + sum);
 			System.out.println("Time taken: " + (afterClusterCalculation - beforeClusterCalculation) + "ms.");
 			double loadingTime = afterGraphLoad - beforeGraphLoad;
 			double calculationTime = afterClusterCalculation - beforeClusterCalculation;
-			return Pair.of(loadingTime, calculationTime);
+			double allocatedBytesPerVertex = -1;
+			if (allocatedBytesBeforeCalculation >= 0 && allocatedBytesAfterCalculation >= 0) {
+				allocatedBytesPerVertex = (double) (allocatedBytesAfterCalculation - allocatedBytesBeforeCalculation)
+						/ vertexIds.size();
+				System.out.println("Allocated: " + FileUtils.byteCountToDisplaySize(
+						allocatedBytesAfterCalculation - allocatedBytesBeforeCalculation) + " ("
+						+ (long) allocatedBytesPerVertex + " bytes per start vertex).");
+			}
+			return Triple.of(loadingTime, calculationTime, allocatedBytesPerVertex);
 		} catch (Exception e) {
 			e.printStackTrace();
 			throw new RuntimeException("Test run failed", e);
@@ -157,6 +181,20 @@ public class SingleVersionLocalClusterCoefficientBenchmark {
 		}
 	}
 
+	private static long getAllocatedBytesOfCurrentThread() {
+		java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+		if (threadBean instanceof com.sun.management.ThreadMXBean == false) {
+			// allocation measurement is not supported by this JVM
+			return -1;
+		}
+		com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+		if (sunThreadBean.isThreadAllocatedMemorySupported() == false
+				|| sunThreadBean.isThreadAllocatedMemoryEnabled() == false) {
+			return -1;
+		}
+		return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
 	private static double undirectedLocalClusterCoefficient(final Graph g, final Vertex vertex, final int depth) {
 		Iterator<Edge> edges = vertex.edges(Direction.BOTH);
 		if (edges.hasNext() == false) {
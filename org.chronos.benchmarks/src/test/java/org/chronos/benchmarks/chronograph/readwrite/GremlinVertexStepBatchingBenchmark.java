@@ -0,0 +1,70 @@
+package org.chronos.benchmarks.chronograph.readwrite;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.PerformanceTest;
+import org.chronos.common.test.utils.Measure;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(PerformanceTest.class)
+public class GremlinVertexStepBatchingBenchmark extends AllChronoGraphBackendsTest {
+
+	private static final int NUMBER_OF_VERTICES = 20_000;
+	private static final int DEGREE = 10;
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.QUERY_VERTEX_STEP_BATCH_SIZE, value = "1")
+	public void runBenchmarkWithoutBatching() {
+		this.runBenchmark("unbatched");
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.QUERY_VERTEX_STEP_BATCH_SIZE, value = "64")
+	public void runBenchmarkWithBatching() {
+		this.runBenchmark("batched");
+	}
+
+	private void runBenchmark(final String mode) {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().stringIndex().onVertexProperty("group").build();
+		graph.getIndexManager().reindexAll();
+		List<Vertex> vertices = Lists.newArrayList();
+		for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+			vertices.add(graph.addVertex("name", "v" + i, "group", "g" + i % 1000));
+		}
+		for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+			Vertex source = vertices.get(i);
+			for (int j = 1; j <= DEGREE; j++) {
+				source.addEdge("knows", vertices.get((i * 31 + j * 7919) % NUMBER_OF_VERTICES));
+			}
+		}
+		graph.tx().commit();
+
+		Measure.startTimeMeasure(mode + " 3-hop traversal");
+		for (int i = 0; i < 20; i++) {
+			long count = graph.traversal().V().has("name", "v" + i).out("knows").out("knows").out("knows").count()
+					.next();
+			assertEquals(DEGREE * DEGREE * DEGREE, count);
+			graph.tx().rollback();
+		}
+		Measure.endTimeMeasure(mode + " 3-hop traversal");
+
+		Measure.startTimeMeasure(mode + " indexed count");
+		for (int i = 0; i < 100; i++) {
+			assertEquals(NUMBER_OF_VERTICES / 1000, (long) graph.traversal().V().has("group", "g" + i).count().next());
+			graph.tx().rollback();
+		}
+		Measure.endTimeMeasure(mode + " indexed count");
+	}
+
+}
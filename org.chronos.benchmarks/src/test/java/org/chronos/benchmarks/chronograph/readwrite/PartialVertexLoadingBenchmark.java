@@ -0,0 +1,79 @@
+package org.chronos.benchmarks.chronograph.readwrite;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.SerializationManager;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.PerformanceTest;
+import org.chronos.common.test.utils.Measure;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(PerformanceTest.class)
+public class PartialVertexLoadingBenchmark extends AllChronoGraphBackendsTest {
+
+	private static final int NUMBER_OF_VERTICES = 5_000;
+	private static final int DEGREE = 50;
+
+	@Test
+	public void runBenchmarkWithEdgesInVertexRecord() {
+		this.runBenchmark("record");
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "64")
+	public void runBenchmarkWithAdjacencyPages() {
+		this.runBenchmark("paged");
+	}
+
+	private void runBenchmark(final String layout) {
+		ChronoGraph graph = this.getGraph();
+		List<Vertex> vertices = Lists.newArrayList();
+		for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+			vertices.add(graph.addVertex("name", "v" + i, "group", i % 100));
+		}
+		for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+			Vertex source = vertices.get(i);
+			for (int j = 1; j <= DEGREE / 2; j++) {
+				source.addEdge("knows", vertices.get((i + j) % NUMBER_OF_VERTICES));
+			}
+		}
+		graph.tx().commit();
+
+		// the has() step below has to read the record of every vertex in the vertex keyspace
+		long bytes = this.getSerializedVertexRecordBytes(graph);
+		System.out.println("[" + layout + "] Bytes deserialized per has() step: " + bytes / NUMBER_OF_VERTICES);
+
+		Measure.startTimeMeasure(layout + " has()");
+		for (int i = 0; i < 10; i++) {
+			assertEquals(NUMBER_OF_VERTICES / 100, graph.traversal().V().has("group", i).count().next().intValue());
+			graph.tx().rollback();
+		}
+		Measure.endTimeMeasure(layout + " has()");
+	}
+
+	private long getSerializedVertexRecordBytes(final ChronoGraph graph) {
+		ChronoDB db = ((ChronoGraphInternal) graph).getBackingDB();
+		SerializationManager serializer = db.getSerializationManager();
+		ChronoDBTransaction tx = db.tx();
+		long bytes = 0;
+		for (String key : tx.keySet(ChronoGraphConstants.KEYSPACE_VERTEX)) {
+			Object record = tx.get(ChronoGraphConstants.KEYSPACE_VERTEX, key);
+			bytes += serializer.serialize(record).length;
+		}
+		return bytes;
+	}
+
+}
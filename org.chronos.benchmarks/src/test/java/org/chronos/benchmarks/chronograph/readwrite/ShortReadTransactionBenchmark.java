@@ -0,0 +1,69 @@
+package org.chronos.benchmarks.chronograph.readwrite;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.PerformanceTest;
+import org.chronos.common.test.utils.Measure;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
+@Category(PerformanceTest.class)
+public class ShortReadTransactionBenchmark extends AllChronoGraphBackendsTest {
+
+	private static final int NUMBER_OF_VERTICES = 1_000;
+	private static final int DEGREE = 20;
+	private static final int NUMBER_OF_TRANSACTIONS = 50_000;
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "false")
+	public void runBenchmarkWithoutEntryCache() {
+		this.runBenchmark("uncached");
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "10000")
+	public void runBenchmarkWithEntryCache() {
+		this.runBenchmark("cached");
+	}
+
+	private void runBenchmark(final String mode) {
+		ChronoGraph graph = this.getGraph();
+		List<Vertex> vertices = Lists.newArrayList();
+		for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+			vertices.add(graph.addVertex("name", "v" + i, "group", i % 10, "description", "vertex number " + i));
+		}
+		for (int i = 0; i < NUMBER_OF_VERTICES; i++) {
+			Vertex source = vertices.get(i);
+			for (int j = 1; j <= DEGREE; j++) {
+				source.addEdge("knows", vertices.get((i + j) % NUMBER_OF_VERTICES));
+			}
+		}
+		graph.tx().commit();
+		List<Object> ids = Lists.transform(vertices, Vertex::id);
+
+		// every transaction reads one property and the neighbours of a single vertex
+		Measure.startTimeMeasure(mode + " short read transactions");
+		for (int i = 0; i < NUMBER_OF_TRANSACTIONS; i++) {
+			Object id = ids.get(i * 7 % NUMBER_OF_VERTICES);
+			ChronoGraph txGraph = graph.tx().createThreadedTx();
+			Vertex vertex = Iterators.getOnlyElement(txGraph.vertices(id));
+			assertNotNull(vertex.value("name"));
+			assertEquals(DEGREE, Iterators.size(vertex.vertices(Direction.OUT, "knows")));
+			txGraph.tx().rollback();
+		}
+		Measure.endTimeMeasure(mode + " short read transactions");
+	}
+
+}
@@ -0,0 +1,67 @@
+package org.chronos.benchmarks.chronograph.readwrite;
+
+import static org.junit.Assert.*;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.PerformanceTest;
+import org.chronos.common.test.utils.Measure;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+
+@Category(PerformanceTest.class)
+public class SupernodeAdjacencyBenchmark extends AllChronoGraphBackendsTest {
+
+	private static final int NUMBER_OF_COMMITS = 200;
+	private static final int EDGES_PER_COMMIT = 100;
+
+	@Test
+	public void runBenchmarkWithEdgesInVertexRecord() {
+		this.runBenchmark("record");
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "256")
+	public void runBenchmarkWithAdjacencyPages() {
+		this.runBenchmark("paged");
+	}
+
+	private void runBenchmark(final String layout) {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		hub.addEdge("owner", graph.addVertex("name", "owner"));
+		graph.tx().commit();
+		System.out.println("[" + layout + "] Appending " + NUMBER_OF_COMMITS * EDGES_PER_COMMIT
+				+ " edges to a single vertex...");
+		Measure.startTimeMeasure(layout + " append");
+		for (int commit = 0; commit < NUMBER_OF_COMMITS; commit++) {
+			Vertex hubInTx = Iterators.getOnlyElement(graph.vertices(hub));
+			for (int i = 0; i < EDGES_PER_COMMIT; i++) {
+				graph.addVertex("name", "v" + commit + "_" + i).addEdge("follows", hubInTx);
+			}
+			graph.tx().commit();
+		}
+		Measure.endTimeMeasure(layout + " append");
+
+		Measure.startTimeMeasure(layout + " read small adjacency");
+		for (int i = 0; i < 100; i++) {
+			Vertex hubInTx = Iterators.getOnlyElement(graph.vertices(hub));
+			assertEquals(1, Iterators.size(hubInTx.edges(Direction.OUT, "owner")));
+			graph.tx().rollback();
+		}
+		Measure.endTimeMeasure(layout + " read small adjacency");
+
+		Measure.startTimeMeasure(layout + " read full adjacency");
+		Vertex hubInTx = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(NUMBER_OF_COMMITS * EDGES_PER_COMMIT, Iterators.size(hubInTx.edges(Direction.IN, "follows")));
+		graph.tx().rollback();
+		Measure.endTimeMeasure(layout + " read full adjacency");
+	}
+
+}
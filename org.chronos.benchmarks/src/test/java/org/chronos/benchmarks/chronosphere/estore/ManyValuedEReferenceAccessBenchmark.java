@@ -0,0 +1,132 @@
+package org.chronos.benchmarks.chronosphere.estore;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.chronos.chronodb.internal.util.ChronosBackend;
+import org.chronos.chronodb.test.base.AllBackendsTest.DontRunWithBackend;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.api.ChronoEObject;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.PerformanceTest;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(PerformanceTest.class)
+@DontRunWithBackend({ ChronosBackend.JDBC, ChronosBackend.MAPDB, ChronosBackend.TUPL })
+public class ManyValuedEReferenceAccessBenchmark extends AllChronoSphereBackendsTest {
+
+	@Test
+	public void indexedAccessToLargeReferenceListsScalesLinearly() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		for (int size : new int[] { 10_000, 20_000, 50_000 }) {
+			String parentId = this.createParentWithTargets(sphere, size);
+			try (ChronoSphereTransaction tx = sphere.tx()) {
+				EReference ref = tx.getEReferenceByQualifiedName("benchmark::Node#ref");
+				EObject parent = tx.getEObjectById(parentId);
+				long timeBefore = System.currentTimeMillis();
+				EList<EObject> targets = EMFUtils.eGetMany(parent, ref);
+				int visited = 0;
+				// iterate via index, just like EcoreUtil and most generated code do
+				for (int i = 0; i < targets.size(); i++) {
+					assertNotNull(targets.get(i));
+					visited++;
+				}
+				long timeAfter = System.currentTimeMillis();
+				assertEquals(size, visited);
+				long runtime = timeAfter - timeBefore;
+				System.out.println("Iterating a reference list with " + size + " targets took " + runtime + "ms ("
+						+ runtime * 1000.0 / size + "us per element).");
+			}
+		}
+	}
+
+	@Test
+	public void populatingLargeContainmentListsScalesLinearly() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		for (int size : new int[] { 5_000, 10_000, 20_000 }) {
+			try (ChronoSphereTransaction tx = sphere.tx()) {
+				EClass nodeClass = tx.getEClassByQualifiedName("benchmark::Node");
+				EReference children = tx.getEReferenceByQualifiedName("benchmark::Node#children");
+				EObject parent = tx.createAndAttach(nodeClass);
+				EList<EObject> childList = EMFUtils.eGetMany(parent, children);
+				long timeBefore = System.currentTimeMillis();
+				// add the children one by one, such that every addition is written to the graph individually
+				for (int i = 0; i < size; i++) {
+					childList.add(tx.createAndAttach(nodeClass));
+				}
+				// insert some more children at the front, which exhausts the gaps between the order values
+				for (int i = 0; i < 100; i++) {
+					childList.add(0, tx.createAndAttach(nodeClass));
+				}
+				long timeAfter = System.currentTimeMillis();
+				assertEquals(size + 100, childList.size());
+				long runtime = timeAfter - timeBefore;
+				System.out.println("Populating a containment list with " + (size + 100) + " children took " + runtime
+						+ "ms (" + runtime * 1000.0 / (size + 100) + "us per element).");
+				tx.commit();
+			}
+		}
+	}
+
+	private String createParentWithTargets(final ChronoSphere sphere, final int size) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass nodeClass = tx.getEClassByQualifiedName("benchmark::Node");
+			EReference ref = tx.getEReferenceByQualifiedName("benchmark::Node#ref");
+			// build the model in-memory first, such that the reference is written in one go
+			ChronoEObject parent = (ChronoEObject) EcoreUtil.create(nodeClass);
+			List<EObject> targets = Lists.newArrayListWithCapacity(size);
+			for (int i = 0; i < size; i++) {
+				targets.add(EcoreUtil.create(nodeClass));
+			}
+			EMFUtils.eGetMany(parent, ref).addAll(targets);
+			List<EObject> allEObjects = Lists.newArrayList(targets);
+			allEObjects.add(parent);
+			tx.attach(allEObjects);
+			tx.commit();
+			return parent.getId();
+		}
+	}
+
+	private EPackage createEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("benchmark");
+		ePackage.setNsURI("http://www.example.com/benchmark");
+		ePackage.setNsPrefix("benchmark");
+		EClass nodeClass = EcoreFactory.eINSTANCE.createEClass();
+		nodeClass.setName("Node");
+		EReference ref = EcoreFactory.eINSTANCE.createEReference();
+		ref.setName("ref");
+		ref.setLowerBound(0);
+		ref.setUpperBound(-1);
+		ref.setOrdered(true);
+		ref.setContainment(false);
+		ref.setEType(nodeClass);
+		nodeClass.getEStructuralFeatures().add(ref);
+		EReference children = EcoreFactory.eINSTANCE.createEReference();
+		children.setName("children");
+		children.setLowerBound(0);
+		children.setUpperBound(-1);
+		children.setOrdered(true);
+		children.setContainment(true);
+		children.setEType(nodeClass);
+		nodeClass.getEStructuralFeatures().add(children);
+		ePackage.getEClassifiers().add(nodeClass);
+		return ePackage;
+	}
+
+}
@@ -16,7 +16,9 @@ import org.chronos.chronosphere.api.query.Direction;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
 import org.chronos.chronosphere.internal.api.ChronoSphereInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
 import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.builder.ChronoBuilder;
 import org.chronos.common.test.junit.categories.PerformanceTest;
 import org.chronos.common.test.utils.Statistic;
 import org.chronos.common.test.utils.TimeStatistics;
@@ -36,6 +38,8 @@ import java.util.stream.Collectors;
 @DontRunWithBackend({ChronosBackend.INMEMORY, ChronosBackend.JDBC, ChronosBackend.MAPDB, ChronosBackend.TUPL})
 public class ItLandscapeBenchmark extends AllChronoSphereBackendsTest {
 
+    /** The number of merge threads for the next sphere instantiation, or zero to use the configured default. */
+    private int mergeThreads = 0;
 
     // =================================================================================================================
     // ROOT CAUSE ANALYSIS
@@ -379,10 +383,49 @@ public class ItLandscapeBenchmark extends AllChronoSphereBackendsTest {
         return statistics.getTotalTime();
     }
 
+    // =================================================================================================================
+    // MODEL LOADING
+    // =================================================================================================================
+
+    @Test
+    @InstantiateChronosWith(property = ChronoDBConfiguration.DUPLICATE_VERSION_ELIMINATION_MODE, value = "off")
+    @InstantiateChronosWith(property = ChronoGraphConfiguration.TRANSACTION_CHECK_ID_EXISTENCE_ON_ADD, value = "false")
+    public void modelLoading() throws Exception {
+        int parallelThreads = this.getChronoSphere().getConfiguration().getBatchInsertMergeThreads();
+        Statistic singleThreadStats = new Statistic();
+        Statistic parallelStats = new Statistic();
+        // alternate between the two settings, such that both profit equally from the JVM warmup
+        for (int i = 0; i < 3; i++) {
+            singleThreadStats.addSample(this.runModelLoading(1));
+            parallelStats.addSample(this.runModelLoading(parallelThreads));
+        }
+        // print the results
+        System.out.println("MODEL LOADING (1 merge thread): " + new TimeStatistics(singleThreadStats).toCSV());
+        System.out.println("MODEL LOADING (" + parallelThreads + " merge threads): " + new TimeStatistics(parallelStats).toCSV());
+        System.out.println("MODEL LOADING: 1 merge thread " + Math.round(singleThreadStats.getMedian()) + "ms | "
+            + parallelThreads + " merge threads " + Math.round(parallelStats.getMedian()) + "ms");
+    }
+
+    private long runModelLoading(final int mergeThreads) throws Exception {
+        this.mergeThreads = mergeThreads;
+        this.reinstantiateChronoSphere();
+        ChronoSphereInternal sphere = this.setUpChronoSphereITLandscape();
+        // the first load has warmed up the caches; load the model a second time (with fresh IDs) for the measurement
+        return this.loadITLandscapeModel(sphere);
+    }
+
     // =================================================================================================================
     // HELPER METHODS
     // =================================================================================================================
 
+    @Override
+    protected void applyExtraTestMethodProperties(final ChronoBuilder<?> builder) {
+        super.applyExtraTestMethodProperties(builder);
+        if (this.mergeThreads > 0) {
+            builder.withProperty(ChronoSphereConfiguration.BATCH_INSERT__MERGE_THREADS, String.valueOf(this.mergeThreads));
+        }
+    }
+
     private ChronoSphereInternal setUpChronoSphereITLandscape() throws IOException {
         final List<EPackage> ePackages;
         {
@@ -399,7 +442,11 @@ public class ItLandscapeBenchmark extends AllChronoSphereBackendsTest {
             tx.commit();
         }
         System.out.println("IT-Landscape Ecore metamodel loaded.");
+        this.loadITLandscapeModel(sphere);
+        return sphere;
+    }
 
+    private long loadITLandscapeModel(final ChronoSphereInternal sphere) throws IOException {
         final String xmiContent;
         {
             String path = "ecoremodels/ITLandscape200k.xmi";
@@ -416,8 +463,8 @@ public class ItLandscapeBenchmark extends AllChronoSphereBackendsTest {
             tx.commit();
             long timeAfterLoad = System.currentTimeMillis();
             System.out.println("Loading the 200k ITLandscape XMI took " + (timeAfterLoad - timeBeforeLoad) + "ms.");
+            return timeAfterLoad - timeBeforeLoad;
         }
-        return sphere;
     }
 
 
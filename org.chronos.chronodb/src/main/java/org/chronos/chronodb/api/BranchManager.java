@@ -2,6 +2,8 @@ package org.chronos.chronodb.api;
 
 import java.util.Set;
 
+import org.chronos.chronodb.api.exceptions.ChronoDBBranchingException;
+
 /**
  * The {@link BranchManager} is responsible for managing the branching functionality inside a {@link ChronoDB}.
  *
@@ -128,4 +130,61 @@ public interface BranchManager {
 	 */
 	public Set<Branch> getBranches();
 
+	/**
+	 * Checks if this database supports the <i>materialization</i> of branches.
+	 *
+	 * <p>
+	 * By default, a branch only stores the changes which were performed on it, and read requests for keys which were
+	 * not changed in the branch are forwarded to the origin branch. For long-lived branches with deep ancestry, this
+	 * forwarding can become expensive. Materializing a branch copies the history of its origin branch (up to the
+	 * branching timestamp) into the branch, such that read requests can be answered without consulting the origin. This
+	 * increases the memory footprint of the database on disk.
+	 *
+	 * @return <code>true</code> if this database supports branch materialization, otherwise <code>false</code>.
+	 */
+	public boolean isBranchMaterializationSupported();
+
+	/**
+	 * Materializes the branch with the given name.
+	 *
+	 * <p>
+	 * Materialization does not change the results of any read operation, including history queries. Read and write
+	 * operations on the branch may continue while the materialization is in progress. Keyspaces which are created in
+	 * the origin branch after the materialization are not affected and continue to be forwarded to the origin.
+	 *
+	 * <p>
+	 * Not all backends support this operation. Please use {@link #isBranchMaterializationSupported()} first to check if
+	 * this operation is supported or not.
+	 *
+	 * @param branchName
+	 *            The name of the branch to materialize. Must not be <code>null</code>, must refer to an existing branch
+	 *            other than the master branch.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@linkplain #isBranchMaterializationSupported() does not support branch
+	 *             materialization}.
+	 */
+	public void materializeBranch(String branchName);
+
+	/**
+	 * Deletes the branch with the given name, including its entire history.
+	 *
+	 * <p>
+	 * After this method returns, the branch no longer exists; its name may immediately be reused for a new branch. The
+	 * storage space occupied by the branch is reclaimed asynchronously in the background. Transactions which were
+	 * opened on the deleted branch <b>must not be used anymore</b> after this method has been called.
+	 *
+	 * <p>
+	 * Branches which serve as the origin of other branches cannot be deleted; their child branches need to be deleted
+	 * first. The master branch can never be deleted.
+	 *
+	 * @param branchName
+	 *            The name of the branch to delete. Must not be <code>null</code>, must refer to an existing branch
+	 *            other than the master branch.
+	 *
+	 * @throws ChronoDBBranchingException
+	 *             Thrown if the branch does not exist, if it is the master branch, or if it has child branches.
+	 */
+	public void deleteBranch(String branchName);
+
 }
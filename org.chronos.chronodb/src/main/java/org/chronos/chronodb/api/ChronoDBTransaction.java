@@ -14,6 +14,7 @@ import org.chronos.chronodb.internal.api.query.ChronoDBQuery;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
@@ -104,6 +105,34 @@ public interface ChronoDBTransaction {
      */
     public <T> T get(String keyspaceName, String key) throws ValueTypeMismatchException, UnknownKeyspaceException;
 
+    /**
+     * Returns the values of the given keys in the given keyspace, at the timestamp of this transaction.
+     * <p>
+     * <p>
+     * This method is equivalent to calling {@link #get(String, String)} for each of the given keys, but it is more
+     * efficient for larger numbers of keys, as the keys are visited in ascending order and the store only needs to be
+     * locked once.
+     * <p>
+     * <p>
+     * Usage example:
+     * <p>
+     * <pre>
+     * Map&lt;String, String&gt; values = tx.getMultiple(&quot;MyKeyspace&quot;, Lists.newArrayList(&quot;Hello&quot;, &quot;World&quot;));
+     * </pre>
+     *
+     * <p>
+     * <p>
+     * The values are not checked against the generic argument. If a value has an unexpected type, a
+     * {@link ClassCastException} occurs when it is accessed via the returned map.
+     *
+     * @param keyspaceName The name of the keyspace to search in. Must not be <code>null</code>. If there is no such
+     *                     keyspace, the result is empty.
+     * @param keys         The keys to get the values for. Must not be <code>null</code>, may be empty.
+     * @return A map from key to value. Keys which have no value are not contained in the map. Never <code>null</code>,
+     * may be empty.
+     */
+    public <T> Map<String, T> getMultiple(String keyspaceName, Collection<String> keys);
+
     /**
      * Checks if there is a value for the given key in the <i>default</i> keyspace, at the timestamp of this
      * transaction.
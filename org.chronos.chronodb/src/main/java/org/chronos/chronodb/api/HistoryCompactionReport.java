@@ -0,0 +1,58 @@
+package org.chronos.chronodb.api;
+
+/**
+ * A {@link HistoryCompactionReport} summarizes the effects of a
+ * {@linkplain MaintenanceManager#performHistoryCompaction(String, HistoryRetentionPolicy) history compaction}.
+ *
+ * <p>
+ * Instances of this interface are immutable.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface HistoryCompactionReport {
+
+	/**
+	 * Returns the name of the branch which has been compacted.
+	 *
+	 * @return The branch name. Never <code>null</code>.
+	 */
+	public String getBranchName();
+
+	/**
+	 * Returns the start of the retention window which has been used by the compaction.
+	 *
+	 * <p>
+	 * All versions at or after this timestamp have been retained.
+	 *
+	 * @return The retention cutoff timestamp. Never negative.
+	 */
+	public long getRetentionCutoffTimestamp();
+
+	/**
+	 * Returns the number of key-value versions which have been removed by the compaction.
+	 *
+	 * @return The number of removed versions. Never negative.
+	 */
+	public long getNumberOfRemovedVersions();
+
+	/**
+	 * Returns the number of commits which have been removed entirely (including their commit metadata) by the
+	 * compaction.
+	 *
+	 * @return The number of removed commits. Never negative.
+	 */
+	public long getNumberOfRemovedCommits();
+
+	/**
+	 * Returns the number of bytes which have been reclaimed by the compaction.
+	 *
+	 * <p>
+	 * This is the logical size of the removed keys, values and commit metadata entries. Depending on the backend, the
+	 * physical space on disk may be released lazily.
+	 *
+	 * @return The number of reclaimed bytes. Never negative.
+	 */
+	public long getReclaimedBytes();
+
+}
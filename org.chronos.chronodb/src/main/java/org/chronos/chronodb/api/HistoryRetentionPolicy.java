@@ -0,0 +1,95 @@
+package org.chronos.chronodb.api;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.internal.impl.HistoryRetentionPolicyImpl;
+
+/**
+ * A {@link HistoryRetentionPolicy} describes which versions of the data in a branch are retained by a
+ * {@linkplain MaintenanceManager#performHistoryCompaction(String, HistoryRetentionPolicy) history compaction}.
+ *
+ * <p>
+ * A policy consists of two parts:
+ * <ul>
+ * <li>The <i>retention period</i>. All versions which are younger than the retention period (measured from the point in
+ * time when the compaction is executed) are retained. Within this window, all read operations remain exact.
+ * <li>The <i>thinning interval</i>. For the versions which are older than the retention period, only the last version of
+ * each key per thinning interval is retained. A thinning interval of zero means that only the state at the start of
+ * the retention window is retained.
+ * </ul>
+ *
+ * <p>
+ * For example, the policy <code>keepAllVersionsFor(90, TimeUnit.DAYS).thenKeepOneVersionPer(1, TimeUnit.DAYS)</code>
+ * retains all versions of the last 90 days, and one version per key and day before that.
+ *
+ * <p>
+ * Instances of this interface are immutable.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public interface HistoryRetentionPolicy {
+
+	// =================================================================================================================
+	// STATIC FACTORY METHODS
+	// =================================================================================================================
+
+	/**
+	 * Creates a new policy which retains all versions within the given period, and only the state at the start of the
+	 * period for everything older than that.
+	 *
+	 * <p>
+	 * Use {@link #thenKeepOneVersionPer(long, TimeUnit)} on the result to retain more versions before the retention
+	 * period.
+	 *
+	 * @param duration
+	 *            The duration of the retention period. Must not be negative.
+	 * @param unit
+	 *            The time unit of the duration. Must not be <code>null</code>.
+	 * @return The new policy. Never <code>null</code>.
+	 */
+	public static HistoryRetentionPolicy keepAllVersionsFor(final long duration, final TimeUnit unit) {
+		checkArgument(duration >= 0, "Precondition violation - argument 'duration' must not be negative!");
+		checkNotNull(unit, "Precondition violation - argument 'unit' must not be NULL!");
+		return new HistoryRetentionPolicyImpl(unit.toMillis(duration), 0L);
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Returns the length of the retention period, in milliseconds.
+	 *
+	 * @return The retention period. Never negative.
+	 */
+	public long getRetentionPeriod();
+
+	/**
+	 * Returns the length of the thinning interval which is applied to versions older than the retention period, in
+	 * milliseconds.
+	 *
+	 * @return The thinning interval. Never negative. Zero indicates that only the state at the start of the retention
+	 *         period is retained.
+	 */
+	public long getThinningInterval();
+
+	/**
+	 * Creates a copy of this policy which retains the last version of each key per given interval before the
+	 * retention period.
+	 *
+	 * @param interval
+	 *            The length of the interval. Must not be negative.
+	 * @param unit
+	 *            The time unit of the interval. Must not be <code>null</code>.
+	 * @return The new policy. Never <code>null</code>.
+	 */
+	public default HistoryRetentionPolicy thenKeepOneVersionPer(final long interval, final TimeUnit unit) {
+		checkArgument(interval >= 0, "Precondition violation - argument 'interval' must not be negative!");
+		checkNotNull(unit, "Precondition violation - argument 'unit' must not be NULL!");
+		return new HistoryRetentionPolicyImpl(this.getRetentionPeriod(), unit.toMillis(interval));
+	}
+
+}
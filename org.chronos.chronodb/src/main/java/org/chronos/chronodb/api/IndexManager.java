@@ -52,6 +52,9 @@ import com.google.common.collect.Sets;
  */
 public interface IndexManager {
 
+	/** The batch size used by {@link #queryIndexOrdered(long, Branch, String, SearchSpecification, Order)}. */
+	public static final int DEFAULT_ORDERED_QUERY_BATCH_SIZE = 100;
+
 	// =================================================================================================================
 	// INDEX MANAGEMENT
 	// =================================================================================================================
@@ -281,17 +284,14 @@ public interface IndexManager {
 	 * Re-indexes the index with the given name.
 	 *
 	 * <p>
-	 * This operation will <b>force</b> a re-index. Re-indexing is an expensive operation. Furthermore, re-indexing is an exclusive operation that does not permit any concurrent reads and/or writes on the database.
+	 * This operation will <b>force</b> a re-index of the given index, even if it is not dirty. All other indices remain untouched (unless the backend can only rebuild all indices at once). Re-indexing is an expensive operation. Furthermore, re-indexing is an exclusive operation that does not permit any concurrent reads and/or writes on the database.
 	 *
 	 * <p>
 	 * If you are unsure if any index is dirty and requires re-indexing, please consider using {@link #reindexAll()} instead.
 	 *
 	 * @param indexName
-	 *            The name of the index to re-index. Must not be <code>null</code>.
-	 *
-	 * @deprecated In Chronos 0.6.9 and later, simply use {@link #reindexAll()}.
+	 *            The name of the index to re-index. Must not be <code>null</code>. Must refer to an existing index.
 	 */
-	@Deprecated
 	public void reindex(String indexName);
 
 	/**
@@ -353,6 +353,56 @@ public interface IndexManager {
 	 */
 	public Set<String> queryIndex(final long timestamp, Branch branch, String keyspace, SearchSpecification<?> searchSpec);
 
+	/**
+	 * Queries the index by providing a value description, and returns the matching keys ordered by their indexed value.
+	 *
+	 * <p>
+	 * This method is equivalent to {@link #queryIndexOrdered(long, Branch, String, SearchSpecification, Order, int)} with a batch size of {@value #DEFAULT_ORDERED_QUERY_BATCH_SIZE}.
+	 *
+	 * @param timestamp
+	 *            The timestamp at which the query takes place. Must not be negative.
+	 * @param branch
+	 *            The branch to evaluate the query in. Must not be <code>null</code>. Must refer to an existing branch.
+	 * @param keyspace
+	 *            The keyspace to evaluate the query in. Must not be <code>null</code>.
+	 * @param searchSpec
+	 *            The search specification to fulfill. Must not be <code>null</code>. Must not accept the empty value, because keys without an indexed value cannot be ordered.
+	 * @param order
+	 *            The order of the indexed values in which the keys should be returned. Must not be <code>null</code>.
+	 *
+	 * @return An iterator over the keys that have a value assigned that matches the given description, in the given order. May be empty, but never <code>null</code>.
+	 */
+	public default Iterator<String> queryIndexOrdered(final long timestamp, final Branch branch, final String keyspace,
+			final SearchSpecification<?> searchSpec, final Order order) {
+		return this.queryIndexOrdered(timestamp, branch, keyspace, searchSpec, order, DEFAULT_ORDERED_QUERY_BATCH_SIZE);
+	}
+
+	/**
+	 * Queries the index by providing a value description, and returns the matching keys ordered by their indexed value.
+	 *
+	 * <p>
+	 * If a key has several matching indexed values, it is reported only once, at the position of its first matching value in the requested order. The keys are fetched lazily from the index, in batches: the first batch contains the first <code>batchSize</code> index entries in the requested order, and every further batch is twice as large as the previous one. Callers which are only interested in the first few keys (e.g. the "top k" entries) should therefore pass the number of keys they need as the batch size, and stop iterating as soon as they have them. The values behind the keys never need to be loaded in order to sort them.
+	 *
+	 * <p>
+	 * Backends which maintain a structure ordered by the indexed values deliver a batch without looking at the remaining index entries. All other backends have to scan the matching index entries once per batch, but they only ever keep one batch in memory.
+	 *
+	 * @param timestamp
+	 *            The timestamp at which the query takes place. Must not be negative.
+	 * @param branch
+	 *            The branch to evaluate the query in. Must not be <code>null</code>. Must refer to an existing branch.
+	 * @param keyspace
+	 *            The keyspace to evaluate the query in. Must not be <code>null</code>.
+	 * @param searchSpec
+	 *            The search specification to fulfill. Must not be <code>null</code>. Must not accept the empty value, because keys without an indexed value cannot be ordered.
+	 * @param order
+	 *            The order of the indexed values in which the keys should be returned. Must not be <code>null</code>.
+	 * @param batchSize
+	 *            The number of index entries to fetch in the first batch. Must be greater than zero.
+	 *
+	 * @return An iterator over the keys that have a value assigned that matches the given description, in the given order. May be empty, but never <code>null</code>.
+	 */
+	public Iterator<String> queryIndexOrdered(long timestamp, Branch branch, String keyspace, SearchSpecification<?> searchSpec, Order order, int batchSize);
+
 	/**
 	 * Evaluates the given {@link ChronoDBQuery}.
 	 *
@@ -432,6 +482,28 @@ public interface IndexManager {
 	 */
 	public void rollback(Branch branch, long timestamp);
 
+	/**
+	 * Permanently deletes all index entries in the given branch and keyspaces whose validity has ended at or before the
+	 * given timestamp.
+	 *
+	 * <p>
+	 * After this operation, index queries on the given branch and keyspaces are only guaranteed to be exact at or
+	 * after the given timestamp. This operation is intended to be used by history compaction, and is applicable to the
+	 * {@linkplain ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch only, because in all other branches,
+	 * terminated index entries may shadow the entries of the origin branch.
+	 *
+	 * @param branch
+	 *            The branch to prune. Must not be <code>null</code>, must be the master branch.
+	 * @param keyspaces
+	 *            The keyspaces to prune. Must not be <code>null</code>. If this set is empty, this method returns
+	 *            immediately and has no effect.
+	 * @param timestamp
+	 *            The timestamp up to which (inclusive) terminated entries are deleted. Must not be negative.
+	 *
+	 * @see #rollback(Branch, long)
+	 */
+	public void pruneHistory(Branch branch, Set<String> keyspaces, long timestamp);
+
 	/**
 	 * Clears the internal query cache, if query result caching is enabled.
 	 * <p>
@@ -1,7 +1,11 @@
 package org.chronos.chronodb.api;
 
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import org.chronos.chronodb.api.builder.database.ChronoDBFinalizableBuilder;
 import org.chronos.chronodb.internal.impl.engines.chunkdb.ChronoChunk;
 
 /**
@@ -89,4 +93,147 @@ public interface MaintenanceManager {
 	 */
 	public void performRolloverOnAllBranchesWhere(Predicate<String> branchPredicate);
 
+	/**
+	 * Checks if this database supports <i>history compaction</i>.
+	 *
+	 * <p>
+	 * A history compaction removes old versions from a branch according to a {@link HistoryRetentionPolicy}, in order to
+	 * reclaim the space occupied by historical data which is no longer required.
+	 *
+	 * @return <code>true</code> if this database supports history compaction, otherwise <code>false</code>.
+	 */
+	public boolean isHistoryCompactionSupported();
+
+	/**
+	 * Performs a history compaction on all keyspaces of the branch with the given name.
+	 *
+	 * <p>
+	 * All versions within the {@linkplain HistoryRetentionPolicy#getRetentionPeriod() retention period} are retained,
+	 * and all read operations on timestamps within the retention period remain exact. Before the retention period,
+	 * versions are thinned out according to the {@linkplain HistoryRetentionPolicy#getThinningInterval() thinning
+	 * interval}. Versions which are visible to child branches at their branching timestamps are always retained.
+	 * Commits which no longer contain any changes are removed together with their commit metadata. Secondary index
+	 * queries are only guaranteed to be exact within the retention period.
+	 *
+	 * <p>
+	 * Not all backends support this operation. Please use {@link #isHistoryCompactionSupported()} first to check if
+	 * this operation is supported or not.
+	 *
+	 * <p>
+	 * <b>Important note:</b> This method is <b>not guaranteed to be ACID safe</b>. Keyspaces will be compacted one
+	 * after the other, such that other transactions may proceed in between.
+	 *
+	 * @param branchName
+	 *            The name of the branch to compact. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param policy
+	 *            The retention policy to apply. Must not be <code>null</code>.
+	 * @return The report which summarizes the effects of the compaction. Never <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@linkplain #isHistoryCompactionSupported() does not support history
+	 *             compaction}.
+	 */
+	public HistoryCompactionReport performHistoryCompaction(String branchName, HistoryRetentionPolicy policy);
+
+	/**
+	 * Performs a history compaction on the given keyspace of the branch with the given name.
+	 *
+	 * <p>
+	 * This method is identical to {@link #performHistoryCompaction(String, HistoryRetentionPolicy)}, except that all
+	 * other keyspaces of the branch remain untouched.
+	 *
+	 * @param branchName
+	 *            The name of the branch to compact. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param keyspace
+	 *            The name of the keyspace to compact. Must not be <code>null</code>.
+	 * @param policy
+	 *            The retention policy to apply. Must not be <code>null</code>.
+	 * @return The report which summarizes the effects of the compaction. Never <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@linkplain #isHistoryCompactionSupported() does not support history
+	 *             compaction}.
+	 */
+	public HistoryCompactionReport performHistoryCompaction(String branchName, String keyspace,
+			HistoryRetentionPolicy policy);
+
+	/**
+	 * Schedules a history compaction on all keyspaces of the branch with the given name as a background job.
+	 *
+	 * <p>
+	 * The compaction is performed exactly as in {@link #performHistoryCompaction(String, HistoryRetentionPolicy)}. Jobs
+	 * are executed one after the other, in the order in which they have been scheduled.
+	 *
+	 * @param branchName
+	 *            The name of the branch to compact. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param policy
+	 *            The retention policy to apply. Must not be <code>null</code>.
+	 * @return The future which will provide the compaction report once the job has finished. Never <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@linkplain #isHistoryCompactionSupported() does not support history
+	 *             compaction}.
+	 */
+	public Future<HistoryCompactionReport> performHistoryCompactionAsync(String branchName,
+			HistoryRetentionPolicy policy);
+
+	/**
+	 * Schedules a periodic history compaction on all branches as a background job.
+	 *
+	 * <p>
+	 * Every run compacts all branches one after the other, exactly as in
+	 * {@link #performHistoryCompaction(String, HistoryRetentionPolicy)}. The retention period is measured from the start
+	 * of each run. The first run starts after one interval has passed. A failed run is logged and does not prevent the
+	 * subsequent runs. The job ends when the returned future is cancelled, or when the database is closed.
+	 *
+	 * <p>
+	 * The same job can also be set up via the database configuration, see
+	 * {@link ChronoDBFinalizableBuilder#withScheduledHistoryCompaction(HistoryRetentionPolicy, long, TimeUnit)}. This
+	 * job applies the same policy to every branch and keyspace; use
+	 * {@link #scheduleHistoryCompaction(String, String, HistoryRetentionPolicy, long, TimeUnit)} to retain the history
+	 * of individual branches and keyspaces for different periods.
+	 *
+	 * @param policy
+	 *            The retention policy to apply. Must not be <code>null</code>.
+	 * @param interval
+	 *            The time between two runs. Must be greater than zero.
+	 * @param unit
+	 *            The time unit of the interval. Must not be <code>null</code>.
+	 * @return The future which represents the scheduled job. Never <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@linkplain #isHistoryCompactionSupported() does not support history
+	 *             compaction}.
+	 */
+	public ScheduledFuture<?> scheduleHistoryCompaction(HistoryRetentionPolicy policy, long interval, TimeUnit unit);
+
+	/**
+	 * Schedules a periodic history compaction on a single keyspace of a single branch as a background job.
+	 *
+	 * <p>
+	 * Every run compacts the given keyspace exactly as in
+	 * {@link #performHistoryCompaction(String, String, HistoryRetentionPolicy)}. Several of these jobs can be scheduled
+	 * with different policies, one per branch and keyspace. Apart from that, the job behaves like the one created by
+	 * {@link #scheduleHistoryCompaction(HistoryRetentionPolicy, long, TimeUnit)}. A run in which the branch or the
+	 * keyspace does not exist (anymore) is logged and skipped.
+	 *
+	 * @param branchName
+	 *            The name of the branch to compact. Must not be <code>null</code>, must refer to an existing branch.
+	 * @param keyspace
+	 *            The name of the keyspace to compact. Must not be <code>null</code>.
+	 * @param policy
+	 *            The retention policy to apply. Must not be <code>null</code>.
+	 * @param interval
+	 *            The time between two runs. Must be greater than zero.
+	 * @param unit
+	 *            The time unit of the interval. Must not be <code>null</code>.
+	 * @return The future which represents the scheduled job. Never <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this backend {@linkplain #isHistoryCompactionSupported() does not support history
+	 *             compaction}.
+	 */
+	public ScheduledFuture<?> scheduleHistoryCompaction(String branchName, String keyspace,
+			HistoryRetentionPolicy policy, long interval, TimeUnit unit);
+
 }
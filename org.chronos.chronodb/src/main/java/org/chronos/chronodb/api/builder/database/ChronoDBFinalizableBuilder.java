@@ -1,7 +1,11 @@
 package org.chronos.chronodb.api.builder.database;
 
+import java.util.concurrent.TimeUnit;
+
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
+import org.chronos.chronodb.api.MaintenanceManager;
 import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.common.builder.ChronoBuilder;
@@ -102,6 +106,32 @@ public interface ChronoDBFinalizableBuilder<SELF extends ChronoDBFinalizableBuil
 	 */
 	public SELF withConflictResolutionStrategy(final ConflictResolutionStrategy strategy);
 
+	/**
+	 * Enables the scheduled history compaction, which periodically compacts the history of all branches in the
+	 * background.
+	 *
+	 * <p>
+	 * The compaction is performed as in
+	 * {@link MaintenanceManager#performHistoryCompaction(String, HistoryRetentionPolicy)}. Backends which do not
+	 * {@linkplain MaintenanceManager#isHistoryCompactionSupported() support} history compaction ignore this setting.
+	 * The policy applies to every branch and keyspace alike; per-branch and per-keyspace jobs can be scheduled via
+	 * {@link MaintenanceManager#scheduleHistoryCompaction(String, String, HistoryRetentionPolicy, long, TimeUnit)}.
+	 *
+	 * <p>
+	 * Corresponds to {@link ChronoDBConfiguration#HISTORY_RETENTION_PERIOD},
+	 * {@link ChronoDBConfiguration#HISTORY_RETENTION_THINNING_INTERVAL} and
+	 * {@link ChronoDBConfiguration#HISTORY_COMPACTION_INTERVAL}.
+	 *
+	 * @param policy
+	 *            The retention policy to apply. Must not be <code>null</code>.
+	 * @param interval
+	 *            The time between two compaction runs. Must be greater than zero.
+	 * @param unit
+	 *            The time unit of the interval. Must not be <code>null</code>.
+	 * @return <code>this</code>, for method chaining.
+	 */
+	public SELF withScheduledHistoryCompaction(HistoryRetentionPolicy policy, long interval, TimeUnit unit);
+
 	/**
 	 * Builds the {@link ChronoDB} instance, using the properties specified by the fluent API.
 	 *
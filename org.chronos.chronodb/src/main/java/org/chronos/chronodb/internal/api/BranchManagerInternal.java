@@ -1,6 +1,7 @@
 package org.chronos.chronodb.internal.api;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.chronos.chronodb.api.BranchManager;
 import org.chronos.chronodb.internal.impl.IBranchMetadata;
@@ -29,4 +30,22 @@ public interface BranchManagerInternal extends BranchManager {
 	 *            The sorted list of branches, as indicated above. May be empty, but never <code>null</code>.
 	 */
 	public void loadBranchDataFromDump(List<IBranchMetadata> branches);
+
+	/**
+	 * Blocks until the storage space of all {@linkplain #deleteBranch(String) deleted branches} has been reclaimed.
+	 *
+	 * <p>
+	 * This method is intended for internal use only, when shutting down the database.
+	 */
+	public void awaitPendingBranchDeletions();
+
+	/**
+	 * Returns the executor which builds the key presence filters of all branches in the background.
+	 *
+	 * <p>
+	 * This method is intended for internal use only, by the temporal key-value stores of the branches.
+	 *
+	 * @return The executor. Never <code>null</code>.
+	 */
+	public Executor getKeyPresenceFilterBuildExecutor();
 }
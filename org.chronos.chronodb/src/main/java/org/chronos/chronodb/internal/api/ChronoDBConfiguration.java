@@ -1,10 +1,13 @@
 package org.chronos.chronodb.internal.api;
 
 import java.io.File;
+import java.util.concurrent.TimeUnit;
 
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
+import org.chronos.chronodb.api.MaintenanceManager;
 import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.api.exceptions.ChronoDBCommitConflictException;
 import org.chronos.chronodb.internal.util.ChronosBackend;
@@ -181,6 +184,56 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
 	 */
 	public static final String DUPLICATE_VERSION_ELIMINATION_MODE = NS_DOT + "temporal.duplicateVersionEliminationMode";
 
+	/**
+	 * The retention period of the scheduled history compaction, in milliseconds.
+	 *
+	 * <p>
+	 * If this setting is present, the history of all branches is compacted periodically in the background, according
+	 * to the {@link HistoryRetentionPolicy} given by this setting and {@link #HISTORY_RETENTION_THINNING_INTERVAL}. The
+	 * compaction is repeated every {@link #HISTORY_COMPACTION_INTERVAL} milliseconds. Backends which do not support
+	 * history compaction ignore this setting.
+	 *
+	 * <p>
+	 * The configured policy applies to every branch and keyspace alike. Different retention periods per branch or
+	 * keyspace cannot be configured here; schedule them via
+	 * {@link MaintenanceManager#scheduleHistoryCompaction(String, String, HistoryRetentionPolicy, long, TimeUnit)}
+	 * instead.
+	 *
+	 * <p>
+	 * Type: long<br>
+	 * Default value: none (no scheduled history compaction)<br>
+	 * Maps to: {@link #getHistoryRetentionPolicy()}
+	 */
+	public static final String HISTORY_RETENTION_PERIOD = NS_DOT + "temporal.historyRetention.period";
+
+	/**
+	 * The thinning interval of the scheduled history compaction, in milliseconds.
+	 *
+	 * <p>
+	 * Only relevant if {@link #HISTORY_RETENTION_PERIOD} is set. See
+	 * {@link HistoryRetentionPolicy#getThinningInterval()} for details.
+	 *
+	 * <p>
+	 * Type: long<br>
+	 * Default value: 0 (retain only the state at the start of the retention period)<br>
+	 * Maps to: {@link #getHistoryRetentionPolicy()}
+	 */
+	public static final String HISTORY_RETENTION_THINNING_INTERVAL = NS_DOT + "temporal.historyRetention.thinningInterval";
+
+	/**
+	 * The time between two runs of the scheduled history compaction, in milliseconds.
+	 *
+	 * <p>
+	 * Only relevant if {@link #HISTORY_RETENTION_PERIOD} is set. The first run starts one interval after the database
+	 * has been opened.
+	 *
+	 * <p>
+	 * Type: long<br>
+	 * Default value: 86400000 (one day)<br>
+	 * Maps to: {@link #getHistoryCompactionInterval()}
+	 */
+	public static final String HISTORY_COMPACTION_INTERVAL = NS_DOT + "temporal.historyCompaction.interval";
+
 	/**
 	 * The working file, i.e. the file to which {@link ChronoDB} is writing in {@link ChronosBackend#MAPDB} mode.
 	 *
@@ -361,6 +414,26 @@ public interface ChronoDBConfiguration extends ChronosConfiguration {
 	 */
 	public DuplicateVersionEliminationMode getDuplicateVersionEliminationMode();
 
+	/**
+	 * Returns the {@link HistoryRetentionPolicy} of the scheduled history compaction.
+	 *
+	 * <p>
+	 * Mapped by settings: {@value #HISTORY_RETENTION_PERIOD} and {@value #HISTORY_RETENTION_THINNING_INTERVAL}
+	 *
+	 * @return The retention policy, or <code>null</code> if no scheduled history compaction has been configured.
+	 */
+	public HistoryRetentionPolicy getHistoryRetentionPolicy();
+
+	/**
+	 * Returns the time between two runs of the scheduled history compaction, in milliseconds.
+	 *
+	 * <p>
+	 * Mapped by setting: {@value #HISTORY_COMPACTION_INTERVAL}
+	 *
+	 * @return The compaction interval.
+	 */
+	public long getHistoryCompactionInterval();
+
 	/**
 	 * Checks if the database contents should be cleared upon database shutdown.
 	 *
@@ -9,6 +9,7 @@ import org.chronos.chronodb.internal.api.query.QueryManager;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.dump.CommitMetadataMap;
+import org.chronos.chronodb.internal.util.concurrent.SnapshotReadGate;
 import org.chronos.common.autolock.ReadWriteAutoLockable;
 import org.chronos.common.version.ChronosVersion;
 
@@ -109,4 +110,15 @@ public interface ChronoDBInternal extends ChronoDB, ReadWriteAutoLockable {
 	 */
 	public void updateChronosVersionTo(ChronosVersion chronosVersion);
 
+	/**
+	 * Returns the gate which is used by lock-free snapshot reads on this database instance.
+	 *
+	 * <p>
+	 * Operations which destroy data that may be visible to readers (e.g. rollbacks or the deletion of a branch) need to
+	 * {@linkplain SnapshotReadGate#drain() drain} this gate before they start.
+	 *
+	 * @return The snapshot read gate. Never <code>null</code>.
+	 */
+	public SnapshotReadGate getSnapshotReadGate();
+
 }
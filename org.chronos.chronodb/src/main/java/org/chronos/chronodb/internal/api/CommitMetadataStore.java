@@ -3,6 +3,7 @@ package org.chronos.chronodb.internal.api;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDBTransaction;
@@ -343,6 +344,24 @@ public interface CommitMetadataStore {
 	 */
 	public void rollbackToTimestamp(long timestamp);
 
+	/**
+	 * Permanently removes the commits at the given timestamps (including their metadata) from this store.
+	 *
+	 * @param commitTimestamps
+	 *            The timestamps of the commits to remove. Must not be <code>null</code>. Timestamps which do not refer
+	 *            to a commit in this store are ignored.
+	 * @return The number of bytes which have been occupied by the removed commits. Never negative.
+	 */
+	public long purge(Set<Long> commitTimestamps);
+
+	/**
+	 * Permanently deletes all contents of this store, releasing the storage space occupied by it.
+	 *
+	 * <p>
+	 * This store must not be used anymore after this method has been called.
+	 */
+	public void drop();
+
 	/**
 	 * Returns the {@link Branch} to which this store belongs.
 	 *
@@ -1,5 +1,8 @@
 package org.chronos.chronodb.internal.api;
 
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -7,8 +10,12 @@ import java.util.Set;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
 /**
  * A {@link TemporalDataMatrix} is a structured container for temporal key-value pairs.
  *
@@ -86,6 +93,29 @@ public interface TemporalDataMatrix {
 	 */
 	public GetResult<byte[]> get(final long timestamp, final String key);
 
+	/**
+	 * Performs a {@link #get(long, String)} for each of the given keys.
+	 *
+	 * <p>
+	 * The default implementation performs the gets one by one. Backends should override this method if they can serve
+	 * all keys with a single transaction on the underlying store.
+	 *
+	 * @param timestamp
+	 *            The timestamp at which to get the values for the given keys. Must not be negative.
+	 * @param keys
+	 *            The keys to get the values for. Must not be <code>null</code>. May be empty.
+	 * @return A map from each of the given keys to its ranged result. Never <code>null</code>.
+	 */
+	public default Map<String, GetResult<byte[]>> getMultiple(final long timestamp, final Collection<String> keys) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		Map<String, GetResult<byte[]>> resultMap = Maps.newHashMap();
+		for (String key : keys) {
+			resultMap.put(key, this.get(timestamp, key));
+		}
+		return resultMap;
+	}
+
 	/**
 	 * Returns the history of the given key, i.e. all timestamps at which the given key changed its value due to a
 	 * commit.
@@ -110,6 +140,26 @@ public interface TemporalDataMatrix {
 	 */
 	public CloseableIterator<UnqualifiedTemporalEntry> allEntriesIterator(long timestamp);
 
+	/**
+	 * Returns all keys which have been written in this matrix at any point in time.
+	 *
+	 * <p>
+	 * Keys whose latest version is a deletion are contained in the result as well. The default implementation scans
+	 * all {@linkplain #allEntriesIterator(long) entries}; backends which are able to skip over the versions of a key
+	 * should override this method.
+	 *
+	 * @return The set of keys. May be empty, but never <code>null</code>.
+	 */
+	public default Set<String> getAllKeys() {
+		Set<String> keys = Sets.newHashSet();
+		try (CloseableIterator<UnqualifiedTemporalEntry> iterator = this.allEntriesIterator(Long.MAX_VALUE)) {
+			while (iterator.hasNext()) {
+				keys.add(iterator.next().getKey().getKey());
+			}
+		}
+		return keys;
+	}
+
 	/**
 	 * Returns the timestamp at which the last (latest) commit has happened on the given key.
 	 *
@@ -201,6 +251,28 @@ public interface TemporalDataMatrix {
 	 */
 	public void rollback(long timestamp);
 
+	/**
+	 * Permanently removes the given versions from this matrix.
+	 *
+	 * <p>
+	 * Read operations on timestamps which are covered by the removed versions will return the closest remaining older
+	 * version instead.
+	 *
+	 * @param keys
+	 *            The keys of the versions to remove. Must not be <code>null</code>. Keys which do not exist in this
+	 *            matrix are ignored. If the set is empty, this method is a no-op and returns immediately.
+	 * @return The number of bytes which have been occupied by the removed versions (keys and values). Never negative.
+	 */
+	public long purgeEntries(Set<UnqualifiedTemporalKey> keys);
+
+	/**
+	 * Permanently deletes all contents of this matrix, releasing the storage space occupied by it.
+	 *
+	 * <p>
+	 * This matrix must not be used anymore after this method has been called.
+	 */
+	public void drop();
+
 	/**
 	 * Returns the modifications to the keyset performed in this matrix, up to the given timestamp.
 	 *
@@ -1,14 +1,19 @@
 package org.chronos.chronodb.internal.api;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.BranchManager;
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.HistoryCompactionReport;
+import org.chronos.chronodb.api.MaintenanceManager;
 import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.SerializationManager;
 import org.chronos.chronodb.api.TransactionSource;
@@ -217,6 +222,23 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public Object performGet(ChronoDBTransaction tx, QualifiedKey key);
 
+	/**
+	 * Performs a {@linkplain #performGet(ChronoDBTransaction, QualifiedKey) get} operation for each of the given keys.
+	 *
+	 * <p>
+	 * The keys are visited in ascending order, and the store is locked only once for the entire operation.
+	 *
+	 * @param tx
+	 *            The transaction in which this operation takes place. Must not be <code>null</code>.
+	 * @param keyspace
+	 *            The keyspace to look up the keys in. Must not be <code>null</code>.
+	 * @param keys
+	 *            The keys to look up in the store. Must not be <code>null</code>, may be empty.
+	 * @return A map from key to value at the timestamp specified by the transaction. Keys which have no value at this
+	 *         timestamp are not contained in the map. Never <code>null</code>, may be empty.
+	 */
+	public Map<String, Object> performGetMultiple(ChronoDBTransaction tx, String keyspace, Collection<String> keys);
+
 	/**
 	 * This operation is equivalent to {@link #performGet(ChronoDBTransaction, QualifiedKey)}, but produces additional
 	 * result data.
@@ -259,6 +281,26 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public GetResult<Object> performRangedGet(ChronoDBTransaction tx, QualifiedKey key);
 
+	/**
+	 * This operation is equivalent to {@link #performRangedGet(ChronoDBTransaction, QualifiedKey)}, except that the
+	 * result value is returned in its serial form.
+	 *
+	 * <p>
+	 * This method does not consult the cache, and does not deserialize anything. Only results without a value are
+	 * written to the cache. It is intended for internal processes (such as the commit process) which need to compare
+	 * raw values.
+	 *
+	 * @param tx
+	 *            The transaction on which this operation occurs. Must not be <code>null</code>.
+	 * @param key
+	 *            The qualified key to search for. Must not be <code>null</code>.
+	 *
+	 * @return A {@link GetResult} object, containing the serial form of the result value and its temporal validity
+	 *         range. A deleted entry is represented by a hit with a <code>null</code> or empty value. Never
+	 *         <code>null</code>.
+	 */
+	public GetResult<byte[]> performRangedGetBinary(ChronoDBTransaction tx, QualifiedKey key);
+
 	/**
 	 * Retrieves the set of keys contained in this store in the given keyspace at the given point in time.
 	 *
@@ -737,6 +779,80 @@ public interface TemporalKeyValueStore extends TransactionSource, ReadWriteAutoL
 	 */
 	public void insertEntries(Set<ChronoDBEntry> entries);
 
+	// =================================================================================================================
+	// MATERIALIZATION
+	// =================================================================================================================
+
+	/**
+	 * Copies the history of the origin branch (up to the branching timestamp) into this store.
+	 *
+	 * <p>
+	 * After this operation has completed, read operations on this store no longer need to consult the origin branch.
+	 * The results of all read operations (including history queries) remain unchanged. Read and write operations may
+	 * proceed while this operation is running; they are blocked only briefly while a batch of entries is being copied.
+	 *
+	 * <p>
+	 * This method is intended to be called by the {@link BranchManager} only.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if the backend does not support branch materialization.
+	 */
+	public void performMaterialization();
+
+	// =================================================================================================================
+	// HISTORY COMPACTION
+	// =================================================================================================================
+
+	/**
+	 * Removes old versions from the given keyspaces of this store.
+	 *
+	 * <p>
+	 * All versions at or after the given retention cutoff timestamp are retained. For each key, the latest version
+	 * before the cutoff is retained as well, such that all read operations at or after the cutoff remain exact. Older
+	 * versions are retained only if they are the last version of their key within their thinning interval, or if they
+	 * are visible to a child branch at its branching timestamp. Commits which no longer contain any changes are removed
+	 * together with their commit metadata.
+	 *
+	 * <p>
+	 * The keyspaces are compacted one after the other; the branch is locked exclusively only while a single keyspace
+	 * is being compacted.
+	 *
+	 * <p>
+	 * This method is intended to be called by the {@link MaintenanceManager} only.
+	 *
+	 * @param keyspaces
+	 *            The keyspaces to compact. Must not be <code>null</code>. Keyspaces which do not exist are ignored.
+	 * @param retentionCutoff
+	 *            The start of the retention window. Must not be negative.
+	 * @param thinningInterval
+	 *            The thinning interval to apply to the versions before the retention window, in milliseconds. Must not
+	 *            be negative. Zero indicates that only the latest version before the cutoff is retained.
+	 * @return The report which summarizes the effects of the compaction. Never <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if the backend does not support history compaction.
+	 */
+	public HistoryCompactionReport performHistoryCompaction(Set<String> keyspaces, long retentionCutoff,
+			long thinningInterval);
+
+	// =================================================================================================================
+	// DELETION
+	// =================================================================================================================
+
+	/**
+	 * Permanently deletes all data held by this store.
+	 *
+	 * <p>
+	 * This includes the matrices of all keyspaces, the commit metadata, as well as all branch-level records (such as
+	 * the "now" timestamp and the write-ahead log token). This method does not acquire any locks; the owning branch
+	 * must have been removed from the {@link BranchManager} before calling this method, and the store must not be
+	 * used anymore afterwards.
+	 *
+	 * <p>
+	 * This method is intended to be called by the {@link BranchManager} only.
+	 */
+	public void drop();
+
 	// =================================================================================================================
 	// DEBUG METHODS
 	// =================================================================================================================
@@ -1,8 +1,13 @@
 package org.chronos.chronodb.internal.api.index;
 
+import static com.google.common.base.Preconditions.*;
+
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
 
+import com.google.common.collect.Ordering;
+
 /**
  * A {@link ChronoIndexDocument} is an abstraction across all indexing backends.
  *
@@ -125,4 +130,27 @@ public interface ChronoIndexDocument {
 	 */
 	public void setValidToTimestamp(long validTo);
 
+	/**
+	 * Returns an {@link Ordering} that sorts index documents by their indexed values, in the given order.
+	 *
+	 * <p>
+	 * All values of an index share the same type (String, Long or Double), so the indexed values of the documents of a single index are always mutually comparable. Documents with equal values are sorted by their keys, which makes the ordering total among the documents that are valid at a given timestamp.
+	 *
+	 * @param order
+	 *            The order of the indexed values. Must not be <code>null</code>.
+	 *
+	 * @return The ordering. Never <code>null</code>.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static Ordering<ChronoIndexDocument> orderByIndexedValue(final Order order) {
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		Ordering<ChronoIndexDocument> byValue = Ordering.natural().onResultOf(doc -> (Comparable) doc.getIndexedValue());
+		Ordering<ChronoIndexDocument> byKey = Ordering.natural().onResultOf(ChronoIndexDocument::getKey);
+		Ordering<ChronoIndexDocument> ordering = byValue.compound(byKey);
+		if (order == Order.DESCENDING) {
+			return ordering.reverse();
+		}
+		return ordering;
+	}
+
 }
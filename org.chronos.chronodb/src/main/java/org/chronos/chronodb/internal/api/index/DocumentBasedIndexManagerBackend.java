@@ -1,9 +1,13 @@
 package org.chronos.chronodb.internal.api.index;
 
+import static com.google.common.base.Preconditions.*;
+
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 
@@ -75,6 +79,35 @@ public interface DocumentBasedIndexManagerBackend extends IndexManagerBackend {
 	public Collection<ChronoIndexDocument> getMatchingDocuments(long timestamp, Branch branch,
 			String keyspace, SearchSpecification<?> searchSpec);
 
+	/**
+	 * Returns the first {@link ChronoIndexDocument}s that match the given search specification, ordered by their indexed values (see {@link ChronoIndexDocument#orderByIndexedValue(Order)}).
+	 *
+	 * <p>
+	 * The documents are matched exactly as in {@link #getMatchingDocuments(long, Branch, String, SearchSpecification)}. Backends may break ties between equal indexed values differently, but they must do so in the same way in every call, such that the result for a smaller <code>limit</code> is always a prefix of the result for a larger one. If the result contains less than <code>limit</code> documents, there are no further matches. The default implementation selects the documents from all matches, keeping only <code>limit</code> of them in memory; backends which maintain an index over the indexed values should override it.
+	 *
+	 * @param timestamp
+	 *            The timestamp up to which the documents should be searched. Must not be negative.
+	 * @param branch
+	 *            The branch in which to start the search. Origin branches will be searched as well (recursively). Must not be <code>null</code>.
+	 * @param keyspace
+	 *            The keyspace to search in. Must not be <code>null</code>.
+	 * @param searchSpec
+	 *            The search specification to fulfill. Must not be <code>null</code>.
+	 * @param order
+	 *            The order of the indexed values. Must not be <code>null</code>.
+	 * @param limit
+	 *            The maximum number of documents to return. Must be greater than zero.
+	 *
+	 * @return The first matching documents, in the given order. May be empty, but never <code>null</code>.
+	 */
+	public default List<ChronoIndexDocument> getFirstMatchingDocuments(final long timestamp, final Branch branch,
+			final String keyspace, final SearchSpecification<?> searchSpec, final Order order, final int limit) {
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(limit > 0, "Precondition violation - argument 'limit' must be greater than zero!");
+		Collection<ChronoIndexDocument> documents = this.getMatchingDocuments(timestamp, branch, keyspace, searchSpec);
+		return ChronoIndexDocument.orderByIndexedValue(order).leastOf(documents, limit);
+	}
+
 	/**
 	 * Queries the indexer state to return all documents that match the given {@link ChronoIdentifier}.
 	 *
@@ -107,4 +107,17 @@ public interface IndexManagerBackend {
 	 */
 	public void rollback(Set<String> branches, long timestamp, Set<QualifiedKey> keys);
 
+	/**
+	 * Deletes all documents in the given branch and keyspaces whose validity has been terminated at or before the given
+	 * timestamp.
+	 *
+	 * @param branch
+	 *            The name of the branch to delete the documents from. Must not be <code>null</code>.
+	 * @param keyspaces
+	 *            The names of the keyspaces to delete the documents from. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp up to which (inclusive) terminated documents are deleted. Must not be negative.
+	 */
+	public void deleteTerminatedDocuments(String branch, Set<String> keyspaces, long timestamp);
+
 }
@@ -5,8 +5,10 @@ import static com.google.common.base.Preconditions.*;
 import java.util.Iterator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.chronos.chronodb.internal.impl.stream.ConcatenatedCloseableIterator;
+import org.chronos.chronodb.internal.impl.stream.FilteringCloseableIterator;
 import org.chronos.chronodb.internal.impl.stream.TransformingCloseableIterator;
 
 /**
@@ -70,6 +72,29 @@ public interface CloseableIterator<T> extends AutoCloseable {
 		return new TransformingCloseableIterator<>(iterator, function);
 	}
 
+	/**
+	 * Creates a new iterator which contains only those elements of the given iterator which match the given predicate.
+	 *
+	 * <p>
+	 * The predicate will be evaluated in a lazy way, i.e. elements will be checked on the fly when they are requested
+	 * via {@link #hasNext()} or {@link #next()}.
+	 *
+	 * <p>
+	 * Closing the resulting iterator will also close the wrapped iterator.
+	 *
+	 * @param iterator
+	 *            The iterator to filter. Must not be <code>null</code>.
+	 * @param predicate
+	 *            The predicate which all returned elements have to match. Must not be <code>null</code>.
+	 * @return The filtered iterator. Never <code>null</code>.
+	 */
+	public static <E> CloseableIterator<E> filter(final CloseableIterator<E> iterator,
+			final Predicate<? super E> predicate) {
+		checkNotNull(iterator, "Precondition violation - argument 'iterator' must not be NULL!");
+		checkNotNull(predicate, "Precondition violation - argument 'predicate' must not be NULL!");
+		return new FilteringCloseableIterator<>(iterator, predicate);
+	}
+
 	// =====================================================================================================================
 	// PUBLIC API
 	// =====================================================================================================================
@@ -1,8 +1,10 @@
 package org.chronos.chronodb.internal.impl;
 
 import java.io.File;
+import java.util.concurrent.TimeUnit;
 
 import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
 import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.util.ChronosBackend;
@@ -24,6 +26,7 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 	// =====================================================================================================================
 
 	private static final long DEFAULT__STORAGE_BACKEND_CACHE = 1024L * 1024L * 200L; // 200 MB (in bytes)
+	private static final long DEFAULT__HISTORY_COMPACTION_INTERVAL = TimeUnit.DAYS.toMillis(1);
 
 	// =====================================================================================================================
 	// FIELDS
@@ -69,6 +72,15 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 	@Parameter(key = DUPLICATE_VERSION_ELIMINATION_MODE, optional = true)
 	private DuplicateVersionEliminationMode duplicateVersionEliminationMode = DuplicateVersionEliminationMode.ON_COMMIT;
 
+	@Parameter(key = HISTORY_RETENTION_PERIOD, optional = true)
+	private Long historyRetentionPeriod;
+
+	@Parameter(key = HISTORY_RETENTION_THINNING_INTERVAL, optional = true)
+	private long historyRetentionThinningInterval = 0L;
+
+	@Parameter(key = HISTORY_COMPACTION_INTERVAL, optional = true)
+	private long historyCompactionInterval = DEFAULT__HISTORY_COMPACTION_INTERVAL;
+
 	// file backend settings
 	@Parameter(key = WORK_FILE)
 	@RequiredIf(field = "backendType", comparison = Comparison.IS_SET_TO, compareValue = "file")
@@ -162,6 +174,20 @@ public class ChronoDBConfigurationImpl extends AbstractConfiguration implements
 		return this.duplicateVersionEliminationMode;
 	}
 
+	@Override
+	public HistoryRetentionPolicy getHistoryRetentionPolicy() {
+		if (this.historyRetentionPeriod == null) {
+			return null;
+		}
+		return HistoryRetentionPolicy.keepAllVersionsFor(this.historyRetentionPeriod, TimeUnit.MILLISECONDS)
+				.thenKeepOneVersionPer(this.historyRetentionThinningInterval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public long getHistoryCompactionInterval() {
+		return this.historyCompactionInterval;
+	}
+
 	// =================================================================================================================
 	// FILE BACKEND SETTINGS
 	// =================================================================================================================
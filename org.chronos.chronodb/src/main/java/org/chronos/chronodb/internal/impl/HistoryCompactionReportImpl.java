@@ -0,0 +1,80 @@
+package org.chronos.chronodb.internal.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+import org.chronos.chronodb.api.HistoryCompactionReport;
+
+public class HistoryCompactionReportImpl implements HistoryCompactionReport {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final String branchName;
+	private final long retentionCutoffTimestamp;
+	private final long numberOfRemovedVersions;
+	private final long numberOfRemovedCommits;
+	private final long reclaimedBytes;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public HistoryCompactionReportImpl(final String branchName, final long retentionCutoffTimestamp,
+			final long numberOfRemovedVersions, final long numberOfRemovedCommits, final long reclaimedBytes) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(retentionCutoffTimestamp >= 0,
+				"Precondition violation - argument 'retentionCutoffTimestamp' must not be negative!");
+		checkArgument(numberOfRemovedVersions >= 0,
+				"Precondition violation - argument 'numberOfRemovedVersions' must not be negative!");
+		checkArgument(numberOfRemovedCommits >= 0,
+				"Precondition violation - argument 'numberOfRemovedCommits' must not be negative!");
+		checkArgument(reclaimedBytes >= 0, "Precondition violation - argument 'reclaimedBytes' must not be negative!");
+		this.branchName = branchName;
+		this.retentionCutoffTimestamp = retentionCutoffTimestamp;
+		this.numberOfRemovedVersions = numberOfRemovedVersions;
+		this.numberOfRemovedCommits = numberOfRemovedCommits;
+		this.reclaimedBytes = reclaimedBytes;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public String getBranchName() {
+		return this.branchName;
+	}
+
+	@Override
+	public long getRetentionCutoffTimestamp() {
+		return this.retentionCutoffTimestamp;
+	}
+
+	@Override
+	public long getNumberOfRemovedVersions() {
+		return this.numberOfRemovedVersions;
+	}
+
+	@Override
+	public long getNumberOfRemovedCommits() {
+		return this.numberOfRemovedCommits;
+	}
+
+	@Override
+	public long getReclaimedBytes() {
+		return this.reclaimedBytes;
+	}
+
+	// =================================================================================================================
+	// TO STRING
+	// =================================================================================================================
+
+	@Override
+	public String toString() {
+		return "HistoryCompactionReport[branch='" + this.branchName + "', cutoff=" + this.retentionCutoffTimestamp
+				+ ", removedVersions=" + this.numberOfRemovedVersions + ", removedCommits="
+				+ this.numberOfRemovedCommits + ", reclaimedBytes=" + this.reclaimedBytes + "]";
+	}
+
+}
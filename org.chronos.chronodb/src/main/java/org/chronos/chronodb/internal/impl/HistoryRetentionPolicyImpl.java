@@ -0,0 +1,87 @@
+package org.chronos.chronodb.internal.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
+
+public class HistoryRetentionPolicyImpl implements HistoryRetentionPolicy {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final long retentionPeriod;
+	private final long thinningInterval;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public HistoryRetentionPolicyImpl(final long retentionPeriod, final long thinningInterval) {
+		checkArgument(retentionPeriod >= 0,
+				"Precondition violation - argument 'retentionPeriod' must not be negative!");
+		checkArgument(thinningInterval >= 0,
+				"Precondition violation - argument 'thinningInterval' must not be negative!");
+		this.retentionPeriod = retentionPeriod;
+		this.thinningInterval = thinningInterval;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public long getRetentionPeriod() {
+		return this.retentionPeriod;
+	}
+
+	@Override
+	public long getThinningInterval() {
+		return this.thinningInterval;
+	}
+
+	// =================================================================================================================
+	// HASH CODE & EQUALS
+	// =================================================================================================================
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		result = prime * result + (int) (this.retentionPeriod ^ this.retentionPeriod >>> 32);
+		result = prime * result + (int) (this.thinningInterval ^ this.thinningInterval >>> 32);
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (this.getClass() != obj.getClass()) {
+			return false;
+		}
+		HistoryRetentionPolicyImpl other = (HistoryRetentionPolicyImpl) obj;
+		if (this.retentionPeriod != other.retentionPeriod) {
+			return false;
+		}
+		if (this.thinningInterval != other.thinningInterval) {
+			return false;
+		}
+		return true;
+	}
+
+	// =================================================================================================================
+	// TO STRING
+	// =================================================================================================================
+
+	@Override
+	public String toString() {
+		return "HistoryRetentionPolicy[retentionPeriod=" + this.retentionPeriod + "ms, thinningInterval="
+				+ this.thinningInterval + "ms]";
+	}
+
+}
@@ -2,8 +2,11 @@ package org.chronos.chronodb.internal.impl.builder.database;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.concurrent.TimeUnit;
+
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
 import org.chronos.chronodb.api.builder.database.ChronoDBFinalizableBuilder;
 import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
@@ -60,6 +63,20 @@ public abstract class AbstractChronoDBFinalizableBuilder<SELF extends ChronoDBFi
 		return (SELF) this;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public SELF withScheduledHistoryCompaction(final HistoryRetentionPolicy policy, final long interval,
+			final TimeUnit unit) {
+		checkNotNull(policy, "Precondition violation - argument 'policy' must not be NULL!");
+		checkArgument(interval > 0, "Precondition violation - argument 'interval' must be greater than zero!");
+		checkNotNull(unit, "Precondition violation - argument 'unit' must not be NULL!");
+		this.withProperty(ChronoDBConfiguration.HISTORY_RETENTION_PERIOD, String.valueOf(policy.getRetentionPeriod()));
+		this.withProperty(ChronoDBConfiguration.HISTORY_RETENTION_THINNING_INTERVAL,
+				String.valueOf(policy.getThinningInterval()));
+		this.withProperty(ChronoDBConfiguration.HISTORY_COMPACTION_INTERVAL, String.valueOf(unit.toMillis(interval)));
+		return (SELF) this;
+	}
+
 	@Override
 	public ChronoDB build() {
 		return ChronoDBFactoryInternal.INSTANCE.create(this.getConfiguration());
@@ -6,6 +6,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.BranchManager;
@@ -14,8 +23,12 @@ import org.chronos.chronodb.api.exceptions.ChronoDBBranchingException;
 import org.chronos.chronodb.internal.api.BranchInternal;
 import org.chronos.chronodb.internal.api.BranchManagerInternal;
 import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.impl.IBranchMetadata;
+import org.chronos.common.autolock.AutoLock;
+import org.chronos.common.logging.ChronoLogger;
 
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 public abstract class AbstractBranchManager implements BranchManager, BranchManagerInternal {
@@ -26,6 +39,12 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
 
 	protected final ChronoDBInternal owningDb;
 
+	private final ConcurrentMap<String, Future<?>> pendingBranchDeletions = Maps.newConcurrentMap();
+	/** Lazily initialized; use {@link #getBranchDeletionExecutor()} to access it. */
+	private ThreadPoolExecutor branchDeletionExecutor;
+	/** Lazily initialized; use {@link #getKeyPresenceFilterBuildExecutor()} to access it. */
+	private ThreadPoolExecutor keyPresenceFilterBuildExecutor;
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -85,6 +104,7 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
 			directoryName = UUID.randomUUID().toString().replaceAll("-", "_");
 		}
 		IBranchMetadata metadata = IBranchMetadata.create(newBranchName, parentName, branchingTimestamp, directoryName);
+		this.awaitPendingBranchDeletion(newBranchName);
 		return this.createBranch(metadata);
 	}
 
@@ -111,6 +131,45 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
 		return Collections.unmodifiableSet(resultSet);
 	}
 
+	@Override
+	public boolean isBranchMaterializationSupported() {
+		return true;
+	}
+
+	@Override
+	public void materializeBranch(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER.equals(branchName) == false,
+				"Precondition violation - argument 'branchName' must not refer to the master branch!");
+		this.assertBranchNameExists(branchName, true);
+		this.getBranchInternal(branchName).getTemporalKeyValueStore().performMaterialization();
+	}
+
+	@Override
+	public void deleteBranch(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		if (ChronoDBConstants.MASTER_BRANCH_IDENTIFIER.equals(branchName)) {
+			throw new ChronoDBBranchingException("The master branch cannot be deleted!");
+		}
+		try (AutoLock lock = this.owningDb.lockExclusive()) {
+			this.assertBranchNameExists(branchName, true);
+			Set<String> childBranchNames = this.getBranches().stream()
+					.filter(branch -> branch.getOrigin() != null && branchName.equals(branch.getOrigin().getName()))
+					.map(Branch::getName).collect(Collectors.toSet());
+			if (childBranchNames.isEmpty() == false) {
+				throw new ChronoDBBranchingException("Cannot delete branch '" + branchName
+						+ "', because it is the origin of the following branches: " + childBranchNames
+						+ ". Please delete those branches first.");
+			}
+			BranchInternal branch = this.getBranchInternal(branchName);
+			this.deleteIndexDocuments(branch);
+			this.deleteBranchMetadata(branchName);
+			// the cache is keyed by branch name; a new branch with the same name must not see stale entries
+			this.owningDb.getCache().clear();
+			this.scheduleBranchContentDeletion(branch);
+		}
+	}
+
 	// =====================================================================================================================
 	// INTERNAL API
 	// =====================================================================================================================
@@ -130,10 +189,33 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
 						"Attempted to create branch '" + branchMetadata.getName() + "' on parent '"
 								+ branchMetadata.getParentName() + "', but the parent branch does not exist!");
 			}
+			this.awaitPendingBranchDeletion(branchMetadata.getName());
 			this.createBranch(branchMetadata);
 		}
 	}
 
+	@Override
+	public void awaitPendingBranchDeletions() {
+		for (String branchName : Sets.newHashSet(this.pendingBranchDeletions.keySet())) {
+			this.awaitPendingBranchDeletion(branchName);
+		}
+	}
+
+	@Override
+	public synchronized Executor getKeyPresenceFilterBuildExecutor() {
+		if (this.keyPresenceFilterBuildExecutor == null) {
+			// a single daemon thread which terminates when it has been idle for a while
+			this.keyPresenceFilterBuildExecutor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "ChronoDB Key Presence Filter Builder");
+						thread.setDaemon(true);
+						return thread;
+					});
+			this.keyPresenceFilterBuildExecutor.allowCoreThreadTimeOut(true);
+		}
+		return this.keyPresenceFilterBuildExecutor;
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
@@ -156,11 +238,96 @@ public abstract class AbstractBranchManager implements BranchManager, BranchMana
 		}
 	}
 
+	/**
+	 * Deletes all secondary index documents which belong to the given branch.
+	 *
+	 * <p>
+	 * Invoked by {@link #deleteBranch(String)} while holding the exclusive lock on the database. Backends which store
+	 * their index documents alongside the branch contents may override this method to do nothing.
+	 *
+	 * @param branch
+	 *            The branch which is about to be deleted. Must not be <code>null</code>.
+	 */
+	protected void deleteIndexDocuments(final BranchInternal branch) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		this.owningDb.getIndexManager().rollback(branch, 0);
+	}
+
+	/**
+	 * Blocks until the asynchronous deletion of the contents of the branch with the given name has been completed.
+	 *
+	 * <p>
+	 * If there is no pending deletion for the given branch, this method returns immediately.
+	 *
+	 * @param branchName
+	 *            The name of the branch to wait for. Must not be <code>null</code>.
+	 */
+	protected void awaitPendingBranchDeletion(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		Future<?> future = this.pendingBranchDeletions.get(branchName);
+		if (future == null) {
+			return;
+		}
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ChronoDBBranchingException(
+					"Interrupted while waiting for the deletion of branch '" + branchName + "' to complete!", e);
+		} catch (ExecutionException e) {
+			throw new ChronoDBBranchingException(
+					"Failed to wait for the deletion of branch '" + branchName + "'! See root cause for details.", e);
+		}
+	}
+
+	private void scheduleBranchContentDeletion(final BranchInternal branch) {
+		String branchName = branch.getName();
+		TemporalKeyValueStore tkvs = branch.getTemporalKeyValueStore();
+		// note: the deletion job must not acquire any database locks, otherwise it may deadlock with close()
+		FutureTask<Void> task = new FutureTask<>(() -> {
+			try {
+				tkvs.drop();
+			} catch (Exception e) {
+				ChronoLogger.logError("Failed to reclaim the storage space of deleted branch '" + branchName + "'!", e);
+			} finally {
+				this.pendingBranchDeletions.remove(branchName);
+			}
+		}, null);
+		this.pendingBranchDeletions.put(branchName, task);
+		this.getBranchDeletionExecutor().execute(task);
+	}
+
+	private synchronized ThreadPoolExecutor getBranchDeletionExecutor() {
+		if (this.branchDeletionExecutor == null) {
+			// a single daemon thread which terminates when it has been idle for a while
+			this.branchDeletionExecutor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "ChronoDB Branch Deletion");
+						thread.setDaemon(true);
+						return thread;
+					});
+			this.branchDeletionExecutor.allowCoreThreadTimeOut(true);
+		}
+		return this.branchDeletionExecutor;
+	}
+
 	// =====================================================================================================================
 	// ABSTRACT METHOD DECLARATIONS
 	// =====================================================================================================================
 
 	protected abstract BranchInternal createBranch(IBranchMetadata metadata);
 
+	/**
+	 * Removes the branch with the given name from the branch metadata, both in memory and in the persistent store.
+	 *
+	 * <p>
+	 * After this method returns, the branch must no longer be reported by {@link #getBranchNames()}. The contents of the
+	 * branch itself are deleted separately.
+	 *
+	 * @param branchName
+	 *            The name of the branch to remove. Must not be <code>null</code>.
+	 */
+	protected abstract void deleteBranchMetadata(String branchName);
+
 	protected abstract BranchInternal getBranchInternal(final String name);
 }
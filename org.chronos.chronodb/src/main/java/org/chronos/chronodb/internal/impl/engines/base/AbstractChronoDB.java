@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -17,6 +19,8 @@ import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.DumpOption;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
+import org.chronos.chronodb.api.MaintenanceManager;
 import org.chronos.chronodb.api.builder.transaction.ChronoDBTransactionBuilder;
 import org.chronos.chronodb.api.dump.ChronoDBDumpFormat;
 import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
@@ -38,6 +42,7 @@ import org.chronos.chronodb.internal.impl.dump.ChronoDBDumpUtil;
 import org.chronos.chronodb.internal.impl.dump.CommitMetadataMap;
 import org.chronos.chronodb.internal.impl.dump.DumpOptions;
 import org.chronos.chronodb.internal.util.ThreadBound;
+import org.chronos.chronodb.internal.util.concurrent.SnapshotReadGate;
 import org.chronos.common.autolock.AutoLock;
 import org.chronos.common.logging.ChronoLogger;
 import org.chronos.common.version.ChronosVersion;
@@ -56,6 +61,7 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 
 	private final ThreadBound<AutoLock> exclusiveLockHolder;
 	private final ThreadBound<AutoLock> nonExclusiveLockHolder;
+	private final SnapshotReadGate snapshotReadGate;
 
 	private boolean closed = false;
 
@@ -65,6 +71,7 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		this.dbLock = new ReentrantReadWriteLock(false);
 		this.exclusiveLockHolder = ThreadBound.createWeakReference();
 		this.nonExclusiveLockHolder = ThreadBound.createWeakReference();
+		this.snapshotReadGate = new SnapshotReadGate();
 		this.shutdownHooks = Collections.synchronizedSet(Sets.newHashSet());
 	}
 
@@ -81,6 +88,25 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 			TemporalKeyValueStore tkvs = ((BranchInternal) branch).getTemporalKeyValueStore();
 			tkvs.performStartupRecoveryIfRequired();
 		}
+		// start the scheduled history compaction (if any)
+		this.scheduleHistoryCompactionIfConfigured();
+	}
+
+	private void scheduleHistoryCompactionIfConfigured() {
+		HistoryRetentionPolicy policy = this.getConfiguration().getHistoryRetentionPolicy();
+		if (policy == null) {
+			return;
+		}
+		MaintenanceManager maintenanceManager = this.getMaintenanceManager();
+		if (maintenanceManager.isHistoryCompactionSupported() == false) {
+			ChronoLogger.logWarning("Configuration issue: the parameter '"
+					+ ChronoDBConfiguration.HISTORY_RETENTION_PERIOD
+					+ "' is ignored, because this backend does not support history compaction.");
+			return;
+		}
+		ScheduledFuture<?> job = maintenanceManager.scheduleHistoryCompaction(policy,
+				this.getConfiguration().getHistoryCompactionInterval(), TimeUnit.MILLISECONDS);
+		this.addShutdownHook(() -> job.cancel(false));
 	}
 
 	// =================================================================================================================
@@ -107,10 +133,15 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 			return;
 		}
 		try (AutoLock lock = this.lockExclusive()) {
-			for (ChronoDBShutdownHook hook : this.shutdownHooks) {
-				hook.onShutdown();
+			// the backends must not be closed while deleted branches are still being cleaned up
+			this.getBranchManager().awaitPendingBranchDeletions();
+			// lock-free snapshot reads do not hold the lock above; wait for them to complete as well
+			try (AutoLock drain = this.snapshotReadGate.drain()) {
+				for (ChronoDBShutdownHook hook : this.shutdownHooks) {
+					hook.onShutdown();
+				}
+				this.closed = true;
 			}
-			this.closed = true;
 		}
 	}
 
@@ -262,6 +293,11 @@ public abstract class AbstractChronoDB implements ChronoDB, ChronoDBInternal {
 		return lockHolder;
 	}
 
+	@Override
+	public SnapshotReadGate getSnapshotReadGate() {
+		return this.snapshotReadGate;
+	}
+
 	// =================================================================================================================
 	// MISCELLANEOUS
 	// =================================================================================================================
@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.*;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
@@ -15,6 +16,8 @@ import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.SerializationManager;
 import org.chronos.chronodb.internal.api.CommitMetadataStore;
 
+import com.google.common.collect.Sets;
+
 public abstract class AbstractCommitMetadataStore implements CommitMetadataStore {
 
 	private final ChronoDB owningDB;
@@ -95,6 +98,44 @@ public abstract class AbstractCommitMetadataStore implements CommitMetadataStore
 		}
 	}
 
+	@Override
+	public long purge(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		if (commitTimestamps.isEmpty()) {
+			return 0;
+		}
+		this.lock.writeLock().lock();
+		try {
+			Set<Long> existingTimestamps = Sets.newHashSet();
+			long bytes = 0;
+			for (Long timestamp : commitTimestamps) {
+				byte[] serializedValue = this.getInternal(timestamp);
+				if (serializedValue == null) {
+					// there is no commit at this timestamp
+					continue;
+				}
+				existingTimestamps.add(timestamp);
+				bytes += Long.BYTES + serializedValue.length;
+			}
+			if (existingTimestamps.isEmpty() == false) {
+				this.purgeInternal(existingTimestamps);
+			}
+			return bytes;
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void drop() {
+		this.lock.writeLock().lock();
+		try {
+			this.dropInternal();
+		} finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
 	@Override
 	public Branch getOwningBranch() {
 		return this.owningBranch;
@@ -158,6 +199,10 @@ public abstract class AbstractCommitMetadataStore implements CommitMetadataStore
 
 	protected abstract void rollbackToTimestampInternal(long timestamp);
 
+	protected abstract void purgeInternal(Set<Long> commitTimestamps);
+
+	protected abstract void dropInternal();
+
 	// =================================================================================================================
 	// INNER CLASSES
 	// =================================================================================================================
@@ -138,6 +138,29 @@ public abstract class AbstractDocumentBasedIndexManagerBackend implements Docume
 		this.rollbackInternal(timestamp, branches, keys);
 	}
 
+	@Override
+	public void deleteTerminatedDocuments(final String branch, final Set<String> keyspaces, final long timestamp) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		// every document has been added at or after timestamp zero, so this gives us all documents of the branch
+		Set<ChronoIndexDocument> documents = this.getDocumentsTouchedAtOrAfterTimestamp(0,
+				Collections.singleton(branch));
+		ChronoIndexModifications indexModifications = ChronoIndexModifications.create();
+		for (ChronoIndexDocument document : documents) {
+			if (branch.equals(document.getBranch()) == false || keyspaces.contains(document.getKeyspace()) == false) {
+				continue;
+			}
+			long validTo = document.getValidToTimestamp();
+			if (validTo < Long.MAX_VALUE && validTo <= timestamp) {
+				indexModifications.addDocumentDeletion(document);
+			}
+		}
+		if (indexModifications.isEmpty() == false) {
+			this.applyModifications(indexModifications);
+		}
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
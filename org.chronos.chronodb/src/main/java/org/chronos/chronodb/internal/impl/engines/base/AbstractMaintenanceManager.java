@@ -0,0 +1,188 @@
+package org.chronos.chronodb.internal.impl.engines.base;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.HistoryCompactionReport;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
+import org.chronos.chronodb.api.MaintenanceManager;
+import org.chronos.chronodb.internal.api.BranchInternal;
+import org.chronos.chronodb.internal.api.ChronoDBInternal;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.common.logging.ChronoLogger;
+
+public abstract class AbstractMaintenanceManager implements MaintenanceManager {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	protected final ChronoDBInternal owningDB;
+
+	/** Lazily initialized; use {@link #getHistoryCompactionExecutor()} to access it. */
+	private ThreadPoolExecutor historyCompactionExecutor;
+
+	/** Lazily initialized; use {@link #getHistoryCompactionScheduler()} to access it. */
+	private ScheduledThreadPoolExecutor historyCompactionScheduler;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	protected AbstractMaintenanceManager(final ChronoDBInternal owningDB) {
+		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
+		this.owningDB = owningDB;
+	}
+
+	// =================================================================================================================
+	// HISTORY COMPACTION
+	// =================================================================================================================
+
+	@Override
+	public boolean isHistoryCompactionSupported() {
+		return true;
+	}
+
+	@Override
+	public HistoryCompactionReport performHistoryCompaction(final String branchName,
+			final HistoryRetentionPolicy policy) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(policy, "Precondition violation - argument 'policy' must not be NULL!");
+		TemporalKeyValueStore tkvs = this.getTemporalKeyValueStore(branchName);
+		return this.performHistoryCompaction(tkvs, tkvs.getKeyspaces(tkvs.getNow()), policy);
+	}
+
+	@Override
+	public HistoryCompactionReport performHistoryCompaction(final String branchName, final String keyspace,
+			final HistoryRetentionPolicy policy) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(policy, "Precondition violation - argument 'policy' must not be NULL!");
+		TemporalKeyValueStore tkvs = this.getTemporalKeyValueStore(branchName);
+		return this.performHistoryCompaction(tkvs, Collections.singleton(keyspace), policy);
+	}
+
+	@Override
+	public Future<HistoryCompactionReport> performHistoryCompactionAsync(final String branchName,
+			final HistoryRetentionPolicy policy) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(policy, "Precondition violation - argument 'policy' must not be NULL!");
+		// fail fast if the branch does not exist
+		this.getTemporalKeyValueStore(branchName);
+		return this.getHistoryCompactionExecutor().submit(() -> this.performHistoryCompaction(branchName, policy));
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleHistoryCompaction(final HistoryRetentionPolicy policy, final long interval,
+			final TimeUnit unit) {
+		checkNotNull(policy, "Precondition violation - argument 'policy' must not be NULL!");
+		checkArgument(interval > 0, "Precondition violation - argument 'interval' must be greater than zero!");
+		checkNotNull(unit, "Precondition violation - argument 'unit' must not be NULL!");
+		return this.getHistoryCompactionScheduler().scheduleWithFixedDelay(() -> {
+			if (this.owningDB.isClosed()) {
+				// an exception suppresses all subsequent runs of the job
+				throw new IllegalStateException("The database has been closed, the history compaction job ends.");
+			}
+			this.performScheduledHistoryCompaction(policy);
+		}, interval, interval, unit);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleHistoryCompaction(final String branchName, final String keyspace,
+			final HistoryRetentionPolicy policy, final long interval, final TimeUnit unit) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(policy, "Precondition violation - argument 'policy' must not be NULL!");
+		checkArgument(interval > 0, "Precondition violation - argument 'interval' must be greater than zero!");
+		checkNotNull(unit, "Precondition violation - argument 'unit' must not be NULL!");
+		// fail fast if the branch does not exist
+		this.getTemporalKeyValueStore(branchName);
+		return this.getHistoryCompactionScheduler().scheduleWithFixedDelay(() -> {
+			if (this.owningDB.isClosed()) {
+				// an exception suppresses all subsequent runs of the job
+				throw new IllegalStateException("The database has been closed, the history compaction job ends.");
+			}
+			try {
+				HistoryCompactionReport report = this.performHistoryCompaction(branchName, keyspace, policy);
+				ChronoLogger.logDebug("Scheduled history compaction: " + report);
+			} catch (Exception e) {
+				if (this.owningDB.isClosed() == false) {
+					ChronoLogger.logWarning("Scheduled history compaction of keyspace '" + keyspace + "' in branch '"
+							+ branchName + "' failed: " + e);
+				}
+			}
+		}, interval, interval, unit);
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private HistoryCompactionReport performHistoryCompaction(final TemporalKeyValueStore tkvs,
+			final Set<String> keyspaces, final HistoryRetentionPolicy policy) {
+		// the cutoff is computed right before the compaction starts, such that queued jobs use the current time
+		long retentionCutoff = Math.max(0, System.currentTimeMillis() - policy.getRetentionPeriod());
+		return tkvs.performHistoryCompaction(keyspaces, retentionCutoff, policy.getThinningInterval());
+	}
+
+	private void performScheduledHistoryCompaction(final HistoryRetentionPolicy policy) {
+		for (String branchName : this.owningDB.getBranchManager().getBranchNames()) {
+			try {
+				HistoryCompactionReport report = this.performHistoryCompaction(branchName, policy);
+				ChronoLogger.logDebug("Scheduled history compaction: " + report);
+			} catch (Exception e) {
+				if (this.owningDB.isClosed()) {
+					return;
+				}
+				ChronoLogger.logWarning("Scheduled history compaction of branch '" + branchName + "' failed: " + e);
+			}
+		}
+	}
+
+	private TemporalKeyValueStore getTemporalKeyValueStore(final String branchName) {
+		BranchInternal branch = (BranchInternal) this.owningDB.getBranchManager().getBranch(branchName);
+		if (branch == null) {
+			throw new IllegalArgumentException(
+					"There is no branch named '" + branchName + "', cannot perform history compaction!");
+		}
+		return branch.getTemporalKeyValueStore();
+	}
+
+	private synchronized ThreadPoolExecutor getHistoryCompactionExecutor() {
+		if (this.historyCompactionExecutor == null) {
+			// a single daemon thread which terminates when it has been idle for a while
+			this.historyCompactionExecutor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), runnable -> {
+						Thread thread = new Thread(runnable, "ChronoDB History Compaction");
+						thread.setDaemon(true);
+						return thread;
+					});
+			this.historyCompactionExecutor.allowCoreThreadTimeOut(true);
+		}
+		return this.historyCompactionExecutor;
+	}
+
+	private synchronized ScheduledThreadPoolExecutor getHistoryCompactionScheduler() {
+		if (this.historyCompactionScheduler == null) {
+			// a single daemon thread which terminates when no job has been scheduled for a while
+			this.historyCompactionScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+				Thread thread = new Thread(runnable, "ChronoDB Scheduled History Compaction");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.historyCompactionScheduler.setKeepAliveTime(10, TimeUnit.SECONDS);
+			this.historyCompactionScheduler.allowCoreThreadTimeOut(true);
+			this.historyCompactionScheduler.setRemoveOnCancelPolicy(true);
+		}
+		return this.historyCompactionScheduler;
+	}
+
+}
@@ -2,22 +2,28 @@ package org.chronos.chronodb.internal.impl.engines.base;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChangeSetEntry;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
+import org.chronos.chronodb.api.HistoryCompactionReport;
 import org.chronos.chronodb.api.IndexManager;
 import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.PutOption;
@@ -27,6 +33,7 @@ import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
 import org.chronos.chronodb.api.exceptions.ChronoDBCommitException;
 import org.chronos.chronodb.api.exceptions.InvalidTransactionBranchException;
 import org.chronos.chronodb.api.exceptions.InvalidTransactionTimestampException;
+import org.chronos.chronodb.api.indexing.Indexer;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.api.key.QualifiedKey;
 import org.chronos.chronodb.api.key.TemporalKey;
@@ -40,6 +47,7 @@ import org.chronos.chronodb.internal.api.cache.CacheGetResult;
 import org.chronos.chronodb.internal.api.cache.ChronoDBCache;
 import org.chronos.chronodb.internal.api.stream.ChronoDBEntry;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+import org.chronos.chronodb.internal.impl.HistoryCompactionReportImpl;
 import org.chronos.chronodb.internal.impl.conflict.AtomicConflictImpl;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
@@ -51,14 +59,31 @@ import org.chronos.common.serialization.KryoManager;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Objects;
+import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 
 public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStoreBase implements TemporalKeyValueStore {
 
+	// =================================================================================================================
+	// CONSTANTS
+	// =================================================================================================================
+
+	/**
+	 * The number of entries which are copied at once (under the branch lock) during branch materialization.
+	 */
+	private static final int MATERIALIZATION_BATCH_SIZE = 1000;
+
+	/**
+	 * The number of keys which are compacted at once (under the branch lock) during history compaction.
+	 */
+	private static final int COMPACTION_BATCH_SIZE = 1000;
+
 	// =================================================================================================================
 	// FIELDS
 	// =================================================================================================================
@@ -81,7 +106,29 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 
 	private final BranchInternal owningBranch;
 	private final ChronoDBInternal owningDB;
-	protected final Map<String, TemporalDataMatrix> keyspaceToMatrix = Maps.newHashMap();
+	protected final Map<String, TemporalDataMatrix> keyspaceToMatrix = Maps.newConcurrentMap();
+
+	/**
+	 * Keeps track of the keys which have been written in this branch. Allows read operations to skip the matrices of
+	 * this branch for keys which are only present in the origin branch.
+	 */
+	private final KeyPresenceFilter keyPresenceFilter;
+
+	/**
+	 * The keyspaces in which this (child) branch contains a full copy of the history of its origin branch, up to the
+	 * branching timestamp. Read operations on these keyspaces never need to consult the origin branch.
+	 *
+	 * <p>
+	 * This is an immutable snapshot which is replaced as a whole on every change. It is loaded lazily from the backend
+	 * on first access.
+	 */
+	private volatile Set<String> materializedKeyspaces = null;
+
+	/**
+	 * This lock prevents concurrent materializations of this branch. Read operations and commits do not need to
+	 * acquire this lock.
+	 */
+	private final Lock materializationLock = new ReentrantLock(true);
 
 	/**
 	 * This lock is used to protect incremental commit data from illegal concurrent access.
@@ -113,6 +160,9 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		this.owningDB = owningDB;
 		this.owningBranch = owningBranch;
 		this.owningBranch.setTemporalKeyValueStore(this);
+		// the branch manager may not be available yet, so it is resolved when the first build is requested
+		this.keyPresenceFilter = new KeyPresenceFilter(this,
+				task -> owningDB.getBranchManager().getKeyPresenceFilterBuildExecutor().execute(task));
 	}
 
 	// =================================================================================================================
@@ -206,6 +256,8 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 				// transaction is open, we must not read after the transaction start
 				now = Math.min(now, walToken.getNowTimestampBeforeCommit());
 			}
+			// no commit can be in progress while we hold the lock, so all data up to 'now' is stable
+			this.publishNow(now);
 			return now;
 		}
 	}
@@ -229,6 +281,11 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		// 3) Commit Lock
 		// Reason: This is not a read-write lock, this is a plain old lock. It prevents concurrent writes on the
 		// same branch. Read operations never acquire this lock.
+		//
+		// Before acquiring any of these locks, we perform the expensive analysis of the change set (serialization,
+		// fetching of old values, duplicate elimination) in an optimistic pre-commit phase. Inside the locks, we
+		// only need to validate that the prepared data is still up-to-date.
+		PreparedCommit preparedCommit = this.prepareCommit(tx);
 
 		try (AutoLock lock = this.lockBranchExclusive()) {
 			this.commitLock.lock();
@@ -253,7 +310,15 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 					time = this.waitForNextValidCommitTimestamp();
 				}
 
-				ChangeSet changeSet = this.analyzeChangeSet(tx, tx, time);
+				ChangeSet changeSet = null;
+				if (preparedCommit != null && this.isIncrementalCommitProcessOngoing() == false
+						&& this.isPreparedCommitValid(preparedCommit)) {
+					// none of our keys has been modified since the pre-commit phase, use the prepared data
+					changeSet = preparedCommit.toChangeSet(this.getOwningBranch(), time);
+				} else {
+					// the prepared data is unavailable or outdated, analyze the change set within the lock
+					changeSet = this.analyzeChangeSet(tx, tx, time);
+				}
 
 				if (this.isIncrementalCommitProcessOngoing() == false) {
 					// check that no WAL token exists on disk
@@ -412,7 +477,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 	}
 
 	private Object performGet(final String branchName, final QualifiedKey qKey, final long timestamp) {
-		try (AutoLock lock = this.lockNonExclusive()) {
+		try (AutoLock lock = this.lockSnapshotRead(timestamp)) {
 			// first, try to find the result in our cache
 			CacheGetResult<Object> cacheGetResult = this.getCache().get(branchName, timestamp, qKey);
 			if (cacheGetResult.isHit()) {
@@ -439,29 +504,65 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		}
 	}
 
+	@Override
+	public Map<String, Object> performGetMultiple(final ChronoDBTransaction tx, final String keyspace,
+			final Collection<String> keys) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		String branchName = tx.getBranchName();
+		long timestamp = tx.getTimestamp();
+		Map<String, Object> resultMap = Maps.newHashMap();
+		try (AutoLock lock = this.lockSnapshotRead(timestamp)) {
+			// visit the keys in ascending order, such that the backend can make use of its key ordering
+			for (String key : Sets.newTreeSet(keys)) {
+				Object value = this.performGet(branchName, QualifiedKey.create(keyspace, key), timestamp);
+				if (value != null) {
+					resultMap.put(key, value);
+				}
+			}
+		}
+		return resultMap;
+	}
+
 	@Override
 	public GetResult<Object> performRangedGet(final ChronoDBTransaction tx, final QualifiedKey key) {
-		try (AutoLock lock = this.lockNonExclusive()) {
-			String keyspace = key.getKeyspace();
-			TemporalDataMatrix matrix = this.getMatrix(keyspace);
+		return this.performRangedGetInternal(tx.getBranchName(), key, tx.getTimestamp());
+	}
+
+	protected GetResult<Object> performRangedGetInternal(final String branchName, final QualifiedKey qKey,
+			final long timestamp) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkNotNull(qKey, "Precondition violation - argument 'qKey' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		try (AutoLock lock = this.lockSnapshotRead(timestamp)) {
+			// note: the stamp needs to be obtained before accessing the matrix
+			long cacheStamp = this.getSnapshotReadCacheStamp();
+			boolean selfContained = this.isKeyspaceSelfContained(qKey.getKeyspace());
+			TemporalDataMatrix matrix = this.getMatrix(qKey.getKeyspace());
 			if (matrix == null) {
-				if (this.isMasterBranchTKVS()) {
+				if (selfContained) {
 					// matrix doesn't exist, so the get returns null by definition.
 					// In case of the ranged get, we return a result with a null value, and an
 					// unlimited range.
-					return GetResult.createNoValueResult(key, Period.eternal());
+					return GetResult.createNoValueResult(qKey, Period.eternal());
 				} else {
 					// matrix doesn't exist in the child branch, re-route the request to the parent
-					ChronoDBTransaction tempTx = this.createOriginBranchTx(tx.getTimestamp());
-					return this.getOriginBranchTKVS().performRangedGet(tempTx, key);
+					return this.performRangedGetInOriginBranch(branchName, qKey, timestamp, Period.eternal(),
+							cacheStamp);
 				}
 			}
+			if (selfContained == false && this.keyPresenceFilter.mightContain(matrix, qKey.getKey()) == false) {
+				// the key was never written in our branch; skip the matrix and ask the origin branch directly
+				return this.performRangedGetInOriginBranch(branchName, qKey, timestamp, Period.eternal(),
+						cacheStamp);
+			}
 			// execute the query on the backend
-			GetResult<byte[]> rangedResult = matrix.get(tx.getTimestamp(), key.getKey());
-			if (rangedResult.isHit() == false && this.isMasterBranchTKVS() == false) {
+			GetResult<byte[]> rangedResult = matrix.get(timestamp, qKey.getKey());
+			if (rangedResult.isHit() == false && selfContained == false) {
 				// we did not find anything in our branch; re-route the request and try to find it in the origin branch
-				ChronoDBTransaction tempTx = this.createOriginBranchTx(tx.getTimestamp());
-				return this.getOriginBranchTKVS().performRangedGet(tempTx, key);
+				return this.performRangedGetInOriginBranch(branchName, qKey, timestamp, rangedResult.getPeriod(),
+						cacheStamp);
 			}
 			// we do have a hit in our branch, so let's process it
 			byte[] serialForm = rangedResult.getValue();
@@ -472,72 +573,52 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 			} else {
 				deserializedValue = this.getOwningDB().getSerializationManager().deserialize(serialForm);
 			}
-			GetResult<Object> result = GetResult.create(key, deserializedValue, range);
+			GetResult<Object> result = GetResult.create(qKey, deserializedValue, range);
 			// cache the result
-			this.getCache().cache(tx.getBranchName(), result);
-			// depending on the configuration, we may need to duplicate the result before returning it
-			if (this.getOwningDB().getConfiguration().isAssumeCachedValuesAreImmutable()) {
-				// we may directly return the cached instance, as we can assume it to be immutable
-				return result;
-			} else {
-				// we have to return a duplicate of the cached element, as we cannot assume it to be immutable,
-				// and the client may change the returned element. If we did not duplicate it, changes by the
-				// client to the returned element would modify our cache state.
-				Object duplicatedValue = KryoManager.deepCopy(deserializedValue);
-				return GetResult.create(key, duplicatedValue, range);
-			}
+			this.cacheGetResult(branchName, result, cacheStamp);
+			return this.duplicateIfRequired(result);
 		}
 	}
 
-	protected GetResult<Object> performRangedGetInternal(final String branchName, final QualifiedKey qKey,
+	@Override
+	public GetResult<byte[]> performRangedGetBinary(final ChronoDBTransaction tx, final QualifiedKey key) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		return this.performRangedGetBinaryInternal(tx.getBranchName(), key, tx.getTimestamp());
+	}
+
+	protected GetResult<byte[]> performRangedGetBinaryInternal(final String branchName, final QualifiedKey qKey,
 			final long timestamp) {
-		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
-		checkNotNull(qKey, "Precondition violation - argument 'qKey' must not be NULL!");
-		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
-		try (AutoLock lock = this.lockNonExclusive()) {
+		try (AutoLock lock = this.lockSnapshotRead(timestamp)) {
+			// note: the stamp needs to be obtained before accessing the matrix
+			long cacheStamp = this.getSnapshotReadCacheStamp();
+			boolean selfContained = this.isKeyspaceSelfContained(qKey.getKeyspace());
 			TemporalDataMatrix matrix = this.getMatrix(qKey.getKeyspace());
 			if (matrix == null) {
-				if (this.isMasterBranchTKVS()) {
-					// matrix doesn't exist, so the get returns null by definition.
-					// In case of the ranged get, we return a result with a null value, and an
-					// unlimited range.
+				if (selfContained) {
+					// matrix doesn't exist, so the get returns null by definition
 					return GetResult.createNoValueResult(qKey, Period.eternal());
 				} else {
 					// matrix doesn't exist in the child branch, re-route the request to the parent
-					ChronoDBTransaction tempTx = this.createOriginBranchTx(timestamp);
-					return this.getOriginBranchTKVS().performRangedGet(tempTx, qKey);
+					return this.getOriginBranchTKVSInternal().performRangedGetBinaryInternal(
+							this.owningBranch.getOrigin().getName(), qKey, this.getOriginBranchTimestamp(timestamp));
 				}
 			}
-			// execute the query on the backend
-			GetResult<byte[]> rangedResult = matrix.get(timestamp, qKey.getKey());
-			if (rangedResult.isHit() == false && this.isMasterBranchTKVS() == false) {
+			GetResult<byte[]> rangedResult = null;
+			if (selfContained || this.keyPresenceFilter.mightContain(matrix, qKey.getKey())) {
+				rangedResult = matrix.get(timestamp, qKey.getKey());
+			}
+			if ((rangedResult == null || rangedResult.isHit() == false) && selfContained == false) {
 				// we did not find anything in our branch; re-route the request and try to find it in the origin branch
-				ChronoDBTransaction tempTx = this.createOriginBranchTx(timestamp);
-				return this.getOriginBranchTKVS().performRangedGet(tempTx, qKey);
+				return this.getOriginBranchTKVSInternal().performRangedGetBinaryInternal(
+						this.owningBranch.getOrigin().getName(), qKey, this.getOriginBranchTimestamp(timestamp));
 			}
-			// we do have a hit in our branch, so let's process it
 			byte[] serialForm = rangedResult.getValue();
-			Object deserializedValue = null;
-			Period range = rangedResult.getPeriod();
 			if (serialForm == null || serialForm.length <= 0) {
-				deserializedValue = null;
-			} else {
-				deserializedValue = this.getOwningDB().getSerializationManager().deserialize(serialForm);
-			}
-			GetResult<Object> result = GetResult.create(qKey, deserializedValue, range);
-			// cache the result
-			this.getCache().cache(branchName, result);
-			// depending on the configuration, we may need to duplicate the result before returning it
-			if (this.getOwningDB().getConfiguration().isAssumeCachedValuesAreImmutable()) {
-				// we may directly return the cached instance, as we can assume it to be immutable
-				return result;
-			} else {
-				// we have to return a duplicate of the cached element, as we cannot assume it to be immutable,
-				// and the client may change the returned element. If we did not duplicate it, changes by the
-				// client to the returned element would modify our cache state.
-				Object duplicatedValue = KryoManager.deepCopy(deserializedValue);
-				return GetResult.create(qKey, duplicatedValue, range);
+				// there is no value, so caching the result is cheap (no deserialization required)
+				this.cacheGetResult(branchName, GetResult.create(qKey, null, rangedResult.getPeriod()), cacheStamp);
 			}
+			return rangedResult;
 		}
 	}
 
@@ -547,8 +628,8 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
 		try (AutoLock lock = this.lockNonExclusive()) {
 			TemporalDataMatrix matrix = this.getMatrix(keyspaceName);
-			if (this.getOwningBranch().getOrigin() == null) {
-				// we are master, directly apply changes
+			if (this.isKeyspaceSelfContained(keyspaceName)) {
+				// we are master (or contain the full history of our origin), directly apply changes
 				if (matrix == null) {
 					// keyspace is not present, return the empty set
 					return Sets.newHashSet();
@@ -582,7 +663,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		try (AutoLock lock = this.lockNonExclusive()) {
 			TemporalDataMatrix matrix = this.getMatrix(key.getKeyspace());
 			if (matrix == null) {
-				if (this.isMasterBranchTKVS()) {
+				if (this.isKeyspaceSelfContained(key.getKeyspace())) {
 					// keyspace doesn't exist, history is empty by definition
 					return Collections.emptyIterator();
 				} else {
@@ -591,18 +672,23 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 					return this.getOriginBranchTKVS().performHistory(tempTx, key);
 				}
 			}
-			// the matrix exists in our branch, ask it for the history
-			Iterator<Long> iterator = matrix.history(tx.getTimestamp(), key.getKey());
-			// concatenate the history in the owning branch (if any)
-			if (this.isMasterBranchTKVS() == false) {
-				ChronoDBTransaction tempTx = this.createOriginBranchTx(tx.getTimestamp());
-				Iterator<Long> parentIterator = this.getOriginBranchTKVS().performHistory(tempTx, key);
-				return Iterators.concat(iterator, parentIterator);
-			} else {
-				// we are the master branch and have no origin branch to ask. Our iterator
-				// is therefore the final result.
-				return iterator;
+			if (this.isKeyspaceSelfContained(key.getKeyspace())) {
+				// we are the master branch (or contain the full history of our origin) and do not need
+				// to ask the origin branch. Our iterator is therefore the final result.
+				return matrix.history(tx.getTimestamp(), key.getKey());
+			}
+			ChronoDBTransaction tempTx = this.createOriginBranchTx(tx.getTimestamp());
+			Iterator<Long> parentIterator = this.getOriginBranchTKVS().performHistory(tempTx, key);
+			if (this.keyPresenceFilter.mightContain(matrix, key.getKey()) == false) {
+				// the key was never written in our branch, so the history of the origin branch is complete
+				return parentIterator;
 			}
+			// concatenate the history in our branch with the history in the origin branch. Entries up to the branching
+			// timestamp may have been copied from the origin by an unfinished materialization; we skip them here.
+			long branchingTimestamp = this.owningBranch.getBranchingTimestamp();
+			Iterator<Long> iterator = Iterators.filter(matrix.history(tx.getTimestamp(), key.getKey()),
+					timestamp -> timestamp > branchingTimestamp);
+			return Iterators.concat(iterator, parentIterator);
 		}
 	}
 
@@ -626,7 +712,16 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 			if (matrix == null) {
 				return Collections.emptyIterator();
 			}
-			return matrix.getModificationsBetween(timestampLowerBound, timestampUpperBound);
+			long lowerBound = timestampLowerBound;
+			if (this.isMasterBranchTKVS() == false) {
+				// only report the modifications which were performed in this branch, not the ones which were copied
+				// from the origin branch during materialization
+				lowerBound = Math.max(lowerBound, this.owningBranch.getBranchingTimestamp() + 1);
+				if (lowerBound > timestampUpperBound) {
+					return Collections.emptyIterator();
+				}
+			}
+			return matrix.getModificationsBetween(lowerBound, timestampUpperBound);
 		}
 	}
 
@@ -832,36 +927,444 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 	@Override
 	public void insertEntries(final Set<ChronoDBEntry> entries) {
 		try (AutoLock lock = this.lockBranchExclusive()) {
-			// insertion of entries can (potentially) completely wreck the consistency of our cache.
-			// in order to be safe, we clear it completely.
-			this.getCache().clear();
-			long maxTimestamp = this.getNow();
-			SetMultimap<String, UnqualifiedTemporalEntry> keyspaceToEntries = HashMultimap.create();
-			for (ChronoDBEntry entry : entries) {
-				ChronoIdentifier chronoIdentifier = entry.getIdentifier();
-				String keyspace = chronoIdentifier.getKeyspace();
-				String key = chronoIdentifier.getKey();
-				long timestamp = chronoIdentifier.getTimestamp();
-				byte[] value = entry.getValue();
-				UnqualifiedTemporalKey unqualifiedKey = new UnqualifiedTemporalKey(key, timestamp);
-				UnqualifiedTemporalEntry unqualifiedEntry = new UnqualifiedTemporalEntry(unqualifiedKey, value);
-				keyspaceToEntries.put(keyspace, unqualifiedEntry);
-				maxTimestamp = Math.max(timestamp, maxTimestamp);
-			}
-			for (String keyspace : keyspaceToEntries.keySet()) {
-				Set<UnqualifiedTemporalEntry> entriesToInsert = keyspaceToEntries.get(keyspace);
-				if (entriesToInsert == null || entriesToInsert.isEmpty()) {
+			// inserted entries may change the visible history, so snapshot reads must not see intermediate states
+			try (AutoLock drain = this.drainSnapshotReads()) {
+				// insertion of entries can (potentially) completely wreck the consistency of our cache.
+				// in order to be safe, we clear it completely.
+				this.getCache().clear();
+				long maxTimestamp = this.getNow();
+				SetMultimap<String, UnqualifiedTemporalEntry> keyspaceToEntries = HashMultimap.create();
+				for (ChronoDBEntry entry : entries) {
+					ChronoIdentifier chronoIdentifier = entry.getIdentifier();
+					String keyspace = chronoIdentifier.getKeyspace();
+					String key = chronoIdentifier.getKey();
+					long timestamp = chronoIdentifier.getTimestamp();
+					byte[] value = entry.getValue();
+					UnqualifiedTemporalKey unqualifiedKey = new UnqualifiedTemporalKey(key, timestamp);
+					UnqualifiedTemporalEntry unqualifiedEntry = new UnqualifiedTemporalEntry(unqualifiedKey, value);
+					keyspaceToEntries.put(keyspace, unqualifiedEntry);
+					maxTimestamp = Math.max(timestamp, maxTimestamp);
+				}
+				for (String keyspace : keyspaceToEntries.keySet()) {
+					Set<UnqualifiedTemporalEntry> entriesToInsert = keyspaceToEntries.get(keyspace);
+					if (entriesToInsert == null || entriesToInsert.isEmpty()) {
+						continue;
+					}
+					long minTimestamp = entriesToInsert.stream().mapToLong(entry -> entry.getKey().getTimestamp())
+							.min().orElse(0L);
+					TemporalDataMatrix matrix = this.getOrCreateMatrix(keyspace, minTimestamp);
+					matrix.insertEntries(entriesToInsert);
+					this.keyPresenceFilter.addKeys(keyspace,
+							entriesToInsert.stream().map(entry -> entry.getKey().getKey()).collect(Collectors.toSet()));
+				}
+				if (maxTimestamp > this.getNow()) {
+					this.setNow(maxTimestamp);
+				}
+			}
+		}
+	}
+
+	// =================================================================================================================
+	// MATERIALIZATION
+	// =================================================================================================================
+
+	@Override
+	public void performMaterialization() {
+		checkState(this.isMasterBranchTKVS() == false,
+				"Precondition violation - the master branch has no origin branch and cannot be materialized!");
+		this.materializationLock.lock();
+		try {
+			long branchingTimestamp = this.owningBranch.getBranchingTimestamp();
+			for (String keyspace : this.getOriginBranchTKVS().getKeyspaces(branchingTimestamp)) {
+				if (this.isKeyspaceSelfContained(keyspace)) {
+					// this keyspace has already been materialized
 					continue;
 				}
-				long minTimestamp = entriesToInsert.stream().mapToLong(entry -> entry.getKey().getTimestamp()).min()
-						.orElse(0L);
-				TemporalDataMatrix matrix = this.getOrCreateMatrix(keyspace, minTimestamp);
-				matrix.insertEntries(entriesToInsert);
+				this.materializeKeyspace(keyspace);
 			}
-			if (maxTimestamp > this.getNow()) {
-				this.setNow(maxTimestamp);
+		} finally {
+			this.materializationLock.unlock();
+		}
+	}
+
+	/**
+	 * Checks if this store is able to answer all read requests on the given keyspace without consulting the origin
+	 * branch.
+	 *
+	 * <p>
+	 * This is the case for all keyspaces in the master branch, and for all keyspaces of child branches which have been
+	 * materialized.
+	 *
+	 * @param keyspace
+	 *            The keyspace to check. Must not be <code>null</code>.
+	 *
+	 * @return <code>true</code> if the keyspace is self-contained in this store, otherwise <code>false</code>.
+	 */
+	protected boolean isKeyspaceSelfContained(final String keyspace) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		if (this.isMasterBranchTKVS()) {
+			return true;
+		}
+		return this.getMaterializedKeyspaces().contains(keyspace);
+	}
+
+	private Set<String> getMaterializedKeyspaces() {
+		Set<String> keyspaces = this.materializedKeyspaces;
+		if (keyspaces == null) {
+			// concurrent initialization is harmless, as all threads load the same state from the backend
+			keyspaces = Collections.unmodifiableSet(Sets.newHashSet(this.loadMaterializedKeyspaces()));
+			this.materializedKeyspaces = keyspaces;
+		}
+		return keyspaces;
+	}
+
+	private void materializeKeyspace(final String keyspace) {
+		List<OriginSegment> segments = this.collectOriginSegments(keyspace);
+		long entryCount = 0;
+		if (segments.isEmpty() == false) {
+			long minTimestamp = segments.stream().mapToLong(segment -> segment.minEntryTimestamp).min().getAsLong();
+			TemporalDataMatrix matrix = null;
+			try (AutoLock lock = this.lockBranchExclusive()) {
+				matrix = this.getOrCreateMatrix(keyspace, minTimestamp);
+			}
+			// copy the entries in small batches, such that reads and commits on this branch may proceed in between.
+			// Read operations consult the copied entries before asking the origin branch, so the copied history of a
+			// key must never have gaps: we copy the segments from the nearest origin to the farthest one (i.e. newer
+			// entries before older ones), and all entries of a key within a segment in the same batch. Inserting
+			// entries is idempotent, so we may safely re-run an interrupted materialization.
+			for (OriginSegment segment : segments) {
+				Iterator<String> keys = segment.keys.iterator();
+				while (keys.hasNext()) {
+					Set<UnqualifiedTemporalEntry> batch = this.loadOriginEntries(segment, keys);
+					try (AutoLock lock = this.lockBranchExclusive()) {
+						matrix.insertEntries(batch);
+						this.keyPresenceFilter.addKeys(keyspace,
+								batch.stream().map(entry -> entry.getKey().getKey()).collect(Collectors.toSet()));
+					}
+					entryCount += batch.size();
+				}
 			}
 		}
+		try (AutoLock lock = this.lockBranchExclusive()) {
+			Set<String> newMaterializedKeyspaces = Sets.newHashSet(this.getMaterializedKeyspaces());
+			newMaterializedKeyspaces.add(keyspace);
+			this.saveMaterializedKeyspaces(newMaterializedKeyspaces);
+			this.materializedKeyspaces = Collections.unmodifiableSet(newMaterializedKeyspaces);
+		}
+		ChronoLogger.logDebug("Materialized " + entryCount + " entries of keyspace '" + keyspace + "' in branch '"
+				+ this.owningBranch.getName() + "'.");
+	}
+
+	/**
+	 * Determines where the entries in the given keyspace which are visible in this branch, but stored in one of the
+	 * origin branches, are located.
+	 *
+	 * <p>
+	 * Only the keys are kept in memory; the entries themselves are loaded batch by batch via
+	 * {@link #loadOriginEntries(OriginSegment, Iterator)}.
+	 *
+	 * @param keyspace
+	 *            The keyspace to collect the segments for. Must not be <code>null</code>.
+	 *
+	 * @return The list of segments, ordered from the direct origin of this branch to the master branch. Never
+	 *         <code>null</code>, may be empty.
+	 */
+	private List<OriginSegment> collectOriginSegments(final String keyspace) {
+		List<OriginSegment> segments = Lists.newArrayList();
+		AbstractTemporalKeyValueStore tkvs = this;
+		long maxTimestamp = Long.MAX_VALUE;
+		boolean selfContained = false;
+		while (selfContained == false) {
+			// move up one level in the branch hierarchy; changes after the branching timestamp are invisible to us
+			maxTimestamp = Math.min(maxTimestamp, tkvs.owningBranch.getBranchingTimestamp());
+			tkvs = tkvs.getOriginBranchTKVSInternal();
+			selfContained = tkvs.isKeyspaceSelfContained(keyspace);
+			// entries up to the branching timestamp of a non-materialized branch are copies of the origin entries
+			long minTimestamp = selfContained ? -1 : tkvs.owningBranch.getBranchingTimestamp();
+			try (AutoLock lock = tkvs.lockNonExclusive()) {
+				TemporalDataMatrix matrix = tkvs.getMatrix(keyspace);
+				if (matrix == null) {
+					continue;
+				}
+				SortedSet<String> keys = Sets.newTreeSet();
+				long minEntryTimestamp = Long.MAX_VALUE;
+				try (CloseableIterator<UnqualifiedTemporalEntry> iterator = matrix.allEntriesIterator(maxTimestamp)) {
+					while (iterator.hasNext()) {
+						UnqualifiedTemporalKey key = iterator.next().getKey();
+						if (key.getTimestamp() > minTimestamp) {
+							keys.add(key.getKey());
+							minEntryTimestamp = Math.min(minEntryTimestamp, key.getTimestamp());
+						}
+					}
+				}
+				if (keys.isEmpty() == false) {
+					segments.add(new OriginSegment(tkvs, keyspace, minTimestamp, maxTimestamp, keys,
+							minEntryTimestamp));
+				}
+			}
+		}
+		return segments;
+	}
+
+	/**
+	 * Loads the next batch of entries of the given origin segment.
+	 *
+	 * <p>
+	 * The batch always contains the complete history of each key in the segment it covers, so it may slightly exceed
+	 * the {@linkplain #MATERIALIZATION_BATCH_SIZE batch size}.
+	 *
+	 * @param segment
+	 *            The segment to load the entries from. Must not be <code>null</code>.
+	 * @param keys
+	 *            The iterator over the keys of the segment which have not been loaded yet. Will be advanced by this
+	 *            method. Must not be <code>null</code>.
+	 *
+	 * @return The batch of entries. Never <code>null</code>, may be empty.
+	 */
+	private Set<UnqualifiedTemporalEntry> loadOriginEntries(final OriginSegment segment, final Iterator<String> keys) {
+		Set<UnqualifiedTemporalEntry> entries = Sets.newHashSet();
+		try (AutoLock lock = segment.tkvs.lockNonExclusive()) {
+			TemporalDataMatrix matrix = segment.tkvs.getMatrix(segment.keyspace);
+			while (entries.size() < MATERIALIZATION_BATCH_SIZE && keys.hasNext()) {
+				String key = keys.next();
+				Iterator<Long> history = matrix.history(segment.maxTimestamp, key);
+				while (history.hasNext()) {
+					long timestamp = history.next();
+					if (timestamp <= segment.minTimestamp) {
+						continue;
+					}
+					GetResult<byte[]> version = matrix.get(timestamp, key);
+					if (version.isHit() == false || version.getPeriod().getLowerBound() != timestamp) {
+						// this version has been removed by a history compaction in the meantime
+						continue;
+					}
+					// deletions are stored as empty arrays, just like in TemporalDataMatrix#put(...)
+					byte[] value = version.getValue() != null ? version.getValue() : new byte[0];
+					entries.add(new UnqualifiedTemporalEntry(UnqualifiedTemporalKey.create(key, timestamp), value));
+				}
+			}
+		}
+		return entries;
+	}
+
+	// =================================================================================================================
+	// HISTORY COMPACTION
+	// =================================================================================================================
+
+	@Override
+	public HistoryCompactionReport performHistoryCompaction(final Set<String> keyspaces, final long retentionCutoff,
+			final long thinningInterval) {
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		checkArgument(retentionCutoff >= 0,
+				"Precondition violation - argument 'retentionCutoff' must not be negative!");
+		checkArgument(thinningInterval >= 0,
+				"Precondition violation - argument 'thinningInterval' must not be negative!");
+		String branchName = this.owningBranch.getName();
+		if (retentionCutoff <= 0) {
+			// there is nothing before the retention window
+			return new HistoryCompactionReportImpl(branchName, retentionCutoff, 0, 0, 0);
+		}
+		// a compaction must not interfere with a concurrent materialization of the same branch
+		this.materializationLock.lock();
+		try {
+			long removedVersions = 0;
+			long reclaimedBytes = 0;
+			Set<String> compactedKeyspaces = Sets.newHashSet();
+			Set<Long> retainedTimestamps = Sets.newHashSet();
+			Set<Long> candidateCommits = Sets.newHashSet();
+			// compact the keyspaces one by one and in batches of keys, such that other transactions may proceed in
+			// between
+			for (String keyspace : keyspaces) {
+				SortedSet<String> keys = this.collectKeysBefore(keyspace, retentionCutoff);
+				if (keys == null) {
+					continue;
+				}
+				compactedKeyspaces.add(keyspace);
+				// in a keyspace which is not self-contained, the entries up to the branching timestamp are copies
+				// of the origin entries from an unfinished materialization; they are left alone.
+				boolean selfContained = this.isKeyspaceSelfContained(keyspace);
+				long lowerBound = selfContained ? -1 : this.owningBranch.getBranchingTimestamp();
+				Iterator<String> keyIterator = keys.iterator();
+				while (keyIterator.hasNext()) {
+					try (AutoLock lock = this.lockBranchExclusive()) {
+						if (this.getOwningDB().isClosed()) {
+							throw new IllegalStateException("History compaction of branch '" + branchName
+									+ "' was aborted, because the database has been closed!");
+						}
+						TemporalDataMatrix matrix = this.getMatrix(keyspace);
+						Set<Long> protectedTimestamps = this.getChildBranchingTimestamps();
+						Set<UnqualifiedTemporalKey> versionsToPurge = Sets.newHashSet();
+						for (int i = 0; i < COMPACTION_BATCH_SIZE && keyIterator.hasNext(); i++) {
+							String key = keyIterator.next();
+							List<Long> timestamps = Lists.newArrayList(
+									Iterators.filter(matrix.history(retentionCutoff - 1, key), t -> t > lowerBound));
+							if (timestamps.isEmpty()) {
+								continue;
+							}
+							Collections.sort(timestamps);
+							this.selectVersionsToPurge(key, timestamps, thinningInterval, protectedTimestamps,
+									selfContained == false, versionsToPurge, retainedTimestamps);
+						}
+						try (AutoLock drain = this.drainSnapshotReads()) {
+							reclaimedBytes += matrix.purgeEntries(versionsToPurge);
+						}
+						removedVersions += versionsToPurge.size();
+						versionsToPurge.forEach(version -> candidateCommits.add(version.getTimestamp()));
+					}
+				}
+			}
+			long removedCommits = 0;
+			if (candidateCommits.isEmpty() == false) {
+				try (AutoLock lock = this.lockBranchExclusive()) {
+					// the commits may still contain changes in keyspaces which have not been compacted
+					for (Entry<String, TemporalDataMatrix> entry : this.keyspaceToMatrix.entrySet()) {
+						if (compactedKeyspaces.contains(entry.getKey())) {
+							continue;
+						}
+						try (CloseableIterator<UnqualifiedTemporalEntry> iterator = entry.getValue()
+								.allEntriesIterator(retentionCutoff - 1)) {
+							iterator.forEachRemaining(e -> retainedTimestamps.add(e.getKey().getTimestamp()));
+						}
+					}
+					Set<Long> emptyCommits = Sets.difference(candidateCommits, retainedTimestamps).immutableCopy();
+					try (AutoLock drain = this.drainSnapshotReads()) {
+						reclaimedBytes += this.getCommitMetadataStore().purge(emptyCommits);
+					}
+					removedCommits = emptyCommits.size();
+				}
+			}
+			if (this.isMasterBranchTKVS() && compactedKeyspaces.isEmpty() == false) {
+				// index documents of the master branch are shared with the child branches up to their branching
+				// timestamps, so we must not remove any document which is visible to a child branch.
+				long indexCutoff = retentionCutoff - 1;
+				for (long branchingTimestamp : this.getChildBranchingTimestamps()) {
+					indexCutoff = Math.min(indexCutoff, branchingTimestamp);
+				}
+				this.getOwningDB().getIndexManager().pruneHistory(this.owningBranch, compactedKeyspaces, indexCutoff);
+			}
+			if (removedVersions > 0) {
+				// the cache may contain entries with validity ranges which no longer match the matrix contents. Snapshot
+				// reads which started before the compaction must not re-insert such entries after the cache is cleared.
+				try (AutoLock drain = this.drainSnapshotReads()) {
+					this.getCache().clear();
+				}
+			}
+			HistoryCompactionReport report = new HistoryCompactionReportImpl(branchName, retentionCutoff,
+					removedVersions, removedCommits, reclaimedBytes);
+			ChronoLogger.logDebug("Compacted history of branch '" + branchName + "': " + report);
+			return report;
+		} finally {
+			this.materializationLock.unlock();
+		}
+	}
+
+	/**
+	 * Collects the keys in the given keyspace which have versions before the given retention cutoff.
+	 *
+	 * @param keyspace
+	 *            The keyspace to scan. Must not be <code>null</code>.
+	 * @param retentionCutoff
+	 *            The start of the retention window. Must be positive.
+	 *
+	 * @return The keys, in ascending order, or <code>null</code> if the keyspace does not exist in this branch.
+	 */
+	private SortedSet<String> collectKeysBefore(final String keyspace, final long retentionCutoff) {
+		try (AutoLock lock = this.lockNonExclusive()) {
+			TemporalDataMatrix matrix = this.getMatrix(keyspace);
+			if (matrix == null) {
+				return null;
+			}
+			SortedSet<String> keys = Sets.newTreeSet();
+			try (CloseableIterator<UnqualifiedTemporalEntry> iterator = matrix
+					.allEntriesIterator(retentionCutoff - 1)) {
+				iterator.forEachRemaining(entry -> keys.add(entry.getKey().getKey()));
+			}
+			return keys;
+		}
+	}
+
+	/**
+	 * Determines which versions of a single key are removed by a history compaction.
+	 *
+	 * <p>
+	 * Only versions strictly before the retention cutoff are considered. Of those, the latest version is retained, as
+	 * well as the last version per thinning interval, and the version which is visible to a child branch at its
+	 * branching timestamp.
+	 *
+	 * @param key
+	 *            The key to analyze. Must not be <code>null</code>.
+	 * @param timestamps
+	 *            The timestamps of the versions of the key before the retention cutoff, in ascending order. Must not
+	 *            be empty.
+	 * @param thinningInterval
+	 *            The thinning interval in milliseconds. Zero indicates that no additional versions are retained.
+	 * @param protectedTimestamps
+	 *            The branching timestamps of the child branches. Must not be <code>null</code>.
+	 * @param retainEarliestVersion
+	 *            Use <code>true</code> if the earliest version must be retained as well. This is the case in
+	 *            keyspaces of child branches which still rely on the origin branch: without the earliest version,
+	 *            reads before the next retained version would fall through to the origin branch.
+	 * @param versionsToPurge
+	 *            The set to which the versions to remove will be added. Must not be <code>null</code>.
+	 * @param retainedTimestamps
+	 *            The set to which the timestamps of all retained versions will be added. Must not be
+	 *            <code>null</code>.
+	 */
+	private void selectVersionsToPurge(final String key, final List<Long> timestamps, final long thinningInterval,
+			final Set<Long> protectedTimestamps, final boolean retainEarliestVersion,
+			final Set<UnqualifiedTemporalKey> versionsToPurge, final Set<Long> retainedTimestamps) {
+		Set<Long> retained = Sets.newHashSet();
+		// the latest version before the cutoff is still visible at the cutoff
+		retained.add(timestamps.get(timestamps.size() - 1));
+		if (retainEarliestVersion) {
+			retained.add(timestamps.get(0));
+		}
+		for (int i = 0; i < timestamps.size() - 1; i++) {
+			long timestamp = timestamps.get(i);
+			long nextTimestamp = timestamps.get(i + 1);
+			if (thinningInterval > 0 && timestamp / thinningInterval != nextTimestamp / thinningInterval) {
+				// this is the last version in its interval
+				retained.add(timestamp);
+			}
+			for (long protectedTimestamp : protectedTimestamps) {
+				if (timestamp <= protectedTimestamp && protectedTimestamp < nextTimestamp) {
+					// this version is visible to a child branch at its branching timestamp
+					retained.add(timestamp);
+				}
+			}
+		}
+		for (long timestamp : timestamps) {
+			if (retained.contains(timestamp)) {
+				retainedTimestamps.add(timestamp);
+			} else {
+				versionsToPurge.add(UnqualifiedTemporalKey.create(key, timestamp));
+			}
+		}
+	}
+
+	private Set<Long> getChildBranchingTimestamps() {
+		return this.getOwningDB().getBranchManager().getBranches().stream()
+				.filter(branch -> branch.getOrigin() != null
+						&& branch.getOrigin().getName().equals(this.owningBranch.getName()))
+				.map(Branch::getBranchingTimestamp).collect(Collectors.toSet());
+	}
+
+	// =================================================================================================================
+	// DELETION
+	// =================================================================================================================
+
+	@Override
+	public void drop() {
+		// wait for snapshot reads which started before the branch was deleted
+		try (AutoLock drain = this.drainSnapshotReads()) {
+			for (TemporalDataMatrix matrix : this.keyspaceToMatrix.values()) {
+				matrix.drop();
+			}
+			this.keyspaceToMatrix.clear();
+		}
+		this.getCommitMetadataStore().drop();
+		this.dropBranchRecords();
+		ChronoLogger.logDebug("Dropped the contents of branch '" + this.getOwningBranch().getName() + "'.");
 	}
 
 	// =================================================================================================================
@@ -922,6 +1425,11 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 			final String keyspace, final String key, final Object value) {
 		Set<String> keyspaces = this.getKeyspaces(transactionCommitTimestamp);
 		long now = this.getNow();
+		return this.scanForConflict(tx, transactionCommitTimestamp, keyspaces, now, keyspace, key, value);
+	}
+
+	private AtomicConflict scanForConflict(final ChronoDBTransaction tx, final long transactionCommitTimestamp,
+			final Set<String> keyspaces, final long now, final String keyspace, final String key, final Object value) {
 		if (tx.getTimestamp() == now) {
 			// this transaction was started at the "now" timestamp. There has not been any commit
 			// between starting this transaction and the current state. Therefore, there cannot
@@ -1004,6 +1512,72 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return matrix;
 	}
 
+	/**
+	 * Performs a ranged get in the origin branch, for a key which has no value in this (child) branch at the given
+	 * timestamp.
+	 *
+	 * <p>
+	 * As this branch does not contain the key, the result of the origin branch also applies to this branch, until the
+	 * key is written in this branch. The result is therefore cached for this branch as well, such that subsequent
+	 * requests can be answered from the cache without contacting the origin branch.
+	 *
+	 * @param branchName
+	 *            The name of the branch on which the request was issued. Must not be <code>null</code>.
+	 * @param qKey
+	 *            The key to get the value for. Must not be <code>null</code>.
+	 * @param timestamp
+	 *            The timestamp of the request, in this branch. Must not be negative.
+	 * @param noValuePeriod
+	 *            The period around the given timestamp in which the key has no value in this branch. Must not be
+	 *            <code>null</code>.
+	 * @param cacheStamp
+	 *            The {@linkplain #getSnapshotReadCacheStamp() stamp} obtained before the read.
+	 *
+	 * @return The ranged get result, with the period adjusted to this branch. Never <code>null</code>.
+	 */
+	private GetResult<Object> performRangedGetInOriginBranch(final String branchName, final QualifiedKey qKey,
+			final long timestamp, final Period noValuePeriod, final long cacheStamp) {
+		long branchingTimestamp = this.owningBranch.getBranchingTimestamp();
+		GetResult<Object> originResult = this.getOriginBranchTKVSInternal().performRangedGetInternal(
+				this.owningBranch.getOrigin().getName(), qKey, this.getOriginBranchTimestamp(timestamp));
+		Period period = originResult.getPeriod();
+		if (period.getUpperBound() > branchingTimestamp) {
+			// changes in the origin branch after the branching timestamp are invisible in our branch, so the value
+			// remains valid until the key is written in our branch.
+			period = Period.createOpenEndedRange(period.getLowerBound());
+		}
+		if (period.getUpperBound() > noValuePeriod.getUpperBound()) {
+			// our branch writes the key later on
+			period = period.setUpperBound(noValuePeriod.getUpperBound());
+		}
+		// note: if values are not immutable, the origin branch already returned a copy which we may cache directly
+		GetResult<Object> result = GetResult.alterPeriod(originResult, period);
+		this.cacheGetResult(branchName, result, cacheStamp);
+		return this.duplicateIfRequired(result);
+	}
+
+	private void cacheGetResult(final String branchName, final GetResult<?> result, final long cacheStamp) {
+		// a snapshot read may have overlapped with a write on this branch; in this case, the result is not cached
+		this.runIfNotModifiedSince(cacheStamp, () -> this.getCache().cache(branchName, result));
+	}
+
+	private GetResult<Object> duplicateIfRequired(final GetResult<Object> result) {
+		// depending on the configuration, we may need to duplicate the result before returning it
+		if (this.getOwningDB().getConfiguration().isAssumeCachedValuesAreImmutable()) {
+			// we may directly return the cached instance, as we can assume it to be immutable
+			return result;
+		} else if (result.isHit() == false) {
+			// there is no value to duplicate
+			return result;
+		} else {
+			// we have to return a duplicate of the cached element, as we cannot assume it to be immutable,
+			// and the client may change the returned element. If we did not duplicate it, changes by the
+			// client to the returned element would modify our cache state.
+			Object duplicatedValue = KryoManager.deepCopy(result.getValue());
+			return GetResult.create(result.getRequestedKey(), duplicatedValue, result.getPeriod());
+		}
+	}
+
 	protected void writeCommitThroughCache(final String branchName, final long timestamp,
 			final Map<String, Map<String, Object>> keyspaceToKeyToValue) {
 		// perform the write-through in our cache
@@ -1031,19 +1605,22 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 			final boolean touchedIndex) {
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
 		checkNotNull(modifiedKeyspaces, "Precondition violation - argument 'modifiedKeyspaces' must not be NULL!");
-		for (String keyspace : modifiedKeyspaces) {
-			TemporalDataMatrix matrix = this.getMatrix(keyspace);
-			matrix.rollback(timestamp);
-		}
-		// roll back the commit metadata store
-		this.getCommitMetadataStore().rollbackToTimestamp(timestamp);
-		// roll back the cache
-		this.getCache().rollbackToTimestamp(timestamp);
-		// only rollback the index manager if we touched it during the commit
-		if (touchedIndex) {
-			this.getOwningDB().getIndexManager().rollback(this.getOwningBranch(), timestamp);
+		// snapshot readers must not observe the matrices while entries are being removed
+		try (AutoLock drain = this.drainSnapshotReads()) {
+			for (String keyspace : modifiedKeyspaces) {
+				TemporalDataMatrix matrix = this.getMatrix(keyspace);
+				matrix.rollback(timestamp);
+			}
+			// roll back the commit metadata store
+			this.getCommitMetadataStore().rollbackToTimestamp(timestamp);
+			// roll back the cache
+			this.getCache().rollbackToTimestamp(timestamp);
+			// only rollback the index manager if we touched it during the commit
+			if (touchedIndex) {
+				this.getOwningDB().getIndexManager().rollback(this.getOwningBranch(), timestamp);
+			}
+			this.setNow(timestamp);
 		}
-		this.setNow(timestamp);
 	}
 
 	protected void assertThatTransactionMayPerformIncrementalCommit(final ChronoDBTransaction tx) {
@@ -1169,21 +1746,27 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return ((BranchInternal) this.owningBranch.getOrigin()).getTemporalKeyValueStore();
 	}
 
-	protected ChronoDBTransaction createOriginBranchTx(final long requestedTimestamp) {
+	protected AbstractTemporalKeyValueStore getOriginBranchTKVSInternal() {
+		return (AbstractTemporalKeyValueStore) this.getOriginBranchTKVS();
+	}
+
+	protected long getOriginBranchTimestamp(final long requestedTimestamp) {
 		long branchingTimestamp = this.owningBranch.getBranchingTimestamp();
-		long timestamp = 0;
 		if (requestedTimestamp > branchingTimestamp) {
 			// the requested timestamp is AFTER our branching timestamp. Therefore, we must
 			// hide any changes in the parent branch that happened after the branching. To
 			// do so, we redirect to the branching timestamp.
-			timestamp = branchingTimestamp;
+			return branchingTimestamp;
 		} else {
 			// the requested timestamp is BEFORE our branching timestamp. This means that we
 			// do not need to mask any changes in our parent branch, and can therefore continue
 			// to use the same request timestamp.
-			timestamp = requestedTimestamp;
+			return requestedTimestamp;
 		}
+	}
 
+	protected ChronoDBTransaction createOriginBranchTx(final long requestedTimestamp) {
+		long timestamp = this.getOriginBranchTimestamp(requestedTimestamp);
 		ChronoDBTransaction tx = this.getOwningDB().txBuilder()
 				// switch to the parent branch
 				.onBranch(this.owningBranch.getOrigin())
@@ -1237,12 +1820,197 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 		return time;
 	}
 
+	private PreparedCommit prepareCommit(final ChronoDBTransaction tx) {
+		try (AutoLock lock = this.lockNonExclusive()) {
+			if (this.isIncrementalCommitProcessOngoing() || tx.getChangeSet().isEmpty()) {
+				// incremental commits are always analyzed within the commit lock
+				return null;
+			}
+			long now = this.getNow();
+			if (tx.getTimestamp() != now && this.isMasterBranchTKVS() == false
+					&& tx.getTimestamp() < this.getOwningBranch().getBranchingTimestamp()) {
+				// conflicts may involve our origin branch, leave the analysis to the commit
+				return null;
+			}
+			IndexManager indexManager = this.getOwningDB().getIndexManager();
+			Map<String, Set<Indexer<?>>> indexers = Collections.emptyMap();
+			if (indexManager != null) {
+				indexers = indexManager.getIndexersByIndexName();
+			}
+			boolean indexingEnabled = indexers.isEmpty() == false;
+			SerializationManager serializer = this.getOwningDB().getSerializationManager();
+			boolean duplicateVersionEliminationEnabled = tx.getConfiguration().getDuplicateVersionEliminationMode()
+					.equals(DuplicateVersionEliminationMode.ON_COMMIT);
+			PreparedCommit preparedCommit = new PreparedCommit(now, indexers);
+			// visit the entries in keyspace and key order, such that the backend can make use of its key ordering
+			List<ChangeSetEntry> entries = Lists.newArrayList(tx.getChangeSet());
+			entries.sort(Comparator.comparing(ChangeSetEntry::getKeyspace).thenComparing(ChangeSetEntry::getKey));
+			// in the first sweep, we check for conflicts and try to find the old values in the cache
+			Map<QualifiedKey, Object> cachedOldValues = Maps.newHashMap();
+			ListMultimap<String, String> keyspaceToUncachedKeys = ArrayListMultimap.create();
+			for (ChangeSetEntry entry : entries) {
+				String keyspace = entry.getKeyspace();
+				String key = entry.getKey();
+				if (tx.getTimestamp() != now) {
+					// there have been commits after our transaction was opened, check if they touched our key
+					TemporalDataMatrix matrix = this.getMatrix(keyspace);
+					if (matrix != null && matrix.lastCommitTimestamp(key) > tx.getTimestamp()) {
+						// potential conflict; conflicts are resolved within the commit lock
+						return null;
+					}
+				}
+				QualifiedKey qKey = QualifiedKey.create(keyspace, key);
+				CacheGetResult<Object> cacheGetResult = this.getCache().get(tx.getBranchName(), tx.getTimestamp(),
+						qKey);
+				if (cacheGetResult.isHit()) {
+					cachedOldValues.put(qKey, cacheGetResult.getValue());
+				} else {
+					keyspaceToUncachedKeys.put(keyspace, key);
+				}
+			}
+			// fetch the serial forms of all old values which are not cached, in one batch per keyspace. We only
+			// deserialize them if we really need the objects.
+			Map<QualifiedKey, byte[]> oldSerialForms = Maps.newHashMap();
+			for (String keyspace : keyspaceToUncachedKeys.keySet()) {
+				List<String> keys = keyspaceToUncachedKeys.get(keyspace);
+				oldSerialForms.putAll(this.performGetBinaryMultiple(tx, keyspace, keys));
+			}
+			// in the second sweep, we eliminate duplicates and prepare the entries
+			for (ChangeSetEntry entry : entries) {
+				String keyspace = entry.getKeyspace();
+				String key = entry.getKey();
+				Object newValue = entry.getValue();
+				byte[] newSerialForm = null;
+				if (entry.isRemove() == false && newValue != null) {
+					newSerialForm = serializer.serialize(newValue);
+				}
+				boolean indexed = indexingEnabled && entry.getOptions().contains(PutOption.NO_INDEX) == false;
+				QualifiedKey qKey = QualifiedKey.create(keyspace, key);
+				boolean oldValueLoaded = cachedOldValues.containsKey(qKey);
+				Object oldValue = cachedOldValues.get(qKey);
+				byte[] oldSerialForm = oldSerialForms.get(qKey);
+				if (oldSerialForm != null && oldSerialForm.length <= 0) {
+					oldSerialForm = null;
+				}
+				if (duplicateVersionEliminationEnabled) {
+					boolean duplicate = false;
+					if (oldValueLoaded) {
+						duplicate = Objects.equal(oldValue, newValue);
+					} else if (oldSerialForm == null || newSerialForm == null) {
+						duplicate = oldSerialForm == null && newValue == null;
+					} else if (Arrays.equals(oldSerialForm, newSerialForm)) {
+						duplicate = true;
+					} else {
+						// equal objects do not necessarily have equal serial forms, check with 'equals(...)'
+						oldValue = serializer.deserialize(oldSerialForm);
+						oldValueLoaded = true;
+						duplicate = Objects.equal(oldValue, newValue);
+					}
+					if (duplicate) {
+						// the new value is identical to the old one -> ignore it
+						continue;
+					}
+				}
+				if (indexed && oldValueLoaded == false && oldSerialForm != null) {
+					oldValue = serializer.deserialize(oldSerialForm);
+				}
+				preparedCommit.addEntry(keyspace, key, newValue, newSerialForm, entry.isRemove(), indexed, oldValue);
+			}
+			return preparedCommit;
+		}
+	}
+
+	private boolean isPreparedCommitValid(final PreparedCommit preparedCommit) {
+		IndexManager indexManager = this.getOwningDB().getIndexManager();
+		Map<String, Set<Indexer<?>>> indexers = Collections.emptyMap();
+		if (indexManager != null) {
+			indexers = indexManager.getIndexersByIndexName();
+		}
+		if (preparedCommit.hasSameIndexers(indexers) == false) {
+			// the indices have changed in the meantime
+			return false;
+		}
+		long now = this.getNow();
+		long snapshotTimestamp = preparedCommit.getSnapshotTimestamp();
+		if (now == snapshotTimestamp) {
+			// nothing has been committed since the pre-commit phase
+			return true;
+		}
+		if (now < snapshotTimestamp) {
+			// a rollback has occurred in the meantime
+			return false;
+		}
+		// check that none of our keys has been written since the pre-commit phase
+		for (QualifiedKey qKey : preparedCommit.getModifiedKeys()) {
+			TemporalDataMatrix matrix = this.getMatrix(qKey.getKeyspace());
+			if (matrix != null && matrix.lastCommitTimestamp(qKey.getKey()) > snapshotTimestamp) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Map<QualifiedKey, byte[]> performGetBinaryMultiple(final ChronoDBTransaction tx, final String keyspace,
+			final Collection<String> keys) {
+		String branchName = tx.getBranchName();
+		long timestamp = tx.getTimestamp();
+		Map<QualifiedKey, byte[]> resultMap = Maps.newHashMap();
+		try (AutoLock lock = this.lockSnapshotRead(timestamp)) {
+			// note: the stamp needs to be obtained before accessing the matrix
+			long cacheStamp = this.getSnapshotReadCacheStamp();
+			boolean selfContained = this.isKeyspaceSelfContained(keyspace);
+			TemporalDataMatrix matrix = this.getMatrix(keyspace);
+			List<String> keysToReroute = Lists.newArrayList();
+			if (matrix == null) {
+				if (selfContained == false) {
+					// matrix doesn't exist in the child branch, all keys need to be fetched from the origin branch
+					keysToReroute.addAll(keys);
+				}
+			} else {
+				List<String> keysInMatrix = Lists.newArrayList();
+				for (String key : keys) {
+					if (selfContained || this.keyPresenceFilter.mightContain(matrix, key)) {
+						keysInMatrix.add(key);
+					} else {
+						// the key was never written in our branch; ask the origin branch directly
+						keysToReroute.add(key);
+					}
+				}
+				Map<String, GetResult<byte[]>> results = matrix.getMultiple(timestamp, keysInMatrix);
+				for (Entry<String, GetResult<byte[]>> entry : results.entrySet()) {
+					GetResult<byte[]> result = entry.getValue();
+					if (result.isHit() == false && selfContained == false) {
+						keysToReroute.add(entry.getKey());
+						continue;
+					}
+					QualifiedKey qKey = QualifiedKey.create(keyspace, entry.getKey());
+					byte[] serialForm = result.getValue();
+					if (serialForm == null || serialForm.length <= 0) {
+						// there is no value, so caching the result is cheap (no deserialization required)
+						this.cacheGetResult(branchName, GetResult.create(qKey, null, result.getPeriod()), cacheStamp);
+					}
+					resultMap.put(qKey, serialForm);
+				}
+			}
+			for (String key : keysToReroute) {
+				QualifiedKey qKey = QualifiedKey.create(keyspace, key);
+				GetResult<byte[]> result = this.getOriginBranchTKVSInternal().performRangedGetBinaryInternal(
+						this.owningBranch.getOrigin().getName(), qKey, this.getOriginBranchTimestamp(timestamp));
+				resultMap.put(qKey, result.getValue());
+			}
+		}
+		return resultMap;
+	}
+
 	private ChangeSet analyzeChangeSet(final ChronoDBTransaction tx, final ChronoDBTransaction oldValueTx,
 			final long time) {
 		ChangeSet changeSet = new ChangeSet();
 		boolean duplicateVersionEliminationEnabled = tx.getConfiguration().getDuplicateVersionEliminationMode()
 				.equals(DuplicateVersionEliminationMode.ON_COMMIT);
 		ConflictResolutionStrategy conflictResolutionStrategy = tx.getConfiguration().getConflictResolutionStrategy();
+		// the keyspaces and the "now" timestamp are the same for all entries, compute them only once
+		Set<String> keyspaces = this.getKeyspaces(time);
+		long now = this.getNow();
 		for (ChangeSetEntry entry : tx.getChangeSet()) {
 			String keyspace = entry.getKeyspace();
 			String key = entry.getKey();
@@ -1259,7 +2027,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 					}
 				}
 				// check if conflicting with existing entry
-				AtomicConflict conflict = this.scanForConflict(tx, time, keyspace, key, newValue);
+				AtomicConflict conflict = this.scanForConflict(tx, time, keyspaces, now, keyspace, key, newValue);
 				if (conflict != null) {
 					// resolve conflict
 					newValue = conflictResolutionStrategy.resolve(conflict);
@@ -1295,6 +2063,7 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 			Map<String, byte[]> contents = entry.getValue();
 			TemporalDataMatrix matrix = this.getOrCreateMatrix(keyspace, time);
 			matrix.put(time, contents);
+			this.keyPresenceFilter.addKeys(keyspace, contents.keySet());
 		}
 	}
 
@@ -1464,10 +2233,72 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 	 */
 	protected abstract WriteAheadLogToken getWriteAheadLogTokenIfExists();
 
+	/**
+	 * Loads the names of the keyspaces which have been materialized in this branch from the persistent store.
+	 *
+	 * <p>
+	 * Stores which do not support branch materialization should return the empty set.
+	 *
+	 * @return The set of materialized keyspace names. Never <code>null</code>, may be empty.
+	 */
+	protected abstract Set<String> loadMaterializedKeyspaces();
+
+	/**
+	 * Stores the names of the keyspaces which have been materialized in this branch in the persistent store.
+	 *
+	 * @param keyspaces
+	 *            The complete set of materialized keyspace names. Must not be <code>null</code>.
+	 *
+	 * @throws UnsupportedOperationException
+	 *             Thrown if this store does not support branch materialization.
+	 */
+	protected abstract void saveMaterializedKeyspaces(Set<String> keyspaces);
+
+	/**
+	 * Deletes the branch-level records of this store from the persistent store.
+	 *
+	 * <p>
+	 * This includes (but is not limited to) the navigation entries of all keyspaces, the "now" timestamp, the
+	 * write-ahead log token and the set of materialized keyspaces. The matrices themselves and the commit metadata have
+	 * already been dropped when this method is called.
+	 *
+	 * <p>
+	 * Non-persistent stores can safely ignore this method.
+	 */
+	protected abstract void dropBranchRecords();
+
 	// =================================================================================================================
 	// INNER CLASSES
 	// =================================================================================================================
 
+	/**
+	 * Describes the part of the history of a keyspace which is stored in a single origin branch, and which has to be
+	 * copied during materialization.
+	 */
+	private static class OriginSegment {
+
+		private final AbstractTemporalKeyValueStore tkvs;
+		private final String keyspace;
+		/** Entries at or before this timestamp do not belong to the segment (exclusive). */
+		private final long minTimestamp;
+		/** Entries after this timestamp do not belong to the segment (inclusive). */
+		private final long maxTimestamp;
+		private final SortedSet<String> keys;
+		private final long minEntryTimestamp;
+
+		private OriginSegment(final AbstractTemporalKeyValueStore tkvs, final String keyspace,
+				final long minTimestamp, final long maxTimestamp, final SortedSet<String> keys,
+				final long minEntryTimestamp) {
+			this.tkvs = tkvs;
+			this.keyspace = keyspace;
+			this.minTimestamp = minTimestamp;
+			this.maxTimestamp = maxTimestamp;
+			this.keys = keys;
+			this.minEntryTimestamp = minEntryTimestamp;
+		}
+
+	}
+
 	private class AllEntriesIterator extends AbstractCloseableIterator<ChronoDBEntry> {
 
 		private final long timestamp;
@@ -1510,6 +2341,12 @@ public abstract class AbstractTemporalKeyValueStore extends TemporalKeyValueStor
 					continue;
 				}
 				this.currentEntryIterator = matrix.allEntriesIterator(this.timestamp);
+				if (AbstractTemporalKeyValueStore.this.isMasterBranchTKVS() == false) {
+					// skip the entries which have been copied from the origin branch during materialization
+					long branchingTimestamp = AbstractTemporalKeyValueStore.this.owningBranch.getBranchingTimestamp();
+					this.currentEntryIterator = CloseableIterator.filter(this.currentEntryIterator,
+							entry -> entry.getKey().getTimestamp() > branchingTimestamp);
+				}
 				if (this.currentEntryIterator.hasNext()) {
 					// we found a non-empty iterator, stay here
 					return;
@@ -20,6 +20,7 @@ public class ChangeSet {
 
 	private final Map<String, Map<String, Object>> keyspaceToKeyToValue = Maps.newHashMap();
 	private final Map<ChronoIdentifier, Pair<Object, Object>> entriesToIndex = Maps.newHashMap();
+	private final Map<QualifiedKey, byte[]> keyToSerialForm = Maps.newHashMap();
 
 	public void addEntry(final String keyspace, final String key, final Object value) {
 		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -32,6 +33,14 @@ public class ChangeSet {
 		keyspaceMap.put(key, value);
 	}
 
+	public void addEntry(final String keyspace, final String key, final Object value, final byte[] serialForm) {
+		this.addEntry(keyspace, key, value);
+		if (serialForm != null) {
+			// remember the serial form, there's no need to serialize the value twice
+			this.keyToSerialForm.put(QualifiedKey.create(keyspace, key), serialForm);
+		}
+	}
+
 	public void addEntryToIndex(final ChronoIdentifier identifier, final Object oldValue, final Object newValue) {
 		checkNotNull(identifier, "Precondition violation - argument 'identifier' must not be NULL!");
 		this.entriesToIndex.put(identifier, Pair.of(oldValue, newValue));
@@ -43,12 +52,16 @@ public class ChangeSet {
 		return Iterables.transform(set, entry -> {
 			String keyspace = entry.getKey();
 			Map<String, Object> contents = entry.getValue();
-			Map<String, byte[]> serialContents = Maps.transformValues(contents, value -> {
+			Map<String, byte[]> serialContents = Maps.transformEntries(contents, (key, value) -> {
 				if (value == null) {
 					return null;
-				} else {
-					return serializer.apply(value);
 				}
+				byte[] serialForm = this.keyToSerialForm.get(QualifiedKey.create(keyspace, key));
+				if (serialForm != null) {
+					// this value has been serialized before
+					return serialForm;
+				}
+				return serializer.apply(value);
 			});
 			return Pair.of(keyspace, serialContents);
 		});
@@ -0,0 +1,265 @@
+package org.chronos.chronodb.internal.impl.engines.base;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.chronos.chronodb.internal.api.TemporalDataMatrix;
+import org.chronos.common.autolock.AutoLock;
+import org.chronos.common.autolock.ReadWriteAutoLockable;
+import org.chronos.common.logging.ChronoLogger;
+
+import com.google.common.collect.Sets;
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+/**
+ * A {@link KeyPresenceFilter} keeps track of the keys which have ever been written in the keyspaces of a single branch.
+ *
+ * <p>
+ * The filter is probabilistic: {@link #mightContain(TemporalDataMatrix, String)} may return <code>true</code> for a
+ * key which was never written (false positive), but it will never return <code>false</code> for a key which was
+ * written at any point in time (no false negatives). This allows read requests on child branches to skip the probe in
+ * the branch-local matrix and to continue directly in the origin branch.
+ *
+ * <p>
+ * The filter of a keyspace is built from the contents of the matrix when it is requested for the first time, and is
+ * kept up to date afterwards via {@link #addKeys(String, Collection)}. If the number of keys grows beyond the capacity
+ * the filter was created for, it is rebuilt. Building a filter requires {@linkplain TemporalDataMatrix#getAllKeys() all
+ * keys} of the matrix, so it is never performed within a read request; instead, it is carried out by the build
+ * executor. Until a filter is available,
+ * every key is assumed to be present. Rollbacks and purged history entries do not need to be reflected in the filter,
+ * as a filter which contains too many keys is still correct.
+ *
+ * <p>
+ * This class is thread-safe. In particular, lock-free snapshot reads may call
+ * {@link #mightContain(TemporalDataMatrix, String)} while a commit calls {@link #addKeys(String, Collection)}.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class KeyPresenceFilter {
+
+	// =================================================================================================================
+	// CONSTANTS
+	// =================================================================================================================
+
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+	private static final int MIN_EXPECTED_INSERTIONS = 1024;
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final ReadWriteAutoLockable owner;
+	private final Executor buildExecutor;
+	private final ConcurrentMap<String, KeyspaceFilter> keyspaceToFilter = new ConcurrentHashMap<>();
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	/**
+	 * Creates a new {@link KeyPresenceFilter}.
+	 *
+	 * @param owner
+	 *            The owner of the matrices. Its non-exclusive lock is held while a matrix is scanned in order to build a
+	 *            filter. Must not be <code>null</code>.
+	 * @param buildExecutor
+	 *            The executor which builds the filters in the background. Usually shared among all branches of the
+	 *            database. Must not be <code>null</code>.
+	 */
+	public KeyPresenceFilter(final ReadWriteAutoLockable owner, final Executor buildExecutor) {
+		checkNotNull(owner, "Precondition violation - argument 'owner' must not be NULL!");
+		checkNotNull(buildExecutor, "Precondition violation - argument 'buildExecutor' must not be NULL!");
+		this.owner = owner;
+		this.buildExecutor = buildExecutor;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Checks if the given key might have been written in the given matrix at any point in time.
+	 *
+	 * @param matrix
+	 *            The matrix to check. Must not be <code>null</code>.
+	 * @param key
+	 *            The key to check. Must not be <code>null</code>.
+	 *
+	 * @return <code>false</code> if the key has certainly never been written in the matrix, <code>true</code> if it
+	 *         might have been written.
+	 */
+	public boolean mightContain(final TemporalDataMatrix matrix, final String key) {
+		checkNotNull(matrix, "Precondition violation - argument 'matrix' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		KeyspaceFilter filter = this.keyspaceToFilter.computeIfAbsent(matrix.getKeyspace(),
+				keyspace -> new KeyspaceFilter());
+		if (filter.needsBuild() && filter.beginBuild()) {
+			this.buildExecutor.execute(() -> this.build(filter, matrix));
+		}
+		return filter.mightContain(key);
+	}
+
+	/**
+	 * Registers the given keys as written in the given keyspace.
+	 *
+	 * <p>
+	 * This method needs to be called <i>after</i> the keys have been written to the matrix.
+	 *
+	 * @param keyspace
+	 *            The keyspace in which the keys have been written. Must not be <code>null</code>.
+	 * @param keys
+	 *            The keys which have been written. Must not be <code>null</code>.
+	 */
+	public void addKeys(final String keyspace, final Collection<String> keys) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		KeyspaceFilter filter = this.keyspaceToFilter.get(keyspace);
+		if (filter == null) {
+			// the filter has not been requested yet; it will contain the keys when it is built from the matrix
+			return;
+		}
+		filter.addKeys(keys);
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private void build(final KeyspaceFilter filter, final TemporalDataMatrix matrix) {
+		try (AutoLock lock = this.owner.lockNonExclusive()) {
+			filter.build(matrix);
+		} catch (Exception e) {
+			// the previous filter (if any) remains valid; the build will be retried on a later request
+			filter.abortBuild();
+			ChronoLogger.logWarning("Failed to build the key presence filter for keyspace '" + matrix.getKeyspace()
+					+ "': " + e.getMessage());
+		}
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	/**
+	 * The filter of a single keyspace.
+	 *
+	 * <p>
+	 * Reads may run concurrently to commits, so all accesses to the bloom filter are guarded by a read-write lock. While
+	 * the bloom filter is (re-)built from the matrix, the keys which are added concurrently are recorded, and are added
+	 * to the new bloom filter before it is published. A key is therefore never lost: it was either written to the
+	 * matrix before the scan started, or it is added after the recording has been started.
+	 */
+	private static class KeyspaceFilter {
+
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+		/** The current bloom filter, or <code>null</code> if it has not been built yet. Guarded by {@link #lock}. */
+		private BloomFilter<CharSequence> bloomFilter;
+		/** The keys added during a running build, or <code>null</code> if no build is running. Guarded by {@link #lock}. */
+		private Set<String> keysAddedDuringBuild;
+		private int expectedInsertions;
+		private int insertions;
+
+		public boolean mightContain(final String key) {
+			this.lock.readLock().lock();
+			try {
+				if (this.bloomFilter == null) {
+					// the filter is not available (yet), we have to assume that the key exists
+					return true;
+				}
+				// beyond its capacity, the filter remains correct, but the false positive probability rises
+				return this.bloomFilter.mightContain(key);
+			} finally {
+				this.lock.readLock().unlock();
+			}
+		}
+
+		public void addKeys(final Collection<String> keys) {
+			this.lock.writeLock().lock();
+			try {
+				if (this.keysAddedDuringBuild != null) {
+					this.keysAddedDuringBuild.addAll(keys);
+				}
+				if (this.bloomFilter != null) {
+					for (String key : keys) {
+						this.put(key);
+					}
+				}
+			} finally {
+				this.lock.writeLock().unlock();
+			}
+		}
+
+		public boolean needsBuild() {
+			this.lock.readLock().lock();
+			try {
+				return this.bloomFilter == null || this.insertions > this.expectedInsertions;
+			} finally {
+				this.lock.readLock().unlock();
+			}
+		}
+
+		public boolean beginBuild() {
+			this.lock.writeLock().lock();
+			try {
+				if (this.keysAddedDuringBuild != null) {
+					// another thread is building the filter right now
+					return false;
+				}
+				this.keysAddedDuringBuild = Sets.newHashSet();
+				return true;
+			} finally {
+				this.lock.writeLock().unlock();
+			}
+		}
+
+		public void build(final TemporalDataMatrix matrix) {
+			// note: the recording of concurrently added keys has been started before the scan begins
+			Set<String> keys = Sets.newHashSet(matrix.getAllKeys());
+			this.lock.writeLock().lock();
+			try {
+				keys.addAll(this.keysAddedDuringBuild);
+				// leave some room for keys which will be added later on
+				this.expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, keys.size() * 2);
+				this.insertions = 0;
+				this.bloomFilter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+						this.expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+				for (String key : keys) {
+					this.put(key);
+				}
+				this.keysAddedDuringBuild = null;
+			} finally {
+				this.lock.writeLock().unlock();
+			}
+		}
+
+		public void abortBuild() {
+			this.lock.writeLock().lock();
+			try {
+				// the previous filter (if any) remains valid, it just might be saturated
+				this.keysAddedDuringBuild = null;
+			} finally {
+				this.lock.writeLock().unlock();
+			}
+		}
+
+		private void put(final String key) {
+			// note: must be called while holding the write lock
+			if (this.bloomFilter.put(key)) {
+				// the bits have changed, so this is a new key
+				this.insertions++;
+			}
+		}
+
+	}
+}
@@ -0,0 +1,189 @@
+package org.chronos.chronodb.internal.impl.engines.base;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.indexing.Indexer;
+import org.chronos.chronodb.api.key.ChronoIdentifier;
+import org.chronos.chronodb.api.key.QualifiedKey;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * A {@link PreparedCommit} is the result of the optimistic pre-commit phase which is executed <i>before</i> the commit
+ * lock of a branch is acquired.
+ *
+ * <p>
+ * During the pre-commit phase, the new values of a transaction are serialized, the old values are fetched, and
+ * duplicate versions are eliminated. All of this work is based on a snapshot of the branch at the
+ * {@linkplain #getSnapshotTimestamp() snapshot timestamp}. Once the commit lock has been acquired, the commit process
+ * only needs to verify that none of the {@linkplain #getModifiedKeys() modified keys} has been written after that
+ * timestamp; in this case, the prepared data can be {@linkplain #toChangeSet(Branch, long) converted} into the
+ * {@link ChangeSet} for the commit without any further analysis.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class PreparedCommit {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final long snapshotTimestamp;
+	private final Map<String, Set<Indexer<?>>> indexersByIndexName;
+	private final List<PreparedEntry> entries = Lists.newArrayList();
+	private final Set<QualifiedKey> modifiedKeys = Sets.newHashSet();
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public PreparedCommit(final long snapshotTimestamp, final Map<String, Set<Indexer<?>>> indexersByIndexName) {
+		checkArgument(snapshotTimestamp >= 0,
+				"Precondition violation - argument 'snapshotTimestamp' must not be negative!");
+		checkNotNull(indexersByIndexName,
+				"Precondition violation - argument 'indexersByIndexName' must not be NULL!");
+		this.snapshotTimestamp = snapshotTimestamp;
+		this.indexersByIndexName = Maps.newHashMap();
+		for (Entry<String, Set<Indexer<?>>> entry : indexersByIndexName.entrySet()) {
+			Set<Indexer<?>> indexers = Sets.newIdentityHashSet();
+			indexers.addAll(entry.getValue());
+			this.indexersByIndexName.put(entry.getKey(), indexers);
+		}
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	public void addEntry(final String keyspace, final String key, final Object newValue, final byte[] serialForm,
+			final boolean remove, final boolean indexed, final Object oldValue) {
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		this.entries.add(new PreparedEntry(keyspace, key, newValue, serialForm, remove, indexed, oldValue));
+		this.modifiedKeys.add(QualifiedKey.create(keyspace, key));
+	}
+
+	public long getSnapshotTimestamp() {
+		return this.snapshotTimestamp;
+	}
+
+	/**
+	 * Checks if the given indexers are exactly the ones which were present when this commit was prepared.
+	 *
+	 * <p>
+	 * Indexers are compared by identity. An index which has been removed and re-created under the same name, or
+	 * which has received a different set of indexers, will therefore be detected as a change.
+	 *
+	 * @param indexersByIndexName
+	 *            The current indexers, grouped by index name. Must not be <code>null</code>.
+	 * @return <code>true</code> if the indexers are unchanged, otherwise <code>false</code>.
+	 */
+	public boolean hasSameIndexers(final Map<String, Set<Indexer<?>>> indexersByIndexName) {
+		checkNotNull(indexersByIndexName,
+				"Precondition violation - argument 'indexersByIndexName' must not be NULL!");
+		if (this.indexersByIndexName.keySet().equals(indexersByIndexName.keySet()) == false) {
+			return false;
+		}
+		for (Entry<String, Set<Indexer<?>>> entry : indexersByIndexName.entrySet()) {
+			Set<Indexer<?>> preparedIndexers = this.indexersByIndexName.get(entry.getKey());
+			if (preparedIndexers.size() != entry.getValue().size()) {
+				return false;
+			}
+			for (Indexer<?> indexer : entry.getValue()) {
+				if (preparedIndexers.contains(indexer) == false) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	public Set<QualifiedKey> getModifiedKeys() {
+		return Collections.unmodifiableSet(this.modifiedKeys);
+	}
+
+	public ChangeSet toChangeSet(final Branch branch, final long commitTimestamp) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkArgument(commitTimestamp > this.snapshotTimestamp,
+				"Precondition violation - argument 'commitTimestamp' must be greater than the snapshot timestamp!");
+		ChangeSet changeSet = new ChangeSet();
+		for (PreparedEntry entry : this.entries) {
+			if (entry.isRemove()) {
+				changeSet.addEntry(entry.getKeyspace(), entry.getKey(), null);
+			} else {
+				changeSet.addEntry(entry.getKeyspace(), entry.getKey(), entry.getNewValue(), entry.getSerialForm());
+			}
+			if (entry.isIndexed()) {
+				ChronoIdentifier identifier = ChronoIdentifier.create(branch, commitTimestamp, entry.getKeyspace(),
+						entry.getKey());
+				changeSet.addEntryToIndex(identifier, entry.getOldValue(), entry.getNewValue());
+			}
+		}
+		return changeSet;
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static class PreparedEntry {
+
+		private final String keyspace;
+		private final String key;
+		private final Object newValue;
+		private final byte[] serialForm;
+		private final boolean remove;
+		private final boolean indexed;
+		private final Object oldValue;
+
+		public PreparedEntry(final String keyspace, final String key, final Object newValue, final byte[] serialForm,
+				final boolean remove, final boolean indexed, final Object oldValue) {
+			this.keyspace = keyspace;
+			this.key = key;
+			this.newValue = newValue;
+			this.serialForm = serialForm;
+			this.remove = remove;
+			this.indexed = indexed;
+			this.oldValue = oldValue;
+		}
+
+		public String getKeyspace() {
+			return this.keyspace;
+		}
+
+		public String getKey() {
+			return this.key;
+		}
+
+		public Object getNewValue() {
+			return this.newValue;
+		}
+
+		public byte[] getSerialForm() {
+			return this.serialForm;
+		}
+
+		public boolean isRemove() {
+			return this.remove;
+		}
+
+		public boolean isIndexed() {
+			return this.indexed;
+		}
+
+		public Object getOldValue() {
+			return this.oldValue;
+		}
+
+	}
+}
@@ -82,6 +82,18 @@ public class StandardChronoDBTransaction implements ChronoDBTransaction {
         return this.getInternal(qKey);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getMultiple(final String keyspaceName, final Collection<String> keys) {
+        checkNotNull(keyspaceName, "Precondition violation - argument 'keyspaceName' must not be NULL!");
+        checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+        if (keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        // note: this cast is unchecked, the values are only checked when the caller accesses them
+        return (Map<String, T>) this.getTKVS().performGetMultiple(this, keyspaceName, keys);
+    }
+
     protected <T> T getInternal(final QualifiedKey key) throws ValueTypeMismatchException, UnknownKeyspaceException {
         Object value = this.getTKVS().performGet(this, key);
         if (value == null) {
@@ -2,6 +2,7 @@ package org.chronos.chronodb.internal.impl.engines.base;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -15,11 +16,23 @@ import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
 import org.chronos.chronodb.internal.api.TransactionConfigurationInternal;
 import org.chronos.chronodb.internal.impl.DefaultTransactionConfiguration;
 import org.chronos.chronodb.internal.util.ThreadBound;
+import org.chronos.chronodb.internal.util.concurrent.SnapshotReadGate;
 import org.chronos.common.autolock.AbstractAutoLock;
 import org.chronos.common.autolock.AutoLock;
 
 public abstract class TemporalKeyValueStoreBase implements TemporalKeyValueStore {
 
+	// =====================================================================================================================
+	// CONSTANTS
+	// =====================================================================================================================
+
+	/** Masks the number of active writers in the {@link #writeState}. */
+	private static final long ACTIVE_WRITERS_MASK = 0xFFFFFFFFL;
+	/** Added to the {@link #writeState} when a write starts: increments the write counter and the active writers. */
+	private static final long WRITE_STARTED = (1L << 32) + 1;
+	private static final long UNMODIFIABLE_STAMP = -1;
+	private static final long INVALID_STAMP = -2;
+
 	// =====================================================================================================================
 	// FIELDS
 	// =====================================================================================================================
@@ -46,6 +59,24 @@ public abstract class TemporalKeyValueStoreBase implements TemporalKeyValueStore
 	private final ThreadBound<AutoLock> exclusiveLockHolder = ThreadBound.createWeakReference();
 	private final ThreadBound<AutoLock> branchExclusiveLockHolder = ThreadBound.createWeakReference();
 
+	/**
+	 * The latest "now" timestamp of this branch which is known to be fully committed, or a negative value if it is
+	 * currently unknown.
+	 *
+	 * <p>
+	 * Commits always write at timestamps after the current "now", so no in-flight commit can ever affect the data at or
+	 * before this timestamp. Read operations at such timestamps may therefore be executed as lock-free
+	 * {@linkplain #lockSnapshotRead(long) snapshot reads}.
+	 */
+	private volatile long publishedNow = -1;
+
+	/**
+	 * Tracks the writes on this branch. The lower 32 bits contain the number of active writers, the upper 32 bits are
+	 * incremented whenever a write starts. Writes are only started while holding the {@link #writeStateMonitor}.
+	 */
+	private final AtomicLong writeState = new AtomicLong(0);
+	private final Object writeStateMonitor = new Object();
+
 	// =================================================================================================================
 	// BRANCH LOCKING
 	// =================================================================================================================
@@ -83,6 +114,136 @@ public abstract class TemporalKeyValueStoreBase implements TemporalKeyValueStore
 		return lockHolder;
 	}
 
+	/**
+	 * Acquires the permission to read the data of this branch at the given timestamp.
+	 *
+	 * <p>
+	 * If the timestamp is at or before the {@linkplain #publishNow(long) published} "now" timestamp of this branch, the
+	 * read is performed as a <i>snapshot read</i>: instead of acquiring the database lock and the branch lock, the
+	 * current thread merely enters the {@linkplain SnapshotReadGate snapshot read gate} of the owning database.
+	 * Snapshot reads therefore never wait for commits. Operations which destroy visible data need to
+	 * {@linkplain #drainSnapshotReads() drain} the snapshot reads first. Reads which are nested within a snapshot read
+	 * are always snapshot reads as well. In all other cases, this method falls back to {@link #lockNonExclusive()}.
+	 *
+	 * <p>
+	 * The code executed under the returned lock must not acquire any locks of the database or of its branches.
+	 *
+	 * @param timestamp
+	 *            The timestamp at which the data will be read. Must not be negative.
+	 *
+	 * @return The object representing the lock ownership. Never <code>null</code>. Will be closed automatically by the
+	 *         <code>try-with-resources</code> statement.
+	 */
+	protected AutoLock lockSnapshotRead(final long timestamp) {
+		if (this.isSnapshotReadSupported()) {
+			SnapshotReadGate gate = this.getOwningDB().getSnapshotReadGate();
+			if (timestamp <= this.publishedNow || gate.isEnteredByCurrentThread()) {
+				AutoLock lock = gate.tryEnter();
+				if (lock != null) {
+					return lock;
+				}
+			}
+		}
+		AutoLock lock = this.lockNonExclusive();
+		if (this.publishedNow < 0) {
+			// calculating the current timestamp publishes it for subsequent snapshot reads
+			this.getNow();
+		}
+		return lock;
+	}
+
+	/**
+	 * Returns a stamp which allows to detect whether the current read operation overlaps with a write on this branch.
+	 *
+	 * <p>
+	 * Snapshot reads may run concurrently to a commit on this branch. If a snapshot read caches its result after the
+	 * commit has written through the cache, the stale result would remain in the cache. The stamp needs to be obtained
+	 * before the data is read, and passed to {@link #runIfNotModifiedSince(long, Runnable)} when caching the result.
+	 *
+	 * @return The stamp. Reads which hold the branch lock always receive a stamp which is never invalidated.
+	 */
+	protected long getSnapshotReadCacheStamp() {
+		if (this.getOwningDB().getSnapshotReadGate().isEnteredByCurrentThread() == false) {
+			// we hold the branch lock, no write can happen concurrently
+			return UNMODIFIABLE_STAMP;
+		}
+		long state = this.writeState.get();
+		if ((state & ACTIVE_WRITERS_MASK) != 0) {
+			// a write is in progress right now
+			return INVALID_STAMP;
+		}
+		return state;
+	}
+
+	/**
+	 * Runs the given action if no write on this branch has started since the given stamp was obtained.
+	 *
+	 * <p>
+	 * No write can start while the action is running, so the action must be short and must not acquire any locks.
+	 *
+	 * @param stamp
+	 *            The stamp, as obtained by {@link #getSnapshotReadCacheStamp()}.
+	 * @param action
+	 *            The action to run. Must not be <code>null</code>.
+	 *
+	 * @return <code>true</code> if the action was executed, otherwise <code>false</code>.
+	 */
+	protected boolean runIfNotModifiedSince(final long stamp, final Runnable action) {
+		checkNotNull(action, "Precondition violation - argument 'action' must not be NULL!");
+		if (stamp == UNMODIFIABLE_STAMP) {
+			action.run();
+			return true;
+		}
+		synchronized (this.writeStateMonitor) {
+			if (stamp == INVALID_STAMP || this.writeState.get() != stamp) {
+				return false;
+			}
+			action.run();
+			return true;
+		}
+	}
+
+	/**
+	 * Publishes the given "now" timestamp for {@linkplain #lockSnapshotRead(long) snapshot reads}.
+	 *
+	 * <p>
+	 * Callers must ensure that all data up to (and including) the given timestamp is committed, and that no concurrent
+	 * commit on this branch is able to change it.
+	 *
+	 * @param now
+	 *            The "now" timestamp to publish. Must not be negative.
+	 */
+	protected void publishNow(final long now) {
+		checkArgument(now >= 0, "Precondition violation - argument 'now' must not be negative!");
+		this.publishedNow = now;
+	}
+
+	/**
+	 * Closes the {@linkplain SnapshotReadGate snapshot read gate} of the owning database and waits for all snapshot
+	 * reads to complete.
+	 *
+	 * <p>
+	 * When the returned lock is closed, the "now" timestamp of this branch is unpublished before the gate is re-opened,
+	 * such that it is re-calculated after the destructive operation has been completed.
+	 *
+	 * @return The object representing the closed gate. Never <code>null</code>. Closing it re-opens the gate.
+	 */
+	protected AutoLock drainSnapshotReads() {
+		AutoLock lock = new SnapshotReadDrainAutoLock();
+		lock.acquireLock();
+		return lock;
+	}
+
+	private void beginWrite() {
+		synchronized (this.writeStateMonitor) {
+			this.writeState.addAndGet(WRITE_STARTED);
+		}
+	}
+
+	private void endWrite() {
+		this.writeState.decrementAndGet();
+	}
+
 	// =================================================================================================================
 	// OPERATION [ TX ]
 	// =================================================================================================================
@@ -150,6 +311,19 @@ public abstract class TemporalKeyValueStoreBase implements TemporalKeyValueStore
 	 */
 	protected abstract void verifyTransaction(ChronoDBTransaction tx);
 
+	/**
+	 * Checks if this store supports lock-free {@linkplain #lockSnapshotRead(long) snapshot reads}.
+	 *
+	 * <p>
+	 * Implementations may only return <code>true</code> if their data matrices can safely be read while a commit is
+	 * writing to them. By default, this method returns <code>false</code>.
+	 *
+	 * @return <code>true</code> if snapshot reads are supported, otherwise <code>false</code>.
+	 */
+	protected boolean isSnapshotReadSupported() {
+		return false;
+	}
+
 	// =====================================================================================================================
 	// INNER CLASSES
 	// =====================================================================================================================
@@ -170,10 +344,12 @@ public abstract class TemporalKeyValueStoreBase implements TemporalKeyValueStore
 		protected void doLock() {
 			this.dbLockHolder.acquireLock();
 			TemporalKeyValueStoreBase.this.branchLock.writeLock().lock();
+			TemporalKeyValueStoreBase.this.beginWrite();
 		}
 
 		@Override
 		protected void doUnlock() {
+			TemporalKeyValueStoreBase.this.endWrite();
 			TemporalKeyValueStoreBase.this.branchLock.writeLock().unlock();
 			this.dbLockHolder.releaseLock();
 		}
@@ -197,16 +373,36 @@ public abstract class TemporalKeyValueStoreBase implements TemporalKeyValueStore
 		protected void doLock() {
 			this.dbLockHolder.acquireLock();
 			TemporalKeyValueStoreBase.this.branchLock.writeLock().lock();
+			TemporalKeyValueStoreBase.this.beginWrite();
 		}
 
 		@Override
 		protected void doUnlock() {
+			TemporalKeyValueStoreBase.this.endWrite();
 			TemporalKeyValueStoreBase.this.branchLock.writeLock().unlock();
 			this.dbLockHolder.releaseLock();
 		}
 
 	}
 
+	private class SnapshotReadDrainAutoLock extends AbstractAutoLock {
+
+		private AutoLock drainLock;
+
+		@Override
+		protected void doLock() {
+			this.drainLock = TemporalKeyValueStoreBase.this.getOwningDB().getSnapshotReadGate().drain();
+		}
+
+		@Override
+		protected void doUnlock() {
+			TemporalKeyValueStoreBase.this.publishedNow = -1;
+			this.drainLock.releaseLock();
+			this.drainLock = null;
+		}
+
+	}
+
 	private class NonExclusiveAutoLock extends AbstractAutoLock {
 
 		private final AutoLock dbLockHolder;
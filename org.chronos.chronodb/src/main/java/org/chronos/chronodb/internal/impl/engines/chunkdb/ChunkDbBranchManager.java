@@ -49,6 +49,16 @@ public class ChunkDbBranchManager extends AbstractBranchManager {
 		return Collections.unmodifiableSet(Sets.newHashSet(this.branchMetadata.keySet()));
 	}
 
+	@Override
+	public boolean isBranchMaterializationSupported() {
+		return false;
+	}
+
+	@Override
+	public void materializeBranch(final String branchName) {
+		throw new UnsupportedOperationException("The chunked backend does not support branch materialization.");
+	}
+
 	@Override
 	protected BranchInternal createBranch(final IBranchMetadata metadata) {
 		BranchInternal parentBranch = null;
@@ -77,6 +87,21 @@ public class ChunkDbBranchManager extends AbstractBranchManager {
 		return branch;
 	}
 
+	@Override
+	protected void deleteBranchMetadata(final String branchName) {
+		try (TuplTransaction tx = this.openTx()) {
+			BranchMetadataIndex.delete(tx, branchName);
+			tx.commit();
+		}
+		this.loadedBranches.remove(branchName);
+		this.branchMetadata.remove(branchName);
+	}
+
+	@Override
+	protected void deleteIndexDocuments(final BranchInternal branch) {
+		// the chunk indices live inside the branch directory, which is deleted together with the branch contents
+	}
+
 	@Override
 	protected BranchInternal getBranchInternal(final String name) {
 		checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
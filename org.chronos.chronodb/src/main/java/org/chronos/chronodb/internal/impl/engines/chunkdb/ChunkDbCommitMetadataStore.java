@@ -100,6 +100,18 @@ public class ChunkDbCommitMetadataStore extends AbstractCommitMetadataStore {
 		}
 	}
 
+	@Override
+	protected void purgeInternal(final Set<Long> commitTimestamps) {
+		throw new UnsupportedOperationException("The chunked backend does not support purging commits.");
+	}
+
+	@Override
+	protected void dropInternal() {
+		try (TuplTransaction tx = this.openTransaction()) {
+			TuplUtils.deleteIndexIfExists(tx.getDB(), this.indexName);
+		}
+	}
+
 	@Override
 	public Iterator<Long> getCommitTimestampsBetween(final long from, final long to, final Order order) {
 		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
@@ -2,10 +2,15 @@ package org.chronos.chronodb.internal.impl.engines.chunkdb;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 
+import org.chronos.chronodb.api.HistoryCompactionReport;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
 import org.chronos.chronodb.api.MaintenanceManager;
 import org.chronos.chronodb.internal.api.BranchInternal;
 import org.chronos.common.autolock.AutoLock;
@@ -92,4 +97,44 @@ public class ChunkDbMaintenanceManager implements MaintenanceManager {
 		}
 	}
 
+	// =================================================================================================================
+	// PUBLIC API [ HISTORY COMPACTION ]
+	// =================================================================================================================
+
+	@Override
+	public boolean isHistoryCompactionSupported() {
+		// the history of a branch is already bounded by the rollover mechanism
+		return false;
+	}
+
+	@Override
+	public HistoryCompactionReport performHistoryCompaction(final String branchName,
+			final HistoryRetentionPolicy policy) {
+		throw new UnsupportedOperationException("The chunked backend does not support history compaction.");
+	}
+
+	@Override
+	public HistoryCompactionReport performHistoryCompaction(final String branchName, final String keyspace,
+			final HistoryRetentionPolicy policy) {
+		throw new UnsupportedOperationException("The chunked backend does not support history compaction.");
+	}
+
+	@Override
+	public Future<HistoryCompactionReport> performHistoryCompactionAsync(final String branchName,
+			final HistoryRetentionPolicy policy) {
+		throw new UnsupportedOperationException("The chunked backend does not support history compaction.");
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleHistoryCompaction(final HistoryRetentionPolicy policy, final long interval,
+			final TimeUnit unit) {
+		throw new UnsupportedOperationException("The chunked backend does not support history compaction.");
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleHistoryCompaction(final String branchName, final String keyspace,
+			final HistoryRetentionPolicy policy, final long interval, final TimeUnit unit) {
+		throw new UnsupportedOperationException("The chunked backend does not support history compaction.");
+	}
+
 }
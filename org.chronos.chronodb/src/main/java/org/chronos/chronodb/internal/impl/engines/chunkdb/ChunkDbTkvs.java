@@ -4,6 +4,7 @@ import static org.chronos.common.logging.ChronoLogger.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 
@@ -140,6 +141,30 @@ public class ChunkDbTkvs extends AbstractTemporalKeyValueStore {
 		}
 	}
 
+	@Override
+	protected Set<String> loadMaterializedKeyspaces() {
+		// branch materialization is not supported by this backend
+		return Collections.emptySet();
+	}
+
+	@Override
+	protected void saveMaterializedKeyspaces(final Set<String> keyspaces) {
+		throw new UnsupportedOperationException("The chunked backend does not support branch materialization.");
+	}
+
+	@Override
+	protected void dropBranchRecords() {
+		String branchName = this.getOwningBranch().getName();
+		try (TuplTransaction tx = this.getOwningDB().openTx()) {
+			NavigationIndex.deleteBranch(tx, branchName);
+			tx.delete(ChunkedChronoDB.INDEXNAME__BRANCH_TO_NOW, branchName);
+			tx.delete(ChunkedChronoDB.INDEXNAME__BRANCH_TO_WAL, branchName);
+			tx.commit();
+		}
+		// the matrix contents reside in the chunk files; delete them together with the branch directory
+		this.getOwningDB().getChunkManager().deleteChunkManagerForBranch(branchName);
+	}
+
 	public void performRollover() {
 		long now = this.getNow();
 		try (AutoLock lock = this.getOwningDB().lockExclusive()) {
@@ -4,6 +4,9 @@ import static com.google.common.base.Preconditions.*;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -12,9 +15,12 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.api.Period;
 import org.chronos.chronodb.internal.impl.IBranchMetadata;
 import org.chronos.chronodb.internal.impl.engines.tupl.DefaultTuplTransaction;
 import org.chronos.chronodb.internal.impl.engines.tupl.TuplUtils;
@@ -129,6 +135,43 @@ public class GlobalChunkManager {
 		}
 	}
 
+	/**
+	 * Deletes the {@link BranchChunkManager} for the given branch, including all of its chunk files on disk.
+	 *
+	 * <p>
+	 * The caller is responsible for ensuring that there are no open transactions on any chunk of the branch.
+	 *
+	 * @param branchName
+	 *            The name of the branch to delete the chunk manager for. Must not be <code>null</code>. If there is no
+	 *            chunk manager for the given branch, this method has no effect.
+	 */
+	public void deleteChunkManagerForBranch(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		this.ensureInitialized();
+		this.fileSystemLock.writeLock().lock();
+		try {
+			BranchChunkManager manager = this.getBranchNameToChunkManager().remove(branchName);
+			if (manager == null) {
+				return;
+			}
+			for (ChronoChunk chunk : manager.getChunksForPeriod(Period.eternal())) {
+				this.ensureTuplDbIsClosed(chunk.getDataFile());
+			}
+			File branchDir = manager.getRootDirectory();
+			try (Stream<Path> paths = Files.walk(branchDir.toPath())) {
+				// delete the contents of each directory before the directory itself
+				for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+					Files.delete(path);
+				}
+			} catch (IOException e) {
+				throw new ChronosIOException(
+						"Failed to delete branch directory '" + branchDir.getAbsolutePath() + "'!", e);
+			}
+		} finally {
+			this.fileSystemLock.writeLock().unlock();
+		}
+	}
+
 	public ChunkTuplTransaction openTransactionOn(final String branch, final long timestamp) {
 		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
@@ -206,6 +249,7 @@ public class GlobalChunkManager {
 			}
 			this.dbToOpenTransactions.removeAll(db);
 			this.fileToOpenDB.remove(dbFile);
+			this.dbLRUList.remove(db);
 			TuplUtils.shutdownQuietly(db);
 		} finally {
 			this.dbLock.unlock();
@@ -2,6 +2,8 @@ package org.chronos.chronodb.internal.impl.engines.chunkdb;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -17,10 +19,12 @@ import org.chronos.chronodb.internal.impl.engines.tupl.TuplDataMatrixUtil;
 import org.chronos.chronodb.internal.impl.engines.tupl.TuplUtils;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.impl.tupl.TuplTransaction;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 
@@ -56,6 +60,32 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public Map<String, GetResult<byte[]>> getMultiple(final long timestamp, final Collection<String> keys) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		Map<String, GetResult<byte[]>> resultMap = Maps.newHashMap();
+		if (keys.isEmpty()) {
+			return resultMap;
+		}
+		// all keys are served by the same chunk, so we only need to open it once
+		try (ChunkTuplTransaction tx = this.chunkManager.openBogusTransactionOn(this.branchName, timestamp)) {
+			Period chunkPeriod = tx.getChunkPeriod();
+			for (String key : keys) {
+				GetResult<byte[]> getResult = TuplDataMatrixUtil.get(tx, this.mapName, this.getKeyspace(), timestamp,
+						key);
+				if (getResult.getPeriod().getUpperBound() > chunkPeriod.getUpperBound()) {
+					// limit the "valid to" timestamp to the chunk's "valid to", just like in get(...)
+					Period newPeriod = Period.createRange(getResult.getPeriod().getLowerBound(),
+							chunkPeriod.getUpperBound());
+					getResult = GetResult.alterPeriod(getResult, newPeriod);
+				}
+				resultMap.put(key, getResult);
+			}
+		}
+		return resultMap;
+	}
+
 	@Override
 	public KeySetModifications keySetModifications(final long timestamp) {
 		try (TuplTransaction tx = this.chunkManager.openBogusTransactionOn(this.branchName, timestamp)) {
@@ -178,6 +208,17 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public long purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		throw new UnsupportedOperationException("The chunked backend does not support purging matrix entries.");
+	}
+
+	@Override
+	public void drop() {
+		// the contents of this matrix are spread across the chunk files of the owning branch. They are
+		// deleted together with the branch directory by the GlobalChunkManager, so there is nothing to do here.
+	}
+
 	// =================================================================================================================
 	// INNER CLASSES
 	// =================================================================================================================
@@ -276,6 +317,13 @@ public class TemporalChunkDbDataMatrix extends AbstractTemporalDataMatrix {
 		protected Iterator<TemporalKey> createChunkElementIterator(final ChronoChunk chunk) {
 			long lowerBound = Math.max(this.period.getLowerBound(), chunk.getMetaData().getValidFrom());
 			long upperBound = Math.min(this.period.getUpperBound(), chunk.getMetaData().getValidTo());
+			if (upperBound < Long.MAX_VALUE) {
+				// note: the upper bound of the period is exclusive, but the tupl utility expects an inclusive one
+				upperBound -= 1;
+			}
+			if (lowerBound > upperBound) {
+				return Collections.emptyIterator();
+			}
 			try (TuplTransaction tx = TemporalChunkDbDataMatrix.this.chunkManager
 					.openTransactionOn(chunk.getDataFile())) {
 				return TuplDataMatrixUtil.getModificationsBetween(tx, TemporalChunkDbDataMatrix.this.mapName,
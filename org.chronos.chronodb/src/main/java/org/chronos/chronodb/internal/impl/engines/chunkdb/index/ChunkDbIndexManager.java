@@ -12,6 +12,18 @@ public class ChunkDbIndexManager extends DocumentBasedIndexManager {
 		super(owningDB, new ChunkDbIndexManagerBackend(owningDB));
 	}
 
+	@Override
+	public void reindex(final String indexName) {
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		checkArgument(this.getIndexNames().contains(indexName),
+				"Precondition violation - argument 'indexName' does not refer to a known index!");
+		// the chunks always rebuild all indices at once (see below)
+		try (AutoLock lock = this.getOwningDB().lockExclusive()) {
+			this.setIndexDirty(indexName);
+			this.reindexAll();
+		}
+	}
+
 	@Override
 	public void reindexAll() {
 		// this is a more efficient implementation for the ChunkDB indexer than the superclass
@@ -52,6 +52,11 @@ public class InMemoryBranchManager extends AbstractBranchManager {
 		return this.branchNameToBranch.get(name);
 	}
 
+	@Override
+	protected void deleteBranchMetadata(final String branchName) {
+		this.branchNameToBranch.remove(branchName);
+	}
+
 	@Override
 	protected BranchInternal createBranch(final IBranchMetadata metadata) {
 		checkNotNull(metadata, "Precondition violation - argument 'metadata' must not be NULL!");
@@ -7,6 +7,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
+import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListMap;
 
 import org.chronos.chronodb.api.Branch;
@@ -49,6 +50,17 @@ public class InMemoryCommitMetadataStore extends AbstractCommitMetadataStore {
 		subMap.clear();
 	}
 
+	@Override
+	protected void purgeInternal(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		this.commitMetadataMap.keySet().removeAll(commitTimestamps);
+	}
+
+	@Override
+	protected void dropInternal() {
+		this.commitMetadataMap.clear();
+	}
+
 	@Override
 	public Iterator<Long> getCommitTimestampsBetween(final long from, final long to, final Order order) {
 		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
@@ -1,19 +1,13 @@
 package org.chronos.chronodb.internal.impl.engines.inmemory;
 
-import static com.google.common.base.Preconditions.*;
-
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
-
-public class InMemoryMaintenanceManager implements MaintenanceManager {
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
 
-	@SuppressWarnings("unused")
-	private final InMemoryChronoDB owningDB;
+public class InMemoryMaintenanceManager extends AbstractMaintenanceManager {
 
 	public InMemoryMaintenanceManager(final InMemoryChronoDB owningDB) {
-		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
-		this.owningDB = owningDB;
+		super(owningDB);
 	}
 
 	// =================================================================================================================
@@ -2,6 +2,8 @@ package org.chronos.chronodb.internal.impl.engines.inmemory;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -27,6 +29,8 @@ public class InMemoryTKVS extends AbstractTemporalKeyValueStore implements Tempo
 	private WriteAheadLogToken walToken = null;
 	private final Lock walLock = new ReentrantLock();
 
+	private volatile Set<String> materializedKeyspaces = Collections.emptySet();
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -52,6 +56,12 @@ public class InMemoryTKVS extends AbstractTemporalKeyValueStore implements Tempo
 		this.now.set(timestamp);
 	}
 
+	@Override
+	protected boolean isSnapshotReadSupported() {
+		// the matrices are backed by concurrent skip lists, so they may be read during a commit
+		return true;
+	}
+
 	@Override
 	protected TemporalDataMatrix createMatrix(final String keyspace, final long timestamp) {
 		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -95,6 +105,22 @@ public class InMemoryTKVS extends AbstractTemporalKeyValueStore implements Tempo
 		}
 	}
 
+	@Override
+	protected Set<String> loadMaterializedKeyspaces() {
+		return this.materializedKeyspaces;
+	}
+
+	@Override
+	protected void dropBranchRecords() {
+		// nothing to do; all records of this store are garbage collected together with it
+	}
+
+	@Override
+	protected void saveMaterializedKeyspaces(final Set<String> keyspaces) {
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		this.materializedKeyspaces = Collections.unmodifiableSet(keyspaces);
+	}
+
 	@Override
 	public CommitMetadataStore getCommitMetadataStore() {
 		return this.commitMetadataStore;
@@ -19,6 +19,7 @@ import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.InverseUnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+import org.chronos.chronodb.internal.util.DataMatrixUtil;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 import org.chronos.common.logging.ChronoLogger;
 
@@ -171,6 +172,18 @@ public class TemporalInMemoryMatrix extends AbstractTemporalDataMatrix {
 		return new AllEntriesIterator(this.contents.entrySet().iterator(), timestamp);
 	}
 
+	@Override
+	public Set<String> getAllKeys() {
+		Set<String> keys = Sets.newHashSet();
+		UnqualifiedTemporalKey temporalKey = this.contents.isEmpty() ? null : this.contents.firstKey();
+		while (temporalKey != null) {
+			keys.add(temporalKey.getKey());
+			// skip the remaining versions of this key
+			temporalKey = this.contents.higherKey(UnqualifiedTemporalKey.createMax(temporalKey));
+		}
+		return keys;
+	}
+
 	@Override
 	public long lastCommitTimestamp(final String key) {
 		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
@@ -200,6 +213,28 @@ public class TemporalInMemoryMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public long purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		long bytes = 0;
+		for (UnqualifiedTemporalKey key : keys) {
+			byte[] value = this.contents.remove(key);
+			if (value == null) {
+				// this version does not exist in the matrix
+				continue;
+			}
+			bytes += DataMatrixUtil.getEntrySize(key.toSerializableFormat(), value);
+			this.inverseContents.remove(InverseUnqualifiedTemporalKey.create(key.getTimestamp(), key.getKey()));
+		}
+		return bytes;
+	}
+
+	@Override
+	public void drop() {
+		this.contents.clear();
+		this.inverseContents.clear();
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
@@ -52,6 +52,16 @@ public class JdbcBranchManager extends AbstractBranchManager implements BranchMa
 		return Collections.unmodifiableSet(Sets.newHashSet(this.branchMetadata.keySet()));
 	}
 
+	@Override
+	public boolean isBranchMaterializationSupported() {
+		return false;
+	}
+
+	@Override
+	public void materializeBranch(final String branchName) {
+		throw new UnsupportedOperationException("The JDBC backend does not support branch materialization.");
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
@@ -88,6 +98,18 @@ public class JdbcBranchManager extends AbstractBranchManager implements BranchMa
 		return branch;
 	}
 
+	@Override
+	protected void deleteBranchMetadata(final String branchName) {
+		try (Connection connection = this.openConnection()) {
+			JdbcBranchMetadataTable.get(connection).delete(branchName);
+			connection.commit();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not access Branch Metadata Table!", e);
+		}
+		this.loadedBranches.remove(branchName);
+		this.branchMetadata.remove(branchName);
+	}
+
 	@Override
 	protected BranchInternal getBranchInternal(final String name) {
 		checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
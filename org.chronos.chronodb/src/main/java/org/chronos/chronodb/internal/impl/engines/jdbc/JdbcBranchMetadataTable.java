@@ -168,6 +168,17 @@ public class JdbcBranchMetadataTable extends DefaultJdbcTable {
 		}
 	}
 
+	public void delete(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		String sql = NAMED_SQL_REMOVE_BRANCH;
+		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
+			nStmt.setParameter(PROPERTY_BRANCH_NAME, branchName);
+			nStmt.executeUpdate();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to delete from Branch Metadata table!", e);
+		}
+	}
+
 	public Set<IBranchMetadata> getAll() {
 		String sql = SQL_SELECT_ALL;
 		try (PreparedStatement pStmt = this.connection.prepareStatement(sql)) {
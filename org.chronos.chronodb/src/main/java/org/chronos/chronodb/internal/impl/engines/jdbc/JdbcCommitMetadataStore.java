@@ -7,6 +7,7 @@ import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.Order;
@@ -63,6 +64,30 @@ public class JdbcCommitMetadataStore extends AbstractCommitMetadataStore {
 		}
 	}
 
+	@Override
+	protected void purgeInternal(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		String branchName = this.getBranchName();
+		try (Connection connection = this.openConnection()) {
+			JdbcCommitMetadataTable table = JdbcCommitMetadataTable.get(connection);
+			for (Long timestamp : commitTimestamps) {
+				table.delete(branchName, timestamp);
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to access Commit Metadata Table!", e);
+		}
+	}
+
+	@Override
+	protected void dropInternal() {
+		String branchName = this.getBranchName();
+		try (Connection connection = this.openConnection()) {
+			JdbcCommitMetadataTable.get(connection).deleteBranch(branchName);
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to access Commit Metadata Table!", e);
+		}
+	}
+
 	@Override
 	public Iterator<Long> getCommitTimestampsBetween(final long from, final long to, final Order order) {
 		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
@@ -119,6 +119,12 @@ import com.google.common.collect.Maps;
 	public static final String NAMED_SQL__ROLLBACK_BRANCH_TO_TIMESTAMP = "DELETE FROM " + NAME + " WHERE "
 			+ PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_TIMESTAMP + " > ${timestamp}";
 
+	public static final String NAMED_SQL__DELETE_BRANCH_AND_TIMESTAMP = "DELETE FROM " + NAME + " WHERE "
+			+ PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_TIMESTAMP + " = ${timestamp}";
+
+	public static final String NAMED_SQL__DELETE_BRANCH = "DELETE FROM " + NAME + " WHERE " + PROPERTY_BRANCH
+			+ " = ${branch}";
+
 	public static final String NAMED_SQL__GET_COMMIT_TIMESTAMPS_BETWEEN_ASC = "SELECT DISTINCT " + PROPERTY_TIMESTAMP
 			+ " FROM " + NAME + " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_TIMESTAMP
 			+ " >= ${from} AND " + PROPERTY_TIMESTAMP + " <= ${to} ORDER BY " + PROPERTY_TIMESTAMP + " ASC";
@@ -286,6 +292,30 @@ import com.google.common.collect.Maps;
 		}
 	}
 
+	public void delete(final String branchName, final long timestamp) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		String sql = NAMED_SQL__DELETE_BRANCH_AND_TIMESTAMP;
+		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
+			nStmt.setParameter("branch", branchName);
+			nStmt.setParameter("timestamp", timestamp);
+			nStmt.executeUpdate();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to delete commit from Commit Metadata Table!", e);
+		}
+	}
+
+	public void deleteBranch(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		String sql = NAMED_SQL__DELETE_BRANCH;
+		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
+			nStmt.setParameter("branch", branchName);
+			nStmt.executeUpdate();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to delete branch from Commit Metadata Table!", e);
+		}
+	}
+
 	public Iterator<Long> getCommitTimestampsBetween(final String branchName, final long from, final long to,
 			final Order order) {
 		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
@@ -7,9 +7,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
 import org.chronos.chronodb.internal.api.index.ChronoIndexDocument;
@@ -23,6 +25,7 @@ import org.chronos.chronodb.internal.impl.jdbc.util.NamedParameterStatement;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
 import org.chronos.common.logging.ChronoLogger;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 class JdbcDoubleIndexDocumentTable extends DefaultJdbcTable {
@@ -189,6 +192,16 @@ class JdbcDoubleIndexDocumentTable extends DefaultJdbcTable {
 			+ PROPERTY_VALID_TO + " <= ${timestamp} AND " + PROPERTY_INDEXED_VALUE
 			+ " >= ${search} ESCAPE ${escape}";
 
+	private static final String NAMED_SQL_GET_DOCUMENTS_VALID_AT_ORDERED_ASCENDING = "SELECT * FROM " + NAME + " WHERE "
+			+ PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND " + PROPERTY_INDEX_NAME + " = ${index} AND " + PROPERTY_VALID_FROM
+			+ " <= ${timestamp} AND " + PROPERTY_VALID_TO + " > ${timestamp} ORDER BY " + PROPERTY_INDEXED_VALUE + " ASC, "
+			+ PROPERTY_KEY + " ASC LIMIT ${limit} OFFSET ${offset}";
+
+	private static final String NAMED_SQL_GET_DOCUMENTS_VALID_AT_ORDERED_DESCENDING = "SELECT * FROM " + NAME + " WHERE "
+			+ PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND " + PROPERTY_INDEX_NAME + " = ${index} AND " + PROPERTY_VALID_FROM
+			+ " <= ${timestamp} AND " + PROPERTY_VALID_TO + " > ${timestamp} ORDER BY " + PROPERTY_INDEXED_VALUE + " DESC, "
+			+ PROPERTY_KEY + " DESC LIMIT ${limit} OFFSET ${offset}";
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -497,6 +510,45 @@ class JdbcDoubleIndexDocumentTable extends DefaultJdbcTable {
 		}
 	}
 
+	public List<ChronoIndexDocument> getDocumentsOrderedByValue(final String indexName, final String branch, final String keyspace, final long timestamp, final Order order, final int limit, final int offset) {
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(limit > 0, "Precondition violation - argument 'limit' must be greater than zero!");
+		checkArgument(offset >= 0, "Precondition violation - argument 'offset' must not be negative!");
+		String sql;
+		switch (order) {
+		case ASCENDING:
+			sql = NAMED_SQL_GET_DOCUMENTS_VALID_AT_ORDERED_ASCENDING;
+			break;
+		case DESCENDING:
+			sql = NAMED_SQL_GET_DOCUMENTS_VALID_AT_ORDERED_DESCENDING;
+			break;
+		default:
+			throw new UnknownEnumLiteralException(order);
+		}
+		try (NamedParameterStatement namedStmt = new NamedParameterStatement(this.connection, sql)) {
+			namedStmt.setParameter("branch", branch);
+			namedStmt.setParameter("keyspace", keyspace);
+			namedStmt.setParameter("index", indexName);
+			namedStmt.setParameter("timestamp", timestamp);
+			namedStmt.setParameter("limit", limit);
+			namedStmt.setParameter("offset", offset);
+			ChronoLogger.logTrace("SEARCH: " + namedStmt.toStringWithResolvedParameters());
+			try (ResultSet resultSet = namedStmt.executeQuery()) {
+				List<ChronoIndexDocument> documents = Lists.newArrayList();
+				while (resultSet.next()) {
+					documents.add(this.convertResultSetToDocument(resultSet));
+				}
+				return documents;
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not query Index Documents Table!", e);
+		}
+	}
+
 	public boolean delete(final ChronoIndexDocument documentToDelete) {
 		checkNotNull(documentToDelete, "Precondition violation - argument 'documentToDelete' must not be NULL!");
 		String sql = NAMED_SQL_DELETE_WHERE_DOCUMENT_ID_EQUALS;
@@ -5,11 +5,15 @@ import static com.google.common.base.Preconditions.*;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.exceptions.ChronoDBStorageBackendException;
 import org.chronos.chronodb.api.exceptions.JdbcTableException;
 import org.chronos.chronodb.api.exceptions.UnknownIndexException;
@@ -33,6 +37,7 @@ import org.chronos.common.logging.ChronoLogger;
 import org.chronos.common.util.ReflectionUtils;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
@@ -108,11 +113,11 @@ public class JdbcIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 
 	@Override
 	public void deleteIndexContents(final String indexName) {
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
 		try (Connection connection = this.openConnection()) {
-			JdbcIndexerTable.get(connection).removeAllIndexersOfIndex(indexName);
-			JdbcIndexDirtyFlagsTable.get(connection).removeIndexDirtyFlag(indexName);
+			JdbcStringIndexDocumentTable.get(connection).deleteDocumentsOfIndex(indexName);
 		} catch (SQLException | JdbcTableException e) {
-			throw new ChronoDBStorageBackendException("Unable to delete indices from database!", e);
+			throw new ChronoDBStorageBackendException("Unable to delete index contents from database!", e);
 		}
 	}
 
@@ -268,6 +273,50 @@ public class JdbcIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		return this.performSearchInternal(branchName, keyspace, timestamp, TimeSearchMode.VALID_AT_TIMESTAMP, searchSpec);
 	}
 
+	@Override
+	public List<ChronoIndexDocument> getFirstMatchingDocuments(final long timestamp, final Branch branch, final String keyspace, final SearchSpecification<?> searchSpec, final Order order, final int limit) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+		checkNotNull(searchSpec, "Precondition violation - argument 'searchSpec' must not be NULL!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(limit > 0, "Precondition violation - argument 'limit' must be greater than zero!");
+		boolean isNumericSearch = searchSpec instanceof LongSearchSpecification || searchSpec instanceof DoubleSearchSpecification;
+		if (isNumericSearch == false || branch.getOriginsRecursive().isEmpty() == false) {
+			// the documents of origin branches would have to be merged with the branch-local ones, and the
+			// collation of the database may order strings differently than Java does; use the default selection.
+			return super.getFirstMatchingDocuments(timestamp, branch, keyspace, searchSpec, order, limit);
+		}
+		// let the database walk its index over the indexed values, and apply the condition to each page
+		Predicate<Object> filter = searchSpec.toFilterPredicate();
+		String indexName = searchSpec.getProperty();
+		List<ChronoIndexDocument> resultList = Lists.newArrayList();
+		try (Connection connection = this.openConnection()) {
+			int offset = 0;
+			while (resultList.size() < limit) {
+				List<ChronoIndexDocument> page;
+				if (searchSpec instanceof LongSearchSpecification) {
+					page = JdbcLongIndexDocumentTable.get(connection).getDocumentsOrderedByValue(indexName, branch.getName(), keyspace, timestamp, order, limit, offset);
+				} else {
+					page = JdbcDoubleIndexDocumentTable.get(connection).getDocumentsOrderedByValue(indexName, branch.getName(), keyspace, timestamp, order, limit, offset);
+				}
+				for (ChronoIndexDocument document : page) {
+					if (filter.test(document.getIndexedValue()) && resultList.size() < limit) {
+						resultList.add(document);
+					}
+				}
+				if (page.size() < limit) {
+					// no more documents in the database
+					break;
+				}
+				offset += page.size();
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not query Index Documents Table!", e);
+		}
+		return resultList;
+	}
+
 	private Set<ChronoIndexDocument> performSearchInternal(final String branchName, final String keyspace, final long timestamp, final TimeSearchMode timeSearchMode, final SearchSpecification<?> searchSpec) {
 		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
 		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -545,9 +594,11 @@ public class JdbcIndexManagerBackend extends AbstractDocumentBasedIndexManagerBa
 		checkNotNull(escapeCharacter, "Precondition violation - argument 'escapeCharacter' must not be NULL!");
 		String result = string;
 		// double up on the escape character
-		result = string.replace("" + escapeCharacter, "" + escapeCharacter + escapeCharacter);
+		result = result.replace("" + escapeCharacter, "" + escapeCharacter + escapeCharacter);
 		// escape the percent symbol
-		result = string.replace("%", escapeCharacter + "%");
+		result = result.replace("%", escapeCharacter + "%");
+		// escape the underscore symbol (single-character wildcard)
+		result = result.replace("_", escapeCharacter + "_");
 		return result;
 	}
 
@@ -1,19 +1,13 @@
 package org.chronos.chronodb.internal.impl.engines.jdbc;
 
-import static com.google.common.base.Preconditions.*;
-
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
-
-public class JdbcMaintenanceManager implements MaintenanceManager {
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
 
-	@SuppressWarnings("unused")
-	private final JdbcChronoDB owningDB;
+public class JdbcMaintenanceManager extends AbstractMaintenanceManager {
 
 	public JdbcMaintenanceManager(final JdbcChronoDB owningDB) {
-		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
-		this.owningDB = owningDB;
+		super(owningDB);
 	}
 
 	// =================================================================================================================
@@ -585,6 +585,56 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		}
 	}
 
+	/**
+	 * Removes the entry with the given timestamp and map key from this Matrix Table.
+	 *
+	 * @param timestamp
+	 *            The timestamp of the entry to remove. Must not be negative.
+	 * @param mapKey
+	 *            The map key of the entry to remove. Must not be <code>null</code>.
+	 * @return The value of the removed entry, or <code>null</code> if there was no such entry.
+	 * @throws ChronoDBStorageBackendException
+	 *             Thrown if an exception occurs in the storage backend during the execution of this operation.
+	 */
+	public byte[] remove(final long timestamp, final String mapKey) throws ChronoDBStorageBackendException {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(mapKey, "Precondition violation - argument 'mapKey' must not be NULL!");
+		String sqlSelect = "SELECT " + PROPERTY_VALUE + " FROM " + this.tableName + " WHERE " + PROPERTY_TIMESTAMP
+				+ " = ? AND " + PROPERTY_KEY + " = ?";
+		byte[] value = null;
+		try (PreparedStatement pstmt = this.connection.prepareStatement(sqlSelect)) {
+			pstmt.setLong(1, timestamp);
+			pstmt.setString(2, mapKey);
+			try (ResultSet resultSet = pstmt.executeQuery()) {
+				if (resultSet.next() == false) {
+					// there is no such entry
+					return null;
+				}
+				Blob blob = resultSet.getBlob(PROPERTY_VALUE);
+				try {
+					value = blob.getBytes(1, (int) blob.length());
+				} finally {
+					blob.free();
+				}
+			}
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException(
+					"Could not perform [PRG] on Matrix Table '" + this.tableName + "'!", e);
+		}
+		String sqlRemove = "DELETE FROM " + this.tableName + " WHERE " + PROPERTY_TIMESTAMP + " = ? AND " + PROPERTY_KEY
+				+ " = ?";
+		try (PreparedStatement pstmt = this.connection.prepareStatement(sqlRemove)) {
+			pstmt.setLong(1, timestamp);
+			pstmt.setString(2, mapKey);
+			logTrace("[PRG] " + JdbcUtils.resolvePreparedStatement(sqlRemove, timestamp, mapKey));
+			pstmt.executeUpdate();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException(
+					"Could not perform [PRG] on Matrix Table '" + this.tableName + "'!", e);
+		}
+		return value;
+	}
+
 	private String generateSQLGetModificationsBetween() {
 		StringBuilder sql = new StringBuilder();
 		sql.append("SELECT ");
@@ -628,6 +678,30 @@ class JdbcMatrixTable extends DefaultJdbcTable {
 		}
 	}
 
+	private String generateSQLGetAllKeys() {
+		StringBuilder sql = new StringBuilder();
+		sql.append("SELECT DISTINCT ");
+		sql.append(PROPERTY_KEY);
+		sql.append(" FROM ");
+		sql.append(this.tableName);
+		return sql.toString();
+	}
+
+	public Set<String> getAllKeys() {
+		String sql = this.generateSQLGetAllKeys();
+		try (NamedParameterStatement nStmt = new NamedParameterStatement(this.connection, sql)) {
+			Set<String> result = Sets.newHashSet();
+			try (ResultSet resultSet = nStmt.executeQuery()) {
+				while (resultSet.next()) {
+					result.add(resultSet.getString(PROPERTY_KEY));
+				}
+			}
+			return result;
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to read from Matrix Table '" + this.tableName + "'!", e);
+		}
+	}
+
 	private String generateSQLGetKeySetAdditions() {
 		StringBuilder sql = new StringBuilder();
 		sql.append("SELECT ");
@@ -217,4 +217,24 @@ class JdbcNavigationTable extends DefaultJdbcTable {
 		}
 	}
 
+	/**
+	 * Deletes all rows which belong to the given branch from the navigation table.
+	 *
+	 * @param branchName
+	 *            The name of the branch to delete. Must not be <code>null</code>.
+	 *
+	 * @throws ChronoDBStorageBackendException
+	 *             Thrown if a backend error occurs during the operation.
+	 */
+	public void deleteBranch(final String branchName) throws ChronoDBStorageBackendException {
+		checkNotNull(this.connection, "Precondition violation - argument 'connection' must not be NULL!");
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		try (PreparedStatement pstmt = this.connection.prepareStatement(SQL_DELETE_BRANCH)) {
+			pstmt.setString(1, branchName);
+			pstmt.executeUpdate();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not delete rows from Navigation Table!", e);
+		}
+	}
+
 }
\ No newline at end of file
@@ -173,6 +173,9 @@ class JdbcStringIndexDocumentTable extends DefaultJdbcTable {
 	private static final String NAMED_SQL_DELETE_WHERE_DOCUMENT_ID_EQUALS = "DELETE FROM " + NAME + " WHERE "
 			+ PROPERTY_ID + " = ${documentId}";
 
+	private static final String NAMED_SQL_DELETE_WHERE_INDEX_NAME_EQUALS = "DELETE FROM " + NAME + " WHERE "
+			+ PROPERTY_INDEX_NAME + " = ${index}";
+
 	private static final String NAMED_SQL_GET_MATCHING_BRANCH_LOCAL_DOCUMENTS_FOR_IDENTIFIER = "SELECT * FROM " + NAME
 			+ " WHERE " + PROPERTY_BRANCH + " = ${branch} AND " + PROPERTY_KEYSPACE + " = ${keyspace} AND "
 			+ PROPERTY_KEY + " = ${key} AND " + PROPERTY_VALID_FROM + " <= ${timestamp} AND " + PROPERTY_VALID_TO
@@ -468,6 +471,17 @@ class JdbcStringIndexDocumentTable extends DefaultJdbcTable {
 		}
 	}
 
+	public void deleteDocumentsOfIndex(final String indexName) {
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		String sql = NAMED_SQL_DELETE_WHERE_INDEX_NAME_EQUALS;
+		try (NamedParameterStatement namedStatement = new NamedParameterStatement(this.connection, sql)) {
+			namedStatement.setParameter("index", indexName);
+			namedStatement.executeUpdate();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not update Index Documents Table!", e);
+		}
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
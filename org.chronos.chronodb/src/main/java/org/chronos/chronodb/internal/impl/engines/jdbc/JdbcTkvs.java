@@ -2,6 +2,7 @@ package org.chronos.chronodb.internal.impl.engines.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
 import java.util.Set;
 import java.util.UUID;
 
@@ -66,6 +67,12 @@ public class JdbcTkvs extends AbstractTemporalKeyValueStore implements TemporalK
 		return (TemporalJdbcMatrix) super.getMatrix(keyspace);
 	}
 
+	@Override
+	protected boolean isSnapshotReadSupported() {
+		// every matrix access uses its own connection, so the matrices may be read during a commit
+		return true;
+	}
+
 	@Override
 	protected TemporalJdbcMatrix createMatrix(final String keyspace, final long timestamp) {
 		String primaryKey = UUID.randomUUID().toString();
@@ -124,6 +131,29 @@ public class JdbcTkvs extends AbstractTemporalKeyValueStore implements TemporalK
 		}
 	}
 
+	@Override
+	protected Set<String> loadMaterializedKeyspaces() {
+		// branch materialization is not supported by this backend
+		return Collections.emptySet();
+	}
+
+	@Override
+	protected void saveMaterializedKeyspaces(final Set<String> keyspaces) {
+		throw new UnsupportedOperationException("The JDBC backend does not support branch materialization.");
+	}
+
+	@Override
+	protected void dropBranchRecords() {
+		try (Connection connection = this.openConnection()) {
+			JdbcNavigationTable.get(connection).deleteBranch(this.getBranchName());
+			JdbcTimeTable.get(connection).delete(this.getBranchName());
+			JdbcWALTokenTable.get(connection).deleteToken(this.getBranchName());
+			connection.commit();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Could not delete the branch records!", e);
+		}
+	}
+
 	@Override
 	public CommitMetadataStore getCommitMetadataStore() {
 		return this.commitMetadataStore;
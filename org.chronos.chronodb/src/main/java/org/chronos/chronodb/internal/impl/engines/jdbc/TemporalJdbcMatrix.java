@@ -4,6 +4,7 @@ import static com.google.common.base.Preconditions.*;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -22,9 +23,11 @@ import org.chronos.chronodb.internal.impl.jdbc.util.JdbcUtils;
 import org.chronos.chronodb.internal.impl.stream.AbstractCloseableIterator;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
+import org.chronos.chronodb.internal.util.DataMatrixUtil;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
 
 public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 
@@ -72,6 +75,27 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public Map<String, GetResult<byte[]>> getMultiple(final long timestamp, final Collection<String> keys) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		Map<String, GetResult<byte[]>> resultMap = Maps.newHashMap();
+		if (keys.isEmpty()) {
+			return resultMap;
+		}
+		// serve all keys with a single connection
+		try (Connection connection = this.dataSource.getConnection()) {
+			JdbcMatrixTable table = JdbcMatrixTable.get(connection, this.tableName);
+			for (String key : keys) {
+				QualifiedKey qKey = QualifiedKey.create(this.getKeyspace(), key);
+				resultMap.put(key, table.getRangedValueForKey(qKey, timestamp));
+			}
+			return resultMap;
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to execute [GTR-MULTIPLE] operation on backend", e);
+		}
+	}
+
 	@Override
 	public void put(final long timestamp, final Map<String, byte[]> contents) {
 		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
@@ -152,6 +176,38 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public long purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		try (Connection connection = this.dataSource.getConnection()) {
+			connection.setAutoCommit(false);
+			JdbcMatrixTable table = JdbcMatrixTable.get(connection, this.tableName);
+			long bytes = 0;
+			for (UnqualifiedTemporalKey key : keys) {
+				byte[] value = table.remove(key.getTimestamp(), key.getKey());
+				if (value != null) {
+					bytes += DataMatrixUtil.getEntrySize(key.toSerializableFormat(), value);
+				}
+			}
+			connection.commit();
+			return bytes;
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to execute [PURGE] operation on backend", e);
+		}
+	}
+
+	@Override
+	public void drop() {
+		try (Connection connection = this.dataSource.getConnection()) {
+			JdbcMatrixTable.get(connection, this.tableName).drop();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to execute [DROP] operation on backend", e);
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
@@ -173,6 +229,15 @@ public class TemporalJdbcMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public Set<String> getAllKeys() {
+		try (Connection connection = this.dataSource.getConnection()) {
+			return JdbcMatrixTable.get(connection, this.tableName).getAllKeys();
+		} catch (SQLException e) {
+			throw new ChronoDBStorageBackendException("Failed to execute [ALL KEYS] operation on backend", e);
+		}
+	}
+
 	@Override
 	public KeySetModifications keySetModifications(final long timestamp) {
 		try (Connection connection = this.dataSource.getConnection()) {
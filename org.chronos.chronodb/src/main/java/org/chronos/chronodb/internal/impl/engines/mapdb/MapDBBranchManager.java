@@ -84,6 +84,16 @@ public class MapDBBranchManager extends AbstractBranchManager implements BranchM
 		return branch;
 	}
 
+	@Override
+	protected void deleteBranchMetadata(final String branchName) {
+		try (MapDBTransaction tx = this.getOwningDB().openTransaction()) {
+			BranchMetadataMap.delete(tx, branchName);
+			tx.commit();
+		}
+		this.loadedBranches.remove(branchName);
+		this.branchMetadata.remove(branchName);
+	}
+
 	@Override
 	protected BranchInternal getBranchInternal(final String name) {
 		checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
@@ -7,6 +7,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
+import java.util.Set;
 
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.Order;
@@ -67,6 +68,29 @@ public class MapDBCommitMetadataStore extends AbstractCommitMetadataStore {
 		}
 	}
 
+	@Override
+	protected void purgeInternal(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		try (MapDBTransaction tx = this.openTransaction()) {
+			NavigableMap<Long, byte[]> map = this.getMapForWriting(tx);
+			for (Long timestamp : commitTimestamps) {
+				map.remove(timestamp);
+			}
+			tx.commit();
+		}
+	}
+
+	@Override
+	protected void dropInternal() {
+		String mapName = this.getBranchName() + MAP_SUFFIX;
+		try (MapDBTransaction tx = this.openTransaction()) {
+			if (tx.exists(mapName)) {
+				tx.delete(mapName);
+			}
+			tx.commit();
+		}
+	}
+
 	@Override
 	public Iterator<Long> getCommitTimestampsBetween(final long from, final long to, final Order order) {
 		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
@@ -1,19 +1,13 @@
 package org.chronos.chronodb.internal.impl.engines.mapdb;
 
-import static com.google.common.base.Preconditions.*;
-
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
-
-public class MapDBMaintenanceManager implements MaintenanceManager {
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
 
-	@SuppressWarnings("unused")
-	private final MapDBChronoDB owningDB;
+public class MapDBMaintenanceManager extends AbstractMaintenanceManager {
 
 	public MapDBMaintenanceManager(final MapDBChronoDB owningDB) {
-		checkNotNull(owningDB, "Precondition violation - argument 'owningDB' must not be NULL!");
-		this.owningDB = owningDB;
+		super(owningDB);
 	}
 
 	// =================================================================================================================
@@ -3,6 +3,7 @@ package org.chronos.chronodb.internal.impl.engines.mapdb;
 import static com.google.common.base.Preconditions.*;
 import static org.chronos.common.logging.ChronoLogger.*;
 
+import java.util.Collections;
 import java.util.Set;
 
 import org.chronos.chronodb.api.ChronoDBConstants;
@@ -20,6 +21,7 @@ import org.mapdb.Atomic.Var;
 public class MapDBTkvs extends AbstractTemporalKeyValueStore {
 
 	private static final String WRITE_AHEAD_LOG_VAR_NAME = "chronodb.wal";
+	private static final String MATERIALIZED_KEYSPACES_VAR_NAME = "chronodb.materialized";
 
 	// =================================================================================================================
 	// FIELDS
@@ -178,4 +180,48 @@ public class MapDBTkvs extends AbstractTemporalKeyValueStore {
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Set<String> loadMaterializedKeyspaces() {
+		String varName = this.getBranchName() + "." + MATERIALIZED_KEYSPACES_VAR_NAME;
+		try (MapDBTransaction tx = this.getOwningDB().openTransaction()) {
+			if (tx.exists(varName) == false) {
+				// no keyspace has been materialized in this branch yet
+				return Collections.emptySet();
+			}
+			Var<byte[]> var = tx.atomicVar(varName);
+			if (var.get() == null) {
+				return Collections.emptySet();
+			}
+			return (Set<String>) this.getOwningDB().getSerializationManager().deserialize(var.get());
+		}
+	}
+
+	@Override
+	protected void saveMaterializedKeyspaces(final Set<String> keyspaces) {
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		try (MapDBTransaction tx = this.getOwningDB().openTransaction()) {
+			Var<byte[]> var = tx.atomicVar(this.getBranchName() + "." + MATERIALIZED_KEYSPACES_VAR_NAME);
+			var.set(this.getOwningDB().getSerializationManager().serialize(keyspaces));
+			tx.commit();
+		}
+	}
+
+	@Override
+	protected void dropBranchRecords() {
+		String walVarName = this.getBranchName() + "." + WRITE_AHEAD_LOG_VAR_NAME;
+		String materializedVarName = this.getBranchName() + "." + MATERIALIZED_KEYSPACES_VAR_NAME;
+		try (MapDBTransaction tx = this.getOwningDB().openTransaction()) {
+			NavigationMap.deleteBranch(tx, this.getBranchName());
+			TimeMap.remove(tx, this.getBranchName());
+			if (tx.exists(walVarName)) {
+				tx.delete(walVarName);
+			}
+			if (tx.exists(materializedVarName)) {
+				tx.delete(materializedVarName);
+			}
+			tx.commit();
+		}
+	}
+
 }
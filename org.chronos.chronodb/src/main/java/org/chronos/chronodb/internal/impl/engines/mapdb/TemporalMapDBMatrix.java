@@ -16,6 +16,7 @@ import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatri
 import org.chronos.chronodb.internal.impl.mapdb.MapDBDataMatrixUtil;
 import org.chronos.chronodb.internal.impl.mapdb.MapDBTransaction;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 import org.mapdb.Serializer;
 
@@ -109,6 +110,27 @@ public class TemporalMapDBMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public long purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		try (MapDBTransaction tx = this.openTransaction()) {
+			long bytes = MapDBDataMatrixUtil.purgeEntries(tx, this.mapName, keys);
+			tx.commit();
+			return bytes;
+		}
+	}
+
+	@Override
+	public void drop() {
+		try (MapDBTransaction tx = this.openTransaction()) {
+			MapDBDataMatrixUtil.drop(tx, this.mapName);
+			tx.commit();
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
@@ -41,6 +41,12 @@ public class BranchMetadataIndex {
 		return KryoManager.deserialize(loadedValue);
 	}
 
+	public static void delete(final TuplTransaction tx, final String name) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
+		tx.delete(NAME, name);
+	}
+
 	public static Set<IBranchMetadata> values(final TuplTransaction tx) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
 		Set<IBranchMetadata> resultSet = Sets.newHashSet();
@@ -3,6 +3,7 @@ package org.chronos.chronodb.internal.impl.engines.tupl;
 import static com.google.common.base.Preconditions.*;
 import static org.chronos.common.logging.ChronoLogger.*;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -12,8 +13,11 @@ import org.chronos.chronodb.internal.api.GetResult;
 import org.chronos.chronodb.internal.api.stream.CloseableIterator;
 import org.chronos.chronodb.internal.impl.engines.base.AbstractTemporalDataMatrix;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
+import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 
+import com.google.common.collect.Maps;
+
 public class TemporalTuplMatrix extends AbstractTemporalDataMatrix {
 
 	// =================================================================================================================
@@ -49,6 +53,23 @@ public class TemporalTuplMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public Map<String, GetResult<byte[]>> getMultiple(final long timestamp, final Collection<String> keys) {
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		Map<String, GetResult<byte[]>> resultMap = Maps.newHashMap();
+		if (keys.isEmpty()) {
+			return resultMap;
+		}
+		// serve all keys with a single transaction
+		try (DefaultTuplTransaction tx = this.db.openBogusTransaction()) {
+			for (String key : keys) {
+				resultMap.put(key, TuplDataMatrixUtil.get(tx, this.indexName, this.getKeyspace(), timestamp, key));
+			}
+		}
+		return resultMap;
+	}
+
 	@Override
 	public void put(final long time, final Map<String, byte[]> contents) {
 		if (contents.size() > TuplUtils.BATCH_INSERT_THRESHOLD) {
@@ -121,6 +142,26 @@ public class TemporalTuplMatrix extends AbstractTemporalDataMatrix {
 		}
 	}
 
+	@Override
+	public long purgeEntries(final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		if (keys.isEmpty()) {
+			return 0;
+		}
+		try (DefaultTuplTransaction tx = this.db.openBogusTransaction()) {
+			long bytes = TuplDataMatrixUtil.purgeEntries(tx, this.indexName, keys);
+			tx.commit();
+			return bytes;
+		}
+	}
+
+	@Override
+	public void drop() {
+		try (DefaultTuplTransaction tx = this.db.openBogusTransaction()) {
+			TuplDataMatrixUtil.drop(tx, this.indexName);
+		}
+	}
+
 	@Override
 	public Iterator<TemporalKey> getModificationsBetween(final long timestampLowerBound,
 			final long timestampUpperBound) {
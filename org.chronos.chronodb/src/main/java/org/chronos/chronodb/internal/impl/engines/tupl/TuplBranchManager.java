@@ -80,6 +80,16 @@ public class TuplBranchManager extends AbstractBranchManager {
 		return branch;
 	}
 
+	@Override
+	protected void deleteBranchMetadata(final String branchName) {
+		try (DefaultTuplTransaction tx = this.getOwningDB().openTransaction()) {
+			BranchMetadataIndex.delete(tx, branchName);
+			tx.commit();
+		}
+		this.loadedBranches.remove(branchName);
+		this.branchMetadata.remove(branchName);
+	}
+
 	@Override
 	protected BranchInternal getBranchInternal(final String name) {
 		checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
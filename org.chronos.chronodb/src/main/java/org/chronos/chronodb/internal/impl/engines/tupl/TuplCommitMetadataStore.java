@@ -99,6 +99,24 @@ public class TuplCommitMetadataStore extends AbstractCommitMetadataStore {
 		}
 	}
 
+	@Override
+	protected void purgeInternal(final Set<Long> commitTimestamps) {
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		try (DefaultTuplTransaction tx = this.openTransaction()) {
+			for (Long timestamp : commitTimestamps) {
+				tx.delete(this.indexName, TuplUtils.encodeLong(timestamp));
+			}
+			tx.commit();
+		}
+	}
+
+	@Override
+	protected void dropInternal() {
+		try (DefaultTuplTransaction tx = this.openTransaction()) {
+			TuplUtils.deleteIndexIfExists(tx.getDB(), this.indexName);
+		}
+	}
+
 	@Override
 	public Iterator<Long> getCommitTimestampsBetween(final long from, final long to, final Order order) {
 		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
@@ -24,6 +24,7 @@ import org.chronos.chronodb.internal.impl.temporal.InverseUnqualifiedTemporalKey
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalEntry;
 import org.chronos.chronodb.internal.impl.temporal.UnqualifiedTemporalKey;
 import org.chronos.chronodb.internal.impl.tupl.TuplTransaction;
+import org.chronos.chronodb.internal.util.DataMatrixUtil;
 import org.chronos.chronodb.internal.util.KeySetModifications;
 import org.chronos.common.exceptions.ChronosIOException;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
@@ -402,6 +403,36 @@ public class TuplDataMatrixUtil {
 		}
 	}
 
+	public static long purgeEntries(final TuplTransaction tx, final String indexName,
+			final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		logTrace("[PRG] Purging " + keys.size() + " entries from index '" + indexName + "'.");
+		long bytes = 0;
+		for (UnqualifiedTemporalKey key : keys) {
+			String serializedKey = key.toSerializableFormat();
+			byte[] value = tx.load(indexName, serializedKey);
+			if (value == null) {
+				// this version does not exist in the matrix
+				continue;
+			}
+			bytes += DataMatrixUtil.getEntrySize(serializedKey, value);
+			tx.delete(indexName, serializedKey);
+			tx.delete(indexName + INVERSE_MATRIX_SUFFIX,
+					InverseUnqualifiedTemporalKey.create(key.getTimestamp(), key.getKey()).toSerializableFormat());
+		}
+		return bytes;
+	}
+
+	public static void drop(final TuplTransaction tx, final String indexName) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		// unlike a rollback, dropping the matrix does not require a scan; we simply delete both indices
+		TuplUtils.deleteIndexIfExists(tx.getDB(), indexName);
+		TuplUtils.deleteIndexIfExists(tx.getDB(), indexName + INVERSE_MATRIX_SUFFIX);
+	}
+
 	public static Iterator<TemporalKey> getModificationsBetween(final TuplTransaction tx, final String indexName,
 			final String keyspace, final long timestampLowerBound, final long timestampUpperBound) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
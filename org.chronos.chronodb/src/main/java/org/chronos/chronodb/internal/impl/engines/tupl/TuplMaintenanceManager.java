@@ -1,27 +1,17 @@
 package org.chronos.chronodb.internal.impl.engines.tupl;
 
-import static com.google.common.base.Preconditions.*;
-
 import java.util.function.Predicate;
 
-import org.chronos.chronodb.api.MaintenanceManager;
-
-public class TuplMaintenanceManager implements MaintenanceManager {
-
-	// =====================================================================================================================
-	// FIELDS
-	// =====================================================================================================================
+import org.chronos.chronodb.internal.impl.engines.base.AbstractMaintenanceManager;
 
-	@SuppressWarnings("unused")
-	private final TuplChronoDB owningDB;
+public class TuplMaintenanceManager extends AbstractMaintenanceManager {
 
 	// =====================================================================================================================
 	// CONSTRUCTOR
 	// =====================================================================================================================
 
 	public TuplMaintenanceManager(final TuplChronoDB tuplChronoDB) {
-		checkNotNull(tuplChronoDB, "Precondition violation - argument 'tuplChronoDB' must not be NULL!");
-		this.owningDB = tuplChronoDB;
+		super(tuplChronoDB);
 	}
 
 	// =====================================================================================================================
@@ -3,6 +3,7 @@ package org.chronos.chronodb.internal.impl.engines.tupl;
 import static com.google.common.base.Preconditions.*;
 import static org.chronos.common.logging.ChronoLogger.*;
 
+import java.util.Collections;
 import java.util.Set;
 
 import org.chronos.chronodb.api.ChronoDBConstants;
@@ -16,6 +17,7 @@ import org.chronos.chronodb.internal.impl.engines.base.WriteAheadLogToken;
 public class TuplTkvs extends AbstractTemporalKeyValueStore {
 
 	private static final String MANAGEMENT_INDEX__WRITE_AHEAD_LOG = "chronodb.wal";
+	private static final String MANAGEMENT_INDEX__MATERIALIZED_KEYSPACES_PREFIX = "chronodb.materialized.";
 
 	// =====================================================================================================================
 	// FIELDS
@@ -73,6 +75,12 @@ public class TuplTkvs extends AbstractTemporalKeyValueStore {
 		return (TemporalTuplMatrix) this.keyspaceToMatrix.get(keyspace);
 	}
 
+	@Override
+	protected boolean isSnapshotReadSupported() {
+		// Tupl indices are thread-safe, so the matrices may be read during a commit
+		return true;
+	}
+
 	@Override
 	protected TemporalTuplMatrix createMatrix(final String keyspace, final long timestamp) {
 		checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
@@ -165,4 +173,40 @@ public class TuplTkvs extends AbstractTemporalKeyValueStore {
 			return token;
 		}
 	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected Set<String> loadMaterializedKeyspaces() {
+		String key = MANAGEMENT_INDEX__MATERIALIZED_KEYSPACES_PREFIX + this.getBranchName();
+		try (DefaultTuplTransaction tx = this.getOwningDB().openTransaction()) {
+			byte[] serializedKeyspaces = tx.load(TuplChronoDB.MANAGEMENT_INDEX_NAME, key);
+			if (serializedKeyspaces == null || serializedKeyspaces.length <= 0) {
+				// no keyspace has been materialized in this branch yet
+				return Collections.emptySet();
+			}
+			return (Set<String>) this.getOwningDB().getSerializationManager().deserialize(serializedKeyspaces);
+		}
+	}
+
+	@Override
+	protected void saveMaterializedKeyspaces(final Set<String> keyspaces) {
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		String key = MANAGEMENT_INDEX__MATERIALIZED_KEYSPACES_PREFIX + this.getBranchName();
+		try (DefaultTuplTransaction tx = this.getOwningDB().openTransaction()) {
+			byte[] serializedKeyspaces = this.getOwningDB().getSerializationManager().serialize(keyspaces);
+			tx.store(TuplChronoDB.MANAGEMENT_INDEX_NAME, key, serializedKeyspaces);
+			tx.commit();
+		}
+	}
+
+	@Override
+	protected void dropBranchRecords() {
+		String materializedKey = MANAGEMENT_INDEX__MATERIALIZED_KEYSPACES_PREFIX + this.getBranchName();
+		try (DefaultTuplTransaction tx = this.getOwningDB().openTransaction()) {
+			NavigationIndex.deleteBranch(tx, this.getBranchName());
+			TimeIndex.remove(tx, this.getBranchName());
+			tx.delete(TuplChronoDB.MANAGEMENT_INDEX_NAME, materializedKey);
+			tx.commit();
+		}
+	}
 }
@@ -269,4 +269,32 @@ public class TuplUtils {
 			cursor.reset();
 		}
 	}
+
+	/**
+	 * Deletes the index with the given name from the given {@link Database}, releasing the storage space occupied by
+	 * it.
+	 *
+	 * <p>
+	 * If there is no index with the given name, this method does nothing.
+	 *
+	 * @param database
+	 *            The database to delete the index from. Must not be <code>null</code>.
+	 * @param indexName
+	 *            The name of the index to delete. Must not be <code>null</code>.
+	 */
+	public static void deleteIndexIfExists(final Database database, final String indexName) {
+		checkNotNull(database, "Precondition violation - argument 'database' must not be NULL!");
+		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
+		try {
+			Index index = database.findIndex(indexName);
+			if (index == null) {
+				// index doesn't exist; nothing to delete
+				return;
+			}
+			// the returned task reclaims the pages of the index; run it right away
+			database.deleteIndex(index).run();
+		} catch (IOException e) {
+			throw new ChronosIOException("Failed to delete index '" + indexName + "'. See root cause for details.", e);
+		}
+	}
 }
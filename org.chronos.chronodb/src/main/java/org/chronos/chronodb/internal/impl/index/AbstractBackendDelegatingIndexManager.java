@@ -203,6 +203,22 @@ public abstract class AbstractBackendDelegatingIndexManager<C extends ChronoDBIn
 		}
 	}
 
+	@Override
+	public void pruneHistory(final Branch branch, final Set<String> keyspaces, final long timestamp) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkArgument(branch.getOrigin() == null,
+				"Precondition violation - argument 'branch' must refer to the master branch!");
+		checkNotNull(keyspaces, "Precondition violation - argument 'keyspaces' must not be NULL!");
+		checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must not be negative!");
+		if (keyspaces.isEmpty()) {
+			return;
+		}
+		try (AutoLock lock = this.getOwningDB().lockExclusive()) {
+			this.backend.deleteTerminatedDocuments(branch.getName(), keyspaces, timestamp);
+			this.clearQueryCache();
+		}
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
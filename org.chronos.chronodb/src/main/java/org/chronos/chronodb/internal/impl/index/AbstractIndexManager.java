@@ -5,6 +5,7 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.IndexManager;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.exceptions.ChronoDBQuerySyntaxException;
 import org.chronos.chronodb.api.exceptions.InvalidIndexAccessException;
 import org.chronos.chronodb.api.exceptions.UnknownIndexException;
@@ -100,6 +101,27 @@ public abstract class AbstractIndexManager<C extends ChronoDBInternal> implement
         }
     }
 
+    @Override
+    public Iterator<String> queryIndexOrdered(final long timestamp, final Branch branch, final String keyspace,
+                                              final SearchSpecification<?> searchSpec, final Order order,
+                                              final int batchSize) {
+        checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must be >= 0!");
+        checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+        checkNotNull(keyspace, "Precondition violation - argument 'keyspace' must not be NULL!");
+        checkNotNull(searchSpec, "Precondition violation - argument 'searchSpec' must not be NULL!");
+        checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+        checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+        checkArgument(searchSpec.getCondition().isNegated() == false || searchSpec.getCondition().acceptsEmptyValue() == false,
+            "Precondition violation - argument 'searchSpec' must not accept the empty value, because keys without an indexed value cannot be ordered!");
+        String property = searchSpec.getProperty();
+        if (this.getIndexNames().contains(property) == false) {
+            throw new UnknownIndexException("There is no index named '" + property + "'!");
+        }
+        this.assertIndexAccessIsOk(searchSpec);
+        // ordered queries bypass the query cache, because the cache only holds unordered key sets
+        return this.performOrderedIndexQuery(timestamp, branch, keyspace, searchSpec, order, batchSize);
+    }
+
     @Override
     public Iterator<QualifiedKey> evaluate(final long timestamp, final Branch branch, final ChronoDBQuery query) {
         checkArgument(timestamp >= 0, "Precondition violation - argument 'timestamp' must be >= 0!");
@@ -151,6 +173,8 @@ public abstract class AbstractIndexManager<C extends ChronoDBInternal> implement
 
     protected abstract Set<String> performIndexQuery(final long timestamp, final Branch branch, String keyspace, final SearchSpecification<?> searchSpec);
 
+    protected abstract Iterator<String> performOrderedIndexQuery(final long timestamp, final Branch branch, String keyspace, final SearchSpecification<?> searchSpec, final Order order, final int batchSize);
+
     // =================================================================================================================
     // HELPER METHODS
     // =================================================================================================================
@@ -14,6 +14,7 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.BranchManager;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.SerializationManager;
 import org.chronos.chronodb.api.indexing.Indexer;
 import org.chronos.chronodb.api.key.ChronoIdentifier;
@@ -30,8 +31,11 @@ import org.chronos.chronodb.internal.impl.index.diff.IndexValueDiff;
 import org.chronos.chronodb.internal.impl.index.diff.IndexingUtils;
 import org.chronos.common.autolock.AutoLock;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
 
 public class DocumentBasedIndexManager
 		extends AbstractBackendDelegatingIndexManager<ChronoDBInternal, DocumentBasedIndexManagerBackend> {
@@ -53,7 +57,16 @@ public class DocumentBasedIndexManager
 		checkNotNull(indexName, "Precondition violation - argument 'indexName' must not be NULL!");
 		checkArgument(this.getIndexNames().contains(indexName),
 				"Precondition violation - argument 'indexName' does not refer to a known index!");
-		this.reindexAll();
+		try (AutoLock lock = this.getOwningDB().lockExclusive()) {
+			// only rebuild the given index; the contents of all other indices remain untouched
+			this.getIndexManagerBackend().deleteIndexContents(indexName);
+			SetMultimap<String, Indexer<?>> indexers = HashMultimap.create();
+			indexers.putAll(indexName, this.indexNameToIndexers.get(indexName));
+			new IndexingProcess(indexers).index(this.loadAllEntries());
+			// clear the query cache
+			this.clearQueryCache();
+			this.setIndexClean(indexName);
+		}
 	}
 
 	@Override
@@ -66,31 +79,7 @@ public class DocumentBasedIndexManager
 			// first, delete whatever is in the index
 			this.getIndexManagerBackend().deleteAllIndexContents();
 			// then, iterate over the contents of the database
-			BranchManager branchManager = this.getOwningDB().getBranchManager();
-			Set<Branch> branches = branchManager.getBranches();
-			Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue = Maps.newHashMap();
-			SerializationManager serializationManager = this.getOwningDB().getSerializationManager();
-			// TODO PERFORMANCE: it's dangerous to simply load all entries; they might not fit into RAM!
-			for (Branch branch : branches) {
-				TemporalKeyValueStore tkvs = ((BranchInternal) branch).getTemporalKeyValueStore();
-				long now = tkvs.getNow();
-				try (CloseableIterator<ChronoDBEntry> entries = tkvs.allEntriesIterator(now)) {
-					while (entries.hasNext()) {
-						ChronoDBEntry entry = entries.next();
-						ChronoIdentifier identifier = entry.getIdentifier();
-						byte[] value = entry.getValue();
-						Object deserializedValue = null;
-						if (value != null && value.length > 0) {
-							// only deserialize if the stored value is non-null
-							deserializedValue = serializationManager.deserialize(value);
-						}
-						ChronoDBTransaction historyTx = tkvs.tx(branch.getName(), identifier.getTimestamp() - 1);
-						Object historyValue = historyTx.get(identifier.getKeyspace(), identifier.getKey());
-						identifierToValue.put(identifier, Pair.of(historyValue, deserializedValue));
-					}
-				}
-			}
-			this.index(identifierToValue);
+			this.index(this.loadAllEntries());
 			// clear the query cache
 			this.clearQueryCache();
 			for (String indexName : this.getIndexNames()) {
@@ -113,7 +102,7 @@ public class DocumentBasedIndexManager
 			return;
 		}
 		try (AutoLock lock = this.getOwningDB().lockNonExclusive()) {
-			new IndexingProcess().index(identifierToOldAndNewValue);
+			new IndexingProcess(this.indexNameToIndexers).index(identifierToOldAndNewValue);
 		}
 	}
 
@@ -121,6 +110,34 @@ public class DocumentBasedIndexManager
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
 
+	private Map<ChronoIdentifier, Pair<Object, Object>> loadAllEntries() {
+		BranchManager branchManager = this.getOwningDB().getBranchManager();
+		Set<Branch> branches = branchManager.getBranches();
+		Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue = Maps.newHashMap();
+		SerializationManager serializationManager = this.getOwningDB().getSerializationManager();
+		// TODO PERFORMANCE: it's dangerous to simply load all entries; they might not fit into RAM!
+		for (Branch branch : branches) {
+			TemporalKeyValueStore tkvs = ((BranchInternal) branch).getTemporalKeyValueStore();
+			long now = tkvs.getNow();
+			try (CloseableIterator<ChronoDBEntry> entries = tkvs.allEntriesIterator(now)) {
+				while (entries.hasNext()) {
+					ChronoDBEntry entry = entries.next();
+					ChronoIdentifier identifier = entry.getIdentifier();
+					byte[] value = entry.getValue();
+					Object deserializedValue = null;
+					if (value != null && value.length > 0) {
+						// only deserialize if the stored value is non-null
+						deserializedValue = serializationManager.deserialize(value);
+					}
+					ChronoDBTransaction historyTx = tkvs.tx(branch.getName(), identifier.getTimestamp() - 1);
+					Object historyValue = historyTx.get(identifier.getKeyspace(), identifier.getKey());
+					identifierToValue.put(identifier, Pair.of(historyValue, deserializedValue));
+				}
+			}
+		}
+		return identifierToValue;
+	}
+
 	@Override
 	protected Set<String> performIndexQuery(final long timestamp, final Branch branch, final String keyspace,
 			final SearchSpecification<?> searchSpec) {
@@ -150,16 +167,30 @@ public class DocumentBasedIndexManager
 		}
 	}
 
+	@Override
+	protected Iterator<String> performOrderedIndexQuery(final long timestamp, final Branch branch, final String keyspace,
+			final SearchSpecification<?> searchSpec, final Order order, final int batchSize) {
+		return new OrderedIndexQueryIterator(timestamp, branch, keyspace, searchSpec, order, batchSize);
+	}
+
 	// =====================================================================================================================
 	// INNER CLASSES
 	// =====================================================================================================================
 
 	private class IndexingProcess {
 
+		private final SetMultimap<String, Indexer<?>> indexNameToIndexers;
+
 		private long currentTimestamp = -1L;
 		private ChronoIndexModifications indexModifications;
 		private Branch branch;
 
+		public IndexingProcess(final SetMultimap<String, Indexer<?>> indexNameToIndexers) {
+			checkNotNull(indexNameToIndexers,
+					"Precondition violation - argument 'indexNameToIndexers' must not be NULL!");
+			this.indexNameToIndexers = indexNameToIndexers;
+		}
+
 		public void index(final Map<ChronoIdentifier, Pair<Object, Object>> identifierToValue) {
 			checkNotNull(identifierToValue, "Precondition violation - argument 'identifierToValue' must not be NULL!");
 			// build the indexer workload. The primary purpose is to sort the entries of the map in an order suitable
@@ -182,7 +213,7 @@ public class DocumentBasedIndexManager
 				this.indexSingleEntry(chronoIdentifier, oldValue, newValue);
 			}
 			// apply any remaining index modifications
-			if (this.indexModifications.isEmpty() == false) {
+			if (this.indexModifications != null && this.indexModifications.isEmpty() == false) {
 				DocumentBasedIndexManager.this.getIndexManagerBackend().applyModifications(this.indexModifications);
 			}
 		}
@@ -213,7 +244,7 @@ public class DocumentBasedIndexManager
 			// the currently active documents. We load these on-demand, because we don't need them in
 			// the common case of indexing previously unseen (new) elements.
 			Map<String, SetMultimap<Object, ChronoIndexDocument>> oldDocuments = null;
-			SetMultimap<String, Indexer<?>> indexNameToIndexers = DocumentBasedIndexManager.this.indexNameToIndexers;
+			SetMultimap<String, Indexer<?>> indexNameToIndexers = this.indexNameToIndexers;
 			// calculate the diff
 			IndexValueDiff diff = IndexingUtils.calculateDiff(indexNameToIndexers, oldValue, newValue);
 			for (String indexName : diff.getChangedIndices()) {
@@ -279,4 +310,67 @@ public class DocumentBasedIndexManager
 			}
 		}
 	}
+	private class OrderedIndexQueryIterator extends AbstractIterator<String> {
+
+		private final long timestamp;
+		private final Branch branch;
+		private final String keyspace;
+		private final SearchSpecification<?> searchSpec;
+		private final Order order;
+
+		private final Set<String> visitedKeys = Sets.newHashSet();
+		private Iterator<ChronoIndexDocument> currentBatch = Collections.emptyIterator();
+		private int fetchedDocuments = 0;
+		private int batchSize;
+		private boolean exhausted = false;
+
+		public OrderedIndexQueryIterator(final long timestamp, final Branch branch, final String keyspace,
+				final SearchSpecification<?> searchSpec, final Order order, final int batchSize) {
+			this.timestamp = timestamp;
+			this.branch = branch;
+			this.keyspace = keyspace;
+			this.searchSpec = searchSpec;
+			this.order = order;
+			this.batchSize = batchSize;
+		}
+
+		@Override
+		protected String computeNext() {
+			while (true) {
+				while (this.currentBatch.hasNext()) {
+					String key = this.currentBatch.next().getKey();
+					// keys with several matching values are reported at the position of their first value
+					if (this.visitedKeys.add(key)) {
+						return key;
+					}
+				}
+				if (this.exhausted) {
+					return this.endOfData();
+				}
+				this.fetchNextBatch();
+			}
+		}
+
+		private void fetchNextBatch() {
+			// the order of the documents is total, so the next batch is the tail of a longer prefix of the same order
+			int limit = (int) Math.min((long) this.fetchedDocuments + this.batchSize, Integer.MAX_VALUE);
+			List<ChronoIndexDocument> documents;
+			try (AutoLock lock = DocumentBasedIndexManager.this.getOwningDB().lockNonExclusive()) {
+				documents = DocumentBasedIndexManager.this.getIndexManagerBackend().getFirstMatchingDocuments(
+						this.timestamp, this.branch, this.keyspace, this.searchSpec, this.order, limit);
+			}
+			if (documents.size() < limit) {
+				this.exhausted = true;
+			}
+			if (documents.size() > this.fetchedDocuments) {
+				this.currentBatch = documents.subList(this.fetchedDocuments, documents.size()).iterator();
+				this.fetchedDocuments = documents.size();
+			} else {
+				this.exhausted = true;
+			}
+			this.batchSize = (int) Math.min(this.batchSize * 2L, Integer.MAX_VALUE);
+		}
+
+	}
+
 }
@@ -36,6 +36,13 @@ public class BranchMetadataMap {
 		return map.get(name);
 	}
 
+	public static void delete(final MapDBTransaction tx, final String name) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(name, "Precondition violation - argument 'name' must not be NULL!");
+		Map<String, IBranchMetadata> map = getMapForWriting(tx);
+		map.remove(name);
+	}
+
 	public static Set<IBranchMetadata> values(final MapDBTransaction tx) {
 		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
 		return Sets.newHashSet(getMapForReading(tx).values());
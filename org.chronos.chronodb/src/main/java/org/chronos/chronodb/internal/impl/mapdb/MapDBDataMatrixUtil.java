@@ -68,6 +68,23 @@ public class MapDBDataMatrixUtil {
 		DataMatrixUtil.rollback(getMapReadWrite(tx, mapName), getMapInverseReadWrite(tx, mapName), timestamp);
 	}
 
+	public static long purgeEntries(final MapDBTransaction tx, final String mapName,
+			final Set<UnqualifiedTemporalKey> keys) {
+		return DataMatrixUtil.purgeEntries(getMapReadWrite(tx, mapName), getMapInverseReadWrite(tx, mapName), keys);
+	}
+
+	public static void drop(final MapDBTransaction tx, final String mapName) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkNotNull(mapName, "Precondition violation - argument 'mapName' must not be NULL!");
+		String inverseMapName = mapName + INVERSE_MATRIX_SUFFIX;
+		if (tx.exists(mapName)) {
+			tx.delete(mapName);
+		}
+		if (tx.exists(inverseMapName)) {
+			tx.delete(inverseMapName);
+		}
+	}
+
 	public static Iterator<TemporalKey> getModificationsBetween(final MapDBTransaction tx, final String mapName,
 			final String keyspace, final long timestampLowerBound, final long timestampUpperBound) {
 		return DataMatrixUtil.getModificationsBetween(getMapInverseReadOnly(tx, mapName), keyspace, timestampLowerBound,
@@ -0,0 +1,52 @@
+package org.chronos.chronodb.internal.impl.stream;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import org.chronos.chronodb.internal.api.stream.CloseableIterator;
+
+public class FilteringCloseableIterator<E> extends AbstractCloseableIterator<E> {
+
+	private final CloseableIterator<E> iterator;
+	private final Predicate<? super E> predicate;
+
+	private E nextElement;
+	private boolean hasNextElement;
+
+	public FilteringCloseableIterator(final CloseableIterator<E> iterator, final Predicate<? super E> predicate) {
+		checkNotNull(predicate, "Precondition violation - argument 'predicate' must not be NULL!");
+		this.iterator = iterator;
+		this.predicate = predicate;
+	}
+
+	@Override
+	public E next() {
+		if (this.hasNext() == false) {
+			throw new NoSuchElementException();
+		}
+		E element = this.nextElement;
+		this.nextElement = null;
+		this.hasNextElement = false;
+		return element;
+	}
+
+	@Override
+	protected boolean hasNextInternal() {
+		while (this.hasNextElement == false && this.iterator.hasNext()) {
+			E element = this.iterator.next();
+			if (this.predicate.test(element)) {
+				this.nextElement = element;
+				this.hasNextElement = true;
+			}
+		}
+		return this.hasNextElement;
+	}
+
+	@Override
+	protected void closeInternal() {
+		this.iterator.close();
+	}
+
+}
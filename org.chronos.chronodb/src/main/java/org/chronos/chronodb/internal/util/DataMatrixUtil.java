@@ -4,6 +4,7 @@ import static org.chronos.common.logging.ChronoLogger.*;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -214,6 +215,43 @@ public class DataMatrixUtil {
 		}
 	}
 
+	public static long purgeEntries(final NavigableMap<String, byte[]> map,
+			final NavigableMap<String, Boolean> inverseMap, final Set<UnqualifiedTemporalKey> keys) {
+		checkNotNull(map, "Precondition violation - argument 'map' must not be NULL!");
+		checkNotNull(inverseMap, "Precondition violation - argument 'inverseMap' must not be NULL!");
+		checkNotNull(keys, "Precondition violation - argument 'keys' must not be NULL!");
+		logTrace("[PRG] Purging " + keys.size() + " entries.");
+		long bytes = 0;
+		for (UnqualifiedTemporalKey key : keys) {
+			String serializedKey = key.toSerializableFormat();
+			byte[] value = map.remove(serializedKey);
+			if (value == null) {
+				// this version does not exist in the matrix
+				continue;
+			}
+			bytes += getEntrySize(serializedKey, value);
+			inverseMap.remove(InverseUnqualifiedTemporalKey.create(key.getTimestamp(), key.getKey())
+					.toSerializableFormat());
+		}
+		return bytes;
+	}
+
+	/**
+	 * Calculates the number of bytes occupied by a single matrix entry.
+	 *
+	 * @param serializedKey
+	 *            The {@linkplain UnqualifiedTemporalKey#toSerializableFormat() serialized} temporal key of the entry.
+	 *            Must not be <code>null</code>.
+	 * @param value
+	 *            The value of the entry. Must not be <code>null</code>.
+	 * @return The size of the entry in bytes.
+	 */
+	public static long getEntrySize(final String serializedKey, final byte[] value) {
+		checkNotNull(serializedKey, "Precondition violation - argument 'serializedKey' must not be NULL!");
+		checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+		return serializedKey.getBytes(StandardCharsets.UTF_8).length + value.length;
+	}
+
 	public static Iterator<TemporalKey> getModificationsBetween(final NavigableMap<String, Boolean> inverseMap,
 			final String keyspace, final long timestampLowerBound, final long timestampUpperBound) {
 		checkArgument(timestampLowerBound >= 0,
@@ -3,9 +3,7 @@ package org.chronos.chronodb.internal.util;
 import static com.google.common.base.Preconditions.*;
 
 import java.lang.ref.WeakReference;
-import java.util.Map;
-
-import com.google.common.collect.MapMaker;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A {@link ThreadBound} object is similar to a {@link ThreadLocal}, except that the memory management is different.
@@ -15,11 +13,16 @@ import com.google.common.collect.MapMaker;
  *
  * <ul>
  * <li>The thread dies and is GC'ed <b>OR</b>
- * <li>the object owning the {@link ThreadBound} is no longer reachable and GC'ed.
+ * <li>the object owning the {@link ThreadBound} is no longer reachable and GC'ed (strongly referenced values are released lazily in this case, as the thread cleans up its stale thread-local entries).
  * </ul>
  *
  * In contrast to {@link ThreadLocal}, this class also allows to clear the contained value for <b>all</b> threads via {@link #clearValueForAllThreads()}.
  *
+ * <p>
+ * Internally, the values are confined to the threads which assigned them (via a {@link ThreadLocal}), which means that {@link #get()}, {@link #set(Object)} and {@link #unset()} never
+ * block and never contend with other threads. This is important because lock holders are looked up through this class on every read access to the database. Clearing the values for all
+ * threads is implemented by means of a generation counter: every binding remembers the generation in which it was created, and bindings from previous generations are treated as absent.
+ *
  * @author martin.haeusler@uibk.ac.at
  *
  * @param <T>
@@ -37,9 +40,7 @@ public class ThreadBound<T> {
 	 * @return The newly created instance. Never <code>null</code>.
 	 */
 	public static <T> ThreadBound<T> create() {
-		MapMaker mapMaker = new MapMaker();
-		Map<Thread, T> map = mapMaker.weakKeys().makeMap();
-		return new ThreadBound<>(map);
+		return new ThreadBound<>(false);
 	}
 
 	/**
@@ -48,17 +49,21 @@ public class ThreadBound<T> {
 	 * @return The newly created instance. Never <code>null</code>.
 	 */
 	public static <T> ThreadBound<T> createWeakReference() {
-		MapMaker mapMaker = new MapMaker();
-		Map<Thread, T> map = mapMaker.weakKeys().weakValues().makeMap();
-		return new ThreadBound<>(map);
+		return new ThreadBound<>(true);
 	}
 
 	// =================================================================================================================
 	// FIELDS
 	// =================================================================================================================
 
-	/** This is the internal mapping from thread to bound value. Note that it is a weak hash map, i.e. GC'ed threads will be removed from the map. */
-	private final Map<Thread, T> map;
+	/** The thread-confined bindings. Entries of dead threads are GC'ed together with the thread. */
+	private final ThreadLocal<Binding<T>> threadLocalBinding;
+
+	/** Determines if the values are {@linkplain WeakReference weakly referenced}. */
+	private final boolean weakValues;
+
+	/** Incremented by {@link #clearValueForAllThreads()}; bindings of older generations are considered to be absent. */
+	private final AtomicLong generation;
 
 	// =================================================================================================================
 	// PUBLIC API
@@ -67,13 +72,14 @@ public class ThreadBound<T> {
 	/**
 	 * Creates a new {@link ThreadBound} instance.
 	 *
-	 * @param map
-	 *            The map to use internally. Must not be <code>null</code>.
+	 * @param weakValues
+	 *            Use <code>true</code> if the values should be {@linkplain WeakReference weakly referenced}, otherwise <code>false</code>.
 	 */
-	private ThreadBound(final Map<Thread, T> map) {
+	private ThreadBound(final boolean weakValues) {
 		// private on purpose; use the static factory methods.
-		checkNotNull(map, "Precondition violation - argument 'map' must not be NULL!");
-		this.map = map;
+		this.threadLocalBinding = new ThreadLocal<>();
+		this.weakValues = weakValues;
+		this.generation = new AtomicLong(0);
 	}
 
 	/**
@@ -81,8 +87,22 @@ public class ThreadBound<T> {
 	 *
 	 * @return The value. May be <code>null</code> if the thread does not have a value yet (or was explicitly assigned a <code>null</code> value).
 	 */
-	public synchronized T get() {
-		return this.map.get(Thread.currentThread());
+	public T get() {
+		Binding<T> binding = this.threadLocalBinding.get();
+		if (binding == null) {
+			return null;
+		}
+		if (binding.getGeneration() != this.generation.get()) {
+			// the value was cleared for all threads in the meantime
+			this.threadLocalBinding.remove();
+			return null;
+		}
+		T value = binding.getValue();
+		if (value == null) {
+			// the weakly referenced value was GC'ed
+			this.threadLocalBinding.remove();
+		}
+		return value;
 	}
 
 	/**
@@ -93,11 +113,18 @@ public class ThreadBound<T> {
 	 *
 	 * @return The previous value. May be <code>null</code>. If no previous value existed for the given thread, <code>null</code> will be returned.
 	 */
-	public synchronized T set(final T value) {
+	public T set(final T value) {
 		if (value == null) {
 			return this.unset();
 		}
-		return this.map.put(Thread.currentThread(), value);
+		T previousValue = this.get();
+		long currentGeneration = this.generation.get();
+		if (this.weakValues) {
+			this.threadLocalBinding.set(new WeakBinding<>(currentGeneration, value));
+		} else {
+			this.threadLocalBinding.set(new StrongBinding<>(currentGeneration, value));
+		}
+		return previousValue;
 	}
 
 	/**
@@ -108,8 +135,10 @@ public class ThreadBound<T> {
 	 *
 	 * @return The previously assigned value. May be <code>null</code>. If no previous value existed for the given thread, <code>null</code> will be returned.
 	 */
-	public synchronized T unset() {
-		return this.map.remove(Thread.currentThread());
+	public T unset() {
+		T previousValue = this.get();
+		this.threadLocalBinding.remove();
+		return previousValue;
 	}
 
 	/**
@@ -119,8 +148,62 @@ public class ThreadBound<T> {
 	 * After invoking this method, calls to {@link #get()} will always return <code>null</code> for all threads until a new, non-<code>null</code> value is assigned via {@link #set(Object)}.
 	 *
 	 */
-	public synchronized void clearValueForAllThreads() {
-		this.map.clear();
+	public void clearValueForAllThreads() {
+		this.generation.incrementAndGet();
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static abstract class Binding<T> {
+
+		private final long generation;
+
+		protected Binding(final long generation) {
+			this.generation = generation;
+		}
+
+		public long getGeneration() {
+			return this.generation;
+		}
+
+		public abstract T getValue();
+
+	}
+
+	private static class StrongBinding<T> extends Binding<T> {
+
+		private final T value;
+
+		public StrongBinding(final long generation, final T value) {
+			super(generation);
+			checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+			this.value = value;
+		}
+
+		@Override
+		public T getValue() {
+			return this.value;
+		}
+
+	}
+
+	private static class WeakBinding<T> extends Binding<T> {
+
+		private final WeakReference<T> value;
+
+		public WeakBinding(final long generation, final T value) {
+			super(generation);
+			checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+			this.value = new WeakReference<>(value);
+		}
+
+		@Override
+		public T getValue() {
+			return this.value.get();
+		}
+
 	}
 
 }
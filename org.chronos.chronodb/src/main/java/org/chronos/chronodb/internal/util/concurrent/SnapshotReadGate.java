@@ -0,0 +1,216 @@
+package org.chronos.chronodb.internal.util.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.chronos.common.autolock.AbstractAutoLock;
+import org.chronos.common.autolock.AutoLock;
+
+/**
+ * A {@link SnapshotReadGate} allows read operations to proceed without acquiring any lock, while still allowing
+ * destructive operations to wait until all of these readers have left.
+ *
+ * <p>
+ * Readers {@linkplain #tryEnter() enter} the gate before accessing the data and leave it by closing the returned
+ * {@link AutoLock}. Entering the gate never blocks: if the gate is currently closed, {@link #tryEnter()} returns
+ * <code>null</code> and the reader is expected to fall back to regular locking. Entering is reentrant; a thread which
+ * is already inside the gate may always enter it again.
+ *
+ * <p>
+ * Destructive operations {@linkplain #drain() drain} the gate: the gate is closed for new readers, and the call blocks
+ * until all readers which are currently inside the gate have left. The gate is re-opened when the returned
+ * {@link AutoLock} is closed. Threads which are inside the gate must therefore never wait for a lock which may be held
+ * by a thread which drains the gate, and a thread which is inside the gate must never drain it.
+ *
+ * <p>
+ * In order to avoid contention between readers, the number of active readers is tracked in several padded counters.
+ * A thread always uses the same counter to enter and to leave the gate.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class SnapshotReadGate {
+
+	// =================================================================================================================
+	// CONSTANTS
+	// =================================================================================================================
+
+	/** The distance (in array slots) between two counters, such that they reside in different cache lines. */
+	private static final int PADDING = 16;
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	/** The reader counters. Only every {@link #PADDING}th slot is in use. */
+	private final AtomicLongArray readerCounts;
+	/** The number of counters, minus one. The number of counters is always a power of two. */
+	private final int counterMask;
+
+	/** The number of ongoing {@linkplain #drain() drain} operations. The gate is open if (and only if) this is zero. */
+	private final AtomicInteger closeCount = new AtomicInteger(0);
+
+	/** The number of times the current thread has entered the gate (without leaving it). */
+	private final ThreadLocal<int[]> entryDepth = ThreadLocal.withInitial(() -> new int[1]);
+
+	/** Closing this lock leaves the gate. There is only one instance, as the state is kept per thread. */
+	private final AutoLock entryLock = new EntryLock();
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public SnapshotReadGate() {
+		int counters = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2) - 1) << 1;
+		this.readerCounts = new AtomicLongArray(counters * PADDING);
+		this.counterMask = counters - 1;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Attempts to enter this gate with the current thread.
+	 *
+	 * <p>
+	 * This method never blocks. Usage example:
+	 *
+	 * <pre>
+	 * AutoLock lock = gate.tryEnter();
+	 * if (lock != null) {
+	 * 	try {
+	 * 		// perform the lock-free read
+	 * 	} finally {
+	 * 		lock.close();
+	 * 	}
+	 * }
+	 * </pre>
+	 *
+	 * @return The lock which needs to be closed in order to leave the gate again, or <code>null</code> if the gate is
+	 *         currently closed.
+	 */
+	public AutoLock tryEnter() {
+		int[] depth = this.entryDepth.get();
+		if (depth[0] > 0) {
+			// reentrant access; we are inside the gate already, so no drain can be completed right now
+			depth[0]++;
+			return this.entryLock;
+		}
+		int slot = this.getSlotForCurrentThread();
+		this.readerCounts.incrementAndGet(slot);
+		// note: the increment above and the check below pair up with the increment of the close count and the
+		// check of the reader counts in 'drain()'. At least one of the two parties will see the other.
+		if (this.closeCount.get() > 0) {
+			this.readerCounts.decrementAndGet(slot);
+			return null;
+		}
+		depth[0] = 1;
+		return this.entryLock;
+	}
+
+	/**
+	 * Checks if the current thread is inside this gate.
+	 *
+	 * @return <code>true</code> if the current thread has entered this gate and did not leave it yet, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isEnteredByCurrentThread() {
+		return this.entryDepth.get()[0] > 0;
+	}
+
+	/**
+	 * Closes this gate for new readers and waits until all readers have left.
+	 *
+	 * <p>
+	 * Drain operations may be nested and may be performed concurrently; the gate remains closed until all of them have
+	 * been completed.
+	 *
+	 * @return The lock which needs to be closed in order to re-open the gate. Never <code>null</code>.
+	 *
+	 * @throws IllegalStateException
+	 *             Thrown if the current thread is inside this gate, as it would wait for itself.
+	 */
+	public AutoLock drain() {
+		if (this.isEnteredByCurrentThread()) {
+			throw new IllegalStateException("Cannot drain a snapshot read gate from within a snapshot read!");
+		}
+		AutoLock lock = new DrainLock();
+		lock.acquireLock();
+		return lock;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private int getSlotForCurrentThread() {
+		long threadId = Thread.currentThread().getId();
+		return (int) (threadId & this.counterMask) * PADDING;
+	}
+
+	private void leave() {
+		int[] depth = this.entryDepth.get();
+		if (depth[0] <= 0) {
+			throw new IllegalStateException("Attempted to leave a snapshot read gate that was not entered before!");
+		}
+		depth[0]--;
+		if (depth[0] == 0) {
+			this.readerCounts.decrementAndGet(this.getSlotForCurrentThread());
+		}
+	}
+
+	private void awaitReaders() {
+		int spins = 0;
+		for (int counter = 0; counter <= this.counterMask; counter++) {
+			while (this.readerCounts.get(counter * PADDING) > 0) {
+				// readers are short-lived; spin for a while, then back off
+				if (spins < 100) {
+					spins++;
+					Thread.yield();
+				} else {
+					LockSupport.parkNanos(100_000);
+				}
+			}
+		}
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private class EntryLock implements AutoLock {
+
+		@Override
+		public void acquireLock() {
+			if (SnapshotReadGate.this.isEnteredByCurrentThread() == false) {
+				throw new IllegalStateException(
+						"Cannot re-acquire a snapshot read lock which is not held by the current thread!");
+			}
+			SnapshotReadGate.this.entryDepth.get()[0]++;
+		}
+
+		@Override
+		public void releaseLock() {
+			SnapshotReadGate.this.leave();
+		}
+
+	}
+
+	private class DrainLock extends AbstractAutoLock {
+
+		@Override
+		protected void doLock() {
+			SnapshotReadGate.this.closeCount.incrementAndGet();
+			SnapshotReadGate.this.awaitReaders();
+		}
+
+		@Override
+		protected void doUnlock() {
+			SnapshotReadGate.this.closeCount.decrementAndGet();
+		}
+
+	}
+
+}
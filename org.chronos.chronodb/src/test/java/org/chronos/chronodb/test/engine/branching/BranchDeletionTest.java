@@ -1,54 +1,147 @@
-//package org.chronos.chronodb.test.engine.branching;
-//
-//import org.chronos.chronodb.api.ChronoDB;
-//import org.chronos.chronodb.api.ChronoDBConstants;
-//import org.chronos.chronodb.api.ChronoDBTransaction;
-//import org.chronos.chronodb.api.exceptions.ChronoDBBranchingException;
-//import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
-//import org.chronos.common.test.junit.categories.IntegrationTest;
-//import org.junit.Test;
-//import org.junit.experimental.categories.Category;
-//
-//@Category(IntegrationTest.class)
-//public class BranchDeletionTest extends AllChronoDBBackendsTest {
-//
-//	@Test
-//	public void cannotRemoveMasterBranch() {
-//		ChronoDB db = this.getChronoDB();
-//		try {
-//			db.getBranchManager().removeBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER);
-//			fail("Managed to delete master branch!");
-//		} catch (ChronoDBBranchingException e) {
-//			// expected
-//		}
-//		// assert that the master branch is still present
-//		assertTrue(db.getBranchManager().existsBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER));
-//	}
-//
-//	@Test
-//	public void removingABranchWorks() {
-//		ChronoDB db = this.getChronoDB();
-//		// assert that the branch initially does not exist
-//		assertEquals(false, db.getBranchManager().existsBranch("MyBranch"));
-//		// create the branch
-//		db.getBranchManager().createBranch("MyBranch");
-//		// assert that it exists
-//		db.getBranchManager().existsBranch("MyBranch");
-//		// fill it with some data
-//		ChronoDBTransaction tx = db.tx("MyBranch");
-//		tx.put("first", 123);
-//		tx.put("second", 456);
-//		tx.commit();
-//		tx.put("third", 789);
-//		tx.commit();
-//		// assert that the data is present in the branch
-//		assertEquals(3, tx.keySet().size());
-//		// assert that the master branch is still empty
-//		tx = db.tx();
-//		assertTrue(tx.keySet().isEmpty());
-//		// remove the branch
-//		db.getBranchManager().removeBranch("MyBranch");
-//		// assert that the branch is gone
-//		assertEquals(false, db.getBranchManager().existsBranch("MyBranch"));
-//	}
-//}
+package org.chronos.chronodb.test.engine.branching;
+
+import static org.junit.Assert.*;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.exceptions.ChronoDBBranchingException;
+import org.chronos.chronodb.internal.util.ChronosBackend;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.util.model.payload.NamedPayload;
+import org.chronos.chronodb.test.util.model.payload.NamedPayloadNameIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(IntegrationTest.class)
+public class BranchDeletionTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void cannotDeleteMasterBranch() {
+		ChronoDB db = this.getChronoDB();
+		try {
+			db.getBranchManager().deleteBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER);
+			fail("Managed to delete master branch!");
+		} catch (ChronoDBBranchingException e) {
+			// expected
+		}
+		// assert that the master branch is still present
+		assertTrue(db.getBranchManager().existsBranch(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER));
+	}
+
+	@Test
+	public void deletingABranchWorks() {
+		ChronoDB db = this.getChronoDB();
+		// assert that the branch initially does not exist
+		assertEquals(false, db.getBranchManager().existsBranch("MyBranch"));
+		// create the branch
+		db.getBranchManager().createBranch("MyBranch");
+		// assert that it exists
+		assertTrue(db.getBranchManager().existsBranch("MyBranch"));
+		// fill it with some data
+		ChronoDBTransaction tx = db.tx("MyBranch");
+		tx.put("first", 123);
+		tx.put("second", 456);
+		tx.commit();
+		tx.put("third", 789);
+		tx.commit();
+		// assert that the data is present in the branch
+		assertEquals(3, tx.keySet().size());
+		// assert that the master branch is still empty
+		tx = db.tx();
+		assertTrue(tx.keySet().isEmpty());
+		// delete the branch
+		db.getBranchManager().deleteBranch("MyBranch");
+		// assert that the branch is gone
+		assertEquals(false, db.getBranchManager().existsBranch("MyBranch"));
+		assertEquals(false, db.getBranchManager().getBranchNames().contains("MyBranch"));
+		try {
+			db.tx("MyBranch");
+			fail("Managed to open a transaction on a deleted branch!");
+		} catch (Exception expected) {
+			// pass
+		}
+		// deleting it again must fail
+		try {
+			db.getBranchManager().deleteBranch("MyBranch");
+			fail("Managed to delete a branch which does not exist!");
+		} catch (ChronoDBBranchingException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void cannotDeleteBranchWithChildBranches() {
+		ChronoDB db = this.getChronoDB();
+		db.getBranchManager().createBranch("Parent");
+		db.getBranchManager().createBranch("Parent", "Child");
+		try {
+			db.getBranchManager().deleteBranch("Parent");
+			fail("Managed to delete a branch which has child branches!");
+		} catch (ChronoDBBranchingException e) {
+			// expected
+		}
+		assertTrue(db.getBranchManager().existsBranch("Parent"));
+		// after deleting the child, the parent can be deleted as well
+		db.getBranchManager().deleteBranch("Child");
+		db.getBranchManager().deleteBranch("Parent");
+		assertEquals(false, db.getBranchManager().existsBranch("Parent"));
+		assertEquals(false, db.getBranchManager().existsBranch("Child"));
+	}
+
+	@Test
+	public void branchNameCanBeReusedAfterDeletion() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("name", new NamedPayloadNameIndexer());
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("master", NamedPayload.create1KB("Master"));
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		tx = db.tx("MyBranch");
+		tx.put("old", NamedPayload.create1KB("Old"));
+		tx.put("ks", "old", NamedPayload.create1KB("Old"));
+		tx.commit();
+		db.getBranchManager().deleteBranch("MyBranch");
+		db.getBranchManager().createBranch("MyBranch");
+		tx = db.tx("MyBranch");
+		// the new branch must not see any data of the deleted branch
+		assertNull(tx.get("old"));
+		assertNull(tx.get("ks", "old"));
+		assertEquals(1, tx.keySet().size());
+		assertEquals(0, tx.find().inDefaultKeyspace().where("name").isEqualTo("Old").count());
+		assertEquals(1, tx.find().inDefaultKeyspace().where("name").isEqualTo("Master").count());
+		// the new branch must be fully functional
+		tx.put("new", NamedPayload.create1KB("New"));
+		tx.commit();
+		assertEquals(1, tx.find().inDefaultKeyspace().where("name").isEqualTo("New").count());
+		assertNotNull(db.tx("MyBranch").get("new"));
+		assertNull(db.tx().get("new"));
+	}
+
+	@Test
+	public void branchDeletionIsPersistent() {
+		ChronoDB db = this.getChronoDB();
+		// the JDBC tests run on in-memory databases which do not survive a restart
+		Assume.assumeFalse(db.getConfiguration().getBackendType().equals(ChronosBackend.JDBC));
+		db.getBranchManager().createBranch("MyBranch");
+		db.getBranchManager().createBranch("OtherBranch");
+		ChronoDBTransaction tx = db.tx("MyBranch");
+		tx.put("a", 1);
+		tx.commit();
+		tx = db.tx("OtherBranch");
+		tx.put("b", 2);
+		tx.commit();
+		db.getBranchManager().deleteBranch("MyBranch");
+		db = this.closeAndReopenDB();
+		assertEquals(false, db.getBranchManager().existsBranch("MyBranch"));
+		assertTrue(db.getBranchManager().existsBranch("OtherBranch"));
+		assertEquals(2, (int) db.tx("OtherBranch").get("b"));
+		// the name of the deleted branch can be reused after reopening
+		db.getBranchManager().createBranch("MyBranch");
+		assertNull(db.tx("MyBranch").get("a"));
+	}
+
+}
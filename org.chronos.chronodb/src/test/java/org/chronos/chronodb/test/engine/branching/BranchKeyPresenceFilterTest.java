@@ -0,0 +1,112 @@
+package org.chronos.chronodb.test.engine.branching;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.key.QualifiedKey;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.api.cache.ChronoDBCache;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class BranchKeyPresenceFilterTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void readsOnDeeplyNestedBranchesWork() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("master", "master");
+		tx.put("overridden", "master");
+		tx.commit();
+		// create a chain of branches, each one writing its own key
+		String parentBranch = ChronoDBConstants.MASTER_BRANCH_IDENTIFIER;
+		for (int i = 0; i < 6; i++) {
+			String branch = "b" + i;
+			db.getBranchManager().createBranch(parentBranch, branch);
+			tx = db.tx(branch);
+			tx.put(branch, branch);
+			tx.put("overridden", branch);
+			tx.commit();
+			parentBranch = branch;
+		}
+		// changes in the origin after branching must remain invisible
+		tx = db.tx();
+		tx.put("master", "changed");
+		tx.put("late", "late");
+		tx.commit();
+
+		tx = db.tx("b5");
+		assertEquals("master", tx.get("master"));
+		assertEquals("b5", tx.get("overridden"));
+		for (int i = 0; i < 6; i++) {
+			assertEquals("b" + i, tx.get("b" + i));
+		}
+		assertNull(tx.get("late"));
+		assertNull(tx.get("nonExistingKey"));
+		assertEquals(7, Lists.newArrayList(tx.history("overridden")).size());
+		assertEquals(1, Lists.newArrayList(tx.history("b2")).size());
+		assertEquals(1, Lists.newArrayList(tx.history("master")).size());
+	}
+
+	@Test
+	public void writingAKeyInTheBranchAfterReadingItFromTheOriginWorks() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", 1);
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		tx = db.tx("MyBranch");
+		tx.put("b", 2);
+		tx.commit();
+		// read the value from the origin
+		assertEquals(1, (int) tx.get("a"));
+		long beforeWrite = tx.getTimestamp();
+		// override the value in the branch
+		tx.put("a", 42);
+		tx.commit();
+		assertEquals(42, (int) tx.get("a"));
+		assertEquals(42, (int) db.tx("MyBranch").get("a"));
+		assertEquals(1, (int) db.tx("MyBranch", beforeWrite).get("a"));
+		assertEquals(1, (int) db.tx().get("a"));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "10000")
+	public void readsWhichFallThroughToTheOriginAreCachedInTheBranch() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		tx = db.tx("MyBranch");
+		tx.put("b", "branch");
+		tx.commit();
+		ChronoDBCache cache = db.getCache();
+		QualifiedKey qKey = QualifiedKey.createInDefaultKeyspace("a");
+		long timestamp = tx.getTimestamp();
+		assertFalse(cache.get("MyBranch", timestamp, qKey).isHit());
+		assertEquals("master", tx.get("a"));
+		// the value is valid in the branch until the branch overrides it
+		assertTrue(cache.get("MyBranch", timestamp, qKey).isHit());
+		assertTrue(cache.get("MyBranch", Long.MAX_VALUE - 1, qKey).isHit());
+		// overriding the key in the branch must terminate the validity of the cached entry
+		tx.put("a", "branch");
+		tx.commit();
+		assertEquals("branch", tx.get("a"));
+		assertEquals("master", db.tx("MyBranch", timestamp).get("a"));
+		List<Long> history = Lists.newArrayList(tx.history("a"));
+		assertEquals(2, history.size());
+	}
+
+}
@@ -0,0 +1,224 @@
+package org.chronos.chronodb.test.engine.branching;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.key.TemporalKey;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class BranchMaterializationTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void materializationDoesNotChangeReadResults() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getBranchManager().isBranchMaterializationSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", 1);
+		tx.put("b", 1);
+		tx.put("c", 1);
+		tx.put("ks", "x", 1);
+		tx.commit();
+		long afterFirstCommit = tx.getTimestamp();
+		tx.put("a", 2);
+		tx.remove("c");
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		// changes in the origin after branching must remain invisible
+		tx.put("a", 3);
+		tx.put("late", 3);
+		tx.commit();
+		ChronoDBTransaction branchTx = db.tx("MyBranch");
+		branchTx.put("b", 42);
+		branchTx.put("d", 42);
+		branchTx.commit();
+		long branchNow = branchTx.getTimestamp();
+
+		this.assertBranchContents(db, afterFirstCommit, branchNow);
+		db.getBranchManager().materializeBranch("MyBranch");
+		this.assertBranchContents(db, afterFirstCommit, branchNow);
+		// materializing twice is harmless
+		db.getBranchManager().materializeBranch("MyBranch");
+		this.assertBranchContents(db, afterFirstCommit, branchNow);
+
+		// the branch remains writable
+		branchTx = db.tx("MyBranch");
+		branchTx.put("a", 42);
+		branchTx.commit();
+		assertEquals(42, (int) db.tx("MyBranch").get("a"));
+		assertEquals(3, Lists.newArrayList(db.tx("MyBranch").history("a")).size());
+		assertEquals(3, (int) db.tx().get("a"));
+	}
+
+	@Test
+	public void subBranchesOfMaterializedBranchesWork() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getBranchManager().isBranchMaterializationSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.put("b", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("b1");
+		tx = db.tx("b1");
+		tx.put("b", "b1");
+		tx.commit();
+		db.getBranchManager().createBranch("b1", "b2");
+		tx = db.tx("b2");
+		tx.put("c", "b2");
+		tx.commit();
+		tx = db.tx("b1");
+		tx.put("a", "b1");
+		tx.commit();
+		// materialize the middle of the chain first, then the leaf
+		db.getBranchManager().materializeBranch("b1");
+		tx = db.tx("b2");
+		assertEquals("master", tx.get("a"));
+		assertEquals("b1", tx.get("b"));
+		assertEquals("b2", tx.get("c"));
+		db.getBranchManager().materializeBranch("b2");
+		tx = db.tx("b2");
+		assertEquals("master", tx.get("a"));
+		assertEquals("b1", tx.get("b"));
+		assertEquals("b2", tx.get("c"));
+		assertEquals(Sets.newHashSet("a", "b", "c"), tx.keySet());
+		assertEquals(2, Lists.newArrayList(tx.history("b")).size());
+		assertEquals("b1", db.tx("b1").get("a"));
+	}
+
+	@Test
+	public void readsDuringMaterializationWork() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		if (db.getBranchManager().isBranchMaterializationSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 500; i++) {
+			tx.put("key" + i, i);
+		}
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> future = executor.submit(() -> db.getBranchManager().materializeBranch("MyBranch"));
+			while (future.isDone() == false) {
+				ChronoDBTransaction branchTx = db.tx("MyBranch");
+				assertEquals(250, (int) branchTx.get("key250"));
+				assertEquals(1, Lists.newArrayList(branchTx.history("key250")).size());
+			}
+			future.get();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		ChronoDBTransaction branchTx = db.tx("MyBranch");
+		assertEquals(500, branchTx.keySet().size());
+		assertEquals(499, (int) branchTx.get("key499"));
+	}
+
+	@Test
+	public void readsDuringMaterializationNeverSeeOutdatedVersions() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		if (db.getBranchManager().isBranchMaterializationSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int version = 0; version < 3; version++) {
+			for (int i = 0; i < 1000; i++) {
+				tx.put("key" + i, version);
+			}
+			tx.commit();
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			tx.remove("key" + i);
+		}
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> future = executor.submit(() -> db.getBranchManager().materializeBranch("MyBranch"));
+			while (future.isDone() == false) {
+				ChronoDBTransaction branchTx = db.tx("MyBranch");
+				for (int i = 0; i < 1000; i += 99) {
+					if (i % 2 == 0) {
+						assertNull(branchTx.get("key" + i));
+					} else {
+						assertEquals(2, (int) branchTx.get("key" + i));
+					}
+				}
+				assertEquals(500, branchTx.keySet().size());
+			}
+			future.get();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		ChronoDBTransaction branchTx = db.tx("MyBranch");
+		assertEquals(500, branchTx.keySet().size());
+		assertNull(branchTx.get("key0"));
+		assertEquals(2, (int) branchTx.get("key1"));
+		assertEquals(4, Lists.newArrayList(branchTx.history("key0")).size());
+	}
+
+	@Test
+	public void materializationIsRejectedOnUnsupportedBackends() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getBranchManager().isBranchMaterializationSupported()) {
+			return;
+		}
+		db.getBranchManager().createBranch("MyBranch");
+		try {
+			db.getBranchManager().materializeBranch("MyBranch");
+			fail("Managed to materialize a branch on a backend which does not support it!");
+		} catch (UnsupportedOperationException expected) {
+			// pass
+		}
+	}
+
+	private void assertBranchContents(final ChronoDB db, final long afterFirstCommit, final long branchNow) {
+		ChronoDBTransaction tx = db.tx("MyBranch");
+		assertEquals(2, (int) tx.get("a"));
+		assertEquals(42, (int) tx.get("b"));
+		assertNull(tx.get("c"));
+		assertEquals(42, (int) tx.get("d"));
+		assertNull(tx.get("late"));
+		assertEquals(1, (int) tx.get("ks", "x"));
+		assertEquals(Sets.newHashSet("a", "b", "d"), tx.keySet());
+		assertEquals(Sets.newHashSet("x"), tx.keySet("ks"));
+		assertEquals(2, Lists.newArrayList(tx.history("a")).size());
+		assertEquals(2, Lists.newArrayList(tx.history("b")).size());
+		assertEquals(2, Lists.newArrayList(tx.history("c")).size());
+		// reads in the past of the branch are forwarded to the origin
+		ChronoDBTransaction pastTx = db.tx("MyBranch", afterFirstCommit);
+		assertEquals(1, (int) pastTx.get("a"));
+		assertEquals(1, (int) pastTx.get("c"));
+		// modifications only report the changes performed in the branch itself
+		Iterator<TemporalKey> modifications = tx
+				.getModificationsInKeyspaceBetween(ChronoDBConstants.DEFAULT_KEYSPACE_NAME, 0, branchNow);
+		List<TemporalKey> modificationList = Lists.newArrayList(modifications);
+		Set<String> modifiedKeys = Sets.newHashSet();
+		modificationList.forEach(key -> modifiedKeys.add(key.getKey()));
+		assertEquals(Sets.newHashSet("b", "d"), modifiedKeys);
+		assertEquals(2, modificationList.size());
+	}
+
+}
@@ -565,4 +565,29 @@ public class IndexMatchModesTest extends AllChronoDBBackendsTest {
 		assertEquals(1, count2);
 	}
 
+	@Test
+	public void testEqualsWithSpecialCharacters() {
+		ChronoDB db = this.getChronoDB();
+		StringIndexer nameIndexer = new NamedPayloadNameIndexer();
+		db.getIndexManager().addIndexer("name", nameIndexer);
+		db.getIndexManager().reindexAll();
+		// generate and insert test data
+		NamedPayload np1 = NamedPayload.create1KB("a|b\\c");
+		NamedPayload np2 = NamedPayload.create1KB("a%c");
+		NamedPayload np3 = NamedPayload.create1KB("a_c");
+		NamedPayload np4 = NamedPayload.create1KB("abc");
+		ChronoDBTransaction tx = db.tx();
+		tx.put("np1", np1);
+		tx.put("np2", np2);
+		tx.put("np3", np3);
+		tx.put("np4", np4);
+		tx.commit();
+		// wildcard characters of the backend must be matched literally
+		assertEquals(1, tx.find().inDefaultKeyspace().where("name").isEqualTo("a|b\\c").count());
+		assertEquals(1, tx.find().inDefaultKeyspace().where("name").isEqualTo("a%c").count());
+		assertEquals(1, tx.find().inDefaultKeyspace().where("name").isEqualTo("a_c").count());
+		assertEquals(1, tx.find().inDefaultKeyspace().where("name").isEqualTo("abc").count());
+		assertEquals(0, tx.find().inDefaultKeyspace().where("name").isEqualTo("a%").count());
+	}
+
 }
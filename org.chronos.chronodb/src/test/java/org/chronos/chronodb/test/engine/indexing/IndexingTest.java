@@ -21,6 +21,7 @@ import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification;
 import org.chronos.chronodb.internal.impl.query.TextMatchMode;
+import org.chronos.chronodb.internal.util.ChronosBackend;
 import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
 import org.chronos.chronodb.test.base.InstantiateChronosWith;
 import org.chronos.chronodb.test.util.model.payload.NamedPayload;
@@ -158,6 +159,34 @@ public class IndexingTest extends AllChronoDBBackendsTest {
 		this.assertAddingSecondIndexerFails(db, new DummyDoubleIndexer(), new DummyLongIndexer());
 	}
 
+	@Test
+	public void reindexingASingleIndexLeavesTheOtherIndicesAlone() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("name", new NamedPayloadNameIndexer());
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("np1", NamedPayload.create1KB("Hello World"));
+		tx.put("np2", NamedPayload.create1KB("Foo Bar"));
+		tx.commit();
+		// add a second index, but only rebuild the first one
+		db.getIndexManager().addIndexer("other", new DummyStringIndexer());
+		assertTrue(db.getIndexManager().getDirtyIndices().contains("other"));
+		db.getIndexManager().reindex("name");
+		assertFalse(db.getIndexManager().getDirtyIndices().contains("name"));
+		if (db.getConfiguration().getBackendType().equals(ChronosBackend.CHUNKDB) == false) {
+			// the chunked backend always rebuilds all indices at once
+			assertTrue(db.getIndexManager().getDirtyIndices().contains("other"));
+		}
+		// the rebuilt index still contains the existing data
+		assertEquals(1, db.tx().find().inDefaultKeyspace().where("name").isEqualTo("Hello World").count());
+		assertEquals(1, db.tx().find().inDefaultKeyspace().where("name").isEqualTo("Foo Bar").count());
+		// a clean index can be rebuilt as well
+		db.getIndexManager().reindexAll();
+		db.getIndexManager().reindex("name");
+		assertTrue(db.getIndexManager().getDirtyIndices().isEmpty());
+		assertEquals(1, db.tx().find().inDefaultKeyspace().where("name").isEqualTo("Foo Bar").count());
+	}
+
 	@Test
 	public void canDropAllIndices() {
 		ChronoDB db = this.getChronoDB();
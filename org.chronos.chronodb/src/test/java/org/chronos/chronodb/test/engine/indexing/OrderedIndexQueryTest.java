@@ -0,0 +1,217 @@
+package org.chronos.chronodb.test.engine.indexing;
+
+import static com.google.common.base.Preconditions.*;
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.IndexManager;
+import org.chronos.chronodb.api.Order;
+import org.chronos.chronodb.api.query.Condition;
+import org.chronos.chronodb.api.query.NumberCondition;
+import org.chronos.chronodb.api.query.StringCondition;
+import org.chronos.chronodb.internal.api.query.searchspec.DoubleSearchSpecification;
+import org.chronos.chronodb.internal.api.query.searchspec.LongSearchSpecification;
+import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
+import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification;
+import org.chronos.chronodb.internal.impl.query.TextMatchMode;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.util.ReflectiveDoubleIndexer;
+import org.chronos.chronodb.test.util.ReflectiveLongIndexer;
+import org.chronos.chronodb.test.util.ReflectiveStringIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class OrderedIndexQueryTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void canQueryLongIndexInOrder() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveLongIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", new Bean(34L));
+		tx.put("b", new Bean(-27L));
+		tx.put("c", new Bean(13L));
+		tx.put("d", new Bean("no long value"));
+		tx.commit();
+		SearchSpecification<?> all = LongSearchSpecification.create("value", NumberCondition.GREATER_EQUAL,
+				Long.MIN_VALUE);
+		assertEquals(Lists.newArrayList("b", "c", "a"), this.queryOrdered(db, "master", all, Order.ASCENDING));
+		assertEquals(Lists.newArrayList("a", "c", "b"), this.queryOrdered(db, "master", all, Order.DESCENDING));
+		SearchSpecification<?> positive = LongSearchSpecification.create("value", NumberCondition.GREATER_THAN, 0);
+		assertEquals(Lists.newArrayList("a", "c"), this.queryOrdered(db, "master", positive, Order.DESCENDING));
+	}
+
+	@Test
+	public void canQueryDoubleIndexInOrder() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveDoubleIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", new Bean(3.5));
+		tx.put("b", new Bean(-0.25));
+		tx.put("c", new Bean(1.75));
+		tx.commit();
+		SearchSpecification<?> all = DoubleSearchSpecification.create("value", NumberCondition.GREATER_EQUAL,
+				-Double.MAX_VALUE, 0);
+		assertEquals(Lists.newArrayList("b", "c", "a"), this.queryOrdered(db, "master", all, Order.ASCENDING));
+		assertEquals(Lists.newArrayList("a", "c", "b"), this.queryOrdered(db, "master", all, Order.DESCENDING));
+	}
+
+	@Test
+	public void canQueryStringIndexInOrder() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveStringIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", new Bean("Martin"));
+		tx.put("b", new Bean("Anna"));
+		tx.put("c", new Bean("John"));
+		tx.put("d", new Bean("Mary"));
+		tx.commit();
+		SearchSpecification<?> all = StringSearchSpecification.create("value", StringCondition.STARTS_WITH,
+				TextMatchMode.STRICT, "");
+		assertEquals(Lists.newArrayList("b", "c", "a", "d"), this.queryOrdered(db, "master", all, Order.ASCENDING));
+		SearchSpecification<?> startsWithM = StringSearchSpecification.create("value", StringCondition.STARTS_WITH,
+				TextMatchMode.STRICT, "M");
+		assertEquals(Lists.newArrayList("d", "a"), this.queryOrdered(db, "master", startsWithM, Order.DESCENDING));
+	}
+
+	@Test
+	public void multiValuedKeysAreReportedOnceAtTheirFirstValue() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveLongIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", new Bean(Sets.newHashSet(1L, 50L)));
+		tx.put("b", new Bean(20L));
+		tx.put("c", new Bean(Sets.newHashSet(10L, 30L)));
+		tx.commit();
+		SearchSpecification<?> all = LongSearchSpecification.create("value", NumberCondition.GREATER_EQUAL,
+				Long.MIN_VALUE);
+		assertEquals(Lists.newArrayList("a", "c", "b"), this.queryOrdered(db, "master", all, Order.ASCENDING));
+		assertEquals(Lists.newArrayList("a", "c", "b"), this.queryOrdered(db, "master", all, Order.DESCENDING));
+	}
+
+	@Test
+	public void orderedQueryRespectsTimestampsAndBranches() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveLongIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", new Bean(1L));
+		tx.put("b", new Bean(2L));
+		tx.put("c", new Bean(3L));
+		tx.commit();
+		long afterFirstCommit = tx.getTimestamp();
+		db.getBranchManager().createBranch("test");
+		ChronoDBTransaction branchTx = db.tx("test");
+		branchTx.put("a", new Bean(10L));
+		branchTx.remove("b");
+		branchTx.commit();
+		tx.put("c", new Bean(0L));
+		tx.commit();
+		SearchSpecification<?> all = LongSearchSpecification.create("value", NumberCondition.GREATER_EQUAL,
+				Long.MIN_VALUE);
+		assertEquals(Lists.newArrayList("c", "a", "b"), this.queryOrdered(db, "master", all, Order.ASCENDING));
+		assertEquals(Lists.newArrayList("a", "c"), this.queryOrdered(db, "test", all, Order.DESCENDING));
+		Branch master = db.getBranchManager().getMasterBranch();
+		Iterator<String> iterator = db.getIndexManager().queryIndexOrdered(afterFirstCommit, master,
+				ChronoDBConstants.DEFAULT_KEYSPACE_NAME, all, Order.ASCENDING);
+		assertEquals(Lists.newArrayList("a", "b", "c"), Lists.newArrayList(iterator));
+	}
+
+	@Test
+	public void smallBatchesDeliverTheSameOrder() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveLongIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 20; i++) {
+			tx.put("k" + i, new Bean((long) (i * 7 % 20) * 2));
+		}
+		tx.put("multi", new Bean(Sets.newHashSet(3L, 25L, 37L)));
+		tx.commit();
+		SearchSpecification<?> all = LongSearchSpecification.create("value", NumberCondition.GREATER_EQUAL,
+				Long.MIN_VALUE);
+		SearchSpecification<?> aboveTen = LongSearchSpecification.create("value", NumberCondition.GREATER_THAN, 10);
+		for (SearchSpecification<?> searchSpec : Lists.newArrayList(all, aboveTen)) {
+			for (Order order : Order.values()) {
+				List<String> expected = this.queryOrdered(db, "master", searchSpec, order, 1000);
+				assertEquals(Sets.newHashSet(expected).size(), expected.size());
+				assertEquals(expected, this.queryOrdered(db, "master", searchSpec, order, 1));
+				assertEquals(expected, this.queryOrdered(db, "master", searchSpec, order, 3));
+			}
+		}
+		assertEquals(Lists.newArrayList("k0", "k3", "multi"), this.queryOrdered(db, "master", all, Order.ASCENDING, 1)
+				.subList(0, 3));
+		assertEquals(Lists.newArrayList("k17", "multi", "k14"), this.queryOrdered(db, "master", aboveTen,
+				Order.DESCENDING, 2).subList(0, 3));
+	}
+
+	@Test
+	public void cannotOrderBySearchSpecificationWhichAcceptsEmptyValue() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("value", new ReflectiveStringIndexer(Bean.class, "value"));
+		db.getIndexManager().reindexAll();
+		SearchSpecification<?> notMartin = StringSearchSpecification.create("value", Condition.NOT_EQUALS,
+				TextMatchMode.STRICT, "Martin");
+		try {
+			this.queryOrdered(db, "master", notMartin, Order.ASCENDING);
+			fail("Managed to run an ordered query with a search specification that accepts the empty value!");
+		} catch (IllegalArgumentException expected) {
+			// pass
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private List<String> queryOrdered(final ChronoDB db, final String branchName, final SearchSpecification<?> searchSpec,
+			final Order order) {
+		return this.queryOrdered(db, branchName, searchSpec, order, IndexManager.DEFAULT_ORDERED_QUERY_BATCH_SIZE);
+	}
+
+	private List<String> queryOrdered(final ChronoDB db, final String branchName, final SearchSpecification<?> searchSpec,
+			final Order order, final int batchSize) {
+		Branch branch = db.getBranchManager().getBranch(branchName);
+		long timestamp = db.tx(branchName).getTimestamp();
+		return Lists.newArrayList(db.getIndexManager().queryIndexOrdered(timestamp, branch,
+				ChronoDBConstants.DEFAULT_KEYSPACE_NAME, searchSpec, order, batchSize));
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	@SuppressWarnings("unused")
+	private static class Bean {
+
+		private Object value;
+
+		protected Bean() {
+		}
+
+		public Bean(final Object value) {
+			checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+			this.value = value;
+		}
+
+		public Object getValue() {
+			return this.value;
+		}
+	}
+
+}
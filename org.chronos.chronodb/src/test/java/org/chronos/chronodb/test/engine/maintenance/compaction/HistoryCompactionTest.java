@@ -0,0 +1,305 @@
+package org.chronos.chronodb.test.engine.maintenance.compaction;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.HistoryCompactionReport;
+import org.chronos.chronodb.api.HistoryRetentionPolicy;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronodb.test.util.model.payload.NamedPayload;
+import org.chronos.chronodb.test.util.model.payload.NamedPayloadNameIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class HistoryCompactionTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void readsWithinTheRetentionWindowRemainExact() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		long[] timestamps = new long[5];
+		ChronoDBTransaction tx = db.tx();
+		tx.put("b", "b");
+		for (int i = 0; i < 5; i++) {
+			tx.put("a", i);
+			tx.commit("Commit " + i);
+			timestamps[i] = tx.getTimestamp();
+		}
+		TemporalKeyValueStore tkvs = this.getMasterTkvs();
+		HistoryCompactionReport report = tkvs.performHistoryCompaction(
+				Collections.singleton(ChronoDBConstants.DEFAULT_KEYSPACE_NAME), timestamps[3], 0);
+		// versions 0 and 1 of "a" are gone, version 2 is still visible at the cutoff
+		assertEquals(2, report.getNumberOfRemovedVersions());
+		// the first commit still contains key "b"
+		assertEquals(1, report.getNumberOfRemovedCommits());
+		assertTrue(report.getReclaimedBytes() > 0);
+		assertEquals(timestamps[3], report.getRetentionCutoffTimestamp());
+		// all reads at or after the cutoff are unchanged
+		assertEquals(3, (int) db.tx(timestamps[3]).get("a"));
+		assertEquals(4, (int) db.tx(timestamps[4]).get("a"));
+		assertEquals(2, (int) db.tx(timestamps[3] - 1).get("a"));
+		assertEquals("b", db.tx(timestamps[3]).get("b"));
+		assertEquals(3, Lists.newArrayList(db.tx().history("a")).size());
+		assertEquals(Sets.newHashSet("a", "b"), db.tx().keySet());
+		// the commit which no longer contains any changes is gone, including its metadata
+		tx = db.tx();
+		assertEquals(4, tx.countCommitTimestamps());
+		assertNull(tx.getCommitMetadata(timestamps[1]));
+		assertEquals("Commit 0", tx.getCommitMetadata(timestamps[0]));
+		assertEquals("Commit 2", tx.getCommitMetadata(timestamps[2]));
+		// the database remains writable
+		tx.put("a", 5);
+		tx.commit();
+		assertEquals(5, (int) db.tx().get("a"));
+	}
+
+	@Test
+	public void thinningRetainsTheLastVersionPerInterval() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 5; i++) {
+			tx.put("a", i);
+			tx.commit();
+		}
+		long now = tx.getTimestamp();
+		TemporalKeyValueStore tkvs = this.getMasterTkvs();
+		// every commit has its own timestamp, so an interval of one millisecond retains all versions
+		HistoryCompactionReport report = tkvs.performHistoryCompaction(
+				Collections.singleton(ChronoDBConstants.DEFAULT_KEYSPACE_NAME), now + 1, 1);
+		assertEquals(0, report.getNumberOfRemovedVersions());
+		assertEquals(0, report.getReclaimedBytes());
+		assertEquals(5, Lists.newArrayList(db.tx().history("a")).size());
+		// an interval which spans the entire history retains only the latest version
+		report = tkvs.performHistoryCompaction(Collections.singleton(ChronoDBConstants.DEFAULT_KEYSPACE_NAME),
+				now + 1, Long.MAX_VALUE);
+		assertEquals(4, report.getNumberOfRemovedVersions());
+		assertEquals(4, report.getNumberOfRemovedCommits());
+		assertEquals(1, Lists.newArrayList(db.tx().history("a")).size());
+		assertEquals(4, (int) db.tx().get("a"));
+	}
+
+	@Test
+	public void versionsVisibleToChildBranchesAreRetained() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		db.getIndexManager().addIndexer("name", new NamedPayloadNameIndexer());
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", NamedPayload.create1KB("v1"));
+		tx.commit();
+		tx.put("a", NamedPayload.create1KB("v2"));
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		tx.put("a", NamedPayload.create1KB("v3"));
+		tx.commit();
+		tx.put("a", NamedPayload.create1KB("v4"));
+		tx.commit();
+		long now = tx.getTimestamp();
+		HistoryCompactionReport report = this.getMasterTkvs().performHistoryCompaction(
+				Collections.singleton(ChronoDBConstants.DEFAULT_KEYSPACE_NAME), now, 0);
+		// only "v1" is removed; "v2" is visible to the child branch and "v3" is visible at the cutoff
+		assertEquals(1, report.getNumberOfRemovedVersions());
+		ChronoDBTransaction branchTx = db.tx("MyBranch");
+		assertEquals("v2", ((NamedPayload) branchTx.get("a")).getName());
+		assertEquals(1, branchTx.find().inDefaultKeyspace().where("name").isEqualTo("v2").count());
+		assertEquals(0, branchTx.find().inDefaultKeyspace().where("name").isEqualTo("v4").count());
+		assertEquals("v4", ((NamedPayload) db.tx().get("a")).getName());
+		assertEquals(1, db.tx().find().inDefaultKeyspace().where("name").isEqualTo("v4").count());
+		assertEquals(3, Lists.newArrayList(db.tx().history("a")).size());
+	}
+
+	@Test
+	public void compactionOfASingleKeyspaceLeavesOtherKeyspacesUntouched() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 3; i++) {
+			tx.put("a", i);
+			tx.put("ks", "a", i);
+			tx.commit();
+		}
+		long now = tx.getTimestamp();
+		HistoryCompactionReport report = this.getMasterTkvs().performHistoryCompaction(Collections.singleton("ks"),
+				now + 1, 0);
+		assertEquals(2, report.getNumberOfRemovedVersions());
+		// the commits still contain changes in the default keyspace
+		assertEquals(0, report.getNumberOfRemovedCommits());
+		assertEquals(1, Lists.newArrayList(db.tx().history("ks", "a")).size());
+		assertEquals(3, Lists.newArrayList(db.tx().history("a")).size());
+		assertEquals(3, db.tx().countCommitTimestamps());
+	}
+
+	@Test
+	public void backgroundCompactionWorks() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 3; i++) {
+			tx.put("a", i);
+			tx.commit();
+		}
+		this.sleep(5);
+		HistoryRetentionPolicy policy = HistoryRetentionPolicy.keepAllVersionsFor(0, TimeUnit.DAYS)
+				.thenKeepOneVersionPer(1, TimeUnit.DAYS);
+		Future<HistoryCompactionReport> future = db.getMaintenanceManager()
+				.performHistoryCompactionAsync(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, policy);
+		HistoryCompactionReport report = future.get(1, TimeUnit.MINUTES);
+		assertEquals(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, report.getBranchName());
+		assertEquals(2, report.getNumberOfRemovedVersions());
+		assertEquals(1, Lists.newArrayList(db.tx().history("a")).size());
+		assertEquals(2, (int) db.tx().get("a"));
+		// a policy with a retention period that covers the entire history has no effect
+		report = db.getMaintenanceManager().performHistoryCompaction(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER,
+				HistoryRetentionPolicy.keepAllVersionsFor(90, TimeUnit.DAYS));
+		assertEquals(0, report.getNumberOfRemovedVersions());
+	}
+
+	@Test
+	public void compactionOfAChildBranchDoesNotExposeOriginVersions() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", "master");
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		ChronoDBTransaction branchTx = db.tx("MyBranch");
+		long[] timestamps = new long[3];
+		for (int i = 0; i < 3; i++) {
+			branchTx.put("a", "branch" + i);
+			branchTx.commit();
+			timestamps[i] = branchTx.getTimestamp();
+		}
+		HistoryCompactionReport report = this.getTkvs("MyBranch").performHistoryCompaction(
+				Collections.singleton(ChronoDBConstants.DEFAULT_KEYSPACE_NAME), timestamps[2] + 1, 0);
+		// the earliest version in the branch is retained, otherwise reads would fall through to the master branch
+		assertEquals(1, report.getNumberOfRemovedVersions());
+		assertEquals("branch0", db.tx("MyBranch", timestamps[0]).get("a"));
+		assertEquals("branch0", db.tx("MyBranch", timestamps[1]).get("a"));
+		assertEquals("branch2", db.tx("MyBranch").get("a"));
+		assertEquals("master", db.tx().get("a"));
+	}
+
+	@Test
+	public void scheduledCompactionWorks() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 3; i++) {
+			tx.put("a", i);
+			tx.commit();
+		}
+		this.sleep(5);
+		HistoryRetentionPolicy policy = HistoryRetentionPolicy.keepAllVersionsFor(0, TimeUnit.DAYS);
+		ScheduledFuture<?> job = db.getMaintenanceManager().scheduleHistoryCompaction(policy, 10,
+				TimeUnit.MILLISECONDS);
+		try {
+			long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+			while (Lists.newArrayList(db.tx().history("a")).size() > 1 && System.currentTimeMillis() < deadline) {
+				this.sleep(10);
+			}
+			assertEquals(1, Lists.newArrayList(db.tx().history("a")).size());
+			assertEquals(2, (int) db.tx().get("a"));
+		} finally {
+			job.cancel(false);
+		}
+		assertTrue(job.isCancelled());
+	}
+
+	@Test
+	public void scheduledCompactionCanBeRestrictedToBranchAndKeyspace() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 3; i++) {
+			tx.put("a", i);
+			tx.put("other", "a", i);
+			tx.commit();
+		}
+		this.sleep(5);
+		HistoryRetentionPolicy policy = HistoryRetentionPolicy.keepAllVersionsFor(0, TimeUnit.DAYS);
+		ScheduledFuture<?> job = db.getMaintenanceManager().scheduleHistoryCompaction(
+				ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, "other", policy, 10, TimeUnit.MILLISECONDS);
+		try {
+			long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+			while (Lists.newArrayList(db.tx().history("other", "a")).size() > 1
+					&& System.currentTimeMillis() < deadline) {
+				this.sleep(10);
+			}
+			assertEquals(1, Lists.newArrayList(db.tx().history("other", "a")).size());
+			assertEquals(2, (int) db.tx().get("other", "a"));
+			// the default keyspace is not covered by the job
+			assertEquals(3, Lists.newArrayList(db.tx().history("a")).size());
+		} finally {
+			job.cancel(false);
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.HISTORY_RETENTION_PERIOD, value = "0")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.HISTORY_COMPACTION_INTERVAL, value = "10")
+	public void scheduledCompactionCanBeConfigured() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported() == false) {
+			return;
+		}
+		ChronoDBTransaction tx = db.tx();
+		for (int i = 0; i < 3; i++) {
+			tx.put("a", i);
+			tx.commit();
+		}
+		long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+		while (Lists.newArrayList(db.tx().history("a")).size() > 1 && System.currentTimeMillis() < deadline) {
+			this.sleep(10);
+		}
+		assertEquals(1, Lists.newArrayList(db.tx().history("a")).size());
+		assertEquals(2, (int) db.tx().get("a"));
+	}
+
+	@Test
+	public void compactionIsRejectedOnUnsupportedBackends() {
+		ChronoDB db = this.getChronoDB();
+		if (db.getMaintenanceManager().isHistoryCompactionSupported()) {
+			return;
+		}
+		try {
+			db.getMaintenanceManager().performHistoryCompaction(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER,
+					HistoryRetentionPolicy.keepAllVersionsFor(90, TimeUnit.DAYS));
+			fail("Managed to compact the history on a backend which does not support it!");
+		} catch (UnsupportedOperationException expected) {
+			// pass
+		}
+	}
+
+}
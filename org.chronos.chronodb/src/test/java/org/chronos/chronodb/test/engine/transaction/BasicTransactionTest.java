@@ -2,6 +2,9 @@ package org.chronos.chronodb.test.engine.transaction;
 
 import static org.junit.Assert.*;
 
+import java.util.Collections;
+import java.util.Map;
+
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.exceptions.ChronoDBTransactionException;
@@ -11,6 +14,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 
 @Category(IntegrationTest.class)
 public class BasicTransactionTest extends AllChronoDBBackendsTest {
@@ -26,6 +30,29 @@ public class BasicTransactionTest extends AllChronoDBBackendsTest {
 		assertEquals("Bar", tx.get("Foo"));
 	}
 
+	@Test
+	public void getMultipleWorks() {
+		ChronoDB chronoDB = this.getChronoDB();
+		ChronoDBTransaction tx = chronoDB.tx();
+		tx.put("test", "Hello", "World");
+		tx.put("test", "Foo", "Bar");
+		tx.put("test", "Number", 42);
+		tx.commit();
+		tx.remove("test", "Number");
+		tx.commit();
+		ChronoDBTransaction tx2 = chronoDB.tx();
+		Map<String, Object> values = tx2.getMultiple("test", Lists.newArrayList("Hello", "Foo", "Number", "Baz"));
+		assertEquals(2, values.size());
+		assertEquals("World", values.get("Hello"));
+		assertEquals("Bar", values.get("Foo"));
+		assertTrue(tx2.getMultiple("test", Collections.emptySet()).isEmpty());
+		assertTrue(tx2.getMultiple("unknown", Lists.newArrayList("Hello")).isEmpty());
+		// the old state is still visible at an earlier timestamp
+		ChronoDBTransaction tx3 = chronoDB.tx(tx2.getTimestamp() - 1);
+		Map<String, Object> oldValues = tx3.getMultiple("test", Lists.newArrayList("Hello", "Number"));
+		assertEquals(42, oldValues.get("Number"));
+	}
+
 	@Test
 	public void cantOpenTransactionIntoTheFuture() {
 		ChronoDB chronoDB = this.getChronoDB();
@@ -0,0 +1,182 @@
+package org.chronos.chronodb.test.engine.transaction;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.Branch;
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBConstants;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.DuplicateVersionEliminationMode;
+import org.chronos.chronodb.api.conflict.ConflictResolutionStrategy;
+import org.chronos.chronodb.api.indexing.Indexer;
+import org.chronos.chronodb.api.query.Condition;
+import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
+import org.chronos.chronodb.internal.impl.engines.base.PreparedCommit;
+import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification;
+import org.chronos.chronodb.internal.impl.query.TextMatchMode;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.util.model.payload.NamedPayload;
+import org.chronos.chronodb.test.util.model.payload.NamedPayloadNameIndexer;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class PreparedCommitTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void concurrentCommitsOnDisjointKeysWork() throws Exception {
+		ChronoDB db = this.getChronoDB();
+		int threadCount = 4;
+		int commitsPerThread = 20;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		try {
+			List<Future<?>> futures = Lists.newArrayList();
+			for (int t = 0; t < threadCount; t++) {
+				String prefix = "t" + t + "_";
+				futures.add(executor.submit(() -> {
+					ChronoDBTransaction tx = db.tx();
+					for (int i = 0; i < commitsPerThread; i++) {
+						tx.put(prefix + i, i);
+						tx.put(prefix + "counter", i);
+						tx.commit();
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+		ChronoDBTransaction tx = db.tx();
+		assertEquals(threadCount * (commitsPerThread + 1), tx.keySet().size());
+		for (int t = 0; t < threadCount; t++) {
+			assertEquals(commitsPerThread - 1, (int) tx.get("t" + t + "_counter"));
+			for (int i = 0; i < commitsPerThread; i++) {
+				assertEquals(i, (int) tx.get("t" + t + "_" + i));
+			}
+		}
+	}
+
+	@Test
+	public void duplicateVersionEliminationWorksOnSerialForms() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.txBuilder()
+				.withDuplicateVersionEliminationMode(DuplicateVersionEliminationMode.ON_COMMIT).build();
+		tx.put("set", Sets.newHashSet("a", "b", "c"));
+		tx.put("text", "Hello");
+		tx.commit();
+		// put equal values and remove a key that does not exist
+		tx.put("set", Sets.newHashSet("c", "b", "a"));
+		tx.put("text", "Hello");
+		tx.remove("nonExistingKey");
+		tx.commit();
+		assertEquals(1, Lists.newArrayList(tx.history("set")).size());
+		assertEquals(1, Lists.newArrayList(tx.history("text")).size());
+		assertFalse(tx.history("nonExistingKey").hasNext());
+		assertEquals(Sets.newHashSet("a", "b", "c"), tx.get("set"));
+	}
+
+	@Test
+	public void commitOnOutdatedTransactionResolvesConflicts() {
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx1 = db.txBuilder()
+				.withConflictResolutionStrategy(ConflictResolutionStrategy.OVERWRITE_WITH_SOURCE).build();
+		ChronoDBTransaction tx2 = db.tx();
+		tx2.put("key", "fromTx2");
+		tx2.put("other", "fromTx2");
+		tx2.commit();
+		// tx1 is now outdated, and conflicts with tx2 on "key"
+		tx1.put("key", "fromTx1");
+		tx1.put("unrelated", "fromTx1");
+		tx1.commit();
+		ChronoDBTransaction tx = db.tx();
+		assertEquals("fromTx1", tx.get("key"));
+		assertEquals("fromTx2", tx.get("other"));
+		assertEquals("fromTx1", tx.get("unrelated"));
+	}
+
+	@Test
+	public void secondaryIndexIsConsistentAfterPreparedCommits() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("name", new NamedPayloadNameIndexer());
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("np1", NamedPayload.create1KB("Hello World"));
+		tx.put("np2", NamedPayload.create1KB("Foo"));
+		tx.commit();
+		tx.put("np1", NamedPayload.create1KB("Foo"));
+		tx.remove("np2");
+		tx.commit();
+		Branch masterBranch = db.getBranchManager().getMasterBranch();
+		String keyspace = ChronoDBConstants.DEFAULT_KEYSPACE_NAME;
+		SearchSpecification<?> helloWorld = StringSearchSpecification.create("name", Condition.EQUALS,
+				TextMatchMode.STRICT, "Hello World");
+		SearchSpecification<?> foo = StringSearchSpecification.create("name", Condition.EQUALS, TextMatchMode.STRICT,
+				"Foo");
+		long now = tx.getTimestamp();
+		assertTrue(db.getIndexManager().queryIndex(now, masterBranch, keyspace, helloWorld).isEmpty());
+		Set<String> fooKeys = db.getIndexManager().queryIndex(now, masterBranch, keyspace, foo);
+		assertEquals(Sets.newHashSet("np1"), fooKeys);
+	}
+
+	@Test
+	public void preparedCommitsOnBranchesFetchOldValuesFromTheOrigin() {
+		ChronoDB db = this.getChronoDB();
+		db.getIndexManager().addIndexer("name", new NamedPayloadNameIndexer());
+		db.getIndexManager().reindexAll();
+		ChronoDBTransaction masterTx = db.tx();
+		masterTx.put("np1", NamedPayload.create1KB("Hello World"));
+		masterTx.put("np2", NamedPayload.create1KB("Foo"));
+		masterTx.put("text", "Hello");
+		masterTx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		ChronoDBTransaction tx = db.txBuilder().onBranch("MyBranch")
+				.withDuplicateVersionEliminationMode(DuplicateVersionEliminationMode.ON_COMMIT).build();
+		// the old values of these keys only exist in the origin branch
+		tx.put("np1", NamedPayload.create1KB("Foo"));
+		tx.put("text", "Hello");
+		tx.put("new", "Value");
+		tx.commit();
+		Branch branch = db.getBranchManager().getBranch("MyBranch");
+		assertEquals(1, Lists.newArrayList(tx.history("text")).size());
+		assertEquals("Value", tx.get("new"));
+		String keyspace = ChronoDBConstants.DEFAULT_KEYSPACE_NAME;
+		SearchSpecification<?> helloWorld = StringSearchSpecification.create("name", Condition.EQUALS,
+				TextMatchMode.STRICT, "Hello World");
+		SearchSpecification<?> foo = StringSearchSpecification.create("name", Condition.EQUALS, TextMatchMode.STRICT,
+				"Foo");
+		long now = tx.getTimestamp();
+		assertTrue(db.getIndexManager().queryIndex(now, branch, keyspace, helloWorld).isEmpty());
+		assertEquals(Sets.newHashSet("np1", "np2"), db.getIndexManager().queryIndex(now, branch, keyspace, foo));
+	}
+
+	@Test
+	public void preparedCommitDetectsReplacedIndexers() {
+		Map<String, Set<Indexer<?>>> indexers = Maps.newHashMap();
+		indexers.put("name", Sets.newHashSet(new NamedPayloadNameIndexer()));
+		PreparedCommit preparedCommit = new PreparedCommit(0, indexers);
+		assertTrue(preparedCommit.hasSameIndexers(indexers));
+		// an index with the same name, but a different indexer instance, invalidates the prepared commit
+		Map<String, Set<Indexer<?>>> replacedIndexers = Maps.newHashMap();
+		replacedIndexers.put("name", Sets.newHashSet(new NamedPayloadNameIndexer()));
+		assertFalse(preparedCommit.hasSameIndexers(replacedIndexers));
+		assertFalse(preparedCommit.hasSameIndexers(Collections.emptyMap()));
+	}
+
+}
@@ -0,0 +1,139 @@
+package org.chronos.chronodb.test.engine.transaction;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.chronos.chronodb.api.ChronoDB;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
+import org.chronos.chronodb.internal.api.TemporalKeyValueStore;
+import org.chronos.chronodb.internal.util.ChronosBackend;
+import org.chronos.chronodb.test.base.AllChronoDBBackendsTest;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class SnapshotReadTest extends AllChronoDBBackendsTest {
+
+	@Test
+	public void historicReadsDoNotWaitForCommits() throws Exception {
+		this.runReadDuringCommitTest();
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHING_ENABLED, value = "true")
+	@InstantiateChronosWith(property = ChronoDBConfiguration.CACHE_MAX_SIZE, value = "100")
+	public void historicReadsDoNotWaitForCommitsWithCache() throws Exception {
+		this.runReadDuringCommitTest();
+	}
+
+	@Test
+	public void readsOnChildBranchesDoNotWaitForCommits() throws Exception {
+		Set<String> supportedBackends = Sets.newHashSet(ChronosBackend.INMEMORY.toString(),
+				ChronosBackend.TUPL.toString(), ChronosBackend.JDBC.toString());
+		Assume.assumeTrue(supportedBackends.contains(this.getChronoBackendName()));
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", 1);
+		tx.commit();
+		db.getBranchManager().createBranch("MyBranch");
+		ChronoDBTransaction branchTx = db.tx("MyBranch");
+		branchTx.put("b", 1);
+		branchTx.commit();
+		ChronoDBTransaction readTx = db.tx("MyBranch");
+		// block a commit on the child branch while it holds the branch lock
+		CountDownLatch commitStarted = new CountDownLatch(1);
+		CountDownLatch commitMayProceed = new CountDownLatch(1);
+		this.getTkvs("MyBranch").setDebugCallbackBeforeCacheUpdate(committingTx -> {
+			commitStarted.countDown();
+			awaitUninterruptibly(commitMayProceed);
+		});
+		Thread committer = new Thread(() -> {
+			ChronoDBTransaction writeTx = db.tx("MyBranch");
+			writeTx.put("a", 2);
+			writeTx.commit();
+		});
+		committer.start();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertTrue(commitStarted.await(30, TimeUnit.SECONDS));
+			// the read on "a" is re-routed to the master branch
+			Future<Object> valueA = executor.submit(() -> readTx.get("a"));
+			Future<Object> valueB = executor.submit(() -> readTx.get("b"));
+			assertEquals(1, valueA.get(10, TimeUnit.SECONDS));
+			assertEquals(1, valueB.get(10, TimeUnit.SECONDS));
+		} finally {
+			commitMayProceed.countDown();
+			executor.shutdownNow();
+			committer.join();
+		}
+		assertEquals(1, (int) readTx.get("a"));
+		assertEquals(2, (int) db.tx("MyBranch").get("a"));
+		assertEquals(1, (int) db.tx().get("a"));
+	}
+
+	private void runReadDuringCommitTest() throws Exception {
+		Set<String> supportedBackends = Sets.newHashSet(ChronosBackend.INMEMORY.toString(),
+				ChronosBackend.TUPL.toString(), ChronosBackend.JDBC.toString());
+		Assume.assumeTrue(supportedBackends.contains(this.getChronoBackendName()));
+		ChronoDB db = this.getChronoDB();
+		ChronoDBTransaction tx = db.tx();
+		tx.put("a", 1);
+		tx.commit();
+		ChronoDBTransaction readTx = db.tx();
+		// block the commit after it has written to the matrix, while it holds the branch lock
+		CountDownLatch commitStarted = new CountDownLatch(1);
+		CountDownLatch commitMayProceed = new CountDownLatch(1);
+		TemporalKeyValueStore tkvs = this.getMasterTkvs();
+		tkvs.setDebugCallbackBeforeCacheUpdate(committingTx -> {
+			commitStarted.countDown();
+			awaitUninterruptibly(commitMayProceed);
+		});
+		Thread committer = new Thread(() -> {
+			ChronoDBTransaction writeTx = db.tx();
+			writeTx.put("a", 2);
+			writeTx.put("b", 2);
+			writeTx.commit();
+		});
+		committer.start();
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			assertTrue(commitStarted.await(30, TimeUnit.SECONDS));
+			Future<Object> valueA = executor.submit(() -> readTx.get("a"));
+			Future<Object> valueB = executor.submit(() -> readTx.get("b"));
+			// if the reads had to acquire the lock, they would not complete before the commit
+			assertEquals(1, valueA.get(10, TimeUnit.SECONDS));
+			assertNull(valueB.get(10, TimeUnit.SECONDS));
+		} finally {
+			commitMayProceed.countDown();
+			executor.shutdownNow();
+			committer.join();
+		}
+		tkvs.setDebugCallbackBeforeCacheUpdate(null);
+		// the results of the reads during the commit must not leak into the head revision
+		assertEquals(2, (int) db.tx().get("a"));
+		assertEquals(2, (int) db.tx().get("b"));
+		assertEquals(1, (int) readTx.get("a"));
+		assertNull(readTx.get("b"));
+	}
+
+	private static void awaitUninterruptibly(final CountDownLatch latch) {
+		try {
+			latch.await(60, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+package org.chronos.chronodb.test.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.chronos.chronodb.internal.api.TemporalDataMatrix;
+import org.chronos.chronodb.internal.impl.engines.base.KeyPresenceFilter;
+import org.chronos.chronodb.internal.impl.engines.inmemory.TemporalInMemoryMatrix;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.autolock.AutoLock;
+import org.chronos.common.autolock.ReadWriteAutoLockable;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(UnitTest.class)
+public class KeyPresenceFilterTest extends ChronoDBUnitTest {
+
+	private static final int WRITERS = 4;
+	private static final int KEYS_PER_WRITER = 3000;
+
+	@Test
+	public void filterIsBuiltInTheBackground() throws Exception {
+		TemporalDataMatrix matrix = new TemporalInMemoryMatrix("default", 0);
+		matrix.put(1, Collections.singletonMap("existing", new byte[] { 1 }));
+		KeyPresenceFilter filter = new KeyPresenceFilter(new TestLockable(), ForkJoinPool.commonPool());
+		assertTrue(filter.mightContain(matrix, "existing"));
+		matrix.put(2, Collections.singletonMap("added", new byte[] { 1 }));
+		filter.addKeys("default", Collections.singleton("added"));
+		assertTrue(filter.mightContain(matrix, "added"));
+		// the filter is built in the background; eventually, it rules out keys which were never written
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+		while (filter.mightContain(matrix, "neverWritten") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertFalse(filter.mightContain(matrix, "neverWritten"));
+		assertTrue(filter.mightContain(matrix, "existing"));
+		assertTrue(filter.mightContain(matrix, "added"));
+	}
+
+	@Test
+	public void filterContainsKeysWhoseLatestVersionIsADeletion() throws Exception {
+		TemporalDataMatrix matrix = new TemporalInMemoryMatrix("default", 0);
+		matrix.put(1, Collections.singletonMap("deleted", new byte[] { 1 }));
+		matrix.put(2, Collections.singletonMap("deleted", new byte[0]));
+		matrix.put(3, Collections.singletonMap("existing", new byte[] { 1 }));
+		assertEquals(Sets.newHashSet("deleted", "existing"), matrix.getAllKeys());
+		KeyPresenceFilter filter = new KeyPresenceFilter(new TestLockable(), ForkJoinPool.commonPool());
+		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+		while (filter.mightContain(matrix, "neverWritten") && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertFalse(filter.mightContain(matrix, "neverWritten"));
+		// the deletion has to be visible to reads in the branch, so the key must not be skipped
+		assertTrue(filter.mightContain(matrix, "deleted"));
+		assertTrue(filter.mightContain(matrix, "existing"));
+	}
+
+	@Test
+	public void concurrentReadsAndWritesNeverProduceFalseNegatives() throws Exception {
+		TemporalDataMatrix matrix = new TemporalInMemoryMatrix("default", 0);
+		KeyPresenceFilter filter = new KeyPresenceFilter(new TestLockable(), ForkJoinPool.commonPool());
+		// the filter is built while the writers are running, and rebuilt several times as it saturates
+		Queue<String> writtenKeys = new ConcurrentLinkedQueue<>();
+		AtomicLong timestamps = new AtomicLong(1);
+		AtomicBoolean writing = new AtomicBoolean(true);
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 2);
+		try {
+			List<Future<?>> writers = Lists.newArrayList();
+			for (int w = 0; w < WRITERS; w++) {
+				String prefix = "w" + w + "_";
+				writers.add(executor.submit(() -> {
+					for (int i = 0; i < KEYS_PER_WRITER; i++) {
+						String key = prefix + i;
+						// just like a commit, we first write the matrix and then register the key
+						matrix.put(timestamps.incrementAndGet(), Collections.singletonMap(key, new byte[] { 1 }));
+						filter.addKeys("default", Collections.singleton(key));
+						writtenKeys.add(key);
+					}
+				}));
+			}
+			List<Future<?>> readers = Lists.newArrayList();
+			for (int r = 0; r < 2; r++) {
+				readers.add(executor.submit(() -> {
+					while (writing.get()) {
+						for (String key : writtenKeys) {
+							assertTrue("False negative for key '" + key + "'!", filter.mightContain(matrix, key));
+						}
+					}
+				}));
+			}
+			for (Future<?> writer : writers) {
+				writer.get(1, TimeUnit.MINUTES);
+			}
+			writing.set(false);
+			for (Future<?> reader : readers) {
+				reader.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertEquals(WRITERS * KEYS_PER_WRITER, writtenKeys.size());
+		for (String key : writtenKeys) {
+			assertTrue("False negative for key '" + key + "'!", filter.mightContain(matrix, key));
+		}
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static class TestLockable implements ReadWriteAutoLockable {
+
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+		@Override
+		public AutoLock lockExclusive() {
+			AutoLock lock = AutoLock.createBasicLockHolderFor(this.lock.writeLock());
+			lock.acquireLock();
+			return lock;
+		}
+
+		@Override
+		public AutoLock lockNonExclusive() {
+			AutoLock lock = AutoLock.createBasicLockHolderFor(this.lock.readLock());
+			lock.acquireLock();
+			return lock;
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+package org.chronos.chronodb.test.util;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.chronos.chronodb.internal.util.concurrent.SnapshotReadGate;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.autolock.AutoLock;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class SnapshotReadGateTest extends ChronoDBUnitTest {
+
+	@Test
+	public void enteringTheGateIsReentrant() {
+		SnapshotReadGate gate = new SnapshotReadGate();
+		assertFalse(gate.isEnteredByCurrentThread());
+		try (AutoLock outer = gate.tryEnter()) {
+			assertNotNull(outer);
+			try (AutoLock inner = gate.tryEnter()) {
+				assertNotNull(inner);
+			}
+			assertTrue(gate.isEnteredByCurrentThread());
+		}
+		assertFalse(gate.isEnteredByCurrentThread());
+	}
+
+	@Test
+	public void readersCannotEnterADrainedGate() {
+		SnapshotReadGate gate = new SnapshotReadGate();
+		try (AutoLock drain = gate.drain()) {
+			assertNull(gate.tryEnter());
+			assertFalse(gate.isEnteredByCurrentThread());
+		}
+		try (AutoLock lock = gate.tryEnter()) {
+			assertNotNull(lock);
+		}
+	}
+
+	@Test
+	public void drainingWaitsForActiveReaders() throws Exception {
+		SnapshotReadGate gate = new SnapshotReadGate();
+		CountDownLatch readerEntered = new CountDownLatch(1);
+		CountDownLatch readerMayLeave = new CountDownLatch(1);
+		Thread reader = new Thread(() -> {
+			try (AutoLock lock = gate.tryEnter()) {
+				readerEntered.countDown();
+				readerMayLeave.await();
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		reader.start();
+		assertTrue(readerEntered.await(10, TimeUnit.SECONDS));
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> drain = executor.submit(() -> gate.drain().close());
+			try {
+				drain.get(200, TimeUnit.MILLISECONDS);
+				fail("Managed to drain the gate while a reader is active!");
+			} catch (TimeoutException expected) {
+				// pass
+			}
+			readerMayLeave.countDown();
+			drain.get(10, TimeUnit.SECONDS);
+		} finally {
+			readerMayLeave.countDown();
+			executor.shutdownNow();
+			reader.join();
+		}
+	}
+
+	@Test
+	public void drainingFromWithinTheGateIsRejected() {
+		SnapshotReadGate gate = new SnapshotReadGate();
+		try (AutoLock lock = gate.tryEnter()) {
+			gate.drain();
+			fail("Managed to drain the gate from within a snapshot read!");
+		} catch (IllegalStateException expected) {
+			// pass
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+package org.chronos.chronodb.test.util;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.chronos.chronodb.internal.util.ThreadBound;
+import org.chronos.chronodb.test.base.ChronoDBUnitTest;
+import org.chronos.common.test.junit.categories.UnitTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@Category(UnitTest.class)
+public class ThreadBoundTest extends ChronoDBUnitTest {
+
+	@Test
+	public void valuesAreBoundToTheAssigningThread() throws Exception {
+		ThreadBound<String> threadBound = ThreadBound.create();
+		assertNull(threadBound.get());
+		assertNull(threadBound.set("main"));
+		assertEquals("main", threadBound.get());
+		AtomicReference<String> valueInOtherThread = new AtomicReference<>("not executed");
+		Thread thread = new Thread(() -> {
+			valueInOtherThread.set(threadBound.get());
+			threadBound.set("other");
+		});
+		thread.start();
+		thread.join();
+		assertNull(valueInOtherThread.get());
+		// the assignment in the other thread must not affect this thread
+		assertEquals("main", threadBound.get());
+		assertEquals("main", threadBound.set("changed"));
+		assertEquals("changed", threadBound.unset());
+		assertNull(threadBound.get());
+	}
+
+	@Test
+	public void assigningNullUnsetsTheValue() {
+		ThreadBound<String> threadBound = ThreadBound.create();
+		threadBound.set("value");
+		assertEquals("value", threadBound.set(null));
+		assertNull(threadBound.get());
+	}
+
+	@Test
+	public void clearingTheValuesForAllThreadsWorks() throws Exception {
+		ThreadBound<String> threadBound = ThreadBound.create();
+		threadBound.set("main");
+		AtomicReference<String> valueInOtherThread = new AtomicReference<>("not executed");
+		Object monitor = new Object();
+		Thread thread = new Thread(() -> {
+			threadBound.set("other");
+			synchronized (monitor) {
+				monitor.notifyAll();
+				try {
+					monitor.wait();
+				} catch (InterruptedException e) {
+					throw new RuntimeException(e);
+				}
+			}
+			valueInOtherThread.set(threadBound.get());
+		});
+		synchronized (monitor) {
+			thread.start();
+			// wait until the other thread has assigned its value
+			monitor.wait();
+			threadBound.clearValueForAllThreads();
+			monitor.notifyAll();
+		}
+		thread.join();
+		assertNull(threadBound.get());
+		assertNull(valueInOtherThread.get());
+		// new values can be assigned after clearing
+		threadBound.set("new");
+		assertEquals("new", threadBound.get());
+	}
+
+	@Test
+	public void weaklyReferencedValuesAreReturnedWhileReachable() {
+		ThreadBound<Object> threadBound = ThreadBound.createWeakReference();
+		Object value = new Object();
+		threadBound.set(value);
+		System.gc();
+		assertSame(value, threadBound.get());
+	}
+
+}
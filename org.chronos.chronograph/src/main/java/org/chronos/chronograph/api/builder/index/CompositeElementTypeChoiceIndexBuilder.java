@@ -0,0 +1,32 @@
+package org.chronos.chronograph.api.builder.index;
+
+/**
+ * A step in the fluent graph index builder API.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public interface CompositeElementTypeChoiceIndexBuilder {
+
+	/**
+	 * Creates a new composite index on the given vertex properties.
+	 *
+	 * @param propertyNames
+	 *            The names (keys) of the vertex properties to index, in index order. Must not be <code>null</code>.
+	 *            Must contain at least two distinct property names.
+	 *
+	 * @return The next step in the fluent builder, for method chaining. Never <code>null</code>.
+	 */
+	public VertexIndexBuilder onVertexProperties(String... propertyNames);
+
+	/**
+	 * Creates a new composite index on the given edge properties.
+	 *
+	 * @param propertyNames
+	 *            The names (keys) of the edge properties to index, in index order. Must not be <code>null</code>.
+	 *            Must contain at least two distinct property names.
+	 *
+	 * @return The next step in the fluent builder, for method chaining. Never <code>null</code>.
+	 */
+	public EdgeIndexBuilder onEdgeProperties(String... propertyNames);
+
+}
@@ -12,6 +12,25 @@ import org.chronos.chronograph.api.index.ChronoGraphIndex;
  */
 public interface GraphElementIndexBuilder<SELF extends GraphElementIndexBuilder<SELF>> {
 
+	/**
+	 * Restricts the new index to graph elements with the given label.
+	 *
+	 * <p>
+	 * Graph elements with other labels will not be contained in the index. The index will be consulted by queries which
+	 * ask for the given label, e.g. <code>hasLabel("person").has("name", "John")</code>.
+	 *
+	 * @param label
+	 *            The label of the graph elements to index. Must not be <code>null</code>.
+	 *
+	 * @return <code>this</code>, for method chaining. Never <code>null</code>.
+	 */
+	public SELF withLabel(String label);
+
+	/**
+	 * Creates the new index.
+	 *
+	 * @return The newly created index. Never <code>null</code>.
+	 */
 	public ChronoGraphIndex build();
 
 }
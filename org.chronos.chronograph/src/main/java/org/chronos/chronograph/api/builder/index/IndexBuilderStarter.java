@@ -44,4 +44,17 @@ public interface IndexBuilderStarter {
 	 */
 	public ElementTypeChoiceIndexBuilder doubleIndex();
 
+	/**
+	 * Creates a composite index where individual values are tuples of strings.
+	 *
+	 * <p>
+	 * A composite index on the properties <code>(tenant, status)</code> contains one entry per combination of values
+	 * of these properties. It is consulted by queries which check all of its properties for equality, e.g.
+	 * <code>has("tenant", "acme").has("status", "open")</code>, and answers them with a single index lookup instead of
+	 * intersecting the results of one index per property.
+	 *
+	 * @return The builder, for method chaining. Never <code>null</code>.
+	 */
+	public CompositeElementTypeChoiceIndexBuilder compositeIndex();
+
 }
@@ -1,5 +1,8 @@
 package org.chronos.chronograph.api.index;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -20,10 +23,65 @@ public interface ChronoGraphIndex {
 	/**
 	 * Returns the name (key) of the graph element property that is being indexed.
 	 *
+	 * <p>
+	 * For {@linkplain #isComposite() composite} indices, this is the first property of the indexed tuple.
+	 *
 	 * @return The name (key) of the indexed graph element property. Never <code>null</code>.
 	 */
 	public String getIndexedProperty();
 
+	/**
+	 * Returns the names (keys) of all graph element properties that are being indexed, in index order.
+	 *
+	 * <p>
+	 * For regular indices, this is a list containing only the {@linkplain #getIndexedProperty() indexed property}.
+	 *
+	 * @return The names (keys) of the indexed graph element properties. Never <code>null</code>, never empty.
+	 */
+	public default List<String> getIndexedProperties() {
+		return Collections.singletonList(this.getIndexedProperty());
+	}
+
+	/**
+	 * Returns the label of the graph elements this index is restricted to.
+	 *
+	 * <p>
+	 * Elements with any other label are not contained in the index, and the index is only consulted by queries which
+	 * ask for this label (e.g. <code>hasLabel("person").has("name", "John")</code>).
+	 *
+	 * @return The indexed label, or <code>null</code> if this index covers graph elements with any label.
+	 */
+	public default String getIndexedLabel() {
+		return null;
+	}
+
+	/**
+	 * Checks if this index is a composite index, i.e. if it indexes the tuple of values of several properties.
+	 *
+	 * <p>
+	 * Composite indices are consulted by queries which check all of the {@linkplain #getIndexedProperties() indexed
+	 * properties} for equality with a string value.
+	 *
+	 * @return <code>true</code> if this is a composite index, otherwise <code>false</code>.
+	 */
+	public default boolean isComposite() {
+		return this.getIndexedProperties().size() > 1;
+	}
+
+	/**
+	 * Checks if this index is scoped, i.e. if it is {@linkplain #isComposite() composite} and/or restricted to a
+	 * {@linkplain #getIndexedLabel() label}.
+	 *
+	 * <p>
+	 * Scoped indices are only consulted by queries which match their scope. All other indices can answer any query on
+	 * their {@linkplain #getIndexedProperty() property}.
+	 *
+	 * @return <code>true</code> if this index is scoped, otherwise <code>false</code>.
+	 */
+	public default boolean isScoped() {
+		return this.isComposite() || this.getIndexedLabel() != null;
+	}
+
 	/**
 	 * Returns the type of graph element that is being indexed ({@linkplain Vertex} or {@linkplain Edge}).
 	 *
@@ -100,6 +100,9 @@ public interface ChronoGraphIndexManager {
 	/**
 	 * Returns the names (keys) of the vertex properties that are currently part of a secondary index.
 	 *
+	 * <p>
+	 * Properties which are only part of {@linkplain ChronoGraphIndex#isScoped() scoped} indices are not included.
+	 *
 	 * @return The set of indexed vertex property names (keys). May be empty, but never <code>null</code>.
 	 *
 	 * @see #getIndexedVertexProperties()
@@ -108,7 +111,8 @@ public interface ChronoGraphIndexManager {
 	 */
 	public default Set<String> getIndexedVertexPropertyNames() {
 		Set<ChronoGraphIndex> indices = this.getIndexedVertexProperties();
-		return indices.stream().map(idx -> idx.getIndexedProperty()).collect(Collectors.toSet());
+		return indices.stream().filter(idx -> idx.isScoped() == false).map(idx -> idx.getIndexedProperty())
+				.collect(Collectors.toSet());
 	}
 
 	/**
@@ -127,6 +131,9 @@ public interface ChronoGraphIndexManager {
 	/**
 	 * Returns the names (keys) of the edge properties that are currently part of a secondary index.
 	 *
+	 * <p>
+	 * Properties which are only part of {@linkplain ChronoGraphIndex#isScoped() scoped} indices are not included.
+	 *
 	 * @return The set of indexed edge property names (keys). May be empty, but never <code>null</code>.
 	 *
 	 * @see #getIndexedVertexProperties()
@@ -135,7 +142,8 @@ public interface ChronoGraphIndexManager {
 	 */
 	public default Set<String> getIndexedEdgePropertyNames() {
 		Set<ChronoGraphIndex> indices = this.getIndexedEdgeProperties();
-		return indices.stream().map(idx -> idx.getIndexedProperty()).collect(Collectors.toSet());
+		return indices.stream().filter(idx -> idx.isScoped() == false).map(idx -> idx.getIndexedProperty())
+				.collect(Collectors.toSet());
 	}
 
 	/**
@@ -153,6 +161,9 @@ public interface ChronoGraphIndexManager {
 	/**
 	 * Returns the vertex index for the given property name (key).
 	 *
+	 * <p>
+	 * {@linkplain ChronoGraphIndex#isScoped() Scoped} indices are not considered by this method.
+	 *
 	 * @param indexedPropertyName
 	 *            The name (key) of the vertex property to get the secondary index for. Must not be <code>null</code>.
 	 *
@@ -161,6 +172,7 @@ public interface ChronoGraphIndexManager {
 	public default ChronoGraphIndex getVertexIndex(final String indexedPropertyName) {
 		checkNotNull(indexedPropertyName, "Precondition violation - argument 'indexedPropertyName' must not be NULL!");
 		Optional<ChronoGraphIndex> maybeIndex = this.getIndexedVertexProperties().stream()
+				.filter(index -> index.isScoped() == false)
 				.filter(index -> index.getIndexedProperty().equals(indexedPropertyName)).findAny();
 		return maybeIndex.orElse(null);
 	}
@@ -168,6 +180,9 @@ public interface ChronoGraphIndexManager {
 	/**
 	 * Returns the edge index for the given property name (key).
 	 *
+	 * <p>
+	 * {@linkplain ChronoGraphIndex#isScoped() Scoped} indices are not considered by this method.
+	 *
 	 * @param indexedPropertyName
 	 *            The name (key) of the edge property to get the secondary index for. Must not be <code>null</code>.
 	 *
@@ -176,6 +191,7 @@ public interface ChronoGraphIndexManager {
 	public default ChronoGraphIndex getEdgeIndex(final String indexedPropertyName) {
 		checkNotNull(indexedPropertyName, "Precondition violation - argument 'indexedPropertyName' must not be NULL!");
 		Optional<ChronoGraphIndex> maybeIndex = this.getIndexedEdgeProperties().stream()
+				.filter(index -> index.isScoped() == false)
 				.filter(index -> index.getIndexedProperty().equals(indexedPropertyName)).findAny();
 		return maybeIndex.orElse(null);
 	}
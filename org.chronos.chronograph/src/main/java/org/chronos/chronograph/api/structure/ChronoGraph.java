@@ -4,6 +4,7 @@ import java.io.File;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tinkerpop.gremlin.structure.Edge;
@@ -1058,6 +1059,71 @@ public interface ChronoGraph extends Graph {
 	 */
 	public Iterator<String> getChangedEdgesAtCommit(String branch, long commitTimestamp);
 
+	// =====================================================================================================================
+	// TEMPORAL EVALUATION
+	// =====================================================================================================================
+
+	/**
+	 * Evaluates the given function on the {@linkplain ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch at
+	 * every commit timestamp in the given range.
+	 *
+	 * <p>
+	 * This is equivalent to calling {@link #evaluateAtCommitsBetween(String, long, long, Function)} on the master
+	 * branch.
+	 *
+	 * @param from
+	 *            The lower bound of the time range (inclusive). Must not be negative. Must be less than or equal to
+	 *            <code>to</code>.
+	 * @param to
+	 *            The upper bound of the time range (inclusive). Must not be negative. Must be greater than or equal to
+	 *            <code>from</code>.
+	 * @param function
+	 *            The read-only function to evaluate. Must not be <code>null</code>.
+	 *
+	 * @return An iterator over pairs of commit timestamp and function result, in ascending timestamp order. May be
+	 *         empty, but never <code>null</code>.
+	 */
+	public default <R> Iterator<Pair<Long, R>> evaluateAtCommitsBetween(final long from, final long to,
+			final Function<ChronoGraph, R> function) {
+		return this.evaluateAtCommitsBetween(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, from, to, function);
+	}
+
+	/**
+	 * Evaluates the given function on the given branch at every commit timestamp in the given range.
+	 *
+	 * <p>
+	 * The result is semantically equivalent to opening a {@linkplain ChronoGraphTransactionManager#createThreadedTx(String, long)
+	 * threaded transaction} at every timestamp returned by {@link #getCommitTimestampsBetween(String, long, long, Order)}
+	 * and applying the function to it. However, the evaluation is performed incrementally: the elements read by the
+	 * function are tracked, and the previous result is returned again without evaluating the function if none of them
+	 * has changed in the meantime. Elements which are read again and which did not change are not fetched from the
+	 * backing store a second time. The function is evaluated lazily, as the returned iterator advances.
+	 *
+	 * <p>
+	 * The function must not modify the graph, and its result must not depend on anything other than the graph passed
+	 * to it. As the transaction is closed after each evaluation, the result should consist of detached values (e.g.
+	 * element IDs, property values or counts) rather than of vertices or edges. Functions which perform graph-wide
+	 * queries (e.g. iterating over all vertices or querying an index) are re-evaluated at every timestamp which modifies
+	 * any vertex or edge.
+	 *
+	 * @param branch
+	 *            The name of the branch to evaluate the function on. Must not be <code>null</code>. Must refer to an
+	 *            existing branch.
+	 * @param from
+	 *            The lower bound of the time range (inclusive). Must not be negative. Must be less than or equal to
+	 *            <code>to</code>.
+	 * @param to
+	 *            The upper bound of the time range (inclusive). Must not be negative. Must be greater than or equal to
+	 *            <code>from</code>.
+	 * @param function
+	 *            The read-only function to evaluate. Must not be <code>null</code>.
+	 *
+	 * @return An iterator over pairs of commit timestamp and function result, in ascending timestamp order. May be
+	 *         empty, but never <code>null</code>.
+	 */
+	public <R> Iterator<Pair<Long, R>> evaluateAtCommitsBetween(String branch, long from, long to,
+			Function<ChronoGraph, R> function);
+
 	// =====================================================================================================================
 	// INDEX MANAGEMENT
 	// =====================================================================================================================
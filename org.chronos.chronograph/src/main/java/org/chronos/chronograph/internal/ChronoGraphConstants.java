@@ -1,5 +1,7 @@
 package org.chronos.chronograph.internal;
 
+import org.apache.tinkerpop.gremlin.structure.T;
+
 public final class ChronoGraphConstants {
 
 	// =====================================================================================================================
@@ -8,12 +10,16 @@ public final class ChronoGraphConstants {
 
 	public static final String KEYSPACE_VERTEX = "vertex";
 	public static final String KEYSPACE_EDGE = "edge";
+	public static final String KEYSPACE_ADJACENCY = "adjacency";
 	public static final String KEYSPACE_VARIABLES = "variables";
 	public static final String KEYSPACE_MANAGEMENT_INDICES = "indices";
 
 	public static final String INDEX_PREFIX_VERTEX = "v_";
 	public static final String INDEX_PREFIX_EDGE = "e_";
 
+	public static final String INDEX_KEY_VERTEX_LABEL = INDEX_PREFIX_VERTEX + T.label.getAccessor();
+	public static final String INDEX_KEY_EDGE_LABEL = INDEX_PREFIX_EDGE + T.label.getAccessor();
+
 	// =====================================================================================================================
 	// CONSTRUCTOR
 	// =====================================================================================================================
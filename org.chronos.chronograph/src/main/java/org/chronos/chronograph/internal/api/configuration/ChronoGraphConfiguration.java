@@ -20,6 +20,8 @@ public interface ChronoGraphConfiguration extends ChronosConfiguration {
 
     public static final String TRANSACTION_CHECK_ID_EXISTENCE_ON_ADD = NS_DOT + "transaction.checkIdExistenceOnAdd";
     public static final String TRANSACTION_AUTO_OPEN = NS_DOT + "transaction.autoOpen";
+    public static final String STORAGE_ADJACENCY_PAGE_SIZE = NS_DOT + "storage.adjacencyPageSize";
+    public static final String QUERY_VERTEX_STEP_BATCH_SIZE = NS_DOT + "query.vertexStepBatchSize";
 
     // =================================================================================================================
     // GENERAL CONFIGURATION
@@ -58,5 +60,42 @@ public interface ChronoGraphConfiguration extends ChronosConfiguration {
      */
     public boolean isTransactionAutoOpenEnabled();
 
+    /**
+     * Returns the maximum number of edges per adjacency page for newly created vertices.
+     * <p>
+     * <p>
+     * By default (i.e. if this value is zero), a vertex stores all of its adjacent edges in its own record. Adding a
+     * single edge to a vertex with a high degree therefore rewrites the entire adjacency of that vertex, and loading
+     * the vertex loads all of its edges.
+     * <p>
+     * <p>
+     * If this value is positive, new vertices store their adjacency in separately versioned pages instead, one list
+     * of pages per direction and edge label. Adding an edge only writes the last page of the affected list, and the
+     * pages of a list are only loaded when edges with the corresponding direction and label are requested. Note that
+     * in this layout, adding or removing edges does not create a new version of the vertex record itself, so these
+     * changes do not appear in the history of the vertex (only in the history of the edges).
+     * <p>
+     * <p>
+     * The storage layout of a vertex is fixed when the vertex is created; changing this setting only affects vertices
+     * created afterwards.
+     *
+     * @return The maximum number of edges per adjacency page, or zero if adjacency paging is disabled. Never negative.
+     */
+    public int getAdjacencyPageSize();
+
+    /**
+     * Returns the maximum number of traversers which are processed together by a Gremlin vertex step.
+     * <p>
+     * <p>
+     * Steps like <code>out()</code>, <code>in()</code> or <code>inV()</code> collect up to this number of incoming
+     * traversers and load all of the adjacent vertices from the store in a single batch, instead of loading them one
+     * by one. Likewise, <code>has(...)</code> steps in the middle of a traversal filter their incoming vertices in
+     * batches of this size, which allows them to consult the secondary index instead of loading every vertex.
+     * Traversals which modify the graph are never batched. A value of one or less disables batching.
+     *
+     * @return The batch size for vertex steps. Never negative.
+     */
+    public int getVertexStepBatchSize();
+
 
 }
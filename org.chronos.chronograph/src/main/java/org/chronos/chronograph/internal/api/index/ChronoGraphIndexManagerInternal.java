@@ -4,6 +4,11 @@ import java.util.Iterator;
 import java.util.Set;
 import java.util.concurrent.Callable;
 
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronograph.api.index.ChronoGraphIndex;
 import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
@@ -33,6 +38,26 @@ public interface ChronoGraphIndexManagerInternal extends ChronoGraphIndexManager
 	// INDEX QUERYING
 	// =====================================================================================================================
 
+	/**
+	 * Determines which of the given search specifications can be answered by an index search.
+	 *
+	 * <p>
+	 * This includes all specifications on properties which have a regular index, all specifications on the
+	 * {@linkplain T#label label} (which is always indexed), and all specifications which are covered by a matching
+	 * {@linkplain ChronoGraphIndex#isScoped() scoped} index.
+	 *
+	 * @param clazz
+	 *            The graph element class to search for (either <code>{@link Vertex}.class</code> or
+	 *            <code>{@link Edge}.class</code>). Must not be <code>null</code>.
+	 * @param searchSpecifications
+	 *            The search specifications to check. Must not be <code>null</code>.
+	 *
+	 * @return The subset of the given search specifications which can be answered by an index search. May be empty, but
+	 *         never <code>null</code>.
+	 */
+	public Set<SearchSpecification<?>> getIndexedSearchSpecifications(Class<? extends Element> clazz,
+			Set<SearchSpecification<?>> searchSpecifications);
+
 	/**
 	 * Performs an index search for the vertices that meet <b>all</b> of the given search specifications.
 	 *
@@ -55,6 +80,106 @@ public interface ChronoGraphIndexManagerInternal extends ChronoGraphIndexManager
 	 */
 	public Iterator<String> findEdgeIdsByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications);
 
+	/**
+	 * Returns the IDs of all vertices which have a value for the given indexed property, ordered by that value.
+	 *
+	 * <p>
+	 * The order is delivered by the secondary index, i.e. the vertices themselves are not loaded. The index entries are
+	 * fetched lazily in batches, starting with <code>batchSize</code> entries, so a caller which only consumes the first
+	 * few IDs does not pay for the remaining ones. Vertices with multiple values for the property are reported only
+	 * once, at the position of their first value in the requested order. The transient state of the current
+	 * transaction is not taken into account.
+	 *
+	 * @param propertyName
+	 *            The name of the vertex property to order by. Must not be <code>null</code>. Must have a regular (i.e.
+	 *            non-{@linkplain ChronoGraphIndex#isScoped() scoped}) vertex index.
+	 * @param order
+	 *            The order in which to report the IDs. Must not be <code>null</code>.
+	 * @param batchSize
+	 *            The number of index entries to fetch in the first batch. Must be greater than zero.
+	 *
+	 * @return An iterator over the ordered vertex IDs. May be empty, but never <code>null</code>.
+	 */
+	public Iterator<String> findVertexIdsOrderedByIndexedProperty(final String propertyName, final Order order,
+			final int batchSize);
+
+	/**
+	 * Returns the IDs of all vertices which have a value for the given indexed property, in no particular order.
+	 *
+	 * <p>
+	 * The transient state of the current transaction is not taken into account.
+	 *
+	 * @param propertyName
+	 *            The name of the vertex property. Must not be <code>null</code>. Must have a regular (i.e.
+	 *            non-{@linkplain ChronoGraphIndex#isScoped() scoped}) vertex index.
+	 *
+	 * @return The IDs of the vertices with a value for the property. May be empty, but never <code>null</code>.
+	 */
+	public Set<String> findVertexIdsWithIndexedProperty(final String propertyName);
+
+	/**
+	 * Returns the IDs of all edges which have a value for the given indexed property, ordered by that value.
+	 *
+	 * <p>
+	 * The order is delivered by the secondary index, i.e. the edges themselves are not loaded. The index entries are
+	 * fetched lazily in batches, starting with <code>batchSize</code> entries, so a caller which only consumes the first
+	 * few IDs does not pay for the remaining ones. Edges with multiple values for the property are reported only
+	 * once, at the position of their first value in the requested order. The transient state of the current
+	 * transaction is not taken into account.
+	 *
+	 * @param propertyName
+	 *            The name of the edge property to order by. Must not be <code>null</code>. Must have a regular (i.e.
+	 *            non-{@linkplain ChronoGraphIndex#isScoped() scoped}) edge index.
+	 * @param order
+	 *            The order in which to report the IDs. Must not be <code>null</code>.
+	 * @param batchSize
+	 *            The number of index entries to fetch in the first batch. Must be greater than zero.
+	 *
+	 * @return An iterator over the ordered edge IDs. May be empty, but never <code>null</code>.
+	 */
+	public Iterator<String> findEdgeIdsOrderedByIndexedProperty(final String propertyName, final Order order,
+			final int batchSize);
+
+	/**
+	 * Returns the IDs of all edges which have a value for the given indexed property, in no particular order.
+	 *
+	 * <p>
+	 * The transient state of the current transaction is not taken into account.
+	 *
+	 * @param propertyName
+	 *            The name of the edge property. Must not be <code>null</code>. Must have a regular (i.e.
+	 *            non-{@linkplain ChronoGraphIndex#isScoped() scoped}) edge index.
+	 *
+	 * @return The IDs of the edges with a value for the property. May be empty, but never <code>null</code>.
+	 */
+	public Set<String> findEdgeIdsWithIndexedProperty(final String propertyName);
+
+	/**
+	 * Counts the vertices that meet <b>all</b> of the given search specifications, based on the index alone.
+	 *
+	 * <p>
+	 * The transient state of the current transaction is not taken into account.
+	 *
+	 * @param searchSpecifications
+	 *            The search specifications to count the matching vertices for. Must not be <code>null</code>.
+	 *
+	 * @return The number of vertices that fulfill all given search specifications.
+	 */
+	public long countVerticesByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications);
+
+	/**
+	 * Counts the edges that meet <b>all</b> of the given search specifications, based on the index alone.
+	 *
+	 * <p>
+	 * The transient state of the current transaction is not taken into account.
+	 *
+	 * @param searchSpecifications
+	 *            The search specifications to count the matching edges for. Must not be <code>null</code>.
+	 *
+	 * @return The number of edges that fulfill all given search specifications.
+	 */
+	public long countEdgesByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications);
+
 	// =====================================================================================================================
 	// UTILITY
 	// =====================================================================================================================
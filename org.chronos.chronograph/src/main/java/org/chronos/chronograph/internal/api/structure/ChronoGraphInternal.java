@@ -14,13 +14,19 @@ public interface ChronoGraphInternal extends ChronoGraph {
 	public ChronoDB getBackingDB();
 
 	/**
-	 * Acquires the commit lock.
+	 * Acquires the commit lock of the given branch.
+	 *
+	 * <p>
+	 * Commits on different branches do not interfere with each other, so each branch has its own lock.
 	 *
 	 * <p>
 	 * Use this in conjunction with <code>try-with-resources</code> statements for easy locking.
 	 *
+	 * @param branchName
+	 *            The name of the branch to lock. Must not be <code>null</code>.
+	 *
 	 * @return The auto-closable commit lock. Never <code>null</code>.
 	 */
-	public AutoLock commitLock();
+	public AutoLock commitLock(String branchName);
 
 }
@@ -2,14 +2,19 @@ package org.chronos.chronograph.internal.api.transaction;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.transaction.GraphReadSet;
 
 public interface ChronoGraphTransactionInternal extends ChronoGraphTransaction {
 
@@ -17,6 +22,163 @@ public interface ChronoGraphTransactionInternal extends ChronoGraphTransaction {
 
 	public Iterator<Edge> getEdgesBySearchSpecifications(Collection<SearchSpecification<?>> searchSpecifications);
 
+	/**
+	 * Returns the vertices which match all of the given search specifications, ordered by the value of the given
+	 * property.
+	 *
+	 * <p>
+	 * The order is delivered by the secondary index on the property, and the vertices are resolved one by one while
+	 * iterating. This allows to fetch the first few vertices in a given order without loading all of them. Computing
+	 * the order fetches the index entries of the property in batches, starting with the given limit. Checking that
+	 * every candidate has a value for the property requires the IDs of all elements with a value though, so the index
+	 * is only used if the candidates for the result clearly outnumber the given limit. Furthermore, the index is not
+	 * used if any vertex which matches the search specifications has no value for the property, because Gremlin refuses
+	 * to order it.
+	 *
+	 * @param searchSpecifications
+	 *            The search specifications to match. Must not be <code>null</code>, may be empty.
+	 * @param propertyKey
+	 *            The key of the property to order by. Must not be <code>null</code>.
+	 * @param order
+	 *            The order in which to return the vertices. Must not be <code>null</code>.
+	 * @param limit
+	 *            The number of vertices the caller is going to consume at most. Must not be negative.
+	 *
+	 * @return The iterator over the ordered vertices, or <code>null</code> if the index should not be used to deliver
+	 *         the order (see above; also if the property has no regular index, or this transaction has transient
+	 *         modifications).
+	 */
+	public Iterator<Vertex> getVerticesOrderedByIndexedProperty(Collection<SearchSpecification<?>> searchSpecifications,
+			String propertyKey, Order order, long limit);
+
+	/**
+	 * Returns the edges which match all of the given search specifications, ordered by the value of the given
+	 * property.
+	 *
+	 * <p>
+	 * The order is delivered by the secondary index on the property, and the edges are resolved one by one while
+	 * iterating. This allows to fetch the first few edges in a given order without loading all of them. Computing
+	 * the order fetches the index entries of the property in batches, starting with the given limit. Checking that
+	 * every candidate has a value for the property requires the IDs of all elements with a value though, so the index
+	 * is only used if the candidates for the result clearly outnumber the given limit. Furthermore, the index is not
+	 * used if any edge which matches the search specifications has no value for the property, because Gremlin refuses
+	 * to order it.
+	 *
+	 * @param searchSpecifications
+	 *            The search specifications to match. Must not be <code>null</code>, may be empty.
+	 * @param propertyKey
+	 *            The key of the property to order by. Must not be <code>null</code>.
+	 * @param order
+	 *            The order in which to return the edges. Must not be <code>null</code>.
+	 * @param limit
+	 *            The number of edges the caller is going to consume at most. Must not be negative.
+	 *
+	 * @return The iterator over the ordered edges, or <code>null</code> if the index should not be used to deliver
+	 *         the order (see above; also if the property has no regular index, or this transaction has transient
+	 *         modifications).
+	 */
+	public Iterator<Edge> getEdgesOrderedByIndexedProperty(Collection<SearchSpecification<?>> searchSpecifications,
+			String propertyKey, Order order, long limit);
+
+	/**
+	 * Counts the vertices which match all of the given search specifications.
+	 *
+	 * <p>
+	 * If the transaction has no transient modifications and all properties are indexed, the count is calculated by
+	 * the index alone, without loading any vertices.
+	 *
+	 * @param searchSpecifications
+	 *            The search specifications to match. Must not be <code>null</code>. If empty, all vertices are counted.
+	 *
+	 * @return The number of matching vertices.
+	 */
+	public long countVerticesBySearchSpecifications(Collection<SearchSpecification<?>> searchSpecifications);
+
+	/**
+	 * Counts the edges which match all of the given search specifications.
+	 *
+	 * <p>
+	 * If the transaction has no transient modifications and all properties are indexed, the count is calculated by
+	 * the index alone, without loading any edges.
+	 *
+	 * @param searchSpecifications
+	 *            The search specifications to match. Must not be <code>null</code>. If empty, all edges are counted.
+	 *
+	 * @return The number of matching edges.
+	 */
+	public long countEdgesBySearchSpecifications(Collection<SearchSpecification<?>> searchSpecifications);
+
+	/**
+	 * Loads the vertices with the given IDs from the backing store in a single batch.
+	 *
+	 * <p>
+	 * Vertices which have already been loaded (or modified) in this transaction are skipped. This method is purely
+	 * an optimization; subsequent calls to {@link #vertices(Object...)} will make use of the prefetched vertices.
+	 *
+	 * @param vertexIds
+	 *            The IDs of the vertices to load. Must not be <code>null</code>, may be empty.
+	 */
+	public void prefetchVertices(Collection<String> vertexIds);
+
+	/**
+	 * Reads the persistent record of the vertex with the given ID.
+	 *
+	 * <p>
+	 * Transient modifications of this transaction are <b>not</b> taken into account.
+	 *
+	 * @param vertexId
+	 *            The ID of the vertex to read. Must not be <code>null</code>.
+	 *
+	 * @return The vertex record, or <code>null</code> if there is no vertex with the given ID.
+	 */
+	public VertexRecord loadVertexRecord(String vertexId);
+
+	/**
+	 * Reads the persistent record of the edge with the given ID.
+	 *
+	 * <p>
+	 * Transient modifications of this transaction are <b>not</b> taken into account.
+	 *
+	 * @param edgeId
+	 *            The ID of the edge to read. Must not be <code>null</code>.
+	 *
+	 * @return The edge record, or <code>null</code> if there is no edge with the given ID.
+	 */
+	public EdgeRecord loadEdgeRecord(String edgeId);
+
+	/**
+	 * Provides records which are known to be valid at the timestamp of this transaction.
+	 *
+	 * <p>
+	 * Whenever this transaction needs to read the record of one of the given elements, the given record is used instead
+	 * of fetching it from the backing store. The maps are used directly (without copying) and must therefore not be
+	 * modified as long as this transaction is in use.
+	 *
+	 * @param vertexRecords
+	 *            The mapping from vertex ID to vertex record. A <code>null</code> value indicates that the vertex does
+	 *            not exist. Must not be <code>null</code>, may be empty.
+	 * @param edgeRecords
+	 *            The mapping from edge ID to edge record. A <code>null</code> value indicates that the edge does not
+	 *            exist. Must not be <code>null</code>, may be empty.
+	 */
+	public void preloadRecords(Map<String, VertexRecord> vertexRecords, Map<String, EdgeRecord> edgeRecords);
+
+	/**
+	 * Starts to keep track of all persistent elements which are read by this transaction from now on.
+	 *
+	 * @return The read set which will be filled by this transaction. Never <code>null</code>.
+	 */
+	public GraphReadSet startReadTracking();
+
+	/**
+	 * Registers that the vertices with the given IDs have been checked against a secondary index without being
+	 * loaded, such that the {@linkplain #startReadTracking() read set} (if any) depends on them.
+	 *
+	 * @param vertexIds
+	 *            The IDs of the vertices which have been checked. Must not be <code>null</code>, may be empty.
+	 */
+	public void registerIndexedVertexReads(Collection<String> vertexIds);
+
 	public ChronoEdge loadIncomingEdgeFromEdgeTargetRecord(ChronoVertexImpl targetVertex, String label,
 			EdgeTargetRecord record);
 
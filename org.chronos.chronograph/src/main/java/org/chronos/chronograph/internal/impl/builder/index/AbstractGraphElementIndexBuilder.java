@@ -2,25 +2,50 @@ package org.chronos.chronograph.internal.impl.builder.index;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.List;
+
 import org.chronos.chronograph.api.builder.index.GraphElementIndexBuilder;
 import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
 import org.chronos.chronograph.internal.impl.index.IndexType;
 
+import com.google.common.collect.ImmutableList;
+
 public abstract class AbstractGraphElementIndexBuilder<SELF extends GraphElementIndexBuilder<SELF>>
 		implements GraphElementIndexBuilder<SELF> {
 
 	protected final ChronoGraphIndexManagerInternal manager;
-	protected final String propertyName;
+	protected final List<String> propertyNames;
 	protected final IndexType indexType;
+	protected String label;
 
 	protected AbstractGraphElementIndexBuilder(final ChronoGraphIndexManagerInternal manager,
-			final String propertyName, final IndexType indexType) {
+			final List<String> propertyNames, final IndexType indexType) {
 		checkNotNull(manager, "Precondition violation - argument 'manager' must not be NULL!");
-		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		checkNotNull(propertyNames, "Precondition violation - argument 'propertyNames' must not be NULL!");
+		checkArgument(propertyNames.isEmpty() == false,
+				"Precondition violation - argument 'propertyNames' must not be empty!");
 		checkNotNull(indexType, "Precondition violation - argument 'indexType' must not be NULL!");
 		this.manager = manager;
-		this.propertyName = propertyName;
+		this.propertyNames = ImmutableList.copyOf(propertyNames);
 		this.indexType = indexType;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public SELF withLabel(final String label) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		this.label = label;
+		return (SELF) this;
+	}
+
+	/**
+	 * Checks if the index described by this builder is {@linkplain org.chronos.chronograph.api.index.ChronoGraphIndex#isScoped()
+	 * scoped}.
+	 *
+	 * @return <code>true</code> if the index is scoped, or <code>false</code> if it is a regular index.
+	 */
+	protected boolean isScoped() {
+		return this.propertyNames.size() > 1 || this.label != null;
+	}
+
 }
@@ -2,6 +2,7 @@ package org.chronos.chronograph.internal.impl.builder.index;
 
 import static com.google.common.base.Preconditions.*;
 
+import org.chronos.chronograph.api.builder.index.CompositeElementTypeChoiceIndexBuilder;
 import org.chronos.chronograph.api.builder.index.ElementTypeChoiceIndexBuilder;
 import org.chronos.chronograph.api.builder.index.IndexBuilderStarter;
 import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
@@ -31,4 +32,9 @@ public class ChronoGraphIndexBuilder implements IndexBuilderStarter {
 		return new ElementTypeChoiceIndexBuilderImpl(this.manager, IndexType.DOUBLE);
 	}
 
+	@Override
+	public CompositeElementTypeChoiceIndexBuilder compositeIndex() {
+		return new CompositeElementTypeChoiceIndexBuilderImpl(this.manager);
+	}
+
 }
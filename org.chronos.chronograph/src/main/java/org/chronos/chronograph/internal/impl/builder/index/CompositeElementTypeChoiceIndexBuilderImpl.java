@@ -0,0 +1,47 @@
+package org.chronos.chronograph.internal.impl.builder.index;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.chronos.chronograph.api.builder.index.CompositeElementTypeChoiceIndexBuilder;
+import org.chronos.chronograph.api.builder.index.EdgeIndexBuilder;
+import org.chronos.chronograph.api.builder.index.VertexIndexBuilder;
+import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
+import org.chronos.chronograph.internal.impl.index.IndexType;
+
+import com.google.common.collect.Sets;
+
+public class CompositeElementTypeChoiceIndexBuilderImpl implements CompositeElementTypeChoiceIndexBuilder {
+
+	private final ChronoGraphIndexManagerInternal manager;
+
+	public CompositeElementTypeChoiceIndexBuilderImpl(final ChronoGraphIndexManagerInternal manager) {
+		checkNotNull(manager, "Precondition violation - argument 'manager' must not be NULL!");
+		this.manager = manager;
+	}
+
+	@Override
+	public VertexIndexBuilder onVertexProperties(final String... propertyNames) {
+		return new VertexIndexBuilderImpl(this.manager, asPropertyList(propertyNames), IndexType.STRING);
+	}
+
+	@Override
+	public EdgeIndexBuilder onEdgeProperties(final String... propertyNames) {
+		return new EdgeIndexBuilderImpl(this.manager, asPropertyList(propertyNames), IndexType.STRING);
+	}
+
+	private static List<String> asPropertyList(final String... propertyNames) {
+		checkNotNull(propertyNames, "Precondition violation - argument 'propertyNames' must not be NULL!");
+		List<String> propertyList = Arrays.asList(propertyNames);
+		checkArgument(propertyList.contains(null) == false,
+				"Precondition violation - argument 'propertyNames' must not contain NULL!");
+		checkArgument(propertyList.size() >= 2,
+				"Precondition violation - a composite index requires at least two properties!");
+		checkArgument(Sets.newHashSet(propertyList).size() == propertyList.size(),
+				"Precondition violation - argument 'propertyNames' must not contain duplicates!");
+		return propertyList;
+	}
+
+}
@@ -1,21 +1,31 @@
 package org.chronos.chronograph.internal.impl.builder.index;
 
+import java.util.List;
+
 import org.chronos.chronograph.api.builder.index.EdgeIndexBuilder;
 import org.chronos.chronograph.api.index.ChronoGraphIndex;
 import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
+import org.chronos.chronograph.internal.api.index.IChronoGraphEdgeIndex;
 import org.chronos.chronograph.internal.impl.index.ChronoGraphEdgeIndex2;
+import org.chronos.chronograph.internal.impl.index.ChronoGraphScopedEdgeIndex;
 import org.chronos.chronograph.internal.impl.index.IndexType;
 
 public class EdgeIndexBuilderImpl extends AbstractGraphElementIndexBuilder<EdgeIndexBuilder>
 		implements EdgeIndexBuilder {
 
-	protected EdgeIndexBuilderImpl(final ChronoGraphIndexManagerInternal manager, final String propertyName, final IndexType indexType) {
-		super(manager, propertyName, indexType);
+	protected EdgeIndexBuilderImpl(final ChronoGraphIndexManagerInternal manager, final List<String> propertyNames,
+			final IndexType indexType) {
+		super(manager, propertyNames, indexType);
 	}
 
 	@Override
 	public ChronoGraphIndex build() {
-		ChronoGraphEdgeIndex2 index = new ChronoGraphEdgeIndex2(this.propertyName, this.indexType);
+		IChronoGraphEdgeIndex index;
+		if (this.isScoped()) {
+			index = new ChronoGraphScopedEdgeIndex(this.propertyNames, this.label, this.indexType);
+		} else {
+			index = new ChronoGraphEdgeIndex2(this.propertyNames.get(0), this.indexType);
+		}
 		this.manager.addIndex(index);
 		return index;
 	}
@@ -2,6 +2,8 @@ package org.chronos.chronograph.internal.impl.builder.index;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Collections;
+
 import org.chronos.chronograph.api.builder.index.EdgeIndexBuilder;
 import org.chronos.chronograph.api.builder.index.ElementTypeChoiceIndexBuilder;
 import org.chronos.chronograph.api.builder.index.VertexIndexBuilder;
@@ -22,11 +24,13 @@ public class ElementTypeChoiceIndexBuilderImpl implements ElementTypeChoiceIndex
 
 	@Override
 	public VertexIndexBuilder onVertexProperty(final String propertyName) {
-		return new VertexIndexBuilderImpl(this.manager, propertyName, this.indexType);
+		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		return new VertexIndexBuilderImpl(this.manager, Collections.singletonList(propertyName), this.indexType);
 	}
 
 	@Override
 	public EdgeIndexBuilder onEdgeProperty(final String propertyName) {
-		return new EdgeIndexBuilderImpl(this.manager, propertyName, this.indexType);
+		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		return new EdgeIndexBuilderImpl(this.manager, Collections.singletonList(propertyName), this.indexType);
 	}
 }
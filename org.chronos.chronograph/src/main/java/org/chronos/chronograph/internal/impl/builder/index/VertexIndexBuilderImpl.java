@@ -1,21 +1,31 @@
 package org.chronos.chronograph.internal.impl.builder.index;
 
+import java.util.List;
+
 import org.chronos.chronograph.api.builder.index.VertexIndexBuilder;
 import org.chronos.chronograph.api.index.ChronoGraphIndex;
 import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
+import org.chronos.chronograph.internal.api.index.IChronoGraphVertexIndex;
+import org.chronos.chronograph.internal.impl.index.ChronoGraphScopedVertexIndex;
 import org.chronos.chronograph.internal.impl.index.ChronoGraphVertexIndex2;
 import org.chronos.chronograph.internal.impl.index.IndexType;
 
 public class VertexIndexBuilderImpl extends AbstractGraphElementIndexBuilder<VertexIndexBuilder>
 		implements VertexIndexBuilder {
 
-	protected VertexIndexBuilderImpl(final ChronoGraphIndexManagerInternal manager, final String propertyName, final IndexType indexType) {
-		super(manager, propertyName, indexType);
+	protected VertexIndexBuilderImpl(final ChronoGraphIndexManagerInternal manager, final List<String> propertyNames,
+			final IndexType indexType) {
+		super(manager, propertyNames, indexType);
 	}
 
 	@Override
 	public ChronoGraphIndex build() {
-		ChronoGraphVertexIndex2 index = new ChronoGraphVertexIndex2(this.propertyName, this.indexType);
+		IChronoGraphVertexIndex index;
+		if (this.isScoped()) {
+			index = new ChronoGraphScopedVertexIndex(this.propertyNames, this.label, this.indexType);
+		} else {
+			index = new ChronoGraphVertexIndex2(this.propertyNames.get(0), this.indexType);
+		}
 		this.manager.addIndex(index);
 		return index;
 	}
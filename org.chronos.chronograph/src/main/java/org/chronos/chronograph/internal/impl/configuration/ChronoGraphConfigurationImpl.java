@@ -18,6 +18,12 @@ public class ChronoGraphConfigurationImpl extends AbstractConfiguration implemen
     @Parameter(key = ChronoGraphConfiguration.TRANSACTION_AUTO_OPEN)
     private boolean txAutoOpenEnabled = true;
 
+    @Parameter(key = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE)
+    private int adjacencyPageSize = 0;
+
+    @Parameter(key = ChronoGraphConfiguration.QUERY_VERTEX_STEP_BATCH_SIZE)
+    private int vertexStepBatchSize = 64;
+
 
     // =================================================================================================================
     // GETTERS
@@ -33,4 +39,14 @@ public class ChronoGraphConfigurationImpl extends AbstractConfiguration implemen
         return this.txAutoOpenEnabled;
     }
 
+    @Override
+    public int getAdjacencyPageSize() {
+        return Math.max(0, this.adjacencyPageSize);
+    }
+
+    @Override
+    public int getVertexStepBatchSize() {
+        return Math.max(0, this.vertexStepBatchSize);
+    }
+
 }
@@ -0,0 +1,140 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.chronos.chronodb.api.indexing.Indexer;
+import org.chronos.chronograph.internal.api.index.ChronoGraphIndexInternal;
+import org.chronos.chronograph.internal.impl.structure.record.ElementRecord;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A base class for {@linkplain org.chronos.chronograph.api.index.ChronoGraphIndex#isScoped() scoped} graph indices,
+ * i.e. composite indices and indices which are restricted to a single label.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+public abstract class AbstractChronoGraphScopedIndex implements ChronoGraphIndexInternal {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	protected List<String> indexedProperties;
+	protected String indexedLabel;
+	protected IndexType indexType;
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	protected AbstractChronoGraphScopedIndex() {
+		// default constructor for serialization
+	}
+
+	public AbstractChronoGraphScopedIndex(final List<String> indexedProperties, final String indexedLabel,
+			final IndexType indexType) {
+		checkNotNull(indexedProperties, "Precondition violation - argument 'indexedProperties' must not be NULL!");
+		checkArgument(indexedProperties.isEmpty() == false,
+				"Precondition violation - argument 'indexedProperties' must not be empty!");
+		checkArgument(indexedProperties.size() > 1 || indexedLabel != null,
+				"Precondition violation - a scoped index must either be composite or restricted to a label!");
+		checkNotNull(indexType, "Precondition violation - argument 'indexType' must not be NULL!");
+		checkArgument(indexedProperties.size() == 1 || indexType == IndexType.STRING,
+				"Precondition violation - composite indices only support index type " + IndexType.STRING + "!");
+		this.indexedProperties = Lists.newArrayList(indexedProperties);
+		this.indexedLabel = indexedLabel;
+		this.indexType = indexType;
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	@Override
+	public String getIndexedProperty() {
+		return this.indexedProperties.get(0);
+	}
+
+	@Override
+	public List<String> getIndexedProperties() {
+		return Collections.unmodifiableList(this.indexedProperties);
+	}
+
+	@Override
+	public String getIndexedLabel() {
+		return this.indexedLabel;
+	}
+
+	@Override
+	public IndexType getIndexType() {
+		return this.indexType;
+	}
+
+	@Override
+	public String getBackendIndexKey() {
+		// the '~' makes sure that we never collide with the key of a regular index, as TinkerPop reserves it
+		String label = this.indexedLabel == null ? "" : this.indexedLabel;
+		return this.getBackendIndexKeyPrefix() + "~" + label + "(" + String.join(",", this.indexedProperties) + ")";
+	}
+
+	@Override
+	public Indexer<?> createIndexer() {
+		Class<? extends ElementRecord> recordClass = this.getIndexedRecordClass();
+		if (this.isComposite()) {
+			return new CompositeRecordIndexer(recordClass, this.indexedLabel, this.indexedProperties);
+		}
+		switch (this.indexType) {
+		case STRING:
+			return new ScopedRecordStringIndexer(recordClass, this.indexedLabel, this.getIndexedProperty());
+		case LONG:
+			return new ScopedRecordLongIndexer(recordClass, this.indexedLabel, this.getIndexedProperty());
+		case DOUBLE:
+			return new ScopedRecordDoubleIndexer(recordClass, this.indexedLabel, this.getIndexedProperty());
+		default:
+			throw new UnknownEnumLiteralException(this.indexType);
+		}
+	}
+
+	@Override
+	public String toString() {
+		String elementType = this.getIndexedElementClass().getSimpleName();
+		String label = this.indexedLabel == null ? "" : ", label=" + this.indexedLabel;
+		return "Index[" + elementType + ", " + this.indexedProperties + label + ", " + this.indexType + "]";
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.indexedProperties, this.indexedLabel, this.indexType);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (this.getClass() != obj.getClass()) {
+			return false;
+		}
+		AbstractChronoGraphScopedIndex other = (AbstractChronoGraphScopedIndex) obj;
+		return Objects.equals(this.indexedProperties, other.indexedProperties)
+				&& Objects.equals(this.indexedLabel, other.indexedLabel) && this.indexType == other.indexType;
+	}
+
+	// =====================================================================================================================
+	// ABSTRACT METHODS
+	// =====================================================================================================================
+
+	protected abstract String getBackendIndexKeyPrefix();
+
+	protected abstract Class<? extends ElementRecord> getIndexedRecordClass();
+
+}
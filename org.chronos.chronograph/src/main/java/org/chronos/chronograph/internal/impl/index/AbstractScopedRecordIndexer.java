@@ -0,0 +1,123 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.chronos.chronodb.api.indexing.Indexer;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.ElementRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.common.annotation.PersistentClass;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A base class for all indexers which back {@linkplain org.chronos.chronograph.api.index.ChronoGraphIndex#isScoped()
+ * scoped} graph indices.
+ *
+ * <p>
+ * Such an indexer works either on {@link VertexRecord}s or on {@link EdgeRecord}s, optionally only on those with a
+ * given label, and extracts its values from one or more properties.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ * @param <T>
+ *            The type of values produced by this indexer.
+ */
+@PersistentClass("kryo")
+public abstract class AbstractScopedRecordIndexer<T> implements Indexer<T> {
+
+	protected Class<? extends ElementRecord> recordClass;
+	protected String label;
+	protected List<String> propertyNames;
+
+	protected AbstractScopedRecordIndexer() {
+		// default constructor for serialization
+	}
+
+	protected AbstractScopedRecordIndexer(final Class<? extends ElementRecord> recordClass, final String label,
+			final List<String> propertyNames) {
+		checkNotNull(recordClass, "Precondition violation - argument 'recordClass' must not be NULL!");
+		checkArgument(VertexRecord.class.equals(recordClass) || EdgeRecord.class.equals(recordClass),
+				"Precondition violation - argument 'recordClass' must either be VertexRecord or EdgeRecord!");
+		checkNotNull(propertyNames, "Precondition violation - argument 'propertyNames' must not be NULL!");
+		checkArgument(propertyNames.isEmpty() == false,
+				"Precondition violation - argument 'propertyNames' must not be empty!");
+		this.recordClass = recordClass;
+		this.label = label;
+		this.propertyNames = Lists.newArrayList(propertyNames);
+	}
+
+	@Override
+	public boolean canIndex(final Object object) {
+		if (this.recordClass.isInstance(object) == false) {
+			return false;
+		}
+		return this.label == null || this.label.equals(getLabel(object));
+	}
+
+	/**
+	 * Returns the values of the given property in the given record, as produced by the given function.
+	 *
+	 * @param record
+	 *            The record to get the property values for. Must not be <code>null</code>.
+	 * @param propertyName
+	 *            The name of the property to get the values for. Must not be <code>null</code>.
+	 * @param valueFunction
+	 *            The function which converts the property record into index values. Must not be <code>null</code>.
+	 *
+	 * @return The index values. May be empty if the record has no such property, but never <code>null</code>.
+	 */
+	protected static <V> Set<V> getPropertyIndexValues(final Object record, final String propertyName,
+			final Function<PropertyRecord, Set<V>> valueFunction) {
+		Set<? extends PropertyRecord> properties;
+		if (record instanceof VertexRecord) {
+			properties = ((VertexRecord) record).getProperties();
+		} else {
+			properties = ((EdgeRecord) record).getProperties();
+		}
+		return properties.stream().filter(pRecord -> pRecord.getKey().equals(propertyName)).findAny()
+				.map(valueFunction).orElse(Collections.emptySet());
+	}
+
+	private static String getLabel(final Object record) {
+		if (record instanceof VertexRecord) {
+			return ((VertexRecord) record).getLabel();
+		} else {
+			return ((EdgeRecord) record).getLabel();
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = this.getClass().hashCode();
+		result = prime * result + (this.recordClass == null ? 0 : this.recordClass.hashCode());
+		result = prime * result + (this.label == null ? 0 : this.label.hashCode());
+		result = prime * result + (this.propertyNames == null ? 0 : this.propertyNames.hashCode());
+		return result;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (this.getClass() != obj.getClass()) {
+			return false;
+		}
+		AbstractScopedRecordIndexer<?> other = (AbstractScopedRecordIndexer<?>) obj;
+		return Objects.equals(this.recordClass, other.recordClass)
+				&& Objects.equals(this.label, other.label)
+				&& Objects.equals(this.propertyNames, other.propertyNames);
+	}
+
+}
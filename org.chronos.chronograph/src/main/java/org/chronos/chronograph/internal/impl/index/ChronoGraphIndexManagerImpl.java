@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -15,9 +16,11 @@ import java.util.stream.Collectors;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.Branch;
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.IndexManager;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.builder.query.FinalizableQueryBuilder;
 import org.chronos.chronodb.api.builder.query.QueryBuilder;
 import org.chronos.chronodb.api.builder.query.WhereBuilder;
@@ -30,6 +33,7 @@ import org.chronos.chronodb.internal.api.query.searchspec.DoubleSearchSpecificat
 import org.chronos.chronodb.internal.api.query.searchspec.LongSearchSpecification;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronodb.internal.api.query.searchspec.StringSearchSpecification;
+import org.chronos.chronodb.internal.impl.query.StringSearchSpecificationImpl;
 import org.chronos.chronodb.internal.impl.query.TextMatchMode;
 import org.chronos.chronograph.api.builder.index.IndexBuilderStarter;
 import org.chronos.chronograph.api.index.ChronoGraphIndex;
@@ -41,10 +45,11 @@ import org.chronos.chronograph.internal.api.index.IChronoGraphEdgeIndex;
 import org.chronos.chronograph.internal.api.index.IChronoGraphVertexIndex;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.impl.builder.index.ChronoGraphIndexBuilder;
+import org.chronos.chronograph.internal.impl.util.ChronoGraphElementUtil;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
 
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
@@ -116,6 +121,10 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 			Set<ChronoGraphIndex> dirtyGraphIndices = Sets.newHashSet();
 			for (String dirtyBackendIndexKey : dirtyBackendIndexKeys) {
 				ChronoGraphIndex graphIndex = this.getIndexForBackendPropertyKey(dirtyBackendIndexKey);
+				if (graphIndex == null) {
+					// built-in label index; it is not visible as a graph index, but reindexAll() will rebuild it
+					continue;
+				}
 				dirtyGraphIndices.add(graphIndex);
 			}
 			return Collections.unmodifiableSet(dirtyGraphIndices);
@@ -162,7 +171,10 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 	public void dropAllIndices() {
 		this.performExclusive(() -> {
 			IndexManager indexManager = this.getChronoDBIndexManager();
-			indexManager.clearAllIndices();
+			// remove the graph indices one by one; the built-in label indices must not be affected
+			for (ChronoGraphIndex index : this.getAllIndices()) {
+				indexManager.removeIndex(((ChronoGraphIndexInternal) index).getBackendIndexKey());
+			}
 			// FIXME CONSISTENCY: What happens if an exception occurs at this line (or JVM shutdown, or...)?
 			ChronoDB db = this.getDB();
 			ChronoDBTransaction tx = db.tx(this.branchName);
@@ -212,6 +224,15 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 	// INTERNAL API :: SEARCH
 	// =====================================================================================================================
 
+	@Override
+	public Set<SearchSpecification<?>> getIndexedSearchSpecifications(final Class<? extends Element> clazz,
+			final Set<SearchSpecification<?>> searchSpecifications) {
+		checkNotNull(clazz, "Precondition violation - argument 'clazz' must not be NULL!");
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		return Collections.unmodifiableSet(this.planIndexQuery(clazz, searchSpecifications).getCoveredSearchSpecs());
+	}
+
 	@Override
 	public Iterator<String> findVertexIdsByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications) {
 		checkNotNull(searchSpecifications,
@@ -228,28 +249,132 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 				searchSpecifications);
 	}
 
+	@Override
+	public Iterator<String> findVertexIdsOrderedByIndexedProperty(final String propertyName, final Order order,
+			final int batchSize) {
+		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		return this.findElementIdsOrderedByIndexedProperty(Vertex.class, ChronoGraphConstants.KEYSPACE_VERTEX,
+				propertyName, order, batchSize);
+	}
+
+	@Override
+	public Set<String> findVertexIdsWithIndexedProperty(final String propertyName) {
+		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		return this.findElementIdsWithIndexedProperty(Vertex.class, ChronoGraphConstants.KEYSPACE_VERTEX, propertyName);
+	}
+
+	@Override
+	public Iterator<String> findEdgeIdsOrderedByIndexedProperty(final String propertyName, final Order order,
+			final int batchSize) {
+		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		return this.findElementIdsOrderedByIndexedProperty(Edge.class, ChronoGraphConstants.KEYSPACE_EDGE,
+				propertyName, order, batchSize);
+	}
+
+	@Override
+	public Set<String> findEdgeIdsWithIndexedProperty(final String propertyName) {
+		checkNotNull(propertyName, "Precondition violation - argument 'propertyName' must not be NULL!");
+		return this.findElementIdsWithIndexedProperty(Edge.class, ChronoGraphConstants.KEYSPACE_EDGE, propertyName);
+	}
+
+	@Override
+	public long countVerticesByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications) {
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		return this.buildIndexQuery(Vertex.class, ChronoGraphConstants.KEYSPACE_VERTEX, searchSpecifications).count();
+	}
+
+	@Override
+	public long countEdgesByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications) {
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		return this.buildIndexQuery(Edge.class, ChronoGraphConstants.KEYSPACE_EDGE, searchSpecifications).count();
+	}
+
 	private Iterator<String> findElementsByIndexedProperties(final Class<? extends Element> clazz,
 			final String keyspace, final Set<SearchSpecification<?>> searchSpecifications) {
+		FinalizableQueryBuilder finalizableBuilder = this.buildIndexQuery(clazz, keyspace, searchSpecifications);
+		// run the query
+		Iterator<QualifiedKey> keys = finalizableBuilder.getKeys();
+		// this is the "raw" iterator over vertex IDs which we obtain from our index.
+		Iterator<String> indexQueryResultIdIterator = Iterators.transform(keys, qualifiedKey -> qualifiedKey.getKey());
+		return indexQueryResultIdIterator;
+	}
+
+	private Iterator<String> findElementIdsOrderedByIndexedProperty(final Class<? extends Element> clazz,
+			final String keyspace, final String propertyName, final Order order, final int batchSize) {
+		// every element with a value for the property matches this specification, which leaves the ordering to the index
+		SearchSpecification<?> matchAll = this.createMatchAllSearchSpecification(clazz, propertyName);
+		// assert that we have a transaction to the backend
+		this.graph.tx().readWrite();
+		ChronoDBTransaction backendTransaction = this.graph.tx().getCurrentTransaction().getBackingDBTransaction();
+		Branch branch = this.getDB().getBranchManager().getBranch(backendTransaction.getBranchName());
+		return this.getChronoDBIndexManager().queryIndexOrdered(backendTransaction.getTimestamp(), branch, keyspace,
+				matchAll, order, batchSize);
+	}
+
+	private Set<String> findElementIdsWithIndexedProperty(final Class<? extends Element> clazz, final String keyspace,
+			final String propertyName) {
+		SearchSpecification<?> matchAll = this.createMatchAllSearchSpecification(clazz, propertyName);
+		// assert that we have a transaction to the backend
+		this.graph.tx().readWrite();
+		ChronoDBTransaction backendTransaction = this.graph.tx().getCurrentTransaction().getBackingDBTransaction();
+		Branch branch = this.getDB().getBranchManager().getBranch(backendTransaction.getBranchName());
+		// unlike the ordered query, this one is answered from the query cache (if enabled)
+		return this.getChronoDBIndexManager().queryIndex(backendTransaction.getTimestamp(), branch, keyspace,
+				matchAll);
+	}
+
+	private SearchSpecification<?> createMatchAllSearchSpecification(final Class<? extends Element> clazz,
+			final String propertyName) {
+		ChronoGraphIndex index;
+		if (Vertex.class.isAssignableFrom(clazz)) {
+			index = this.getVertexIndex(propertyName);
+		} else {
+			index = this.getEdgeIndex(propertyName);
+		}
+		if (index == null) {
+			throw new IllegalArgumentException("The property '" + propertyName + "' is not indexed on "
+					+ clazz.getSimpleName().toLowerCase() + "s!");
+		}
+		String backendIndexKey = ((ChronoGraphIndexInternal) index).getBackendIndexKey();
+		switch (index.getIndexType()) {
+		case STRING:
+			return StringSearchSpecification.create(backendIndexKey, StringCondition.STARTS_WITH, TextMatchMode.STRICT,
+					"");
+		case LONG:
+			return LongSearchSpecification.create(backendIndexKey, NumberCondition.GREATER_EQUAL, Long.MIN_VALUE);
+		case DOUBLE:
+			return DoubleSearchSpecification.create(backendIndexKey, NumberCondition.GREATER_EQUAL, -Double.MAX_VALUE,
+					0);
+		default:
+			throw new UnknownEnumLiteralException(index.getIndexType());
+		}
+	}
+
+	private FinalizableQueryBuilder buildIndexQuery(final Class<? extends Element> clazz, final String keyspace,
+			final Set<SearchSpecification<?>> searchSpecifications) {
 		checkNotNull(clazz, "Precondition violation - argument 'clazz' must not be NULL!");
 		checkNotNull(keyspace, "Precondition violation - argument 'key' must not be NULL!");
 		checkNotNull(searchSpecifications,
 				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
-		// we need to make sure that all of the given properties are indeed indexed
 		checkArgument(searchSpecifications.isEmpty() == false,
 				"Precondition violation - need at least one search specification to search for!");
-		Set<String> properties = searchSpecifications.stream().map(spec -> spec.getProperty())
-				.collect(Collectors.toSet());
-		this.assertAllPropertiesAreIndexed(clazz, properties);
-		// build a map from 'backend property key' to 'search specifications'
-		SetMultimap<String, SearchSpecification<?>> backendPropertyKeyToSearchSpecs = HashMultimap.create();
-		Set<ChronoGraphIndex> graphIndices = this.getIndexedPropertiesOf(clazz);
-		for (SearchSpecification<?> searchSpec : searchSpecifications) {
-			String propertyName = searchSpec.getProperty();
-			ChronoGraphIndex index = graphIndices.stream().filter(idx -> idx.getIndexedProperty().equals(propertyName))
-					.findAny().get();
-			String backendPropertyKey = ((ChronoGraphIndexInternal) index).getBackendIndexKey();
-			backendPropertyKeyToSearchSpecs.put(backendPropertyKey, searchSpec);
+		// assign the search specifications to the indices which answer them
+		IndexQueryPlan plan = this.planIndexQuery(clazz, searchSpecifications);
+		// we need to make sure that all of the given search specifications are indeed indexed
+		if (plan.getCoveredSearchSpecs().size() < searchSpecifications.size()) {
+			Set<String> unindexedProperties = Sets.difference(searchSpecifications, plan.getCoveredSearchSpecs())
+					.stream().map(SearchSpecification::getProperty).collect(Collectors.toSet());
+			throw new IllegalArgumentException("Some of the given properties are not indexed on "
+					+ clazz.getSimpleName().toLowerCase() + "s: " + unindexedProperties);
 		}
+		SetMultimap<String, SearchSpecification<?>> backendPropertyKeyToSearchSpecs = plan
+				.getBackendIndexKeyToSearchSpecs();
 		// assert that we have a transaction to the backend
 		this.graph.tx().readWrite();
 		// get the transaction
@@ -280,11 +405,139 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 				finalizableBuilder = innerTempBuilder;
 			}
 		}
-		// run the query
-		Iterator<QualifiedKey> keys = finalizableBuilder.getKeys();
-		// this is the "raw" iterator over vertex IDs which we obtain from our index.
-		Iterator<String> indexQueryResultIdIterator = Iterators.transform(keys, qualifiedKey -> qualifiedKey.getKey());
-		return indexQueryResultIdIterator;
+		return finalizableBuilder;
+	}
+
+	// =====================================================================================================================
+	// INTERNAL API :: QUERY PLANNING
+	// =====================================================================================================================
+
+	/**
+	 * Decides which index answers which of the given search specifications.
+	 *
+	 * <p>
+	 * {@linkplain ChronoGraphIndex#isScoped() Scoped} indices are considered first, because they are more selective
+	 * than regular indices: a composite index answers all of its equality conditions in a single lookup, and a
+	 * label-scoped index only contains the elements with the requested label. As long as there is a scoped index which
+	 * covers some of the remaining search specifications, the one covering the most of them is chosen. All remaining
+	 * search specifications are assigned to the regular index on their property, or to the built-in label index.
+	 *
+	 * @param clazz
+	 *            The graph element class to search for. Must not be <code>null</code>.
+	 * @param searchSpecifications
+	 *            The search specifications to plan the query for. Must not be <code>null</code>.
+	 *
+	 * @return The query plan. Never <code>null</code>. Search specifications without a matching index are not part of
+	 *         the {@linkplain IndexQueryPlan#getCoveredSearchSpecs() covered search specifications}.
+	 */
+	private IndexQueryPlan planIndexQuery(final Class<? extends Element> clazz,
+			final Set<SearchSpecification<?>> searchSpecifications) {
+		IndexQueryPlan plan = new IndexQueryPlan();
+		Set<ChronoGraphIndex> graphIndices = this.getIndexedPropertiesOf(clazz);
+		Set<SearchSpecification<?>> remainingSearchSpecs = Sets.newHashSet(searchSpecifications);
+		List<ChronoGraphIndexInternal> scopedIndices = graphIndices.stream().filter(ChronoGraphIndex::isScoped)
+				.map(index -> (ChronoGraphIndexInternal) index).collect(Collectors.toList());
+		while (scopedIndices.isEmpty() == false && remainingSearchSpecs.isEmpty() == false) {
+			ChronoGraphIndexInternal bestIndex = null;
+			Set<SearchSpecification<?>> bestCoverage = Collections.emptySet();
+			for (ChronoGraphIndexInternal index : scopedIndices) {
+				Set<SearchSpecification<?>> coverage = getCoveredSearchSpecs(index, searchSpecifications,
+						remainingSearchSpecs);
+				if (coverage.size() > bestCoverage.size()) {
+					bestIndex = index;
+					bestCoverage = coverage;
+				}
+			}
+			if (bestIndex == null) {
+				// none of the scoped indices is applicable
+				break;
+			}
+			scopedIndices.remove(bestIndex);
+			remainingSearchSpecs.removeAll(bestCoverage);
+			plan.addScopedIndex(bestIndex, bestCoverage);
+		}
+		for (SearchSpecification<?> searchSpec : remainingSearchSpecs) {
+			String propertyName = searchSpec.getProperty();
+			if (ChronoGraphElementUtil.isLabelProperty(propertyName)) {
+				// labels are covered by the built-in label indices
+				plan.addSearchSpec(getLabelIndexKey(clazz), searchSpec);
+				continue;
+			}
+			Optional<ChronoGraphIndex> index = graphIndices.stream().filter(idx -> idx.isScoped() == false)
+					.filter(idx -> idx.getIndexedProperty().equals(propertyName)).findAny();
+			if (index.isPresent()) {
+				plan.addSearchSpec(((ChronoGraphIndexInternal) index.get()).getBackendIndexKey(), searchSpec);
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Determines which of the remaining search specifications are answered by the given scoped index.
+	 *
+	 * @param index
+	 *            The scoped index to check. Must not be <code>null</code>.
+	 * @param allSearchSpecs
+	 *            All search specifications of the query. Must not be <code>null</code>.
+	 * @param remainingSearchSpecs
+	 *            The search specifications which have not yet been assigned to an index. Must not be
+	 *            <code>null</code>.
+	 *
+	 * @return The covered search specifications. Empty if the index is not applicable to the query.
+	 */
+	private static Set<SearchSpecification<?>> getCoveredSearchSpecs(final ChronoGraphIndexInternal index,
+			final Set<SearchSpecification<?>> allSearchSpecs, final Set<SearchSpecification<?>> remainingSearchSpecs) {
+		SearchSpecification<?> labelSearchSpec = null;
+		if (index.getIndexedLabel() != null) {
+			// the index only contains elements with the given label; the query has to ask for exactly that label
+			labelSearchSpec = allSearchSpecs.stream()
+					.filter(spec -> ChronoGraphElementUtil.isLabelProperty(spec.getProperty()))
+					.filter(spec -> isStrictStringEquality(spec, index.getIndexedLabel())).findAny().orElse(null);
+			if (labelSearchSpec == null) {
+				return Collections.emptySet();
+			}
+		}
+		Set<SearchSpecification<?>> coverage = Sets.newHashSet();
+		if (index.isComposite()) {
+			// composite indices require an equality condition on each of their properties
+			for (String propertyName : index.getIndexedProperties()) {
+				Optional<SearchSpecification<?>> searchSpec = remainingSearchSpecs.stream()
+						.filter(spec -> spec.getProperty().equals(propertyName))
+						.filter(spec -> isStrictStringEquality(spec, null)).findAny();
+				if (searchSpec.isPresent() == false) {
+					return Collections.emptySet();
+				}
+				coverage.add(searchSpec.get());
+			}
+		} else {
+			// regular label-scoped indices answer all conditions on their property
+			remainingSearchSpecs.stream().filter(spec -> spec.getProperty().equals(index.getIndexedProperty()))
+					.forEach(coverage::add);
+			if (coverage.isEmpty()) {
+				return Collections.emptySet();
+			}
+		}
+		boolean negated = coverage.stream().anyMatch(spec -> spec.getCondition().isNegated());
+		if (labelSearchSpec != null && remainingSearchSpecs.contains(labelSearchSpec) && negated == false) {
+			// the label condition is implied by the scope of the index. Negated conditions are the exception: they
+			// also match all elements outside of the scope, so the label condition still needs to be evaluated.
+			coverage.add(labelSearchSpec);
+		}
+		return coverage;
+	}
+
+	private static boolean isStrictStringEquality(final SearchSpecification<?> searchSpec, final String value) {
+		if (searchSpec instanceof StringSearchSpecification == false) {
+			return false;
+		}
+		StringSearchSpecification stringSearchSpec = (StringSearchSpecification) searchSpec;
+		if (stringSearchSpec.getCondition().equals(StringCondition.EQUALS) == false) {
+			return false;
+		}
+		if (stringSearchSpec.getMatchMode() != TextMatchMode.STRICT) {
+			return false;
+		}
+		return value == null || value.equals(stringSearchSpec.getSearchValue());
 	}
 
 	// =====================================================================================================================
@@ -366,6 +619,16 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 		}
 	}
 
+	private static String getLabelIndexKey(final Class<? extends Element> clazz) {
+		if (Vertex.class.isAssignableFrom(clazz)) {
+			return ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL;
+		} else if (Edge.class.isAssignableFrom(clazz)) {
+			return ChronoGraphConstants.INDEX_KEY_EDGE_LABEL;
+		} else {
+			throw new IllegalArgumentException("Unknown graph element class: '" + clazz.getName() + "'!");
+		}
+	}
+
 	private ChronoGraphIndex getIndexForBackendPropertyKey(final String propertyKey) {
 		checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
 		if (propertyKey.startsWith(ChronoGraphConstants.INDEX_PREFIX_VERTEX)) {
@@ -419,34 +682,6 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 		}
 	}
 
-	private void assertAllPropertiesAreIndexed(final Class<? extends Element> clazz, final Set<String> propertyNames) {
-		checkNotNull(clazz, "Precondition violation - argument 'clazz' must not be NULL!");
-		checkNotNull(propertyNames, "Precondition violation - argument 'propertyNames' must not be NULL!");
-		if (Vertex.class.isAssignableFrom(clazz)) {
-			Set<ChronoGraphIndex> indexedVertexProperties = this.getIndexedVertexProperties();
-			Set<String> indexedVertexPropertyNames = indexedVertexProperties.stream()
-					.map(ivp -> ivp.getIndexedProperty()).collect(Collectors.toSet());
-			Set<String> unindexedProperties = Sets.newHashSet(propertyNames);
-			unindexedProperties.removeAll(indexedVertexPropertyNames);
-			if (unindexedProperties.isEmpty() == false) {
-				throw new IllegalArgumentException(
-						"Some of the given properties are not indexed on vertices: " + unindexedProperties);
-			}
-		} else if (Edge.class.isAssignableFrom(clazz)) {
-			Set<ChronoGraphIndex> indexedEdgeProperties = this.getIndexedEdgeProperties();
-			Set<String> indexedEdgePropertyNames = indexedEdgeProperties.stream().map(ivp -> ivp.getIndexedProperty())
-					.collect(Collectors.toSet());
-			Set<String> unindexedProperties = Sets.newHashSet(propertyNames);
-			unindexedProperties.removeAll(indexedEdgePropertyNames);
-			if (unindexedProperties.isEmpty() == false) {
-				throw new IllegalArgumentException(
-						"Some of the given properties are not indexed on edges: " + unindexedProperties);
-			}
-		} else {
-			throw new IllegalArgumentException("Unknown graph element class: '" + clazz.getName() + "'!");
-		}
-	}
-
 	private FinalizableQueryBuilder applyCondition(final WhereBuilder whereBuilder,
 			final SearchSpecification<?> searchSpec) {
 		if (searchSpec instanceof StringSearchSpecification) {
@@ -589,4 +824,59 @@ public class ChronoGraphIndexManagerImpl implements ChronoGraphIndexManager, Chr
 			throw new IllegalStateException("Unknown NumberCondition: '" + condition.getClass().getName() + "'!");
 		}
 	}
+
+	// =====================================================================================================================
+	// INNER CLASSES
+	// =====================================================================================================================
+
+	/**
+	 * Describes which backend index answers which search specifications of a query.
+	 */
+	private static class IndexQueryPlan {
+
+		private final SetMultimap<String, SearchSpecification<?>> backendIndexKeyToSearchSpecs = LinkedHashMultimap
+				.create();
+		private final Set<SearchSpecification<?>> coveredSearchSpecs = Sets.newHashSet();
+
+		public void addSearchSpec(final String backendIndexKey, final SearchSpecification<?> searchSpec) {
+			this.backendIndexKeyToSearchSpecs.put(backendIndexKey, searchSpec);
+			this.coveredSearchSpecs.add(searchSpec);
+		}
+
+		public void addScopedIndex(final ChronoGraphIndexInternal index,
+				final Set<SearchSpecification<?>> coveredSearchSpecs) {
+			String backendIndexKey = index.getBackendIndexKey();
+			if (index.isComposite()) {
+				// the composite index contains the encoded value tuples; look up the tuple of the requested values
+				List<String> components = Lists.newArrayList();
+				for (String propertyName : index.getIndexedProperties()) {
+					SearchSpecification<?> searchSpec = coveredSearchSpecs.stream()
+							.filter(spec -> spec.getProperty().equals(propertyName)).findAny().get();
+					components.add((String) searchSpec.getSearchValue());
+				}
+				String searchValue = GraphIndexingUtils.encodeCompositeIndexValue(components);
+				this.backendIndexKeyToSearchSpecs.put(backendIndexKey, new StringSearchSpecificationImpl(
+						backendIndexKey, StringCondition.EQUALS, searchValue, TextMatchMode.STRICT));
+			} else {
+				for (SearchSpecification<?> searchSpec : coveredSearchSpecs) {
+					if (ChronoGraphElementUtil.isLabelProperty(searchSpec.getProperty())) {
+						// implied by the scope of the index
+						continue;
+					}
+					this.backendIndexKeyToSearchSpecs.put(backendIndexKey, searchSpec);
+				}
+			}
+			this.coveredSearchSpecs.addAll(coveredSearchSpecs);
+		}
+
+		public SetMultimap<String, SearchSpecification<?>> getBackendIndexKeyToSearchSpecs() {
+			return this.backendIndexKeyToSearchSpecs;
+		}
+
+		public Set<SearchSpecification<?>> getCoveredSearchSpecs() {
+			return this.coveredSearchSpecs;
+		}
+
+	}
+
 }
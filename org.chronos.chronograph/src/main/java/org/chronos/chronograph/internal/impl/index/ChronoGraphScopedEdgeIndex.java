@@ -0,0 +1,46 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.index.IChronoGraphEdgeIndex;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.ElementRecord;
+
+public class ChronoGraphScopedEdgeIndex extends AbstractChronoGraphScopedIndex implements IChronoGraphEdgeIndex {
+
+	protected ChronoGraphScopedEdgeIndex() {
+		// default constructor for serialization
+	}
+
+	public ChronoGraphScopedEdgeIndex(final List<String> indexedProperties, final String indexedLabel,
+			final IndexType indexType) {
+		super(indexedProperties, indexedLabel, indexType);
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public Class<? extends Element> getIndexedElementClass() {
+		return Edge.class;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	@Override
+	protected String getBackendIndexKeyPrefix() {
+		return ChronoGraphConstants.INDEX_PREFIX_EDGE;
+	}
+
+	@Override
+	protected Class<? extends ElementRecord> getIndexedRecordClass() {
+		return EdgeRecord.class;
+	}
+
+}
@@ -0,0 +1,46 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.index.IChronoGraphVertexIndex;
+import org.chronos.chronograph.internal.impl.structure.record.ElementRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+
+public class ChronoGraphScopedVertexIndex extends AbstractChronoGraphScopedIndex implements IChronoGraphVertexIndex {
+
+	protected ChronoGraphScopedVertexIndex() {
+		// default constructor for serialization
+	}
+
+	public ChronoGraphScopedVertexIndex(final List<String> indexedProperties, final String indexedLabel,
+			final IndexType indexType) {
+		super(indexedProperties, indexedLabel, indexType);
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public Class<? extends Element> getIndexedElementClass() {
+		return Vertex.class;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	@Override
+	protected String getBackendIndexKeyPrefix() {
+		return ChronoGraphConstants.INDEX_PREFIX_VERTEX;
+	}
+
+	@Override
+	protected Class<? extends ElementRecord> getIndexedRecordClass() {
+		return VertexRecord.class;
+	}
+
+}
@@ -0,0 +1,43 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import java.util.List;
+import java.util.Set;
+
+import org.chronos.chronodb.api.indexing.StringIndexer;
+import org.chronos.chronograph.internal.impl.structure.record.ElementRecord;
+import org.chronos.common.annotation.PersistentClass;
+
+import com.google.common.collect.Lists;
+
+/**
+ * An indexer for the tuple of values of several properties of vertex or edge records.
+ *
+ * <p>
+ * The values of the individual properties are converted to strings and combined via
+ * {@link GraphIndexingUtils#encodeCompositeIndexValue(List)}. Records which lack any of the properties are not indexed.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+@PersistentClass("kryo")
+public class CompositeRecordIndexer extends AbstractScopedRecordIndexer<String> implements StringIndexer {
+
+	protected CompositeRecordIndexer() {
+		// default constructor for serialization
+	}
+
+	public CompositeRecordIndexer(final Class<? extends ElementRecord> recordClass, final String label,
+			final List<String> propertyNames) {
+		super(recordClass, label, propertyNames);
+	}
+
+	@Override
+	public Set<String> getIndexValues(final Object object) {
+		List<Set<String>> componentValues = Lists.newArrayListWithCapacity(this.propertyNames.size());
+		for (String propertyName : this.propertyNames) {
+			Set<String> values = getPropertyIndexValues(object, propertyName, GraphIndexingUtils::getStringIndexValues);
+			componentValues.add(values);
+		}
+		return GraphIndexingUtils.getCompositeIndexValues(componentValues);
+	}
+
+}
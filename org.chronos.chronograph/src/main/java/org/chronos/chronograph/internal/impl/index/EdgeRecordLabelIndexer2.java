@@ -0,0 +1,47 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.chronos.chronodb.api.indexing.StringIndexer;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.common.annotation.PersistentClass;
+
+/**
+ * An indexer for the labels of {@link EdgeRecord}s.
+ *
+ * <p>
+ * This indexer is registered automatically by the graph and backs <code>hasLabel(...)</code> queries on edges.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+@PersistentClass("kryo")
+public class EdgeRecordLabelIndexer2 implements StringIndexer {
+
+	public EdgeRecordLabelIndexer2() {
+		// default constructor for serialization
+	}
+
+	@Override
+	public boolean canIndex(final Object object) {
+		return object instanceof EdgeRecord;
+	}
+
+	@Override
+	public Set<String> getIndexValues(final Object object) {
+		EdgeRecord edgeRecord = (EdgeRecord) object;
+		return Collections.singleton(edgeRecord.getLabel());
+	}
+
+	@Override
+	public int hashCode() {
+		return this.getClass().hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		// the indexer has no state, so all instances are interchangeable
+		return obj != null && obj.getClass() == this.getClass();
+	}
+
+}
@@ -3,7 +3,9 @@ package org.chronos.chronograph.internal.impl.index;
 import static com.google.common.base.Preconditions.*;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
 import org.chronos.common.util.ReflectionUtils;
@@ -12,6 +14,11 @@ import com.google.common.collect.Sets;
 
 public class GraphIndexingUtils {
 
+	/** The character which separates the components of a composite index value. */
+	private static final char COMPOSITE_VALUE_SEPARATOR = '|';
+	/** The character which escapes occurrences of the separator (and itself) within a component. */
+	private static final char COMPOSITE_VALUE_ESCAPE = '\\';
+
 	public static Set<String> getStringIndexValues(final PropertyRecord record) {
 		checkNotNull(record, "Precondition violation - argument 'record' must not be NULL!");
 		Object value = record.getValue();
@@ -115,4 +122,60 @@ public class GraphIndexingUtils {
 		}
 	}
 
+	/**
+	 * Produces the values of a composite index for the given component values.
+	 *
+	 * <p>
+	 * Each component may have several values (multiplicity-many properties), in which case one composite value is
+	 * produced for every combination. If any component has no values, no composite value is produced.
+	 *
+	 * @param componentValues
+	 *            The values of each component, in index order. Must not be <code>null</code>.
+	 *
+	 * @return The composite index values. May be empty, but never <code>null</code>.
+	 */
+	public static Set<String> getCompositeIndexValues(final List<Set<String>> componentValues) {
+		checkNotNull(componentValues, "Precondition violation - argument 'componentValues' must not be NULL!");
+		if (componentValues.stream().anyMatch(Set::isEmpty)) {
+			// the element has no value for at least one component; it is not part of the index
+			return Collections.emptySet();
+		}
+		Set<List<String>> tuples = Sets.cartesianProduct(componentValues);
+		if (tuples.size() == 1) {
+			return Collections.singleton(encodeCompositeIndexValue(tuples.iterator().next()));
+		}
+		return Collections.unmodifiableSet(
+				tuples.stream().map(GraphIndexingUtils::encodeCompositeIndexValue).collect(Collectors.toSet()));
+	}
+
+	/**
+	 * Encodes the given tuple of component values into a single composite index value.
+	 *
+	 * <p>
+	 * The encoding is injective, i.e. two composite values are equal if and only if all of their components are equal.
+	 *
+	 * @param components
+	 *            The component values, in index order. Must not be <code>null</code>.
+	 *
+	 * @return The composite index value. Never <code>null</code>.
+	 */
+	public static String encodeCompositeIndexValue(final List<String> components) {
+		checkNotNull(components, "Precondition violation - argument 'components' must not be NULL!");
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < components.size(); i++) {
+			if (i > 0) {
+				builder.append(COMPOSITE_VALUE_SEPARATOR);
+			}
+			String component = components.get(i);
+			for (int c = 0; c < component.length(); c++) {
+				char character = component.charAt(c);
+				if (character == COMPOSITE_VALUE_SEPARATOR || character == COMPOSITE_VALUE_ESCAPE) {
+					builder.append(COMPOSITE_VALUE_ESCAPE);
+				}
+				builder.append(character);
+			}
+		}
+		return builder.toString();
+	}
+
 }
@@ -0,0 +1,32 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.chronos.chronodb.api.indexing.StringIndexer;
+import org.chronos.chronograph.internal.impl.structure.record.ElementRecord;
+import org.chronos.common.annotation.PersistentClass;
+
+/**
+ * An indexer for a single string property of the vertex or edge records with a given label.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+@PersistentClass("kryo")
+public class ScopedRecordStringIndexer extends AbstractScopedRecordIndexer<String> implements StringIndexer {
+
+	protected ScopedRecordStringIndexer() {
+		// default constructor for serialization
+	}
+
+	public ScopedRecordStringIndexer(final Class<? extends ElementRecord> recordClass, final String label,
+			final String propertyName) {
+		super(recordClass, label, Collections.singletonList(propertyName));
+	}
+
+	@Override
+	public Set<String> getIndexValues(final Object object) {
+		return getPropertyIndexValues(object, this.propertyNames.get(0), GraphIndexingUtils::getStringIndexValues);
+	}
+
+}
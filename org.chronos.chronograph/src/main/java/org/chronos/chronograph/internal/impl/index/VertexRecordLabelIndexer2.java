@@ -0,0 +1,47 @@
+package org.chronos.chronograph.internal.impl.index;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.chronos.chronodb.api.indexing.StringIndexer;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.common.annotation.PersistentClass;
+
+/**
+ * An indexer for the labels of {@link VertexRecord}s.
+ *
+ * <p>
+ * This indexer is registered automatically by the graph and backs <code>hasLabel(...)</code> queries on vertices.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ */
+@PersistentClass("kryo")
+public class VertexRecordLabelIndexer2 implements StringIndexer {
+
+	public VertexRecordLabelIndexer2() {
+		// default constructor for serialization
+	}
+
+	@Override
+	public boolean canIndex(final Object object) {
+		return object instanceof VertexRecord;
+	}
+
+	@Override
+	public Set<String> getIndexValues(final Object object) {
+		VertexRecord vertexRecord = (VertexRecord) object;
+		return Collections.singleton(vertexRecord.getLabel());
+	}
+
+	@Override
+	public int hashCode() {
+		return this.getClass().hashCode();
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		// the indexer has no state, so all instances are interchangeable
+		return obj != null && obj.getClass() == this.getClass();
+	}
+
+}
@@ -0,0 +1,97 @@
+package org.chronos.chronograph.internal.impl.optimizer.step;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronograph.internal.impl.util.ChronoTraversalUtil;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Consumes the incoming traversers of a step in batches and resolves their adjacent vertices.
+ *
+ * <p>
+ * For every batch, the IDs of all adjacent vertices are collected first, and the vertices are then loaded from the
+ * store with a single {@link ChronoGraphTransactionInternal#prefetchVertices(Collection) prefetch} call. The results
+ * are handed out in the same order as the incoming traversers, one traverser at a time.
+ *
+ * @param <S> The type of the elements carried by the incoming traversers.
+ */
+class AdjacentVertexBatch<S extends Element> {
+
+    private final int batchSize;
+
+    private final Deque<Traverser.Admin<S>> traversers = new ArrayDeque<>();
+    private final Deque<List<Vertex>> results = new ArrayDeque<>();
+
+    private Traverser.Admin<S> head = null;
+    private Iterator<Vertex> iterator = Collections.emptyIterator();
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    AdjacentVertexBatch(final int batchSize) {
+        checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+        this.batchSize = batchSize;
+    }
+
+    // =====================================================================================================================
+    // PUBLIC API
+    // =====================================================================================================================
+
+    Traverser.Admin<Vertex> next(final Step<S, Vertex> step, final Iterator<Traverser.Admin<S>> starts,
+                                 final Function<S, Iterator<Vertex>> adjacentVertices) {
+        while (true) {
+            if (this.iterator.hasNext()) {
+                return this.head.split(this.iterator.next(), step);
+            }
+            if (this.traversers.isEmpty()) {
+                // note: this throws a FastNoSuchElementException if there are no more starts, just like FlatMapStep
+                this.fill(step, starts, adjacentVertices);
+            }
+            this.head = this.traversers.poll();
+            this.iterator = this.results.poll().iterator();
+        }
+    }
+
+    void reset() {
+        this.traversers.clear();
+        this.results.clear();
+        this.head = null;
+        this.iterator = Collections.emptyIterator();
+    }
+
+    AdjacentVertexBatch<S> copy() {
+        return new AdjacentVertexBatch<>(this.batchSize);
+    }
+
+    // =====================================================================================================================
+    // HELPER METHODS
+    // =====================================================================================================================
+
+    private void fill(final Step<S, Vertex> step, final Iterator<Traverser.Admin<S>> starts,
+                      final Function<S, Iterator<Vertex>> adjacentVertices) {
+        Set<String> vertexIds = Sets.newHashSet();
+        do {
+            Traverser.Admin<S> traverser = starts.next();
+            // the adjacent vertices are lazy, resolving them does not access the store
+            List<Vertex> vertices = Lists.newArrayList(adjacentVertices.apply(traverser.get()));
+            vertices.forEach(vertex -> vertexIds.add((String) vertex.id()));
+            this.traversers.add(traverser);
+            this.results.add(vertices);
+        } while (this.traversers.size() < this.batchSize && starts.hasNext());
+        ChronoGraph graph = ChronoTraversalUtil.getChronoGraph(step.getTraversal());
+        ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
+        tx.prefetchVertices(vertexIds);
+    }
+
+}
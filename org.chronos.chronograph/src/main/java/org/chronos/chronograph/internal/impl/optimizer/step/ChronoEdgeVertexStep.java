@@ -0,0 +1,59 @@
+package org.chronos.chronograph.internal.impl.optimizer.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Iterator;
+
+/**
+ * A replacement for Gremlin's {@link EdgeVertexStep} (e.g. <code>inV()</code>, <code>outV()</code>,
+ * <code>bothV()</code>) which loads the end vertices of several incoming edges in a single batch.
+ */
+public class ChronoEdgeVertexStep extends EdgeVertexStep {
+
+    private AdjacentVertexBatch<Edge> batch;
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    public ChronoEdgeVertexStep(final EdgeVertexStep originalStep, final int batchSize) {
+        super(originalStep.getTraversal(), originalStep.getDirection());
+        // copy the labels of the original step
+        originalStep.getLabels().forEach(this::addLabel);
+        this.batch = new AdjacentVertexBatch<>(batchSize);
+    }
+
+    // =====================================================================================================================
+    // TINKERPOP API
+    // =====================================================================================================================
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        return this.batch.next(this, this.starts, this::adjacentVertices);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.batch.reset();
+    }
+
+    @Override
+    public ChronoEdgeVertexStep clone() {
+        ChronoEdgeVertexStep clone = (ChronoEdgeVertexStep) super.clone();
+        clone.batch = this.batch.copy();
+        return clone;
+    }
+
+    // =====================================================================================================================
+    // HELPER METHODS
+    // =====================================================================================================================
+
+    private Iterator<Vertex> adjacentVertices(final Edge edge) {
+        return edge.vertices(this.getDirection());
+    }
+
+}
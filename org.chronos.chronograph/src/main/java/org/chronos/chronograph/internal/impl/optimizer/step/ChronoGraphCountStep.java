@@ -0,0 +1,80 @@
+package org.chronos.chronograph.internal.impl.optimizer.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A replacement for the combination of a {@link ChronoGraphStep} and a directly following <code>count()</code> step,
+ * e.g. <code>g.V().has("name", "John").count()</code>.
+ *
+ * <p>
+ * Instead of loading all matching elements and counting them one by one, this step asks the transaction for the
+ * number of matches, which can often be answered by the secondary index alone.
+ *
+ * @param <S> The type of the incoming traversers.
+ */
+public class ChronoGraphCountStep<S> extends AbstractStep<S, Long> {
+
+    private ChronoGraphStep<?, ?> graphStep;
+
+    private boolean done = false;
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    public ChronoGraphCountStep(final ChronoGraphStep<?, ?> graphStep) {
+        super(graphStep.getTraversal());
+        checkNotNull(graphStep, "Precondition violation - argument 'graphStep' must not be NULL!");
+        checkArgument(graphStep.isStartStep(), "Precondition violation - argument 'graphStep' must be a start step!");
+        checkArgument(graphStep.isCountable(), "Precondition violation - argument 'graphStep' must be countable!");
+        this.graphStep = graphStep;
+    }
+
+    // =====================================================================================================================
+    // TINKERPOP API
+    // =====================================================================================================================
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected Traverser.Admin<Long> processNextStart() {
+        if (this.done) {
+            throw FastNoSuchElementException.instance();
+        }
+        this.done = true;
+        long count = this.graphStep.countResults();
+        return this.getTraversal().getTraverserGenerator().generate(count, (Step) this, 1L);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.done = false;
+    }
+
+    @Override
+    public void setTraversal(final Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        this.graphStep.setTraversal(parentTraversal);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoGraphCountStep<S> clone() {
+        ChronoGraphCountStep<S> clone = (ChronoGraphCountStep<S>) super.clone();
+        clone.graphStep = (ChronoGraphStep<?, ?>) this.graphStep.clone();
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.graphStep);
+    }
+
+}
@@ -2,7 +2,10 @@ package org.chronos.chronograph.internal.impl.optimizer.step;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
@@ -10,6 +13,7 @@ import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.query.Condition;
 import org.chronos.chronodb.api.query.NumberCondition;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
@@ -18,12 +22,14 @@ import org.chronos.chronodb.internal.impl.query.LongSearchSpecificationImpl;
 import org.chronos.chronodb.internal.impl.query.StringSearchSpecificationImpl;
 import org.chronos.chronodb.internal.impl.query.TextMatchMode;
 import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
 import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
 import org.chronos.chronograph.internal.impl.util.ChronoGraphQueryUtil;
 import org.chronos.chronograph.internal.impl.util.ChronoTraversalUtil;
 import org.chronos.common.util.ReflectionUtils;
 
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.google.common.base.Preconditions.*;
@@ -32,6 +38,11 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
 
     private final List<HasContainer> hasContainers = new ArrayList<>();
 
+    private long limit = -1;
+
+    private String orderPropertyKey;
+    private Order order;
+
     // =====================================================================================================================
     // CONSTRUCTOR
     // =====================================================================================================================
@@ -64,6 +75,100 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
         this.hasContainers.add(container);
     }
 
+    /**
+     * Limits the number of elements produced by this step for each incoming traverser.
+     *
+     * @param limit The maximum number of elements to produce. Use a negative value to disable the limit.
+     */
+    public void setLimit(final long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the maximum number of elements produced by this step for each incoming traverser.
+     *
+     * @return The limit, or a negative value if this step is not limited.
+     */
+    public long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Requests this step to produce its elements ordered by the value of the given property, if the secondary index on
+     * that property is able to deliver this order.
+     *
+     * <p>
+     * This is only a hint: if the index cannot deliver the order (e.g. because the property is not indexed, or because
+     * the transaction has transient modifications) or if sorting the matches directly is cheaper, the elements are
+     * produced in no particular order, and the {@linkplain #getLimit() limit} of this step is ignored. A following
+     * order step is therefore still required.
+     *
+     * @param propertyKey The key of the property to order by. Must not be <code>null</code>.
+     * @param order       The requested order. Must not be <code>null</code>.
+     */
+    public void setOrderHint(final String propertyKey, final Order order) {
+        checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+        checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+        this.orderPropertyKey = propertyKey;
+        this.order = order;
+    }
+
+    /**
+     * Returns the key of the property by which this step should order its elements.
+     *
+     * @return The property key, or <code>null</code> if there is no order hint.
+     */
+    public String getOrderPropertyKey() {
+        return this.orderPropertyKey;
+    }
+
+    /**
+     * Returns the order in which this step should produce its elements.
+     *
+     * @return The order, or <code>null</code> if there is no order hint.
+     */
+    public Order getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Checks if the number of results of this step can be computed without iterating over them.
+     *
+     * <p>
+     * This is the case if this step has no fixed element IDs and all of its "has" conditions can be expressed as search
+     * specifications.
+     *
+     * @return <code>true</code> if {@link #countResults()} can be used, otherwise <code>false</code>.
+     */
+    public boolean isCountable() {
+        if (this.ids != null && this.ids.length > 0) {
+            return false;
+        }
+        return this.getSearchSpecifications().size() == this.hasContainers.size();
+    }
+
+    /**
+     * Computes the number of elements this step would produce, preferably without loading them.
+     *
+     * <p>
+     * This method may only be called if {@link #isCountable()} returns <code>true</code>. The {@linkplain #getLimit()
+     * limit} of this step is not taken into account.
+     *
+     * @return The number of results of this step.
+     */
+    public long countResults() {
+        checkState(this.isCountable(), "Precondition violation - this step is not countable!");
+        ChronoGraph graph = ChronoTraversalUtil.getChronoGraph(this.getTraversal());
+        graph.tx().readWrite();
+        ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
+        Collection<SearchSpecification<?>> searchSpecs = this.getSearchSpecifications().values();
+        if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            return tx.countVerticesBySearchSpecifications(searchSpecs);
+        } else {
+            return tx.countEdgesBySearchSpecifications(searchSpecs);
+        }
+    }
+
     @Override
     public String toString() {
         // according to TinkerGraph reference implementation
@@ -83,11 +188,56 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
 
     @SuppressWarnings("unchecked")
     private Iterator<E> getResultIterator() {
+        Iterator<E> iterator;
+        if (this.orderPropertyKey != null) {
+            iterator = this.getOrderedResultElements();
+            if (iterator == null) {
+                // the index cannot deliver the requested order, so the limit does not apply to the unordered elements
+                if (Vertex.class.isAssignableFrom(this.returnClass)) {
+                    return (Iterator<E>) this.getResultVertices();
+                } else {
+                    return (Iterator<E>) this.getResultEdges();
+                }
+            }
+        } else if (Vertex.class.isAssignableFrom(this.returnClass)) {
+            iterator = (Iterator<E>) this.getResultVertices();
+        } else {
+            iterator = (Iterator<E>) this.getResultEdges();
+        }
+        if (this.limit >= 0) {
+            // a following range step does not need more elements than this; stop loading them early
+            iterator = Iterators.limit(iterator, (int) Math.min(this.limit, Integer.MAX_VALUE));
+        }
+        return iterator;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Iterator<E> getOrderedResultElements() {
+        if (this.ids != null && this.ids.length > 0 || this.limit < 0) {
+            // fixed element IDs are not resolved via the index, and without a limit all elements are needed anyway
+            return null;
+        }
+        ChronoGraph graph = ChronoTraversalUtil.getChronoGraph(this.getTraversal());
+        graph.tx().readWrite();
+        ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
+        Map<HasContainer, SearchSpecification<?>> containerToSearchSpec = this.getSearchSpecifications();
+        Iterator<E> elements;
         if (Vertex.class.isAssignableFrom(this.returnClass)) {
-            return (Iterator<E>) this.getResultVertices();
+            elements = (Iterator<E>) tx.getVerticesOrderedByIndexedProperty(containerToSearchSpec.values(),
+                this.orderPropertyKey, this.order, this.limit);
         } else {
-            return (Iterator<E>) this.getResultEdges();
+            elements = (Iterator<E>) tx.getEdgesOrderedByIndexedProperty(containerToSearchSpec.values(),
+                this.orderPropertyKey, this.order, this.limit);
+        }
+        if (elements == null) {
+            return null;
         }
+        // the filter is applied lazily, so the ordered elements are only loaded until the limit is reached
+        List<HasContainer> nonIndexedHasContainers = this.getAllContainersExcept(containerToSearchSpec.keySet());
+        if (nonIndexedHasContainers.isEmpty()) {
+            return elements;
+        }
+        return Iterators.filter(elements, e -> HasContainer.testAll(e, nonIndexedHasContainers));
     }
 
     private Iterator<Vertex> getResultVertices() {
@@ -104,8 +254,16 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
             ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
             // convert the "has" containers that are indexable into search specifications
             Map<HasContainer, SearchSpecification<?>> containerToSearchSpec = this.getSearchSpecifications();
+            Set<HasContainer> indexedHasContainers = Sets.newHashSet(containerToSearchSpec.keySet());
+            HasContainer withinContainer = this.getIndexedWithinContainer(tx, Vertex.class);
             Iterator<Vertex> vertices = null;
-            if (containerToSearchSpec.isEmpty()) {
+            if (withinContainer != null) {
+                // one of the conditions is a 'within' on an indexed property
+                // -> ask the indexer once per value of the condition
+                vertices = getElementsByWithinContainer(withinContainer, containerToSearchSpec.values(),
+                    tx::getVerticesBySearchSpecifications);
+                indexedHasContainers.add(withinContainer);
+            } else if (containerToSearchSpec.isEmpty()) {
                 // none of the 'has' conditions works based on equality, so none is indexed
                 // -> we have to iterate over all vertices
                 vertices = graph.vertices();
@@ -116,7 +274,7 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
             }
             // in order to handle all conditions which are not based on Gremlin's "Compare" class, we
             // post-process the vertices by filtering them once more with these conditions
-            List<HasContainer> nonIndexedHasContainers = this.getAllContainersExcept(containerToSearchSpec.keySet());
+            List<HasContainer> nonIndexedHasContainers = this.getAllContainersExcept(indexedHasContainers);
             if (nonIndexedHasContainers.isEmpty()) {
                 // there are no non-indexed containers, we can return the iterator directly
                 return vertices;
@@ -141,8 +299,16 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
             ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
             // convert the "has" containers that are indexable into search specifications
             Map<HasContainer, SearchSpecification<?>> containerToSearchSpec = this.getSearchSpecifications();
+            Set<HasContainer> indexedHasContainers = Sets.newHashSet(containerToSearchSpec.keySet());
+            HasContainer withinContainer = this.getIndexedWithinContainer(tx, Edge.class);
             Iterator<Edge> edges = null;
-            if (containerToSearchSpec.isEmpty()) {
+            if (withinContainer != null) {
+                // one of the conditions is a 'within' on an indexed property
+                // -> ask the indexer once per value of the condition
+                edges = getElementsByWithinContainer(withinContainer, containerToSearchSpec.values(),
+                    tx::getEdgesBySearchSpecifications);
+                indexedHasContainers.add(withinContainer);
+            } else if (containerToSearchSpec.isEmpty()) {
                 // none of the 'has' conditions works based on equality, so none is indexed
                 // -> we have to iterate over all edges
                 edges = graph.edges();
@@ -153,7 +319,7 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
             }
             // in order to handle all conditions which are not based on Gremlin's "Compare" class, we
             // post-process the vertices by filtering them once more with these conditions
-            List<HasContainer> nonIndexedHasContainers = this.getAllContainersExcept(containerToSearchSpec.keySet());
+            List<HasContainer> nonIndexedHasContainers = this.getAllContainersExcept(indexedHasContainers);
             return Iterators.filter(edges, e -> HasContainer.testAll(e, nonIndexedHasContainers));
         }
     }
@@ -169,12 +335,74 @@ public class ChronoGraphStep<S, E extends Element> extends GraphStep<S, E> imple
         return resultMap;
     }
 
+    /**
+     * Returns the first "has" container of this step which checks a property (or the label) via {@link Contains#within}
+     * and can be answered by the index.
+     *
+     * <p>
+     * Such a container can be answered by the index by issuing one query per value. Only values which can be converted
+     * into an equality {@link SearchSpecification} are supported, and the index has to be able to answer each of these
+     * equality conditions in conjunction with the other conditions of this step (which may involve a composite or a
+     * label-scoped index).
+     *
+     * @param tx    The current graph transaction. Must not be <code>null</code>.
+     * @param clazz The type of element returned by this step. Must not be <code>null</code>.
+     * @return The container, or <code>null</code> if there is none.
+     */
+    private HasContainer getIndexedWithinContainer(final ChronoGraphTransactionInternal tx,
+                                                   final Class<? extends Element> clazz) {
+        String branchName = tx.getBackingDBTransaction().getBranchName();
+        ChronoGraphIndexManagerInternal indexManager = (ChronoGraphIndexManagerInternal) tx.getGraph()
+            .getIndexManager(branchName);
+        Collection<SearchSpecification<?>> searchSpecs = this.getSearchSpecifications().values();
+        for (HasContainer container : this.hasContainers) {
+            if (Contains.within.equals(container.getBiPredicate()) == false) {
+                continue;
+            }
+            if (container.getValue() instanceof Collection == false) {
+                continue;
+            }
+            Collection<?> values = (Collection<?>) container.getValue();
+            boolean allValuesIndexable = values.stream().allMatch(value -> value instanceof String
+                || ReflectionUtils.isLongCompatible(value) || ReflectionUtils.isDoubleCompatible(value));
+            if (allValuesIndexable == false) {
+                continue;
+            }
+            boolean allValuesIndexed = values.stream().allMatch(value -> {
+                SearchSpecification<?> valueSearchSpec = hasContainerToSearchSpec(
+                    new HasContainer(container.getKey(), P.eq(value)));
+                Set<SearchSpecification<?>> valueSearchSpecs = Sets.newHashSet(searchSpecs);
+                valueSearchSpecs.add(valueSearchSpec);
+                return indexManager.getIndexedSearchSpecifications(clazz, valueSearchSpecs).contains(valueSearchSpec);
+            });
+            if (allValuesIndexed) {
+                return container;
+            }
+        }
+        return null;
+    }
+
+    private static <E extends Element> Iterator<E> getElementsByWithinContainer(final HasContainer withinContainer,
+                                                                               final Collection<SearchSpecification<?>> searchSpecs,
+                                                                               final Function<Collection<SearchSpecification<?>>, Iterator<E>> query) {
+        Collection<?> values = (Collection<?>) withinContainer.getValue();
+        Iterator<E> elements = Iterators.concat(Iterators.transform(values.iterator(), value -> {
+            HasContainer equalityContainer = new HasContainer(withinContainer.getKey(), P.eq(value));
+            List<SearchSpecification<?>> valueSearchSpecs = new ArrayList<>(searchSpecs);
+            valueSearchSpecs.add(hasContainerToSearchSpec(equalityContainer));
+            return query.apply(valueSearchSpecs);
+        }));
+        // multi-valued properties may match several of the values; report each element only once
+        Set<Object> visitedIds = Sets.newHashSet();
+        return Iterators.filter(elements, element -> visitedIds.add(element.id()));
+    }
+
     private List<HasContainer> getAllContainersExcept(final Collection<HasContainer> excludedContainers) {
         return this.hasContainers.stream().filter(c -> excludedContainers.contains(c) == false)
             .collect(Collectors.toList());
     }
 
-    private static SearchSpecification<?> hasContainerToSearchSpec(final HasContainer container) {
+    static SearchSpecification<?> hasContainerToSearchSpec(final HasContainer container) {
         String property = container.getKey();
         Object value = container.getValue();
         if (value == null) {
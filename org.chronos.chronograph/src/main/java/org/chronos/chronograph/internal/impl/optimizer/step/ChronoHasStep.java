@@ -0,0 +1,280 @@
+package org.chronos.chronograph.internal.impl.optimizer.step;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
+import org.chronos.chronograph.internal.impl.util.ChronoTraversalUtil;
+
+import java.util.*;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A replacement for Gremlin's {@link HasStep} in the middle of a traversal, e.g. the <code>has(...)</code> in
+ * <code>g.V(x).out("knows").has("age", gt(30))</code>.
+ *
+ * <p>
+ * The regular {@link HasStep} evaluates its conditions on every incoming element, which requires loading the record of
+ * each element. This step collects the incoming traversers in batches instead. If at least one of the conditions refers
+ * to an indexed property, and the number of index matches is small compared to the number of incoming vertices which
+ * have not been loaded yet, the matching vertex IDs are fetched from the secondary index (at the timestamp of the
+ * transaction) once, and every batch is intersected with them. If the conditions are not selective enough, the index is
+ * not used, as fetching all matches would be more expensive than loading the incoming vertices. Vertices which are not
+ * contained in the index result are discarded without ever being loaded. Vertices which have been modified in the
+ * current transaction are always checked directly, as the index only reflects the persistent state. All vertices which
+ * do need to be checked directly are loaded in a single batch.
+ *
+ * @param <S> The type of the elements to filter.
+ */
+public class ChronoHasStep<S extends Element> extends HasStep<S> {
+
+    /**
+     * The minimum number of not-yet-loaded incoming vertices before the index is consulted at all. For fewer vertices,
+     * loading and checking them directly is cheaper than an index query.
+     */
+    private static final int MIN_UNLOADED_VERTICES_FOR_INDEX_PROBE = 16;
+
+    /**
+     * The maximum number of index matches per not-yet-loaded incoming vertex for which fetching the matches from the
+     * index is considered cheaper than loading the incoming vertices.
+     */
+    private static final int MAX_INDEX_MATCHES_PER_UNLOADED_VERTEX = 10;
+
+    private final int batchSize;
+
+    private Deque<Traverser.Admin<S>> buffer = new ArrayDeque<>();
+    private IndexProbe indexProbe = null;
+    private long unloadedVertices = 0;
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    public ChronoHasStep(final HasStep<S> originalStep, final int batchSize) {
+        super(originalStep.getTraversal(), originalStep.getHasContainers().toArray(new HasContainer[0]));
+        checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+        // copy the labels of the original step
+        originalStep.getLabels().forEach(this::addLabel);
+        this.batchSize = batchSize;
+    }
+
+    // =====================================================================================================================
+    // TINKERPOP API
+    // =====================================================================================================================
+
+    @Override
+    protected Traverser.Admin<S> processNextStart() {
+        while (this.buffer.isEmpty()) {
+            // note: this throws a FastNoSuchElementException if there are no more starts, just like FilterStep
+            this.filterNextBatch();
+        }
+        return this.buffer.poll();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.buffer.clear();
+        this.indexProbe = null;
+        this.unloadedVertices = 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChronoHasStep<S> clone() {
+        ChronoHasStep<S> clone = (ChronoHasStep<S>) super.clone();
+        clone.buffer = new ArrayDeque<>();
+        clone.indexProbe = null;
+        clone.unloadedVertices = 0;
+        return clone;
+    }
+
+    // =====================================================================================================================
+    // HELPER METHODS
+    // =====================================================================================================================
+
+    private void filterNextBatch() {
+        List<Traverser.Admin<S>> batch = Lists.newArrayList();
+        do {
+            batch.add(this.starts.next());
+        } while (batch.size() < this.batchSize && this.starts.hasNext());
+        this.unloadedVertices += this.countUnloadedVertices(batch);
+        if (this.indexProbe == null && this.unloadedVertices >= MIN_UNLOADED_VERTICES_FOR_INDEX_PROBE) {
+            this.indexProbe = this.createIndexProbe();
+        }
+        if (this.indexProbe != null && this.indexProbe.isApplicable() && this.indexProbe.isLoaded() == false) {
+            // the more vertices we have seen, the more selective conditions we are willing to fetch from the index
+            if (this.indexProbe.getMatchCount() <= this.unloadedVertices * MAX_INDEX_MATCHES_PER_UNLOADED_VERTEX) {
+                this.indexProbe.load();
+            }
+        }
+        ChronoGraphTransactionInternal tx = this.getTransaction();
+        if (this.indexProbe == null || this.indexProbe.isLoaded() == false) {
+            // no index available (or not selective enough); load the vertices in one go and evaluate
+            // the conditions element by element
+            this.prefetchVertices(tx, batch);
+            batch.stream().filter(this::filter).forEach(this.buffer::add);
+            return;
+        }
+        List<Traverser.Admin<S>> candidates = Lists.newArrayList();
+        Set<String> discardedVertexIds = Sets.newHashSet();
+        for (Traverser.Admin<S> traverser : batch) {
+            S element = traverser.get();
+            if (element instanceof Vertex == false || tx.getContext().isVertexModified((String) element.id())) {
+                // the index can't tell us anything about this element
+                candidates.add(traverser);
+            } else if (this.indexProbe.isCandidate(element)) {
+                candidates.add(traverser);
+            } else {
+                discardedVertexIds.add((String) element.id());
+            }
+        }
+        // the discarded vertices are never loaded, but the result still depends on them
+        tx.registerIndexedVertexReads(discardedVertexIds);
+        // only the candidates need to be loaded to check the remaining conditions
+        this.prefetchVertices(tx, candidates);
+        for (Traverser.Admin<S> traverser : candidates) {
+            S element = traverser.get();
+            if (element instanceof Vertex == false || tx.getContext().isVertexModified((String) element.id())) {
+                if (this.filter(traverser)) {
+                    this.buffer.add(traverser);
+                }
+            } else if (HasContainer.testAll(element, this.indexProbe.getRemainingContainers())) {
+                this.buffer.add(traverser);
+            }
+        }
+    }
+
+    private void prefetchVertices(final ChronoGraphTransactionInternal tx, final List<Traverser.Admin<S>> batch) {
+        Set<String> vertexIds = Sets.newHashSet();
+        for (Traverser.Admin<S> traverser : batch) {
+            if (traverser.get() instanceof Vertex) {
+                vertexIds.add((String) traverser.get().id());
+            }
+        }
+        tx.prefetchVertices(vertexIds);
+    }
+
+    private int countUnloadedVertices(final List<Traverser.Admin<S>> batch) {
+        int unloadedVertices = 0;
+        for (Traverser.Admin<S> traverser : batch) {
+            S element = traverser.get();
+            if (element instanceof Vertex == false) {
+                continue;
+            }
+            ChronoVertexImpl vertex = ChronoProxyUtil.resolveVertexProxy((Vertex) element);
+            if (vertex.isLazyLoadPending()) {
+                unloadedVertices++;
+            }
+        }
+        return unloadedVertices;
+    }
+
+    private IndexProbe createIndexProbe() {
+        ChronoGraphTransactionInternal tx = this.getTransaction();
+        String branchName = tx.getBackingDBTransaction().getBranchName();
+        ChronoGraphIndexManagerInternal indexManager = (ChronoGraphIndexManagerInternal) tx.getGraph()
+            .getIndexManager(branchName);
+        Set<String> indexedProperties = indexManager.getIndexedVertexPropertyNames();
+        Map<HasContainer, SearchSpecification<?>> indexedContainers = Maps.newLinkedHashMap();
+        for (HasContainer container : this.getHasContainers()) {
+            if (isSafelyConvertible(container) == false || indexedProperties.contains(container.getKey()) == false) {
+                continue;
+            }
+            SearchSpecification<?> searchSpec = ChronoGraphStep.hasContainerToSearchSpec(container);
+            if (searchSpec != null) {
+                indexedContainers.put(container, searchSpec);
+            }
+        }
+        if (indexedContainers.isEmpty()) {
+            return IndexProbe.NOT_APPLICABLE;
+        }
+        Set<SearchSpecification<?>> searchSpecs = Sets.newHashSet(indexedContainers.values());
+        List<HasContainer> remainingContainers = Lists.newArrayList(this.getHasContainers());
+        remainingContainers.removeAll(indexedContainers.keySet());
+        return new IndexProbe(indexManager, searchSpecs, remainingContainers);
+    }
+
+    private ChronoGraphTransactionInternal getTransaction() {
+        ChronoGraph graph = ChronoTraversalUtil.getChronoGraph(this.getTraversal());
+        return (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
+    }
+
+    private static boolean isSafelyConvertible(final HasContainer container) {
+        if (container.getValue() == null || container.getBiPredicate() instanceof Compare == false) {
+            return false;
+        }
+        if (container.getValue() instanceof String) {
+            // strings only support (in-)equality in the index; other comparisons are evaluated by Gremlin
+            return Compare.eq.equals(container.getBiPredicate()) || Compare.neq.equals(container.getBiPredicate());
+        }
+        return true;
+    }
+
+    // =====================================================================================================================
+    // INNER CLASSES
+    // =====================================================================================================================
+
+    private static class IndexProbe {
+
+        /** A probe which indicates that none of the conditions can be answered by the index. */
+        private static final IndexProbe NOT_APPLICABLE = new IndexProbe(null, null, null);
+
+        private final ChronoGraphIndexManagerInternal indexManager;
+        private final Set<SearchSpecification<?>> searchSpecs;
+        private final List<HasContainer> remainingContainers;
+
+        private long matchCount = -1;
+        private Set<String> matchingIds = null;
+
+        private IndexProbe(final ChronoGraphIndexManagerInternal indexManager,
+                           final Set<SearchSpecification<?>> searchSpecs,
+                           final List<HasContainer> remainingContainers) {
+            this.indexManager = indexManager;
+            this.searchSpecs = searchSpecs;
+            this.remainingContainers = remainingContainers;
+        }
+
+        public boolean isApplicable() {
+            return this.searchSpecs != null;
+        }
+
+        public long getMatchCount() {
+            if (this.matchCount < 0) {
+                // counting does not require us to hold all matching IDs in memory
+                this.matchCount = this.indexManager.countVerticesByIndexedProperties(this.searchSpecs);
+            }
+            return this.matchCount;
+        }
+
+        public boolean isLoaded() {
+            return this.matchingIds != null;
+        }
+
+        public void load() {
+            this.matchingIds = Sets.newHashSet(this.indexManager.findVertexIdsByIndexedProperties(this.searchSpecs));
+        }
+
+        public boolean isCandidate(final Element element) {
+            return this.matchingIds.contains(element.id());
+        }
+
+        public List<HasContainer> getRemainingContainers() {
+            return this.remainingContainers;
+        }
+
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.chronos.chronograph.internal.impl.optimizer.step;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
+import java.util.Iterator;
+
+/**
+ * A replacement for Gremlin's {@link VertexStep} (e.g. <code>out()</code>, <code>in()</code>, <code>both()</code>)
+ * which loads the adjacent vertices of several incoming traversers in a single batch.
+ */
+public class ChronoVertexStep extends VertexStep<Vertex> {
+
+    private AdjacentVertexBatch<Vertex> batch;
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    public ChronoVertexStep(final VertexStep<Vertex> originalStep, final int batchSize) {
+        super(originalStep.getTraversal(), Vertex.class, originalStep.getDirection(), originalStep.getEdgeLabels());
+        // copy the labels of the original step
+        originalStep.getLabels().forEach(this::addLabel);
+        this.batch = new AdjacentVertexBatch<>(batchSize);
+    }
+
+    // =====================================================================================================================
+    // TINKERPOP API
+    // =====================================================================================================================
+
+    @Override
+    protected Traverser.Admin<Vertex> processNextStart() {
+        return this.batch.next(this, this.starts, this::adjacentVertices);
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.batch.reset();
+    }
+
+    @Override
+    public ChronoVertexStep clone() {
+        ChronoVertexStep clone = (ChronoVertexStep) super.clone();
+        clone.batch = this.batch.copy();
+        return clone;
+    }
+
+    // =====================================================================================================================
+    // HELPER METHODS
+    // =====================================================================================================================
+
+    private Iterator<Vertex> adjacentVertices(final Vertex vertex) {
+        return vertex.vertices(this.getDirection(), this.getEdgeLabels());
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphCountStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphStep;
+
+/**
+ * Replaces <code>g.V().has(...).count()</code> and <code>g.E().has(...).count()</code> by a
+ * {@link ChronoGraphCountStep}, which computes the count without loading the individual elements whenever possible.
+ */
+public class ChronoGraphCountStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy>
+		implements TraversalStrategy.ProviderOptimizationStrategy {
+
+	// =====================================================================================================================
+	// SINGLETON IMPLEMENTATION
+	// =====================================================================================================================
+
+	private static final ChronoGraphCountStepStrategy INSTANCE;
+
+	public static ChronoGraphCountStepStrategy getInstance() {
+		return INSTANCE;
+	}
+
+	static {
+		INSTANCE = new ChronoGraphCountStepStrategy();
+	}
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * This constructor is private on purpose.
+	 *
+	 * <p>
+	 * Please use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private ChronoGraphCountStepStrategy() {
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void apply(final Traversal.Admin<?, ?> traversal) {
+		for (ChronoGraphStep<?, ?> graphStep : TraversalHelper.getStepsOfClass(ChronoGraphStep.class, traversal)) {
+			Step<?, ?> nextStep = graphStep.getNextStep();
+			if (nextStep instanceof CountGlobalStep == false) {
+				continue;
+			}
+			if (graphStep.isStartStep() == false || graphStep.isCountable() == false || graphStep.getLimit() >= 0) {
+				// we can only replace steps which produce exactly one count for the whole traversal
+				continue;
+			}
+			if (graphStep.getLabels().isEmpty() == false) {
+				// a later step may refer to the elements of the graph step via its label
+				continue;
+			}
+			ChronoGraphCountStep<?> countStep = new ChronoGraphCountStep<>(graphStep);
+			nextStep.getLabels().forEach(countStep::addLabel);
+			TraversalHelper.replaceStep(nextStep, (Step) countStep, traversal);
+			traversal.removeStep(graphStep);
+		}
+	}
+
+	@Override
+	public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+		// the "has" steps need to be folded into the graph step first
+		return Collections.singleton(ChronoGraphStepStrategy.class);
+	}
+
+}
@@ -0,0 +1,107 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.ElementValueTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphStep;
+
+/**
+ * Pushes an <code>order().by(key).limit(...)</code> sequence which directly follows a {@link ChronoGraphStep} into that
+ * graph step, such that the secondary index on the property delivers the elements in order and only the first few of
+ * them are loaded.
+ *
+ * <p>
+ * The order and range steps remain in the traversal. If the index cannot deliver the order at evaluation time, the
+ * graph step falls back to producing all matching elements, and the order step sorts them as usual.
+ */
+public class ChronoGraphOrderStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy>
+		implements TraversalStrategy.ProviderOptimizationStrategy {
+
+	// =====================================================================================================================
+	// SINGLETON IMPLEMENTATION
+	// =====================================================================================================================
+
+	private static final ChronoGraphOrderStepStrategy INSTANCE;
+
+	public static ChronoGraphOrderStepStrategy getInstance() {
+		return INSTANCE;
+	}
+
+	static {
+		INSTANCE = new ChronoGraphOrderStepStrategy();
+	}
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * This constructor is private on purpose.
+	 *
+	 * <p>
+	 * Please use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private ChronoGraphOrderStepStrategy() {
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void apply(final Traversal.Admin<?, ?> traversal) {
+		for (ChronoGraphStep<?, ?> graphStep : TraversalHelper.getStepsOfClass(ChronoGraphStep.class, traversal)) {
+			Step<?, ?> orderStep = graphStep.getNextStep();
+			if (orderStep instanceof OrderGlobalStep == false) {
+				continue;
+			}
+			Step<?, ?> rangeStep = orderStep.getNextStep();
+			if (rangeStep instanceof RangeGlobalStep == false) {
+				continue;
+			}
+			long highRange = ((RangeGlobalStep<?>) rangeStep).getHighRange();
+			if (highRange < 0) {
+				// without an upper bound, all elements need to be loaded anyway
+				continue;
+			}
+			OrderGlobalStep<?, ?> orderGlobalStep = (OrderGlobalStep<?, ?>) orderStep;
+			if (orderGlobalStep.getComparators().size() != 1) {
+				// secondary sort criteria cannot be answered by a single index
+				continue;
+			}
+			Traversal.Admin<?, ?> sortTraversal = orderGlobalStep.getComparators().get(0).getValue0();
+			Comparator<?> comparator = orderGlobalStep.getComparators().get(0).getValue1();
+			if (sortTraversal instanceof ElementValueTraversal == false) {
+				continue;
+			}
+			String propertyKey = ((ElementValueTraversal<?>) sortTraversal).getPropertyKey();
+			if (Order.incr.equals(comparator)) {
+				graphStep.setOrderHint(propertyKey, org.chronos.chronodb.api.Order.ASCENDING);
+			} else if (Order.decr.equals(comparator)) {
+				graphStep.setOrderHint(propertyKey, org.chronos.chronodb.api.Order.DESCENDING);
+			} else {
+				// custom comparators (and shuffling) cannot be answered by the index
+				continue;
+			}
+			graphStep.setLimit(highRange);
+		}
+	}
+
+	@Override
+	public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+		// the "has" steps need to be folded into the graph step first
+		return Collections.singleton(ChronoGraphStepStrategy.class);
+	}
+
+}
@@ -0,0 +1,76 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphStep;
+
+/**
+ * Pushes the upper bound of a <code>limit(...)</code> or <code>range(...)</code> step into a directly preceding
+ * {@link ChronoGraphStep}, such that the graph step stops loading elements once the bound is reached.
+ *
+ * <p>
+ * The range step itself remains in the traversal, as it still needs to skip the elements below its lower bound.
+ */
+public class ChronoGraphRangeStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy>
+		implements TraversalStrategy.ProviderOptimizationStrategy {
+
+	// =====================================================================================================================
+	// SINGLETON IMPLEMENTATION
+	// =====================================================================================================================
+
+	private static final ChronoGraphRangeStepStrategy INSTANCE;
+
+	public static ChronoGraphRangeStepStrategy getInstance() {
+		return INSTANCE;
+	}
+
+	static {
+		INSTANCE = new ChronoGraphRangeStepStrategy();
+	}
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * This constructor is private on purpose.
+	 *
+	 * <p>
+	 * Please use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private ChronoGraphRangeStepStrategy() {
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void apply(final Traversal.Admin<?, ?> traversal) {
+		for (ChronoGraphStep<?, ?> graphStep : TraversalHelper.getStepsOfClass(ChronoGraphStep.class, traversal)) {
+			Step<?, ?> nextStep = graphStep.getNextStep();
+			if (nextStep instanceof RangeGlobalStep == false) {
+				continue;
+			}
+			long highRange = ((RangeGlobalStep<?>) nextStep).getHighRange();
+			if (highRange >= 0) {
+				graphStep.setLimit(highRange);
+			}
+		}
+	}
+
+	@Override
+	public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+		// the "has" steps need to be folded into the graph step first
+		return Collections.singleton(ChronoGraphStepStrategy.class);
+	}
+
+}
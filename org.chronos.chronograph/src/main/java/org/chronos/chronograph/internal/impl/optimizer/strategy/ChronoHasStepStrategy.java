@@ -0,0 +1,91 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoHasStep;
+
+/**
+ * Replaces the <code>has(...)</code> steps in the middle of a traversal (i.e. those which could not be folded into a
+ * preceding graph step by the {@link ChronoGraphStepStrategy}) by {@link ChronoHasStep}s, which may answer their
+ * conditions via the secondary index.
+ *
+ * <p>
+ * The batch size is taken from {@link ChronoGraphConfiguration#getVertexStepBatchSize()}. Traversals which modify the
+ * graph are left untouched, because the index only reflects the state of the graph at the start of the traversal.
+ */
+public class ChronoHasStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy>
+		implements TraversalStrategy.ProviderOptimizationStrategy {
+
+	// =====================================================================================================================
+	// SINGLETON IMPLEMENTATION
+	// =====================================================================================================================
+
+	private static final ChronoHasStepStrategy INSTANCE;
+
+	public static ChronoHasStepStrategy getInstance() {
+		return INSTANCE;
+	}
+
+	static {
+		INSTANCE = new ChronoHasStepStrategy();
+	}
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * This constructor is private on purpose.
+	 *
+	 * <p>
+	 * Please use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private ChronoHasStepStrategy() {
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void apply(final Traversal.Admin<?, ?> traversal) {
+		Traversal.Admin<?, ?> rootTraversal = TraversalHelper.getRootTraversal(traversal);
+		Optional<Graph> graph = rootTraversal.getGraph();
+		if (graph.isPresent() == false || graph.get() instanceof ChronoGraph == false) {
+			return;
+		}
+		int batchSize = ((ChronoGraph) graph.get()).getChronoGraphConfiguration().getVertexStepBatchSize();
+		if (batchSize <= 1) {
+			// batching is disabled
+			return;
+		}
+		if (TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, rootTraversal)) {
+			// the traversal modifies the graph; we must not read ahead
+			return;
+		}
+		for (HasStep<?> hasStep : TraversalHelper.getStepsOfClass(HasStep.class, traversal)) {
+			ChronoHasStep<?> chronoHasStep = new ChronoHasStep<>(hasStep, batchSize);
+			TraversalHelper.replaceStep((Step) hasStep, chronoHasStep, traversal);
+		}
+	}
+
+	@Override
+	public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+		// the "has" steps directly after a graph step need to be folded into the graph step first
+		return Collections.singleton(ChronoGraphStepStrategy.class);
+	}
+
+}
@@ -0,0 +1,112 @@
+package org.chronos.chronograph.internal.impl.optimizer.strategy;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.EdgeVertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoEdgeVertexStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoHasStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoVertexStep;
+
+/**
+ * Replaces the Gremlin steps which navigate to adjacent vertices (<code>out()</code>, <code>in()</code>,
+ * <code>both()</code>, <code>inV()</code>, <code>outV()</code>, <code>bothV()</code>) by steps which load the vertices
+ * for several traversers in a single batch.
+ *
+ * <p>
+ * The batch size is taken from {@link ChronoGraphConfiguration#getVertexStepBatchSize()}.
+ * Traversals which modify the graph are left untouched, because batching changes the order in which the adjacency of
+ * the traversed vertices is read.
+ */
+public class ChronoVertexStepStrategy extends AbstractTraversalStrategy<TraversalStrategy.ProviderOptimizationStrategy>
+		implements TraversalStrategy.ProviderOptimizationStrategy {
+
+	// =====================================================================================================================
+	// SINGLETON IMPLEMENTATION
+	// =====================================================================================================================
+
+	private static final ChronoVertexStepStrategy INSTANCE;
+
+	public static ChronoVertexStepStrategy getInstance() {
+		return INSTANCE;
+	}
+
+	static {
+		INSTANCE = new ChronoVertexStepStrategy();
+	}
+
+	// =====================================================================================================================
+	// CONSTRUCTOR
+	// =====================================================================================================================
+
+	/**
+	 * This constructor is private on purpose.
+	 *
+	 * <p>
+	 * Please use {@link #getInstance()} to retrieve the singleton instance of this class.
+	 */
+	private ChronoVertexStepStrategy() {
+	}
+
+	// =====================================================================================================================
+	// TINKERPOP API
+	// =====================================================================================================================
+
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void apply(final Traversal.Admin<?, ?> traversal) {
+		Traversal.Admin<?, ?> rootTraversal = TraversalHelper.getRootTraversal(traversal);
+		Optional<Graph> graph = rootTraversal.getGraph();
+		if (graph.isPresent() == false || graph.get() instanceof ChronoGraph == false) {
+			return;
+		}
+		int batchSize = ((ChronoGraph) graph.get()).getChronoGraphConfiguration().getVertexStepBatchSize();
+		if (batchSize <= 1) {
+			// batching is disabled
+			return;
+		}
+		if (TraversalHelper.hasStepOfAssignableClassRecursively(Mutating.class, rootTraversal)) {
+			// the traversal modifies the graph; we must not read ahead
+			return;
+		}
+		for (VertexStep<?> vertexStep : TraversalHelper.getStepsOfClass(VertexStep.class, traversal)) {
+			if (vertexStep.returnsVertex() == false) {
+				// edges are not affected by vertex batching
+				continue;
+			}
+			if (vertexStep.getNextStep() instanceof ChronoHasStep) {
+				// the has step decides on its own which of the vertices actually need to be loaded
+				continue;
+			}
+			ChronoVertexStep chronoVertexStep = new ChronoVertexStep((VertexStep<Vertex>) vertexStep, batchSize);
+			TraversalHelper.replaceStep((Step) vertexStep, chronoVertexStep, traversal);
+		}
+		for (EdgeVertexStep edgeVertexStep : TraversalHelper.getStepsOfClass(EdgeVertexStep.class, traversal)) {
+			if (edgeVertexStep.getNextStep() instanceof ChronoHasStep) {
+				// the has step decides on its own which of the vertices actually need to be loaded
+				continue;
+			}
+			ChronoEdgeVertexStep chronoEdgeVertexStep = new ChronoEdgeVertexStep(edgeVertexStep, batchSize);
+			TraversalHelper.replaceStep(edgeVertexStep, chronoEdgeVertexStep, traversal);
+		}
+	}
+
+	@Override
+	public Set<Class<? extends ProviderOptimizationStrategy>> applyPrior() {
+		// vertex steps followed by a has step are handled by the has step
+		return Collections.singleton(ChronoHasStepStrategy.class);
+	}
+
+}
@@ -582,9 +582,13 @@ public abstract class AbstractChronoElement implements ChronoElement {
 		if (this.isFullyLoaded()) {
 			return;
 		}
+		this.completeLazyLoad(this::reloadFromDatabase);
+	}
+
+	protected void completeLazyLoad(final Runnable loader) {
 		ChronoGraphTransaction currentTx = this.graph.tx().getCurrentTransaction();
 		this.clearPropertyStatusCache();
-		this.reloadFromDatabase();
+		loader.run();
 		this.loadedAtRollbackCount = currentTx.getRollbackCount();
 		this.fullyLoaded = true;
 	}
@@ -13,11 +13,8 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
-import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.structure.ChronoVertex;
-import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
-import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
@@ -293,8 +290,7 @@ public class ChronoEdgeImpl extends AbstractChronoElement implements Edge, Chron
 				this.inVcache = null;
 				this.outVcache = null;
 				this.properties.clear();
-				ChronoDBTransaction backendTx = this.getOwningTransaction().getBackingDBTransaction();
-				EdgeRecord eRecord = backendTx.get(ChronoGraphConstants.KEYSPACE_EDGE, this.id().toString());
+				EdgeRecord eRecord = this.owningTransaction.loadEdgeRecord(this.id());
 				if (eRecord == null) {
 					// edge was removed
 					nextStatus[0] = ElementLifecycleStatus.REMOVED;
@@ -335,6 +331,24 @@ public class ChronoEdgeImpl extends AbstractChronoElement implements Edge, Chron
 		return new EdgeRecord(id, this.outVid, label, this.inVid, this.properties);
 	}
 
+	/**
+	 * Returns the ID of the out-vertex of this edge, without resolving the vertex itself.
+	 *
+	 * @return The out-vertex ID. Never <code>null</code>.
+	 */
+	public String getOutVertexId() {
+		return this.outVid;
+	}
+
+	/**
+	 * Returns the ID of the in-vertex of this edge, without resolving the vertex itself.
+	 *
+	 * @return The in-vertex ID. Never <code>null</code>.
+	 */
+	public String getInVertexId() {
+		return this.inVid;
+	}
+
 	@Override
 	public void updateLifecycleStatus(final ElementLifecycleStatus status) {
 		super.updateLifecycleStatus(status);
@@ -361,8 +375,7 @@ public class ChronoEdgeImpl extends AbstractChronoElement implements Edge, Chron
 			// lazy loading of properties is not required
 			return;
 		}
-		ChronoGraphTransaction graphTx = this.getGraphTransaction();
-		EdgeRecord edgeRecord = graphTx.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_EDGE, this.id());
+		EdgeRecord edgeRecord = this.getGraphTransaction().loadEdgeRecord(this.id());
 		if (edgeRecord == null) {
 			throw new IllegalStateException(
 					"Failed to load edge properties - there is no backing Edge Record in the database for ID: '"
@@ -2,8 +2,11 @@ package org.chronos.chronograph.internal.impl.structure.graph;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -16,13 +19,16 @@ import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty.Cardinality;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronograph.api.structure.ChronoEdge;
 import org.chronos.chronograph.api.structure.ChronoVertex;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
 import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
 import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronograph.internal.impl.structure.record.AdjacencyPageRecord;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PagedVertexRecord;
 import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexPropertyRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
@@ -37,6 +43,7 @@ import org.chronos.common.logging.LogLevel;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
@@ -47,10 +54,22 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	// FIELDS
 	// =================================================================================================================
 
-	private final SetMultimap<String, ChronoEdge> labelToIncomingEdges = HashMultimap.create();
-	private final SetMultimap<String, ChronoEdge> labelToOutgoingEdges = HashMultimap.create();
+	private final LabeledEdgeLists labelToIncomingEdges = new LabeledEdgeLists();
+	private final LabeledEdgeLists labelToOutgoingEdges = new LabeledEdgeLists();
 	private final Map<String, ChronoVertexProperty<?>> properties = Maps.newHashMap();
 
+	/** The adjacency pages of this vertex, or <code>null</code> if the edges are stored in the vertex record. */
+	private PagedAdjacency pagedAdjacency;
+
+	/** The record whose properties have not been materialized yet, or <code>null</code> if there is none. */
+	private VertexRecord unloadedPropertiesRecord;
+	/** The record whose edges have not been fully materialized yet, or <code>null</code> if there is none. */
+	private VertexRecord unloadedAdjacencyRecord;
+	/** The labels of the incoming edges in {@link #unloadedAdjacencyRecord} which have not been materialized yet. */
+	private final Set<String> unloadedIncomingEdgeLabels = Sets.newHashSet();
+	/** The labels of the outgoing edges in {@link #unloadedAdjacencyRecord} which have not been materialized yet. */
+	private final Set<String> unloadedOutgoingEdgeLabels = Sets.newHashSet();
+
 	// =================================================================================================================
 	// CONSTRUCTOR
 	// =================================================================================================================
@@ -58,6 +77,10 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	public ChronoVertexImpl(final String id, final ChronoGraphInternal g, final ChronoGraphTransactionInternal tx,
 			final String label) {
 		this(g, tx, id, label, false);
+		int pageSize = g.getChronoGraphConfiguration().getAdjacencyPageSize();
+		if (pageSize > 0) {
+			this.pagedAdjacency = new PagedAdjacency(id, pageSize);
+		}
 	}
 
 	public ChronoVertexImpl(final ChronoGraphInternal g, final ChronoGraphTransactionInternal tx,
@@ -87,6 +110,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
 		this.checkAccess();
 		this.logPropertyChange(key, value);
+		this.loadProperties();
 		ChronoVertexProperty<V> property = (ChronoVertexProperty<V>) this.properties.get(key);
 		if (property == null) {
 			property = new ChronoVertexProperty<>(this, ChronoId.random(), key, value);
@@ -129,12 +153,14 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 			throw new IllegalStateException("Edge is messed up");
 		}
 		this.labelToOutgoingEdges.put(label, edge);
+		this.markAdjacencyDirty(Direction.OUT, label);
 		// add it as an incoming edge to the target vertex
 		ChronoVertexImpl inV = ChronoProxyUtil.resolveVertexProxy(inVertex);
 		if (edge.inVertex().equals(inV) == false) {
 			throw new IllegalStateException("Edge is messed up");
 		}
 		inV.labelToIncomingEdges.put(label, edge);
+		inV.markAdjacencyDirty(Direction.IN, label);
 		edge.updateLifecycleStatus(ElementLifecycleStatus.NEW);
 		this.updateLifecycleStatus(ElementLifecycleStatus.EDGE_CHANGED);
 		inV.updateLifecycleStatus(ElementLifecycleStatus.EDGE_CHANGED);
@@ -175,6 +201,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		this.logPropertyChange(key, value);
 		ChronoVertexProperty<V> property = new ChronoVertexProperty<>(this, propertyId, key, value);
 		ElementHelper.attachProperties(property, keyValues);
+		this.loadProperties();
 		if (this.property(key).isPresent()) {
 			this.changePropertyStatus(key, PropertyStatus.MODIFIED);
 		} else {
@@ -189,62 +216,23 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Iterator<Edge> edges(final Direction direction, final String... edgeLabels) {
 		this.checkAccess();
+		this.loadAdjacency(direction, edgeLabels);
+		// note that we do not copy the internal edge lists; gremlin specification states that no concurrent
+		// modification exceptions should ever be thrown when iterating over edges in a single-threaded program,
+		// which is ensured by the snapshot iterators of the edge lists.
 		switch (direction) {
 		case BOTH:
-			if (edgeLabels == null || edgeLabels.length <= 0) {
-				// return all
-				// note that we wrap the internal collections in new hash sets; gremlin specification states
-				// that no concurrent modification excpetions should ever be thrown when iterating over edges
-				// in a single-threaded program.
-
-				// also note that we do NOT want self-edges (e.g. v1->v1) to appear twice. Therefore, we use
-				// a set to eliminate duplicates. Furthermore, Gremlin wants ot have out-edges before in-edges
-				// in the iterator, so we use a linked hash set, as it preserves insertion order.
-				Set<Edge> edges = Sets.newLinkedHashSet();
-				edges.addAll(this.labelToOutgoingEdges.values());
-				edges.addAll(this.labelToIncomingEdges.values());
-				return edges.iterator();
-			} else {
-				// return the ones with matching labels
-				Set<Edge> edges = Sets.newLinkedHashSet();
-				for (String edgeLabel : edgeLabels) {
-					edges.addAll(this.labelToOutgoingEdges.get(edgeLabel));
-					edges.addAll(this.labelToIncomingEdges.get(edgeLabel));
-				}
-				return edges.iterator();
-			}
+			// note that we do NOT want self-edges (e.g. v1->v1) to appear twice. They are contained in both
+			// the incoming and the outgoing edges, so we skip them among the incoming edges. Furthermore,
+			// Gremlin wants to have out-edges before in-edges in the iterator.
+			Iterator<ChronoEdge> outEdges = this.labelToOutgoingEdges.iterator(edgeLabels);
+			Iterator<ChronoEdge> inEdges = Iterators.filter(this.labelToIncomingEdges.iterator(edgeLabels),
+					edge -> this.isSelfEdge(edge) == false);
+			return (Iterator) Iterators.concat(outEdges, inEdges);
 		case IN:
-			if (edgeLabels == null || edgeLabels.length <= 0) {
-				// return all
-				// note that we wrap the internal collections in new hash sets; gremlin specification states
-				// that no concurrent modification excpetions should ever be thrown when iterating over edges
-				// in a single-threaded program.
-				Iterator iterator = Sets.newHashSet(this.labelToIncomingEdges.values()).iterator();
-				return iterator;
-			} else {
-				// return the ones with matching labels
-				Set<Edge> edges = Sets.newHashSet();
-				for (String edgeLabel : edgeLabels) {
-					edges.addAll(this.labelToIncomingEdges.get(edgeLabel));
-				}
-				return edges.iterator();
-			}
+			return (Iterator) this.labelToIncomingEdges.iterator(edgeLabels);
 		case OUT:
-			if (edgeLabels == null || edgeLabels.length <= 0) {
-				// return all
-				// note that we wrap the internal collections in new hash sets; gremlin specification states
-				// that no concurrent modification excpetions should ever be thrown when iterating over edges
-				// in a single-threaded program.
-				Iterator iterator = Sets.newHashSet(this.labelToOutgoingEdges.values()).iterator();
-				return iterator;
-			} else {
-				// return the ones with matching labels
-				Set<Edge> edges = Sets.newHashSet();
-				for (String edgeLabel : edgeLabels) {
-					edges.addAll(this.labelToOutgoingEdges.get(edgeLabel));
-				}
-				return edges.iterator();
-			}
+			return (Iterator) this.labelToOutgoingEdges.iterator(edgeLabels);
 		default:
 			throw new UnknownEnumLiteralException(direction);
 		}
@@ -253,6 +241,13 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 	@Override
 	public Iterator<Vertex> vertices(final Direction direction, final String... edgeLabels) {
 		this.checkAccess();
+		Collection<EdgeTargetRecord> records = this.getUnmaterializedEdgeTargetRecords(direction, edgeLabels);
+		if (records != null) {
+			// none of the requested edges have been touched in this transaction; we can read the adjacent vertex ids
+			// directly from the (shared, immutable) record without materializing any edges.
+			return Iterators.transform(records.iterator(),
+					record -> this.resolveVertex(record.getOtherEndVertexId()));
+		}
 		Iterator<Edge> edges = this.edges(direction, edgeLabels);
 		return new OtherEndVertexResolvingEdgeIterator(edges);
 	}
@@ -275,6 +270,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		this.checkAccess();
 		if (propertyKeys == null || propertyKeys.length <= 0) {
 			// if no property keys are given, we have to return ALL properties
+			this.loadProperties();
 			return new PropertiesIterator<>(Sets.newHashSet(this.properties.values()).iterator());
 		}
 		if (propertyKeys.length == 1) {
@@ -326,6 +322,11 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		this.labelToIncomingEdges.clear();
 		this.labelToOutgoingEdges.clear();
 		this.properties.clear();
+		this.pagedAdjacency = null;
+		this.unloadedPropertiesRecord = null;
+		this.unloadedAdjacencyRecord = null;
+		this.unloadedIncomingEdgeLabels.clear();
+		this.unloadedOutgoingEdgeLabels.clear();
 		if (record == null) {
 			this.updateLifecycleStatus(ElementLifecycleStatus.REMOVED);
 			return;
@@ -334,49 +335,61 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		}
 		this.clearPropertyStatusCache();
 		this.label = record.getLabel();
-		for (VertexPropertyRecord pRecord : record.getProperties()) {
-			String pKey = pRecord.getKey();
-			Object pVal = pRecord.getValue();
-			String propertyId = pRecord.getId();
-			ChronoVertexProperty<?> property = new ChronoVertexProperty<>(this, propertyId, pKey, pVal, true);
-			for (Entry<String, PropertyRecord> pEntry : pRecord.getProperties().entrySet()) {
-				String metaKey = pEntry.getKey();
-				PropertyRecord metaProperty = pEntry.getValue();
-				property.property(metaKey, metaProperty.getValue());
-			}
-			this.properties.put(property.key(), property);
-		}
-		for (Entry<String, EdgeTargetRecord> entry : record.getIncomingEdgesByLabel().entries()) {
-			String label = entry.getKey();
-			EdgeTargetRecord eRecord = entry.getValue();
-			ChronoEdge edge = this.owningTransaction.loadIncomingEdgeFromEdgeTargetRecord(this, label, eRecord);
-			this.labelToIncomingEdges.put(edge.label(), edge);
-		}
-		for (Entry<String, EdgeTargetRecord> entry : record.getOutgoingEdgesByLabel().entries()) {
-			String label = entry.getKey();
-			EdgeTargetRecord eRecord = entry.getValue();
-			ChronoEdge edge = this.owningTransaction.loadOutgoingEdgeFromEdgeTargetRecord(this, label, eRecord);
-			this.labelToOutgoingEdges.put(edge.label(), edge);
+		// the properties and edges are materialized on demand, because most
+		// queries only access either the properties or the adjacency of a vertex
+		this.unloadedPropertiesRecord = record;
+		if (record instanceof PagedVertexRecord) {
+			// the edges are stored in separate pages, which are loaded on demand
+			this.pagedAdjacency = new PagedAdjacency((PagedVertexRecord) record);
+			return;
 		}
+		this.unloadedAdjacencyRecord = record;
+		this.unloadedIncomingEdgeLabels.addAll(record.getEdgeLabels(Direction.IN));
+		this.unloadedOutgoingEdgeLabels.addAll(record.getEdgeLabels(Direction.OUT));
 	}
 
 	@Override
 	public void removeProperty(final String key) {
 		this.checkAccess();
 		this.logPropertyRemove(key);
+		this.loadProperties();
 		this.properties.remove(key);
 		this.changePropertyStatus(key, PropertyStatus.REMOVED);
 		this.updateLifecycleStatus(ElementLifecycleStatus.PROPERTY_CHANGED);
 	}
 
+	/**
+	 * Creates the record which represents the current state of this vertex.
+	 *
+	 * <p>
+	 * If this vertex {@linkplain #isAdjacencyPaged() uses adjacency pages}, the record only contains the page counts,
+	 * so {@link #prepareAdjacencyPagesForCommit()} needs to be called first.
+	 *
+	 * @return The vertex record. Never <code>null</code>.
+	 */
 	public VertexRecord toRecord() {
 		this.checkAccess();
 		String id = this.id();
 		String label = this.label();
-		return new VertexRecord(
-				id, label,
-				this.labelToIncomingEdges, this.labelToOutgoingEdges,
-				this.properties);
+		this.loadProperties();
+		if (this.pagedAdjacency != null) {
+			return new PagedVertexRecord(id, label, this.properties, this.pagedAdjacency.getPageSize(),
+					this.pagedAdjacency.getPageCounts(Direction.IN), this.pagedAdjacency.getPageCounts(Direction.OUT));
+		}
+		this.loadAdjacency(Direction.BOTH);
+		SetMultimap<String, EdgeTargetRecord> inE = HashMultimap.create();
+		for (String edgeLabel : this.labelToIncomingEdges.labels()) {
+			inE.putAll(edgeLabel, this.getEdgeTargetRecords(Direction.IN, edgeLabel));
+		}
+		SetMultimap<String, EdgeTargetRecord> outE = HashMultimap.create();
+		for (String edgeLabel : this.labelToOutgoingEdges.labels()) {
+			outE.putAll(edgeLabel, this.getEdgeTargetRecords(Direction.OUT, edgeLabel));
+		}
+		Set<VertexPropertyRecord> propertyRecords = Sets.newHashSet();
+		for (ChronoVertexProperty<?> property : this.properties.values()) {
+			propertyRecords.add(property.toRecord());
+		}
+		return new VertexRecord(id, label, inE, outE, propertyRecords);
 	}
 
 	@Override
@@ -395,6 +408,8 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		boolean changed = false;
 		if (chronoEdge.inVertex().equals(this)) {
 			// incoming edge
+			this.loadAdjacency(Direction.IN, chronoEdge.label());
+			this.markAdjacencyDirty(Direction.IN, chronoEdge.label());
 			// remove whatever edge representation has been there with this edge-id
 			boolean removed = this.labelToIncomingEdges.remove(chronoEdge.label(), chronoEdge);
 			if (removed == false) {
@@ -405,6 +420,8 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		// note: this vertex can be in AND out vertex (self-edge!)
 		if (chronoEdge.outVertex().equals(this)) {
 			// outgoing edge
+			this.loadAdjacency(Direction.OUT, chronoEdge.label());
+			this.markAdjacencyDirty(Direction.OUT, chronoEdge.label());
 			// remove whatever edge representation has been there with this edge-id
 			boolean removed = this.labelToOutgoingEdges.remove(chronoEdge.label(), chronoEdge);
 			if (removed == false) {
@@ -417,11 +434,80 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		}
 	}
 
+	/**
+	 * Checks if this vertex stores its edges in separate adjacency pages.
+	 *
+	 * @return <code>true</code> if this vertex uses adjacency pages, or <code>false</code> if the edges are stored in
+	 *         the vertex record.
+	 */
+	public boolean isAdjacencyPaged() {
+		return this.pagedAdjacency != null;
+	}
+
+	/**
+	 * Calculates the adjacency pages which need to be written in order to persist the edge changes of this vertex.
+	 *
+	 * @return The mapping from page key (in the {@linkplain ChronoGraphConstants#KEYSPACE_ADJACENCY adjacency
+	 *         keyspace}) to the new page contents. A value of <code>null</code> indicates that the page needs to be
+	 *         removed. Never <code>null</code>, may be empty.
+	 */
+	public Map<String, AdjacencyPageRecord> prepareAdjacencyPagesForCommit() {
+		this.checkAccess();
+		if (this.pagedAdjacency == null) {
+			return Collections.emptyMap();
+		}
+		return this.pagedAdjacency.preparePagesForCommit(this::getEdgeTargetRecords, this::readAdjacencyPage);
+	}
+
+	/**
+	 * Returns the keys of all persisted adjacency pages of this vertex.
+	 *
+	 * @return The keys in the {@linkplain ChronoGraphConstants#KEYSPACE_ADJACENCY adjacency keyspace}. Never
+	 *         <code>null</code>, may be empty.
+	 */
+	public Set<String> getAdjacencyPageKeys() {
+		if (this.pagedAdjacency == null) {
+			return Collections.emptySet();
+		}
+		return this.pagedAdjacency.getPageKeys();
+	}
+
+	/**
+	 * Checks if this vertex has been created lazily and its record has not been loaded yet.
+	 *
+	 * @return <code>true</code> if the record of this vertex still needs to be loaded, otherwise <code>false</code>.
+	 */
+	public boolean isLazyLoadPending() {
+		return this.isFullyLoaded() == false;
+	}
+
+	/**
+	 * Completes the lazy loading of this vertex with the given record, which has been fetched in a batch.
+	 *
+	 * <p>
+	 * If this vertex has already been loaded, this method has no effect.
+	 *
+	 * @param record
+	 *            The record of this vertex. Must not be <code>null</code>.
+	 */
+	public void loadPrefetchedRecord(final VertexRecord record) {
+		checkNotNull(record, "Precondition violation - argument 'record' must not be NULL!");
+		checkArgument(record.getId().equals(this.id()),
+				"Precondition violation - argument 'record' belongs to a different vertex!");
+		if (this.isFullyLoaded()) {
+			return;
+		}
+		this.completeLazyLoad(() -> this.loadFromRecord(record));
+	}
+
 	@Override
 	protected void reloadFromDatabase() {
 		String id = this.id();
-		ChronoGraphTransaction tx = this.getOwningTransaction();
-		VertexRecord vRecord = tx.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_VERTEX, id.toString());
+		VertexRecord vRecord = this.owningTransaction.loadVertexRecord(id);
+		this.loadFromRecord(vRecord);
+	}
+
+	private void loadFromRecord(final VertexRecord vRecord) {
 		this.withoutModificationCheck(() -> {
 			this.loadRecordContents(vRecord);
 		});
@@ -429,6 +515,201 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		this.getTransactionContext().registerLoadedVertex(this);
 	}
 
+	private void loadProperties() {
+		VertexRecord record = this.unloadedPropertiesRecord;
+		if (record == null) {
+			// properties have been materialized already
+			return;
+		}
+		this.unloadedPropertiesRecord = null;
+		for (VertexPropertyRecord pRecord : record.getProperties()) {
+			if (this.properties.containsKey(pRecord.getKey())) {
+				// this property has been materialized individually before
+				continue;
+			}
+			this.materializeProperty(pRecord);
+		}
+	}
+
+	private void loadProperty(final String propertyKey) {
+		VertexRecord record = this.unloadedPropertiesRecord;
+		if (record == null || this.properties.containsKey(propertyKey)) {
+			// property has been materialized already
+			return;
+		}
+		// only materialize the requested property; the others remain in the (shared, immutable) record
+		// until they are needed, or until the first modification of this vertex calls loadProperties().
+		VertexPropertyRecord pRecord = record.getProperty(propertyKey);
+		if (pRecord != null) {
+			this.materializeProperty(pRecord);
+		}
+	}
+
+	private void materializeProperty(final VertexPropertyRecord pRecord) {
+		this.withoutModificationCheck(() -> {
+			String pKey = pRecord.getKey();
+			Object pVal = pRecord.getValue();
+			String propertyId = pRecord.getId();
+			ChronoVertexProperty<?> property = new ChronoVertexProperty<>(this, propertyId, pKey, pVal, true);
+			for (Entry<String, PropertyRecord> pEntry : pRecord.getProperties().entrySet()) {
+				String metaKey = pEntry.getKey();
+				PropertyRecord metaProperty = pEntry.getValue();
+				property.property(metaKey, metaProperty.getValue());
+			}
+			this.properties.put(property.key(), property);
+		});
+	}
+
+	private void loadAdjacency(final Direction direction, final String... edgeLabels) {
+		if (this.pagedAdjacency == null && this.unloadedAdjacencyRecord == null) {
+			// all edges have been materialized already
+			return;
+		}
+		if (direction == Direction.BOTH) {
+			this.loadAdjacency(Direction.IN, edgeLabels);
+			this.loadAdjacency(Direction.OUT, edgeLabels);
+			return;
+		}
+		Set<String> unloadedLabels = direction == Direction.IN ? this.unloadedIncomingEdgeLabels
+				: this.unloadedOutgoingEdgeLabels;
+		Collection<String> labels;
+		if (edgeLabels != null && edgeLabels.length > 0) {
+			labels = Arrays.asList(edgeLabels);
+		} else if (this.pagedAdjacency != null) {
+			labels = this.pagedAdjacency.getLabels(direction);
+		} else {
+			labels = Lists.newArrayList(unloadedLabels);
+		}
+		for (String label : labels) {
+			Set<EdgeTargetRecord> records;
+			if (this.pagedAdjacency != null) {
+				if (this.pagedAdjacency.isLoaded(direction, label)) {
+					continue;
+				}
+				records = this.pagedAdjacency.load(direction, label, this::readAdjacencyPage);
+			} else {
+				if (unloadedLabels.remove(label) == false) {
+					continue;
+				}
+				records = this.unloadedAdjacencyRecord.getEdges(direction, label);
+			}
+			for (EdgeTargetRecord eRecord : records) {
+				switch (direction) {
+				case IN:
+					ChronoEdge inEdge = this.owningTransaction.loadIncomingEdgeFromEdgeTargetRecord(this, label,
+							eRecord);
+					this.labelToIncomingEdges.put(label, inEdge);
+					break;
+				case OUT:
+					ChronoEdge outEdge = this.owningTransaction.loadOutgoingEdgeFromEdgeTargetRecord(this, label,
+							eRecord);
+					this.labelToOutgoingEdges.put(label, outEdge);
+					break;
+				default:
+					throw new UnknownEnumLiteralException(direction);
+				}
+			}
+		}
+		if (this.unloadedIncomingEdgeLabels.isEmpty() && this.unloadedOutgoingEdgeLabels.isEmpty()) {
+			this.unloadedAdjacencyRecord = null;
+		}
+	}
+
+	private void markAdjacencyDirty(final Direction direction, final String label) {
+		if (this.pagedAdjacency != null) {
+			this.pagedAdjacency.markDirty(direction, label);
+		}
+	}
+
+	private AdjacencyPageRecord readAdjacencyPage(final String key) {
+		ChronoDBTransaction tx = this.getOwningTransaction().getBackingDBTransaction();
+		return tx.get(ChronoGraphConstants.KEYSPACE_ADJACENCY, key);
+	}
+
+	/**
+	 * Returns the edge target records of the given direction and labels, provided that none of these edges have been
+	 * materialized yet.
+	 *
+	 * <p>
+	 * An edge label is materialized as soon as an edge with this label is accessed, added or removed on this vertex.
+	 * Unmaterialized labels are therefore guaranteed to be unchanged with respect to the vertex record.
+	 *
+	 * @param direction
+	 *            The direction of the edges. Must not be <code>null</code>.
+	 * @param edgeLabels
+	 *            The labels of the edges. If empty, all labels will be considered.
+	 *
+	 * @return The edge target records, or <code>null</code> if at least one of the requested labels has been
+	 *         materialized already (or the direction is {@link Direction#BOTH}).
+	 */
+	private Collection<EdgeTargetRecord> getUnmaterializedEdgeTargetRecords(final Direction direction,
+			final String... edgeLabels) {
+		VertexRecord record = this.unloadedAdjacencyRecord;
+		if (record == null || direction == Direction.BOTH) {
+			// note: for BOTH, self-edges need to be de-duplicated, which requires the edges anyway
+			return null;
+		}
+		Set<String> unloadedLabels = direction == Direction.IN ? this.unloadedIncomingEdgeLabels
+				: this.unloadedOutgoingEdgeLabels;
+		LabeledEdgeLists materializedEdges = direction == Direction.IN ? this.labelToIncomingEdges
+				: this.labelToOutgoingEdges;
+		Collection<String> labels;
+		if (edgeLabels != null && edgeLabels.length > 0) {
+			labels = Arrays.asList(edgeLabels);
+		} else if (materializedEdges.isEmpty() && unloadedLabels.size() == record.getEdgeLabels(direction).size()) {
+			labels = Lists.newArrayList(unloadedLabels);
+		} else {
+			return null;
+		}
+		Set<String> recordLabels = record.getEdgeLabels(direction);
+		for (String label : labels) {
+			if (materializedEdges.containsKey(label)) {
+				return null;
+			}
+			if (unloadedLabels.contains(label) == false && recordLabels.contains(label)) {
+				// the edges have been materialized and removed afterwards
+				return null;
+			}
+		}
+		if (labels.size() == 1) {
+			// special common case: avoid copying the edge records
+			return record.getEdges(direction, labels.iterator().next());
+		}
+		List<EdgeTargetRecord> records = Lists.newArrayList();
+		for (String label : Sets.newHashSet(labels)) {
+			records.addAll(record.getEdges(direction, label));
+		}
+		return records;
+	}
+
+	private Set<EdgeTargetRecord> getEdgeTargetRecords(final Direction direction, final String label) {
+		Set<EdgeTargetRecord> records = Sets.newHashSet();
+		switch (direction) {
+		case IN:
+			Iterator<ChronoEdge> inEdges = this.labelToIncomingEdges.iterator(label);
+			while (inEdges.hasNext()) {
+				ChronoEdgeImpl edge = ChronoProxyUtil.resolveEdgeProxy(inEdges.next());
+				records.add(new EdgeTargetRecord(edge.id(), edge.getOutVertexId()));
+			}
+			break;
+		case OUT:
+			Iterator<ChronoEdge> outEdges = this.labelToOutgoingEdges.iterator(label);
+			while (outEdges.hasNext()) {
+				ChronoEdgeImpl edge = ChronoProxyUtil.resolveEdgeProxy(outEdges.next());
+				records.add(new EdgeTargetRecord(edge.id(), edge.getInVertexId()));
+			}
+			break;
+		default:
+			throw new UnknownEnumLiteralException(direction);
+		}
+		return records;
+	}
+
+	private boolean isSelfEdge(final ChronoEdge incomingEdge) {
+		// note: we compare the ids in order to avoid resolving the adjacent vertex
+		return ChronoProxyUtil.resolveEdgeProxy(incomingEdge).getOutVertexId().equals(this.id());
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	private <V> VertexProperty<V> getSingleProperty(final String propertyKey) {
 		PredefinedVertexProperty<V> predefinedProperty = ChronoGraphElementUtil.asPredefinedVertexProperty(this,
@@ -436,6 +717,7 @@ public class ChronoVertexImpl extends AbstractChronoElement implements Vertex, C
 		if (predefinedProperty != null) {
 			return predefinedProperty;
 		}
+		this.loadProperty(propertyKey);
 		return (VertexProperty<V>) this.properties.get(propertyKey);
 	}
 
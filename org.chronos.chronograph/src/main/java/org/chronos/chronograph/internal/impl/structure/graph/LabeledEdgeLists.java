@@ -0,0 +1,261 @@
+package org.chronos.chronograph.internal.impl.structure.graph;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.chronos.chronograph.api.structure.ChronoEdge;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * The materialized edges of a {@link ChronoVertexImpl} in one direction, grouped by edge label.
+ *
+ * <p>
+ * Each label is mapped to a compact, array-backed list of edges. Iterating over the edges does not copy them; instead,
+ * {@link #iterator(String...)} returns a <i>snapshot</i> of the lists at the time of the call. Modifications which
+ * occur while a snapshot is being iterated do not affect the snapshot, and never cause a
+ * {@link java.util.ConcurrentModificationException}, as required by the Gremlin specification:
+ * <ul>
+ * <li>New edges are appended behind the end of the snapshot, which does not affect it.
+ * <li>Removing an edge from a list which is referenced by a snapshot copies the list first (copy-on-write). Subsequent
+ * removals operate on the copy until the next snapshot is taken.
+ * </ul>
+ *
+ * <p>
+ * The lists have set semantics, but the caller is responsible for not adding an edge twice. The order of the edges in
+ * a list is undefined.
+ *
+ * <p>
+ * Instances of this class are not thread-safe, just like the vertex which owns them.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+class LabeledEdgeLists {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	/** Mapping from edge label to the (non-empty) list of edges with this label. */
+	private final Map<String, EdgeList> labelToEdges = Maps.newHashMap();
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	public void put(final String label, final ChronoEdge edge) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
+		this.labelToEdges.computeIfAbsent(label, l -> new EdgeList()).add(edge);
+	}
+
+	public boolean remove(final String label, final ChronoEdge edge) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
+		EdgeList list = this.labelToEdges.get(label);
+		if (list == null || list.remove(edge) == false) {
+			return false;
+		}
+		if (list.size == 0) {
+			this.labelToEdges.remove(label);
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if there is at least one edge with the given label.
+	 *
+	 * @param label
+	 *            The label to check. Must not be <code>null</code>.
+	 *
+	 * @return <code>true</code> if there is at least one edge with the given label, otherwise <code>false</code>.
+	 */
+	public boolean containsKey(final String label) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		return this.labelToEdges.containsKey(label);
+	}
+
+	public boolean isEmpty() {
+		return this.labelToEdges.isEmpty();
+	}
+
+	public Set<String> labels() {
+		return Collections.unmodifiableSet(this.labelToEdges.keySet());
+	}
+
+	public void clear() {
+		this.labelToEdges.clear();
+	}
+
+	/**
+	 * Returns a snapshot iterator over the edges with the given labels.
+	 *
+	 * @param labels
+	 *            The labels of the edges to iterate over. If empty, the edges of all labels are returned. Duplicate
+	 *            labels are ignored.
+	 *
+	 * @return The snapshot iterator. Never <code>null</code>, may be empty.
+	 */
+	public Iterator<ChronoEdge> iterator(final String... labels) {
+		if (labels == null || labels.length <= 0) {
+			if (this.labelToEdges.size() == 1) {
+				// special common case: only one label, no need to concatenate anything
+				return this.labelToEdges.values().iterator().next().snapshot();
+			}
+			return this.concat(this.labelToEdges.values());
+		}
+		if (labels.length == 1) {
+			EdgeList list = this.labelToEdges.get(labels[0]);
+			return list == null ? Collections.emptyIterator() : list.snapshot();
+		}
+		List<EdgeList> lists = Lists.newArrayListWithCapacity(labels.length);
+		for (int i = 0; i < labels.length; i++) {
+			EdgeList list = this.labelToEdges.get(labels[i]);
+			if (list != null && isDuplicateLabel(labels, i) == false) {
+				lists.add(list);
+			}
+		}
+		return this.concat(lists);
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private Iterator<ChronoEdge> concat(final Iterable<EdgeList> lists) {
+		// note: all snapshots have to be taken right now, not when the iterator reaches the list
+		List<Iterator<ChronoEdge>> snapshots = Lists.newArrayList();
+		for (EdgeList list : lists) {
+			snapshots.add(list.snapshot());
+		}
+		return Iterators.concat(snapshots.iterator());
+	}
+
+	private static boolean isDuplicateLabel(final String[] labels, final int index) {
+		// note: the number of labels in a query is usually tiny, so this is faster than building a set
+		for (int i = 0; i < index; i++) {
+			if (labels[i].equals(labels[index])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static class EdgeList {
+
+		/** The list size at which the positions of the edges are indexed to speed up removals. */
+		private static final int POSITION_INDEX_THRESHOLD = 32;
+
+		private ChronoEdge[] edges = new ChronoEdge[4];
+		private int size = 0;
+		/** Determines if the current {@link #edges} array is referenced by a snapshot. */
+		private boolean shared = false;
+		/** Mapping from edge to its index in {@link #edges}. Only created for large lists on the first removal. */
+		private Map<ChronoEdge, Integer> positions = null;
+
+		private void add(final ChronoEdge edge) {
+			if (this.size == this.edges.length) {
+				this.edges = Arrays.copyOf(this.edges, this.size * 2);
+				this.shared = false;
+			}
+			// note: even if this array is shared, appending does not affect the snapshots, because
+			// they only see the elements which have existed at the time of their creation.
+			this.edges[this.size] = edge;
+			if (this.positions != null) {
+				this.positions.put(edge, this.size);
+			}
+			this.size++;
+		}
+
+		private boolean remove(final ChronoEdge edge) {
+			int index = this.indexOf(edge);
+			if (index < 0) {
+				return false;
+			}
+			if (this.shared) {
+				// copy-on-write; the snapshots keep the old array
+				this.edges = Arrays.copyOf(this.edges, this.edges.length);
+				this.shared = false;
+			}
+			// move the last edge into the gap
+			int lastIndex = this.size - 1;
+			ChronoEdge lastEdge = this.edges[lastIndex];
+			this.edges[index] = lastEdge;
+			this.edges[lastIndex] = null;
+			this.size--;
+			if (this.positions != null) {
+				this.positions.remove(edge);
+				if (index != lastIndex) {
+					this.positions.put(lastEdge, index);
+				}
+			}
+			return true;
+		}
+
+		private int indexOf(final ChronoEdge edge) {
+			if (this.positions == null && this.size > POSITION_INDEX_THRESHOLD) {
+				this.positions = Maps.newHashMapWithExpectedSize(this.size);
+				for (int i = 0; i < this.size; i++) {
+					this.positions.put(this.edges[i], i);
+				}
+			}
+			if (this.positions != null) {
+				Integer index = this.positions.get(edge);
+				return index == null ? -1 : index;
+			}
+			for (int i = 0; i < this.size; i++) {
+				if (this.edges[i].equals(edge)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		private Iterator<ChronoEdge> snapshot() {
+			this.shared = true;
+			return new SnapshotIterator(this.edges, this.size);
+		}
+
+	}
+
+	private static class SnapshotIterator implements Iterator<ChronoEdge> {
+
+		private final ChronoEdge[] edges;
+		private final int size;
+		private int position = 0;
+
+		private SnapshotIterator(final ChronoEdge[] edges, final int size) {
+			this.edges = edges;
+			this.size = size;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.position < this.size;
+		}
+
+		@Override
+		public ChronoEdge next() {
+			if (this.hasNext() == false) {
+				throw new NoSuchElementException();
+			}
+			return this.edges[this.position++];
+		}
+
+	}
+
+}
@@ -0,0 +1,378 @@
+package org.chronos.chronograph.internal.impl.structure.graph;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.chronos.chronograph.internal.impl.structure.record.AdjacencyPageRecord;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PagedVertexRecord;
+
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.collect.Table;
+import com.google.common.collect.Table.Cell;
+
+/**
+ * Keeps track of the adjacency pages of a single {@link ChronoVertexImpl} which uses the paged storage layout.
+ *
+ * <p>
+ * The adjacency of the vertex is divided into <i>adjacency lists</i>, one per direction and edge label. Each list
+ * consists of a number of {@link AdjacencyPageRecord}s. The pages of a list are only loaded when they are requested
+ * via {@link #load(Direction, String, Function)}. Lists which have been modified in the current transaction are
+ * marked as {@linkplain #markDirty(Direction, String) dirty}; only the pages of dirty lists which actually changed are
+ * written on commit.
+ *
+ * <p>
+ * New edges are always appended to the last page of a list until it is full. Pages never remain empty: an empty page at
+ * the end of a list is removed, and an empty page in the middle of a list receives the contents of the last page.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class PagedAdjacency {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final String vertexId;
+	private final int pageSize;
+	private final Table<Direction, String, AdjacencyList> adjacencyLists = HashBasedTable.create();
+
+	// =================================================================================================================
+	// CONSTRUCTORS
+	// =================================================================================================================
+
+	public PagedAdjacency(final String vertexId, final int pageSize) {
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		checkArgument(pageSize > 0, "Precondition violation - argument 'pageSize' must be greater than zero!");
+		this.vertexId = vertexId;
+		this.pageSize = pageSize;
+	}
+
+	public PagedAdjacency(final PagedVertexRecord record) {
+		this(record.getId(), record.getPageSize());
+		for (Direction direction : new Direction[] { Direction.IN, Direction.OUT }) {
+			for (Entry<String, Integer> entry : record.getEdgePageCounts(direction).entrySet()) {
+				this.adjacencyLists.put(direction, entry.getKey(), new AdjacencyList(entry.getValue()));
+			}
+		}
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	/**
+	 * Returns the labels of the persisted adjacency lists in the given direction.
+	 *
+	 * @param direction
+	 *            The direction to get the labels for. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 *
+	 * @return The set of labels. Never <code>null</code>, may be empty.
+	 */
+	public Set<String> getLabels(final Direction direction) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		Set<String> labels = Sets.newHashSet();
+		for (Entry<String, AdjacencyList> entry : this.adjacencyLists.row(direction).entrySet()) {
+			if (entry.getValue().pageCount > 0) {
+				labels.add(entry.getKey());
+			}
+		}
+		return labels;
+	}
+
+	/**
+	 * Checks if all persisted pages of the given adjacency list have been loaded.
+	 *
+	 * @param direction
+	 *            The direction of the adjacency list. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 * @param label
+	 *            The label of the adjacency list. Must not be <code>null</code>.
+	 *
+	 * @return <code>true</code> if the list has been loaded (or has no persisted pages), otherwise <code>false</code>.
+	 */
+	public boolean isLoaded(final Direction direction, final String label) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		AdjacencyList list = this.adjacencyLists.get(direction, label);
+		return list == null || list.isLoaded();
+	}
+
+	/**
+	 * Loads all persisted pages of the given adjacency list.
+	 *
+	 * @param direction
+	 *            The direction of the adjacency list. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 * @param label
+	 *            The label of the adjacency list. Must not be <code>null</code>.
+	 * @param pageReader
+	 *            The function which reads a page from the store, given its key. Must not be <code>null</code>. May
+	 *            return <code>null</code> if there is no page with the given key.
+	 *
+	 * @return The edges contained in the pages. Never <code>null</code>, may be empty.
+	 */
+	public Set<EdgeTargetRecord> load(final Direction direction, final String label,
+			final Function<String, AdjacencyPageRecord> pageReader) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		checkNotNull(pageReader, "Precondition violation - argument 'pageReader' must not be NULL!");
+		AdjacencyList list = this.adjacencyLists.get(direction, label);
+		if (list == null) {
+			return Collections.emptySet();
+		}
+		if (list.isLoaded() == false) {
+			list.pages = Lists.newArrayList();
+			for (int pageIndex = 0; pageIndex < list.pageCount; pageIndex++) {
+				list.pages.add(this.readPage(direction, label, pageIndex, pageReader));
+			}
+		}
+		Set<EdgeTargetRecord> edges = Sets.newHashSet();
+		for (Set<EdgeTargetRecord> page : list.pages) {
+			edges.addAll(page);
+		}
+		return edges;
+	}
+
+	/**
+	 * Marks the given adjacency list as modified in the current transaction.
+	 *
+	 * @param direction
+	 *            The direction of the adjacency list. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 * @param label
+	 *            The label of the adjacency list. Must not be <code>null</code>.
+	 */
+	public void markDirty(final Direction direction, final String label) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		AdjacencyList list = this.adjacencyLists.get(direction, label);
+		if (list == null) {
+			// this is the first edge with this direction and label
+			list = new AdjacencyList(0);
+			this.adjacencyLists.put(direction, label, list);
+		}
+		list.dirty = true;
+	}
+
+	/**
+	 * Returns the number of pages per label in the given direction.
+	 *
+	 * @param direction
+	 *            The direction to get the page counts for. Must be either {@link Direction#IN} or
+	 *            {@link Direction#OUT}.
+	 *
+	 * @return The mapping from edge label to page count. Labels without pages are not contained. Never
+	 *         <code>null</code>.
+	 */
+	public Map<String, Integer> getPageCounts(final Direction direction) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		Map<String, Integer> pageCounts = Maps.newHashMap();
+		for (Entry<String, AdjacencyList> entry : this.adjacencyLists.row(direction).entrySet()) {
+			if (entry.getValue().pageCount > 0) {
+				pageCounts.put(entry.getKey(), entry.getValue().pageCount);
+			}
+		}
+		return pageCounts;
+	}
+
+	/**
+	 * Returns the keys of all persisted adjacency pages.
+	 *
+	 * @return The set of page keys. Never <code>null</code>, may be empty.
+	 */
+	public Set<String> getPageKeys() {
+		Set<String> keys = Sets.newHashSet();
+		for (Cell<Direction, String, AdjacencyList> cell : this.adjacencyLists.cellSet()) {
+			for (int pageIndex = 0; pageIndex < cell.getValue().pageCount; pageIndex++) {
+				keys.add(AdjacencyPageRecord.createKey(this.vertexId, cell.getRowKey(), cell.getColumnKey(),
+						pageIndex));
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Calculates the pages which need to be written in order to persist the dirty adjacency lists.
+	 *
+	 * <p>
+	 * After calling this method, the state of this object reflects the calculated pages, and no list is dirty anymore.
+	 *
+	 * @param edgeProvider
+	 *            The function which returns the current edges of the vertex for a given direction and label. Must not
+	 *            be <code>null</code>. For lists which have not been {@linkplain #load(Direction, String, Function)
+	 *            loaded}, the function only needs to return the edges which have been added in the transaction.
+	 * @param pageReader
+	 *            The function which reads a page from the store, given its key. Must not be <code>null</code>. May
+	 *            return <code>null</code> if there is no page with the given key.
+	 *
+	 * @return The mapping from page key to the new page contents. A value of <code>null</code> indicates that the
+	 *         page needs to be removed. Never <code>null</code>, may be empty.
+	 */
+	public Map<String, AdjacencyPageRecord> preparePagesForCommit(
+			final BiFunction<Direction, String, Set<EdgeTargetRecord>> edgeProvider,
+			final Function<String, AdjacencyPageRecord> pageReader) {
+		checkNotNull(edgeProvider, "Precondition violation - argument 'edgeProvider' must not be NULL!");
+		checkNotNull(pageReader, "Precondition violation - argument 'pageReader' must not be NULL!");
+		Map<String, AdjacencyPageRecord> result = Maps.newHashMap();
+		for (Cell<Direction, String, AdjacencyList> cell : this.adjacencyLists.cellSet()) {
+			AdjacencyList list = cell.getValue();
+			if (list.dirty == false) {
+				continue;
+			}
+			Direction direction = cell.getRowKey();
+			String label = cell.getColumnKey();
+			Set<EdgeTargetRecord> currentEdges = edgeProvider.apply(direction, label);
+			Map<Integer, Set<EdgeTargetRecord>> changedPages = this.updatePages(direction, label, list, currentEdges,
+					pageReader);
+			for (Entry<Integer, Set<EdgeTargetRecord>> entry : changedPages.entrySet()) {
+				String key = AdjacencyPageRecord.createKey(this.vertexId, direction, label, entry.getKey());
+				if (entry.getKey() >= list.pageCount) {
+					// the page has been trimmed from the end of the list
+					result.put(key, null);
+				} else {
+					result.put(key, new AdjacencyPageRecord(entry.getValue()));
+				}
+			}
+			list.dirty = false;
+		}
+		return result;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private Map<Integer, Set<EdgeTargetRecord>> updatePages(final Direction direction, final String label,
+			final AdjacencyList list, final Set<EdgeTargetRecord> currentEdges,
+			final Function<String, AdjacencyPageRecord> pageReader) {
+		Map<Integer, Set<EdgeTargetRecord>> changedPages = Maps.newTreeMap();
+		Set<EdgeTargetRecord> addedEdges = Sets.newLinkedHashSet(currentEdges);
+		if (list.isLoaded()) {
+			// remove the edges which no longer exist from their pages
+			for (int pageIndex = 0; pageIndex < list.pageCount; pageIndex++) {
+				Set<EdgeTargetRecord> page = list.pages.get(pageIndex);
+				addedEdges.removeAll(page);
+				if (currentEdges.containsAll(page) == false) {
+					Set<EdgeTargetRecord> newPage = Sets.newHashSet(page);
+					newPage.retainAll(currentEdges);
+					list.pages.set(pageIndex, newPage);
+					changedPages.put(pageIndex, newPage);
+				}
+			}
+		}
+		// note: if the list is not loaded, edges can only have been added to it (removing an edge loads the list)
+		if (addedEdges.isEmpty() == false) {
+			int lastPageIndex = list.pageCount - 1;
+			Set<EdgeTargetRecord> lastPage = null;
+			if (lastPageIndex >= 0) {
+				if (list.isLoaded()) {
+					lastPage = list.pages.get(lastPageIndex);
+				} else {
+					lastPage = this.readPage(direction, label, lastPageIndex, pageReader);
+				}
+				lastPage = Sets.newHashSet(lastPage);
+			}
+			Iterator<EdgeTargetRecord> iterator = addedEdges.iterator();
+			while (iterator.hasNext()) {
+				if (lastPage == null || lastPage.size() >= this.pageSize) {
+					// start a new page
+					lastPageIndex++;
+					lastPage = Sets.newHashSet();
+				}
+				lastPage.add(iterator.next());
+				changedPages.put(lastPageIndex, lastPage);
+				if (list.isLoaded()) {
+					if (lastPageIndex < list.pages.size()) {
+						list.pages.set(lastPageIndex, lastPage);
+					} else {
+						list.pages.add(lastPage);
+					}
+				}
+			}
+			list.pageCount = Math.max(list.pageCount, lastPageIndex + 1);
+		}
+		if (list.isLoaded()) {
+			// move the last page into empty pages in the middle of the list (edges can only be removed from loaded
+			// lists). The order of the pages is irrelevant, and only two pages need to be written per empty page.
+			int pageIndex = 0;
+			while (pageIndex < list.pageCount - 1) {
+				if (list.pages.get(pageIndex).isEmpty() == false) {
+					pageIndex++;
+					continue;
+				}
+				int lastPageIndex = list.pageCount - 1;
+				Set<EdgeTargetRecord> lastPage = list.pages.remove(lastPageIndex);
+				list.pages.set(pageIndex, lastPage);
+				changedPages.put(pageIndex, lastPage);
+				// the former last page is removed on commit
+				changedPages.put(lastPageIndex, Collections.emptySet());
+				list.pageCount--;
+			}
+		}
+		// trim empty pages from the end of the list
+		while (list.pageCount > 0) {
+			Set<EdgeTargetRecord> lastPage = changedPages.get(list.pageCount - 1);
+			if (lastPage == null || lastPage.isEmpty() == false) {
+				break;
+			}
+			list.pageCount--;
+			if (list.isLoaded()) {
+				list.pages.remove(list.pageCount);
+			}
+		}
+		return changedPages;
+	}
+
+	private Set<EdgeTargetRecord> readPage(final Direction direction, final String label, final int pageIndex,
+			final Function<String, AdjacencyPageRecord> pageReader) {
+		String key = AdjacencyPageRecord.createKey(this.vertexId, direction, label, pageIndex);
+		AdjacencyPageRecord page = pageReader.apply(key);
+		if (page == null) {
+			return Collections.emptySet();
+		}
+		return page.getEdges();
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static class AdjacencyList {
+
+		/** The number of persisted pages. */
+		private int pageCount;
+		/** The contents of the pages, or <code>null</code> if the pages have not been loaded yet. */
+		private List<Set<EdgeTargetRecord>> pages;
+		/** Determines if this list has been modified in the current transaction. */
+		private boolean dirty;
+
+		private AdjacencyList(final int pageCount) {
+			this.pageCount = pageCount;
+			if (pageCount <= 0) {
+				// there is nothing to load
+				this.pages = Lists.newArrayList();
+			}
+		}
+
+		private boolean isLoaded() {
+			return this.pages != null;
+		}
+
+	}
+
+}
@@ -7,8 +7,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 import org.apache.commons.configuration.Configuration;
 import org.apache.commons.lang3.tuple.Pair;
@@ -21,11 +23,13 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.chronos.chronodb.api.ChronoDB;
 import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronodb.api.DumpOption;
+import org.chronos.chronodb.api.IndexManager;
 import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.internal.impl.dump.DumpOptions;
 import org.chronos.chronograph.api.branch.ChronoGraphBranchManager;
 import org.chronos.chronograph.api.builder.query.GraphQueryBuilderStarter;
 import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
+import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager;
 import org.chronos.chronograph.internal.ChronoGraphConstants;
 import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
@@ -35,9 +39,17 @@ import org.chronos.chronograph.internal.impl.builder.query.GraphQueryBuilderStar
 import org.chronos.chronograph.internal.impl.configuration.ChronoGraphConfigurationImpl;
 import org.chronos.chronograph.internal.impl.dumpformat.GraphDumpFormat;
 import org.chronos.chronograph.internal.impl.index.ChronoGraphIndexManagerImpl;
+import org.chronos.chronograph.internal.impl.index.EdgeRecordLabelIndexer2;
+import org.chronos.chronograph.internal.impl.index.VertexRecordLabelIndexer2;
+import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoGraphCountStepStrategy;
+import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoGraphOrderStepStrategy;
+import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoGraphRangeStepStrategy;
 import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoGraphStepStrategy;
+import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoHasStepStrategy;
+import org.chronos.chronograph.internal.impl.optimizer.strategy.ChronoVertexStepStrategy;
 import org.chronos.chronograph.internal.impl.structure.graph.features.ChronoGraphFeatures;
 import org.chronos.chronograph.internal.impl.transaction.ChronoGraphTransactionManagerImpl;
+import org.chronos.chronograph.internal.impl.transaction.temporal.IncrementalTemporalEvaluation;
 import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph;
 import org.chronos.common.autolock.AutoLock;
 import org.chronos.common.configuration.ChronosConfigurationUtil;
@@ -49,6 +61,11 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 	static {
 		TraversalStrategies graphStrategies = TraversalStrategies.GlobalCache.getStrategies(Graph.class).clone();
 		graphStrategies.addStrategies(ChronoGraphStepStrategy.getInstance());
+		graphStrategies.addStrategies(ChronoGraphCountStepStrategy.getInstance());
+		graphStrategies.addStrategies(ChronoGraphRangeStepStrategy.getInstance());
+		graphStrategies.addStrategies(ChronoGraphOrderStepStrategy.getInstance());
+		graphStrategies.addStrategies(ChronoHasStepStrategy.getInstance());
+		graphStrategies.addStrategies(ChronoVertexStepStrategy.getInstance());
 		// TODO PERFORMANCE GRAPH: Titan has a couple more optimizations. See next line.
 		// Take a look at: AdjacentVertexFilterOptimizerStrategy, TitanLocalQueryOptimizerStrategy
 
@@ -74,8 +91,8 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 	private final ChronoGraphFeatures features;
 	private final ChronoGraphVariables variables;
 
-	private final Lock commitLock = new ReentrantLock(true);
-	private final ThreadLocal<AutoLock> commitLockHolder = new ThreadLocal<>();
+	private final Map<String, Lock> branchNameToCommitLock = Maps.newConcurrentMap();
+	private final ThreadLocal<Map<String, AutoLock>> commitLockHolders = ThreadLocal.withInitial(Maps::newHashMap);
 
 	public StandardChronoGraph(final ChronoDB database, final Configuration configuration) {
 		checkNotNull(database, "Precondition violation - argument 'database' must not be NULL!");
@@ -89,6 +106,7 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		this.branchNameToIndexManager = Maps.newHashMap();
 		this.features = new ChronoGraphFeatures(this);
 		this.variables = new ChronoGraphVariables(this);
+		this.setUpLabelIndicesIfNecessary();
 	}
 
 	// =================================================================================================================
@@ -197,6 +215,22 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		}
 	}
 
+	private void setUpLabelIndicesIfNecessary() {
+		// the labels of vertices and edges are always indexed, such that 'hasLabel(...)' does not require a full scan
+		IndexManager indexManager = this.getBackingDB().getIndexManager();
+		Set<String> indexNames = indexManager.getIndexNames();
+		// the graph may already contain data (e.g. if it was created by an earlier version); only the new
+		// label indices need to be built, all other indices are left alone
+		if (indexNames.contains(ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL) == false) {
+			indexManager.addIndexer(ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL, new VertexRecordLabelIndexer2());
+			indexManager.reindex(ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL);
+		}
+		if (indexNames.contains(ChronoGraphConstants.INDEX_KEY_EDGE_LABEL) == false) {
+			indexManager.addIndexer(ChronoGraphConstants.INDEX_KEY_EDGE_LABEL, new EdgeRecordLabelIndexer2());
+			indexManager.reindex(ChronoGraphConstants.INDEX_KEY_EDGE_LABEL);
+		}
+	}
+
 	// =====================================================================================================================
 	// BRANCHING
 	// =====================================================================================================================
@@ -439,6 +473,18 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 				ChronoGraphConstants.KEYSPACE_EDGE);
 	}
 
+	@Override
+	public <R> Iterator<Pair<Long, R>> evaluateAtCommitsBetween(final String branch, final long from, final long to,
+			final Function<ChronoGraph, R> function) {
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkArgument(from >= 0, "Precondition violation - argument 'from' must not be negative!");
+		checkArgument(to >= 0, "Precondition violation - argument 'to' must not be negative!");
+		checkArgument(from <= to, "Precondition violation - argument 'from' must be less than or equal to 'to'!");
+		checkNotNull(function, "Precondition violation - argument 'function' must not be NULL!");
+		Iterator<Long> commitTimestamps = this.getCommitTimestampsBetween(branch, from, to, Order.ASCENDING);
+		return new IncrementalTemporalEvaluation<>(this, branch, commitTimestamps, function);
+	}
+
 	// =====================================================================================================================
 	// SERIALIZATION & DESERIALIZATION (GraphSon, Gyro, ...)
 	// =====================================================================================================================
@@ -484,11 +530,15 @@ public class StandardChronoGraph implements ChronoGraphInternal {
 		return this.database;
 	}
 
-	public AutoLock commitLock() {
-		AutoLock autoLock = this.commitLockHolder.get();
+	@Override
+	public AutoLock commitLock(final String branchName) {
+		checkNotNull(branchName, "Precondition violation - argument 'branchName' must not be NULL!");
+		Map<String, AutoLock> lockHolders = this.commitLockHolders.get();
+		AutoLock autoLock = lockHolders.get(branchName);
 		if (autoLock == null) {
-			autoLock = AutoLock.createBasicLockHolderFor(this.commitLock);
-			this.commitLockHolder.set(autoLock);
+			Lock lock = this.branchNameToCommitLock.computeIfAbsent(branchName, name -> new ReentrantLock(true));
+			autoLock = AutoLock.createBasicLockHolderFor(lock);
+			lockHolders.put(branchName, autoLock);
 		}
 		// autoLock.releaseLock() is called on lockHolder.close()
 		autoLock.acquireLock();
@@ -0,0 +1,120 @@
+package org.chronos.chronograph.internal.impl.structure.record;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.common.annotation.PersistentClass;
+
+import com.google.common.collect.Sets;
+
+/**
+ * An {@link AdjacencyPageRecord} contains a part of the adjacent edges of a vertex with a {@link PagedVertexRecord}.
+ *
+ * <p>
+ * All edges in a page share the same direction and label. The pages are stored in the
+ * {@linkplain ChronoGraphConstants#KEYSPACE_ADJACENCY adjacency keyspace}, using the keys produced by
+ * {@link #createKey(String, Direction, String, int)}.
+ *
+ * <p>
+ * It is crucial that all instances of this class are to be treated as immutable after their creation, as these
+ * instances are potentially shared among threads due to caching mechanisms.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+@PersistentClass("kryo")
+public final class AdjacencyPageRecord {
+
+	// =====================================================================================================================
+	// STATIC HELPERS
+	// =====================================================================================================================
+
+	/**
+	 * Creates the key of an adjacency page.
+	 *
+	 * <p>
+	 * The length of the vertex ID is part of the key, such that the keys remain unique regardless of the characters
+	 * in the vertex IDs and edge labels.
+	 *
+	 * @param vertexId
+	 *            The ID of the vertex which owns the page. Must not be <code>null</code>.
+	 * @param direction
+	 *            The direction of the edges in the page. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 * @param label
+	 *            The label of the edges in the page. Must not be <code>null</code>.
+	 * @param pageIndex
+	 *            The index of the page within its adjacency list. Must not be negative.
+	 *
+	 * @return The key of the page. Never <code>null</code>.
+	 */
+	public static String createKey(final String vertexId, final Direction direction, final String label,
+			final int pageIndex) {
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		checkArgument(direction != Direction.BOTH,
+				"Precondition violation - argument 'direction' must not be BOTH!");
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		checkArgument(pageIndex >= 0, "Precondition violation - argument 'pageIndex' must not be negative!");
+		return vertexId.length() + ":" + vertexId + ":" + direction.name() + ":" + pageIndex + ":" + label;
+	}
+
+	/**
+	 * Extracts the ID of the owning vertex from the given page key.
+	 *
+	 * @param key
+	 *            The page key, as created by {@link #createKey(String, Direction, String, int)}. Must not be
+	 *            <code>null</code>.
+	 *
+	 * @return The ID of the vertex which owns the page. Never <code>null</code>.
+	 */
+	public static String getVertexIdFromKey(final String key) {
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		int separatorIndex = key.indexOf(':');
+		checkArgument(separatorIndex > 0, "Precondition violation - argument 'key' is not an adjacency page key!");
+		int vertexIdLength = Integer.parseInt(key.substring(0, separatorIndex));
+		return key.substring(separatorIndex + 1, separatorIndex + 1 + vertexIdLength);
+	}
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	// note: the only reason why the fields in this class are not declared as "final" is because
+	// serialization mechanisms struggle with final fields. All fields are effectively final, and
+	// all of their contents are effectively immutable.
+
+	/** The edges in this page. */
+	private Set<EdgeTargetRecord> edges;
+
+	// =====================================================================================================================
+	// CONSTRUCTORS
+	// =====================================================================================================================
+
+	protected AdjacencyPageRecord() {
+		// default constructor for serialization mechanism
+	}
+
+	public AdjacencyPageRecord(final Collection<EdgeTargetRecord> edges) {
+		checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+		if (edges.isEmpty() == false) {
+			this.edges = Sets.newHashSet(edges);
+		}
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	public Set<EdgeTargetRecord> getEdges() {
+		if (this.edges == null || this.edges.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(this.edges);
+	}
+
+}
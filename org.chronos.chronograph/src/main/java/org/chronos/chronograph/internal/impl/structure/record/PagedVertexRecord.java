@@ -0,0 +1,114 @@
+package org.chronos.chronograph.internal.impl.structure.record;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.chronos.chronograph.api.structure.ChronoEdge;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexProperty;
+import org.chronos.common.annotation.PersistentClass;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Maps;
+
+/**
+ * A {@link PagedVertexRecord} is a {@link VertexRecord} which does not contain the adjacent edges of the vertex.
+ *
+ * <p>
+ * Instead, the adjacency of the vertex is split up by direction and edge label, and each of these adjacency lists is
+ * stored as a sequence of {@link AdjacencyPageRecord}s in a separate keyspace. This record only keeps track of the
+ * number of pages per adjacency list. Adding an edge to the vertex therefore only affects the last page of the
+ * corresponding list, and this record only needs to be rewritten if a page is added or removed.
+ *
+ * <p>
+ * This layout is used for vertices created while {@link ChronoGraphConfiguration#getAdjacencyPageSize()} is positive.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+@PersistentClass("kryo")
+public final class PagedVertexRecord extends VertexRecord {
+
+	// =====================================================================================================================
+	// FIELDS
+	// =====================================================================================================================
+
+	// note: the only reason why the fields in this class are not declared as "final" is because
+	// serialization mechanisms struggle with final fields. All fields are effectively final, and
+	// all of their contents are effectively immutable.
+
+	/** The maximum number of edges per adjacency page of this vertex. */
+	private int pageSize;
+	/** Mapping of edge labels to the number of pages of incoming edges with that label. */
+	private Map<String, Integer> incomingEdgePageCounts;
+	/** Mapping of edge labels to the number of pages of outgoing edges with that label. */
+	private Map<String, Integer> outgoingEdgePageCounts;
+
+	// =====================================================================================================================
+	// CONSTRUCTORS
+	// =====================================================================================================================
+
+	protected PagedVertexRecord() {
+		// default constructor for serialization mechanism
+	}
+
+	public PagedVertexRecord(final String recordId, final String label,
+			final Map<String, ChronoVertexProperty<?>> properties, final int pageSize,
+			final Map<String, Integer> incomingEdgePageCounts, final Map<String, Integer> outgoingEdgePageCounts) {
+		super(recordId, label, HashMultimap.<String, ChronoEdge> create(), HashMultimap.<String, ChronoEdge> create(),
+				properties);
+		checkArgument(pageSize > 0, "Precondition violation - argument 'pageSize' must be greater than zero!");
+		checkNotNull(incomingEdgePageCounts,
+				"Precondition violation - argument 'incomingEdgePageCounts' must not be NULL!");
+		checkNotNull(outgoingEdgePageCounts,
+				"Precondition violation - argument 'outgoingEdgePageCounts' must not be NULL!");
+		this.pageSize = pageSize;
+		if (incomingEdgePageCounts.isEmpty() == false) {
+			this.incomingEdgePageCounts = Maps.newHashMap(incomingEdgePageCounts);
+		}
+		if (outgoingEdgePageCounts.isEmpty() == false) {
+			this.outgoingEdgePageCounts = Maps.newHashMap(outgoingEdgePageCounts);
+		}
+	}
+
+	// =====================================================================================================================
+	// PUBLIC API
+	// =====================================================================================================================
+
+	public int getPageSize() {
+		return this.pageSize;
+	}
+
+	public Map<String, Integer> getIncomingEdgePageCounts() {
+		if (this.incomingEdgePageCounts == null || this.incomingEdgePageCounts.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(this.incomingEdgePageCounts);
+	}
+
+	public Map<String, Integer> getOutgoingEdgePageCounts() {
+		if (this.outgoingEdgePageCounts == null || this.outgoingEdgePageCounts.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		return Collections.unmodifiableMap(this.outgoingEdgePageCounts);
+	}
+
+	public Map<String, Integer> getEdgePageCounts(final Direction direction) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		switch (direction) {
+		case IN:
+			return this.getIncomingEdgePageCounts();
+		case OUT:
+			return this.getOutgoingEdgePageCounts();
+		case BOTH:
+			throw new IllegalArgumentException("Direction BOTH is not supported for adjacency pages!");
+		default:
+			throw new UnknownEnumLiteralException(direction);
+		}
+	}
+
+}
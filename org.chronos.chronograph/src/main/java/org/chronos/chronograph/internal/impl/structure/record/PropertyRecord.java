@@ -2,6 +2,8 @@ package org.chronos.chronograph.internal.impl.structure.record;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Arrays;
+
 import org.chronos.common.annotation.PersistentClass;
 import org.chronos.common.serialization.KryoManager;
 
@@ -30,4 +32,22 @@ public class PropertyRecord implements ElementRecord {
 		return KryoManager.deserialize(this.value);
 	}
 
+	/**
+	 * Checks if this record has the same key and value as the given one.
+	 *
+	 * <p>
+	 * The values are compared in their serialized form, i.e. they do not need to be deserialized for this check.
+	 *
+	 * @param other
+	 *            The record to compare with. May be <code>null</code>.
+	 *
+	 * @return <code>true</code> if the records have the same content, otherwise <code>false</code>.
+	 */
+	public boolean hasSameContentAs(final PropertyRecord other) {
+		if (other == null || other.getClass().equals(this.getClass()) == false) {
+			return false;
+		}
+		return this.key.equals(other.key) && Arrays.equals(this.value, other.value);
+	}
+
 }
@@ -5,6 +5,7 @@ import static com.google.common.base.Preconditions.*;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Map.Entry;
 
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.chronos.common.annotation.PersistentClass;
@@ -74,4 +75,23 @@ public final class VertexPropertyRecord extends PropertyRecord {
 		return Collections.unmodifiableMap(this.properties);
 	}
 
+	@Override
+	public boolean hasSameContentAs(final PropertyRecord other) {
+		if (super.hasSameContentAs(other) == false) {
+			return false;
+		}
+		// note: the record IDs are irrelevant for the content
+		Map<String, PropertyRecord> otherProperties = ((VertexPropertyRecord) other).getProperties();
+		Map<String, PropertyRecord> properties = this.getProperties();
+		if (properties.keySet().equals(otherProperties.keySet()) == false) {
+			return false;
+		}
+		for (Entry<String, PropertyRecord> entry : properties.entrySet()) {
+			if (entry.getValue().hasSameContentAs(otherProperties.get(entry.getKey())) == false) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 }
@@ -10,6 +10,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.chronos.chronodb.api.ChronoDBTransaction;
 import org.chronos.chronodb.api.dump.annotations.ChronosExternalizable;
 import org.chronos.chronograph.api.structure.ChronoEdge;
@@ -20,6 +21,7 @@ import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexProperty;
 import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
 import org.chronos.common.annotation.PersistentClass;
+import org.chronos.common.exceptions.UnknownEnumLiteralException;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Maps;
@@ -44,7 +46,7 @@ import com.google.common.collect.Sets;
  */
 @PersistentClass("kryo")
 @ChronosExternalizable(converterClass = VertexRecordConverter.class)
-public final class VertexRecord implements ElementRecord {
+public class VertexRecord implements ElementRecord {
 
 	// =====================================================================================================================
 	// FIELDS
@@ -65,6 +67,15 @@ public final class VertexRecord implements ElementRecord {
 	/** The set of vertex properties known on this vertex. */
 	private Set<VertexPropertyRecord> properties;
 
+	/**
+	 * The {@linkplain #properties vertex properties}, indexed by key. Built on first access and never serialized.
+	 *
+	 * <p>
+	 * As records are shared among all transactions which read the same version of a vertex (via the entry cache of
+	 * the backing database), this index is built at most once per version rather than once per transaction.
+	 */
+	private transient volatile Map<String, VertexPropertyRecord> propertiesByKey;
+
 	// =====================================================================================================================
 	// CONSTRUCTORS
 	// =====================================================================================================================
@@ -242,6 +253,49 @@ public final class VertexRecord implements ElementRecord {
 		return Multimaps.unmodifiableSetMultimap(multimap);
 	}
 
+	/**
+	 * Returns the labels of the edges in the given direction.
+	 *
+	 * <p>
+	 * In contrast to {@link #getIncomingEdgesByLabel()} and {@link #getOutgoingEdgesByLabel()}, this method does not
+	 * copy the edge records.
+	 *
+	 * @param direction
+	 *            The direction of the edges. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 *
+	 * @return The unmodifiable set of edge labels. Never <code>null</code>, may be empty.
+	 */
+	public Set<String> getEdgeLabels(final Direction direction) {
+		Map<String, Set<EdgeTargetRecord>> edges = this.getEdgesMap(direction);
+		if (edges == null || edges.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(edges.keySet());
+	}
+
+	/**
+	 * Returns the edges with the given direction and label.
+	 *
+	 * @param direction
+	 *            The direction of the edges. Must be either {@link Direction#IN} or {@link Direction#OUT}.
+	 * @param label
+	 *            The label of the edges. Must not be <code>null</code>.
+	 *
+	 * @return The unmodifiable set of edge records. Never <code>null</code>, may be empty.
+	 */
+	public Set<EdgeTargetRecord> getEdges(final Direction direction, final String label) {
+		checkNotNull(label, "Precondition violation - argument 'label' must not be NULL!");
+		Map<String, Set<EdgeTargetRecord>> edges = this.getEdgesMap(direction);
+		if (edges == null) {
+			return Collections.emptySet();
+		}
+		Set<EdgeTargetRecord> labelEdges = edges.get(label);
+		if (labelEdges == null || labelEdges.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(labelEdges);
+	}
+
 	public Set<VertexPropertyRecord> getProperties() {
 		if (this.properties == null || this.properties.isEmpty()) {
 			return Collections.emptySet();
@@ -249,8 +303,45 @@ public final class VertexRecord implements ElementRecord {
 		return Collections.unmodifiableSet(this.properties);
 	}
 
+	/**
+	 * Returns the vertex property with the given key.
+	 *
+	 * @param key
+	 *            The key of the property to get. Must not be <code>null</code>.
+	 *
+	 * @return The property record, or <code>null</code> if this vertex has no property with the given key.
+	 */
+	public VertexPropertyRecord getProperty(final String key) {
+		checkNotNull(key, "Precondition violation - argument 'key' must not be NULL!");
+		Map<String, VertexPropertyRecord> index = this.propertiesByKey;
+		if (index == null) {
+			// no need to synchronize here; concurrent readers will at worst build equal indices
+			index = Maps.newHashMap();
+			for (VertexPropertyRecord pRecord : this.getProperties()) {
+				index.put(pRecord.getKey(), pRecord);
+			}
+			// the volatile write safely publishes the (never modified) map to other threads
+			this.propertiesByKey = Collections.unmodifiableMap(index);
+		}
+		return index.get(key);
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
 
+	private Map<String, Set<EdgeTargetRecord>> getEdgesMap(final Direction direction) {
+		checkNotNull(direction, "Precondition violation - argument 'direction' must not be NULL!");
+		switch (direction) {
+		case IN:
+			return this.incomingEdges;
+		case OUT:
+			return this.outgoingEdges;
+		case BOTH:
+			throw new IllegalArgumentException("Direction BOTH is not supported, use IN or OUT instead!");
+		default:
+			throw new UnknownEnumLiteralException(direction);
+		}
+	}
+
 }
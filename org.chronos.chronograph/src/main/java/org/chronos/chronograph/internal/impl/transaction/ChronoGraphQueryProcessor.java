@@ -2,6 +2,7 @@ package org.chronos.chronograph.internal.impl.transaction;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.exceptions.ChronoDBQuerySyntaxException;
 import org.chronos.chronodb.api.exceptions.UnknownKeyspaceException;
 import org.chronos.chronodb.api.query.Condition;
@@ -38,6 +40,7 @@ import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInterna
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoEdgeImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoProperty;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.internal.impl.util.ChronoGraphElementUtil;
 import org.chronos.chronograph.internal.impl.util.ChronoGraphQueryUtil;
 import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
 import org.chronos.common.exceptions.UnknownEnumLiteralException;
@@ -45,14 +48,19 @@ import org.chronos.common.logging.ChronoLogger;
 import org.chronos.common.util.ReflectionUtils;
 
 import com.google.common.base.Predicate;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
-import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 
 public class ChronoGraphQueryProcessor {
 
+	/**
+	 * Ordering via the secondary index requires to check every candidate for a value of the order property. This only
+	 * pays off if the candidates for the result outnumber the requested elements by at least this factor; otherwise,
+	 * loading and sorting the candidates themselves is cheaper.
+	 */
+	private static final int MIN_CANDIDATES_PER_ORDERED_RESULT = 4;
+
 	private final StandardChronoGraphTransaction tx;
 
 	public ChronoGraphQueryProcessor(final StandardChronoGraphTransaction tx) {
@@ -130,36 +138,26 @@ public class ChronoGraphQueryProcessor {
 	public Iterator<Vertex> getVerticesBySearchSpecifications(final Set<SearchSpecification<?>> searchSpecifications) {
 		checkNotNull(searchSpecifications,
 				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
-		SetMultimap<String, SearchSpecification<?>> propertyToSearchSpecifications = HashMultimap.create();
-		for (SearchSpecification<?> spec : searchSpecifications) {
-			propertyToSearchSpecifications.put(spec.getProperty(), spec);
-		}
 		ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
-		Set<String> indexedProperties = indexManager.getIndexedVertexPropertyNames();
+		Set<SearchSpecification<?>> indexedSearches = indexManager.getIndexedSearchSpecifications(Vertex.class,
+				searchSpecifications);
 		Iterator<Vertex> resultIterator = null;
-		if (indexedProperties.containsAll(propertyToSearchSpecifications.keySet())) {
+		if (indexedSearches.size() == searchSpecifications.size()) {
 			// pure index query
 			resultIterator = this.performVertexQueryOnIndex(searchSpecifications);
 		} else {
 			// some properties are not indexed -> may require iteration
-			Set<String> indexedPropertiesToUse = Sets.intersection(indexedProperties,
-					propertyToSearchSpecifications.keySet());
-			if (indexedPropertiesToUse.isEmpty()) {
+			if (indexedSearches.isEmpty()) {
 				// none of the given properties is indexed; full graph iteration is required!
 				ChronoLogger.logWarning(
 						"Query requires iteration over all vertices, because none of the given properties is indexed!"
 								+ " For better performance use indices. Requested properties: "
-								+ propertyToSearchSpecifications.keySet().toString());
+								+ getProperties(searchSpecifications).toString());
 				Iterator<Vertex> allVerticesIterator = this.tx.getAllVerticesIterator();
 				Predicate<Vertex> filterPredicate = new PropertyValueFilterPredicate<>(searchSpecifications);
 				resultIterator = Iterators.filter(allVerticesIterator, filterPredicate);
 			} else {
 				// at least one of the given properties is indexed; do index query with post-processing filter
-				Set<SearchSpecification<?>> indexedSearches = Sets.newHashSet();
-				for (String indexedProperty : indexedPropertiesToUse) {
-					Set<SearchSpecification<?>> set = propertyToSearchSpecifications.get(indexedProperty);
-					indexedSearches.addAll(set);
-				}
 				Iterator<Vertex> indexIterator = this.performVertexQueryOnIndex(indexedSearches);
 				// prepare the map of properties we need to filter manually
 				Set<SearchSpecification<?>> nonIndexedSearches = Sets.newHashSet(searchSpecifications);
@@ -187,6 +185,61 @@ public class ChronoGraphQueryProcessor {
 		return vertices;
 	}
 
+	public long countVerticesBySearchSpecifications(final Set<SearchSpecification<?>> searchSpecifications) {
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		if (this.tx.getContext().isDirty() == false) {
+			// no transient modifications; the persistent state can answer the question without loading any vertex
+			if (searchSpecifications.isEmpty()) {
+				return this.countKeys(ChronoGraphConstants.KEYSPACE_VERTEX);
+			}
+			ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
+			Set<SearchSpecification<?>> indexedSearches = indexManager.getIndexedSearchSpecifications(Vertex.class,
+					searchSpecifications);
+			if (indexedSearches.size() == searchSpecifications.size()) {
+				return indexManager.countVerticesByIndexedProperties(searchSpecifications);
+			}
+		}
+		// we need to consider the transient state and/or non-indexed properties, so we need to iterate
+		if (searchSpecifications.isEmpty()) {
+			return Iterators.size(this.getAllVerticesIterator());
+		}
+		return Iterators.size(this.getVerticesBySearchSpecifications(searchSpecifications));
+	}
+
+	public Iterator<Vertex> getVerticesOrderedByIndexedProperty(final Set<SearchSpecification<?>> searchSpecifications,
+			final String propertyKey, final Order order, final long limit) {
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(limit >= 0, "Precondition violation - argument 'limit' must not be negative!");
+		if (this.tx.getContext().isDirty()) {
+			// the index does not reflect the transient state, so it cannot deliver the order
+			return null;
+		}
+		ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
+		if (indexManager.getVertexIndex(propertyKey) == null) {
+			// there is no index to deliver the order
+			return null;
+		}
+		Set<SearchSpecification<?>> indexedSearches = indexManager.getIndexedSearchSpecifications(Vertex.class,
+				searchSpecifications);
+		Set<SearchSpecification<?>> nonIndexedSearches = Sets.newHashSet(searchSpecifications);
+		nonIndexedSearches.removeAll(indexedSearches);
+		Iterator<String> idIterator = this.getOrderedIdsFromIndex(Vertex.class, indexedSearches, nonIndexedSearches,
+				propertyKey, order, limit);
+		if (idIterator == null) {
+			return null;
+		}
+		Iterator<Vertex> resultIterator = new VertexResolvingIterator(idIterator, ElementLoadMode.LAZY);
+		if (nonIndexedSearches.isEmpty() == false) {
+			// the remaining conditions are checked on the resolved elements, which stops as soon as enough are found
+			resultIterator = Iterators.filter(resultIterator, new PropertyValueFilterPredicate<>(nonIndexedSearches));
+		}
+		return ChronoProxyUtil.replaceVerticesByProxies(resultIterator, this.tx);
+	}
+
 	public Iterator<Edge> getAllEdgesIterator() {
 		ChronoDBTransaction tx = this.tx.getBackingDBTransaction();
 		Set<String> keySet = Sets.newHashSet();
@@ -255,36 +308,26 @@ public class ChronoGraphQueryProcessor {
 	public Iterator<Edge> getEdgesBySearchSpecifications(final Set<SearchSpecification<?>> searchSpecifications) {
 		checkNotNull(searchSpecifications,
 				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
-		SetMultimap<String, SearchSpecification<?>> propertyToSearchSpecifications = HashMultimap.create();
-		for (SearchSpecification<?> spec : searchSpecifications) {
-			propertyToSearchSpecifications.put(spec.getProperty(), spec);
-		}
 		ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
-		Set<String> indexedProperties = indexManager.getIndexedEdgePropertyNames();
+		Set<SearchSpecification<?>> indexedSearches = indexManager.getIndexedSearchSpecifications(Edge.class,
+				searchSpecifications);
 		Iterator<Edge> resultIterator = null;
-		if (indexedProperties.containsAll(propertyToSearchSpecifications.keySet())) {
+		if (indexedSearches.size() == searchSpecifications.size()) {
 			// pure index query
 			resultIterator = this.performEdgeQueryOnIndex(searchSpecifications);
 		} else {
 			// some properties are not indexed -> may require iteration
-			Set<String> indexedPropertiesToUse = Sets.intersection(indexedProperties,
-					propertyToSearchSpecifications.keySet());
-			if (indexedPropertiesToUse.isEmpty()) {
+			if (indexedSearches.isEmpty()) {
 				// none of the given properties is indexed; full graph iteration is required!
 				ChronoLogger.logWarning(
 						"Query requires iteration over all edges, because none of the given properties is indexed!"
 								+ " For better performance use indices. Requested properties: "
-								+ propertyToSearchSpecifications.keySet().toString());
+								+ getProperties(searchSpecifications).toString());
 				Iterator<Edge> allEdgesIterator = this.tx.getAllEdgesIterator();
 				Predicate<Edge> filterPredicate = new PropertyValueFilterPredicate<>(searchSpecifications);
 				resultIterator = Iterators.filter(allEdgesIterator, filterPredicate);
 			} else {
 				// at least one of the given properties is indexed; do index query with post-processing filter
-				Set<SearchSpecification<?>> indexedSearches = Sets.newHashSet();
-				for (String indexedProperty : indexedPropertiesToUse) {
-					Set<SearchSpecification<?>> set = propertyToSearchSpecifications.get(indexedProperty);
-					indexedSearches.addAll(set);
-				}
 				Iterator<Edge> indexIterator = this.performEdgeQueryOnIndex(indexedSearches);
 				// prepare the map of properties we need to filter manually
 				Set<SearchSpecification<?>> nonIndexedSearches = Sets.newHashSet(searchSpecifications);
@@ -311,6 +354,61 @@ public class ChronoGraphQueryProcessor {
 		return edges;
 	}
 
+	public long countEdgesBySearchSpecifications(final Set<SearchSpecification<?>> searchSpecifications) {
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		if (this.tx.getContext().isDirty() == false) {
+			// no transient modifications; the persistent state can answer the question without loading any edge
+			if (searchSpecifications.isEmpty()) {
+				return this.countKeys(ChronoGraphConstants.KEYSPACE_EDGE);
+			}
+			ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
+			Set<SearchSpecification<?>> indexedSearches = indexManager.getIndexedSearchSpecifications(Edge.class,
+					searchSpecifications);
+			if (indexedSearches.size() == searchSpecifications.size()) {
+				return indexManager.countEdgesByIndexedProperties(searchSpecifications);
+			}
+		}
+		// we need to consider the transient state and/or non-indexed properties, so we need to iterate
+		if (searchSpecifications.isEmpty()) {
+			return Iterators.size(this.getAllEdgesIterator());
+		}
+		return Iterators.size(this.getEdgesBySearchSpecifications(searchSpecifications));
+	}
+
+	public Iterator<Edge> getEdgesOrderedByIndexedProperty(final Set<SearchSpecification<?>> searchSpecifications,
+			final String propertyKey, final Order order, final long limit) {
+		checkNotNull(searchSpecifications,
+				"Precondition violation - argument 'searchSpecifications' must not be NULL!");
+		checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+		checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+		checkArgument(limit >= 0, "Precondition violation - argument 'limit' must not be negative!");
+		if (this.tx.getContext().isDirty()) {
+			// the index does not reflect the transient state, so it cannot deliver the order
+			return null;
+		}
+		ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
+		if (indexManager.getEdgeIndex(propertyKey) == null) {
+			// there is no index to deliver the order
+			return null;
+		}
+		Set<SearchSpecification<?>> indexedSearches = indexManager.getIndexedSearchSpecifications(Edge.class,
+				searchSpecifications);
+		Set<SearchSpecification<?>> nonIndexedSearches = Sets.newHashSet(searchSpecifications);
+		nonIndexedSearches.removeAll(indexedSearches);
+		Iterator<String> idIterator = this.getOrderedIdsFromIndex(Edge.class, indexedSearches, nonIndexedSearches,
+				propertyKey, order, limit);
+		if (idIterator == null) {
+			return null;
+		}
+		Iterator<Edge> resultIterator = new EdgeResolvingIterator(idIterator);
+		if (nonIndexedSearches.isEmpty() == false) {
+			// the remaining conditions are checked on the resolved elements, which stops as soon as enough are found
+			resultIterator = Iterators.filter(resultIterator, new PropertyValueFilterPredicate<>(nonIndexedSearches));
+		}
+		return ChronoProxyUtil.replaceEdgesByProxies(resultIterator, this.tx);
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
@@ -362,6 +460,9 @@ public class ChronoGraphQueryProcessor {
 					.filter(cVertex -> cVertex.isRemoved() == false)
 					// collect the result to a set
 					.collect(Collectors.toSet());
+			// labels are not stored as properties, so new vertices with a matching label need to be added separately
+			transientVertices.addAll(this.getModifiedElementsWithMatchingLabel(
+					this.tx.getContext().getModifiedVertices(), searchSpecs));
 			// the set of search specs needs to be AND-connected, so we apply the filters one by one on the transient
 			// state
 			Set<Vertex> verticesToKeep = transientVertices;
@@ -430,6 +531,9 @@ public class ChronoGraphQueryProcessor {
 					.filter(cEdge -> cEdge.isRemoved() == false)
 					// collect the result to a set
 					.collect(Collectors.toSet());
+			// labels are not stored as properties, so new edges with a matching label need to be added separately
+			transientEdges.addAll(this.getModifiedElementsWithMatchingLabel(
+					this.tx.getContext().getModifiedEdges(), searchSpecs));
 			// the set of search specs needs to be AND-connected, so we apply the filters one by one on the transient
 			// state
 			Set<Edge> edgesToKeep = transientEdges;
@@ -511,6 +615,107 @@ public class ChronoGraphQueryProcessor {
 		}
 	}
 
+	private <E extends ChronoElement> Set<E> getModifiedElementsWithMatchingLabel(final Collection<E> modifiedElements,
+			final Set<SearchSpecification<?>> searchSpecs) {
+		Set<SearchSpecification<?>> labelSearchSpecs = searchSpecs.stream()
+				.filter(spec -> ChronoGraphElementUtil.isLabelProperty(spec.getProperty())).collect(Collectors.toSet());
+		if (labelSearchSpecs.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<E> resultSet = Sets.newHashSet();
+		for (E element : modifiedElements) {
+			if (element.isRemoved()) {
+				continue;
+			}
+			if (labelSearchSpecs.stream().allMatch(spec -> ChronoGraphQueryUtil.searchSpecApplies(spec, element.label()))) {
+				resultSet.add(element);
+			}
+		}
+		return resultSet;
+	}
+
+	/**
+	 * Determines the IDs of the candidates for the given search specifications, ordered by the given property, if the
+	 * secondary index on that property should be used to deliver the order.
+	 *
+	 * @param clazz
+	 *            The element class to search for. Must not be <code>null</code>.
+	 * @param indexedSearches
+	 *            The indexed search specifications which determine the candidates. Must not be <code>null</code>, may
+	 *            be empty.
+	 * @param nonIndexedSearches
+	 *            The remaining search specifications, which the caller checks on the resolved candidates. Must not be
+	 *            <code>null</code>, may be empty.
+	 * @param propertyKey
+	 *            The key of the indexed property to order by. Must not be <code>null</code>.
+	 * @param order
+	 *            The requested order. Must not be <code>null</code>.
+	 * @param limit
+	 *            The number of elements the caller is going to consume at most.
+	 *
+	 * @return The ordered candidate IDs, or <code>null</code> if there are too few candidates to make the index
+	 *         worthwhile, or if some of the elements in the result have no value for the property.
+	 */
+	private Iterator<String> getOrderedIdsFromIndex(final Class<? extends Element> clazz,
+			final Set<SearchSpecification<?>> indexedSearches, final Set<SearchSpecification<?>> nonIndexedSearches,
+			final String propertyKey, final Order order, final long limit) {
+		ChronoGraphIndexManagerInternal indexManager = this.getIndexManager();
+		boolean vertices = Vertex.class.isAssignableFrom(clazz);
+		// determine the candidates for the result
+		Set<String> candidateIds;
+		if (indexedSearches.isEmpty()) {
+			candidateIds = Sets.newHashSet();
+			try {
+				String keyspace = vertices ? ChronoGraphConstants.KEYSPACE_VERTEX : ChronoGraphConstants.KEYSPACE_EDGE;
+				candidateIds = this.tx.getBackingDBTransaction().keySet(keyspace);
+			} catch (UnknownKeyspaceException ignored) {
+			}
+		} else {
+			candidateIds = Sets.newHashSet(vertices ? indexManager.findVertexIdsByIndexedProperties(indexedSearches)
+					: indexManager.findEdgeIdsByIndexedProperties(indexedSearches));
+		}
+		if (candidateIds.size() / MIN_CANDIDATES_PER_ORDERED_RESULT <= limit) {
+			// there are only a few candidates; sorting them is cheaper than going through the index
+			return null;
+		}
+		// the candidates without a value for the property are not contained in the index. Gremlin refuses to order
+		// such elements, so if any of them is part of the result, the regular order step has to deal with it.
+		Set<String> idsWithValue = vertices ? indexManager.findVertexIdsWithIndexedProperty(propertyKey)
+				: indexManager.findEdgeIdsWithIndexedProperty(propertyKey);
+		Set<String> unorderedIds = Sets.difference(candidateIds, idsWithValue);
+		if (unorderedIds.isEmpty() == false) {
+			if (nonIndexedSearches.isEmpty()) {
+				return null;
+			}
+			Iterator<? extends Element> unorderedElements = vertices
+					? new VertexResolvingIterator(unorderedIds.iterator(), ElementLoadMode.LAZY)
+					: new EdgeResolvingIterator(unorderedIds.iterator());
+			if (Iterators.any(unorderedElements, new PropertyValueFilterPredicate<>(nonIndexedSearches))) {
+				return null;
+			}
+		}
+		// the index delivers the IDs in batches, starting with as many as the caller is going to consume (which is
+		// less than the number of candidates, so it fits into an int)
+		int batchSize = (int) Math.max(limit, 1);
+		Iterator<String> orderedIds = vertices
+				? indexManager.findVertexIdsOrderedByIndexedProperty(propertyKey, order, batchSize)
+				: indexManager.findEdgeIdsOrderedByIndexedProperty(propertyKey, order, batchSize);
+		return Iterators.filter(orderedIds, candidateIds::contains);
+	}
+
+	private long countKeys(final String keyspace) {
+		ChronoDBTransaction tx = this.tx.getBackingDBTransaction();
+		try {
+			return tx.keySet(keyspace).size();
+		} catch (UnknownKeyspaceException ignored) {
+			return 0;
+		}
+	}
+
+	private static Set<String> getProperties(final Set<SearchSpecification<?>> searchSpecifications) {
+		return searchSpecifications.stream().map(spec -> spec.getProperty()).collect(Collectors.toSet());
+	}
+
 	private static Set<SearchSpecification<?>> equalityMapToSearchSpecifications(final Map<String, Object> map) {
 		Set<SearchSpecification<?>> searchSpecs = Sets.newHashSet();
 		for (Entry<String, Object> entry : map.entrySet()) {
@@ -0,0 +1,130 @@
+package org.chronos.chronograph.internal.impl.transaction;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Keeps track of the persistent graph elements which have been read by a transaction.
+ *
+ * <p>
+ * Every vertex and edge whose record is fetched from the backing store (or from the records which have been
+ * {@linkplain ChronoGraphTransactionInternal#preloadRecords(Map, Map) preloaded} into the transaction) is recorded
+ * together with the record itself. Attempts to read elements which do not exist are recorded as well, with a
+ * <code>null</code> record. Vertices which have been checked against a secondary index without being loaded are
+ * recorded without a record. In addition, the read set remembers if a <i>graph-wide</i> query has been performed (e.g.
+ * iterating over all vertices, or querying a secondary index), as the result of such a query depends on elements which
+ * have not been read individually.
+ *
+ * <p>
+ * The result of a read-only computation is therefore guaranteed to remain the same at a later timestamp if no graph-wide
+ * query has been performed, and none of the elements in the read set (including their adjacency) has changed in
+ * between.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class GraphReadSet {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final Map<String, VertexRecord> vertexIdToRecord = Maps.newHashMap();
+	private final Map<String, EdgeRecord> edgeIdToRecord = Maps.newHashMap();
+	private final Set<String> indexedVertexIds = Sets.newHashSet();
+	private boolean graphWideRead = false;
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Registers that the vertex with the given ID has been read.
+	 *
+	 * @param vertexId
+	 *            The ID of the vertex which has been read. Must not be <code>null</code>.
+	 * @param record
+	 *            The record which has been read, or <code>null</code> if the vertex does not exist.
+	 */
+	public void registerVertexRead(final String vertexId, final VertexRecord record) {
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		this.vertexIdToRecord.put(vertexId, record);
+	}
+
+	/**
+	 * Registers that the edge with the given ID has been read.
+	 *
+	 * @param edgeId
+	 *            The ID of the edge which has been read. Must not be <code>null</code>.
+	 * @param record
+	 *            The record which has been read, or <code>null</code> if the edge does not exist.
+	 */
+	public void registerEdgeRead(final String edgeId, final EdgeRecord record) {
+		checkNotNull(edgeId, "Precondition violation - argument 'edgeId' must not be NULL!");
+		this.edgeIdToRecord.put(edgeId, record);
+	}
+
+	/**
+	 * Registers that the vertex with the given ID has been checked against a secondary index, without reading its
+	 * record.
+	 *
+	 * @param vertexId
+	 *            The ID of the vertex which has been checked. Must not be <code>null</code>.
+	 */
+	public void registerIndexedVertexRead(final String vertexId) {
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		this.indexedVertexIds.add(vertexId);
+	}
+
+	/**
+	 * Registers that a query has been performed whose result potentially depends on all elements in the graph.
+	 */
+	public void registerGraphWideRead() {
+		this.graphWideRead = true;
+	}
+
+	public boolean containsVertex(final String vertexId) {
+		checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+		return this.vertexIdToRecord.containsKey(vertexId) || this.indexedVertexIds.contains(vertexId);
+	}
+
+	public boolean containsEdge(final String edgeId) {
+		checkNotNull(edgeId, "Precondition violation - argument 'edgeId' must not be NULL!");
+		return this.edgeIdToRecord.containsKey(edgeId);
+	}
+
+	public boolean isGraphWideRead() {
+		return this.graphWideRead;
+	}
+
+	/**
+	 * Returns the vertex records which have been read.
+	 *
+	 * @return An unmodifiable view on the mapping from vertex ID to record. A <code>null</code> value indicates that
+	 *         the vertex did not exist. Never <code>null</code>, may be empty.
+	 */
+	public Map<String, VertexRecord> getVertexRecords() {
+		return Collections.unmodifiableMap(this.vertexIdToRecord);
+	}
+
+	/**
+	 * Returns the edge records which have been read.
+	 *
+	 * @return An unmodifiable view on the mapping from edge ID to record. A <code>null</code> value indicates that the
+	 *         edge did not exist. Never <code>null</code>, may be empty.
+	 */
+	public Map<String, EdgeRecord> getEdgeRecords() {
+		return Collections.unmodifiableMap(this.edgeIdToRecord);
+	}
+
+}
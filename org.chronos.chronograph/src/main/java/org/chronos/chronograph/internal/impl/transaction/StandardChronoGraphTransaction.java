@@ -3,11 +3,14 @@ package org.chronos.chronograph.internal.impl.transaction;
 import com.google.common.base.Objects;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.chronos.chronodb.api.ChangeSetEntry;
 import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.PutOption;
 import org.chronos.chronodb.api.key.TemporalKey;
 import org.chronos.chronodb.internal.api.query.ChronoDBQuery;
@@ -24,9 +27,11 @@ import org.chronos.chronograph.internal.impl.structure.graph.ChronoEdgeImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
 import org.chronos.chronograph.internal.impl.structure.graph.ElementLifecycleStatus;
 import org.chronos.chronograph.internal.impl.structure.graph.PropertyStatus;
+import org.chronos.chronograph.internal.impl.structure.record.AdjacencyPageRecord;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
 import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
 import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.transaction.merge.GraphRecordMergeUtils;
 import org.chronos.chronograph.internal.impl.transaction.threaded.ChronoThreadedTransactionGraph;
 import org.chronos.chronograph.internal.impl.util.ChronoId;
 import org.chronos.chronograph.internal.impl.util.ChronoProxyUtil;
@@ -51,6 +56,12 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     private long rollbackCount;
 
+    /** The records which are known to be valid at the timestamp of this transaction (see {@link #preloadRecords}). */
+    private Map<String, VertexRecord> preloadedVertexRecords = Collections.emptyMap();
+    private Map<String, EdgeRecord> preloadedEdgeRecords = Collections.emptyMap();
+    /** The persistent elements read by this transaction, or <code>null</code> if reads are not tracked. */
+    private GraphReadSet readSet = null;
+
     public StandardChronoGraphTransaction(final ChronoGraphInternal graph,
                                           final ChronoDBTransaction backendTransaction) {
         checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
@@ -121,7 +132,11 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     @Override
     public void commit(final Object metadata) {
-        try (AutoLock lock = this.graph.commitLock()) {
+        // the records only depend on the state of this transaction, so we can create them before acquiring the lock
+        this.mapModifiedVerticesToChronoDB();
+        this.mapModifiedEdgesToChronoDB();
+        this.mapModifiedGraphVariablesToChronoDB();
+        try (AutoLock lock = this.graph.commitLock(this.getBranchName())) {
             boolean merged = false;
             // only try to merge if not in incremental commit mode
             if (this.getBackingDBTransaction().isInIncrementalCommitMode() == false) {
@@ -129,10 +144,6 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             }
             if (merged == false) {
                 // merge not required, commit this transaction
-                this.mapModifiedVerticesToChronoDB();
-                this.mapModifiedEdgesToChronoDB();
-                this.mapModifiedGraphVariablesToChronoDB();
-                // commit the transaction
                 this.getBackingDBTransaction().commit(metadata);
             } else {
                 // we committed the merged transaction and are done here
@@ -145,7 +156,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     @Override
     public void commitIncremental() {
-        try (AutoLock lock = this.graph.commitLock()) {
+        try (AutoLock lock = this.graph.commitLock(this.getBranchName())) {
             if (this.getBackingDBTransaction().isInIncrementalCommitMode() == false) {
                 // we're not yet in incremental commit mode, assert that the timestamp is the latest
                 ChronoGraph g = this.graph;
@@ -209,6 +220,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     @Override
     public Iterator<Vertex> getAllVerticesIterator() {
+        this.registerGraphWideRead();
         return this.queryProcessor.getAllVerticesIterator();
     }
 
@@ -224,6 +236,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
     public Iterator<Vertex> getVerticesByProperties(final Map<String, Object> propertyKeyToPropertyValue) {
         checkNotNull(propertyKeyToPropertyValue,
                 "Precondition violation - argument 'propertyKeyToPropertyValue' must not be NULL!");
+        this.registerGraphWideRead();
         return this.queryProcessor.getVerticesByProperties(propertyKeyToPropertyValue);
     }
 
@@ -232,12 +245,14 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             final Collection<SearchSpecification<?>> searchSpecifications) {
         checkNotNull(searchSpecifications,
                 "Precondition violation - argument 'searchSpecifications' must not be NULL!");
+        this.registerGraphWideRead();
         return this.queryProcessor.getVerticesBySearchSpecifications(Sets.newLinkedHashSet(searchSpecifications));
     }
 
     @Override
     public Set<Vertex> evaluateVertexQuery(final ChronoDBQuery query) {
         checkNotNull(query, "Precondition violation - argument 'query' must not be NULL!");
+        this.registerGraphWideRead();
         return this.queryProcessor.evaluateVertexQuery(query);
     }
 
@@ -267,6 +282,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     @Override
     public Iterator<Edge> getAllEdgesIterator() {
+        this.registerGraphWideRead();
         return this.queryProcessor.getAllEdgesIterator();
     }
 
@@ -280,6 +296,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
     public Iterator<Edge> getEdgesByProperties(final Map<String, Object> propertyKeyToPropertyValue) {
         checkNotNull(propertyKeyToPropertyValue,
                 "Precondition violation - argument 'propertyKeyToPropertyValue' must not be NULL!");
+        this.registerGraphWideRead();
         return this.queryProcessor.getEdgesByProperties(propertyKeyToPropertyValue);
     }
 
@@ -288,12 +305,58 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             final Collection<SearchSpecification<?>> searchSpecifications) {
         checkNotNull(searchSpecifications,
                 "Precondition violation - argument 'searchSpecifications' must not be NULL!");
+        this.registerGraphWideRead();
         return this.queryProcessor.getEdgesBySearchSpecifications(Sets.newLinkedHashSet(searchSpecifications));
     }
 
+    @Override
+    public Iterator<Vertex> getVerticesOrderedByIndexedProperty(
+            final Collection<SearchSpecification<?>> searchSpecifications, final String propertyKey,
+            final Order order, final long limit) {
+        checkNotNull(searchSpecifications,
+                "Precondition violation - argument 'searchSpecifications' must not be NULL!");
+        checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+        checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+        checkArgument(limit >= 0, "Precondition violation - argument 'limit' must not be negative!");
+        this.registerGraphWideRead();
+        return this.queryProcessor.getVerticesOrderedByIndexedProperty(Sets.newLinkedHashSet(searchSpecifications),
+                propertyKey, order, limit);
+    }
+
+    @Override
+    public Iterator<Edge> getEdgesOrderedByIndexedProperty(
+            final Collection<SearchSpecification<?>> searchSpecifications, final String propertyKey,
+            final Order order, final long limit) {
+        checkNotNull(searchSpecifications,
+                "Precondition violation - argument 'searchSpecifications' must not be NULL!");
+        checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+        checkNotNull(order, "Precondition violation - argument 'order' must not be NULL!");
+        checkArgument(limit >= 0, "Precondition violation - argument 'limit' must not be negative!");
+        this.registerGraphWideRead();
+        return this.queryProcessor.getEdgesOrderedByIndexedProperty(Sets.newLinkedHashSet(searchSpecifications),
+                propertyKey, order, limit);
+    }
+
+    @Override
+    public long countVerticesBySearchSpecifications(final Collection<SearchSpecification<?>> searchSpecifications) {
+        checkNotNull(searchSpecifications,
+                "Precondition violation - argument 'searchSpecifications' must not be NULL!");
+        this.registerGraphWideRead();
+        return this.queryProcessor.countVerticesBySearchSpecifications(Sets.newLinkedHashSet(searchSpecifications));
+    }
+
+    @Override
+    public long countEdgesBySearchSpecifications(final Collection<SearchSpecification<?>> searchSpecifications) {
+        checkNotNull(searchSpecifications,
+                "Precondition violation - argument 'searchSpecifications' must not be NULL!");
+        this.registerGraphWideRead();
+        return this.queryProcessor.countEdgesBySearchSpecifications(Sets.newLinkedHashSet(searchSpecifications));
+    }
+
     @Override
     public Set<Edge> evaluateEdgeQuery(final ChronoDBQuery query) {
         checkNotNull(query, "Precondition violation - argument 'query' must not be NULL!");
+        this.registerGraphWideRead();
         return this.queryProcessor.evaluateEdgeQuery(query);
     }
 
@@ -514,8 +577,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             case EAGER:
                 // we are not sure if there is a vertex in the database for the given id. We need
                 // to make a load attempt to make sure it exists.
-                ChronoDBTransaction tx = this.getBackingDBTransaction();
-                VertexRecord record = tx.get(ChronoGraphConstants.KEYSPACE_VERTEX, id.toString());
+                VertexRecord record = this.loadVertexRecord(id);
                 // load the vertex from the database
                 if (record == null) {
                     return null;
@@ -536,6 +598,56 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         return vertex;
     }
 
+    @Override
+    public void prefetchVertices(final Collection<String> vertexIds) {
+        checkNotNull(vertexIds, "Precondition violation - argument 'vertexIds' must not be NULL!");
+        Set<String> idsToLoad = Sets.newHashSet();
+        for (String id : vertexIds) {
+            if (this.context.getModifiedVertex(id) != null) {
+                // the transient state of modified vertices always takes precedence
+                continue;
+            }
+            ChronoVertexImpl loadedVertex = this.context.getLoadedVertexForId(id);
+            if (loadedVertex == null || loadedVertex.isLazyLoadPending()) {
+                idsToLoad.add(id);
+            }
+        }
+        if (idsToLoad.size() <= 1) {
+            // no need to batch anything, the vertex will be loaded on demand
+            return;
+        }
+        Map<String, VertexRecord> records = Maps.newHashMap();
+        Set<String> idsToFetch = Sets.newHashSet();
+        for (String id : idsToLoad) {
+            if (this.preloadedVertexRecords.containsKey(id)) {
+                VertexRecord record = this.preloadedVertexRecords.get(id);
+                if (record != null) {
+                    records.put(id, record);
+                }
+            } else {
+                idsToFetch.add(id);
+            }
+        }
+        if (idsToFetch.isEmpty() == false) {
+            ChronoDBTransaction tx = this.getBackingDBTransaction();
+            records.putAll(tx.getMultiple(ChronoGraphConstants.KEYSPACE_VERTEX, idsToFetch));
+        }
+        if (this.readSet != null) {
+            for (String id : idsToLoad) {
+                this.readSet.registerVertexRead(id, records.get(id));
+            }
+        }
+        for (Map.Entry<String, VertexRecord> entry : records.entrySet()) {
+            ChronoVertexImpl loadedVertex = this.context.getLoadedVertexForId(entry.getKey());
+            if (loadedVertex != null) {
+                // the vertex has been loaded lazily; fill in the record we just fetched
+                loadedVertex.loadPrefetchedRecord(entry.getValue());
+            } else {
+                this.context.registerLoadedVertex(new ChronoVertexImpl(this.graph, this, entry.getValue()));
+            }
+        }
+    }
+
     public ChronoEdgeImpl loadEdge(final String id) {
         checkNotNull(id, "Precondition violation - argument 'id' must not be NULL!");
         // first, try to find the edge in our 'modified edges' cache
@@ -551,8 +663,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             return loadedEdge;
         }
         // load the edge from the database
-        ChronoDBTransaction tx = this.getBackingDBTransaction();
-        EdgeRecord record = tx.get(ChronoGraphConstants.KEYSPACE_EDGE, id.toString());
+        EdgeRecord record = this.loadEdgeRecord(id);
         if (record == null) {
             return null;
         }
@@ -562,6 +673,61 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         return edge;
     }
 
+    @Override
+    public VertexRecord loadVertexRecord(final String vertexId) {
+        checkNotNull(vertexId, "Precondition violation - argument 'vertexId' must not be NULL!");
+        VertexRecord record;
+        if (this.preloadedVertexRecords.containsKey(vertexId)) {
+            record = this.preloadedVertexRecords.get(vertexId);
+        } else {
+            record = this.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
+        }
+        if (this.readSet != null) {
+            this.readSet.registerVertexRead(vertexId, record);
+        }
+        return record;
+    }
+
+    @Override
+    public EdgeRecord loadEdgeRecord(final String edgeId) {
+        checkNotNull(edgeId, "Precondition violation - argument 'edgeId' must not be NULL!");
+        EdgeRecord record;
+        if (this.preloadedEdgeRecords.containsKey(edgeId)) {
+            record = this.preloadedEdgeRecords.get(edgeId);
+        } else {
+            record = this.getBackingDBTransaction().get(ChronoGraphConstants.KEYSPACE_EDGE, edgeId);
+        }
+        if (this.readSet != null) {
+            this.readSet.registerEdgeRead(edgeId, record);
+        }
+        return record;
+    }
+
+    @Override
+    public void preloadRecords(final Map<String, VertexRecord> vertexRecords,
+                               final Map<String, EdgeRecord> edgeRecords) {
+        checkNotNull(vertexRecords, "Precondition violation - argument 'vertexRecords' must not be NULL!");
+        checkNotNull(edgeRecords, "Precondition violation - argument 'edgeRecords' must not be NULL!");
+        this.preloadedVertexRecords = vertexRecords;
+        this.preloadedEdgeRecords = edgeRecords;
+    }
+
+    @Override
+    public GraphReadSet startReadTracking() {
+        if (this.readSet == null) {
+            this.readSet = new GraphReadSet();
+        }
+        return this.readSet;
+    }
+
+    @Override
+    public void registerIndexedVertexReads(final Collection<String> vertexIds) {
+        checkNotNull(vertexIds, "Precondition violation - argument 'vertexIds' must not be NULL!");
+        if (this.readSet != null) {
+            vertexIds.forEach(this.readSet::registerIndexedVertexRead);
+        }
+    }
+
     @Override
     public ChronoEdge loadOutgoingEdgeFromEdgeTargetRecord(final ChronoVertexImpl sourceVertex, final String label,
                                                            final EdgeTargetRecord record) {
@@ -618,6 +784,12 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
     // INTERNAL HELPER METHODS
     // =====================================================================================================================
 
+    private void registerGraphWideRead() {
+        if (this.readSet != null) {
+            this.readSet.registerGraphWideRead();
+        }
+    }
+
     private boolean areAllOfType(final Class<?> clazz, final Object... objects) {
         for (Object object : objects) {
             if (clazz.isInstance(object) == false) {
@@ -641,17 +813,24 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
 
     private boolean performGraphLevelMergeWithStoreState(final Object metadata) {
         // check if another transaction has been committed since this transaction was opened
+        ChronoDBTransaction storeTx = this.graph.getBackingDB().tx(this.getBranchName());
+        if (storeTx.getTimestamp() == this.getTimestamp()) {
+            // nothing has happened in the backing store since this transaction was
+            // opened, therefore no conflict resolution is needed.
+            return false;
+        }
+        if (this.mergeRecordsInto(storeTx)) {
+            storeTx.commit(metadata);
+            return true;
+        }
+        // at least one of the concurrent changes can't be merged on the record level (e.g. because a vertex
+        // has been deleted concurrently); replay our changes on the element level instead.
+        storeTx.rollback();
         ChronoGraph g = this.graph;
         if (g instanceof ChronoThreadedTransactionGraph) {
             g = ((ChronoThreadedTransactionGraph) g).getOriginalGraph();
         }
         ChronoGraph currentStateGraph = g.tx().createThreadedTx(this.getBranchName());
-        long now = currentStateGraph.getNow(this.getBranchName());
-        if (now == this.getTimestamp()) {
-            // nothing has happened in the backing store since this transaction was
-            // opened, therefore no conflict resolution is needed.
-            return false;
-        }
         this.mergeVertexChangesInto(currentStateGraph);
         this.mergeEdgeChangesInto(currentStateGraph);
         this.mergeGraphVariableChangesInto(currentStateGraph);
@@ -659,6 +838,114 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         return true;
     }
 
+    /**
+     * Merges the change set of the backing transaction into the given transaction on the latest state of the store.
+     *
+     * <p>
+     * Only the keys which have been modified concurrently (i.e. after the timestamp of this transaction) need to be
+     * merged. All other keys are transferred as they are.
+     *
+     * @param storeTx The transaction on the latest state of the branch to merge into. Must not be <code>null</code>.
+     * @return <code>true</code> if the merge was successful, or <code>false</code> if at least one concurrent change
+     * can not be merged on the record level. In the latter case, the given transaction must be discarded.
+     */
+    private boolean mergeRecordsInto(final ChronoDBTransaction storeTx) {
+        ChronoDBTransaction baseTx = this.graph.getBackingDB().tx(this.getBranchName(), this.getTimestamp());
+        Map<String, Set<String>> keyspaceToConcurrentlyModifiedKeys = Maps.newHashMap();
+        for (ChangeSetEntry entry : this.getBackingDBTransaction().getChangeSet()) {
+            String keyspace = entry.getKeyspace();
+            String key = entry.getKey();
+            Set<String> concurrentlyModifiedKeys = keyspaceToConcurrentlyModifiedKeys.computeIfAbsent(keyspace,
+                    k -> this.getKeysModifiedSince(storeTx, k));
+            boolean merged;
+            if (concurrentlyModifiedKeys.contains(key) == false) {
+                // nobody else has touched this key, our version is the latest one
+                this.transferChange(entry, entry.isRemove() ? null : entry.getValue(), storeTx);
+                merged = true;
+            } else if (ChronoGraphConstants.KEYSPACE_VERTEX.equals(keyspace)) {
+                merged = this.mergeVertexRecordInto(entry, baseTx.get(keyspace, key), storeTx);
+            } else if (ChronoGraphConstants.KEYSPACE_EDGE.equals(keyspace)) {
+                merged = this.mergeEdgeRecordInto(entry, baseTx.get(keyspace, key), storeTx);
+            } else if (ChronoGraphConstants.KEYSPACE_ADJACENCY.equals(keyspace)) {
+                // the edges of an adjacency page can't be attributed to labels without the vertex
+                merged = false;
+            } else {
+                // graph variables: the value of this transaction wins
+                this.transferChange(entry, entry.isRemove() ? null : entry.getValue(), storeTx);
+                merged = true;
+            }
+            if (merged == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean mergeVertexRecordInto(final ChangeSetEntry entry, final VertexRecord base,
+                                          final ChronoDBTransaction storeTx) {
+        VertexRecord local = entry.isRemove() ? null : (VertexRecord) entry.getValue();
+        VertexRecord store = storeTx.get(entry.getKeyspace(), entry.getKey());
+        if (GraphRecordMergeUtils.isPaged(base) || GraphRecordMergeUtils.isPaged(store)
+                || GraphRecordMergeUtils.isPaged(local)) {
+            // the adjacency is stored in separate pages
+            return false;
+        }
+        if (local == null) {
+            if (store == null) {
+                // the vertex has been deleted concurrently as well
+                return true;
+            }
+            if (base == null || GraphRecordMergeUtils.hasSameAdjacency(base, store) == false) {
+                // edges have been added to the vertex concurrently, they need to be deleted as well
+                return false;
+            }
+            this.transferChange(entry, null, storeTx);
+            return true;
+        }
+        if (base == null || store == null) {
+            // the vertex has been created or deleted concurrently
+            return false;
+        }
+        this.transferChange(entry, GraphRecordMergeUtils.mergeVertexRecords(base, store, local), storeTx);
+        return true;
+    }
+
+    private boolean mergeEdgeRecordInto(final ChangeSetEntry entry, final EdgeRecord base,
+                                        final ChronoDBTransaction storeTx) {
+        EdgeRecord local = entry.isRemove() ? null : (EdgeRecord) entry.getValue();
+        EdgeRecord store = storeTx.get(entry.getKeyspace(), entry.getKey());
+        if (local == null) {
+            this.transferChange(entry, null, storeTx);
+            return true;
+        }
+        if (base == null) {
+            // an edge with the same ID has been created concurrently
+            return false;
+        }
+        if (store == null) {
+            // the edge has been deleted concurrently; the deletion wins over our property changes
+            return true;
+        }
+        this.transferChange(entry, GraphRecordMergeUtils.mergeEdgeRecords(base, store, local), storeTx);
+        return true;
+    }
+
+    private Set<String> getKeysModifiedSince(final ChronoDBTransaction storeTx, final String keyspace) {
+        Set<String> keys = Sets.newHashSet();
+        Iterator<TemporalKey> modifications = storeTx.getModificationsInKeyspaceBetween(keyspace,
+                this.getTimestamp() + 1, storeTx.getTimestamp());
+        modifications.forEachRemaining(temporalKey -> keys.add(temporalKey.getKey()));
+        return keys;
+    }
+
+    private void transferChange(final ChangeSetEntry entry, final Object value, final ChronoDBTransaction storeTx) {
+        if (value == null) {
+            storeTx.remove(entry.getKeyspace(), entry.getKey());
+        } else {
+            storeTx.put(entry.getKeyspace(), entry.getKey(), value,
+                    entry.getOptions().toArray(new PutOption[entry.getOptions().size()]));
+        }
+    }
 
     private void mergeVertexChangesInto(final ChronoGraph currentStateGraph) {
         Set<ChronoVertexImpl> verticesToSynchronize = Sets.newHashSet(this.getContext().getModifiedVertices());
@@ -862,6 +1149,7 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
             ElementLifecycleStatus vertexStatus = vertex.getStatus();
             switch (vertexStatus) {
                 case NEW:
+                    this.mapAdjacencyPagesToChronoDB(vertex);
                     tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord());
                     break;
                 case OBSOLETE:
@@ -869,17 +1157,29 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
                     // they have been created AND removed in the same transaction
                     break;
                 case EDGE_CHANGED:
-                    tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord(), PutOption.NO_INDEX);
+                    if (vertex.isAdjacencyPaged()) {
+                        // the vertex record only needs to be rewritten if the number of pages has changed
+                        boolean pageCountChanged = this.mapAdjacencyPagesToChronoDB(vertex);
+                        if (pageCountChanged) {
+                            tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord(), PutOption.NO_INDEX);
+                        }
+                    } else {
+                        tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord(), PutOption.NO_INDEX);
+                    }
                     break;
                 case PERSISTED:
                     // this case should actually be unreachable because persisted elements are clean and not dirty
                     throw new IllegalStateException(
                             "Unreachable code reached: PERSISTED vertex '" + vertexId + "' is listed as dirty!");
                 case PROPERTY_CHANGED:
+                    this.mapAdjacencyPagesToChronoDB(vertex);
                     tx.put(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId, vertex.toRecord());
                     break;
                 case REMOVED:
                     tx.remove(ChronoGraphConstants.KEYSPACE_VERTEX, vertexId);
+                    for (String pageKey : vertex.getAdjacencyPageKeys()) {
+                        tx.remove(ChronoGraphConstants.KEYSPACE_ADJACENCY, pageKey);
+                    }
                     break;
                 default:
                     throw new UnknownEnumLiteralException(vertexStatus);
@@ -887,6 +1187,27 @@ public class StandardChronoGraphTransaction implements ChronoGraphTransaction, C
         }
     }
 
+    /**
+     * Writes the modified adjacency pages of the given vertex into the backing transaction.
+     *
+     * @param vertex The vertex to write the adjacency pages for. Must not be <code>null</code>.
+     * @return <code>true</code> if a page has been added or removed (i.e. the vertex record needs to be rewritten),
+     * otherwise <code>false</code>.
+     */
+    private boolean mapAdjacencyPagesToChronoDB(final ChronoVertexImpl vertex) {
+        ChronoDBTransaction tx = this.getBackingDBTransaction();
+        Set<String> pageKeysBefore = vertex.getAdjacencyPageKeys();
+        Map<String, AdjacencyPageRecord> pages = vertex.prepareAdjacencyPagesForCommit();
+        for (Map.Entry<String, AdjacencyPageRecord> entry : pages.entrySet()) {
+            if (entry.getValue() == null) {
+                tx.remove(ChronoGraphConstants.KEYSPACE_ADJACENCY, entry.getKey());
+            } else {
+                tx.put(ChronoGraphConstants.KEYSPACE_ADJACENCY, entry.getKey(), entry.getValue(), PutOption.NO_INDEX);
+            }
+        }
+        return pageKeysBefore.equals(vertex.getAdjacencyPageKeys()) == false;
+    }
+
     private void mapModifiedEdgesToChronoDB() {
         // get the backing transaction
         ChronoDBTransaction tx = this.getBackingDBTransaction();
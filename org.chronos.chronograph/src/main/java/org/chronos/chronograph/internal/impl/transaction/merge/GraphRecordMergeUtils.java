@@ -0,0 +1,170 @@
+package org.chronos.chronograph.internal.impl.transaction.merge;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeTargetRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PagedVertexRecord;
+import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexPropertyRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.collect.Sets;
+
+/**
+ * Three-way merge of graph element records, used when a graph transaction is committed after a concurrent commit on the
+ * same branch.
+ *
+ * <p>
+ * All methods in this class receive three versions of the same element:
+ * <ul>
+ * <li><b>base</b>: the version the transaction was started on.
+ * <li><b>store</b>: the latest committed version.
+ * <li><b>local</b>: the version produced by the transaction.
+ * </ul>
+ *
+ * Changes which only occurred on one side are taken from that side. If a property has been changed on both sides,
+ * the value of the transaction wins, just as in the element-level merge.
+ */
+public class GraphRecordMergeUtils {
+
+	/**
+	 * Merges the given versions of a vertex record.
+	 *
+	 * <p>
+	 * The adjacency of vertices with {@linkplain PagedVertexRecord adjacency pages} is not contained in the record and
+	 * can therefore not be merged by this method.
+	 *
+	 * @param base
+	 *            The version the transaction was started on. Must not be <code>null</code>. Must not be paged.
+	 * @param store
+	 *            The latest committed version. Must not be <code>null</code>. Must not be paged.
+	 * @param local
+	 *            The version produced by the transaction. Must not be <code>null</code>. Must not be paged.
+	 *
+	 * @return The merged record. Never <code>null</code>.
+	 */
+	public static VertexRecord mergeVertexRecords(final VertexRecord base, final VertexRecord store,
+			final VertexRecord local) {
+		checkNotNull(base, "Precondition violation - argument 'base' must not be NULL!");
+		checkNotNull(store, "Precondition violation - argument 'store' must not be NULL!");
+		checkNotNull(local, "Precondition violation - argument 'local' must not be NULL!");
+		checkArgument(isPaged(base) == false && isPaged(store) == false && isPaged(local) == false,
+				"Precondition violation - paged vertex records cannot be merged!");
+		SetMultimap<String, EdgeTargetRecord> inE = mergeAdjacency(base, store, local, Direction.IN);
+		SetMultimap<String, EdgeTargetRecord> outE = mergeAdjacency(base, store, local, Direction.OUT);
+		Set<VertexPropertyRecord> properties = Sets.newHashSet(
+				mergeProperties(base.getProperties(), store.getProperties(), local.getProperties()).values());
+		return new VertexRecord(local.getId(), local.getLabel(), inE, outE, properties);
+	}
+
+	/**
+	 * Merges the given versions of an edge record.
+	 *
+	 * <p>
+	 * As the label and the adjacent vertices of an edge never change, only the properties need to be merged.
+	 *
+	 * @param base
+	 *            The version the transaction was started on. Must not be <code>null</code>.
+	 * @param store
+	 *            The latest committed version. Must not be <code>null</code>.
+	 * @param local
+	 *            The version produced by the transaction. Must not be <code>null</code>.
+	 *
+	 * @return The merged record. Never <code>null</code>.
+	 */
+	public static EdgeRecord mergeEdgeRecords(final EdgeRecord base, final EdgeRecord store, final EdgeRecord local) {
+		checkNotNull(base, "Precondition violation - argument 'base' must not be NULL!");
+		checkNotNull(store, "Precondition violation - argument 'store' must not be NULL!");
+		checkNotNull(local, "Precondition violation - argument 'local' must not be NULL!");
+		Set<PropertyRecord> properties = Sets.newHashSet(
+				mergeProperties(base.getProperties(), store.getProperties(), local.getProperties()).values());
+		return new EdgeRecord(local.getId(), local.getOutVertexId(), local.getLabel(), local.getInVertexId(),
+				properties);
+	}
+
+	/**
+	 * Checks if the given vertex records have the same edges.
+	 *
+	 * @param first
+	 *            The first record. Must not be <code>null</code>. Must not be paged.
+	 * @param second
+	 *            The second record. Must not be <code>null</code>. Must not be paged.
+	 *
+	 * @return <code>true</code> if both records contain the same edges, otherwise <code>false</code>.
+	 */
+	public static boolean hasSameAdjacency(final VertexRecord first, final VertexRecord second) {
+		checkNotNull(first, "Precondition violation - argument 'first' must not be NULL!");
+		checkNotNull(second, "Precondition violation - argument 'second' must not be NULL!");
+		checkArgument(isPaged(first) == false && isPaged(second) == false,
+				"Precondition violation - paged vertex records cannot be compared!");
+		return first.getIncomingEdgesByLabel().equals(second.getIncomingEdgesByLabel())
+				&& first.getOutgoingEdgesByLabel().equals(second.getOutgoingEdgesByLabel());
+	}
+
+	public static boolean isPaged(final VertexRecord record) {
+		return record instanceof PagedVertexRecord;
+	}
+
+	// =====================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =====================================================================================================================
+
+	private static SetMultimap<String, EdgeTargetRecord> mergeAdjacency(final VertexRecord base,
+			final VertexRecord store, final VertexRecord local, final Direction direction) {
+		SetMultimap<String, EdgeTargetRecord> merged = HashMultimap.create();
+		for (String label : store.getEdgeLabels(direction)) {
+			merged.putAll(label, store.getEdges(direction, label));
+		}
+		Set<String> labels = Sets.union(base.getEdgeLabels(direction), local.getEdgeLabels(direction));
+		for (String label : labels) {
+			Set<EdgeTargetRecord> baseEdges = base.getEdges(direction, label);
+			Set<EdgeTargetRecord> localEdges = local.getEdges(direction, label);
+			// apply the edges added in the transaction...
+			merged.putAll(label, Sets.difference(localEdges, baseEdges));
+			// ... and the edges removed in the transaction
+			for (EdgeTargetRecord removedEdge : Sets.difference(baseEdges, localEdges)) {
+				merged.remove(label, removedEdge);
+			}
+		}
+		return merged;
+	}
+
+	private static <T extends PropertyRecord> Map<String, T> mergeProperties(final Collection<T> base,
+			final Collection<T> store, final Collection<T> local) {
+		Map<String, T> baseByKey = indexByKey(base);
+		Map<String, T> localByKey = indexByKey(local);
+		Map<String, T> merged = indexByKey(store);
+		for (String key : Sets.union(baseByKey.keySet(), localByKey.keySet())) {
+			T baseProperty = baseByKey.get(key);
+			T localProperty = localByKey.get(key);
+			if (localProperty == null) {
+				if (baseProperty != null) {
+					// the property has been removed in the transaction
+					merged.remove(key);
+				}
+			} else if (localProperty.hasSameContentAs(baseProperty) == false) {
+				// the property has been added or changed in the transaction
+				merged.put(key, localProperty);
+			}
+		}
+		return merged;
+	}
+
+	private static <T extends PropertyRecord> Map<String, T> indexByKey(final Collection<T> properties) {
+		Map<String, T> result = Maps.newHashMap();
+		for (T property : properties) {
+			result.put(property.getKey(), property);
+		}
+		return result;
+	}
+
+}
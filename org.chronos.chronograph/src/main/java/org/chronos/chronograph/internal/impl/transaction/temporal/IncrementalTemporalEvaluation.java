@@ -0,0 +1,207 @@
+package org.chronos.chronograph.internal.impl.transaction.temporal;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.api.key.TemporalKey;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronograph.internal.impl.structure.record.AdjacencyPageRecord;
+import org.chronos.chronograph.internal.impl.structure.record.EdgeRecord;
+import org.chronos.chronograph.internal.impl.structure.record.VertexRecord;
+import org.chronos.chronograph.internal.impl.transaction.GraphReadSet;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Evaluates a read-only function on the graph at a sequence of commit timestamps, re-using as much work as possible
+ * from one timestamp to the next.
+ *
+ * <p>
+ * The function is evaluated in a fresh threaded transaction for every timestamp which requires it. Each transaction
+ * keeps track of the elements it reads (see {@link GraphReadSet}). Before moving on to the next timestamp, the keys
+ * which have been modified in between are fetched from the backing store. This has two effects:
+ * <ul>
+ * <li>If none of the modified elements has been read by the last evaluation (and the last evaluation did not perform a
+ * graph-wide query), the last result is still valid and is returned again without evaluating the function.
+ * <li>All records which have been read by the last evaluation and which have not been modified in between are still
+ * valid at the next timestamp. They are handed to the next transaction, which therefore only needs to fetch the records
+ * of the modified (or previously unread) elements from the backing store.
+ * </ul>
+ *
+ * Only the records read by the last evaluation are retained, such that the memory consumption is bounded by the
+ * working set of a single evaluation rather than growing with the number of visited timestamps.
+ *
+ * Changes to the graph variables always cause a re-evaluation, as variable reads are not tracked.
+ *
+ * @param <R>
+ *            The type of the function results.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class IncrementalTemporalEvaluation<R> implements Iterator<Pair<Long, R>> {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final ChronoGraphInternal graph;
+	private final String branch;
+	private final Iterator<Long> commitTimestamps;
+	private final Function<ChronoGraph, R> function;
+
+	/** The vertex records which are known to be valid at {@link #lastTimestamp}. */
+	private final Map<String, VertexRecord> validVertexRecords = Maps.newHashMap();
+	/** The edge records which are known to be valid at {@link #lastTimestamp}. */
+	private final Map<String, EdgeRecord> validEdgeRecords = Maps.newHashMap();
+
+	/** The last timestamp which has been visited, or -1 if no timestamp has been visited yet. */
+	private long lastTimestamp = -1;
+	/** The read set of the last function evaluation, or <code>null</code> if the function has not been evaluated yet. */
+	private GraphReadSet lastReadSet = null;
+	private R lastResult = null;
+
+	private int evaluationCount = 0;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	/**
+	 * Creates a new evaluation.
+	 *
+	 * @param graph
+	 *            The graph to evaluate the function on. Must not be <code>null</code>.
+	 * @param branch
+	 *            The branch to evaluate the function on. Must not be <code>null</code>.
+	 * @param commitTimestamps
+	 *            The timestamps to evaluate the function at, in ascending order. Must not be <code>null</code>.
+	 * @param function
+	 *            The function to evaluate. Must not be <code>null</code>.
+	 */
+	public IncrementalTemporalEvaluation(final ChronoGraphInternal graph, final String branch,
+			final Iterator<Long> commitTimestamps, final Function<ChronoGraph, R> function) {
+		checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+		checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+		checkNotNull(commitTimestamps, "Precondition violation - argument 'commitTimestamps' must not be NULL!");
+		checkNotNull(function, "Precondition violation - argument 'function' must not be NULL!");
+		this.graph = graph;
+		this.branch = branch;
+		this.commitTimestamps = commitTimestamps;
+		this.function = function;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	@Override
+	public boolean hasNext() {
+		return this.commitTimestamps.hasNext();
+	}
+
+	@Override
+	public Pair<Long, R> next() {
+		if (this.hasNext() == false) {
+			throw new NoSuchElementException();
+		}
+		long timestamp = this.commitTimestamps.next();
+		checkState(timestamp > this.lastTimestamp, "Commit timestamps must be visited in ascending order!");
+		boolean affected = this.lastReadSet == null || this.applyChangesUntil(timestamp);
+		this.lastTimestamp = timestamp;
+		if (affected) {
+			this.evaluateAt(timestamp);
+		}
+		return Pair.of(timestamp, this.lastResult);
+	}
+
+	/**
+	 * Returns the number of times the function has actually been evaluated so far.
+	 *
+	 * @return The number of evaluations. Never negative, and never greater than the number of visited timestamps.
+	 */
+	public int getEvaluationCount() {
+		return this.evaluationCount;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	/**
+	 * Invalidates all records which have been modified after the {@linkplain #lastTimestamp last timestamp}, up to and
+	 * including the given timestamp.
+	 *
+	 * @param timestamp
+	 *            The next timestamp to visit.
+	 *
+	 * @return <code>true</code> if the last result is affected by the modifications, otherwise <code>false</code>.
+	 */
+	private boolean applyChangesUntil(final long timestamp) {
+		ChronoDBTransaction tx = this.graph.getBackingDB().tx(this.branch, timestamp);
+		long lowerBound = this.lastTimestamp + 1;
+		boolean graphWideRead = this.lastReadSet.isGraphWideRead();
+		boolean affected = false;
+		// note: we need to visit all modifications (even if we already know that we are affected),
+		// as all modified records need to be invalidated.
+		Iterator<TemporalKey> vertexChanges = tx.getModificationsInKeyspaceBetween(
+				ChronoGraphConstants.KEYSPACE_VERTEX, lowerBound, timestamp);
+		while (vertexChanges.hasNext()) {
+			String vertexId = vertexChanges.next().getKey();
+			this.validVertexRecords.remove(vertexId);
+			affected = affected || graphWideRead || this.lastReadSet.containsVertex(vertexId);
+		}
+		Iterator<TemporalKey> edgeChanges = tx.getModificationsInKeyspaceBetween(ChronoGraphConstants.KEYSPACE_EDGE,
+				lowerBound, timestamp);
+		while (edgeChanges.hasNext()) {
+			String edgeId = edgeChanges.next().getKey();
+			this.validEdgeRecords.remove(edgeId);
+			affected = affected || graphWideRead || this.lastReadSet.containsEdge(edgeId);
+		}
+		if (affected == false) {
+			// in the paged adjacency layout, adding an edge does not necessarily modify the vertex record
+			Iterator<TemporalKey> pageChanges = tx.getModificationsInKeyspaceBetween(
+					ChronoGraphConstants.KEYSPACE_ADJACENCY, lowerBound, timestamp);
+			while (affected == false && pageChanges.hasNext()) {
+				String vertexId = AdjacencyPageRecord.getVertexIdFromKey(pageChanges.next().getKey());
+				affected = graphWideRead || this.lastReadSet.containsVertex(vertexId);
+			}
+		}
+		if (affected == false) {
+			affected = tx.getModificationsInKeyspaceBetween(ChronoGraphConstants.KEYSPACE_VARIABLES, lowerBound,
+					timestamp).hasNext();
+		}
+		return affected;
+	}
+
+	private void evaluateAt(final long timestamp) {
+		ChronoGraph txGraph = this.graph.tx().createThreadedTx(this.branch, timestamp);
+		try {
+			ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) txGraph.tx().getCurrentTransaction();
+			// all of these records have been checked for modifications up to the given timestamp
+			tx.preloadRecords(this.validVertexRecords, this.validEdgeRecords);
+			GraphReadSet readSet = tx.startReadTracking();
+			this.lastResult = this.function.apply(txGraph);
+			this.lastReadSet = readSet;
+			this.evaluationCount++;
+		} finally {
+			txGraph.close();
+		}
+		// the records read by this evaluation are valid at this timestamp; records which have not
+		// been needed by it are evicted, as they most likely won't be needed by the next one either
+		this.validVertexRecords.clear();
+		this.validVertexRecords.putAll(this.lastReadSet.getVertexRecords());
+		this.validEdgeRecords.clear();
+		this.validEdgeRecords.putAll(this.lastReadSet.getEdgeRecords());
+	}
+
+}
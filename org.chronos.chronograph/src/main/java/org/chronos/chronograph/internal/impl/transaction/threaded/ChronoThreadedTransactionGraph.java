@@ -27,6 +27,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -434,6 +435,12 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
         return this.originalGraph.getChangedEdgesAtCommit(branch, commitTimestamp);
     }
 
+    @Override
+    public <R> Iterator<Pair<Long, R>> evaluateAtCommitsBetween(final String branch, final long from, final long to,
+            final Function<ChronoGraph, R> function) {
+        return this.originalGraph.evaluateAtCommitsBetween(branch, from, to, function);
+    }
+
     // =====================================================================================================================
     // SERIALIZATION & DESERIALIZATION (GraphSon, Gyro, ...)
     // =====================================================================================================================
@@ -480,8 +487,8 @@ public class ChronoThreadedTransactionGraph implements ChronoGraphInternal {
     }
 
     @Override
-    public AutoLock commitLock() {
-        return this.originalGraph.commitLock();
+    public AutoLock commitLock(final String branchName) {
+        return this.originalGraph.commitLock(branchName);
     }
 
     public ChronoGraph getOriginalGraph() {
@@ -7,6 +7,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 
 import org.apache.tinkerpop.gremlin.structure.Element;
+import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
 import org.chronos.chronograph.api.builder.index.IndexBuilderStarter;
 import org.chronos.chronograph.api.index.ChronoGraphIndex;
@@ -34,6 +35,14 @@ public class ThreadedChronoGraphIndexManager implements ChronoGraphIndexManager,
 		});
 	}
 
+	@Override
+	public Set<SearchSpecification<?>> getIndexedSearchSpecifications(final Class<? extends Element> clazz,
+			final Set<SearchSpecification<?>> searchSpecifications) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.getIndexedSearchSpecifications(clazz, searchSpecifications);
+		});
+	}
+
 	@Override
 	public Iterator<String> findVertexIdsByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications) {
 		return this.wrappedManager.executeOnGraph(this.graph, () -> {
@@ -48,6 +57,50 @@ public class ThreadedChronoGraphIndexManager implements ChronoGraphIndexManager,
 		});
 	}
 
+	@Override
+	public Iterator<String> findVertexIdsOrderedByIndexedProperty(final String propertyName, final Order order,
+			final int batchSize) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.findVertexIdsOrderedByIndexedProperty(propertyName, order, batchSize);
+		});
+	}
+
+	@Override
+	public Set<String> findVertexIdsWithIndexedProperty(final String propertyName) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.findVertexIdsWithIndexedProperty(propertyName);
+		});
+	}
+
+	@Override
+	public Iterator<String> findEdgeIdsOrderedByIndexedProperty(final String propertyName, final Order order,
+			final int batchSize) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.findEdgeIdsOrderedByIndexedProperty(propertyName, order, batchSize);
+		});
+	}
+
+	@Override
+	public Set<String> findEdgeIdsWithIndexedProperty(final String propertyName) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.findEdgeIdsWithIndexedProperty(propertyName);
+		});
+	}
+
+	@Override
+	public long countVerticesByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.countVerticesByIndexedProperties(searchSpecifications);
+		});
+	}
+
+	@Override
+	public long countEdgesByIndexedProperties(final Set<SearchSpecification<?>> searchSpecifications) {
+		return this.wrappedManager.executeOnGraph(this.graph, () -> {
+			return this.wrappedManager.countEdgesByIndexedProperties(searchSpecifications);
+		});
+	}
+
 	@Override
 	public IndexBuilderStarter create() {
 		return this.wrappedManager.executeOnGraph(this.graph, () -> {
@@ -0,0 +1,404 @@
+package org.chronos.chronograph.test.gremlin;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.query.Condition;
+import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
+import org.chronos.chronodb.internal.impl.query.StringSearchSpecificationImpl;
+import org.chronos.chronodb.internal.impl.query.TextMatchMode;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoEdgeVertexStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphCountStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoGraphStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoHasStep;
+import org.chronos.chronograph.internal.impl.optimizer.step.ChronoVertexStep;
+import org.chronos.chronograph.internal.impl.structure.graph.ChronoVertexImpl;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class GremlinProviderStrategiesTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void countIsPushedDownIntoTheIndex() {
+		ChronoGraph graph = this.getGraph();
+		ChronoGraphIndexManager indexManager = graph.getIndexManager();
+		indexManager.create().stringIndex().onVertexProperty("kind").build();
+		indexManager.reindexAll();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		GraphTraversal<Vertex, Long> traversal = graph.traversal().V().has("kind", "person").count();
+		traversal.asAdmin().applyStrategies();
+		assertTrue(traversal.asAdmin().getStartStep() instanceof ChronoGraphCountStep);
+		assertEquals(10L, (long) traversal.next());
+		assertEquals(11L, (long) graph.traversal().V().count().next());
+		assertEquals(10L, (long) graph.traversal().E().count().next());
+		assertEquals(0L, (long) graph.traversal().V().has("kind", "project").count().next());
+	}
+
+	@Test
+	public void countOnNonIndexedPropertiesWorks() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+		assertEquals(5L, (long) graph.traversal().V().has("parity", "even").count().next());
+		assertEquals(10L, (long) graph.traversal().E().has("since", 2000).count().next());
+	}
+
+	@Test
+	public void countRespectsTransientModifications() {
+		ChronoGraph graph = this.getGraph();
+		ChronoGraphIndexManager indexManager = graph.getIndexManager();
+		indexManager.create().stringIndex().onVertexProperty("kind").build();
+		indexManager.reindexAll();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		graph.addVertex("kind", "person", "name", "Transient");
+		graph.traversal().V().has("name", "p0").next().remove();
+		graph.traversal().V().has("name", "p1").next().property("kind", "robot");
+		assertEquals(9L, (long) graph.traversal().V().has("kind", "person").count().next());
+		assertEquals(11L, (long) graph.traversal().V().count().next());
+		assertEquals(9L, (long) graph.traversal().E().count().next());
+		graph.tx().rollback();
+		assertEquals(10L, (long) graph.traversal().V().has("kind", "person").count().next());
+	}
+
+	@Test
+	public void countIsNotPushedDownIfGraphStepIsLabeled() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 3);
+		graph.tx().commit();
+		GraphTraversal<Vertex, Long> traversal = graph.traversal().V().as("a").count();
+		traversal.asAdmin().applyStrategies();
+		assertTrue(traversal.asAdmin().getStartStep() instanceof ChronoGraphStep);
+		assertEquals(4L, (long) traversal.next());
+	}
+
+	@Test
+	public void limitIsPushedIntoGraphStep() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V().has("kind", "person").limit(3);
+		traversal.asAdmin().applyStrategies();
+		ChronoGraphStep<?, ?> graphStep = (ChronoGraphStep<?, ?>) traversal.asAdmin().getStartStep();
+		assertEquals(3, graphStep.getLimit());
+		assertEquals(3, traversal.toList().size());
+		assertEquals(2, graph.traversal().V().has("kind", "person").range(5, 7).toList().size());
+		assertEquals(1, graph.traversal().V().has("kind", "person").range(9, 100).toList().size());
+		assertEquals(10, graph.traversal().V().has("kind", "person").range(0, -1).toList().size());
+	}
+
+	@Test
+	public void orderAndLimitArePushedIntoGraphStep() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+
+		GraphTraversal<Vertex, Object> traversal = graph.traversal().V().has("kind", "person").order()
+				.by("age", Order.decr).limit(3).values("age");
+		traversal.asAdmin().applyStrategies();
+		ChronoGraphStep<?, ?> graphStep = (ChronoGraphStep<?, ?>) traversal.asAdmin().getStartStep();
+		assertEquals("age", graphStep.getOrderPropertyKey());
+		assertEquals(3, graphStep.getLimit());
+		assertEquals(Lists.newArrayList(99, 98, 97), traversal.toList());
+		assertEquals(Lists.newArrayList(5, 6, 7), graph.traversal().V().has("kind", "person").order().by("age")
+				.range(5, 8).values("age").toList());
+		// conditions on non-indexed properties are applied to the ordered vertices
+		assertEquals(Lists.newArrayList(99, 97), graph.traversal().V().has("parity", "odd").order()
+				.by("age", Order.decr).limit(2).values("age").toList());
+	}
+
+	@Test
+	public void orderAndLimitOnlyUseTheIndexIfItPaysOff() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+
+		graph.tx().readWrite();
+		ChronoGraphTransactionInternal tx = (ChronoGraphTransactionInternal) graph.tx().getCurrentTransaction();
+		Set<SearchSpecification<?>> persons = Collections.singleton(
+				new StringSearchSpecificationImpl("kind", Condition.EQUALS, "person", TextMatchMode.STRICT));
+		org.chronos.chronodb.api.Order descending = org.chronos.chronodb.api.Order.DESCENDING;
+		// the hub has no age, but it is ruled out by the condition on 'kind'
+		assertNotNull(tx.getVerticesOrderedByIndexedProperty(persons, "age", descending, 3));
+		// there are only a few candidates compared to the limit, so they are sorted instead
+		assertNull(tx.getVerticesOrderedByIndexedProperty(persons, "age", descending, 50));
+		// the hub has no age, so the index cannot order it
+		assertNull(tx.getVerticesOrderedByIndexedProperty(Collections.emptySet(), "age", descending, 3));
+		// ordering the hub fails, just like without the index
+		try {
+			graph.traversal().V().order().by("age", Order.decr).limit(3).toList();
+			fail("Managed to order a vertex without a value for the property!");
+		} catch (IllegalStateException expected) {
+			// pass
+		}
+	}
+
+	@Test
+	public void orderAndLimitRespectTransientModifications() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		graph.traversal().V().has("name", "p9").next().property("age", -1);
+		graph.addVertex("kind", "person", "name", "Transient", "age", 1000);
+		assertEquals(Lists.newArrayList(1000, 8), graph.traversal().V().has("kind", "person").order()
+				.by("age", Order.decr).limit(2).values("age").toList());
+		graph.tx().commit();
+		assertEquals(Lists.newArrayList(-1, 0, 1), graph.traversal().V().has("kind", "person").order().by("age")
+				.limit(3).values("age").toList());
+	}
+
+	@Test
+	public void orderAndLimitOnNonIndexedPropertyWork() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		assertEquals(Lists.newArrayList(9, 8), graph.traversal().V().has("kind", "person").order()
+				.by("age", Order.decr).limit(2).values("age").toList());
+		assertEquals(Lists.newArrayList("p0", "p1"), graph.traversal().V().has("kind", "person").order()
+				.by("name", Order.incr).limit(2).values("name").toList());
+	}
+
+	@Test
+	public void orderAndLimitOnIndexedEdgePropertyWork() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().doubleIndex().onEdgeProperty("weight").build();
+		graph.getIndexManager().reindexAll();
+		Vertex v1 = graph.addVertex();
+		Vertex v2 = graph.addVertex();
+		v1.addEdge("knows", v2, "weight", 0.5);
+		v1.addEdge("knows", v2, "weight", 2.5);
+		v1.addEdge("likes", v2, "weight", 1.5);
+		v1.addEdge("knows", v2, "weight", -3.0);
+		graph.tx().commit();
+
+		assertEquals(Lists.newArrayList(2.5, 1.5), graph.traversal().E().order().by("weight", Order.decr).limit(2)
+				.values("weight").toList());
+		assertEquals(Lists.newArrayList(-3.0, 0.5), graph.traversal().E().hasLabel("knows").order().by("weight")
+				.limit(2).values("weight").toList());
+	}
+
+	@Test
+	public void batchedVertexStepsProduceCorrectResults() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+
+		GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V().has("name", "hub").out("owns").in("owns");
+		traversal.asAdmin().applyStrategies();
+		assertEquals(2, traversal.asAdmin().getSteps().stream().filter(s -> s instanceof ChronoVertexStep).count());
+		// every one of the 100 persons leads back to the hub
+		List<Vertex> hubs = traversal.toList();
+		assertEquals(100, hubs.size());
+		assertEquals(1, Sets.newHashSet(hubs).size());
+
+		Set<String> names = graph.traversal().V().has("name", "hub").out("owns").<String> values("name").toSet();
+		assertEquals(100, names.size());
+		assertTrue(names.contains("p42"));
+		assertEquals(50, graph.traversal().V().has("name", "hub").out("owns").has("parity", "even").toList().size());
+		assertEquals(100, graph.traversal().V().has("name", "hub").both().both().toList().size());
+	}
+
+	@Test
+	public void batchedEdgeVertexStepsProduceCorrectResults() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+
+		// note: the filter on the edges prevents TinkerPop from collapsing "outE().inV()" into "out()"
+		GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V().has("name", "hub").outE("owns")
+				.has("since", 2000).inV();
+		traversal.asAdmin().applyStrategies();
+		assertTrue(traversal.asAdmin().getSteps().stream().anyMatch(s -> s instanceof ChronoEdgeVertexStep));
+		Set<Object> names = traversal.toStream().map(v -> v.value("name")).collect(Collectors.toSet());
+		assertEquals(100, names.size());
+		assertEquals(1, graph.traversal().V().has("name", "hub").outE("owns").has("since", 2000).inV()
+				.inE("owns").has("since", 2000).outV().dedup().toList().size());
+		assertEquals(200, graph.traversal().V().has("name", "hub").outE("owns").bothV().toList().size());
+	}
+
+	@Test
+	public void batchedVertexStepsSeeTransientModifications() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		Vertex hub = graph.traversal().V().has("name", "hub").next();
+		hub.addEdge("owns", graph.addVertex("name", "transient"));
+		graph.traversal().V().has("name", "p3").next().property("name", "changed");
+		Set<String> names = graph.traversal().V().has("name", "hub").out("owns").<String> values("name").toSet();
+		assertEquals(11, names.size());
+		assertTrue(names.contains("transient"));
+		assertTrue(names.contains("changed"));
+		assertFalse(names.contains("p3"));
+	}
+
+	@Test
+	public void mutatingTraversalsAreNotBatched() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		GraphTraversal<Vertex, Edge> traversal = graph.traversal().V().has("name", "hub").out("owns")
+				.addE("knows").to(graph.traversal().V().has("name", "hub").next());
+		traversal.asAdmin().applyStrategies();
+		assertFalse(traversal.asAdmin().getSteps().stream().anyMatch(s -> s instanceof ChronoVertexStep));
+		assertEquals(10, traversal.toList().size());
+		graph.tx().commit();
+		assertEquals(10L, (long) graph.traversal().V().has("name", "hub").in("knows").count().next());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.QUERY_VERTEX_STEP_BATCH_SIZE, value = "1")
+	public void batchingCanBeDisabled() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 10);
+		graph.tx().commit();
+
+		GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V().has("name", "hub").out("owns");
+		traversal.asAdmin().applyStrategies();
+		assertFalse(traversal.asAdmin().getSteps().stream().anyMatch(s -> s instanceof ChronoVertexStep));
+		assertEquals(10, traversal.toList().size());
+	}
+
+	@Test
+	public void midTraversalHasStepUsesTheIndex() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+
+		String p6Id = (String) graph.traversal().V().has("name", "p6").next().id();
+		Object hubId = graph.traversal().V().has("name", "hub").next().id();
+		graph.tx().rollback();
+
+		// note: we start at the ID of the hub, because "has('name', 'hub')" would scan (and load) all vertices
+		GraphTraversal<Vertex, Vertex> traversal = graph.traversal().V(hubId).out("owns").has("age", P.gt(89));
+		traversal.asAdmin().applyStrategies();
+		assertTrue(traversal.asAdmin().getSteps().stream().anyMatch(s -> s instanceof ChronoHasStep));
+		Set<Object> ages = traversal.toStream().map(v -> v.value("age")).collect(Collectors.toSet());
+		assertEquals(Sets.newHashSet(90, 91, 92, 93, 94, 95, 96, 97, 98, 99), ages);
+		// the vertices which do not match the index query must not have been loaded
+		ChronoVertexImpl p6 = graph.tx().getCurrentTransaction().getContext().getLoadedVertexForId(p6Id);
+		assertTrue(p6 == null || p6.isLazyLoadPending());
+
+		// combine indexed and non-indexed conditions
+		assertEquals(5, graph.traversal().V().has("name", "hub").out("owns").has("age", P.gte(90))
+				.has("parity", "odd").toList().size());
+		assertEquals(5, graph.traversal().V().has("name", "hub").out("owns").has("parity", "odd")
+				.has("age", P.lt(10)).toList().size());
+	}
+
+	@Test
+	public void midTraversalHasStepSkipsTheIndexForUnselectiveConditions() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 1000);
+		Vertex smallHub = graph.addVertex("name", "smallHub");
+		graph.traversal().V().has("name", P.within("p0", "p1", "p2", "p3", "p4", "p5", "p6", "p7", "p8", "p9"))
+				.forEachRemaining(person -> smallHub.addEdge("owns", person));
+		graph.traversal().V().has("name", P.within("p10", "p11", "p12", "p13", "p14", "p15", "p16", "p17", "p18",
+				"p19")).forEachRemaining(person -> smallHub.addEdge("owns", person));
+		graph.tx().commit();
+
+		String p3Id = (String) graph.traversal().V().has("name", "p3").next().id();
+		Object smallHubId = smallHub.id();
+		graph.tx().rollback();
+
+		// almost all persons match the condition, fetching them from the index does not pay off for 20 vertices
+		Set<Object> ages = graph.traversal().V(smallHubId).out("owns").has("age", P.gt(4)).toStream()
+				.map(v -> v.value("age")).collect(Collectors.toSet());
+		assertEquals(15, ages.size());
+		// the non-matching vertices have been loaded and checked directly
+		ChronoVertexImpl p3 = graph.tx().getCurrentTransaction().getContext().getLoadedVertexForId(p3Id);
+		assertTrue(p3 != null && p3.isLazyLoadPending() == false);
+	}
+
+	@Test
+	public void midTraversalHasStepRespectsTransientModifications() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+
+		graph.traversal().V().has("name", "p95").next().property("age", 10);
+		graph.traversal().V().has("name", "p3").next().property("age", 95);
+		Vertex hub = graph.traversal().V().has("name", "hub").next();
+		hub.addEdge("owns", graph.addVertex("name", "transient", "age", 1000));
+		Set<Object> names = graph.traversal().V().has("name", "hub").out("owns").has("age", P.gt(89))
+				.toStream().map(v -> v.value("name")).collect(Collectors.toSet());
+		assertEquals(Sets.newHashSet("p90", "p91", "p92", "p93", "p94", "p96", "p97", "p98", "p99", "p3", "transient"),
+				names);
+	}
+
+	@Test
+	public void midTraversalHasStepWorksWithoutIndex() {
+		ChronoGraph graph = this.getGraph();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+		assertEquals(10, graph.traversal().V().has("name", "hub").out("owns").has("age", P.gt(89)).toList().size());
+		assertEquals(50, graph.traversal().V().has("name", "hub").out("owns").has("parity", "even").toList().size());
+		assertEquals(1, graph.traversal().V().has("name", "hub").out("owns").has("name", "p17").toList().size());
+	}
+
+	@Test
+	public void midTraversalHasStepInMatchWorks() {
+		ChronoGraph graph = this.getGraph();
+		graph.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		graph.getIndexManager().reindexAll();
+		this.createPersons(graph, 100);
+		graph.tx().commit();
+		List<Vertex> result = graph.traversal().V().has("name", "hub")
+				.match(__.as("a").out("owns").has("age", P.gt(89)).as("b")).<Vertex> select("b").toList();
+		assertEquals(10, result.size());
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private void createPersons(final ChronoGraph graph, final int count) {
+		Vertex hub = graph.addVertex("kind", "hub", "name", "hub");
+		for (int i = 0; i < count; i++) {
+			String parity = i % 2 == 0 ? "even" : "odd";
+			Vertex person = graph.addVertex("kind", "person", "name", "p" + i, "parity", parity, "age", i);
+			hub.addEdge("owns", person, "since", 2000);
+		}
+	}
+
+}
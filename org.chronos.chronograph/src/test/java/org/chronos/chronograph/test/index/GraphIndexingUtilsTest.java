@@ -9,6 +9,7 @@ import org.chronos.chronograph.internal.impl.structure.record.PropertyRecord;
 import org.chronos.chronograph.test.base.ChronoGraphUnitTest;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 public class GraphIndexingUtilsTest extends ChronoGraphUnitTest {
@@ -84,4 +85,24 @@ public class GraphIndexingUtilsTest extends ChronoGraphUnitTest {
 		PropertyRecord property = new PropertyRecord("test", Sets.newHashSet(123.4, 24));
 		assertEquals(Sets.newHashSet(24L), GraphIndexingUtils.getLongIndexValues(property));
 	}
+
+	@Test
+	public void canCreateCompositeIndexValues() {
+		assertEquals(Collections.singleton("acme|open"), GraphIndexingUtils.getCompositeIndexValues(
+				Lists.newArrayList(Collections.singleton("acme"), Collections.singleton("open"))));
+		assertEquals(Sets.newHashSet("acme|open", "acme|closed"), GraphIndexingUtils.getCompositeIndexValues(
+				Lists.newArrayList(Collections.singleton("acme"), Sets.newHashSet("open", "closed"))));
+		assertEquals(Collections.emptySet(), GraphIndexingUtils.getCompositeIndexValues(
+				Lists.newArrayList(Collections.singleton("acme"), Collections.emptySet())));
+	}
+
+	@Test
+	public void compositeIndexValueEncodingIsUnambiguous() {
+		String value1 = GraphIndexingUtils.encodeCompositeIndexValue(Lists.newArrayList("a|b", "c"));
+		String value2 = GraphIndexingUtils.encodeCompositeIndexValue(Lists.newArrayList("a", "b|c"));
+		String value3 = GraphIndexingUtils.encodeCompositeIndexValue(Lists.newArrayList("a\\", "|c"));
+		String value4 = GraphIndexingUtils.encodeCompositeIndexValue(Lists.newArrayList("a\\|", "c"));
+		assertEquals(4, Sets.newHashSet(value1, value2, value3, value4).size());
+	}
+
 }
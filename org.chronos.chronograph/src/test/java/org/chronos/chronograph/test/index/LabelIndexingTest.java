@@ -0,0 +1,123 @@
+package org.chronos.chronograph.test.index;
+
+import static org.junit.Assert.*;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class LabelIndexingTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void labelIndexIsMaintainedAutomatically() {
+		ChronoGraph g = this.getGraph();
+		assertTrue(((ChronoGraphInternal) g).getBackingDB().getIndexManager().getIndexNames()
+				.containsAll(Sets.newHashSet(ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL, ChronoGraphConstants.INDEX_KEY_EDGE_LABEL)));
+		// the label index is not a user-visible graph index
+		assertTrue(g.getIndexManager().getAllIndices().isEmpty());
+		Vertex martin = g.addVertex(T.label, "Person", "name", "Martin");
+		Vertex john = g.addVertex(T.label, "Person", "name", "John");
+		g.addVertex(T.label, "Location", "name", "Innsbruck");
+		martin.addEdge("knows", john);
+		g.tx().commit();
+		// ask the index directly
+		ChronoDBTransaction tx = ((ChronoGraphInternal) g).getBackingDB().tx();
+		assertEquals(2, tx.find().inKeyspace(ChronoGraphConstants.KEYSPACE_VERTEX)
+				.where(ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL).isEqualTo("Person").count());
+		assertEquals(1, tx.find().inKeyspace(ChronoGraphConstants.KEYSPACE_EDGE)
+				.where(ChronoGraphConstants.INDEX_KEY_EDGE_LABEL).isEqualTo("knows").count());
+		// ask the graph
+		assertEquals(Sets.newHashSet(martin, john), g.traversal().V().hasLabel("Person").toSet());
+		assertEquals(2L, (long) g.traversal().V().hasLabel("Person").count().next());
+		assertEquals(1L, (long) g.traversal().E().hasLabel("knows").count().next());
+		assertEquals(0L, (long) g.traversal().V().hasLabel("Unknown").count().next());
+	}
+
+	@Test
+	public void labelQueriesReflectTransientState() {
+		ChronoGraph g = this.getGraph();
+		Vertex martin = g.addVertex(T.label, "Person", "name", "Martin");
+		Vertex john = g.addVertex(T.label, "Person", "name", "John");
+		g.tx().commit();
+		Vertex sarah = g.addVertex(T.label, "Person", "name", "Sarah");
+		Edge edge = sarah.addEdge("knows", martin);
+		john.remove();
+		assertEquals(Sets.newHashSet(martin, sarah), g.traversal().V().hasLabel("Person").toSet());
+		assertEquals(edge, Iterables.getOnlyElement(g.traversal().E().hasLabel("knows").toSet()));
+		assertEquals(2L, (long) g.traversal().V().hasLabel("Person").count().next());
+		g.tx().commit();
+		assertEquals(Sets.newHashSet(martin, sarah), g.traversal().V().hasLabel("Person").toSet());
+		assertEquals(edge, Iterables.getOnlyElement(g.traversal().E().hasLabel("knows").toSet()));
+	}
+
+	@Test
+	public void canCombineLabelAndPropertyIndex() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().stringIndex().onVertexProperty("name").build();
+		g.getIndexManager().reindexAll();
+		Vertex martin = g.addVertex(T.label, "Person", "name", "Martin");
+		g.addVertex(T.label, "Person", "name", "John");
+		Vertex city = g.addVertex(T.label, "Location", "name", "Martin");
+		g.tx().commit();
+		assertEquals(martin, Iterables.getOnlyElement(g.traversal().V().hasLabel("Person").has("name", "Martin").toSet()));
+		assertEquals(city, Iterables.getOnlyElement(g.traversal().V().has("name", "Martin").hasLabel("Location").toSet()));
+		assertEquals(Sets.newHashSet(martin, city),
+				g.traversal().V().hasLabel("Person", "Location").has("name", "Martin").toSet());
+		// label and property index together can answer the count without loading vertices
+		assertEquals(1L, (long) g.traversal().V().hasLabel("Person").has("name", "John").count().next());
+	}
+
+	@Test
+	public void labelIndexWorksOnHistoryAndBranches() {
+		ChronoGraph g = this.getGraph();
+		Vertex martin = g.addVertex(T.label, "Person", "name", "Martin");
+		g.tx().commit();
+		long afterFirstCommit = g.getNow();
+		g.getBranchManager().createBranch("test");
+		Vertex john = g.addVertex(T.label, "Person", "name", "John");
+		g.tx().commit();
+		// the history is unaffected
+		g.tx().open(afterFirstCommit);
+		try {
+			assertEquals(Sets.newHashSet(martin), g.traversal().V().hasLabel("Person").toSet());
+		} finally {
+			g.tx().rollback();
+		}
+		// the branch only sees its own changes
+		g.tx().open("test");
+		try {
+			assertEquals(Sets.newHashSet(martin), g.traversal().V().hasLabel("Person").toSet());
+			g.addVertex(T.label, "Person", "name", "Sarah");
+			g.tx().commit();
+		} finally {
+			g.tx().rollback();
+		}
+		assertEquals(Sets.newHashSet(martin, john), g.traversal().V().hasLabel("Person").toSet());
+	}
+
+	@Test
+	public void droppingAllIndicesDoesNotAffectLabelIndex() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().stringIndex().onVertexProperty("name").build();
+		g.getIndexManager().reindexAll();
+		g.getIndexManager().dropAllIndices();
+		assertTrue(g.getIndexManager().getAllIndices().isEmpty());
+		assertTrue(((ChronoGraphInternal) g).getBackingDB().getIndexManager().getIndexNames().contains(ChronoGraphConstants.INDEX_KEY_VERTEX_LABEL));
+		Vertex martin = g.addVertex(T.label, "Person", "name", "Martin");
+		g.tx().commit();
+		assertEquals(martin, Iterables.getOnlyElement(g.traversal().V().hasLabel("Person").toSet()));
+	}
+
+}
@@ -0,0 +1,232 @@
+package org.chronos.chronograph.test.index;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.query.Condition;
+import org.chronos.chronodb.internal.api.query.searchspec.SearchSpecification;
+import org.chronos.chronodb.internal.impl.query.StringSearchSpecificationImpl;
+import org.chronos.chronodb.internal.impl.query.TextMatchMode;
+import org.chronos.chronograph.api.index.ChronoGraphIndex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.index.ChronoGraphIndexInternal;
+import org.chronos.chronograph.internal.api.index.ChronoGraphIndexManagerInternal;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.internal.impl.index.GraphIndexingUtils;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class ScopedIndexingTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void canCreateCompositeIndex() {
+		ChronoGraph g = this.getGraph();
+		ChronoGraphIndex index = g.getIndexManager().create().compositeIndex().onVertexProperties("tenant", "status")
+				.build();
+		g.getIndexManager().reindexAll();
+		assertTrue(index.isComposite());
+		assertTrue(index.isScoped());
+		assertEquals(Lists.newArrayList("tenant", "status"), index.getIndexedProperties());
+		assertEquals(Sets.newHashSet(index), g.getIndexManager().getIndexedVertexProperties());
+		// the individual properties are not indexed on their own
+		assertTrue(g.getIndexManager().getIndexedVertexPropertyNames().isEmpty());
+		assertFalse(g.getIndexManager().isVertexPropertyIndexed("tenant"));
+	}
+
+	@Test
+	public void compositeIndexAnswersEqualityQueries() {
+		ChronoGraph g = this.getGraph();
+		ChronoGraphIndex index = g.getIndexManager().create().compositeIndex().onVertexProperties("tenant", "status")
+				.build();
+		g.getIndexManager().reindexAll();
+		Vertex t1 = g.addVertex("tenant", "acme", "status", "open");
+		Vertex t2 = g.addVertex("tenant", "acme", "status", "closed");
+		Vertex t3 = g.addVertex("tenant", "globex", "status", "open");
+		g.addVertex("tenant", "acme");
+		g.tx().commit();
+		// the backing index contains one entry per complete tuple
+		String backendKey = ((ChronoGraphIndexInternal) index).getBackendIndexKey();
+		String acmeOpen = GraphIndexingUtils.encodeCompositeIndexValue(Lists.newArrayList("acme", "open"));
+		assertEquals(1, ((ChronoGraphInternal) g).getBackingDB().tx().find()
+				.inKeyspace(ChronoGraphConstants.KEYSPACE_VERTEX).where(backendKey).isEqualTo(acmeOpen).count());
+		assertEquals(3, ((ChronoGraphInternal) g).getBackingDB().tx().find()
+				.inKeyspace(ChronoGraphConstants.KEYSPACE_VERTEX).where(backendKey).startsWith("").count());
+		// the order of the conditions in the query is irrelevant
+		assertEquals(t1, Iterables.getOnlyElement(g.traversal().V().has("tenant", "acme").has("status", "open").toSet()));
+		assertEquals(t2, Iterables.getOnlyElement(g.traversal().V().has("status", "closed").has("tenant", "acme").toSet()));
+		assertEquals(t3, Iterables.getOnlyElement(g.traversal().V().has("tenant", "globex").has("status", "open").toSet()));
+		assertEquals(2L, (long) g.traversal().V().has("status", "open").has("tenant", P.within("acme", "globex"))
+				.count().next());
+		// a partial match cannot use the composite index, but still produces correct results
+		assertEquals(3, g.traversal().V().has("tenant", "acme").toSet().size());
+	}
+
+	@Test
+	public void compositeIndexReflectsTransientState() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().compositeIndex().onVertexProperties("tenant", "status").build();
+		g.getIndexManager().reindexAll();
+		Vertex t1 = g.addVertex("tenant", "acme", "status", "open");
+		Vertex t2 = g.addVertex("tenant", "acme", "status", "open");
+		g.tx().commit();
+		t1.property("status", "closed");
+		Vertex t3 = g.addVertex("tenant", "acme", "status", "open");
+		assertEquals(Sets.newHashSet(t2, t3), g.traversal().V().has("tenant", "acme").has("status", "open").toSet());
+		g.tx().commit();
+		assertEquals(Sets.newHashSet(t2, t3), g.traversal().V().has("tenant", "acme").has("status", "open").toSet());
+		assertEquals(t1, Iterables.getOnlyElement(g.traversal().V().has("tenant", "acme").has("status", "closed").toSet()));
+	}
+
+	@Test
+	public void compositeIndexDistinguishesSeparatorCharacters() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().compositeIndex().onVertexProperties("a", "b").build();
+		g.getIndexManager().reindexAll();
+		Vertex v1 = g.addVertex("a", "x|y", "b", "z");
+		Vertex v2 = g.addVertex("a", "x", "b", "y|z");
+		g.tx().commit();
+		assertEquals(v1, Iterables.getOnlyElement(g.traversal().V().has("a", "x|y").has("b", "z").toSet()));
+		assertEquals(v2, Iterables.getOnlyElement(g.traversal().V().has("a", "x").has("b", "y|z").toSet()));
+	}
+
+	@Test
+	public void compositeIndexOnlyCoversCompleteEqualityMatches() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().compositeIndex().onVertexProperties("tenant", "status").build();
+		g.getIndexManager().reindexAll();
+		ChronoGraphIndexManagerInternal indexManager = (ChronoGraphIndexManagerInternal) g.getIndexManager();
+		g.tx().readWrite();
+		SearchSpecification<?> tenant = new StringSearchSpecificationImpl("tenant", Condition.EQUALS, "acme",
+				TextMatchMode.STRICT);
+		SearchSpecification<?> status = new StringSearchSpecificationImpl("status", Condition.EQUALS, "open",
+				TextMatchMode.STRICT);
+		SearchSpecification<?> statusIgnoreCase = new StringSearchSpecificationImpl("status", Condition.EQUALS, "open",
+				TextMatchMode.CASE_INSENSITIVE);
+		Set<SearchSpecification<?>> query = Sets.newHashSet(tenant, status);
+		assertEquals(query, indexManager.getIndexedSearchSpecifications(Vertex.class, query));
+		assertTrue(indexManager.getIndexedSearchSpecifications(Vertex.class, Sets.newHashSet(status)).isEmpty());
+		assertTrue(indexManager.getIndexedSearchSpecifications(Vertex.class, Sets.newHashSet(tenant, statusIgnoreCase))
+				.isEmpty());
+		assertTrue(indexManager.getIndexedSearchSpecifications(Edge.class, query).isEmpty());
+	}
+
+	@Test
+	public void canCreateLabelScopedIndex() {
+		ChronoGraph g = this.getGraph();
+		ChronoGraphIndex index = g.getIndexManager().create().stringIndex().onVertexProperty("name")
+				.withLabel("Person").build();
+		g.getIndexManager().reindexAll();
+		assertFalse(index.isComposite());
+		assertTrue(index.isScoped());
+		assertEquals("Person", index.getIndexedLabel());
+		Vertex martin = g.addVertex(T.label, "Person", "name", "Martin");
+		g.addVertex(T.label, "Person", "name", "John");
+		Vertex city = g.addVertex(T.label, "City", "name", "Martin");
+		g.tx().commit();
+		// only persons are contained in the index
+		String backendKey = ((ChronoGraphIndexInternal) index).getBackendIndexKey();
+		assertEquals(2, ((ChronoGraphInternal) g).getBackingDB().tx().find()
+				.inKeyspace(ChronoGraphConstants.KEYSPACE_VERTEX).where(backendKey).startsWith("").count());
+		assertEquals(martin,
+				Iterables.getOnlyElement(g.traversal().V().hasLabel("Person").has("name", "Martin").toSet()));
+		assertEquals(city, Iterables.getOnlyElement(g.traversal().V().hasLabel("City").has("name", "Martin").toSet()));
+		assertEquals(Sets.newHashSet(martin, city), g.traversal().V().has("name", "Martin").toSet());
+		assertEquals(Sets.newHashSet(martin, city),
+				g.traversal().V().hasLabel("Person", "City").has("name", "Martin").toSet());
+		assertEquals(1L, (long) g.traversal().V().hasLabel("Person").has("name", "John").count().next());
+	}
+
+	@Test
+	public void negatedConditionsOnLabelScopedIndexRespectTheLabel() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().stringIndex().onVertexProperty("status").withLabel("Ticket").build();
+		g.getIndexManager().reindexAll();
+		g.addVertex(T.label, "Ticket", "status", "open");
+		Vertex closed = g.addVertex(T.label, "Ticket", "status", "closed");
+		Vertex active = g.addVertex(T.label, "Person", "status", "active");
+		g.addVertex(T.label, "Person", "name", "John");
+		g.tx().commit();
+		// the negated condition also matches the elements outside of the scope of the index
+		assertEquals(closed,
+				Iterables.getOnlyElement(g.traversal().V().hasLabel("Ticket").has("status", P.neq("open")).toSet()));
+		assertEquals(closed, Iterables
+				.getOnlyElement(g.traversal().V().hasLabel("Ticket").has("status", P.without("open")).toSet()));
+		assertEquals(Sets.newHashSet(closed, active), g.traversal().V().has("status", P.neq("open")).toSet());
+	}
+
+	@Test
+	public void canCreateLabelScopedNumericIndex() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().longIndex().onVertexProperty("age").withLabel("Person").build();
+		g.getIndexManager().reindexAll();
+		g.addVertex(T.label, "Person", "name", "Martin", "age", 30);
+		Vertex john = g.addVertex(T.label, "Person", "name", "John", "age", 40);
+		g.addVertex(T.label, "Dog", "name", "Rex", "age", 50);
+		g.tx().commit();
+		assertEquals(john, Iterables.getOnlyElement(g.traversal().V().hasLabel("Person").has("age", P.gt(35)).toSet()));
+		assertEquals(2, g.traversal().V().has("age", P.gt(35)).toSet().size());
+	}
+
+	@Test
+	public void canCreateLabelScopedCompositeEdgeIndex() {
+		ChronoGraph g = this.getGraph();
+		ChronoGraphIndex index = g.getIndexManager().create().compositeIndex().onEdgeProperties("since", "kind")
+				.withLabel("knows").build();
+		g.getIndexManager().reindexAll();
+		assertEquals(Sets.newHashSet(index), g.getIndexManager().getIndexedEdgeProperties());
+		Vertex v1 = g.addVertex();
+		Vertex v2 = g.addVertex();
+		Edge e1 = v1.addEdge("knows", v2, "since", "2001", "kind", "friend");
+		v1.addEdge("knows", v2, "since", "2001", "kind", "colleague");
+		Edge e3 = v1.addEdge("likes", v2, "since", "2001", "kind", "friend");
+		g.tx().commit();
+		assertEquals(e1, Iterables
+				.getOnlyElement(g.traversal().E().hasLabel("knows").has("since", "2001").has("kind", "friend").toSet()));
+		assertEquals(Sets.newHashSet(e1, e3), g.traversal().E().has("since", "2001").has("kind", "friend").toSet());
+	}
+
+	@Test
+	public void canDropScopedIndex() {
+		ChronoGraph g = this.getGraph();
+		ChronoGraphIndex index = g.getIndexManager().create().compositeIndex().onVertexProperties("tenant", "status")
+				.withLabel("Ticket").build();
+		g.getIndexManager().reindexAll();
+		Vertex ticket = g.addVertex(T.label, "Ticket", "tenant", "acme", "status", "open");
+		g.tx().commit();
+		g.getIndexManager().dropIndex(index);
+		assertTrue(g.getIndexManager().getAllIndices().isEmpty());
+		assertEquals(ticket, Iterables.getOnlyElement(
+				g.traversal().V().hasLabel("Ticket").has("tenant", "acme").has("status", "open").toSet()));
+	}
+
+	@Test
+	public void cannotCreateCompositeIndexWithLessThanTwoProperties() {
+		ChronoGraph g = this.getGraph();
+		try {
+			g.getIndexManager().create().compositeIndex().onVertexProperties("tenant");
+			fail("Managed to create a composite index on a single property!");
+		} catch (IllegalArgumentException expected) {
+			// pass
+		}
+		try {
+			g.getIndexManager().create().compositeIndex().onVertexProperties("tenant", "tenant");
+			fail("Managed to create a composite index with duplicate properties!");
+		} catch (IllegalArgumentException expected) {
+			// pass
+		}
+	}
+
+}
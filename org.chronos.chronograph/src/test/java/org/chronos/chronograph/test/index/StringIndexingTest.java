@@ -2,8 +2,10 @@ package org.chronos.chronograph.test.index;
 
 import static org.junit.Assert.*;
 
+import java.util.Collections;
 import java.util.Set;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronodb.internal.api.ChronoDBConfiguration;
@@ -173,6 +175,31 @@ public class StringIndexingTest extends AllChronoGraphBackendsTest {
 
 	}
 
+	@Test
+	@SuppressWarnings("unused")
+	public void gremlinWithinQueryOnIndexedPropertyWorks() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().stringIndex().onVertexProperty("color").build();
+		g.getIndexManager().create().stringIndex().onVertexProperty("colors").build();
+		g.tx().open();
+		Vertex v0 = g.addVertex("color", "red", "kind", "car");
+		Vertex v1 = g.addVertex("color", "green", "kind", "car");
+		Vertex v2 = g.addVertex("color", "blue", "kind", "bike");
+		Vertex v3 = g.addVertex("colors", Sets.newHashSet("red", "green"));
+
+		assertEquals(Sets.newHashSet(v0, v2), g.traversal().V().has("color", P.within("red", "blue")).toSet());
+		assertEquals(Sets.newHashSet(v0), g.traversal().V().has("color", P.within("red", "blue")).has("kind", "car").toSet());
+		// vertices which match multiple values must only be returned once
+		assertEquals(1, g.traversal().V().has("colors", P.within("red", "green")).toList().size());
+
+		g.tx().commit();
+
+		assertEquals(Sets.newHashSet(v0, v2), g.traversal().V().has("color", P.within("red", "blue")).toSet());
+		assertEquals(Sets.newHashSet(v0), g.traversal().V().has("color", P.within("red", "blue")).has("kind", "car").toSet());
+		assertEquals(1, g.traversal().V().has("colors", P.within("red", "green")).toList().size());
+		assertEquals(Sets.newHashSet(), g.traversal().V().has("color", P.within(Collections.emptySet())).toSet());
+	}
+
 	@Test
 	public void t_EntityTest1() {
 		ChronoGraph g = this.getGraph();
@@ -0,0 +1,114 @@
+package org.chronos.chronograph.test.structure;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class EdgeIterationTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void selfEdgesAppearOnlyOnceInBothDirections() {
+		ChronoGraph g = this.getGraph();
+		Vertex v1 = g.addVertex("name", "v1");
+		Vertex v2 = g.addVertex("name", "v2");
+		Edge self = v1.addEdge("ref", v1);
+		Edge out = v1.addEdge("ref", v2);
+		Edge in = v2.addEdge("other", v1);
+		this.assertCommitAssert(() -> {
+			List<Edge> allEdges = Lists.newArrayList(v1.edges(Direction.BOTH));
+			assertEquals(3, allEdges.size());
+			assertEquals(Sets.newHashSet(self, out, in), Sets.newHashSet(allEdges));
+			// requesting the same label twice must not produce duplicates either
+			List<Edge> refEdges = Lists.newArrayList(v1.edges(Direction.BOTH, "ref", "ref"));
+			assertEquals(2, refEdges.size());
+			assertEquals(Sets.newHashSet(self, out), Sets.newHashSet(refEdges));
+			// the self-edge is still contained in both directions individually
+			assertEquals(Sets.newHashSet(self, in), Sets.newHashSet(v1.edges(Direction.IN)));
+			assertEquals(Sets.newHashSet(self, out), Sets.newHashSet(v1.edges(Direction.OUT)));
+			// out-edges come first
+			assertEquals(in, allEdges.get(2));
+			// the adjacent vertices of the self-edge are reported once as well
+			assertEquals(3, Iterators.size(v1.vertices(Direction.BOTH)));
+		});
+	}
+
+	@Test
+	public void canRemoveEdgesWhileIterating() {
+		ChronoGraph g = this.getGraph();
+		Vertex v1 = g.addVertex("name", "v1");
+		// use enough edges to exceed the size at which edge lists are indexed
+		List<Vertex> targets = Lists.newArrayList();
+		for (int i = 0; i < 100; i++) {
+			Vertex target = g.addVertex("name", "t" + i);
+			targets.add(target);
+			v1.addEdge("ref", target);
+		}
+		g.tx().commit();
+		Iterator<Edge> edges = v1.edges(Direction.OUT, "ref");
+		int visited = 0;
+		while (edges.hasNext()) {
+			Edge edge = edges.next();
+			if (visited % 2 == 0) {
+				edge.remove();
+			}
+			visited++;
+		}
+		// the iterator must not be affected by the removals
+		assertEquals(100, visited);
+		this.assertCommitAssert(() -> {
+			assertEquals(50, Iterators.size(v1.edges(Direction.OUT, "ref")));
+			assertEquals(50, Sets.newHashSet(v1.vertices(Direction.OUT, "ref")).size());
+			int incoming = 0;
+			for (Vertex target : targets) {
+				incoming += Iterators.size(target.edges(Direction.IN, "ref"));
+			}
+			assertEquals(50, incoming);
+		});
+	}
+
+	@Test
+	public void canAddEdgesWhileIterating() {
+		ChronoGraph g = this.getGraph();
+		Vertex v1 = g.addVertex("name", "v1");
+		Vertex v2 = g.addVertex("name", "v2");
+		v1.addEdge("ref", v2);
+		v1.addEdge("ref", v2);
+		Iterator<Edge> edges = v1.edges(Direction.OUT);
+		Set<Edge> visited = Sets.newHashSet();
+		while (edges.hasNext()) {
+			visited.add(edges.next());
+			// new edges must neither show up in the running iteration nor cause an exception
+			v1.addEdge("ref", v2);
+			v1.addEdge("other", v2);
+		}
+		assertEquals(2, visited.size());
+		this.assertCommitAssert(() -> {
+			assertEquals(4, Iterators.size(v1.edges(Direction.OUT, "ref")));
+			assertEquals(2, Iterators.size(v1.edges(Direction.OUT, "other")));
+			assertEquals(6, Iterators.size(v2.edges(Direction.IN)));
+		});
+	}
+
+	private void assertCommitAssert(final Runnable assertion) {
+		assertion.run();
+		this.getGraph().tx().commit();
+		assertion.run();
+	}
+
+}
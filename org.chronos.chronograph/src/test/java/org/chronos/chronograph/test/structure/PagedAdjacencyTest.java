@@ -0,0 +1,273 @@
+package org.chronos.chronograph.test.structure;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.ChronoDBTransaction;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.ChronoGraphConstants;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.internal.api.structure.ChronoGraphInternal;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class PagedAdjacencyTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "10")
+	public void addingManyEdgesWorks() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		for (int i = 0; i < 25; i++) {
+			Vertex v = graph.addVertex("name", "v" + i);
+			hub.addEdge("knows", v);
+		}
+		graph.tx().commit();
+
+		// 25 edges with a page size of 10 result in 3 pages for the hub, plus one page per leaf vertex
+		assertEquals(3 + 25, this.getAdjacencyPageCount());
+
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(25, Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+		assertEquals(25, Iterators.size(hubNew.vertices(Direction.OUT)));
+		assertEquals(0, Iterators.size(hubNew.edges(Direction.IN)));
+		graph.tx().rollback();
+
+		Vertex leaf = graph.traversal().V().has("name", "v7").next();
+		Edge edge = Iterators.getOnlyElement(leaf.edges(Direction.IN, "knows"));
+		assertEquals(hub.id(), edge.outVertex().id());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "10")
+	public void addingEdgesInSeveralCommitsWorks() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		graph.tx().commit();
+		for (int round = 0; round < 5; round++) {
+			Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+			for (int i = 0; i < 7; i++) {
+				Vertex v = graph.addVertex("name", "v" + round + "_" + i);
+				v.addEdge("follows", hubNew);
+			}
+			graph.tx().commit();
+		}
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(35, Iterators.size(hubNew.edges(Direction.IN, "follows")));
+		assertEquals(35, Iterators.size(hubNew.edges(Direction.BOTH)));
+		// 35 edges with a page size of 10 result in 4 pages for the hub, plus one page per leaf vertex
+		graph.tx().rollback();
+		assertEquals(4 + 35, this.getAdjacencyPageCount());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "4")
+	public void edgesAreSeparatedByLabelAndDirection() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		for (int i = 0; i < 9; i++) {
+			Vertex v = graph.addVertex("name", "v" + i);
+			hub.addEdge("a", v);
+			v.addEdge("b", hub);
+			if (i % 3 == 0) {
+				hub.addEdge("c", v);
+			}
+		}
+		graph.tx().commit();
+
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(3, Iterators.size(hubNew.edges(Direction.OUT, "c")));
+		assertEquals(9, Iterators.size(hubNew.edges(Direction.OUT, "a")));
+		assertEquals(0, Iterators.size(hubNew.edges(Direction.OUT, "b")));
+		assertEquals(9, Iterators.size(hubNew.edges(Direction.IN, "b")));
+		assertEquals(12, Iterators.size(hubNew.edges(Direction.OUT)));
+		assertEquals(21, Iterators.size(hubNew.edges(Direction.BOTH)));
+		assertEquals(18, Iterators.size(hubNew.edges(Direction.BOTH, "a", "b")));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "5")
+	public void removingEdgesWorks() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		for (int i = 0; i < 12; i++) {
+			Vertex v = graph.addVertex("name", "v" + i, "index", i);
+			hub.addEdge("knows", v);
+		}
+		graph.tx().commit();
+		assertEquals(3 + 12, this.getAdjacencyPageCount());
+
+		// remove some edges from the first page
+		graph.traversal().V().has("name", "hub").outE("knows").filter(t -> {
+			int index = t.get().inVertex().value("index");
+			return index % 2 == 0;
+		}).toList().forEach(Edge::remove);
+		graph.tx().commit();
+
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		Set<Object> indices = Sets.newHashSet();
+		hubNew.vertices(Direction.OUT, "knows").forEachRemaining(v -> indices.add(v.value("index")));
+		assertEquals(Sets.newHashSet(1, 3, 5, 7, 9, 11), indices);
+		graph.tx().rollback();
+
+		// remove all remaining edges; the pages of all vertices must be gone
+		graph.traversal().V().has("name", "hub").outE("knows").toList().forEach(Edge::remove);
+		graph.tx().commit();
+		hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(0, Iterators.size(hubNew.edges(Direction.BOTH)));
+		graph.tx().rollback();
+		assertEquals(0, this.getAdjacencyPageCount());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "5")
+	public void emptyPagesInTheMiddleOfAListAreReclaimed() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		graph.tx().commit();
+		// new edges are appended to the last page, so every commit fills exactly one page
+		for (int page = 0; page < 3; page++) {
+			Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+			for (int i = 0; i < 5; i++) {
+				Vertex v = graph.addVertex("name", "v" + page + "_" + i, "page", page);
+				hubNew.addEdge("knows", v);
+			}
+			graph.tx().commit();
+		}
+		assertEquals(3 + 15, this.getAdjacencyPageCount());
+
+		// empty the page in the middle
+		graph.traversal().V().has("name", "hub").outE("knows").filter(t -> {
+			int page = t.get().inVertex().value("page");
+			return page == 1;
+		}).toList().forEach(Edge::remove);
+		graph.tx().commit();
+		assertEquals(2 + 10, this.getAdjacencyPageCount());
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		Set<Object> pages = Sets.newHashSet();
+		hubNew.vertices(Direction.OUT, "knows").forEachRemaining(v -> pages.add(v.value("page")));
+		assertEquals(Sets.newHashSet(0, 2), pages);
+		assertEquals(10, Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+
+		// new edges are appended after the remaining pages
+		hubNew.addEdge("knows", graph.addVertex("name", "late", "page", 3));
+		graph.tx().commit();
+		assertEquals(3 + 11, this.getAdjacencyPageCount());
+		hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(11, Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "5")
+	public void removingVerticesRemovesTheirPages() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		Vertex other = graph.addVertex("name", "other");
+		for (int i = 0; i < 12; i++) {
+			Vertex v = graph.addVertex("name", "v" + i);
+			hub.addEdge("knows", v);
+		}
+		other.addEdge("knows", hub);
+		graph.tx().commit();
+		assertEquals(3 + 1 + 12 + 1, this.getAdjacencyPageCount());
+
+		Iterators.getOnlyElement(graph.vertices(hub)).remove();
+		graph.tx().commit();
+
+		assertEquals(0, this.getAdjacencyPageCount());
+		Vertex otherNew = Iterators.getOnlyElement(graph.vertices(other));
+		assertEquals(0, Iterators.size(otherNew.edges(Direction.BOTH)));
+		assertEquals(12, Iterators.size(graph.vertices()) - 1);
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "2")
+	public void selfEdgesWork() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v = graph.addVertex("name", "v");
+		v.addEdge("self", v);
+		v.addEdge("self", v);
+		v.addEdge("self", v);
+		graph.tx().commit();
+
+		Vertex vNew = Iterators.getOnlyElement(graph.vertices(v));
+		assertEquals(3, Iterators.size(vNew.edges(Direction.OUT, "self")));
+		assertEquals(3, Iterators.size(vNew.edges(Direction.IN, "self")));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "3")
+	public void changingPropertiesDoesNotAffectThePages() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		for (int i = 0; i < 7; i++) {
+			hub.addEdge("knows", graph.addVertex("name", "v" + i));
+		}
+		graph.tx().commit();
+
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		hubNew.property("name", "changed");
+		graph.tx().commit();
+
+		hubNew = graph.traversal().V().has("name", "changed").next();
+		assertEquals(7, Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "4")
+	public void incrementalCommitsWork() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		graph.tx().commit();
+		try {
+			Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+			for (int round = 0; round < 3; round++) {
+				for (int i = 0; i < 5; i++) {
+					hubNew.addEdge("knows", graph.addVertex("name", "v" + round + "_" + i));
+				}
+				graph.tx().commitIncremental();
+				assertEquals(5 * (round + 1), Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+			}
+			graph.tx().commit();
+		} finally {
+			graph.tx().rollback();
+		}
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(15, Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+	}
+
+	@Test
+	public void edgesAreStoredInTheVertexRecordByDefault() {
+		ChronoGraph graph = this.getGraph();
+		Vertex hub = graph.addVertex("name", "hub");
+		for (int i = 0; i < 25; i++) {
+			hub.addEdge("knows", graph.addVertex("name", "v" + i));
+		}
+		graph.tx().commit();
+		assertEquals(0, this.getAdjacencyPageCount());
+		Vertex hubNew = Iterators.getOnlyElement(graph.vertices(hub));
+		assertEquals(25, Iterators.size(hubNew.edges(Direction.OUT, "knows")));
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private int getAdjacencyPageCount() {
+		ChronoGraphInternal graph = (ChronoGraphInternal) this.getGraph();
+		ChronoDBTransaction tx = graph.getBackingDB().tx();
+		return tx.keySet(ChronoGraphConstants.KEYSPACE_ADJACENCY).size();
+	}
+
+}
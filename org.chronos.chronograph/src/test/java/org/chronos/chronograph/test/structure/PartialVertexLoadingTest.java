@@ -0,0 +1,198 @@
+package org.chronos.chronograph.test.structure;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.internal.api.configuration.ChronoGraphConfiguration;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class PartialVertexLoadingTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void addingEdgesBeforeReadingTheAdjacencyWorks() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1");
+		Vertex v2 = graph.addVertex("name", "v2");
+		v1.addEdge("knows", v2);
+		v1.addEdge("likes", v2);
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		Vertex v3 = graph.addVertex("name", "v3");
+		v1New.addEdge("knows", v3);
+		assertEquals(2, Iterators.size(v1New.edges(Direction.OUT, "knows")));
+		assertEquals(3, Iterators.size(v1New.edges(Direction.OUT)));
+		graph.tx().commit();
+
+		v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		Set<String> names = Sets.newHashSet();
+		v1New.vertices(Direction.OUT, "knows").forEachRemaining(v -> names.add(v.value("name")));
+		assertEquals(Sets.newHashSet("v2", "v3"), names);
+		assertEquals(1, Iterators.size(v1New.edges(Direction.OUT, "likes")));
+	}
+
+	@Test
+	public void changingPropertiesWithoutReadingTheAdjacencyWorks() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1", "kind", "person");
+		Vertex v2 = graph.addVertex("name", "v2");
+		v1.addEdge("knows", v2);
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		v1New.property("name", "changed");
+		v1New.property("kind").remove();
+		graph.tx().commit();
+
+		v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		assertEquals("changed", v1New.value("name"));
+		assertFalse(v1New.property("kind").isPresent());
+		assertEquals(v2.id(), Iterators.getOnlyElement(v1New.vertices(Direction.OUT, "knows")).id());
+		Vertex v2New = Iterators.getOnlyElement(graph.vertices(v2));
+		assertEquals(v1.id(), Iterators.getOnlyElement(v2New.vertices(Direction.IN, "knows")).id());
+	}
+
+	@Test
+	public void removingEdgesWithoutReadingThePropertiesWorks() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1");
+		Vertex v2 = graph.addVertex("name", "v2");
+		v1.addEdge("knows", v2);
+		v1.addEdge("likes", v2);
+		graph.tx().commit();
+
+		Vertex v2New = Iterators.getOnlyElement(graph.vertices(v2));
+		Iterators.getOnlyElement(v2New.edges(Direction.IN, "likes")).remove();
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		assertEquals("v1", v1New.value("name"));
+		assertEquals(1, Iterators.size(v1New.edges(Direction.BOTH)));
+		assertEquals(1, Iterators.size(v1New.edges(Direction.OUT, "knows")));
+	}
+
+	@Test
+	public void metaPropertiesAreLoadedOnDemand() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1");
+		v1.property("name").property("source", "test");
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		VertexProperty<Object> name = v1New.property("name");
+		assertEquals("test", name.value("source"));
+		// materializing the properties must not mark the vertex as modified
+		graph.tx().commit();
+		assertEquals(1, Iterators.size(graph.getVertexHistory(v1)));
+	}
+
+	@Test
+	public void adjacentVerticesReflectEdgeChangesInTheTransaction() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1");
+		Vertex v2 = graph.addVertex("name", "v2");
+		Vertex v3 = graph.addVertex("name", "v3");
+		v1.addEdge("knows", v2);
+		v1.addEdge("knows", v3);
+		v1.addEdge("likes", v3);
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		assertEquals(3, Iterators.size(v1New.vertices(Direction.OUT)));
+		assertEquals(3, Iterators.size(v1New.vertices(Direction.OUT, "knows", "likes")));
+		// remove an edge from the other end, without touching the adjacency of v1 first
+		Vertex v3New = Iterators.getOnlyElement(graph.vertices(v3));
+		Iterators.getOnlyElement(v3New.edges(Direction.IN, "likes")).remove();
+		assertEquals(0, Iterators.size(v1New.vertices(Direction.OUT, "likes")));
+		assertEquals(2, Iterators.size(v1New.vertices(Direction.OUT)));
+		// add an edge without touching the adjacency of v1 first
+		Vertex v4 = graph.addVertex("name", "v4");
+		v1New.addEdge("knows", v4);
+		Set<String> names = Sets.newHashSet();
+		v1New.vertices(Direction.OUT, "knows").forEachRemaining(v -> names.add(v.value("name")));
+		assertEquals(Sets.newHashSet("v2", "v3", "v4"), names);
+		graph.tx().commit();
+
+		Vertex v4New = Iterators.getOnlyElement(graph.vertices(v4));
+		assertEquals("v1", Iterators.getOnlyElement(v4New.vertices(Direction.IN, "knows")).value("name"));
+		assertEquals(3, Iterators.size(Iterators.getOnlyElement(graph.vertices(v1)).vertices(Direction.OUT)));
+	}
+
+	@Test
+	public void readingSinglePropertiesDoesNotLoseOtherProperties() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1", "kind", "person", "age", 42);
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		VertexProperty<Object> name = v1New.property("name");
+		assertEquals("v1", name.value());
+		assertFalse(v1New.property("missing").isPresent());
+		// reading all properties must return the instance which has been materialized before
+		assertTrue(Iterators.contains(v1New.properties(), name));
+		assertEquals(3, Iterators.size(v1New.properties()));
+		graph.tx().rollback();
+
+		v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		assertEquals("person", v1New.value("kind"));
+		v1New.property("age", 43);
+		graph.tx().commit();
+
+		v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		assertEquals("v1", v1New.value("name"));
+		assertEquals("person", v1New.value("kind"));
+		assertEquals(43, (int) v1New.value("age"));
+	}
+
+	@Test
+	public void transactionsDoNotSeeChangesOfOtherTransactions() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1");
+		graph.tx().commit();
+
+		ChronoGraph tx1 = graph.tx().createThreadedTx();
+		ChronoGraph tx2 = graph.tx().createThreadedTx();
+		assertEquals("v1", Iterators.getOnlyElement(tx1.vertices(v1.id())).value("name"));
+		Vertex v1InTx2 = Iterators.getOnlyElement(tx2.vertices(v1.id()));
+		assertEquals("v1", v1InTx2.value("name"));
+		v1InTx2.property("name", "changed");
+		tx2.tx().commit();
+
+		assertEquals("v1", Iterators.getOnlyElement(tx1.vertices(v1.id())).value("name"));
+		tx1.tx().rollback();
+		assertEquals("changed", Iterators.getOnlyElement(graph.vertices(v1)).value("name"));
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoGraphConfiguration.STORAGE_ADJACENCY_PAGE_SIZE, value = "2")
+	public void pagedVerticesLoadPropertiesOnDemand() {
+		ChronoGraph graph = this.getGraph();
+		Vertex v1 = graph.addVertex("name", "v1");
+		for (int i = 0; i < 5; i++) {
+			v1.addEdge("knows", graph.addVertex("name", "v" + (i + 2)));
+		}
+		graph.tx().commit();
+
+		Vertex v1New = Iterators.getOnlyElement(graph.vertices(v1));
+		assertEquals(5, Iterators.size(v1New.edges(Direction.OUT, "knows")));
+		v1New.property("name", "changed");
+		graph.tx().commit();
+
+		v1New = graph.traversal().V().has("name", "changed").next();
+		assertEquals(5, Iterators.size(v1New.edges(Direction.OUT, "knows")));
+	}
+
+}
@@ -0,0 +1,170 @@
+package org.chronos.chronograph.test.transaction;
+
+import static org.junit.Assert.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class TemporalEvaluationTest extends AllChronoGraphBackendsTest {
+
+	@Test
+	public void unrelatedCommitsDoNotCauseReEvaluation() {
+		ChronoGraph g = this.getGraph();
+		Vertex vMartin = g.addVertex("name", "Martin");
+		Vertex vJohn = g.addVertex("name", "John");
+		vMartin.addEdge("knows", vJohn);
+		String vMartinId = (String) vMartin.id();
+		g.tx().commit();
+		long commit1 = g.getNow();
+		// unrelated change
+		Vertex vSarah = g.addVertex("name", "Sarah");
+		g.tx().commit();
+		long commit2 = g.getNow();
+		// change to a vertex which is read by the evaluation
+		vJohn.property("name", "Johnny");
+		g.tx().commit();
+		long commit3 = g.getNow();
+		// new edge on a vertex which is read by the evaluation
+		vMartin.addEdge("knows", vSarah);
+		g.tx().commit();
+		long commit4 = g.getNow();
+		// change to a vertex which has become part of the evaluation
+		vSarah.property("name", "Sara");
+		g.tx().commit();
+		long commit5 = g.getNow();
+		// unrelated change
+		g.addVertex("name", "Tom");
+		g.tx().commit();
+		long commit6 = g.getNow();
+
+		AtomicInteger evaluations = new AtomicInteger(0);
+		Function<ChronoGraph, Set<String>> friendNames = graph -> {
+			evaluations.incrementAndGet();
+			return Sets.newHashSet(graph.traversal().V(vMartinId).out("knows").values("name").toList().stream()
+					.map(String.class::cast).iterator());
+		};
+		List<Pair<Long, Set<String>>> results = Lists
+				.newArrayList(g.evaluateAtCommitsBetween(0, g.getNow(), friendNames));
+		assertEquals(6, results.size());
+		assertEquals(Pair.of(commit1, Sets.newHashSet("John")), results.get(0));
+		assertEquals(Pair.of(commit2, Sets.newHashSet("John")), results.get(1));
+		assertEquals(Pair.of(commit3, Sets.newHashSet("Johnny")), results.get(2));
+		assertEquals(Pair.of(commit4, Sets.newHashSet("Johnny", "Sarah")), results.get(3));
+		assertEquals(Pair.of(commit5, Sets.newHashSet("Johnny", "Sara")), results.get(4));
+		assertEquals(Pair.of(commit6, Sets.newHashSet("Johnny", "Sara")), results.get(5));
+		// commits 2 and 6 do not touch any element read by the function
+		assertEquals(4, evaluations.get());
+	}
+
+	@Test
+	public void graphWideQueriesAreReEvaluatedOnEveryChange() {
+		ChronoGraph g = this.getGraph();
+		g.addVertex("name", "Martin");
+		g.tx().commit();
+		g.addVertex("name", "John");
+		g.tx().commit();
+		g.variables().set("foo", "bar");
+		g.tx().commit();
+		g.addVertex("name", "Sarah");
+		g.tx().commit();
+
+		AtomicInteger evaluations = new AtomicInteger(0);
+		Function<ChronoGraph, Long> vertexCount = graph -> {
+			evaluations.incrementAndGet();
+			return graph.traversal().V().count().next();
+		};
+		List<Long> counts = Lists.newArrayList();
+		g.evaluateAtCommitsBetween(0, g.getNow(), vertexCount).forEachRemaining(pair -> counts.add(pair.getValue()));
+		assertEquals(Lists.newArrayList(1L, 2L, 2L, 3L), counts);
+		// variable changes are not tracked on a per-variable basis, so every commit causes an evaluation
+		assertEquals(4, evaluations.get());
+	}
+
+	@Test
+	public void verticesRuledOutByTheIndexAreTracked() {
+		ChronoGraph g = this.getGraph();
+		g.getIndexManager().create().longIndex().onVertexProperty("age").build();
+		g.getIndexManager().reindexAll();
+		Vertex hub = g.addVertex("name", "hub");
+		String hubId = (String) hub.id();
+		Vertex person = null;
+		for (int i = 0; i < 100; i++) {
+			Vertex vertex = g.addVertex("name", "p" + i, "age", i);
+			hub.addEdge("owns", vertex);
+			if (i == 5) {
+				person = vertex;
+			}
+		}
+		g.tx().commit();
+		long commit1 = g.getNow();
+		// this vertex is discarded via the index (without being loaded) in the first evaluation
+		person.property("age", 95);
+		g.tx().commit();
+		long commit2 = g.getNow();
+
+		AtomicInteger evaluations = new AtomicInteger(0);
+		Function<ChronoGraph, Set<String>> oldPersons = graph -> {
+			evaluations.incrementAndGet();
+			return Sets.newHashSet(graph.traversal().V(hubId).out("owns").has("age", P.gt(89)).values("name")
+					.toList().stream().map(String.class::cast).iterator());
+		};
+		Iterator<Pair<Long, Set<String>>> iterator = g.evaluateAtCommitsBetween(commit1, g.getNow(),
+				oldPersons);
+		Pair<Long, Set<String>> first = iterator.next();
+		assertEquals(commit1, (long) first.getKey());
+		assertEquals(10, first.getValue().size());
+		assertFalse(first.getValue().contains("p5"));
+		Pair<Long, Set<String>> second = iterator.next();
+		assertEquals(commit2, (long) second.getKey());
+		assertEquals(11, second.getValue().size());
+		assertTrue(second.getValue().contains("p5"));
+		assertFalse(iterator.hasNext());
+		assertEquals(2, evaluations.get());
+	}
+
+	@Test
+	public void evaluationRespectsTimeRange() {
+		ChronoGraph g = this.getGraph();
+		Vertex vertex = g.addVertex("name", "Martin");
+		String vertexId = (String) vertex.id();
+		g.tx().commit();
+		vertex.property("name", "John");
+		g.tx().commit();
+		long commit2 = g.getNow();
+		vertex.property("name", "Sarah");
+		g.tx().commit();
+		long commit3 = g.getNow();
+		vertex.remove();
+		g.tx().commit();
+		long commit4 = g.getNow();
+
+		Iterator<Pair<Long, String>> iterator = g.evaluateAtCommitsBetween(commit2, commit4, graph -> {
+			Iterator<Vertex> vertices = graph.vertices(vertexId);
+			if (vertices.hasNext() == false) {
+				return null;
+			}
+			return (String) vertices.next().value("name");
+		});
+		assertEquals(Pair.of(commit2, "John"), iterator.next());
+		assertEquals(Pair.of(commit3, "Sarah"), iterator.next());
+		assertEquals(Pair.of(commit4, (String) null), iterator.next());
+		assertFalse(iterator.hasNext());
+	}
+
+}
@@ -1,10 +1,12 @@
 package org.chronos.chronograph.test.transaction.conflict;
 
 import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronograph.test.base.AllChronoGraphBackendsTest;
 import org.chronos.common.test.junit.categories.IntegrationTest;
@@ -12,7 +14,11 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
@@ -242,6 +248,110 @@ public class GraphTransactionConflictTest extends AllChronoGraphBackendsTest {
         assertThat(iterator.hasNext(), is(false));
     }
 
+    @Test
+    public void canMergeRemovedVertexPropertiesAndMetaProperties() {
+        ChronoGraph g = this.getGraph();
+        g.getIndexManager().create().stringIndex().onVertexProperty("hello").build();
+        g.getIndexManager().reindexAll();
+        { // initial commit
+            Vertex vJohn = g.addVertex("name", "John", "age", 50, "hello", "world");
+            vJohn.property("name").property("source", "initial");
+            g.tx().commit();
+        }
+
+        ChronoGraph g1 = g.tx().createThreadedTx();
+        ChronoGraph g2 = g.tx().createThreadedTx();
+
+        { // transaction 1
+            Vertex vJohn = g1.traversal().V().has("name", "John").next();
+            vJohn.property("name").property("source", "tx1");
+            vJohn.property("age", 51);
+            g1.tx().commit();
+        }
+
+        { // transaction 2
+            Vertex vJohn = g2.traversal().V().has("name", "John").next();
+            vJohn.property("hello").remove();
+            g2.tx().commit();
+        }
+
+        Vertex vertex = g.traversal().V().next();
+        assertThat(vertex.value("age"), is(51));
+        assertThat(vertex.property("name").value("source"), is("tx1"));
+        assertThat(vertex.property("hello").isPresent(), is(false));
+        // the index must reflect the merged state
+        assertThat(g.traversal().V().has("hello", "world").toList().size(), is(0));
+    }
+
+    @Test
+    public void removingVertexAlsoRemovesConcurrentlyAddedEdges() {
+        ChronoGraph g = this.getGraph();
+        { // initial commit
+            g.addVertex("name", "John");
+            g.addVertex("name", "Jane");
+            g.tx().commit();
+        }
+
+        ChronoGraph g1 = g.tx().createThreadedTx();
+        ChronoGraph g2 = g.tx().createThreadedTx();
+
+        { // transaction 1
+            Vertex vJohn = g1.traversal().V().has("name", "John").next();
+            Vertex vJane = g1.traversal().V().has("name", "Jane").next();
+            vJohn.addEdge("marriedTo", vJane);
+            g1.tx().commit();
+        }
+
+        { // transaction 2
+            g2.traversal().V().has("name", "John").next().remove();
+            g2.tx().commit();
+        }
+
+        assertThat(g.traversal().V().has("name", "John").hasNext(), is(false));
+        assertThat(g.traversal().E().hasNext(), is(false));
+        Vertex vJane = g.traversal().V().has("name", "Jane").next();
+        assertThat(vJane.edges(Direction.BOTH).hasNext(), is(false));
+    }
+
+    @Test
+    public void concurrentCommitsOnDifferentBranchesDoNotInterfere() throws Exception {
+        ChronoGraph g = this.getGraph();
+        g.addVertex("name", "John");
+        g.tx().commit();
+        g.getBranchManager().createBranch("test");
+
+        int numberOfThreads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        List<Future<?>> futures = Lists.newArrayList();
+        for (int t = 0; t < numberOfThreads; t++) {
+            String branch = t % 2 == 0 ? ChronoDBConstants.MASTER_BRANCH_IDENTIFIER : "test";
+            int threadIndex = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10; i++) {
+                    ChronoGraph tx = g.tx().createThreadedTx(branch);
+                    Vertex vJohn = tx.traversal().V().has("name", "John").next();
+                    vJohn.property("p" + threadIndex + "_" + i, i);
+                    tx.addVertex("name", "v" + threadIndex + "_" + i);
+                    tx.tx().commit();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        for (String branch : Lists.newArrayList(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, "test")) {
+            ChronoGraph tx = g.tx().createThreadedTx(branch);
+            // 1 initial vertex, plus 2 threads with 10 vertices each
+            assertThat(Iterators.size(tx.vertices()), is(21));
+            Vertex vJohn = tx.traversal().V().has("name", "John").next();
+            // 1 initial property, plus 2 threads with 10 properties each
+            assertThat(Iterators.size(vJohn.properties()), is(21));
+            tx.tx().rollback();
+        }
+    }
+
     @Test
     public void canMergeConflictingGraphVariables() {
         ChronoGraph g = this.getGraph();
@@ -2,26 +2,28 @@ package org.chronos.chronosphere.api;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map.Entry;
-import java.util.Set;
 
 import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.exceptions.InvalidTransactionBranchException;
 import org.chronos.chronodb.api.exceptions.InvalidTransactionTimestampException;
+import org.chronos.chronosphere.api.exceptions.emf.XMIConversionFailedException;
 import org.chronos.chronosphere.emf.impl.ChronoEObjectImpl;
 import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
 import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
 
 import com.google.common.collect.Iterators;
 
@@ -242,9 +244,7 @@ public interface ChronoSphere extends AutoCloseable {
 		checkArgument(this.getBranchManager().existsBranch(branch),
 				"Precondition violation - argument 'branch' must refer to an existing branch!");
 		checkNotNull(xmiContent, "Precondition violation - argument 'xmiContent' must not be NULL!");
-		Set<EPackage> ePackages = this.getEPackageManager().getRegisteredEPackages();
-		List<EObject> eObjectsFromXMI = EMFUtils.readEObjectsFromXMI(xmiContent, ePackages);
-		this.batchInsertModelData(branch, eObjectsFromXMI);
+		this.batchInsertModelData(branch, new ByteArrayInputStream(xmiContent.getBytes(StandardCharsets.UTF_8)));
 	}
 
 	/**
@@ -293,14 +293,61 @@ public interface ChronoSphere extends AutoCloseable {
 				"Precondition violation - argument 'branch' must refer to an existing branch!");
 		checkNotNull(xmiFile, "Precondition violation - argument 'xmiFile' must not be NULL!");
 		EMFUtils.assertIsXMIFile(xmiFile);
-		ResourceSet resourceSet = EMFUtils.createResourceSet();
-		for (EPackage ePackage : this.getEPackageManager().getRegisteredEPackages()) {
-			resourceSet.getPackageRegistry().put(ePackage.getNsURI(), ePackage);
+		try (InputStream xmiContents = new BufferedInputStream(new FileInputStream(xmiFile))) {
+			this.batchInsertModelData(branch, xmiContents);
+		} catch (IOException e) {
+			throw new XMIConversionFailedException("Could not read XMI file '" + xmiFile.getAbsolutePath() + "'!", e);
 		}
-		Resource resource = resourceSet.getResource(URI.createFileURI(xmiFile.getAbsolutePath()), true);
-		this.batchInsertModelData(branch, resource.getContents());
 	}
 
+	/**
+	 * Batch-inserts the {@link EObject} model data from the given XMI stream into the
+	 * {@linkplain ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch of this repository.
+	 *
+	 * <p>
+	 * Please remember to {@linkplain ChronoSphereEPackageManager#registerOrUpdateEPackage(EPackage) register} your
+	 * {@link EPackage}s before calling this method.
+	 *
+	 * <p>
+	 * Only one batch insert process can be active at any point in time. Any other write transactions will be denied
+	 * while this process is running.
+	 *
+	 * @param xmiContents
+	 *            The stream that provides the XMI data. Must not be <code>null</code>, must provide syntactically valid
+	 *            XMI data. Will not be closed by this method.
+	 *
+	 * @see #batchInsertModelData(String, InputStream)
+	 */
+	public default void batchInsertModelData(final InputStream xmiContents) {
+		checkNotNull(xmiContents, "Precondition violation - argument 'xmiContents' must not be NULL!");
+		this.batchInsertModelData(ChronoDBConstants.MASTER_BRANCH_IDENTIFIER, xmiContents);
+	}
+
+	/**
+	 * Batch-inserts the {@link EObject} model data from the given XMI stream into the given branch of this repository.
+	 *
+	 * <p>
+	 * Please remember to {@linkplain ChronoSphereEPackageManager#registerOrUpdateEPackage(EPackage) register} your
+	 * {@link EPackage}s before calling this method.
+	 *
+	 * <p>
+	 * Only one batch insert process can be active at any point in time. Any other write transactions will be denied
+	 * while this process is running.
+	 *
+	 * <p>
+	 * The XMI data is streamed directly into the repository, i.e. it is never loaded into memory as a whole. The heap
+	 * usage of this method therefore does not depend on the size of the model. EObjects are identified by their
+	 * <code>xmi:id</code> (if present) or by their URI fragment path; references to other documents are ignored.
+	 *
+	 * @param branch
+	 *            The branch to load the model elements into. Must not be <code>null</code>, must refer to an existing
+	 *            branch.
+	 * @param xmiContents
+	 *            The stream that provides the XMI data. Must not be <code>null</code>, must provide syntactically valid
+	 *            XMI data. Will not be closed by this method.
+	 */
+	public void batchInsertModelData(String branch, InputStream xmiContents);
+
 	/**
 	 * Batch-inserts the given {@link EObject} model data into the
 	 * {@linkplain ChronoDBConstants#MASTER_BRANCH_IDENTIFIER master} branch of this repository.
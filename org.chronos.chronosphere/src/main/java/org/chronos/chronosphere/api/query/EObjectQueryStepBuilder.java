@@ -3,7 +3,11 @@ package org.chronos.chronosphere.api.query;
 import org.eclipse.emf.ecore.*;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 public interface EObjectQueryStepBuilder<S> extends QueryStepBuilder<S, EObject> {
 
@@ -185,6 +189,14 @@ public interface EObjectQueryStepBuilder<S> extends QueryStepBuilder<S, EObject>
      */
     public EObjectQueryStepBuilder<S> eAllContents();
 
+    /**
+     * Navigates from an {@link EObject} to all of its (transitive) {@link EObject#eContainer() eContainers}, starting
+     * with the direct eContainer and ending with the root of the containment tree.
+     *
+     * @return The query builder, for method chaining. Never <code>null</code>.
+     */
+    public EObjectQueryStepBuilder<S> eAllContainers();
+
     /**
      * Navigates from an {@link EObject} to all other {@link EObject}s that reference it.
      * <p>
@@ -246,4 +258,48 @@ public interface EObjectQueryStepBuilder<S> extends QueryStepBuilder<S, EObject>
      */
     public EObjectQueryStepBuilder<S> closure(EReference eReference, Direction direction);
 
-}
\ No newline at end of file
+    // =================================================================================================================
+    // FINISHING OPERATIONS
+    // =================================================================================================================
+
+    /**
+     * Calculates the result set of this query and returns it, loading the given features together with the resulting
+     * {@link EObject}s.
+     *
+     * @param prefetch The features to load together with the result. Must not be <code>null</code>.
+     * @return The result set. Never <code>null</code>. May be empty.
+     * @see Prefetch#prefetch(EStructuralFeature...)
+     */
+    public Set<EObject> toSet(Prefetch prefetch);
+
+    /**
+     * Calculates the result of this query and returns it as a {@link List}, loading the given features together with
+     * the resulting {@link EObject}s.
+     *
+     * @param prefetch The features to load together with the result. Must not be <code>null</code>.
+     * @return The result list. Never <code>null</code>. May be empty.
+     * @see Prefetch#prefetch(EStructuralFeature...)
+     */
+    public List<EObject> toList(Prefetch prefetch);
+
+    /**
+     * Creates an iterator over the elements in this query and returns it. The given features are loaded together with
+     * each batch of resulting {@link EObject}s.
+     *
+     * @param prefetch The features to load together with the result. Must not be <code>null</code>.
+     * @return The iterator over the resulting elements. May be empty, but never <code>null</code>.
+     * @see Prefetch#prefetch(EStructuralFeature...)
+     */
+    public Iterator<EObject> toIterator(Prefetch prefetch);
+
+    /**
+     * Converts this query into a {@link Stream}. The given features are loaded together with each batch of resulting
+     * {@link EObject}s.
+     *
+     * @param prefetch The features to load together with the result. Must not be <code>null</code>.
+     * @return The stream representation of this query.
+     * @see Prefetch#prefetch(EStructuralFeature...)
+     */
+    public Stream<EObject> toStream(Prefetch prefetch);
+
+}
@@ -0,0 +1,80 @@
+package org.chronos.chronosphere.api.query;
+
+import com.google.common.collect.Sets;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * Declares which {@link EStructuralFeature}s of the {@link EObject}s in a query result will be accessed by the caller,
+ * such that the data behind them can be loaded in batches together with the result.
+ * <p>
+ * The EObjects in a query result are always loaded in batches. The {@link EAttribute} values are part of that batch
+ * anyway. For every declared {@link EReference}, the target EObjects of all result EObjects in a batch are loaded in
+ * one additional batch, which is considerably faster than resolving them one by one when navigating the reference.
+ * <p>
+ * Usage example:
+ * <p>
+ * <pre>
+ * import static org.chronos.chronosphere.api.query.Prefetch.*;
+ *
+ * Set&lt;EObject&gt; persons = tx.find().startingFromInstancesOf(personClass).toSet(prefetch(nameAttribute, friendsReference));
+ * </pre>
+ */
+public class Prefetch {
+
+    /**
+     * Creates a new prefetch declaration for the given features.
+     *
+     * @param eStructuralFeatures The features to prefetch. Must not be <code>null</code>. May be empty, in which case only
+     *                            the EObjects in the result themselves are loaded in batches. {@link EAttribute}s are
+     *                            accepted for convenience, but have no effect, as their values are always loaded with
+     *                            the batch.
+     * @return The new prefetch declaration. Never <code>null</code>.
+     */
+    public static Prefetch prefetch(final EStructuralFeature... eStructuralFeatures) {
+        checkNotNull(eStructuralFeatures, "Precondition violation - argument 'eStructuralFeatures' must not be NULL!");
+        Set<EReference> eReferences = Sets.newLinkedHashSet();
+        for (EStructuralFeature feature : eStructuralFeatures) {
+            checkNotNull(feature, "Precondition violation - argument 'eStructuralFeatures' must not contain NULL!");
+            if (feature instanceof EReference) {
+                eReferences.add((EReference) feature);
+            }
+        }
+        return new Prefetch(eReferences);
+    }
+
+    // =================================================================================================================
+    // FIELDS
+    // =================================================================================================================
+
+    private final Set<EReference> eReferences;
+
+    // =================================================================================================================
+    // CONSTRUCTOR
+    // =================================================================================================================
+
+    private Prefetch(final Set<EReference> eReferences) {
+        this.eReferences = Collections.unmodifiableSet(eReferences);
+    }
+
+    // =================================================================================================================
+    // PUBLIC API
+    // =================================================================================================================
+
+    /**
+     * Returns the {@link EReference}s whose targets should be prefetched.
+     *
+     * @return An unmodifiable view on the EReferences. May be empty, but never <code>null</code>.
+     */
+    public Set<EReference> getEReferences() {
+        return this.eReferences;
+    }
+
+}
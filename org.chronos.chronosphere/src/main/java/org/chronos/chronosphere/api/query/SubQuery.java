@@ -437,6 +437,17 @@ public class SubQuery {
         return new EObjectQueryEAllContentsStepBuilder<>(source);
     }
 
+    /**
+     * Navigates from an {@link EObject} to all of its (transitive) {@link EObject#eContainer() eContainers}, starting
+     * with the direct eContainer and ending with the root of the containment tree.
+     *
+     * @return The query builder, for method chaining. Never <code>null</code>.
+     */
+    public static EObjectQueryStepBuilder<EObject> eAllContainers() {
+        TraversalSource<EObject, EObject> source = TraversalSource.createAnonymousSource();
+        return new EObjectQueryEAllContainersStepBuilder<>(source);
+    }
+
     /**
      * Navigates from an {@link EObject} to all other {@link EObject}s that reference it.
      * <p>
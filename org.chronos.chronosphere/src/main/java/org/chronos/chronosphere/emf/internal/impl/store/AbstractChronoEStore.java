@@ -72,17 +72,17 @@ public abstract class AbstractChronoEStore implements ChronoEStore {
 			if (eReference.isContainment()) {
 				// we are removing a child from our containment reference
 				if (eReference.isMany()) {
-					List<Object> values = Lists.newArrayList((EList<Object>) this.get(object, eReference, NO_INDEX));
 					if (index == NO_INDEX) {
 						// clear all children
+						List<Object> values = Lists.newArrayList((EList<Object>) this.get(object, eReference, NO_INDEX));
 						for (Object value : values) {
 							ChronoEObjectInternal childEObject = (ChronoEObjectInternal) value;
 							childEObject.unsetEContainerSilent();
 						}
 						return;
 					} else {
-						// clear a single child
-						ChronoEObjectInternal childEObject = (ChronoEObjectInternal) values.get(index);
+						// clear a single child (no need to resolve the other ones)
+						ChronoEObjectInternal childEObject = (ChronoEObjectInternal) this.get(object, eReference, index);
 						childEObject.unsetEContainerSilent();
 						return;
 					}
@@ -2,21 +2,36 @@ package org.chronos.chronosphere.emf.internal.impl.store;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.math.RoundingMode;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
 
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.exceptions.EObjectPersistenceException;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.emf.impl.ChronoEObjectImpl;
 import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
 import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.internal.ogm.api.VertexKind;
@@ -31,17 +46,30 @@ import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.InternalEObject;
 
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import com.google.common.math.IntMath;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 public class ChronoGraphEStore extends AbstractChronoEStore {
 
+	// =================================================================================================================
+	// CONSTANTS
+	// =================================================================================================================
+
+	/** The minimum number of EObjects each worker thread needs to receive when a merge is prepared in parallel. */
+	private static final int MIN_EOBJECTS_PER_MERGE_THREAD = 1_000;
+
 	// =================================================================================================================
 	// FIELDS
 	// =================================================================================================================
 
 	private final ChronoSphereTransactionInternal owningTransaction;
+	private final ManyValuedFeatureCache manyValuedFeatureCache = new ManyValuedFeatureCache();
 
 	// =================================================================================================================
 	// CONSTRUCTOR
@@ -60,16 +88,17 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 	public Object get(final InternalEObject object, final EStructuralFeature feature, final int index) {
 		this.assertTxOpen();
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		if (feature.isMany()) {
-			EList<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
 			if (index == NO_INDEX) {
-				return list;
+				return this.getListOfValuesFor(eObject, feature);
 			} else {
-				return list.get(index);
+				// only resolve the requested element
+				Object rawValue = this.getRawValuesFor(eObject, feature).get(index);
+				return this.resolveRawValue(feature, rawValue);
 			}
 		} else {
+			Vertex vertex = this.getEObjectVertex(eObject);
+			ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 			return this.getSingleValueFor(ePackage, vertex, feature);
 		}
 	}
@@ -87,6 +116,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		if (index == NO_INDEX) {
 			if (feature.isMany()) {
 				// multiplicity-many feature
+				this.manyValuedFeatureCache.invalidate(eObject.getId(), feature);
 				if (value == null) {
 					if (feature instanceof EAttribute) {
 						EAttribute eAttribute = (EAttribute) feature;
@@ -142,9 +172,18 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 
 		} else {
 			// we are always dealing with a multiplicity-many feature here.
-			List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
-			result = list.set(index, value);
-			this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
+			if (feature instanceof EReference) {
+				// replace only the affected link
+				EReference eReference = (EReference) feature;
+				EReferenceEdgeList edges = this.getEReferenceEdgeList(eObject, eReference);
+				ChronoEObject target = (ChronoEObject) value;
+				Edge edge = this.addEReferenceEdge(ePackage, vertex, eReference, target);
+				result = this.getEObjectById(edges.set(index, edge, target.getId()));
+			} else {
+				List<Object> list = this.getListOfValuesFor(eObject, feature);
+				result = list.set(index, value);
+				this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
+			}
 		}
 		// if we are dealing with a containment reference, set the eContainer of the value to the owner of this store
 		this.setEContainerReferenceIfNecessary(object, feature, value);
@@ -156,8 +195,6 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		// special case: a feature is always "set" if it is the container feature and eContainer != null
 		if (feature instanceof EReference) {
 			EReference eReference = (EReference) feature;
@@ -167,8 +204,10 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		}
 		if (feature.isMany()) {
 			// for many-valued features, "being set" is defined as "not being empty"
-			return this.getListOfValuesFor(ePackage, vertex, feature).isEmpty() == false;
+			return this.getRawValuesFor(eObject, feature).isEmpty() == false;
 		}
+		Vertex vertex = this.getEObjectVertex(eObject);
+		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		if (feature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) feature;
 			return ChronoSphereGraphFormat.getEAttributeValue(ePackage, vertex, eAttribute) != null;
@@ -213,9 +252,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 	public boolean isEmpty(final InternalEObject object, final EStructuralFeature feature) {
 		this.assertTxOpen();
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).isEmpty();
+		return this.getRawValuesFor(eObject, feature).isEmpty();
 	}
 
 	@Override
@@ -223,9 +260,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).size();
+		return this.getRawValuesFor(eObject, feature).size();
 	}
 
 	@Override
@@ -233,9 +268,15 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).contains(value);
+		if (feature instanceof EReference) {
+			if (value instanceof ChronoEObject == false) {
+				// EReference targets are always ChronoEObjects
+				return false;
+			}
+			EReferenceEdgeList edges = this.getEReferenceEdgeList(eObject, (EReference) feature);
+			return edges.contains(((ChronoEObject) value).getId());
+		}
+		return this.indexOfRawValue(this.getRawValuesFor(eObject, feature), feature, value, false) >= 0;
 	}
 
 	@Override
@@ -243,9 +284,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).indexOf(value);
+		return this.indexOfRawValue(this.getRawValuesFor(eObject, feature), feature, value, false);
 	}
 
 	@Override
@@ -253,9 +292,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).lastIndexOf(value);
+		return this.indexOfRawValue(this.getRawValuesFor(eObject, feature), feature, value, true);
 	}
 
 	@Override
@@ -265,7 +302,16 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
 		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
+		if (feature instanceof EReference) {
+			// add only the new link
+			EReference eReference = (EReference) feature;
+			EReferenceEdgeList edges = this.getEReferenceEdgeList(eObject, eReference);
+			ChronoEObject target = (ChronoEObject) value;
+			int position = index == NO_INDEX ? edges.size() : index;
+			edges.add(position, this.addEReferenceEdge(ePackage, vertex, eReference, target), target.getId());
+			return;
+		}
+		List<Object> list = this.getListOfValuesFor(eObject, feature);
 		list.add(index, value);
 		// write to graph
 		this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
@@ -279,14 +325,18 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 		// special case: if we are removing a contained EObject, we need to unset it's eContainer
 		if (feature instanceof EReference && ((EReference) feature).isContainment()) {
-			Object child = this.get(object, feature, index);
+			ChronoEObject child = (ChronoEObject) this.get(object, feature, index);
 			this.unsetEContainerReferenceIfNecessary(eObject, feature, index);
-			List<Object> values = this.getListOfValuesFor(ePackage, vertex, feature);
-			values.remove(child);
-			this.writeListOfValuesToGraph(ePackage, vertex, feature, values);
+			EReferenceEdgeList edges = this.getEReferenceEdgeList(eObject, (EReference) feature);
+			edges.remove(index);
 			return child;
 		}
-		List<Object> list = this.getListOfValuesFor(ePackage, vertex, feature);
+		if (feature instanceof EReference) {
+			// remove only the affected link
+			EReferenceEdgeList edges = this.getEReferenceEdgeList(eObject, (EReference) feature);
+			return this.getEObjectById(edges.remove(index));
+		}
+		List<Object> list = this.getListOfValuesFor(eObject, feature);
 		Object result = list.remove(index);
 		this.writeListOfValuesToGraph(ePackage, vertex, feature, list);
 		return result;
@@ -300,7 +350,12 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
 		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		EList<Object> values = this.getListOfValuesFor(ePackage, vertex, feature);
+		if (feature instanceof EReference) {
+			// only the moved link needs to be updated
+			EReferenceEdgeList edges = this.getEReferenceEdgeList(eObject, (EReference) feature);
+			return this.getEObjectById(edges.move(targetIndex, sourceIndex));
+		}
+		EList<Object> values = this.getListOfValuesFor(eObject, feature);
 		Object result = values.move(targetIndex, sourceIndex);
 		this.writeListOfValuesToGraph(ePackage, vertex, feature, values);
 		return result;
@@ -327,9 +382,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).toArray();
+		return this.getListOfValuesFor(eObject, feature).toArray();
 	}
 
 	@Override
@@ -338,9 +391,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.assertTxOpen();
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
 		ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-		Vertex vertex = this.getEObjectVertex(eObject);
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		return this.getListOfValuesFor(ePackage, vertex, feature).toArray(array);
+		return this.getListOfValuesFor(eObject, feature).toArray(array);
 	}
 
 	@Override
@@ -351,11 +402,11 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			return 0;
 		} else {
 			ChronoEObjectInternal eObject = this.assertIsChronoEObject(object);
-			Vertex vertex = this.getEObjectVertex(eObject);
-			ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 			if (feature.isMany()) {
-				return this.getListOfValuesFor(ePackage, vertex, feature).hashCode();
+				return this.getListOfValuesFor(eObject, feature).hashCode();
 			} else {
+				Vertex vertex = this.getEObjectVertex(eObject);
+				ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
 				return this.getSingleValueFor(ePackage, vertex, feature).hashCode();
 			}
 		}
@@ -374,7 +425,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			// unset container
 			ChronoSphereGraphFormat.setEContainer(vertex, null);
 		}
-
+		this.updateEAncestorsIfNecessary(vertex);
 	}
 
 	@Override
@@ -465,6 +516,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		Vertex vertex = this.getEObjectVertex(eObject);
 		ChronoSphereGraphFormat.setEContainer(vertex, null);
 		ChronoSphereGraphFormat.setEContainingFeatureId(vertex, null);
+		this.updateEAncestorsIfNecessary(vertex);
 	}
 
 	// =====================================================================================================================
@@ -494,13 +546,24 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		this.deepDelete(eObjectsToDelete, tx, true, batchSize, cascadeDeletionToEContents);
 	}
 
+	/**
+	 * Discards all cached feature values.
+	 *
+	 * <p>
+	 * This method needs to be called whenever the graph has been modified without going through this store.
+	 */
+	public void clearCaches() {
+		this.manyValuedFeatureCache.clear();
+	}
+
 	// =================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =================================================================================================================
 
 	private void deepMerge(final Collection<ChronoEObjectInternal> mergeObjects, final ChronoSphereTransaction tx,
 			final boolean useIncrementalCommits, final int batchSize) {
-		Set<ChronoEObjectInternal> objectsToMerge = Sets.newHashSet();
+		// collect the EObjects in containment order, i.e. every EObject is preceded by its eContainer
+		Set<ChronoEObjectInternal> objectsToMerge = Sets.newLinkedHashSet();
 		for (ChronoEObjectInternal eObject : mergeObjects) {
 			TreeIterator<EObject> contents = eObject.eAllContents();
 			objectsToMerge.add(eObject);
@@ -508,22 +571,39 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				objectsToMerge.add((ChronoEObjectInternal) contents.next());
 			}
 		}
+		// EObjects which are already attached to the store have nothing to merge
+		List<ChronoEObjectInternal> detachedEObjects = objectsToMerge.stream()
+				.filter(eObject -> eObject.isAttached() == false).collect(Collectors.toList());
+		// read the EAttribute values and EReference targets of all EObjects (this does not touch the graph, so it
+		// may run in parallel). All graph writes below happen on the current thread, as the transaction is not
+		// thread-safe.
+		List<EObjectMergeRecord> records = this.createMergeRecords(detachedEObjects);
+		// in the first iteration, create the EObject vertices in the graph and merge the EAttributes. We do this in
+		// the order of the IDs, such that every incremental commit writes a contiguous range of keys.
+		List<EObjectMergeRecord> recordsById = Lists.newArrayList(records);
+		recordsById.sort(Comparator.comparing(EObjectMergeRecord::getId));
+		Map<String, Vertex> idToVertex = Maps.newHashMap();
+		Map<EClass, Vertex> eClassToVertex = Maps.newHashMap();
 		int currentBatchSize = 0;
-		// in the first iteration, create the EObject vertices in the graph and merge the EAttributes
-		for (ChronoEObjectInternal currentEObject : objectsToMerge) {
-			this.mergeObjectAndAttributes(currentEObject);
+		for (EObjectMergeRecord record : recordsById) {
+			Vertex vertex = this.mergeObjectAndAttributes(record, eClassToVertex);
+			idToVertex.put(record.getId(), vertex);
 			currentBatchSize++;
 			if (useIncrementalCommits && currentBatchSize >= batchSize) {
 				tx.commitIncremental();
+				// the vertices we have created so far are no longer part of the transaction context
+				idToVertex.clear();
 				currentBatchSize = 0;
 			}
 		}
-		// having created all vertices, we can now merge the eReferences
-		for (ChronoEObjectInternal currentEObject : objectsToMerge) {
-			this.mergeEReferencesAndEContainer(currentEObject);
+		// having created all vertices, we can now merge the eReferences. Containers are processed before their
+		// contents, such that the eAncestors of each EObject only need to be written once.
+		for (EObjectMergeRecord record : records) {
+			this.mergeEReferencesAndEContainer(record, idToVertex);
 			currentBatchSize++;
 			if (useIncrementalCommits && currentBatchSize >= batchSize) {
 				tx.commitIncremental();
+				idToVertex.clear();
 				currentBatchSize = 0;
 			}
 		}
@@ -536,74 +616,182 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				currentBatchSize = 0;
 			}
 		}
+		// the merge has written to the vertices of the merged EObjects directly, so their cached values may be outdated
+		for (ChronoEObjectInternal mergedEObject : objectsToMerge) {
+			this.manyValuedFeatureCache.invalidate(mergedEObject.getId());
+		}
 	}
 
-	private void mergeObjectAndAttributes(final ChronoEObjectInternal eObject) {
-		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
-		if (eObject.isAttached()) {
-			// already attached to the store, nothing to merge
-			return;
-		}
+	/**
+	 * Reads the EAttribute values and EReference targets of the given EObjects into {@link EObjectMergeRecord}s.
+	 *
+	 * <p>
+	 * This is the only part of a merge which runs on several threads (see
+	 * {@link ChronoSphereConfiguration#getBatchInsertMergeThreads()}). Creating the vertices, properties and edges
+	 * from the records, as well as committing them, happens on the thread of the transaction, because neither the
+	 * graph transaction nor the underlying ChronoDB transaction are thread-safe. The speedup of additional merge
+	 * threads is therefore bounded by the share of the merge which is spent on reading the EObjects.
+	 *
+	 * @param eObjects
+	 *            The EObjects to read. Must not be <code>null</code>.
+	 * @return The merge records, in the order of the given EObjects. Never <code>null</code>.
+	 */
+	private List<EObjectMergeRecord> createMergeRecords(final List<ChronoEObjectInternal> eObjects) {
+		// EMF computes the feature lists of an EClass lazily and without synchronization, so we need to make sure
+		// that this has happened before the worker threads access them. The property keys are calculated here for
+		// the same reason, as the EPackage registry is not thread-safe either.
+		Map<EClass, Map<EAttribute, String>> eClassToPropertyKeys = Maps.newHashMap();
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		// create a vertex for the eObject
-		Vertex vertex = this.createVertexForEObject(eObject);
+		for (ChronoEObjectInternal eObject : eObjects) {
+			eClassToPropertyKeys.computeIfAbsent(eObject.eClass(), eClass -> {
+				eClass.getEAllStructuralFeatures();
+				eClass.getEAllReferences();
+				eClass.getFeatureCount();
+				Map<EAttribute, String> propertyKeys = Maps.newHashMap();
+				for (EAttribute eAttribute : eClass.getEAllAttributes()) {
+					propertyKeys.put(eAttribute, ChronoSphereGraphFormat.createVertexPropertyKey(ePackage, eAttribute));
+				}
+				return propertyKeys;
+			});
+		}
+		int threadCount = this.getMergeThreadCount(eObjects.size());
+		if (threadCount <= 1) {
+			return this.createMergeRecords(eObjects, eClassToPropertyKeys);
+		}
+		// each EObject is read by exactly one worker; the transient stores are only ever accessed by their owner
+		int partitionSize = IntMath.divide(eObjects.size(), threadCount, RoundingMode.CEILING);
+		List<Callable<List<EObjectMergeRecord>>> tasks = Lists.newArrayList();
+		for (List<ChronoEObjectInternal> partition : Lists.partition(eObjects, partitionSize)) {
+			tasks.add(() -> this.createMergeRecords(partition, eClassToPropertyKeys));
+		}
+		ThreadFactory threadFactory = new ThreadFactoryBuilder().setNameFormat("ChronoSphere-Merge-%d")
+				.setDaemon(true).build();
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount, threadFactory);
+		try {
+			List<EObjectMergeRecord> records = Lists.newArrayListWithCapacity(eObjects.size());
+			// the futures are returned in the order of the tasks, so the records retain the order of the EObjects
+			for (Future<List<EObjectMergeRecord>> future : executor.invokeAll(tasks)) {
+				records.addAll(future.get());
+			}
+			return records;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new EObjectPersistenceException("Interrupted while preparing the EObjects for the merge!", e);
+		} catch (ExecutionException e) {
+			Throwables.propagateIfPossible(e.getCause());
+			throw new EObjectPersistenceException("Failed to prepare the EObjects for the merge!", e.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<EObjectMergeRecord> createMergeRecords(final List<ChronoEObjectInternal> eObjects,
+			final Map<EClass, Map<EAttribute, String>> eClassToPropertyKeys) {
+		List<EObjectMergeRecord> records = Lists.newArrayListWithCapacity(eObjects.size());
+		for (ChronoEObjectInternal eObject : eObjects) {
+			records.add(this.createMergeRecord(eObject, eClassToPropertyKeys.get(eObject.eClass())));
+		}
+		return records;
+	}
+
+	@SuppressWarnings("unchecked")
+	private EObjectMergeRecord createMergeRecord(final ChronoEObjectInternal eObject,
+			final Map<EAttribute, String> propertyKeys) {
+		EObjectMergeRecord record = new EObjectMergeRecord(eObject);
 		for (EAttribute eAttribute : eObject.eClass().getEAllAttributes()) {
 			if (eObject.eIsSet(eAttribute) == false) {
 				// ignore eAttributes that have no value assigned in the given EObject
 				continue;
 			}
 			Object value = eObject.eGet(eAttribute);
-			if (eAttribute.isMany()) {
-				ChronoSphereGraphFormat.setEAttributeValues(ePackage, vertex, eAttribute, (Collection<?>) value);
-			} else {
-				ChronoSphereGraphFormat.setEAttributeValue(ePackage, vertex, eAttribute, value);
+			Object persistableValue = ChronoSphereGraphFormat.convertEAttributeValueToPersistableObject(eAttribute,
+					value);
+			if (persistableValue != null) {
+				record.putPropertyValue(propertyKeys.get(eAttribute), persistableValue);
 			}
 		}
+		for (EReference eReference : eObject.eClass().getEAllReferences()) {
+			if (eObject.eIsSet(eReference) == false) {
+				// reference is not set on this EObject, nothing to merge
+				continue;
+			}
+			Object value = eObject.eGet(eReference);
+			if (eReference.isMany()) {
+				List<ChronoEObjectInternal> targets = (List<ChronoEObjectInternal>) value;
+				List<String> targetIds = Lists.newArrayListWithCapacity(targets.size());
+				for (ChronoEObjectInternal target : targets) {
+					targetIds.add(target.getId());
+				}
+				record.putReferenceTargetIds(eReference, targetIds);
+			} else if (value != null) {
+				ChronoEObjectInternal target = (ChronoEObjectInternal) value;
+				record.putReferenceTargetIds(eReference, Collections.singletonList(target.getId()));
+			}
+		}
+		return record;
 	}
 
-	@SuppressWarnings("unchecked")
-	private void mergeEReferencesAndEContainer(final ChronoEObjectInternal eObject) {
-		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
-		if (eObject.isAttached()) {
-			// already attached to the store, nothing to merge
-			return;
+	private int getMergeThreadCount(final int eObjectCount) {
+		int configuredThreads = this.owningTransaction.getOwningSphere().getConfiguration()
+				.getBatchInsertMergeThreads();
+		// spawning threads only pays off if every worker has a reasonable amount of EObjects to process
+		int usefulThreads = eObjectCount / MIN_EOBJECTS_PER_MERGE_THREAD;
+		return Math.min(configuredThreads, usefulThreads);
+	}
+
+	private Vertex mergeObjectAndAttributes(final EObjectMergeRecord record, final Map<EClass, Vertex> eClassToVertex) {
+		checkNotNull(record, "Precondition violation - argument 'record' must not be NULL!");
+		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+		EClass eClass = record.getEObject().eClass();
+		// create a vertex for the eObject
+		Vertex vertex = this.getGraph().addVertex(T.id, record.getId());
+		ChronoSphereGraphFormat.setVertexKind(vertex, VertexKind.EOBJECT);
+		Vertex eClassVertex = eClassToVertex.computeIfAbsent(eClass,
+				key -> ChronoSphereGraphFormat.getVertexForEClass(ePackage, this.getGraph(), key));
+		ChronoSphereGraphFormat.setEClassVertexForEObjectVertex(vertex, eClassVertex);
+		// the attribute values have already been converted into their persistent form
+		for (Entry<String, Object> entry : record.getPropertyValues().entrySet()) {
+			vertex.property(entry.getKey(), entry.getValue());
 		}
+		return vertex;
+	}
+
+	private void mergeEReferencesAndEContainer(final EObjectMergeRecord record, final Map<String, Vertex> idToVertex) {
+		checkNotNull(record, "Precondition violation - argument 'record' must not be NULL!");
 		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
+		ChronoEObjectInternal eObject = record.getEObject();
 		// get the vertex for this EObject
-		Vertex vertex = Iterators.getOnlyElement(this.getGraph().vertices(eObject.getId()));
+		Vertex vertex = this.resolveMergeVertex(record.getId(), idToVertex);
 		// set the eContainer (if any)
 		ChronoEObjectInternal eContainer = (ChronoEObjectInternal) eObject.eContainer();
 		if (eContainer != null) {
-			Vertex eContainerVertex = this.getEObjectVertex(eContainer);
+			Vertex eContainerVertex = this.resolveMergeVertex(eContainer.getId(), idToVertex);
 			ChronoSphereGraphFormat.setEContainer(vertex, eContainerVertex);
-			EStructuralFeature eContainingFeature = eObject.eContainingFeature();
+			this.updateEAncestorsIfNecessary(vertex);
+			EReference eContainingFeature = (EReference) eObject.eContainingFeature();
 			if (eContainingFeature != null) {
-				int containingFeatureID = -1;
-				if (eObject.eClass().getFeatureID(eContainingFeature) >= 0) {
-					// containing feature belongs to our class, use the ID
-					containingFeatureID = eObject.eClass().getFeatureID(eContainingFeature);
+				// use the same feature ID as EMF would assign when adding the child to the containment reference
+				int containingFeatureID;
+				if (eContainingFeature.getEOpposite() != null) {
+					// the child class has a container reference, use its ID
+					containingFeatureID = eObject.eClass().getFeatureID(eContainingFeature.getEOpposite());
 				} else {
 					// containing feature belongs to eContainer class
-					containingFeatureID = -1 - eContainingFeature.getFeatureID();
+					containingFeatureID = -1 - eContainer.eClass().getFeatureID(eContainingFeature);
 				}
 				ChronoSphereGraphFormat.setEContainingFeatureId(vertex, containingFeatureID);
 			}
 		}
 		// map the EReferences
-		for (EReference eReference : eObject.eClass().getEAllReferences()) {
-			if (eObject.eIsSet(eReference) == false) {
-				// reference is not set on this EObject, nothing to merge
-				continue;
-			}
-			Object value = eObject.eGet(eReference);
+		for (Entry<EReference, List<String>> entry : record.getReferenceTargetIds().entrySet()) {
+			EReference eReference = entry.getKey();
 			if (eReference.isMany()) {
-				List<ChronoEObjectInternal> targets = (List<ChronoEObjectInternal>) value;
-				List<Vertex> targetVertices = targets.stream().map(obj -> this.getEObjectVertex(obj))
-						.filter(obj -> obj != null).collect(Collectors.toList());
+				List<Vertex> targetVertices = entry.getValue().stream()
+						.map(targetId -> this.resolveMergeVertex(targetId, idToVertex)).filter(obj -> obj != null)
+						.collect(Collectors.toList());
 				ChronoSphereGraphFormat.setEReferenceTargets(ePackage, vertex, eReference, targetVertices);
 			} else {
-				ChronoEObjectInternal target = (ChronoEObjectInternal) value;
-				Vertex targetVertex = this.getEObjectVertex(target);
+				Vertex targetVertex = this.resolveMergeVertex(Iterables.getOnlyElement(entry.getValue()), idToVertex);
 				if (targetVertex == null) {
 					// the target EObject is not attached to the store!
 					continue;
@@ -613,12 +801,15 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		}
 	}
 
-	private Vertex createVertexForEObject(final ChronoEObjectInternal eObject) {
-		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
-		ChronoEPackageRegistry ePackage = this.getEPackageRegistry();
-		Vertex vertex = this.getGraph().addVertex(T.id, eObject.getId());
-		ChronoSphereGraphFormat.setVertexKind(vertex, VertexKind.EOBJECT);
-		ChronoSphereGraphFormat.setEClassForEObjectVertex(ePackage, vertex, eObject.eClass());
+	private Vertex resolveMergeVertex(final String eObjectId, final Map<String, Vertex> idToVertex) {
+		Vertex vertex = idToVertex.get(eObjectId);
+		if (vertex == null) {
+			// not created in the current batch, or it belongs to an EObject which has been attached before
+			vertex = Iterators.getOnlyElement(this.getGraph().vertices(eObjectId), null);
+			if (vertex != null) {
+				idToVertex.put(eObjectId, vertex);
+			}
+		}
 		return vertex;
 	}
 
@@ -649,6 +840,12 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 		return this.owningTransaction.getEPackageRegistry();
 	}
 
+	private void updateEAncestorsIfNecessary(final Vertex eObjectVertex) {
+		if (this.owningTransaction.isContainmentIndexPresent()) {
+			ChronoSphereGraphFormat.updateEAncestors(eObjectVertex);
+		}
+	}
+
 	private ChronoEObjectInternal createEObjectForVertex(final ChronoEPackageRegistry cep, final Vertex vertex) {
 //		checkNotNull(cep, "Precondition violation - argument 'cep' must not be NULL!");
 //		checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
@@ -656,32 +853,121 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 //		EClass eClass = ChronoSphereGraphFormat.getEClassForEObjectVertex(cep, vertex);
 //		ChronoEObjectInternal eObject = new ChronoEObjectImpl(id, eClass, this);
 //		return eObject;
-		return (ChronoEObjectInternal)this.owningTransaction.getEObjectById((String)vertex.id());
+		return this.getEObjectById((String) vertex.id());
 	}
 
-	private EList<Object> getListOfValuesFor(final ChronoEPackageRegistry cep, final Vertex vertex,
-			final EStructuralFeature feature) {
-		checkNotNull(cep, "Precondition violation - argument 'cep' must not be NULL!");
-		checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+	private ChronoEObjectInternal getEObjectById(final String id) {
+		return (ChronoEObjectInternal) this.owningTransaction.getEObjectById(id);
+	}
+
+	private EList<Object> getListOfValuesFor(final ChronoEObjectInternal eObject, final EStructuralFeature feature) {
+		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
+		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
+		List<?> rawValues = this.getRawValuesFor(eObject, feature);
+		EList<Object> eList = new BasicEList<>(rawValues.size());
+		for (Object rawValue : rawValues) {
+			eList.add(this.resolveRawValue(feature, rawValue));
+		}
+		return eList;
+	}
+
+	/**
+	 * Returns the raw values of the given many-valued feature on the given EObject.
+	 *
+	 * <p>
+	 * For {@link EAttribute}s, the raw values are the attribute values. For {@link EReference}s, the raw values are the
+	 * IDs of the target EObjects, which can be resolved via {@link #resolveRawValue(EStructuralFeature, Object)}. The
+	 * raw values are cached until the feature is modified.
+	 *
+	 * @param eObject
+	 *            The EObject to get the raw values for. Must not be <code>null</code>.
+	 * @param feature
+	 *            The many-valued feature to get the raw values for. Must not be <code>null</code>.
+	 *
+	 * @return The unmodifiable list of raw values, in the order of the feature. Never <code>null</code>.
+	 */
+	private List<?> getRawValuesFor(final ChronoEObjectInternal eObject, final EStructuralFeature feature) {
+		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
 		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
-		EList<Object> eList = new BasicEList<>();
 		if (feature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) feature;
-			eList.addAll(ChronoSphereGraphFormat.getEAttributeValues(cep, vertex, eAttribute));
-			return eList;
-		} else if (feature instanceof EReference) {
-			EReference eReference = (EReference) feature;
-			List<Vertex> vertices = ChronoSphereGraphFormat.getEReferenceTargets(cep, vertex, eReference);
-			for (Vertex eObjectVertex : vertices) {
-				ChronoEObjectInternal eObjectForVertex = this.createEObjectForVertex(cep, eObjectVertex);
-				eList.add(eObjectForVertex);
+			List<Object> values = this.manyValuedFeatureCache.getEAttributeValues(eObject.getId(), eAttribute);
+			if (values != null) {
+				return values;
 			}
-			return eList;
+			Vertex vertex = this.getEObjectVertex(eObject);
+			checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+			values = Lists.newArrayList(
+					ChronoSphereGraphFormat.getEAttributeValues(this.getEPackageRegistry(), vertex, eAttribute));
+			return this.manyValuedFeatureCache.putEAttributeValues(eObject.getId(), eAttribute, values);
+		} else if (feature instanceof EReference) {
+			return this.getEReferenceEdgeList(eObject, (EReference) feature).getTargetIds();
 		} else {
 			throw unknownFeatureTypeException(feature);
 		}
 	}
 
+	/**
+	 * Returns the (cached) edges of the given many-valued reference on the given EObject.
+	 *
+	 * <p>
+	 * The returned list is live, i.e. all modifications on it are applied directly to the graph and are visible to
+	 * subsequent calls of this method.
+	 *
+	 * @param eObject
+	 *            The EObject to get the edges for. Must not be <code>null</code>.
+	 * @param eReference
+	 *            The many-valued reference to get the edges for. Must not be <code>null</code>.
+	 *
+	 * @return The edge list. Never <code>null</code>.
+	 */
+	private EReferenceEdgeList getEReferenceEdgeList(final ChronoEObjectInternal eObject,
+			final EReference eReference) {
+		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
+		checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+		EReferenceEdgeList edges = this.manyValuedFeatureCache.getEReferenceEdges(eObject.getId(), eReference);
+		if (edges != null) {
+			return edges;
+		}
+		Vertex vertex = this.getEObjectVertex(eObject);
+		checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+		edges = new EReferenceEdgeList(eReference,
+				ChronoSphereGraphFormat.getEReferenceEdges(this.getEPackageRegistry(), vertex, eReference));
+		this.manyValuedFeatureCache.putEReferenceEdges(eObject.getId(), eReference, edges);
+		return edges;
+	}
+
+	private Edge addEReferenceEdge(final ChronoEPackageRegistry ePackage, final Vertex vertex,
+			final EReference eReference, final ChronoEObject target) {
+		String edgeLabel = ChronoSphereGraphFormat.createReferenceEdgeLabel(ePackage, eReference);
+		return vertex.addEdge(edgeLabel, this.getEObjectVertex(target));
+	}
+
+	private Object resolveRawValue(final EStructuralFeature feature, final Object rawValue) {
+		if (feature instanceof EReference) {
+			return this.getEObjectById((String) rawValue);
+		} else {
+			return rawValue;
+		}
+	}
+
+	private int indexOfRawValue(final List<?> rawValues, final EStructuralFeature feature, final Object value,
+			final boolean last) {
+		Object rawValue = value;
+		if (feature instanceof EReference) {
+			if (value instanceof ChronoEObject == false) {
+				// EReference targets are always ChronoEObjects
+				return -1;
+			}
+			rawValue = ((ChronoEObject) value).getId();
+		}
+		if (last) {
+			return rawValues.lastIndexOf(rawValue);
+		} else {
+			return rawValues.indexOf(rawValue);
+		}
+	}
+
 	private Object getSingleValueFor(final ChronoEPackageRegistry ePackage, final Vertex vertex,
 			final EStructuralFeature feature) {
 		if (feature instanceof EAttribute) {
@@ -707,6 +993,7 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 
 	private void writeListOfValuesToGraph(final ChronoEPackageRegistry ePackage, final Vertex vertex,
 			final EStructuralFeature feature, final List<Object> list) {
+		this.manyValuedFeatureCache.invalidate((String) vertex.id(), feature);
 		if (feature instanceof EAttribute) {
 			EAttribute eAttribute = (EAttribute) feature;
 			ChronoSphereGraphFormat.setEAttributeValues(ePackage, vertex, eAttribute, Lists.newArrayList(list));
@@ -732,6 +1019,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 
 	private void deepDelete(final Collection<ChronoEObjectInternal> eObjectsToDelete, final ChronoSphereTransaction tx,
 			final boolean useIncrementalCommits, final int batchSize, final boolean cascadeDeletionToEContents) {
+		// removing the vertices implicitly removes all references to them
+		this.manyValuedFeatureCache.clear();
 		Set<ChronoEObjectInternal> allEObjectsToDelete = Sets.newHashSet();
 		if (cascadeDeletionToEContents) {
 			for (ChronoEObjectInternal eObject : eObjectsToDelete) {
@@ -745,6 +1034,8 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 			allEObjectsToDelete.addAll(eObjectsToDelete);
 		}
 		int currentBatchSize = 0;
+		// the eContents of deleted EObjects which survive the deletion lose their eContainer
+		Set<String> orphanIds = Sets.newHashSet();
 		// in the first iteration, create the EObject vertices in the graph and merge the EAttributes
 		for (ChronoEObjectInternal currentEObject : allEObjectsToDelete) {
 			Vertex vertex = ChronoSphereGraphFormat.getVertexForEObject(this.getGraph(), currentEObject);
@@ -752,6 +1043,10 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				// already deleted
 				continue;
 			}
+			if (this.owningTransaction.isContainmentIndexPresent()) {
+				vertex.vertices(Direction.IN, ChronoSphereGraphFormat.E_LABEL__ECONTAINER)
+						.forEachRemaining(child -> orphanIds.add((String) child.id()));
+			}
 			vertex.remove();
 			currentBatchSize++;
 			if (useIncrementalCommits && currentBatchSize >= batchSize) {
@@ -759,6 +1054,12 @@ public class ChronoGraphEStore extends AbstractChronoEStore {
 				currentBatchSize = 0;
 			}
 		}
+		for (String orphanId : orphanIds) {
+			Vertex orphanVertex = Iterators.getOnlyElement(this.getGraph().vertices(orphanId), null);
+			if (orphanVertex != null) {
+				this.updateEAncestorsIfNecessary(orphanVertex);
+			}
+		}
 	}
 
 }
@@ -0,0 +1,78 @@
+package org.chronos.chronosphere.emf.internal.impl.store;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EReference;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Holds the state of a single {@link ChronoEObjectInternal EObject} which is about to be merged into the
+ * {@link ChronoGraphEStore}, in the form in which it will be written to the graph.
+ *
+ * <p>
+ * The {@link EAttribute} values are stored as persistable vertex property values (keyed by property key), the
+ * {@link EReference} targets are stored by their EObject IDs. Records are created without access to the graph, which
+ * allows to prepare them on several threads at once.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+class EObjectMergeRecord {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final ChronoEObjectInternal eObject;
+	private final Map<String, Object> propertyValues = Maps.newLinkedHashMap();
+	private final Map<EReference, List<String>> referenceTargetIds = Maps.newLinkedHashMap();
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public EObjectMergeRecord(final ChronoEObjectInternal eObject) {
+		checkNotNull(eObject, "Precondition violation - argument 'eObject' must not be NULL!");
+		this.eObject = eObject;
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	public ChronoEObjectInternal getEObject() {
+		return this.eObject;
+	}
+
+	public String getId() {
+		return this.eObject.getId();
+	}
+
+	public void putPropertyValue(final String propertyKey, final Object value) {
+		checkNotNull(propertyKey, "Precondition violation - argument 'propertyKey' must not be NULL!");
+		checkNotNull(value, "Precondition violation - argument 'value' must not be NULL!");
+		this.propertyValues.put(propertyKey, value);
+	}
+
+	public Map<String, Object> getPropertyValues() {
+		return Collections.unmodifiableMap(this.propertyValues);
+	}
+
+	public void putReferenceTargetIds(final EReference eReference, final List<String> targetIds) {
+		checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+		checkNotNull(targetIds, "Precondition violation - argument 'targetIds' must not be NULL!");
+		this.referenceTargetIds.put(eReference, targetIds);
+	}
+
+	public Map<EReference, List<String>> getReferenceTargetIds() {
+		return Collections.unmodifiableMap(this.referenceTargetIds);
+	}
+
+}
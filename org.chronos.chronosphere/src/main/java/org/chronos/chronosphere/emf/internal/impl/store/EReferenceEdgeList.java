@@ -0,0 +1,313 @@
+package org.chronos.chronosphere.emf.internal.impl.store;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.eclipse.emf.ecore.EReference;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Multiset;
+
+/**
+ * The in-memory representation of the links of a many-valued {@link EReference} on a single EObject, as used by the
+ * {@link ChronoGraphEStore}.
+ *
+ * <p>
+ * This list holds the graph {@link Edge}s that represent the links, together with the IDs of their target EObjects, in
+ * list order. All modifications are applied to the given edges directly, i.e. adding, removing or moving a single link
+ * only affects the edge of that link. For {@linkplain EReference#isOrdered() ordered} references, the position of an
+ * edge is determined by its {@linkplain ChronoSphereGraphFormat#E_PROP__ORDER order} value. New values are chosen
+ * between the values of the neighboring edges. If there is no gap left, only the smallest window of edges around the
+ * position which leaves enough room between the order values is renumbered, rather than all edges of the reference.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+class EReferenceEdgeList {
+
+	/**
+	 * The minimum distance between the order values of a renumbered window of edges. Smaller windows are preferred, but
+	 * they must leave enough room for a few more insertions, otherwise they would need to be renumbered again right away.
+	 */
+	private static final int MIN_RENUMBERED_ORDER_GAP = ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP / 4;
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final EReference eReference;
+	private final List<Edge> edges;
+	private final List<String> targetIds;
+	private final Multiset<String> targetIdSet;
+
+	/** The order values of the edges. Only loaded when the list is modified for the first time. */
+	private List<Integer> orderValues;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	/**
+	 * Creates a new edge list.
+	 *
+	 * @param eReference
+	 *            The many-valued reference represented by this list. Must not be <code>null</code>.
+	 * @param edges
+	 *            The edges of the reference, in list order. Must not be <code>null</code>. Will not be modified.
+	 */
+	public EReferenceEdgeList(final EReference eReference, final List<Edge> edges) {
+		checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+		checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+		this.eReference = eReference;
+		this.edges = Lists.newArrayList(edges);
+		this.targetIds = Lists.newArrayListWithCapacity(edges.size());
+		for (Edge edge : edges) {
+			this.targetIds.add((String) edge.inVertex().id());
+		}
+		this.targetIdSet = HashMultiset.create(this.targetIds);
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	public int size() {
+		return this.edges.size();
+	}
+
+	public boolean isEmpty() {
+		return this.edges.isEmpty();
+	}
+
+	public boolean contains(final String targetId) {
+		return this.targetIdSet.contains(targetId);
+	}
+
+	public int indexOf(final String targetId) {
+		if (this.contains(targetId) == false) {
+			return -1;
+		}
+		return this.targetIds.indexOf(targetId);
+	}
+
+	public int lastIndexOf(final String targetId) {
+		if (this.contains(targetId) == false) {
+			return -1;
+		}
+		return this.targetIds.lastIndexOf(targetId);
+	}
+
+	public String getTargetId(final int index) {
+		return this.targetIds.get(index);
+	}
+
+	/**
+	 * Returns the IDs of the target EObjects of the reference.
+	 *
+	 * @return An unmodifiable view on the target IDs, in list order. Never <code>null</code>.
+	 */
+	public List<String> getTargetIds() {
+		return Collections.unmodifiableList(this.targetIds);
+	}
+
+	/**
+	 * Inserts the given edge at the given position of this list.
+	 *
+	 * @param index
+	 *            The position to insert the edge at.
+	 * @param edge
+	 *            The (newly created) edge to insert. Must not be <code>null</code>.
+	 * @param targetId
+	 *            The ID of the EObject the edge points to. Must not be <code>null</code>.
+	 */
+	public void add(final int index, final Edge edge, final String targetId) {
+		checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
+		checkNotNull(targetId, "Precondition violation - argument 'targetId' must not be NULL!");
+		checkPositionIndex(index, this.size());
+		if (this.eReference.isOrdered()) {
+			int orderValue = this.allocateOrderValue(index);
+			ChronoSphereGraphFormat.setEReferenceEdgeOrder(edge, orderValue);
+			this.orderValues.add(index, orderValue);
+		}
+		this.edges.add(index, edge);
+		this.targetIds.add(index, targetId);
+		this.targetIdSet.add(targetId);
+	}
+
+	/**
+	 * Replaces the edge at the given position of this list with the given edge. The removed edge is deleted from the
+	 * graph.
+	 *
+	 * @param index
+	 *            The position of the edge to replace.
+	 * @param edge
+	 *            The (newly created) edge to put into the list. Must not be <code>null</code>.
+	 * @param targetId
+	 *            The ID of the EObject the new edge points to. Must not be <code>null</code>.
+	 *
+	 * @return The ID of the EObject the replaced edge pointed to. Never <code>null</code>.
+	 */
+	public String set(final int index, final Edge edge, final String targetId) {
+		checkNotNull(edge, "Precondition violation - argument 'edge' must not be NULL!");
+		checkNotNull(targetId, "Precondition violation - argument 'targetId' must not be NULL!");
+		checkElementIndex(index, this.size());
+		if (this.eReference.isOrdered()) {
+			// the new edge takes over the position of the old one
+			this.loadOrderValues();
+			ChronoSphereGraphFormat.setEReferenceEdgeOrder(edge, this.orderValues.get(index));
+		}
+		this.edges.set(index, edge).remove();
+		String previousTargetId = this.targetIds.set(index, targetId);
+		this.targetIdSet.remove(previousTargetId);
+		this.targetIdSet.add(targetId);
+		return previousTargetId;
+	}
+
+	/**
+	 * Removes the edge at the given position from this list and deletes it from the graph.
+	 *
+	 * @param index
+	 *            The position of the edge to remove.
+	 *
+	 * @return The ID of the EObject the removed edge pointed to. Never <code>null</code>.
+	 */
+	public String remove(final int index) {
+		checkElementIndex(index, this.size());
+		if (this.orderValues != null) {
+			this.orderValues.remove(index);
+		}
+		this.edges.remove(index).remove();
+		String targetId = this.targetIds.remove(index);
+		this.targetIdSet.remove(targetId);
+		return targetId;
+	}
+
+	/**
+	 * Moves the edge at the given source position to the given target position.
+	 *
+	 * <p>
+	 * Only the order value of the moved edge is changed (unless the reference needs to be renumbered).
+	 *
+	 * @param targetIndex
+	 *            The new position of the edge.
+	 * @param sourceIndex
+	 *            The current position of the edge.
+	 *
+	 * @return The ID of the EObject the moved edge points to. Never <code>null</code>.
+	 */
+	public String move(final int targetIndex, final int sourceIndex) {
+		checkElementIndex(targetIndex, this.size());
+		checkElementIndex(sourceIndex, this.size());
+		String targetId = this.targetIds.get(sourceIndex);
+		if (targetIndex == sourceIndex) {
+			return targetId;
+		}
+		if (this.eReference.isOrdered()) {
+			this.loadOrderValues();
+			this.orderValues.remove(sourceIndex);
+		}
+		Edge edge = this.edges.remove(sourceIndex);
+		this.targetIds.remove(sourceIndex);
+		if (this.eReference.isOrdered()) {
+			int orderValue = this.allocateOrderValue(targetIndex);
+			ChronoSphereGraphFormat.setEReferenceEdgeOrder(edge, orderValue);
+			this.orderValues.add(targetIndex, orderValue);
+		}
+		this.edges.add(targetIndex, edge);
+		this.targetIds.add(targetIndex, targetId);
+		return targetId;
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private void loadOrderValues() {
+		if (this.orderValues != null) {
+			return;
+		}
+		this.orderValues = Lists.newArrayListWithCapacity(this.edges.size() + 1);
+		for (Edge edge : this.edges) {
+			this.orderValues.add(ChronoSphereGraphFormat.getEReferenceEdgeOrder(edge));
+		}
+	}
+
+	private int allocateOrderValue(final int index) {
+		this.loadOrderValues();
+		int orderValue = this.findOrderValueBetweenNeighbors(index);
+		if (orderValue < 0) {
+			// there is no gap left at the given position; spread out the neighboring edges
+			orderValue = this.renumberAround(index);
+		}
+		return orderValue;
+	}
+
+	/**
+	 * Renumbers the edges around the given insert position, such that there is room for a new edge at that position.
+	 *
+	 * <p>
+	 * The window of renumbered edges is doubled in size until the order values which border it leave at least
+	 * {@link #MIN_RENUMBERED_ORDER_GAP} between any two edges in the window (or until the window covers the whole
+	 * list). The edges outside of the window keep their order values.
+	 *
+	 * @param index
+	 *            The position at which the new edge will be inserted.
+	 *
+	 * @return The order value for the new edge.
+	 */
+	private int renumberAround(final int index) {
+		int size = this.orderValues.size();
+		for (int radius = 1;; radius *= 2) {
+			int from = Math.max(0, index - radius);
+			int to = Math.min(size, index + radius);
+			boolean wholeList = from == 0 && to == size;
+			// use long arithmetic to avoid overflows at the upper end of the integer range
+			long lowerBound = from > 0 ? this.orderValues.get(from - 1) : -1;
+			long upperBound = to < size ? this.orderValues.get(to) : Integer.MAX_VALUE + 1L;
+			// the window contains the existing edges plus the new one
+			int slots = to - from + 1;
+			long gap = Math.min((upperBound - lowerBound) / (slots + 1), ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP);
+			if (gap < MIN_RENUMBERED_ORDER_GAP && wholeList == false) {
+				continue;
+			}
+			if (gap < 1) {
+				throw new IllegalStateException("Failed to assign an order to the link at index " + index
+						+ " of EReference '" + this.eReference.getName() + "'! The reference has too many links ("
+						+ size + ").");
+			}
+			for (int position = from; position < to; position++) {
+				// the edges at or behind the insert position are shifted by one slot
+				int slot = position - from + (position >= index ? 1 : 0);
+				int orderValue = (int) (lowerBound + gap * (slot + 1));
+				if (this.orderValues.get(position) != orderValue) {
+					ChronoSphereGraphFormat.setEReferenceEdgeOrder(this.edges.get(position), orderValue);
+					this.orderValues.set(position, orderValue);
+				}
+			}
+			return (int) (lowerBound + gap * (index - from + 1));
+		}
+	}
+
+	private int findOrderValueBetweenNeighbors(final int index) {
+		// use long arithmetic to avoid overflows at the upper end of the integer range
+		long lowerBound = index > 0 ? this.orderValues.get(index - 1) : -1;
+		long upperBound;
+		if (index < this.orderValues.size()) {
+			upperBound = this.orderValues.get(index);
+		} else {
+			upperBound = Math.min(lowerBound + 2L * ChronoSphereGraphFormat.EREFERENCE_ORDER_GAP,
+					Integer.MAX_VALUE + 1L);
+		}
+		if (upperBound - lowerBound <= 1) {
+			// no gap between the neighbors
+			return -1;
+		}
+		return (int) (lowerBound + (upperBound - lowerBound) / 2);
+	}
+
+}
@@ -0,0 +1,174 @@
+package org.chronos.chronosphere.emf.internal.impl.store;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import com.google.common.collect.Maps;
+
+/**
+ * A transaction-local cache for the values of many-valued {@link EStructuralFeature}s, as used by the
+ * {@link ChronoGraphEStore}.
+ *
+ * <p>
+ * The cache stores the values of an {@link EAttribute} as an immutable list; every write to the attribute has to
+ * {@linkplain #invalidate(String, EStructuralFeature) invalidate} the corresponding entry. The links of an
+ * {@link EReference} are cached as an {@link EReferenceEdgeList}, which holds the IDs of the target EObjects (such that
+ * they are only resolved when they are actually requested) as well as the edges in the graph. Edge lists are mutable,
+ * which allows to add, remove and move single links without invalidating the entry.
+ *
+ * <p>
+ * Please note that there is no persistent index over the order values of the edges. The first access to a reference
+ * within a transaction, including {@code size()} and {@code get(index)}, therefore loads and sorts all edges of that
+ * reference. Only the subsequent accesses in the same transaction are served from this cache. The gaps between the
+ * order values keep the number of edges which have to be <i>written</i> small, but they do not reduce the cost of
+ * this first read.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+class ManyValuedFeatureCache {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final Map<String, Map<EStructuralFeature, Object>> eObjectIdToFeatureValues = Maps.newHashMap();
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Returns the cached values of the given attribute on the given EObject.
+	 *
+	 * @param eObjectId
+	 *            The ID of the EObject which owns the attribute. Must not be <code>null</code>.
+	 * @param eAttribute
+	 *            The many-valued attribute to get the values for. Must not be <code>null</code>.
+	 *
+	 * @return The cached values (unmodifiable), or <code>null</code> if there is no cache entry.
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Object> getEAttributeValues(final String eObjectId, final EAttribute eAttribute) {
+		checkNotNull(eAttribute, "Precondition violation - argument 'eAttribute' must not be NULL!");
+		return (List<Object>) this.get(eObjectId, eAttribute);
+	}
+
+	/**
+	 * Caches the given values of the given attribute on the given EObject.
+	 *
+	 * @param eObjectId
+	 *            The ID of the EObject which owns the attribute. Must not be <code>null</code>.
+	 * @param eAttribute
+	 *            The many-valued attribute to cache the values for. Must not be <code>null</code>.
+	 * @param values
+	 *            The values to cache. Must not be <code>null</code>. Must not be modified after calling this method.
+	 *
+	 * @return An unmodifiable view on the cached values. Never <code>null</code>.
+	 */
+	public List<Object> putEAttributeValues(final String eObjectId, final EAttribute eAttribute,
+			final List<Object> values) {
+		checkNotNull(eAttribute, "Precondition violation - argument 'eAttribute' must not be NULL!");
+		checkNotNull(values, "Precondition violation - argument 'values' must not be NULL!");
+		List<Object> cachedValues = Collections.unmodifiableList(values);
+		this.put(eObjectId, eAttribute, cachedValues);
+		return cachedValues;
+	}
+
+	/**
+	 * Returns the cached edge list of the given reference on the given EObject.
+	 *
+	 * @param eObjectId
+	 *            The ID of the EObject which owns the reference. Must not be <code>null</code>.
+	 * @param eReference
+	 *            The many-valued reference to get the edge list for. Must not be <code>null</code>.
+	 *
+	 * @return The cached edge list, or <code>null</code> if there is no cache entry.
+	 */
+	public EReferenceEdgeList getEReferenceEdges(final String eObjectId, final EReference eReference) {
+		checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+		return (EReferenceEdgeList) this.get(eObjectId, eReference);
+	}
+
+	/**
+	 * Caches the given edge list of the given reference on the given EObject.
+	 *
+	 * @param eObjectId
+	 *            The ID of the EObject which owns the reference. Must not be <code>null</code>.
+	 * @param eReference
+	 *            The many-valued reference to cache the edge list for. Must not be <code>null</code>.
+	 * @param edges
+	 *            The edge list to cache. Must not be <code>null</code>.
+	 */
+	public void putEReferenceEdges(final String eObjectId, final EReference eReference,
+			final EReferenceEdgeList edges) {
+		checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+		checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+		this.put(eObjectId, eReference, edges);
+	}
+
+	/**
+	 * Removes the cache entry for the given feature on the given EObject (if any).
+	 *
+	 * @param eObjectId
+	 *            The ID of the EObject which owns the feature. Must not be <code>null</code>.
+	 * @param feature
+	 *            The feature to invalidate. Must not be <code>null</code>.
+	 */
+	public void invalidate(final String eObjectId, final EStructuralFeature feature) {
+		checkNotNull(eObjectId, "Precondition violation - argument 'eObjectId' must not be NULL!");
+		checkNotNull(feature, "Precondition violation - argument 'feature' must not be NULL!");
+		Map<EStructuralFeature, Object> featureValues = this.eObjectIdToFeatureValues.get(eObjectId);
+		if (featureValues == null) {
+			return;
+		}
+		featureValues.remove(feature);
+		if (featureValues.isEmpty()) {
+			this.eObjectIdToFeatureValues.remove(eObjectId);
+		}
+	}
+
+	/**
+	 * Removes the cache entries for all features on the given EObject (if any).
+	 *
+	 * @param eObjectId
+	 *            The ID of the EObject to invalidate. Must not be <code>null</code>.
+	 */
+	public void invalidate(final String eObjectId) {
+		checkNotNull(eObjectId, "Precondition violation - argument 'eObjectId' must not be NULL!");
+		this.eObjectIdToFeatureValues.remove(eObjectId);
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		this.eObjectIdToFeatureValues.clear();
+	}
+
+	// =================================================================================================================
+	// INTERNAL HELPER METHODS
+	// =================================================================================================================
+
+	private Object get(final String eObjectId, final EStructuralFeature feature) {
+		checkNotNull(eObjectId, "Precondition violation - argument 'eObjectId' must not be NULL!");
+		Map<EStructuralFeature, Object> featureValues = this.eObjectIdToFeatureValues.get(eObjectId);
+		if (featureValues == null) {
+			return null;
+		}
+		return featureValues.get(feature);
+	}
+
+	private void put(final String eObjectId, final EStructuralFeature feature, final Object value) {
+		checkNotNull(eObjectId, "Precondition violation - argument 'eObjectId' must not be NULL!");
+		this.eObjectIdToFeatureValues.computeIfAbsent(eObjectId, id -> Maps.newHashMap()).put(feature, value);
+	}
+
+}
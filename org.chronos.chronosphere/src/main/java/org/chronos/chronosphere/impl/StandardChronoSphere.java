@@ -1,11 +1,14 @@
 package org.chronos.chronosphere.impl;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronodb.api.ChronoDBConstants;
 import org.chronos.chronodb.api.Order;
 import org.chronos.chronodb.api.exceptions.InvalidTransactionBranchException;
 import org.chronos.chronodb.api.exceptions.InvalidTransactionTimestampException;
+import org.chronos.chronograph.api.branch.GraphBranch;
 import org.chronos.chronograph.api.index.ChronoGraphIndex;
 import org.chronos.chronograph.api.index.ChronoGraphIndexManager;
 import org.chronos.chronograph.api.structure.ChronoGraph;
@@ -19,15 +22,19 @@ import org.chronos.chronosphere.internal.configuration.impl.ChronoSphereConfigur
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.internal.ogm.api.EObjectToGraphMapper;
 import org.chronos.chronosphere.internal.ogm.api.EPackageToGraphMapper;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
 import org.chronos.chronosphere.internal.ogm.impl.EObjectToGraphMapperImpl;
 import org.chronos.chronosphere.internal.ogm.impl.EPackageToGraphMapperImpl;
 import org.chronos.common.configuration.ChronosConfigurationUtil;
 import org.chronos.common.version.ChronosVersion;
 import org.eclipse.emf.ecore.EObject;
 
+import java.io.InputStream;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.locks.Lock;
@@ -71,6 +78,8 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         this.ensureGraphFormatIsCompatible();
         // make sure that the graph has the default indices registered
         this.setUpDefaultGraphIndicesIfNecessary();
+        // make sure that the containment index matches the configuration
+        this.setUpContainmentIndexIfNecessary();
     }
 
 
@@ -201,6 +210,19 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         }
     }
 
+    @Override
+    public void batchInsertModelData(final String branch, final InputStream xmiContents) {
+        checkNotNull(branch, "Precondition violation - argument 'branch' must not be NULL!");
+        checkArgument(this.getBranchManager().existsBranch(branch),
+            "Precondition violation - argument 'branch' must refer to an existing branch!");
+        checkNotNull(xmiContents, "Precondition violation - argument 'xmiContents' must not be NULL!");
+        try (ChronoSphereTransactionInternal tx = (ChronoSphereTransactionInternal) this.tx(branch)) {
+            tx.commitIncremental();
+            tx.batchInsertXMI(xmiContents);
+            tx.commit();
+        }
+    }
+
     // =================================================================================================================
     // [PUBLIC API] HISTORY ANALYSIS
     // =================================================================================================================
@@ -313,6 +335,62 @@ public class StandardChronoSphere implements ChronoSphere, ChronoSphereInternal
         }
     }
 
+    private void setUpContainmentIndexIfNecessary() {
+        boolean enabled = this.configuration.isContainmentIndexEnabled();
+        ChronoGraphIndexManager indexManager = this.getRootGraph().getIndexManager();
+        if (enabled && indexManager.getVertexIndex(ChronoSphereGraphFormat.V_PROP__EANCESTORS) == null) {
+            indexManager.create().stringIndex().onVertexProperty(ChronoSphereGraphFormat.V_PROP__EANCESTORS).build();
+        }
+        // process the branches in the order of their creation, such that child branches which have been created
+        // after their parent was initialized do not need to be initialized again
+        List<GraphBranch> branches = Lists.newArrayList(this.getRootGraph().getBranchManager().getBranches());
+        branches.sort(Comparator.comparing(GraphBranch::getBranchingTimestamp));
+        for (GraphBranch branch : branches) {
+            ChronoGraph txGraph = this.getRootGraph().tx().createThreadedTx(branch.getName());
+            try {
+                boolean present = ChronoSphereGraphFormat.isContainmentIndexPresent(txGraph);
+                if (enabled == present) {
+                    continue;
+                }
+                if (enabled) {
+                    this.initializeContainmentIndex(txGraph);
+                    txGraph.tx().commit("ChronoSphere Containment Index initialization");
+                } else {
+                    // stop maintaining the eAncestors; outdated values are ignored because the variable is gone
+                    ChronoSphereGraphFormat.setContainmentIndexPresent(txGraph, false);
+                    txGraph.tx().commit("ChronoSphere Containment Index removal");
+                }
+            } finally {
+                if (txGraph.tx().isOpen()) {
+                    txGraph.tx().rollback();
+                }
+            }
+        }
+        if (enabled && indexManager.isReindexingRequired()) {
+            indexManager.reindexAll();
+        }
+    }
+
+    private void initializeContainmentIndex(final ChronoGraph txGraph) {
+        int batchSize = this.configuration.getBatchInsertBatchSize();
+        int modified = 0;
+        Iterator<Vertex> eObjectVertices = txGraph.traversal().V()
+            .has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString());
+        while (eObjectVertices.hasNext()) {
+            Vertex eObjectVertex = eObjectVertices.next();
+            if (ChronoSphereGraphFormat.getEContainer(eObjectVertex) != null) {
+                // not a root; will be covered by the root of its containment tree
+                continue;
+            }
+            modified += ChronoSphereGraphFormat.initializeEAncestors(eObjectVertex);
+            if (modified >= batchSize) {
+                txGraph.tx().commitIncremental();
+                modified = 0;
+            }
+        }
+        ChronoSphereGraphFormat.setContainmentIndexPresent(txGraph, true);
+    }
+
     private void ensureGraphFormatIsCompatible() {
         ChronoGraph txGraph = this.graph.tx().createThreadedTx();
         String formatVersionString = (String) txGraph.variables().get(ChronoSphereGraphFormat.VARIABLES__GRAPH_FORMAT_VERSION).orElse(null);
@@ -76,29 +76,48 @@ public abstract class EObjectQueryStepBuilderImpl<S, I> implements EObjectQueryS
 
     @Override
     public Set<EObject> toSet() {
-        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects();
+        return this.toSet(Prefetch.prefetch());
+    }
+
+    @Override
+    public Set<EObject> toSet(final Prefetch prefetch) {
+        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects(prefetch);
         GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(finalStep, true);
         return traversal.toSet();
     }
 
-
     @Override
     public List<EObject> toList() {
-        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects();
+        return this.toList(Prefetch.prefetch());
+    }
+
+    @Override
+    public List<EObject> toList(final Prefetch prefetch) {
+        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects(prefetch);
         GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(finalStep, true);
         return traversal.toList();
     }
 
     @Override
     public Iterator<EObject> toIterator() {
-        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects();
+        return this.toIterator(Prefetch.prefetch());
+    }
+
+    @Override
+    public Iterator<EObject> toIterator(final Prefetch prefetch) {
+        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects(prefetch);
         GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(finalStep, true);
         return traversal;
     }
 
     @Override
     public Stream<EObject> toStream() {
-        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects();
+        return this.toStream(Prefetch.prefetch());
+    }
+
+    @Override
+    public Stream<EObject> toStream(final Prefetch prefetch) {
+        QueryStepBuilderInternal<S, EObject> finalStep = this.reifyEObjects(prefetch);
         GraphTraversal<S, EObject> traversal = QueryUtils.prepareTerminalOperation(finalStep, true);
         return traversal.toStream();
     }
@@ -226,6 +245,11 @@ public abstract class EObjectQueryStepBuilderImpl<S, I> implements EObjectQueryS
         return new EObjectQueryEAllContentsStepBuilder<>(this);
     }
 
+    @Override
+    public EObjectQueryStepBuilder<S> eAllContainers() {
+        return new EObjectQueryEAllContainersStepBuilder<>(this);
+    }
+
     @Override
     public EObjectQueryStepBuilder<S> allReferencingEObjects() {
         return new EObjectQueryAllReferencingEObjectsQueryStep<>(this);
@@ -331,8 +355,9 @@ public abstract class EObjectQueryStepBuilderImpl<S, I> implements EObjectQueryS
     // HELPER METHODS
     // =====================================================================================================================
 
-    protected QueryStepBuilderInternal<S, EObject> reifyEObjects() {
-        return new ObjectQueryEObjectReifyStepBuilder<>(this);
+    protected QueryStepBuilderInternal<S, EObject> reifyEObjects(final Prefetch prefetch) {
+        checkNotNull(prefetch, "Precondition violation - argument 'prefetch' must not be NULL!");
+        return new ObjectQueryEObjectReifyStepBuilder<>(this, prefetch);
     }
 
 
@@ -0,0 +1,128 @@
+package org.chronos.chronosphere.impl.query;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronosphere.api.query.Prefetch;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.eclipse.emf.ecore.EObject;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.*;
+
+/**
+ * A step which converts the {@link Vertex vertices} in a traversal into their {@link EObject}s. All other elements
+ * pass through unchanged.
+ * <p>
+ * Converting the vertices one by one would load their records one by one. This step collects the incoming traversers
+ * in batches instead, and loads the records of all vertices in a batch at once. If the {@link Prefetch} declares any
+ * EReferences, the records of their target vertices are loaded in one additional call per batch. The results are
+ * handed out in the same order as the incoming traversers.
+ *
+ * @param <S> The type of the incoming elements.
+ * @param <E> The type of the outgoing elements.
+ */
+public class EObjectReifyStep<S, E> extends AbstractStep<S, E> {
+
+    private final ChronoSphereTransactionInternal tx;
+    private final int batchSize;
+    private final String[] prefetchedEdgeLabels;
+
+    private Deque<Traverser.Admin<E>> buffer = new ArrayDeque<>();
+
+    // =====================================================================================================================
+    // CONSTRUCTOR
+    // =====================================================================================================================
+
+    public EObjectReifyStep(final Traversal.Admin<?, ?> traversal, final ChronoSphereTransactionInternal tx, final Prefetch prefetch) {
+        super(traversal);
+        checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+        checkNotNull(prefetch, "Precondition violation - argument 'prefetch' must not be NULL!");
+        this.tx = tx;
+        this.batchSize = tx.getOwningSphere().getConfiguration().getQueryPrefetchBatchSize();
+        this.prefetchedEdgeLabels = prefetch.getEReferences().stream()
+            .map(eReference -> ChronoSphereGraphFormat.createReferenceEdgeLabel(tx.getEPackageRegistry(), eReference))
+            .toArray(String[]::new);
+    }
+
+    // =====================================================================================================================
+    // TINKERPOP API
+    // =====================================================================================================================
+
+    @Override
+    protected Traverser.Admin<E> processNextStart() {
+        while (this.buffer.isEmpty()) {
+            // note: this throws a FastNoSuchElementException if there are no more starts, just like MapStep
+            this.reifyNextBatch();
+        }
+        return this.buffer.poll();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.buffer.clear();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EObjectReifyStep<S, E> clone() {
+        EObjectReifyStep<S, E> clone = (EObjectReifyStep<S, E>) super.clone();
+        clone.buffer = new ArrayDeque<>();
+        return clone;
+    }
+
+    // =====================================================================================================================
+    // HELPER METHODS
+    // =====================================================================================================================
+
+    private void reifyNextBatch() {
+        List<Traverser.Admin<S>> batch = Lists.newArrayList();
+        do {
+            batch.add(this.starts.next());
+        } while (batch.size() < this.batchSize && this.starts.hasNext());
+        List<Vertex> vertices = Lists.newArrayList();
+        Set<String> vertexIds = Sets.newHashSet();
+        for (Traverser.Admin<S> traverser : batch) {
+            if (traverser.get() instanceof Vertex) {
+                Vertex vertex = (Vertex) traverser.get();
+                vertices.add(vertex);
+                vertexIds.add((String) vertex.id());
+            }
+        }
+        ChronoGraphTransactionInternal graphTx = (ChronoGraphTransactionInternal) this.tx.getGraph().tx()
+            .getCurrentTransaction();
+        graphTx.prefetchVertices(vertexIds);
+        if (this.prefetchedEdgeLabels.length > 0) {
+            // the adjacent vertices are lazy, resolving them only requires the records we just loaded
+            Set<String> targetIds = Sets.newHashSet();
+            for (Vertex vertex : vertices) {
+                vertex.vertices(Direction.OUT, this.prefetchedEdgeLabels)
+                    .forEachRemaining(target -> targetIds.add((String) target.id()));
+            }
+            graphTx.prefetchVertices(targetIds);
+        }
+        for (Traverser.Admin<S> traverser : batch) {
+            this.buffer.add(traverser.split(this.reify(traverser.get()), this));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private E reify(final S element) {
+        if (element instanceof Vertex == false) {
+            return (E) element;
+        }
+        return (E) QueryUtils.mapVertexToEObject(this.tx, (Vertex) element);
+    }
+
+}
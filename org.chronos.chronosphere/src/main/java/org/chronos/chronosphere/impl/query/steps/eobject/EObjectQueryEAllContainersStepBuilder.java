@@ -0,0 +1,47 @@
+package org.chronos.chronosphere.impl.query.steps.eobject;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
+import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+public class EObjectQueryEAllContainersStepBuilder<S> extends EObjectQueryStepBuilderImpl<S, Vertex> {
+
+    public EObjectQueryEAllContainersStepBuilder(final TraversalChainElement previous) {
+        super(previous);
+    }
+
+    @Override
+    public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
+        if (tx.isContainmentIndexPresent()) {
+            // the ancestors are stored on the vertex itself (root first), no need to walk the tree
+            ChronoGraph graph = tx.getGraph();
+            return traversal.flatMap(t -> {
+                // walk from the direct eContainer up to the root
+                List<String> ancestorIds = Lists.reverse(ChronoSphereGraphFormat.getEAncestorIds(t.get()));
+                Iterator<Vertex> ancestors = Iterators.transform(ancestorIds.iterator(),
+                    id -> Iterators.getOnlyElement(graph.vertices(id), null));
+                return Iterators.filter(ancestors, Objects::nonNull);
+            });
+        }
+        return traversal
+            .repeat(
+                // walk the outgoing EContainer edges
+                __.out(ChronoSphereGraphFormat.E_LABEL__ECONTAINER))
+            // emit every step
+            .emit()
+            // don't quit until the root was reached
+            .until(t -> false);
+    }
+
+}
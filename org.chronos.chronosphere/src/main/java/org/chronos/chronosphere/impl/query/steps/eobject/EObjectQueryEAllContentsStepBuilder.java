@@ -3,6 +3,7 @@ package org.chronos.chronosphere.impl.query.steps.eobject;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
@@ -16,6 +17,12 @@ public class EObjectQueryEAllContentsStepBuilder<S> extends EObjectQueryStepBuil
 
     @Override
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
+        if (tx.isContainmentIndexPresent()) {
+            // all (transitive) contents carry the ID of the vertex in their ancestors, use the index
+            ChronoGraph graph = tx.getGraph();
+            return traversal.flatMap(t -> graph.traversal().V()
+                .has(ChronoSphereGraphFormat.V_PROP__EANCESTORS, t.get().id()));
+        }
         return traversal
             .repeat(
                 // walk the incoming EContainer edges
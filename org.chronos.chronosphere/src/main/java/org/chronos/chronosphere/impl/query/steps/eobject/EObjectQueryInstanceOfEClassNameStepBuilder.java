@@ -1,14 +1,15 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
-import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EObject;
+
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -35,27 +36,15 @@ public class EObjectQueryInstanceOfEClassNameStepBuilder<S> extends EObjectQuery
         if (eClass == null) {
             throw new IllegalArgumentException("Could not find EClass with name '" + this.eClassName + "'!");
         }
-        EClass finalClass = eClass;
+        String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
         if (this.allowSubclasses == false) {
-            String eClassID = tx.getEPackageRegistry().getEClassID(finalClass);
-            String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
+            String eClassID = tx.getEPackageRegistry().getEClassID(eClass);
             return traversal.has(key, eClassID);
         } else {
-            // we want to include subclasses, we don't have much choice other
-            // than resolving the EObjects and using the Ecore API. Optimization?
-            return traversal
-                // we need to reify the EObject...
-                .map(t -> QueryUtils.mapVertexToEObject(tx, t))
-                // ...  check the condition...
-                .filter(t -> {
-                    EObject eObject = t.get();
-                    if (eObject == null) {
-                        return false;
-                    }
-                    return finalClass.isInstance(eObject);
-                })
-                // ... and transform back
-                .map(t -> QueryUtils.mapEObjectToVertex(tx.getGraph(), t.get()));
+            // the registry knows the IDs of all subclasses, so we can check the EClass ID of the vertex
+            // directly (which is indexed) instead of resolving the EObjects and using the Ecore API.
+            Set<String> eClassIDs = tx.getEPackageRegistry().getEClassIDsIncludingSubclasses(eClass);
+            return traversal.has(key, P.within(eClassIDs));
         }
     }
 }
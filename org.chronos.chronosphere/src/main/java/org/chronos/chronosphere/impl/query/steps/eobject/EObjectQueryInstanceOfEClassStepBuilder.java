@@ -1,15 +1,15 @@
 package org.chronos.chronosphere.impl.query.steps.eobject;
 
-import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.chronos.chronosphere.impl.query.EObjectQueryStepBuilderImpl;
-import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.eclipse.emf.ecore.EClass;
-import org.eclipse.emf.ecore.EObject;
+
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.*;
 
@@ -27,25 +27,15 @@ public class EObjectQueryInstanceOfEClassStepBuilder<S> extends EObjectQueryStep
 
     @Override
     public GraphTraversal<S, Vertex> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
+        String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
         if (this.allowSubclasses == false) {
             String eClassID = tx.getEPackageRegistry().getEClassID(this.eClass);
-            String key = ChronoSphereGraphFormat.V_PROP__ECLASS_ID;
             return traversal.has(key, eClassID);
         } else {
-            // we want to include subclasses, we don't have much choice other
-            // than resolving the EObjects and using the Ecore API. Optimization?
-            return traversal
-                .map(t -> QueryUtils.mapVertexToEObject(tx, t))
-                .filter(this::filterEObject)
-                .map(t -> QueryUtils.mapEObjectToVertex(tx.getGraph(), t.get()));
-        }
-    }
-
-    private boolean filterEObject(Traverser<EObject> traverser) {
-        EObject eObject = traverser.get();
-        if (eObject == null) {
-            return false;
+            // the registry knows the IDs of all subclasses, so we can check the EClass ID of the vertex
+            // directly (which is indexed) instead of resolving the EObjects and using the Ecore API.
+            Set<String> eClassIDs = tx.getEPackageRegistry().getEClassIDsIncludingSubclasses(this.eClass);
+            return traversal.has(key, P.within(eClassIDs));
         }
-        return this.eClass.isSuperTypeOf(eObject.eClass());
     }
 }
@@ -2,21 +2,33 @@ package org.chronos.chronosphere.impl.query.steps.object;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronosphere.api.query.Prefetch;
+import org.chronos.chronosphere.impl.query.EObjectReifyStep;
 import org.chronos.chronosphere.impl.query.ObjectQueryStepBuilderImpl;
-import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.eclipse.emf.ecore.EObject;
 
+import static com.google.common.base.Preconditions.*;
+
 public class ObjectQueryEObjectReifyStepBuilder<S> extends ObjectQueryStepBuilderImpl<S, Vertex, EObject> {
 
+    private final Prefetch prefetch;
+
     public ObjectQueryEObjectReifyStepBuilder(final TraversalChainElement previous) {
+        this(previous, Prefetch.prefetch());
+    }
+
+    public ObjectQueryEObjectReifyStepBuilder(final TraversalChainElement previous, final Prefetch prefetch) {
         super(previous);
+        checkNotNull(prefetch, "Precondition violation - argument 'prefetch' must not be NULL!");
+        this.prefetch = prefetch;
     }
 
     @Override
     public GraphTraversal<S, EObject> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Vertex> traversal) {
-        return traversal.map(t -> QueryUtils.mapVertexToEObject(tx, t));
+        GraphTraversal.Admin<S, Vertex> admin = traversal.asAdmin();
+        return admin.addStep(new EObjectReifyStep<Vertex, EObject>(admin, tx, this.prefetch));
     }
 
 
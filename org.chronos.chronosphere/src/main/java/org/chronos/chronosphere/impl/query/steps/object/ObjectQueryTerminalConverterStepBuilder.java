@@ -1,9 +1,9 @@
 package org.chronos.chronosphere.impl.query.steps.object;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
-import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronosphere.api.query.Prefetch;
+import org.chronos.chronosphere.impl.query.EObjectReifyStep;
 import org.chronos.chronosphere.impl.query.ObjectQueryStepBuilderImpl;
-import org.chronos.chronosphere.impl.query.QueryUtils;
 import org.chronos.chronosphere.impl.query.traversal.TraversalChainElement;
 import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 
@@ -14,17 +14,9 @@ public class ObjectQueryTerminalConverterStepBuilder<S, E> extends ObjectQuerySt
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public GraphTraversal<S, E> transformTraversal(final ChronoSphereTransactionInternal tx, final GraphTraversal<S, Object> traversal) {
         // convert all vertices to EObjects, but leave everything else alone.
-        GraphTraversal<S, Object> newTraversal = traversal.map(traverser -> {
-            Object element = traverser.get();
-            if (element instanceof Vertex == false) {
-                return element;
-            }
-            Vertex vertex = (Vertex) element;
-            return QueryUtils.mapVertexToEObject(tx, vertex);
-        });
-        return (GraphTraversal<S, E>) newTraversal;
+        GraphTraversal.Admin<S, Object> admin = traversal.asAdmin();
+        return admin.addStep(new EObjectReifyStep<Object, E>(admin, tx, Prefetch.prefetch()));
     }
 }
@@ -2,6 +2,7 @@ package org.chronos.chronosphere.impl.transaction;
 
 import static com.google.common.base.Preconditions.*;
 
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -30,6 +31,7 @@ import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
 import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
 import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.chronos.chronosphere.internal.ogm.impl.XMIStreamImporter;
 import org.chronos.common.util.CacheUtils;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
@@ -56,6 +58,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 	private final ChronoGraph txGraph;
 	private final ChronoGraphTransaction tx;
 	private final ChronoGraphEStore graphEStore;
+	private final boolean containmentIndexPresent;
 	private boolean closed;
 	private final LoadingCache<String, ChronoEObject> eObjectCache;
 
@@ -72,6 +75,7 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.eObjectCache = CacheUtils.buildWeak(this::loadEObjectById);
 		this.ePackageRegistry = this.owningSphere.getEPackageToGraphMapper()
 				.readChronoEPackageRegistryFromGraph(txGraph);
+		this.containmentIndexPresent = ChronoSphereGraphFormat.isContainmentIndexPresent(txGraph);
 		this.graphEStore = new ChronoGraphEStore(this);
 	}
 
@@ -327,6 +331,8 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		this.assertNotClosed();
 		this.eObjectCache.invalidateAll();
 		this.tx.commitIncremental();
+		// the cached reference edges belong to the graph state before the incremental commit
+		this.graphEStore.clearCaches();
 	}
 
 	@Override
@@ -381,16 +387,31 @@ public class ChronoSphereTransactionImpl implements ChronoSphereTransactionInter
 		return this.ePackageRegistry;
 	}
 
+	@Override
+	public boolean isContainmentIndexPresent() {
+		return this.containmentIndexPresent;
+	}
+
 	@Override
 	public void batchInsert(final Iterator<EObject> model) {
 		checkNotNull(model, "Precondition violation - argument 'model' must not be NULL!");
 		this.attach(model, true);
 	}
 
+	@Override
+	public void batchInsertXMI(final InputStream xmiContents) {
+		checkNotNull(xmiContents, "Precondition violation - argument 'xmiContents' must not be NULL!");
+		this.assertNotClosed();
+		int batchSize = this.getOwningSphere().getConfiguration().getBatchInsertBatchSize();
+		new XMIStreamImporter(this, batchSize).importXMI(xmiContents);
+	}
+
 	@Override
 	public void reloadEPackageRegistryFromGraph() {
 		this.ePackageRegistry = this.owningSphere.getEPackageToGraphMapper()
 				.readChronoEPackageRegistryFromGraph(this.txGraph);
+		// the cached feature values depend on the registry
+		this.graphEStore.clearCaches();
 	}
 
 	// =================================================================================================================
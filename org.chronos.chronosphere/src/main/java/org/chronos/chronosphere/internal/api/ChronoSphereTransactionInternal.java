@@ -1,5 +1,6 @@
 package org.chronos.chronosphere.internal.api;
 
+import java.io.InputStream;
 import java.util.Iterator;
 
 import org.chronos.chronograph.api.structure.ChronoGraph;
@@ -21,8 +22,12 @@ public interface ChronoSphereTransactionInternal extends ChronoSphereTransaction
 
 	public ChronoEPackageRegistry getEPackageRegistry();
 
+	public boolean isContainmentIndexPresent();
+
 	public void batchInsert(Iterator<EObject> model);
 
+	public void batchInsertXMI(InputStream xmiContents);
+
 	public void reloadEPackageRegistryFromGraph();
 
 }
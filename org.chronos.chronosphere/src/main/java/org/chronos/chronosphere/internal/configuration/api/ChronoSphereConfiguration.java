@@ -12,6 +12,9 @@ public interface ChronoSphereConfiguration extends ChronosConfiguration {
 	public static final String NS_DOT = NAMESPACE + '.';
 
 	public static final String BATCH_INSERT__BATCH_SIZE = NS_DOT + "batchInsert.batchSize";
+	public static final String BATCH_INSERT__MERGE_THREADS = NS_DOT + "batchInsert.mergeThreads";
+	public static final String CONTAINMENT_INDEX__ENABLED = NS_DOT + "containmentIndex.enabled";
+	public static final String QUERY__PREFETCH_BATCH_SIZE = NS_DOT + "query.prefetchBatchSize";
 
 	// =================================================================================================================
 	// GENERAL CONFIGURATION
@@ -19,4 +22,10 @@ public interface ChronoSphereConfiguration extends ChronosConfiguration {
 
 	public int getBatchInsertBatchSize();
 
+	public int getBatchInsertMergeThreads();
+
+	public boolean isContainmentIndexEnabled();
+
+	public int getQueryPrefetchBatchSize();
+
 }
@@ -15,6 +15,15 @@ public class ChronoSphereConfigurationImpl extends AbstractConfiguration impleme
 	@Parameter(key = BATCH_INSERT__BATCH_SIZE, optional = true)
 	private int batchInsertBatchSize = 10_000;
 
+	@Parameter(key = BATCH_INSERT__MERGE_THREADS, optional = true)
+	private int batchInsertMergeThreads = Runtime.getRuntime().availableProcessors();
+
+	@Parameter(key = CONTAINMENT_INDEX__ENABLED, optional = true)
+	private boolean containmentIndexEnabled = false;
+
+	@Parameter(key = QUERY__PREFETCH_BATCH_SIZE, optional = true)
+	private int queryPrefetchBatchSize = 256;
+
 	// =====================================================================================================================
 	// GETTERS & SETTERS
 	// =====================================================================================================================
@@ -24,4 +33,19 @@ public class ChronoSphereConfigurationImpl extends AbstractConfiguration impleme
 		return this.batchInsertBatchSize;
 	}
 
+	@Override
+	public int getBatchInsertMergeThreads() {
+		return this.batchInsertMergeThreads;
+	}
+
+	@Override
+	public boolean isContainmentIndexEnabled() {
+		return this.containmentIndexEnabled;
+	}
+
+	@Override
+	public int getQueryPrefetchBatchSize() {
+		return Math.max(1, this.queryPrefetchBatchSize);
+	}
+
 }
@@ -22,6 +22,8 @@ public interface ChronoEPackageRegistry {
 
 	public String getEClassID(EClass eClass);
 
+	public Set<String> getEClassIDsIncludingSubclasses(EClass eClass);
+
 	public EAttribute getEAttributeByID(String chronoEAttributeID);
 
 	public String getEAttributeID(EAttribute eAttribute);
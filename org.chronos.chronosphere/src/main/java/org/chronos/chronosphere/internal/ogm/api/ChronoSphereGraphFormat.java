@@ -2,6 +2,7 @@ package org.chronos.chronosphere.internal.ogm.api;
 
 import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.apache.tinkerpop.gremlin.structure.*;
 import org.chronos.chronograph.api.structure.ChronoGraph;
 import org.chronos.chronosphere.api.exceptions.EObjectPersistenceException;
@@ -58,6 +59,12 @@ public class ChronoSphereGraphFormat {
      * The vertex property that holds the numeric Ecore ID of the {@link EObject#eContainingFeature()}.
      */
     public static final String V_PROP__ECONTAININGFEATUREID = "eContainingFeatureID";
+    /**
+     * The vertex property that contains the IDs of all (transitive) {@linkplain EObject#eContainer() eContainers} of an
+     * {@link EObject}, starting at the root of the containment tree. Only maintained if the
+     * {@linkplain #VARIABLES__CONTAINMENT_INDEX containment index} is present.
+     */
+    public static final String V_PROP__EANCESTORS = "eAncestors";
 
     /**
      * The edge label that marks the connections between the central EPackage Registry and the registered bundles.
@@ -100,6 +107,11 @@ public class ChronoSphereGraphFormat {
      * The edge property that contains the ordering for multiplicity-many {@link EReference} links.
      */
     public static final String E_PROP__ORDER = "eRefOrder";
+    /**
+     * The default distance between the {@linkplain #E_PROP__ORDER order} values of two adjacent {@link EReference}
+     * links. The gaps allow to insert or move a single link without changing the order of any other link.
+     */
+    public static final int EREFERENCE_ORDER_GAP = 1024;
 
     public static final String V_ID__EPACKAGE_REGISTRY = "EPackageRegistry_ca68f96b-676c-49de-a260-ac6628a7c455";
 
@@ -108,6 +120,11 @@ public class ChronoSphereGraphFormat {
      */
     public static final String VARIABLES__GRAPH_FORMAT_VERSION = "chronosphere.graphformat.version";
 
+    /**
+     * Graph Variable Name: Indicates that the {@linkplain #V_PROP__EANCESTORS eAncestors} of all EObjects are maintained.
+     */
+    public static final String VARIABLES__CONTAINMENT_INDEX = "chronosphere.containmentindex";
+
     // =====================================================================================================================
     // PUBLIC API
     // =====================================================================================================================
@@ -201,18 +218,12 @@ public class ChronoSphereGraphFormat {
         checkArgument(attribute.isMany(), "Precondition violation - argument 'attribute' is multiplicity-one!");
         // generate the property key
         String propertyKey = createVertexPropertyKey(registry, attribute);
-        if (values == null || values.isEmpty()) {
+        Object valueToStore = convertEAttributeValueToPersistableObject(attribute, values);
+        if (valueToStore == null) {
             // we don't have any values for this attribute; delete the property
             vertex.property(propertyKey).remove();
             return null;
         } else {
-            // create a duplicate of the values collection such that we have a "clean" value to persist,
-            // i.e. we don't want to store an EList or anything that is a notifier or has some EMF connectoins.
-            Collection<?> valueToStore = Lists.newArrayList(values).stream()
-                    // for each entry, convert it into a persistable form
-                    .map(value -> convertSingleEAttributeValueToPersistableObject(attribute, value))
-                    // collect the results in a list
-                    .collect(Collectors.toList());
             // store the value in the vertex
             vertex.property(propertyKey, valueToStore);
             return vertex.property(propertyKey);
@@ -241,7 +252,7 @@ public class ChronoSphereGraphFormat {
         Collection<?> storedValue = (Collection<?>) vertex.property(propertyKey).orElse(Lists.newArrayList());
         List<?> resultList = storedValue.stream()
                 // for each entry, convert it back from the persistable format into the EObject format
-                .map(value -> convertSinglePersistableObjectToEAttributeValue(attribute, attribute))
+                .map(value -> convertSinglePersistableObjectToEAttributeValue(attribute, value))
                 // collect the results in a list
                 .collect(Collectors.toList());
         // return the result
@@ -269,7 +280,7 @@ public class ChronoSphereGraphFormat {
         String propertyKey = createVertexPropertyKey(registry, attribute);
         if (value != null) {
             // store the value in the vertex
-            Object persistentValue = convertSingleEAttributeValueToPersistableObject(attribute, value);
+            Object persistentValue = convertEAttributeValueToPersistableObject(attribute, value);
             vertex.property(propertyKey, persistentValue);
             return vertex.property(propertyKey);
         } else {
@@ -279,6 +290,40 @@ public class ChronoSphereGraphFormat {
         }
     }
 
+    /**
+     * Converts the given value of the given {@linkplain EAttribute attribute} into the form in which it is stored in the
+     * vertex property.
+     *
+     * <p>
+     * This method does not access the graph, so it may be called on any thread.
+     *
+     * @param attribute The attribute to convert the value for. Must not be <code>null</code>.
+     * @param value     The value to convert. For {@linkplain EAttribute#isMany() many-valued} attributes, this is the
+     *                  collection of values. May be <code>null</code>.
+     * @return The persistable value, or <code>null</code> if the property should be cleared (i.e. the given value is
+     * <code>null</code> or an empty collection).
+     */
+    public static Object convertEAttributeValueToPersistableObject(final EAttribute attribute, final Object value) {
+        checkNotNull(attribute, "Precondition violation - argument 'attribute' must not be NULL!");
+        if (value == null) {
+            return null;
+        }
+        if (attribute.isMany() == false) {
+            return convertSingleEAttributeValueToPersistableObject(attribute, value);
+        }
+        Collection<?> values = (Collection<?>) value;
+        if (values.isEmpty()) {
+            return null;
+        }
+        // create a duplicate of the values collection such that we have a "clean" value to persist,
+        // i.e. we don't want to store an EList or anything that is a notifier or has some EMF connectoins.
+        return Lists.newArrayList(values).stream()
+                // for each entry, convert it into a persistable form
+                .map(entry -> convertSingleEAttributeValueToPersistableObject(attribute, entry))
+                // collect the results in a list
+                .collect(Collectors.toList());
+    }
+
     /**
      * Returns the value for the given multiplicity-one {@linkplain EAttribute attribute} in the given {@link Vertex}.
      *
@@ -386,6 +431,47 @@ public class ChronoSphereGraphFormat {
         }
     }
 
+    /**
+     * Returns the edges that represent the links of the given {@link EReference} on the given {@link EObject} vertex.
+     *
+     * @param registry      The {@linkplain ChronoEPackageRegistry package} to work with. Must not be <code>null</code>.
+     * @param eObjectVertex The vertex that represents the EObject to get the reference edges for. Must not be <code>null</code>.
+     * @param eReference    The EReference to get the edges for. Must not be <code>null</code>. Must be many-valued.
+     * @return The reference edges (in the correct order if the reference is {@linkplain EReference#isOrdered()
+     * ordered}). May be empty, but never <code>null</code>.
+     */
+    public static List<Edge> getEReferenceEdges(final ChronoEPackageRegistry registry, final Vertex eObjectVertex,
+                                                final EReference eReference) {
+        checkNotNull(registry, "Precondition violation - argument 'registry' must not be NULL!");
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        checkNotNull(eReference, "Precondition violation - argument 'eReference' must not be NULL!");
+        checkArgument(eReference.isMany(), "Precondition violation - argument 'eReference' must be many-valued!");
+        String edgeLabel = createReferenceEdgeLabel(registry, eReference);
+        List<Edge> edges = Lists.newArrayList(eObjectVertex.edges(Direction.OUT, edgeLabel));
+        if (eReference.isOrdered()) {
+            // fetch the order of each edge only once
+            Map<Edge, Integer> edgeToOrder = Maps.newHashMapWithExpectedSize(edges.size());
+            for (Edge edge : edges) {
+                edgeToOrder.put(edge, getEReferenceEdgeOrder(edge));
+            }
+            edges.sort(Comparator.comparing(edgeToOrder::get));
+        }
+        return edges;
+    }
+
+    /**
+     * Returns the distance between the {@linkplain #E_PROP__ORDER order} values to use when numbering the given number
+     * of {@link EReference} links.
+     *
+     * @param size The number of links to number. Must not be negative.
+     * @return The distance between two adjacent order values. Usually {@link #EREFERENCE_ORDER_GAP}, but smaller for
+     * very large numbers of links. Always greater than zero.
+     */
+    public static int getEReferenceOrderGap(final int size) {
+        checkArgument(size >= 0, "Precondition violation - argument 'size' must not be negative!");
+        return Math.max(1, Math.min(EREFERENCE_ORDER_GAP, Integer.MAX_VALUE / (size + 1)));
+    }
+
     /**
      * Sets the target of the given {@link EReference} on the given {@link EObject} vertex to the given target vertex.
      *
@@ -435,11 +521,28 @@ public class ChronoSphereGraphFormat {
         } else {
             // set the targets
             List<Edge> edges = GremlinUtils.setEdgeTargets(eObjectVertex, edgeLabel, targets);
-            int order = 0;
-            for (Edge edge : edges) {
-                setEReferenceEdgeOrder(edge, order);
-                order++;
-            }
+            renumberEReferenceEdges(edges);
+        }
+    }
+
+    /**
+     * Assigns new {@linkplain #E_PROP__ORDER order} values to the given {@link EReference} edges.
+     *
+     * <p>
+     * The order values follow the order of the given list, and there is a gap of (up to) {@link #EREFERENCE_ORDER_GAP}
+     * between each pair of adjacent values, as well as before the first value. This allows to insert or move single
+     * links later on without having to renumber the other ones.
+     *
+     * @param edges The edges to renumber, in the desired order. Must not be <code>null</code>.
+     */
+    public static void renumberEReferenceEdges(final List<Edge> edges) {
+        checkNotNull(edges, "Precondition violation - argument 'edges' must not be NULL!");
+        // reserve space for one additional link at the end of the list
+        int gap = getEReferenceOrderGap(edges.size() + 1);
+        int order = gap;
+        for (Edge edge : edges) {
+            setEReferenceEdgeOrder(edge, order);
+            order += gap;
         }
     }
 
@@ -868,6 +971,23 @@ public class ChronoSphereGraphFormat {
         checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
         ChronoGraph graph = (ChronoGraph) vertex.graph();
         Vertex eClassVertex = getVertexForEClass(registry, graph, eClass);
+        setEClassVertexForEObjectVertex(vertex, eClassVertex);
+    }
+
+    /**
+     * Sets the {@link EClass} of the EObject represented by the given vertex to the EClass represented by the given
+     * EClass vertex.
+     *
+     * <p>
+     * Use this method instead of {@link #setEClassForEObjectVertex(ChronoEPackageRegistry, Vertex, EClass)} if the
+     * EClass vertex has already been resolved, e.g. when assigning the same EClass to many vertices.
+     *
+     * @param vertex       The vertex representing the EObject to set the EClass for. Must not be <code>null</code>.
+     * @param eClassVertex The vertex representing the EClass. Must not be <code>null</code>.
+     */
+    public static void setEClassVertexForEObjectVertex(final Vertex vertex, final Vertex eClassVertex) {
+        checkNotNull(vertex, "Precondition violation - argument 'vertex' must not be NULL!");
+        checkNotNull(eClassVertex, "Precondition violation - argument 'eClassVertex' must not be NULL!");
         vertex.property(V_PROP__ECLASS_ID, (String) eClassVertex.id());
     }
 
@@ -901,6 +1021,108 @@ public class ChronoSphereGraphFormat {
         return Iterators.getOnlyElement(eObjectVertex.vertices(Direction.OUT, E_LABEL__ECONTAINER), null);
     }
 
+    /**
+     * Checks if the containment index is present in the given graph, i.e. if the {@linkplain #V_PROP__EANCESTORS
+     * eAncestors} of all EObjects are maintained.
+     *
+     * <p>
+     * As graph variables are versioned, the result depends on the branch and timestamp of the given graph.
+     *
+     * @param graph The graph to check. Must not be <code>null</code>.
+     * @return <code>true</code> if the containment index is present, otherwise <code>false</code>.
+     */
+    public static boolean isContainmentIndexPresent(final Graph graph) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        return graph.variables().get(VARIABLES__CONTAINMENT_INDEX).isPresent();
+    }
+
+    /**
+     * Marks the containment index as present (or absent) in the given graph.
+     *
+     * @param graph   The graph to modify. Must not be <code>null</code>.
+     * @param present Use <code>true</code> if the {@linkplain #V_PROP__EANCESTORS eAncestors} of all EObjects are up to
+     *                date and will be maintained from now on, or <code>false</code> to stop maintaining them.
+     */
+    public static void setContainmentIndexPresent(final Graph graph, final boolean present) {
+        checkNotNull(graph, "Precondition violation - argument 'graph' must not be NULL!");
+        if (present) {
+            graph.variables().set(VARIABLES__CONTAINMENT_INDEX, true);
+        } else {
+            graph.variables().remove(VARIABLES__CONTAINMENT_INDEX);
+        }
+    }
+
+    /**
+     * Returns the IDs of the vertices which represent the (transitive) {@linkplain EObject#eContainer() eContainers} of
+     * the EObject represented by the given vertex.
+     *
+     * <p>
+     * This information is only available if the {@linkplain #isContainmentIndexPresent(Graph) containment index is
+     * present}.
+     *
+     * @param eObjectVertex The vertex representing the EObject. Must not be <code>null</code>.
+     * @return The IDs of the ancestors, starting at the root of the containment tree and ending at the direct eContainer.
+     * May be empty, but never <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    public static List<String> getEAncestorIds(final Vertex eObjectVertex) {
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        List<String> ancestorIds = (List<String>) eObjectVertex.property(V_PROP__EANCESTORS).orElse(null);
+        if (ancestorIds == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(ancestorIds);
+    }
+
+    /**
+     * Recalculates the {@linkplain #V_PROP__EANCESTORS eAncestors} of the EObject represented by the given vertex, based
+     * on its current {@linkplain #getEContainer(Vertex) eContainer}, and propagates the change to all of its (transitive)
+     * contents.
+     *
+     * <p>
+     * This method needs to be called whenever the eContainer of an EObject changes while the containment index is
+     * {@linkplain #isContainmentIndexPresent(Graph) present}. The eAncestors of the eContainer itself must be up to
+     * date. The effort is proportional to the depth of the EObject plus the number of its contents; contents of
+     * EObjects whose eAncestors did not change are not visited.
+     *
+     * @param eObjectVertex The vertex representing the EObject which has been moved. Must not be <code>null</code>.
+     */
+    public static void updateEAncestors(final Vertex eObjectVertex) {
+        checkNotNull(eObjectVertex, "Precondition violation - argument 'eObjectVertex' must not be NULL!");
+        Vertex eContainerVertex = getEContainer(eObjectVertex);
+        List<String> ancestorIds = Lists.newArrayList();
+        if (eContainerVertex != null) {
+            ancestorIds.addAll(getEAncestorIds(eContainerVertex));
+            ancestorIds.add((String) eContainerVertex.id());
+        }
+        if (setEAncestorIds(eObjectVertex, ancestorIds) == false) {
+            // the ancestors did not change, so the ancestors of the contents did not change either
+            return;
+        }
+        propagateEAncestors(eObjectVertex, true);
+    }
+
+    /**
+     * Calculates the {@linkplain #V_PROP__EANCESTORS eAncestors} of all (transitive) contents of the given root EObject
+     * vertex.
+     *
+     * <p>
+     * This method is used to initialize the containment index on existing data. As the existing eAncestors may be
+     * outdated at any level of the tree (e.g. if the containment index has been disabled and enabled again), all
+     * contents are visited, even if the eAncestors of their eContainer did not change.
+     *
+     * @param rootVertex The vertex representing the root EObject of a containment tree. Must not be <code>null</code>.
+     * @return The number of vertices which have been modified.
+     */
+    public static int initializeEAncestors(final Vertex rootVertex) {
+        checkNotNull(rootVertex, "Precondition violation - argument 'rootVertex' must not be NULL!");
+        int modified = 0;
+        if (setEAncestorIds(rootVertex, Collections.emptyList())) {
+            modified++;
+        }
+        return modified + propagateEAncestors(rootVertex, false);
+    }
+
     /**
      * Sets the numeric Ecore ID of the {@linkplain EObject#eContainingFeature() eContainingFeature} on the EObject
      * represented by the given vertex.
@@ -1055,4 +1277,39 @@ public class ChronoSphereGraphFormat {
         return value;
     }
 
+    private static int propagateEAncestors(final Vertex eObjectVertex, final boolean skipUnchangedSubtrees) {
+        // walk the containment tree below the vertex; if requested, subtrees with unchanged ancestors are skipped
+        int modified = 0;
+        Deque<Vertex> verticesToVisit = new ArrayDeque<>();
+        verticesToVisit.push(eObjectVertex);
+        while (verticesToVisit.isEmpty() == false) {
+            Vertex vertex = verticesToVisit.pop();
+            List<String> childAncestorIds = Lists.newArrayList(getEAncestorIds(vertex));
+            childAncestorIds.add((String) vertex.id());
+            Iterator<Vertex> children = vertex.vertices(Direction.IN, E_LABEL__ECONTAINER);
+            while (children.hasNext()) {
+                Vertex child = children.next();
+                if (setEAncestorIds(child, childAncestorIds)) {
+                    verticesToVisit.push(child);
+                    modified++;
+                } else if (skipUnchangedSubtrees == false) {
+                    verticesToVisit.push(child);
+                }
+            }
+        }
+        return modified;
+    }
+
+    private static boolean setEAncestorIds(final Vertex eObjectVertex, final List<String> ancestorIds) {
+        if (getEAncestorIds(eObjectVertex).equals(ancestorIds)) {
+            return false;
+        }
+        if (ancestorIds.isEmpty()) {
+            eObjectVertex.property(V_PROP__EANCESTORS).remove();
+        } else {
+            eObjectVertex.property(V_PROP__EANCESTORS, Lists.newArrayList(ancestorIds));
+        }
+        return true;
+    }
+
 }
@@ -3,6 +3,7 @@ package org.chronos.chronosphere.internal.ogm.impl;
 import static com.google.common.base.Preconditions.*;
 
 import java.util.Collections;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.Stack;
 
@@ -17,6 +18,8 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
 import com.google.common.collect.Sets;
 
 public class ChronoEPackageRegistryImpl implements ChronoEPackageRegistryInternal {
@@ -26,6 +29,9 @@ public class ChronoEPackageRegistryImpl implements ChronoEPackageRegistryInterna
 	private final BiMap<EAttribute, String> eAttributeToID = HashBiMap.create();
 	private final BiMap<EReference, String> eReferenceToID = HashBiMap.create();
 
+	/** Maps each registered EClass to the IDs of itself and all of its (transitive) subclasses. Computed lazily. */
+	private volatile SetMultimap<EClass, String> eClassToSubclassIDs;
+
 	private boolean isSealed;
 
 	// =================================================================================================================
@@ -68,6 +74,17 @@ public class ChronoEPackageRegistryImpl implements ChronoEPackageRegistryInterna
 		}
 	}
 
+	@Override
+	public Set<String> getEClassIDsIncludingSubclasses(final EClass eClass) {
+		checkNotNull(eClass, "Precondition violation - argument 'eClass' must not be NULL!");
+		EClass registeredClass = this.getRegisteredEClass(eClass);
+		if (registeredClass == null) {
+			// the ePackage must have changed in structure, can't find the class
+			return Collections.emptySet();
+		}
+		return Collections.unmodifiableSet(this.getEClassToSubclassIDs().get(registeredClass));
+	}
+
 	@Override
 	public Set<EClass> getEClasses() {
 		return Collections.unmodifiableSet(this.eClassToID.keySet());
@@ -150,6 +167,7 @@ public class ChronoEPackageRegistryImpl implements ChronoEPackageRegistryInterna
 		if (ePackage.getNsURI() == null || ePackage.getNsURI().trim().isEmpty()) {
 			throw new IllegalArgumentException("Cannot store an EPackage that has no Namespace URI (NSURI)!");
 		}
+		this.eClassToSubclassIDs = null;
 		EPackage existingEPackage = this.nsURItoEPackage.put(ePackage.getNsURI(), ePackage);
 		if (existingEPackage != null) {
 			ChronoLogger.logWarning("Registration of EPackage with Namespace URI '" + ePackage.getNsURI()
@@ -171,6 +189,7 @@ public class ChronoEPackageRegistryImpl implements ChronoEPackageRegistryInterna
 			}
 		}
 		this.eClassToID.put(eClass, chronoEClassID);
+		this.eClassToSubclassIDs = null;
 	}
 
 	@Override
@@ -248,6 +267,35 @@ public class ChronoEPackageRegistryImpl implements ChronoEPackageRegistryInterna
 		}
 	}
 
+	private EClass getRegisteredEClass(final EClass eClass) {
+		if (this.eClassToID.containsKey(eClass)) {
+			return eClass;
+		}
+		return this.getRegisteredEClassforEClassViaEPackage(eClass);
+	}
+
+	private SetMultimap<EClass, String> getEClassToSubclassIDs() {
+		if (this.eClassToSubclassIDs != null) {
+			return this.eClassToSubclassIDs;
+		}
+		SetMultimap<EClass, String> closure = HashMultimap.create();
+		for (Entry<EClass, String> entry : this.eClassToID.entrySet()) {
+			EClass eClass = entry.getKey();
+			String eClassID = entry.getValue();
+			// the instances of an EClass are instances of the EClass itself...
+			closure.put(eClass, eClassID);
+			// ... and of all of its (transitive) super types
+			for (EClass superType : eClass.getEAllSuperTypes()) {
+				EClass registeredSuperType = this.getRegisteredEClass(superType);
+				if (registeredSuperType != null) {
+					closure.put(registeredSuperType, eClassID);
+				}
+			}
+		}
+		this.eClassToSubclassIDs = closure;
+		return closure;
+	}
+
 	private EClass getRegisteredEClassforEClassViaEPackage(final EClass eClass) {
 		EPackage registeredEPackage = this.getEPackage(eClass.getEPackage().getNsURI());
 		if (registeredEPackage == null) {
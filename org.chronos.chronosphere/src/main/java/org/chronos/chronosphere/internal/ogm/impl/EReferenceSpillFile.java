@@ -0,0 +1,212 @@
+package org.chronos.chronosphere.internal.ogm.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import org.chronos.chronosphere.api.exceptions.emf.XMIConversionFailedException;
+
+import com.google.common.collect.Lists;
+
+/**
+ * A temporary file which stores the {@link org.eclipse.emf.ecore.EReference EReference} links that could not be
+ * resolved while streaming an XMI document, because their targets had not been read yet.
+ *
+ * <p>
+ * Each record consists of the ID of the source EObject, the index of the EReference (as assigned by the caller) and the
+ * IDs of the target EObjects, in link order. All IDs are {@link UUID}s and are stored in their 16-byte binary form.
+ * Records are written sequentially and can be read back {@linkplain #readRecord() one at a time}, such that the heap
+ * usage does not depend on the number of records. The file is deleted when this object is {@linkplain #close()
+ * closed}; it is therefore meant to be used in a <code>try</code>-with-resources block.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+class EReferenceSpillFile implements AutoCloseable {
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final File file;
+	private DataOutputStream output;
+	private DataInputStream input;
+	private long recordCount;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public EReferenceSpillFile() {
+		try {
+			this.file = File.createTempFile("chronosphere-xmi-references", ".bin");
+		} catch (IOException e) {
+			throw new XMIConversionFailedException("Could not create temporary file for EReference links!", e);
+		}
+		try {
+			this.output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+		} catch (IOException e) {
+			this.file.delete();
+			throw new XMIConversionFailedException("Could not create temporary file for EReference links!", e);
+		}
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Appends a new record to this file.
+	 *
+	 * @param sourceId
+	 *            The ID of the EObject which owns the links. Must not be <code>null</code>.
+	 * @param eReferenceIndex
+	 *            The index of the EReference to which the links belong. Must not be negative.
+	 * @param targetIds
+	 *            The IDs of the link targets, in link order. Must not be <code>null</code>.
+	 */
+	public void writeRecord(final UUID sourceId, final int eReferenceIndex, final List<UUID> targetIds) {
+		checkNotNull(sourceId, "Precondition violation - argument 'sourceId' must not be NULL!");
+		checkArgument(eReferenceIndex >= 0, "Precondition violation - argument 'eReferenceIndex' must not be negative!");
+		checkNotNull(targetIds, "Precondition violation - argument 'targetIds' must not be NULL!");
+		checkState(this.output != null, "Cannot write to EReference spill file - it has already been flipped to reading!");
+		try {
+			writeUUID(this.output, sourceId);
+			this.output.writeInt(eReferenceIndex);
+			this.output.writeInt(targetIds.size());
+			for (UUID targetId : targetIds) {
+				writeUUID(this.output, targetId);
+			}
+			this.recordCount++;
+		} catch (IOException e) {
+			throw new XMIConversionFailedException("Could not write to temporary file for EReference links!", e);
+		}
+	}
+
+	/**
+	 * Returns the number of records which have been written to this file.
+	 *
+	 * @return The number of records.
+	 */
+	public long getRecordCount() {
+		return this.recordCount;
+	}
+
+	/**
+	 * Finishes writing and prepares this file for reading, starting at the first record.
+	 */
+	public void flip() {
+		checkState(this.output != null, "Cannot flip EReference spill file - it has already been flipped to reading!");
+		try {
+			this.output.close();
+			this.output = null;
+			this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+		} catch (IOException e) {
+			throw new XMIConversionFailedException("Could not read temporary file for EReference links!", e);
+		}
+	}
+
+	/**
+	 * Reads the next record from this file.
+	 *
+	 * <p>
+	 * This method may only be called after this file has been {@linkplain #flip() flipped}.
+	 *
+	 * @return The next record, or <code>null</code> if all records have been read.
+	 */
+	public Record readRecord() {
+		checkState(this.input != null, "Cannot read from EReference spill file - it has not been flipped to reading!");
+		try {
+			UUID sourceId;
+			try {
+				sourceId = readUUID(this.input);
+			} catch (EOFException e) {
+				// no more records
+				return null;
+			}
+			int eReferenceIndex = this.input.readInt();
+			int targetCount = this.input.readInt();
+			List<UUID> targetIds = Lists.newArrayListWithCapacity(targetCount);
+			for (int i = 0; i < targetCount; i++) {
+				targetIds.add(readUUID(this.input));
+			}
+			return new Record(sourceId, eReferenceIndex, targetIds);
+		} catch (IOException e) {
+			throw new XMIConversionFailedException("Could not read temporary file for EReference links!", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		try {
+			if (this.output != null) {
+				this.output.close();
+				this.output = null;
+			}
+			if (this.input != null) {
+				this.input.close();
+				this.input = null;
+			}
+		} catch (IOException e) {
+			throw new XMIConversionFailedException("Could not close temporary file for EReference links!", e);
+		} finally {
+			this.file.delete();
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private static void writeUUID(final DataOutputStream output, final UUID uuid) throws IOException {
+		output.writeLong(uuid.getMostSignificantBits());
+		output.writeLong(uuid.getLeastSignificantBits());
+	}
+
+	private static UUID readUUID(final DataInputStream input) throws IOException {
+		long mostSignificantBits = input.readLong();
+		long leastSignificantBits = input.readLong();
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	public static class Record {
+
+		private final UUID sourceId;
+		private final int eReferenceIndex;
+		private final List<UUID> targetIds;
+
+		private Record(final UUID sourceId, final int eReferenceIndex, final List<UUID> targetIds) {
+			this.sourceId = sourceId;
+			this.eReferenceIndex = eReferenceIndex;
+			this.targetIds = targetIds;
+		}
+
+		public UUID getSourceId() {
+			return this.sourceId;
+		}
+
+		public int getEReferenceIndex() {
+			return this.eReferenceIndex;
+		}
+
+		public List<UUID> getTargetIds() {
+			return this.targetIds;
+		}
+
+	}
+
+}
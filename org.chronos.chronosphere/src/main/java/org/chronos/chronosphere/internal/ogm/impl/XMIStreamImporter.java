@@ -0,0 +1,567 @@
+package org.chronos.chronosphere.internal.ogm.impl;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronosphere.api.exceptions.emf.XMIConversionFailedException;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoEPackageRegistry;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Imports the {@link EObject}s contained in an XMI document directly into the graph of a
+ * {@link ChronoSphereTransactionInternal transaction}, without loading the document into an EMF resource first.
+ *
+ * <p>
+ * The document is read with a streaming (StAX) parser. Vertices, attribute values and containment links are created as
+ * soon as the corresponding XML elements are encountered. Cross-references can point to EObjects which have not been
+ * read yet; they are therefore written to an {@link EReferenceSpillFile} and resolved in a second pass over that file.
+ * The changes are flushed via {@link ChronoSphereTransactionInternal#commitIncremental() incremental commits} in
+ * batches of bounded size. As a consequence, the heap usage of the import only depends on the batch size and on the
+ * nesting depth of the document, but not on the size of the model.
+ *
+ * <p>
+ * The vertex IDs of the imported EObjects are derived from their XMI identity (i.e. the <code>xmi:id</code>, the value
+ * of the {@linkplain EClass#getEIDAttribute() ID attribute}, or the default URI fragment path), such that references
+ * can be resolved without keeping a lookup table in memory. References which use other kinds of URI fragments, or point
+ * to other documents, can not be resolved and are ignored.
+ *
+ * @author martin.haeusler@uibk.ac.at -- Initial Contribution and API
+ *
+ */
+public class XMIStreamImporter {
+
+	// =================================================================================================================
+	// CONSTANTS
+	// =================================================================================================================
+
+	private static final String XMI_NAMESPACE_PREFIX = "http://www.omg.org/XMI";
+	private static final String XMI_SPEC_NAMESPACE_PREFIX = "http://www.omg.org/spec/XMI";
+	private static final String XSI_NAMESPACE = "http://www.w3.org/2001/XMLSchema-instance";
+
+	// =================================================================================================================
+	// FIELDS
+	// =================================================================================================================
+
+	private final ChronoSphereTransactionInternal tx;
+	private final ChronoEPackageRegistry registry;
+	private final int batchSize;
+	private final String importId = UUID.randomUUID().toString();
+	private final Map<String, EPackage> nsURIToEPackage = Maps.newHashMap();
+
+	private final List<EReference> spilledEReferences = Lists.newArrayList();
+	private final Map<EReference, Integer> spilledEReferenceToIndex = Maps.newHashMap();
+	private final Deque<Frame> frames = new ArrayDeque<>();
+
+	private EReferenceSpillFile spillFile;
+	private int rootCount = 0;
+	private int currentBatchSize = 0;
+	private int batchNumber = 0;
+
+	// =================================================================================================================
+	// CONSTRUCTOR
+	// =================================================================================================================
+
+	public XMIStreamImporter(final ChronoSphereTransactionInternal tx, final int batchSize) {
+		checkNotNull(tx, "Precondition violation - argument 'tx' must not be NULL!");
+		checkArgument(batchSize > 0, "Precondition violation - argument 'batchSize' must be greater than zero!");
+		this.tx = tx;
+		this.registry = tx.getEPackageRegistry();
+		this.batchSize = batchSize;
+		for (EPackage ePackage : EMFUtils.flattenEPackages(this.registry.getEPackages())) {
+			this.nsURIToEPackage.put(ePackage.getNsURI(), ePackage);
+		}
+	}
+
+	// =================================================================================================================
+	// PUBLIC API
+	// =================================================================================================================
+
+	/**
+	 * Imports the EObjects from the given XMI data into the graph.
+	 *
+	 * <p>
+	 * The changes are committed {@linkplain ChronoSphereTransactionInternal#commitIncremental() incrementally}; it is the
+	 * responsibility of the caller to perform the final commit.
+	 *
+	 * @param xmiContents
+	 *            The stream that provides the XMI data. Must not be <code>null</code>. Will not be closed by this method.
+	 */
+	public void importXMI(final InputStream xmiContents) {
+		checkNotNull(xmiContents, "Precondition violation - argument 'xmiContents' must not be NULL!");
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		try (EReferenceSpillFile spillFile = new EReferenceSpillFile()) {
+			this.spillFile = spillFile;
+			XMLStreamReader reader = factory.createXMLStreamReader(xmiContents);
+			try {
+				// first pass: create the EObjects, their attribute values and their containment links
+				this.readEObjects(reader);
+			} finally {
+				reader.close();
+			}
+			// second pass: resolve the cross-references
+			this.spillFile.flip();
+			this.resolveEReferences();
+			this.commitBatch();
+		} catch (XMLStreamException e) {
+			throw new XMIConversionFailedException("Could not read EObject(s) from XMI data!", e);
+		} finally {
+			this.spillFile = null;
+		}
+	}
+
+	// =================================================================================================================
+	// FIRST PASS
+	// =================================================================================================================
+
+	private void readEObjects(final XMLStreamReader reader) throws XMLStreamException {
+		while (reader.hasNext()) {
+			switch (reader.next()) {
+			case XMLStreamConstants.START_ELEMENT:
+				this.frames.push(this.startElement(reader));
+				break;
+			case XMLStreamConstants.CHARACTERS:
+			case XMLStreamConstants.CDATA:
+			case XMLStreamConstants.SPACE:
+				Frame frame = this.frames.peek();
+				if (frame instanceof ValueFrame) {
+					((ValueFrame) frame).text.append(reader.getText());
+				}
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				this.endElement(this.frames.pop());
+				break;
+			default:
+				// ignore everything else (comments, processing instructions...)
+				break;
+			}
+		}
+	}
+
+	private Frame startElement(final XMLStreamReader reader) {
+		Frame parent = this.frames.peek();
+		if (parent == null) {
+			// document root element
+			if (isXMINamespace(reader.getNamespaceURI()) && "XMI".equals(reader.getLocalName())) {
+				// <xmi:XMI> wrapper element, the root EObjects are its children
+				return Frame.SKIPPED;
+			}
+			return this.startRootEObject(reader);
+		} else if (parent == Frame.SKIPPED && this.frames.size() == 1) {
+			// child of the <xmi:XMI> wrapper element
+			if (isXMINamespace(reader.getNamespaceURI())) {
+				// <xmi:Documentation> and the like
+				return Frame.SKIPPED;
+			}
+			return this.startRootEObject(reader);
+		} else if (parent instanceof EObjectFrame) {
+			if (isXMINamespace(reader.getNamespaceURI())) {
+				// <xmi:Extension> and the like
+				return Frame.SKIPPED;
+			}
+			return this.startFeatureElement((EObjectFrame) parent, reader);
+		} else {
+			// nested element within a feature value or within a skipped element
+			return Frame.SKIPPED;
+		}
+	}
+
+	private EObjectFrame startRootEObject(final XMLStreamReader reader) {
+		EClass eClass = this.resolveEClass(reader.getNamespaceURI(), reader.getLocalName());
+		String path = "/" + this.rootCount;
+		this.rootCount++;
+		return this.createEObject(reader, eClass, path);
+	}
+
+	private Frame startFeatureElement(final EObjectFrame owner, final XMLStreamReader reader) {
+		EStructuralFeature feature = this.getFeature(owner.eClass, reader.getLocalName());
+		if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+			EReference eReference = (EReference) feature;
+			if (reader.getAttributeValue(null, "href") != null) {
+				// cross-document containment; the child is not part of this document
+				return Frame.SKIPPED;
+			}
+			EClass eClass = this.resolveXSIType(reader);
+			if (eClass == null) {
+				eClass = eReference.getEReferenceType();
+			}
+			int index = owner.nextChildIndex(eReference);
+			String path = owner.path + "/@" + eReference.getName() + (eReference.isMany() ? "." + index : "");
+			EObjectFrame child = this.createEObject(reader, eClass, path);
+			this.addContainmentLink(owner, eReference, index, child);
+			return child;
+		}
+		ValueFrame valueFrame = new ValueFrame(owner, feature);
+		valueFrame.nil = "true".equals(reader.getAttributeValue(XSI_NAMESPACE, "nil"));
+		if (feature instanceof EReference) {
+			valueFrame.href = reader.getAttributeValue(null, "href");
+			if (valueFrame.href == null) {
+				valueFrame.href = this.getXMIAttributeValue(reader, "idref");
+			}
+		}
+		return valueFrame;
+	}
+
+	private void endElement(final Frame frame) {
+		if (frame instanceof ValueFrame) {
+			this.endFeatureElement((ValueFrame) frame);
+		} else if (frame instanceof EObjectFrame) {
+			this.endEObject((EObjectFrame) frame);
+		}
+	}
+
+	private void endFeatureElement(final ValueFrame frame) {
+		if (frame.nil) {
+			return;
+		}
+		EObjectFrame owner = frame.owner;
+		if (frame.feature instanceof EAttribute) {
+			EAttribute eAttribute = (EAttribute) frame.feature;
+			Object value = EcoreUtil.createFromString(eAttribute.getEAttributeType(), frame.text.toString());
+			if (eAttribute.isMany()) {
+				owner.getAttributeValues(eAttribute).add(value);
+			} else {
+				ChronoSphereGraphFormat.setEAttributeValue(this.registry, this.getVertex(owner), eAttribute, value);
+			}
+		} else {
+			EReference eReference = (EReference) frame.feature;
+			String reference = frame.href != null ? frame.href : frame.text.toString().trim();
+			if (reference.isEmpty() == false) {
+				owner.getLinkTargets(eReference).add(this.createEObjectId(normalizeReference(reference)));
+			}
+		}
+	}
+
+	private void endEObject(final EObjectFrame frame) {
+		if (frame.attributeValues != null) {
+			Vertex vertex = this.getVertex(frame);
+			for (Map.Entry<EAttribute, List<Object>> entry : frame.attributeValues.entrySet()) {
+				ChronoSphereGraphFormat.setEAttributeValues(this.registry, vertex, entry.getKey(), entry.getValue());
+			}
+		}
+		if (frame.linkTargets != null) {
+			// the targets may not have been read yet, resolve them later on
+			for (Map.Entry<EReference, List<UUID>> entry : frame.linkTargets.entrySet()) {
+				int eReferenceIndex = this.getSpilledEReferenceIndex(entry.getKey());
+				this.spillFile.writeRecord(frame.id, eReferenceIndex, entry.getValue());
+			}
+		}
+		this.currentBatchSize++;
+		if (this.currentBatchSize >= this.batchSize) {
+			this.commitBatch();
+		}
+	}
+
+	private EObjectFrame createEObject(final XMLStreamReader reader, final EClass eClass, final String path) {
+		if (eClass.isAbstract() || eClass.isInterface()) {
+			throw new XMIConversionFailedException("Could not read EObject at '" + path
+					+ "' from XMI data: its EClass '" + eClass.getName() + "' is abstract!");
+		}
+		// determine the identity of the EObject, as used by references to it
+		String key = this.getXMIAttributeValue(reader, "id");
+		EAttribute eIDAttribute = eClass.getEIDAttribute();
+		if (key == null && eIDAttribute != null) {
+			key = reader.getAttributeValue(null, eIDAttribute.getName());
+		}
+		if (key == null) {
+			key = path;
+		}
+		EObjectFrame frame = new EObjectFrame(this.createEObjectId(key), eClass, path);
+		Vertex vertex = this.tx.getGraph().addVertex(T.id, frame.id.toString());
+		ChronoSphereGraphFormat.setVertexKind(vertex, VertexKind.EOBJECT);
+		ChronoSphereGraphFormat.setEClassForEObjectVertex(this.registry, vertex, eClass);
+		frame.vertex = vertex;
+		frame.vertexBatchNumber = this.batchNumber;
+		// map the features which are serialized as XML attributes
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			String namespace = reader.getAttributeNamespace(i);
+			if (namespace != null && namespace.isEmpty() == false) {
+				// xmi:id, xsi:type and the like
+				continue;
+			}
+			EStructuralFeature feature = this.getFeature(eClass, reader.getAttributeLocalName(i));
+			String value = reader.getAttributeValue(i);
+			if (feature instanceof EAttribute) {
+				EAttribute eAttribute = (EAttribute) feature;
+				if (eAttribute.isMany()) {
+					for (String token : value.trim().split("\\s+")) {
+						if (token.isEmpty() == false) {
+							frame.getAttributeValues(eAttribute).add(
+									EcoreUtil.createFromString(eAttribute.getEAttributeType(), token));
+						}
+					}
+				} else {
+					Object attributeValue = EcoreUtil.createFromString(eAttribute.getEAttributeType(), value);
+					ChronoSphereGraphFormat.setEAttributeValue(this.registry, vertex, eAttribute, attributeValue);
+				}
+			} else {
+				EReference eReference = (EReference) feature;
+				for (String token : value.trim().split("\\s+")) {
+					if (token.isEmpty() == false) {
+						frame.getLinkTargets(eReference).add(this.createEObjectId(normalizeReference(token)));
+					}
+				}
+			}
+		}
+		return frame;
+	}
+
+	private void addContainmentLink(final EObjectFrame owner, final EReference eReference, final int index,
+			final EObjectFrame child) {
+		Vertex ownerVertex = this.getVertex(owner);
+		Vertex childVertex = this.getVertex(child);
+		if (eReference.isMany()) {
+			String edgeLabel = ChronoSphereGraphFormat.createReferenceEdgeLabel(this.registry, eReference);
+			Edge edge = ownerVertex.addEdge(edgeLabel, childVertex);
+			// we don't know the final size of the list yet, so we can't assign gaps between the order values
+			ChronoSphereGraphFormat.setEReferenceEdgeOrder(edge, index);
+		} else {
+			ChronoSphereGraphFormat.setEReferenceTarget(this.registry, ownerVertex, eReference, childVertex);
+		}
+		ChronoSphereGraphFormat.setEContainer(childVertex, ownerVertex);
+		if (this.tx.isContainmentIndexPresent()) {
+			ChronoSphereGraphFormat.updateEAncestors(childVertex);
+		}
+		// use the same feature ID as EMF would assign when adding the child to the containment reference
+		int containingFeatureID;
+		if (eReference.getEOpposite() != null) {
+			// the child class has a container reference, use its ID
+			containingFeatureID = child.eClass.getFeatureID(eReference.getEOpposite());
+		} else {
+			// containing feature belongs to eContainer class
+			containingFeatureID = -1 - owner.eClass.getFeatureID(eReference);
+		}
+		ChronoSphereGraphFormat.setEContainingFeatureId(childVertex, containingFeatureID);
+	}
+
+	// =================================================================================================================
+	// SECOND PASS
+	// =================================================================================================================
+
+	private void resolveEReferences() {
+		EReferenceSpillFile.Record record = this.spillFile.readRecord();
+		while (record != null) {
+			EReference eReference = this.spilledEReferences.get(record.getEReferenceIndex());
+			Vertex sourceVertex = this.getVertex(record.getSourceId());
+			List<Vertex> targetVertices = Lists.newArrayListWithCapacity(record.getTargetIds().size());
+			for (UUID targetId : record.getTargetIds()) {
+				Vertex targetVertex = this.getVertex(targetId);
+				if (targetVertex != null) {
+					targetVertices.add(targetVertex);
+				}
+			}
+			if (eReference.isMany()) {
+				ChronoSphereGraphFormat.setEReferenceTargets(this.registry, sourceVertex, eReference, targetVertices);
+			} else if (targetVertices.isEmpty() == false) {
+				ChronoSphereGraphFormat.setEReferenceTarget(this.registry, sourceVertex, eReference,
+						targetVertices.get(0));
+			}
+			this.currentBatchSize += targetVertices.size();
+			if (this.currentBatchSize >= this.batchSize) {
+				this.commitBatch();
+			}
+			record = this.spillFile.readRecord();
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private void commitBatch() {
+		this.tx.commitIncremental();
+		this.currentBatchSize = 0;
+		// vertices which were loaded before the commit need to be reloaded
+		this.batchNumber++;
+	}
+
+	private Vertex getVertex(final EObjectFrame frame) {
+		if (frame.vertexBatchNumber != this.batchNumber) {
+			frame.vertex = this.getVertex(frame.id);
+			frame.vertexBatchNumber = this.batchNumber;
+		}
+		return frame.vertex;
+	}
+
+	private Vertex getVertex(final UUID eObjectId) {
+		return Iterators.getOnlyElement(this.tx.getGraph().vertices(eObjectId.toString()), null);
+	}
+
+	private UUID createEObjectId(final String key) {
+		// the ID is derived from the key, such that references can be resolved without a lookup table
+		return UUID.nameUUIDFromBytes((this.importId + '#' + key).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private int getSpilledEReferenceIndex(final EReference eReference) {
+		Integer index = this.spilledEReferenceToIndex.get(eReference);
+		if (index == null) {
+			index = this.spilledEReferences.size();
+			this.spilledEReferences.add(eReference);
+			this.spilledEReferenceToIndex.put(eReference, index);
+		}
+		return index;
+	}
+
+	private EClass resolveEClass(final String nsURI, final String name) {
+		EPackage ePackage = nsURI == null ? null : this.nsURIToEPackage.get(nsURI);
+		if (ePackage == null) {
+			throw new XMIConversionFailedException("Could not read EObject(s) from XMI data: there is no registered "
+					+ "EPackage with nsURI '" + nsURI + "'! Did you forget to register an EPackage?");
+		}
+		EClassifier eClassifier = ePackage.getEClassifier(name);
+		if (eClassifier instanceof EClass == false) {
+			throw new XMIConversionFailedException("Could not read EObject(s) from XMI data: the EPackage '"
+					+ ePackage.getName() + "' contains no EClass named '" + name + "'!");
+		}
+		return (EClass) eClassifier;
+	}
+
+	private EClass resolveXSIType(final XMLStreamReader reader) {
+		String type = reader.getAttributeValue(XSI_NAMESPACE, "type");
+		if (type == null) {
+			type = this.getXMIAttributeValue(reader, "type");
+		}
+		if (type == null) {
+			return null;
+		}
+		int separatorIndex = type.indexOf(':');
+		String prefix = separatorIndex < 0 ? "" : type.substring(0, separatorIndex);
+		String name = type.substring(separatorIndex + 1);
+		return this.resolveEClass(reader.getNamespaceURI(prefix), name);
+	}
+
+	private EStructuralFeature getFeature(final EClass eClass, final String name) {
+		EStructuralFeature feature = eClass.getEStructuralFeature(name);
+		if (feature == null) {
+			throw new XMIConversionFailedException("Could not read EObject(s) from XMI data: the EClass '"
+					+ eClass.getName() + "' has no feature named '" + name + "'!");
+		}
+		return feature;
+	}
+
+	private String getXMIAttributeValue(final XMLStreamReader reader, final String localName) {
+		for (int i = 0; i < reader.getAttributeCount(); i++) {
+			if (localName.equals(reader.getAttributeLocalName(i)) && isXMINamespace(reader.getAttributeNamespace(i))) {
+				return reader.getAttributeValue(i);
+			}
+		}
+		return null;
+	}
+
+	private static boolean isXMINamespace(final String namespace) {
+		if (namespace == null) {
+			return false;
+		}
+		return namespace.startsWith(XMI_NAMESPACE_PREFIX) || namespace.startsWith(XMI_SPEC_NAMESPACE_PREFIX);
+	}
+
+	private static String normalizeReference(final String reference) {
+		// strip the document URI (if any)
+		String fragment = reference.substring(reference.indexOf('#') + 1);
+		// documents with a single root element omit the index of the root in fragment paths
+		if (fragment.equals("/")) {
+			return "/0";
+		} else if (fragment.startsWith("//")) {
+			return "/0" + fragment.substring(1);
+		}
+		return fragment;
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	private static class Frame {
+
+		/** Marks an element which does not represent an EObject or a feature value. */
+		private static final Frame SKIPPED = new Frame();
+
+	}
+
+	private static class EObjectFrame extends Frame {
+
+		private final UUID id;
+		private final EClass eClass;
+		private final String path;
+		private final Map<EReference, Integer> childCounts = Maps.newHashMap();
+		private Map<EAttribute, List<Object>> attributeValues;
+		private Map<EReference, List<UUID>> linkTargets;
+		private Vertex vertex;
+		private int vertexBatchNumber;
+
+		private EObjectFrame(final UUID id, final EClass eClass, final String path) {
+			this.id = id;
+			this.eClass = eClass;
+			this.path = path;
+		}
+
+		private int nextChildIndex(final EReference eReference) {
+			int index = this.childCounts.getOrDefault(eReference, 0);
+			this.childCounts.put(eReference, index + 1);
+			return index;
+		}
+
+		private List<Object> getAttributeValues(final EAttribute eAttribute) {
+			if (this.attributeValues == null) {
+				this.attributeValues = Maps.newLinkedHashMap();
+			}
+			return this.attributeValues.computeIfAbsent(eAttribute, attribute -> Lists.newArrayList());
+		}
+
+		private List<UUID> getLinkTargets(final EReference eReference) {
+			if (this.linkTargets == null) {
+				this.linkTargets = Maps.newLinkedHashMap();
+			}
+			return this.linkTargets.computeIfAbsent(eReference, reference -> Lists.newArrayList());
+		}
+
+	}
+
+	private static class ValueFrame extends Frame {
+
+		private final EObjectFrame owner;
+		private final EStructuralFeature feature;
+		private final StringBuilder text = new StringBuilder();
+		private String href;
+		private boolean nil;
+
+		private ValueFrame(final EObjectFrame owner, final EStructuralFeature feature) {
+			this.owner = owner;
+			this.feature = feature;
+		}
+
+	}
+
+}
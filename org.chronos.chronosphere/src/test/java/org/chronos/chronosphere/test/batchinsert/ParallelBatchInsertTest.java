@@ -0,0 +1,187 @@
+package org.chronos.chronosphere.test.batchinsert;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class ParallelBatchInsertTest extends AllChronoSphereBackendsTest {
+
+	private static final int ELEMENT_COUNT = 1_200;
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__MERGE_THREADS, value = "4")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__BATCH_SIZE, value = "500")
+	public void canBatchInsertModelWithSeveralMergeThreads() {
+		this.runBatchInsertTest();
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__MERGE_THREADS, value = "1")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__BATCH_SIZE, value = "500")
+	public void canBatchInsertModelWithSingleMergeThread() {
+		this.runBatchInsertTest();
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__MERGE_THREADS, value = "4")
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, value = "true")
+	public void parallelBatchInsertMaintainsContainmentIndex() {
+		this.runBatchInsertTest();
+		try (ChronoSphereTransaction tx = this.getChronoSphere().tx()) {
+			EClass containerClass = tx.getEClassByQualifiedName("parallel::Container");
+			EObject container = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(containerClass).toSet());
+			// every element has a nested child
+			assertEquals(2 * ELEMENT_COUNT, tx.find().startingFromEObject(container).eAllContents().count());
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private void runBatchInsertTest() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		EObject model = null;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass containerClass = tx.getEClassByQualifiedName("parallel::Container");
+			EClass elementClass = tx.getEClassByQualifiedName("parallel::Element");
+			EAttribute name = tx.getEAttributeByQualifiedName("parallel::Element#name");
+			EAttribute tags = tx.getEAttributeByQualifiedName("parallel::Element#tags");
+			EReference elements = tx.getEReferenceByQualifiedName("parallel::Container#elements");
+			EReference links = tx.getEReferenceByQualifiedName("parallel::Element#links");
+			EReference partner = tx.getEReferenceByQualifiedName("parallel::Element#partner");
+			EReference child = tx.getEReferenceByQualifiedName("parallel::Element#child");
+			model = EcoreUtil.create(containerClass);
+			List<EObject> elementList = Lists.newArrayList();
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				EObject element = EcoreUtil.create(elementClass);
+				element.eSet(name, "e" + i);
+				this.values(element, tags).addAll(Lists.newArrayList("t" + i, "x"));
+				EObject nested = EcoreUtil.create(elementClass);
+				nested.eSet(name, "n" + i);
+				element.eSet(child, nested);
+				elementList.add(element);
+			}
+			EMFUtils.eGetMany(model, elements).addAll(elementList);
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				EObject element = elementList.get(i);
+				// links to elements on both sides, which end up in different partitions and batches
+				EMFUtils.eGetMany(element, links).add(elementList.get((i + ELEMENT_COUNT / 2) % ELEMENT_COUNT));
+				EMFUtils.eGetMany(element, links).add(elementList.get((i + 1) % ELEMENT_COUNT));
+				element.eSet(partner, elementList.get(ELEMENT_COUNT - 1 - i).eGet(child));
+			}
+		}
+		sphere.batchInsertModelData(model);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass containerClass = tx.getEClassByQualifiedName("parallel::Container");
+			EAttribute name = tx.getEAttributeByQualifiedName("parallel::Element#name");
+			EAttribute tags = tx.getEAttributeByQualifiedName("parallel::Element#tags");
+			EReference elements = tx.getEReferenceByQualifiedName("parallel::Container#elements");
+			EReference links = tx.getEReferenceByQualifiedName("parallel::Element#links");
+			EReference partner = tx.getEReferenceByQualifiedName("parallel::Element#partner");
+			EReference child = tx.getEReferenceByQualifiedName("parallel::Element#child");
+			EObject container = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(containerClass).toSet());
+			List<EObject> elementList = EMFUtils.eGetMany(container, elements);
+			assertEquals(ELEMENT_COUNT, elementList.size());
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				EObject element = elementList.get(i);
+				assertEquals("e" + i, element.eGet(name));
+				assertEquals(Lists.newArrayList("t" + i, "x"), Lists.newArrayList(this.values(element, tags)));
+				assertEquals(container, element.eContainer());
+				assertEquals(elements, element.eContainingFeature());
+				EObject nested = (EObject) element.eGet(child);
+				assertEquals("n" + i, nested.eGet(name));
+				assertEquals(element, nested.eContainer());
+				assertEquals(child, nested.eContainingFeature());
+				List<EObject> expectedLinks = Lists.newArrayList(
+						elementList.get((i + ELEMENT_COUNT / 2) % ELEMENT_COUNT),
+						elementList.get((i + 1) % ELEMENT_COUNT));
+				assertEquals(expectedLinks, Lists.newArrayList(EMFUtils.eGetMany(element, links)));
+				assertEquals(elementList.get(ELEMENT_COUNT - 1 - i).eGet(child), element.eGet(partner));
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> values(final EObject eObject, final EAttribute eAttribute) {
+		return (List<Object>) eObject.eGet(eAttribute);
+	}
+
+	private EPackage createEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("parallel");
+		ePackage.setNsURI("http://www.example.com/parallel");
+		ePackage.setNsPrefix("parallel");
+		EClass containerClass = EcoreFactory.eINSTANCE.createEClass();
+		containerClass.setName("Container");
+		ePackage.getEClassifiers().add(containerClass);
+		EClass elementClass = EcoreFactory.eINSTANCE.createEClass();
+		elementClass.setName("Element");
+		ePackage.getEClassifiers().add(elementClass);
+		{
+			EReference elements = EcoreFactory.eINSTANCE.createEReference();
+			elements.setName("elements");
+			elements.setLowerBound(0);
+			elements.setUpperBound(-1);
+			elements.setOrdered(true);
+			elements.setContainment(true);
+			elements.setEType(elementClass);
+			containerClass.getEStructuralFeatures().add(elements);
+		}
+		{
+			EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+			name.setName("name");
+			name.setEType(EcorePackage.Literals.ESTRING);
+			elementClass.getEStructuralFeatures().add(name);
+			EAttribute tags = EcoreFactory.eINSTANCE.createEAttribute();
+			tags.setName("tags");
+			tags.setLowerBound(0);
+			tags.setUpperBound(-1);
+			tags.setEType(EcorePackage.Literals.ESTRING);
+			elementClass.getEStructuralFeatures().add(tags);
+			EReference links = EcoreFactory.eINSTANCE.createEReference();
+			links.setName("links");
+			links.setLowerBound(0);
+			links.setUpperBound(-1);
+			links.setOrdered(true);
+			links.setContainment(false);
+			links.setEType(elementClass);
+			elementClass.getEStructuralFeatures().add(links);
+			EReference partner = EcoreFactory.eINSTANCE.createEReference();
+			partner.setName("partner");
+			partner.setContainment(false);
+			partner.setEType(elementClass);
+			elementClass.getEStructuralFeatures().add(partner);
+			EReference child = EcoreFactory.eINSTANCE.createEReference();
+			child.setName("child");
+			child.setContainment(true);
+			child.setEType(elementClass);
+			elementClass.getEStructuralFeatures().add(child);
+		}
+		return ePackage;
+	}
+
+}
@@ -0,0 +1,432 @@
+package org.chronos.chronosphere.test.batchinsert;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.exceptions.emf.XMIConversionFailedException;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+@Category(IntegrationTest.class)
+public class XMIBatchInsertTest extends AllChronoSphereBackendsTest {
+
+	@Test
+	public void canBatchInsertXMIWithFragmentPathReferences() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		String xmi = null;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass containerClass = tx.getEClassByQualifiedName("batch::Container");
+			EClass elementClass = tx.getEClassByQualifiedName("batch::Element");
+			EAttribute name = tx.getEAttributeByQualifiedName("batch::Element#name");
+			EAttribute rank = tx.getEAttributeByQualifiedName("batch::Element#rank");
+			EAttribute tags = tx.getEAttributeByQualifiedName("batch::Element#tags");
+			EReference elements = tx.getEReferenceByQualifiedName("batch::Container#elements");
+			EReference links = tx.getEReferenceByQualifiedName("batch::Element#links");
+			EReference partner = tx.getEReferenceByQualifiedName("batch::Element#partner");
+			EReference child = tx.getEReferenceByQualifiedName("batch::Element#child");
+			// create the model in-memory
+			EObject container = EcoreUtil.create(containerClass);
+			List<EObject> elementList = Lists.newArrayList();
+			for (int i = 0; i < 5; i++) {
+				EObject element = EcoreUtil.create(elementClass);
+				element.eSet(name, "e" + i);
+				element.eSet(rank, i);
+				this.values(element, tags).addAll(Lists.newArrayList("t" + i, "x"));
+				elementList.add(element);
+			}
+			EMFUtils.eGetMany(container, elements).addAll(elementList);
+			EObject nested = EcoreUtil.create(elementClass);
+			nested.eSet(name, "nested");
+			elementList.get(0).eSet(child, nested);
+			for (int i = 0; i < 5; i++) {
+				EObject element = elementList.get(i);
+				// forward and backward references
+				EMFUtils.eGetMany(element, links).add(elementList.get((i + 3) % 5));
+				EMFUtils.eGetMany(element, links).add(elementList.get((i + 1) % 5));
+				element.eSet(partner, elementList.get(4 - i));
+			}
+			EMFUtils.eGetMany(elementList.get(3), links).add(nested);
+			// write it to XMI without IDs, such that the references are expressed as fragment paths
+			xmi = EMFUtils.writeEObjectToXMI(container);
+			assertFalse(xmi.contains("xmi:id"));
+		}
+		sphere.batchInsertModelData(xmi);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass containerClass = tx.getEClassByQualifiedName("batch::Container");
+			EAttribute name = tx.getEAttributeByQualifiedName("batch::Element#name");
+			EAttribute rank = tx.getEAttributeByQualifiedName("batch::Element#rank");
+			EAttribute tags = tx.getEAttributeByQualifiedName("batch::Element#tags");
+			EReference elements = tx.getEReferenceByQualifiedName("batch::Container#elements");
+			EReference links = tx.getEReferenceByQualifiedName("batch::Element#links");
+			EReference partner = tx.getEReferenceByQualifiedName("batch::Element#partner");
+			EReference child = tx.getEReferenceByQualifiedName("batch::Element#child");
+			EObject container = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(containerClass).toSet());
+			List<EObject> elementList = EMFUtils.eGetMany(container, elements);
+			assertEquals(Lists.newArrayList("e0", "e1", "e2", "e3", "e4"), this.names(elementList, name));
+			for (int i = 0; i < 5; i++) {
+				EObject element = elementList.get(i);
+				assertEquals(container, element.eContainer());
+				assertEquals(elements, element.eContainingFeature());
+				assertEquals(i, element.eGet(rank));
+				assertEquals(Lists.newArrayList("t" + i, "x"), Lists.newArrayList(this.values(element, tags)));
+				assertEquals(elementList.get(4 - i), element.eGet(partner));
+				List<EObject> expectedLinks = Lists.newArrayList(elementList.get((i + 3) % 5),
+						elementList.get((i + 1) % 5));
+				if (i == 3) {
+					expectedLinks.add((EObject) elementList.get(0).eGet(child));
+				}
+				assertEquals(expectedLinks, Lists.newArrayList(EMFUtils.eGetMany(element, links)));
+			}
+			EObject nested = (EObject) elementList.get(0).eGet(child);
+			assertNotNull(nested);
+			assertEquals("nested", nested.eGet(name));
+			assertEquals(elementList.get(0), nested.eContainer());
+			assertEquals(child, nested.eContainingFeature());
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__BATCH_SIZE, value = "2")
+	public void canBatchInsertXMIWithIDReferencesAndMultipleRoots() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		StringBuilder xmi = new StringBuilder();
+		xmi.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xmi.append("<xmi:XMI xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ");
+		xmi.append("xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" ");
+		xmi.append("xmlns:batch=\"http://www.example.com/batch\">\n");
+		// the references of 'a' point to EObjects which appear later in the document
+		xmi.append("  <batch:Element xmi:id=\"a\" name=\"A\" partner=\"c\" links=\"c b\">\n");
+		xmi.append("    <tags>one</tags>\n");
+		xmi.append("    <tags>two</tags>\n");
+		xmi.append("  </batch:Element>\n");
+		xmi.append("  <batch:Container xmi:id=\"root\">\n");
+		xmi.append("    <elements xmi:id=\"b\" name=\"B\" links=\"a\"/>\n");
+		xmi.append("    <elements xsi:type=\"batch:SpecialElement\" xmi:id=\"c\" name=\"C\" special=\"true\">\n");
+		xmi.append("      <partner href=\"#a\"/>\n");
+		xmi.append("      <rank>42</rank>\n");
+		xmi.append("    </elements>\n");
+		xmi.append("  </batch:Container>\n");
+		xmi.append("</xmi:XMI>\n");
+		sphere.batchInsertModelData(xmi.toString());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass elementClass = tx.getEClassByQualifiedName("batch::Element");
+			EClass specialElementClass = tx.getEClassByQualifiedName("batch::SpecialElement");
+			EAttribute name = tx.getEAttributeByQualifiedName("batch::Element#name");
+			EAttribute rank = tx.getEAttributeByQualifiedName("batch::Element#rank");
+			EAttribute tags = tx.getEAttributeByQualifiedName("batch::Element#tags");
+			EAttribute special = tx.getEAttributeByQualifiedName("batch::SpecialElement#special");
+			EReference links = tx.getEReferenceByQualifiedName("batch::Element#links");
+			EReference partner = tx.getEReferenceByQualifiedName("batch::Element#partner");
+			EObject a = Iterables.getOnlyElement(tx.find().startingFromEObjectsWith(name, "A").toSet());
+			EObject b = Iterables.getOnlyElement(tx.find().startingFromEObjectsWith(name, "B").toSet());
+			EObject c = Iterables.getOnlyElement(tx.find().startingFromEObjectsWith(name, "C").toSet());
+			assertNull(a.eContainer());
+			assertNotNull(b.eContainer());
+			assertEquals(b.eContainer(), c.eContainer());
+			assertEquals(specialElementClass, c.eClass());
+			assertEquals(true, c.eGet(special));
+			assertEquals(42, c.eGet(rank));
+			assertEquals(Lists.newArrayList("one", "two"), Lists.newArrayList(this.values(a, tags)));
+			assertEquals(Lists.newArrayList(c, b), Lists.newArrayList(EMFUtils.eGetMany(a, links)));
+			assertEquals(Lists.newArrayList(a), Lists.newArrayList(EMFUtils.eGetMany(b, links)));
+			assertEquals(c, a.eGet(partner));
+			assertEquals(a, c.eGet(partner));
+		}
+	}
+
+	@Test
+	public void danglingReferencesAreIgnored() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		StringBuilder xmi = new StringBuilder();
+		xmi.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xmi.append("<batch:Container xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ");
+		xmi.append("xmlns:batch=\"http://www.example.com/batch\">\n");
+		xmi.append("  <elements xmi:id=\"a\" name=\"A\" partner=\"missing\" links=\"b missing a\"/>\n");
+		xmi.append("  <elements xmi:id=\"b\" name=\"B\">\n");
+		xmi.append("    <partner href=\"#missing\"/>\n");
+		xmi.append("  </elements>\n");
+		xmi.append("</batch:Container>\n");
+		sphere.batchInsertModelData(xmi.toString());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EAttribute name = tx.getEAttributeByQualifiedName("batch::Element#name");
+			EReference links = tx.getEReferenceByQualifiedName("batch::Element#links");
+			EReference partner = tx.getEReferenceByQualifiedName("batch::Element#partner");
+			EObject a = Iterables.getOnlyElement(tx.find().startingFromEObjectsWith(name, "A").toSet());
+			EObject b = Iterables.getOnlyElement(tx.find().startingFromEObjectsWith(name, "B").toSet());
+			assertEquals(Lists.newArrayList(b, a), Lists.newArrayList(EMFUtils.eGetMany(a, links)));
+			assertNull(a.eGet(partner));
+			assertNull(b.eGet(partner));
+		}
+	}
+
+	@Test
+	public void failedBatchInsertRemovesTemporaryFiles() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		int spillFilesBefore = this.countSpillFiles();
+		StringBuilder xmi = new StringBuilder();
+		xmi.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		xmi.append("<batch:Container xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" ");
+		xmi.append("xmlns:batch=\"http://www.example.com/batch\">\n");
+		xmi.append("  <elements xmi:id=\"a\" name=\"A\" links=\"b\"/>\n");
+		xmi.append("  <elements xmi:id=\"b\" name=\"B\" unknownFeature=\"x\"/>\n");
+		xmi.append("</batch:Container>\n");
+		try {
+			sphere.batchInsertModelData(xmi.toString());
+			fail("Managed to import XMI with an unknown feature!");
+		} catch (XMIConversionFailedException expected) {
+			// pass
+		}
+		assertEquals(spillFilesBefore, this.countSpillFiles());
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.BATCH_INSERT__BATCH_SIZE, value = "100")
+	public void heapUsageOfStreamingBatchInsertDoesNotDependOnDocumentSize() throws Exception {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		int spillFilesBefore = this.countSpillFiles();
+		int elementCount = 1000;
+		// every element is followed by a large comment; the document is much larger than the resulting model
+		GeneratedXMIInputStream xmi = new GeneratedXMIInputStream(elementCount, 128 * 1024);
+		long baseline = xmi.measureUsedHeap();
+		sphere.batchInsertModelData(xmi);
+		long documentSize = xmi.getGeneratedBytes();
+		assertTrue(documentSize > 100 * 1024 * 1024);
+		long heapGrowth = xmi.getPeakUsedHeap() - baseline;
+		// holding the document in memory (e.g. as a String) would take at least twice its size
+		assertTrue("Heap grew by " + heapGrowth + " bytes while importing a document of " + documentSize + " bytes!",
+				heapGrowth < documentSize / 4);
+		assertEquals(spillFilesBefore, this.countSpillFiles());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass containerClass = tx.getEClassByQualifiedName("batch::Container");
+			EAttribute name = tx.getEAttributeByQualifiedName("batch::Element#name");
+			EReference elements = tx.getEReferenceByQualifiedName("batch::Container#elements");
+			EReference links = tx.getEReferenceByQualifiedName("batch::Element#links");
+			EObject container = Iterables.getOnlyElement(tx.find().startingFromInstancesOf(containerClass).toSet());
+			List<EObject> elementList = EMFUtils.eGetMany(container, elements);
+			assertEquals(elementCount, elementList.size());
+			for (int i = 0; i < elementCount; i++) {
+				EObject element = elementList.get(i);
+				assertEquals("e" + i, element.eGet(name));
+				// each element refers to the next one, which has not been read yet when the reference is encountered
+				EObject next = elementList.get((i + 1) % elementCount);
+				assertEquals(Lists.newArrayList(next), Lists.newArrayList(EMFUtils.eGetMany(element, links)));
+			}
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private int countSpillFiles() {
+		File[] files = new File(System.getProperty("java.io.tmpdir"))
+				.listFiles((dir, fileName) -> fileName.startsWith("chronosphere-xmi-references"));
+		return files == null ? 0 : files.length;
+	}
+
+	private List<Object> names(final List<EObject> eObjects, final EAttribute name) {
+		return eObjects.stream().map(eObject -> eObject.eGet(name)).collect(Collectors.toList());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> values(final EObject eObject, final EAttribute eAttribute) {
+		return (List<Object>) eObject.eGet(eAttribute);
+	}
+
+	private EPackage createEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("batch");
+		ePackage.setNsURI("http://www.example.com/batch");
+		ePackage.setNsPrefix("batch");
+		EClass containerClass = EcoreFactory.eINSTANCE.createEClass();
+		containerClass.setName("Container");
+		ePackage.getEClassifiers().add(containerClass);
+		EClass elementClass = EcoreFactory.eINSTANCE.createEClass();
+		elementClass.setName("Element");
+		ePackage.getEClassifiers().add(elementClass);
+		EClass specialElementClass = EcoreFactory.eINSTANCE.createEClass();
+		specialElementClass.setName("SpecialElement");
+		specialElementClass.getESuperTypes().add(elementClass);
+		ePackage.getEClassifiers().add(specialElementClass);
+		{
+			EReference elements = EcoreFactory.eINSTANCE.createEReference();
+			elements.setName("elements");
+			elements.setLowerBound(0);
+			elements.setUpperBound(-1);
+			elements.setOrdered(true);
+			elements.setContainment(true);
+			elements.setEType(elementClass);
+			containerClass.getEStructuralFeatures().add(elements);
+		}
+		{
+			EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+			name.setName("name");
+			name.setEType(EcorePackage.Literals.ESTRING);
+			elementClass.getEStructuralFeatures().add(name);
+			EAttribute rank = EcoreFactory.eINSTANCE.createEAttribute();
+			rank.setName("rank");
+			rank.setEType(EcorePackage.Literals.EINT);
+			elementClass.getEStructuralFeatures().add(rank);
+			EAttribute tags = EcoreFactory.eINSTANCE.createEAttribute();
+			tags.setName("tags");
+			tags.setLowerBound(0);
+			tags.setUpperBound(-1);
+			tags.setEType(EcorePackage.Literals.ESTRING);
+			elementClass.getEStructuralFeatures().add(tags);
+			EReference links = EcoreFactory.eINSTANCE.createEReference();
+			links.setName("links");
+			links.setLowerBound(0);
+			links.setUpperBound(-1);
+			links.setOrdered(true);
+			links.setContainment(false);
+			links.setEType(elementClass);
+			elementClass.getEStructuralFeatures().add(links);
+			EReference partner = EcoreFactory.eINSTANCE.createEReference();
+			partner.setName("partner");
+			partner.setContainment(false);
+			partner.setEType(elementClass);
+			elementClass.getEStructuralFeatures().add(partner);
+			EReference child = EcoreFactory.eINSTANCE.createEReference();
+			child.setName("child");
+			child.setContainment(true);
+			child.setEType(elementClass);
+			elementClass.getEStructuralFeatures().add(child);
+		}
+		{
+			EAttribute special = EcoreFactory.eINSTANCE.createEAttribute();
+			special.setName("special");
+			special.setEType(EcorePackage.Literals.EBOOLEAN);
+			specialElementClass.getEStructuralFeatures().add(special);
+		}
+		return ePackage;
+	}
+
+	// =================================================================================================================
+	// INNER CLASSES
+	// =================================================================================================================
+
+	/**
+	 * Generates an XMI document with a container of elements on the fly, such that the document never exists in memory
+	 * as a whole. While generating, the stream keeps track of the peak heap usage.
+	 */
+	private static class GeneratedXMIInputStream extends InputStream {
+
+		private static final int ELEMENTS_PER_HEAP_MEASUREMENT = 100;
+
+		private final int elementCount;
+		private final byte[] comment;
+
+		private int nextChunk = 0;
+		private byte[] chunk = new byte[0];
+		private int position = 0;
+		private long generatedBytes = 0;
+		private long peakUsedHeap = 0;
+
+		public GeneratedXMIInputStream(final int elementCount, final int commentSize) {
+			this.elementCount = elementCount;
+			byte[] commentText = new byte[commentSize];
+			Arrays.fill(commentText, (byte) 'x');
+			this.comment = ("<!-- " + new String(commentText, StandardCharsets.US_ASCII) + " -->\n")
+					.getBytes(StandardCharsets.US_ASCII);
+		}
+
+		@Override
+		public int read() {
+			if (this.position >= this.chunk.length && this.nextChunk() == false) {
+				return -1;
+			}
+			this.generatedBytes++;
+			return this.chunk[this.position++] & 0xFF;
+		}
+
+		@Override
+		public int read(final byte[] buffer, final int offset, final int length) {
+			if (length == 0) {
+				return 0;
+			}
+			if (this.position >= this.chunk.length && this.nextChunk() == false) {
+				return -1;
+			}
+			int count = Math.min(length, this.chunk.length - this.position);
+			System.arraycopy(this.chunk, this.position, buffer, offset, count);
+			this.position += count;
+			this.generatedBytes += count;
+			return count;
+		}
+
+		public long getGeneratedBytes() {
+			return this.generatedBytes;
+		}
+
+		public long getPeakUsedHeap() {
+			return this.peakUsedHeap;
+		}
+
+		public long measureUsedHeap() {
+			System.gc();
+			Runtime runtime = Runtime.getRuntime();
+			long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+			this.peakUsedHeap = Math.max(this.peakUsedHeap, usedHeap);
+			return usedHeap;
+		}
+
+		private boolean nextChunk() {
+			// chunk 0 is the header, followed by one element and one comment per element, followed by the footer
+			int chunkIndex = this.nextChunk++;
+			int lastChunk = 2 * this.elementCount + 1;
+			if (chunkIndex > lastChunk) {
+				return false;
+			}
+			if (chunkIndex == 0) {
+				this.chunk = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+						+ "<batch:Container xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" "
+						+ "xmlns:batch=\"http://www.example.com/batch\">\n").getBytes(StandardCharsets.UTF_8);
+			} else if (chunkIndex == lastChunk) {
+				this.chunk = "</batch:Container>\n".getBytes(StandardCharsets.UTF_8);
+			} else if (chunkIndex % 2 == 1) {
+				int element = chunkIndex / 2;
+				if (element % ELEMENTS_PER_HEAP_MEASUREMENT == 0) {
+					this.measureUsedHeap();
+				}
+				int nextElement = (element + 1) % this.elementCount;
+				this.chunk = ("  <elements xmi:id=\"e" + element + "\" name=\"e" + element + "\" links=\"e"
+						+ nextElement + "\"/>\n").getBytes(StandardCharsets.UTF_8);
+			} else {
+				this.chunk = this.comment;
+			}
+			this.position = 0;
+			return true;
+		}
+
+	}
+
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
 import org.chronos.chronosphere.test.emf.estore.base.EStoreTest;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
@@ -15,6 +16,8 @@ import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
 import org.junit.Test;
 
+import com.google.common.collect.Lists;
+
 public class BasicEStoreTest extends EStoreTest {
 
 	// =================================================================================================================
@@ -474,6 +477,56 @@ public class BasicEStoreTest extends EStoreTest {
 		assertFalse(EMFUtils.eGetMany(eObj3, eRef).contains(eObj2));
 	}
 
+	@Test
+	public void multiplicityManyCrossRefPreservesOrderOnModification() {
+		this.createEPackageMultiplicityManyCrossRefNoOpposite();
+		EPackage ePackage = this.getEPackageByNsURI("http://www.example.com/model");
+		EClass myClass = (EClass) ePackage.getEClassifier("MyEClass");
+		EClass yourClass = (EClass) ePackage.getEClassifier("YourEClass");
+		EReference childRef = (EReference) myClass.getEStructuralFeature("children");
+		assertNotNull(childRef);
+		EObject parent = this.createEObject(myClass);
+		List<EObject> children = Lists.newArrayList();
+		for (int i = 0; i < 5; i++) {
+			children.add(this.createEObject(yourClass));
+		}
+		EObject other = this.createEObject(yourClass);
+
+		EList<EObject> targets = EMFUtils.eGetMany(parent, childRef);
+		targets.addAll(children);
+		this.assertListEquals(children, targets);
+
+		// insert in the middle
+		targets.add(2, other);
+		children.add(2, other);
+		this.assertListEquals(children, targets);
+
+		// move an element to the front
+		targets.move(0, 4);
+		children.add(0, children.remove(4));
+		this.assertListEquals(children, targets);
+
+		// remove by index
+		targets.remove(3);
+		children.remove(3);
+		this.assertListEquals(children, targets);
+
+		// replace by index
+		EObject replacement = this.createEObject(yourClass);
+		EObject replaced = targets.set(1, replacement);
+		children.set(1, replacement);
+		assertFalse(targets.contains(replaced));
+		this.assertListEquals(children, targets);
+
+		// fresh access to the list must yield the same result
+		this.assertListEquals(children, EMFUtils.eGetMany(parent, childRef));
+
+		targets.clear();
+		assertTrue(targets.isEmpty());
+		assertEquals(-1, targets.indexOf(other));
+		assertFalse(parent.eIsSet(childRef));
+	}
+
 	// =================================================================================================================
 	// CONTAINMENT EREFERENCE TESTS
 	// =================================================================================================================
@@ -1149,4 +1202,18 @@ public class BasicEStoreTest extends EStoreTest {
 		this.registerEPackages(ePackage);
 	}
 
+	// =====================================================================================================================
+	// HELPER METHODS
+	// =====================================================================================================================
+
+	private void assertListEquals(final List<EObject> expected, final List<EObject> actual) {
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), actual.get(i));
+			assertEquals(i, actual.indexOf(expected.get(i)));
+			assertTrue(actual.contains(expected.get(i)));
+		}
+		assertEquals(expected, Lists.newArrayList(actual));
+	}
+
 }
@@ -91,6 +91,21 @@ public class GrabatsTest extends AllChronoSphereBackendsTest {
 
 	}
 
+	@Test
+	public void canLoadGrabatsSet0withStreamingBatchLoad() throws Exception {
+		ChronoSphere sphere = this.getChronoSphere();
+		registerGrabatsMetamodels(sphere);
+		long timeBeforeBatchLoad = System.currentTimeMillis();
+		// stream the XMI directly from the (compressed) resource, without loading it into a String first
+		try (InputStream stream = new GZIPInputStream(GrabatsMetamodel.class.getClassLoader()
+				.getResourceAsStream("testinstancemodels/grabats/set0.xmi.gz"))) {
+			sphere.batchInsertModelData(stream);
+		}
+		long timeAfterBatchLoad = System.currentTimeMillis();
+		ChronoLogger.logInfo("Streamed GRABATS set0.xmi into ChronoSphere in "
+				+ (timeAfterBatchLoad - timeBeforeBatchLoad) + "ms.");
+	}
+
 	// =====================================================================================================================
 	// INTERNAL HELPER METHODS
 	// =====================================================================================================================
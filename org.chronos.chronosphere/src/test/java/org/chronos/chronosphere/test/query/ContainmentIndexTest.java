@@ -0,0 +1,280 @@
+package org.chronos.chronosphere.test.query;
+
+import static org.chronos.chronosphere.testutils.ChronoSphereTestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.query.EObjectQueryStepBuilder;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.impl.StandardChronoSphere;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class ContainmentIndexTest extends AllChronoSphereBackendsTest {
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, value = "true")
+	public void canQueryEAllContentsAndEAllContainersWithContainmentIndex() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertTrue(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			this.createTree(tx);
+			assertCommitAssert(tx, t -> {
+				assertEquals(Sets.newHashSet("a", "a1", "a2", "a21", "b"),
+						this.nameSet(t, "root", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Sets.newHashSet("a1", "a2", "a21"),
+						this.nameSet(t, "a", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Sets.newHashSet(), this.nameSet(t, "b", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Lists.newArrayList("a2", "a", "root"),
+						this.nameList(t, "a21", EObjectQueryStepBuilder::eAllContainers));
+				assertEquals(Lists.newArrayList(), this.nameList(t, "root", EObjectQueryStepBuilder::eAllContainers));
+			});
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, value = "true")
+	public void movingSubtreeUpdatesContainmentIndex() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		long timestampBeforeMove;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			this.createTree(tx);
+			tx.commit();
+			timestampBeforeMove = tx.getTimestamp();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			// move 'a2' (including 'a21') from 'a' to 'b'
+			EReference children = tx.getEReferenceByQualifiedName("tree::Node#children");
+			EMFUtils.eGetMany(this.find(tx, "b"), children).add(this.find(tx, "a2"));
+			assertCommitAssert(tx, t -> {
+				assertEquals(Sets.newHashSet("a1"), this.nameSet(t, "a", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Sets.newHashSet("a2", "a21"),
+						this.nameSet(t, "b", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Lists.newArrayList("a2", "b", "root"),
+						this.nameList(t, "a21", EObjectQueryStepBuilder::eAllContainers));
+			});
+		}
+		// the history is unaffected
+		try (ChronoSphereTransaction tx = sphere.tx(timestampBeforeMove)) {
+			assertEquals(Sets.newHashSet("a1", "a2", "a21"),
+					this.nameSet(tx, "a", EObjectQueryStepBuilder::eAllContents));
+			assertEquals(Lists.newArrayList("a2", "a", "root"),
+					this.nameList(tx, "a21", EObjectQueryStepBuilder::eAllContainers));
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, value = "true")
+	public void deletingEContainerWithoutCascadeUpdatesContainmentIndex() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			this.createTree(tx);
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			tx.delete(this.find(tx, "a"), false);
+			assertCommitAssert(tx, t -> {
+				assertEquals(Sets.newHashSet("b"), this.nameSet(t, "root", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Lists.newArrayList("a2"),
+						this.nameList(t, "a21", EObjectQueryStepBuilder::eAllContainers));
+				assertEquals(Lists.newArrayList(), this.nameList(t, "a2", EObjectQueryStepBuilder::eAllContainers));
+			});
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, value = "true")
+	public void containmentIndexWorksOnBranches() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			this.createTree(tx);
+			tx.commit();
+		}
+		sphere.getBranchManager().createBranch("test");
+		try (ChronoSphereTransaction tx = sphere.tx("test")) {
+			assertTrue(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			EReference children = tx.getEReferenceByQualifiedName("tree::Node#children");
+			EMFUtils.eGetMany(this.find(tx, "a21"), children).add(this.find(tx, "b"));
+			assertCommitAssert(tx, t -> {
+				assertEquals(Sets.newHashSet("a1", "a2", "a21", "b"),
+						this.nameSet(t, "a", EObjectQueryStepBuilder::eAllContents));
+				assertEquals(Lists.newArrayList("a21", "a2", "a", "root"),
+						this.nameList(t, "b", EObjectQueryStepBuilder::eAllContainers));
+			});
+		}
+		// the master branch is unaffected
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertEquals(Sets.newHashSet("a1", "a2", "a21"),
+					this.nameSet(tx, "a", EObjectQueryStepBuilder::eAllContents));
+			assertEquals(Lists.newArrayList("root"), this.nameList(tx, "b", EObjectQueryStepBuilder::eAllContainers));
+		}
+	}
+
+	@Test
+	public void canInitializeContainmentIndexOnExistingData() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		long timestampBeforeIndex;
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			assertFalse(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			this.createTree(tx);
+			tx.commit();
+			timestampBeforeIndex = tx.getTimestamp();
+		}
+		// open the same graph with the containment index enabled
+		Configuration configuration = new BaseConfiguration();
+		configuration.setProperty(ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, "true");
+		ChronoSphere indexedSphere = new StandardChronoSphere(this.getChronoSphere().getRootGraph(), configuration);
+		try (ChronoSphereTransaction tx = indexedSphere.tx()) {
+			assertTrue(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			assertEquals(Sets.newHashSet("a", "a1", "a2", "a21", "b"),
+					this.nameSet(tx, "root", EObjectQueryStepBuilder::eAllContents));
+			assertEquals(Lists.newArrayList("a2", "a", "root"),
+					this.nameList(tx, "a21", EObjectQueryStepBuilder::eAllContainers));
+		}
+		// before the initialization, the queries fall back to walking the containment tree
+		try (ChronoSphereTransaction tx = indexedSphere.tx(timestampBeforeIndex)) {
+			assertFalse(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			assertEquals(Sets.newHashSet("a", "a1", "a2", "a21", "b"),
+					this.nameSet(tx, "root", EObjectQueryStepBuilder::eAllContents));
+			assertEquals(Lists.newArrayList("a2", "a", "root"),
+					this.nameList(tx, "a21", EObjectQueryStepBuilder::eAllContainers));
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, value = "true")
+	public void reEnablingContainmentIndexRepairsOutdatedEntriesDeepInTheTree() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			this.createTree(tx);
+			tx.commit();
+		}
+		// disable the containment index and move 'a21' from 'a2' to 'a1'
+		Configuration disabled = new BaseConfiguration();
+		disabled.setProperty(ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, "false");
+		ChronoSphere unindexedSphere = new StandardChronoSphere(this.getChronoSphere().getRootGraph(), disabled);
+		try (ChronoSphereTransaction tx = unindexedSphere.tx()) {
+			assertFalse(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			EReference children = tx.getEReferenceByQualifiedName("tree::Node#children");
+			EMFUtils.eGetMany(this.find(tx, "a1"), children).add(this.find(tx, "a21"));
+			tx.commit();
+		}
+		// the eAncestors of 'a1' and 'a2' are still valid, but the ones of 'a21' are outdated
+		Configuration enabled = new BaseConfiguration();
+		enabled.setProperty(ChronoSphereConfiguration.CONTAINMENT_INDEX__ENABLED, "true");
+		ChronoSphere indexedSphere = new StandardChronoSphere(this.getChronoSphere().getRootGraph(), enabled);
+		try (ChronoSphereTransaction tx = indexedSphere.tx()) {
+			assertTrue(((ChronoSphereTransactionInternal) tx).isContainmentIndexPresent());
+			assertEquals(Sets.newHashSet("a21"), this.nameSet(tx, "a1", EObjectQueryStepBuilder::eAllContents));
+			assertEquals(Sets.newHashSet(), this.nameSet(tx, "a2", EObjectQueryStepBuilder::eAllContents));
+			assertEquals(Lists.newArrayList("a1", "a", "root"),
+					this.nameList(tx, "a21", EObjectQueryStepBuilder::eAllContainers));
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	private EPackage createEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("tree");
+		ePackage.setNsPrefix("tree");
+		ePackage.setNsURI("http://www.example.com/tree");
+		EClass node = EcoreFactory.eINSTANCE.createEClass();
+		node.setName("Node");
+		ePackage.getEClassifiers().add(node);
+		EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+		name.setName("name");
+		name.setEType(EcorePackage.Literals.ESTRING);
+		node.getEStructuralFeatures().add(name);
+		EReference children = EcoreFactory.eINSTANCE.createEReference();
+		children.setName("children");
+		children.setEType(node);
+		children.setContainment(true);
+		children.setLowerBound(0);
+		children.setUpperBound(-1);
+		node.getEStructuralFeatures().add(children);
+		return ePackage;
+	}
+
+	/**
+	 * Creates the following tree:
+	 *
+	 * <pre>
+	 * root
+	 *  +- a
+	 *  |  +- a1
+	 *  |  +- a2
+	 *  |     +- a21
+	 *  +- b
+	 * </pre>
+	 */
+	private void createTree(final ChronoSphereTransaction tx) {
+		EObject root = this.createNode(tx, "root", null);
+		EObject a = this.createNode(tx, "a", root);
+		this.createNode(tx, "a1", a);
+		EObject a2 = this.createNode(tx, "a2", a);
+		this.createNode(tx, "a21", a2);
+		this.createNode(tx, "b", root);
+	}
+
+	private EObject createNode(final ChronoSphereTransaction tx, final String name, final EObject parent) {
+		EClass node = tx.getEClassByQualifiedName("tree::Node");
+		EObject eObject = tx.createAndAttach(node);
+		eObject.eSet(tx.getEAttributeByQualifiedName("tree::Node#name"), name);
+		if (parent != null) {
+			EMFUtils.eGetMany(parent, tx.getEReferenceByQualifiedName("tree::Node#children")).add(eObject);
+		}
+		return eObject;
+	}
+
+	private EObject find(final ChronoSphereTransaction tx, final String name) {
+		EAttribute nameAttribute = tx.getEAttributeByQualifiedName("tree::Node#name");
+		return Iterables.getOnlyElement(tx.find().startingFromEObjectsWith(nameAttribute, name).toSet());
+	}
+
+	private List<String> nameList(final ChronoSphereTransaction tx, final String name,
+			final Function<EObjectQueryStepBuilder<EObject>, EObjectQueryStepBuilder<EObject>> step) {
+		EAttribute nameAttribute = tx.getEAttributeByQualifiedName("tree::Node#name");
+		List<EObject> eObjects = step.apply(tx.find().startingFromEObject(this.find(tx, name))).toList();
+		return eObjects.stream().map(eObject -> (String) eObject.eGet(nameAttribute)).collect(Collectors.toList());
+	}
+
+	private Set<String> nameSet(final ChronoSphereTransaction tx, final String name,
+			final Function<EObjectQueryStepBuilder<EObject>, EObjectQueryStepBuilder<EObject>> step) {
+		return Sets.newHashSet(this.nameList(tx, name, step));
+	}
+
+}
@@ -1,6 +1,7 @@
 package org.chronos.chronosphere.test.query;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.chronos.chronosphere.api.ChronoSphere;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
@@ -10,10 +11,12 @@ import org.chronos.chronosphere.testmodels.instance.JohnDoeFamilyModel;
 import org.chronos.chronosphere.testmodels.meta.PersonMetamodel;
 import org.chronos.chronosphere.testutils.ChronoSphereTestUtils;
 import org.eclipse.emf.ecore.*;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.junit.Test;
 
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.chronos.chronosphere.api.query.SubQuery.*;
@@ -275,4 +278,64 @@ public class QueryAPITest extends AllChronoSphereBackendsTest {
 
     }
 
+    @Test
+    public void canFindInstancesOfSubclassesViaIsInstanceOf() {
+        ChronoSphere sphere = this.getChronoSphere();
+        // create an EPackage with a (transitive) class hierarchy: Sensor -> Device -> Component
+        EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+        ePackage.setName("components");
+        ePackage.setNsURI("http://www.example.com/components");
+        ePackage.setNsPrefix("components");
+        EClass component = EcoreFactory.eINSTANCE.createEClass();
+        component.setName("Component");
+        ePackage.getEClassifiers().add(component);
+        EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+        name.setName("name");
+        name.setEType(EcorePackage.Literals.ESTRING);
+        component.getEStructuralFeatures().add(name);
+        EClass device = EcoreFactory.eINSTANCE.createEClass();
+        device.setName("Device");
+        device.getESuperTypes().add(component);
+        ePackage.getEClassifiers().add(device);
+        EClass sensor = EcoreFactory.eINSTANCE.createEClass();
+        sensor.setName("Sensor");
+        sensor.getESuperTypes().add(device);
+        ePackage.getEClassifiers().add(sensor);
+        EClass other = EcoreFactory.eINSTANCE.createEClass();
+        other.setName("Other");
+        other.getEStructuralFeatures().add(EcoreUtil.copy(name));
+        ePackage.getEClassifiers().add(other);
+        sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+
+        ChronoSphereTransaction tx = sphere.tx();
+        for (String className : Lists.newArrayList("Component", "Device", "Sensor", "Other")) {
+            EClass eClass = tx.getEClassBySimpleName(className);
+            EObject eObject = tx.createAndAttach(eClass);
+            eObject.eSet(eClass.getEStructuralFeature("name"), className.toLowerCase());
+        }
+
+        ChronoSphereTestUtils.assertCommitAssert(tx, transaction -> {
+            EClass componentClass = transaction.getEClassBySimpleName("Component");
+            EClass deviceClass = transaction.getEClassBySimpleName("Device");
+            EClass sensorClass = transaction.getEClassBySimpleName("Sensor");
+            Function<Set<EObject>, Set<Object>> toNames = eObjects -> eObjects.stream()
+                .map(eObject -> eObject.eGet(eObject.eClass().getEStructuralFeature("name")))
+                .collect(Collectors.toSet());
+
+            assertEquals(Sets.newHashSet("component", "device", "sensor"), toNames.apply(
+                transaction.find().startingFromAllEObjects().isInstanceOf(componentClass).toSet()));
+            assertEquals(Sets.newHashSet("component"), toNames.apply(
+                transaction.find().startingFromAllEObjects().isInstanceOf(componentClass, false).toSet()));
+            assertEquals(Sets.newHashSet("device", "sensor"), toNames.apply(
+                transaction.find().startingFromAllEObjects().isInstanceOf(deviceClass, true).toSet()));
+            assertEquals(Sets.newHashSet("device", "sensor"), toNames.apply(
+                transaction.find().startingFromAllEObjects().isInstanceOf("Device", true).toSet()));
+            assertEquals(Sets.newHashSet("sensor"), toNames.apply(
+                transaction.find().startingFromAllEObjects().isInstanceOf(sensorClass, true).toSet()));
+            // the EClass instances of the original EPackage are resolved via the registry
+            assertEquals(Sets.newHashSet("component", "device", "sensor"), toNames.apply(
+                transaction.find().startingFromAllEObjects().isInstanceOf(component, true).toSet()));
+        });
+    }
+
 }
@@ -0,0 +1,226 @@
+package org.chronos.chronosphere.test.query;
+
+import static org.chronos.chronosphere.api.query.Prefetch.*;
+import static org.junit.Assert.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.chronos.chronodb.test.base.InstantiateChronosWith;
+import org.chronos.chronodb.test.util.TestUtils;
+import org.chronos.chronograph.api.structure.ChronoGraph;
+import org.chronos.chronograph.api.transaction.ChronoGraphTransaction;
+import org.chronos.chronograph.api.transaction.ChronoGraphTransactionManager;
+import org.chronos.chronograph.internal.api.transaction.ChronoGraphTransactionInternal;
+import org.chronos.chronosphere.api.ChronoSphere;
+import org.chronos.chronosphere.api.ChronoSphereTransaction;
+import org.chronos.chronosphere.api.query.Prefetch;
+import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.impl.query.EObjectReifyStep;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.configuration.api.ChronoSphereConfiguration;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
+import org.chronos.chronosphere.internal.ogm.api.VertexKind;
+import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
+import org.chronos.common.test.junit.categories.IntegrationTest;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EcoreFactory;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+@Category(IntegrationTest.class)
+public class QueryPrefetchTest extends AllChronoSphereBackendsTest {
+
+	private static final int ELEMENT_COUNT = 10;
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PREFETCH_BATCH_SIZE, value = "4")
+	public void canPrefetchQueryResults() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		this.createElements(sphere);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass elementClass = tx.getEClassByQualifiedName("prefetch::Element");
+			EAttribute name = tx.getEAttributeByQualifiedName("prefetch::Element#name");
+			EReference friends = tx.getEReferenceByQualifiedName("prefetch::Element#friends");
+			Prefetch prefetch = prefetch(name, friends);
+			List<EObject> elements = tx.find().startingFromInstancesOf(elementClass).toList(prefetch);
+			assertEquals(ELEMENT_COUNT, elements.size());
+			this.assertElements(elements, name, friends);
+			Set<EObject> elementSet = Sets.newHashSet(elements);
+			assertEquals(elementSet, tx.find().startingFromInstancesOf(elementClass).toSet());
+			assertEquals(elementSet, tx.find().startingFromInstancesOf(elementClass).toSet(prefetch));
+			assertEquals(elementSet,
+					Sets.newHashSet(tx.find().startingFromInstancesOf(elementClass).toIterator(prefetch)));
+			assertEquals(elementSet, tx.find().startingFromInstancesOf(elementClass).toStream(prefetch)
+					.collect(Collectors.toSet()));
+			// the targets of the prefetched reference resolve to the same EObjects
+			Set<EObject> allFriends = tx.find().startingFromInstancesOf(elementClass).eGet(friends)
+					.toSet(prefetch(name));
+			assertEquals(elementSet, allFriends);
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PREFETCH_BATCH_SIZE, value = "4")
+	public void prefetchingQueryResultsRespectsTransientChanges() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		this.createElements(sphere);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass elementClass = tx.getEClassByQualifiedName("prefetch::Element");
+			EAttribute name = tx.getEAttributeByQualifiedName("prefetch::Element#name");
+			EReference friends = tx.getEReferenceByQualifiedName("prefetch::Element#friends");
+			List<EObject> elements = tx.find().startingFromInstancesOf(elementClass).toList();
+			EObject first = elements.stream().filter(e -> "e0".equals(e.eGet(name))).findFirst().get();
+			first.eSet(name, "changed");
+			EObject added = tx.createAndAttach(elementClass);
+			added.eSet(name, "added");
+			EMFUtils.eGetMany(first, friends).add(added);
+			Set<String> names = tx.find().startingFromInstancesOf(elementClass).toList(prefetch(name, friends))
+					.stream().map(e -> (String) e.eGet(name)).collect(Collectors.toSet());
+			assertEquals(ELEMENT_COUNT + 1, names.size());
+			assertTrue(names.contains("changed"));
+			assertTrue(names.contains("added"));
+			assertFalse(names.contains("e0"));
+			Set<String> friendNames = tx.find().startingFromEObject(first).eGet(friends).toSet(prefetch(friends))
+					.stream().map(e -> (String) e.eGet(name)).collect(Collectors.toSet());
+			assertEquals(Sets.newHashSet("e1", "added"), friendNames);
+		}
+	}
+
+	@Test
+	@InstantiateChronosWith(property = ChronoSphereConfiguration.QUERY__PREFETCH_BATCH_SIZE, value = "4")
+	public void reifyingQueryResultsLoadsTheVerticesInBatches() {
+		ChronoSphere sphere = this.getChronoSphere();
+		sphere.getEPackageManager().registerOrUpdateEPackage(this.createEPackage());
+		this.createElements(sphere);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			ChronoSphereTransactionInternal txInternal = (ChronoSphereTransactionInternal) tx;
+			EClass elementClass = tx.getEClassByQualifiedName("prefetch::Element");
+			EReference friends = tx.getEReferenceByQualifiedName("prefetch::Element#friends");
+			List<Set<String>> prefetchCalls = Lists.newArrayList();
+			ChronoSphereTransactionInternal recordingTx = this.createPrefetchRecordingTransaction(txInternal,
+					prefetchCalls);
+			String eClassId = txInternal.getEPackageRegistry().getEClassID(elementClass);
+			GraphTraversal.Admin<Vertex, Vertex> traversal = txInternal.getGraph().traversal().V()
+					.has(ChronoSphereGraphFormat.V_PROP__ECLASS_ID, eClassId)
+					.has(ChronoSphereGraphFormat.V_PROP__KIND, VertexKind.EOBJECT.toString()).asAdmin();
+			List<EObject> elements = traversal
+					.addStep(new EObjectReifyStep<Vertex, EObject>(traversal, recordingTx, prefetch(friends)))
+					.toList();
+			assertEquals(ELEMENT_COUNT, elements.size());
+			// every batch of 4 elements is loaded with one call, plus one call for the targets of their friends
+			int batchCount = (ELEMENT_COUNT + 3) / 4;
+			assertEquals(batchCount * 2, prefetchCalls.size());
+			for (int batch = 0; batch < batchCount; batch++) {
+				int batchSize = Math.min(4, ELEMENT_COUNT - batch * 4);
+				assertEquals(batchSize, prefetchCalls.get(batch * 2).size());
+				assertEquals(batchSize, prefetchCalls.get(batch * 2 + 1).size());
+			}
+		}
+	}
+
+	// =================================================================================================================
+	// HELPER METHODS
+	// =================================================================================================================
+
+	@SuppressWarnings("unchecked")
+	private ChronoSphereTransactionInternal createPrefetchRecordingTransaction(final ChronoSphereTransactionInternal tx,
+			final List<Set<String>> prefetchCalls) {
+		ChronoGraph graph = tx.getGraph();
+		ChronoGraphTransactionManager txManager = graph.tx();
+		ChronoGraphTransaction graphTx = txManager.getCurrentTransaction();
+		ChronoGraphTransactionInternal recordingGraphTx = TestUtils.createProxy(ChronoGraphTransactionInternal.class,
+				(self, method, args) -> {
+					if (method.getName().equals("prefetchVertices")) {
+						prefetchCalls.add(Sets.newHashSet((Collection<String>) args[0]));
+					}
+					return method.invoke(graphTx, args);
+				});
+		ChronoGraphTransactionManager recordingTxManager = TestUtils.createProxy(ChronoGraphTransactionManager.class,
+				(self, method, args) -> {
+					if (method.getName().equals("getCurrentTransaction")) {
+						return recordingGraphTx;
+					}
+					return method.invoke(txManager, args);
+				});
+		ChronoGraph recordingGraph = TestUtils.createProxy(ChronoGraph.class, (self, method, args) -> {
+			if (method.getName().equals("tx")) {
+				return recordingTxManager;
+			}
+			return method.invoke(graph, args);
+		});
+		return TestUtils.createProxy(ChronoSphereTransactionInternal.class, (self, method, args) -> {
+			if (method.getName().equals("getGraph")) {
+				return recordingGraph;
+			}
+			return method.invoke(tx, args);
+		});
+	}
+
+	private void createElements(final ChronoSphere sphere) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass elementClass = tx.getEClassByQualifiedName("prefetch::Element");
+			EAttribute name = tx.getEAttributeByQualifiedName("prefetch::Element#name");
+			EReference friends = tx.getEReferenceByQualifiedName("prefetch::Element#friends");
+			List<EObject> elements = Lists.newArrayList();
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				EObject element = EcoreUtil.create(elementClass);
+				element.eSet(name, "e" + i);
+				elements.add(element);
+			}
+			for (int i = 0; i < ELEMENT_COUNT; i++) {
+				EMFUtils.eGetMany(elements.get(i), friends).add(elements.get((i + 1) % ELEMENT_COUNT));
+			}
+			tx.attach(elements);
+			tx.commit();
+		}
+	}
+
+	private void assertElements(final List<EObject> elements, final EAttribute name, final EReference friends) {
+		for (EObject element : elements) {
+			int index = Integer.parseInt(((String) element.eGet(name)).substring(1));
+			List<EObject> elementFriends = EMFUtils.eGetMany(element, friends);
+			assertEquals(1, elementFriends.size());
+			assertEquals("e" + (index + 1) % ELEMENT_COUNT, elementFriends.get(0).eGet(name));
+		}
+	}
+
+	private EPackage createEPackage() {
+		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
+		ePackage.setName("prefetch");
+		ePackage.setNsURI("http://www.example.com/prefetch");
+		ePackage.setNsPrefix("prefetch");
+		EClass elementClass = EcoreFactory.eINSTANCE.createEClass();
+		elementClass.setName("Element");
+		ePackage.getEClassifiers().add(elementClass);
+		EAttribute name = EcoreFactory.eINSTANCE.createEAttribute();
+		name.setName("name");
+		name.setEType(EcorePackage.Literals.ESTRING);
+		elementClass.getEStructuralFeatures().add(name);
+		EReference friends = EcoreFactory.eINSTANCE.createEReference();
+		friends.setName("friends");
+		friends.setLowerBound(0);
+		friends.setUpperBound(-1);
+		friends.setOrdered(true);
+		friends.setContainment(false);
+		friends.setEType(elementClass);
+		elementClass.getEStructuralFeatures().add(friends);
+		return ePackage;
+	}
+
+}
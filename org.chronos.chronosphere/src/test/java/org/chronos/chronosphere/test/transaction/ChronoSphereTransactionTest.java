@@ -2,15 +2,23 @@ package org.chronos.chronosphere.test.transaction;
 
 import static org.junit.Assert.*;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+
 import org.chronos.chronosphere.api.ChronoSphere;
 import org.chronos.chronosphere.api.ChronoSphereTransaction;
 import org.chronos.chronosphere.emf.api.ChronoEObject;
 import org.chronos.chronosphere.emf.impl.ChronoEFactory;
 import org.chronos.chronosphere.emf.internal.api.ChronoEObjectInternal;
 import org.chronos.chronosphere.emf.internal.util.EMFUtils;
+import org.chronos.chronosphere.internal.api.ChronoSphereTransactionInternal;
+import org.chronos.chronosphere.internal.ogm.api.ChronoSphereGraphFormat;
 import org.chronos.chronosphere.test.base.AllChronoSphereBackendsTest;
 import org.chronos.chronosphere.testutils.EMFTestUtils;
 import org.chronos.common.test.junit.categories.IntegrationTest;
@@ -27,6 +35,8 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 @Category(IntegrationTest.class)
 public class ChronoSphereTransactionTest extends AllChronoSphereBackendsTest {
@@ -309,6 +319,137 @@ public class ChronoSphereTransactionTest extends AllChronoSphereBackendsTest {
 		}
 	}
 
+	@Test
+	public void deletingAnEObjectRemovesItFromMultiplicityManyCrossReferences() {
+		ChronoSphere sphere = this.getChronoSphere();
+		// prepare the EPackage
+		EPackage ePackage = this.createEPackageWithNonUniqueMultiplicityManyOrderedCrossReference();
+		sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+			EClass eClass = (EClass) ePackage.getEClassifier("MyClass");
+			EReference eRef = (EReference) eClass.getEStructuralFeature("ref");
+			EObject eObj1 = tx.createAndAttach(eClass);
+			EObject eObj2 = tx.createAndAttach(eClass);
+			EObject eObj3 = tx.createAndAttach(eClass);
+			EList<EObject> targets = EMFUtils.eGetMany(eObj1, eRef);
+			targets.add(eObj2);
+			targets.add(eObj3);
+			targets.add(eObj2);
+			assertEquals(3, targets.size());
+			assertEquals(eObj3, targets.get(1));
+			// delete one of the targets
+			tx.delete(eObj3);
+			assertEquals(2, targets.size());
+			assertEquals(eObj2, targets.get(0));
+			assertEquals(eObj2, targets.get(1));
+			assertFalse(targets.contains(eObj3));
+			tx.commitIncremental();
+			// add a new target after the incremental commit
+			targets.add(0, eObj1);
+			assertEquals(3, targets.size());
+			assertEquals(eObj1, targets.get(0));
+			tx.commit();
+		}
+	}
+
+	@Test
+	public void repeatedInsertionsIntoOrderedReferencePreserveOrderAcrossCommits() {
+		ChronoSphere sphere = this.getChronoSphere();
+		// prepare the EPackage
+		EPackage ePackage = this.createEPackageWithNonUniqueMultiplicityManyOrderedCrossReference();
+		sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+		String ownerId = null;
+		List<String> expectedTargetIds = Lists.newArrayList();
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+			EClass eClass = (EClass) ePackage.getEClassifier("MyClass");
+			EReference eRef = (EReference) eClass.getEStructuralFeature("ref");
+			ChronoEObject owner = (ChronoEObject) tx.createAndAttach(eClass);
+			ownerId = owner.getId();
+			EList<EObject> targets = EMFUtils.eGetMany(owner, eRef);
+			// always inserting at the same positions quickly exhausts the gaps between the order values
+			for (int i = 0; i < 50; i++) {
+				ChronoEObject target = (ChronoEObject) tx.createAndAttach(eClass);
+				targets.add(0, target);
+				expectedTargetIds.add(0, target.getId());
+			}
+			for (int i = 0; i < 50; i++) {
+				ChronoEObject target = (ChronoEObject) tx.createAndAttach(eClass);
+				targets.add(25, target);
+				expectedTargetIds.add(25, target.getId());
+			}
+			for (int i = 0; i < 20; i++) {
+				targets.move(10, 90);
+				expectedTargetIds.add(10, expectedTargetIds.remove(90));
+			}
+			tx.commit();
+		}
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EReference eRef = tx.getEReferenceByQualifiedName("MyEPackage::MyClass#ref");
+			EObject owner = tx.getEObjectById(ownerId);
+			List<String> targetIds = Lists.newArrayList();
+			for (EObject target : EMFUtils.eGetMany(owner, eRef)) {
+				targetIds.add(((ChronoEObject) target).getId());
+			}
+			assertEquals(expectedTargetIds, targetIds);
+		}
+	}
+
+	@Test
+	public void insertionsIntoOrderedReferenceOnlyRenumberNeighboringLinks() {
+		ChronoSphere sphere = this.getChronoSphere();
+		// prepare the EPackage
+		EPackage ePackage = this.createEPackageWithNonUniqueMultiplicityManyOrderedCrossReference();
+		sphere.getEPackageManager().registerOrUpdateEPackage(ePackage);
+		String ownerId = null;
+		List<String> expectedTargetIds = Lists.newArrayList();
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			ePackage = tx.getEPackageByNsURI("http://com.example.model.MyEPackage");
+			EClass eClass = (EClass) ePackage.getEClassifier("MyClass");
+			EReference eRef = (EReference) eClass.getEStructuralFeature("ref");
+			ChronoEObject owner = (ChronoEObject) tx.createAndAttach(eClass);
+			ownerId = owner.getId();
+			EList<EObject> targets = EMFUtils.eGetMany(owner, eRef);
+			for (int i = 0; i < 200; i++) {
+				ChronoEObject target = (ChronoEObject) tx.createAndAttach(eClass);
+				targets.add(target);
+				expectedTargetIds.add(target.getId());
+			}
+			tx.commit();
+		}
+		Map<String, Integer> ordersBefore = this.getEReferenceEdgeOrders(sphere, ownerId, "MyEPackage::MyClass#ref");
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EClass eClass = tx.getEClassByQualifiedName("MyEPackage::MyClass");
+			EReference eRef = tx.getEReferenceByQualifiedName("MyEPackage::MyClass#ref");
+			EList<EObject> targets = EMFUtils.eGetMany(tx.getEObjectById(ownerId), eRef);
+			// inserting at the same position exhausts the gap between the order values several times
+			for (int i = 0; i < 30; i++) {
+				ChronoEObject target = (ChronoEObject) tx.createAndAttach(eClass);
+				targets.add(10, target);
+				expectedTargetIds.add(10, target.getId());
+			}
+			tx.commit();
+		}
+		Map<String, Integer> ordersAfter = this.getEReferenceEdgeOrders(sphere, ownerId, "MyEPackage::MyClass#ref");
+		int renumbered = 0;
+		for (Map.Entry<String, Integer> entry : ordersBefore.entrySet()) {
+			if (entry.getValue().equals(ordersAfter.get(entry.getKey())) == false) {
+				renumbered++;
+			}
+		}
+		// renumbering the whole reference would have changed the order of all links behind the insert position
+		assertTrue("Too many links have been renumbered: " + renumbered, renumbered < 100);
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			EReference eRef = tx.getEReferenceByQualifiedName("MyEPackage::MyClass#ref");
+			List<String> targetIds = Lists.newArrayList();
+			for (EObject target : EMFUtils.eGetMany(tx.getEObjectById(ownerId), eRef)) {
+				targetIds.add(((ChronoEObject) target).getId());
+			}
+			assertEquals(expectedTargetIds, targetIds);
+		}
+	}
+
 	@Test
 	public void canWorkWithGrabatsFragmentModel() {
 		// the following test uses a fragment of the 'JDTAST.ecore' model (from GRABATS).
@@ -515,6 +656,23 @@ public class ChronoSphereTransactionTest extends AllChronoSphereBackendsTest {
 		return rootEPackage;
 	}
 
+	private Map<String, Integer> getEReferenceEdgeOrders(final ChronoSphere sphere, final String ownerId,
+			final String qualifiedEReferenceName) {
+		try (ChronoSphereTransaction tx = sphere.tx()) {
+			ChronoSphereTransactionInternal txInternal = (ChronoSphereTransactionInternal) tx;
+			EReference eRef = tx.getEReferenceByQualifiedName(qualifiedEReferenceName);
+			String label = ChronoSphereGraphFormat.createReferenceEdgeLabel(txInternal.getEPackageRegistry(), eRef);
+			Vertex owner = txInternal.getGraph().vertices(ownerId).next();
+			Map<String, Integer> edgeIdToOrder = Maps.newHashMap();
+			Iterator<Edge> edges = owner.edges(Direction.OUT, label);
+			while (edges.hasNext()) {
+				Edge edge = edges.next();
+				edgeIdToOrder.put((String) edge.id(), ChronoSphereGraphFormat.getEReferenceEdgeOrder(edge));
+			}
+			return edgeIdToOrder;
+		}
+	}
+
 	private EPackage createEPackageWithNonUniqueMultiplicityManyOrderedCrossReference() {
 		EPackage ePackage = EcoreFactory.eINSTANCE.createEPackage();
 		ePackage.setName("MyEPackage");